@@ -11,6 +11,7 @@ import maru.trading.application.backtest.MonteCarloSimulator;
 import maru.trading.domain.backtest.*;
 import maru.trading.domain.backtest.montecarlo.MonteCarloConfig;
 import maru.trading.domain.backtest.montecarlo.MonteCarloResult;
+import maru.trading.infra.async.BacktestProgressHub;
 import maru.trading.infra.config.UlidGenerator;
 import maru.trading.infra.persistence.jpa.entity.BacktestRunEntity;
 import maru.trading.infra.persistence.jpa.entity.BacktestTradeEntity;
@@ -29,9 +30,9 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * Backtest Admin Controller.
@@ -55,16 +56,19 @@ public class BacktestController {
     private final BacktestRunJpaRepository backtestRunRepository;
     private final BacktestTradeJpaRepository backtestTradeRepository;
     private final MonteCarloSimulator monteCarloSimulator;
+    private final BacktestProgressHub progressHub;
 
     public BacktestController(
             BacktestEngine backtestEngine,
             BacktestRunJpaRepository backtestRunRepository,
             BacktestTradeJpaRepository backtestTradeRepository,
-            MonteCarloSimulator monteCarloSimulator) {
+            MonteCarloSimulator monteCarloSimulator,
+            BacktestProgressHub progressHub) {
         this.backtestEngine = backtestEngine;
         this.backtestRunRepository = backtestRunRepository;
         this.backtestTradeRepository = backtestTradeRepository;
         this.monteCarloSimulator = monteCarloSimulator;
+        this.progressHub = progressHub;
     }
 
     /**
@@ -490,7 +494,8 @@ public class BacktestController {
                     .dataSourceConfig(request.getDataSourceConfig())
                     .build();
 
-            String jobId = backtestEngine.runAsync(config);
+            String jobId = backtestEngine.runAsync(config,
+                    BacktestPriority.fromString(request.getPriority()), request.getRequestedBy());
 
             Map<String, Object> response = new HashMap<>();
             response.put("jobId", jobId);
@@ -503,6 +508,12 @@ public class BacktestController {
             log.info("Async backtest submitted: jobId={}", jobId);
             return ResponseEntity.accepted().body(response);
 
+        } catch (RejectedExecutionException e) {
+            log.warn("Async backtest rejected: {}", e.getMessage());
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
+
         } catch (Exception e) {
             log.error("Failed to submit async backtest: {}", e.getMessage(), e);
             Map<String, Object> error = new HashMap<>();
@@ -540,73 +551,89 @@ public class BacktestController {
         log.info("Starting progress stream for job: {}", jobId);
 
         SseEmitter emitter = new SseEmitter(300000L); // 5 minute timeout
+        AtomicBoolean closed = new AtomicBoolean(false);
 
-        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-        Runnable progressChecker = new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    BacktestProgress progress = backtestEngine.getProgress(jobId);
-                    if (progress == null) {
-                        emitter.send(SseEmitter.event()
-                                .name("error")
-                                .data(Map.of("error", "Job not found")));
-                        emitter.complete();
-                        scheduler.shutdown();
-                        return;
-                    }
+        // Pushed via the progress hub's sender pool, latest event only: a slow client never blocks the worker
+        Consumer<BacktestProgress> listener = progress -> sendProgress(emitter, closed, jobId, progress);
 
-                    // Send progress update
-                    emitter.send(SseEmitter.event()
-                            .name("progress")
-                            .data(BacktestProgressResponse.fromDomain(progress)));
-
-                    // Complete if done
-                    if (progress.isDone()) {
-                        if (progress.isSuccess()) {
-                            BacktestResult result = backtestEngine.getResult(jobId);
-                            if (result != null) {
-                                emitter.send(SseEmitter.event()
-                                        .name("result")
-                                        .data(Map.of(
-                                                "jobId", jobId,
-                                                "finalCapital", result.getFinalCapital(),
-                                                "totalReturn", result.getTotalReturn(),
-                                                "totalTrades", result.getTrades() != null ? result.getTrades().size() : 0
-                                        )));
-                            }
-                        }
-                        emitter.complete();
-                        scheduler.shutdown();
-                    }
-                } catch (IOException e) {
-                    log.warn("Error sending progress: {}", e.getMessage());
-                    emitter.completeWithError(e);
-                    scheduler.shutdown();
-                }
-            }
-        };
-
-        scheduler.scheduleAtFixedRate(progressChecker, 0, 500, TimeUnit.MILLISECONDS);
+        // Subscribe before reading the snapshot so a terminal event cannot slip through in between
+        Runnable unsubscribe = progressHub.subscribeLatest(jobId, listener);
 
         emitter.onCompletion(() -> {
             log.debug("Progress stream completed for job: {}", jobId);
-            scheduler.shutdown();
+            unsubscribe.run();
         });
 
         emitter.onTimeout(() -> {
             log.warn("Progress stream timed out for job: {}", jobId);
-            scheduler.shutdown();
+            unsubscribe.run();
         });
 
         emitter.onError(e -> {
             log.warn("Progress stream error for job {}: {}", jobId, e.getMessage());
-            scheduler.shutdown();
+            unsubscribe.run();
         });
 
+        BacktestProgress snapshot = backtestEngine.getProgress(jobId);
+        if (snapshot == null) {
+            unsubscribe.run();
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("error")
+                        .data(Map.of("error", "Job not found")));
+                emitter.complete();
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+            }
+            return emitter;
+        }
+
+        sendProgress(emitter, closed, jobId, snapshot);
         return emitter;
     }
 
+    /**
+     * Send a progress event, and the result summary plus completion once the job is done.
+     */
+    private void sendProgress(SseEmitter emitter, AtomicBoolean closed, String jobId, BacktestProgress progress) {
+        if (closed.get()) {
+            return;
+        }
+        try {
+            synchronized (emitter) {
+                if (closed.get()) {
+                    return;
+                }
+
+                emitter.send(SseEmitter.event()
+                        .name("progress")
+                        .data(BacktestProgressResponse.fromDomain(progress)));
+
+                if (progress.isDone()) {
+                    closed.set(true);
+                    if (progress.isSuccess()) {
+                        BacktestResult result = backtestEngine.getResult(jobId);
+                        if (result != null) {
+                            emitter.send(SseEmitter.event()
+                                    .name("result")
+                                    .data(Map.of(
+                                            "jobId", jobId,
+                                            "finalCapital", result.getFinalCapital(),
+                                            "totalReturn", result.getTotalReturn(),
+                                            "totalTrades", result.getTrades() != null ? result.getTrades().size() : 0
+                                    )));
+                        }
+                    }
+                    emitter.complete();
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.warn("Error sending progress: {}", e.getMessage());
+            closed.set(true);
+            emitter.completeWithError(e);
+        }
+    }
+
     /**
      * Cancel a running job.
      *
@@ -639,6 +666,37 @@ public class BacktestController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Resume a stopped job from its latest checkpoint.
+     *
+     * POST /api/v1/admin/backtests/jobs/{jobId}/resume
+     */
+    @PostMapping("/jobs/{jobId}/resume")
+    public ResponseEntity<Map<String, Object>> resumeJob(@PathVariable String jobId) {
+        log.info("Resuming job: {}", jobId);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("jobId", jobId);
+        try {
+            boolean queued = backtestEngine.resumeAsync(jobId);
+            response.put("status", "QUEUED");
+            response.put("message", queued ? "Job resumed" : "Job is already queued or running");
+            response.put("progressUrl", "/api/v1/admin/backtests/jobs/" + jobId + "/progress");
+            return ResponseEntity.accepted().body(response);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+
+        } catch (IllegalStateException e) {
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+
+        } catch (RejectedExecutionException e) {
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(response);
+        }
+    }
+
     /**
      * Get result of a completed async job.
      *
@@ -0,0 +1,94 @@
+package maru.trading.api.controller.admin;
+
+import maru.trading.application.backtest.TrialCoordinator;
+import maru.trading.domain.backtest.distributed.TrialResult;
+import maru.trading.domain.backtest.distributed.TrialTask;
+import maru.trading.domain.backtest.distributed.WorkerRegistration;
+import maru.trading.infra.persistence.jpa.entity.HistoricalBarEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Coordinator endpoints for distributed backtest workers.
+ *
+ * Endpoints:
+ * - GET  /api/v1/admin/backtests/workers - Registered workers and trial queue
+ * - POST /api/v1/admin/backtests/workers/register - Register a worker
+ * - POST /api/v1/admin/backtests/workers/{workerId}/heartbeat - Keep a worker alive
+ * - POST /api/v1/admin/backtests/workers/{workerId}/poll?max=N - Lease up to N trials
+ * - POST /api/v1/admin/backtests/workers/{workerId}/results - Report trial results
+ * - GET  /api/v1/admin/backtests/workers/datasets/{datasetRef} - Bars of a dataset
+ *
+ * Heartbeat, poll and results answer 404 for unknown workers
+ * (e.g. after a coordinator restart); the worker then registers again.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/backtests/workers")
+public class BacktestWorkerController {
+
+    private static final Logger log = LoggerFactory.getLogger(BacktestWorkerController.class);
+
+    private final TrialCoordinator trialCoordinator;
+
+    public BacktestWorkerController(TrialCoordinator trialCoordinator) {
+        this.trialCoordinator = trialCoordinator;
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getWorkers() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("workers", trialCoordinator.getWorkerStatus());
+        response.put("liveWorkers", trialCoordinator.getLiveWorkerCount());
+        response.put("queuedTrials", trialCoordinator.getQueuedTrialCount());
+        response.put("leasedTrials", trialCoordinator.getLeasedTrialCount());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/register")
+    public ResponseEntity<Void> register(@RequestBody WorkerRegistration registration) {
+        if (registration.getWorkerId() == null || registration.getWorkerId().isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        trialCoordinator.register(registration);
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("/{workerId}/heartbeat")
+    public ResponseEntity<Void> heartbeat(@PathVariable String workerId) {
+        return trialCoordinator.heartbeat(workerId)
+                ? ResponseEntity.ok().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    @PostMapping("/{workerId}/poll")
+    public ResponseEntity<List<TrialTask>> poll(@PathVariable String workerId,
+                                                @RequestParam(defaultValue = "1") int max) {
+        List<TrialTask> tasks = trialCoordinator.poll(workerId, Math.max(1, max));
+        return tasks != null ? ResponseEntity.ok(tasks) : ResponseEntity.notFound().build();
+    }
+
+    @PostMapping("/{workerId}/results")
+    public ResponseEntity<Void> results(@PathVariable String workerId, @RequestBody List<TrialResult> results) {
+        if (!trialCoordinator.heartbeat(workerId)) {
+            // Results are still accepted: the trials may be waiting for them
+            log.debug("Results from unregistered worker {}", workerId);
+        }
+        trialCoordinator.complete(workerId, results);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping("/datasets/{datasetRef}")
+    public ResponseEntity<List<HistoricalBarEntity>> getDataset(@PathVariable String datasetRef) {
+        try {
+            return ResponseEntity.ok(trialCoordinator.loadDataset(datasetRef));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
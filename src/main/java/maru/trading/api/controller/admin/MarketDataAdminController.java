@@ -9,11 +9,30 @@ import maru.trading.api.dto.response.AckResponse;
 import maru.trading.api.dto.response.MarketDataStatusResponse;
 import maru.trading.api.dto.response.SubscribedSymbolsResponse;
 import maru.trading.application.service.MarketDataService;
+import maru.trading.broker.kis.marketdata.MarketDataConflator;
+import maru.trading.domain.market.MarketTick;
+import maru.trading.infra.cache.MarketDataCache;
+import maru.trading.infra.cache.QuoteBoard;
+import maru.trading.infra.cache.QuoteSnapshot;
+import maru.trading.infra.journal.TickJournal;
+import maru.trading.infra.journal.TickJournalReplayer;
+import maru.trading.infra.persistence.jpa.entity.BarRollupEntity;
+import maru.trading.infra.persistence.rollup.BarRollupService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Admin controller for market data subscription management.
@@ -24,6 +43,12 @@ import java.util.List;
  * - GET /api/v1/admin/market-data/symbols - Get subscribed symbols
  * - POST /api/v1/admin/market-data/resubscribe - Resubscribe to market data
  * - GET /api/v1/admin/market-data/status - Get subscription status
+ * - POST /api/v1/admin/market-data/rollups/backfill - Rebuild 5m/1h/1d bar rollups
+ * - GET /api/v1/admin/market-data/journal - Get tick journal status
+ * - POST /api/v1/admin/market-data/journal/recover - Rebuild unsaved bars from the tick journal
+ * - GET /api/v1/admin/market-data/quotes - Get the latest quote of every symbol
+ * - GET /api/v1/admin/market-data/quotes/stream - Stream conflated quotes (SSE)
+ * - GET /api/v1/admin/market-data/consumers - Get tick consumer lag and drop counters
  */
 @Slf4j
 @RestController
@@ -32,6 +57,14 @@ import java.util.List;
 public class MarketDataAdminController {
 
     private final MarketDataService marketDataService;
+    private final BarRollupService barRollupService;
+    private final TickJournal tickJournal;
+    private final TickJournalReplayer tickJournalReplayer;
+    private final MarketDataCache marketDataCache;
+    private final MarketDataConflator marketDataConflator;
+
+    private static final long MIN_STREAM_INTERVAL_MS = 100;
+    private final AtomicInteger streamSequence = new AtomicInteger();
 
     /**
      * Add new symbols to market data subscription.
@@ -238,4 +271,172 @@ public class MarketDataAdminController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * Rebuild bar rollups from stored 1-minute bars.
+     *
+     * POST /api/v1/admin/market-data/rollups/backfill?source=HISTORICAL&from=2025-01-01&to=2025-06-30[&symbol=005930]
+     *
+     * source: MARKET (market_bars, default) or HISTORICAL (historical_bars).
+     * Without symbol, every symbol with 1-minute bars in the range is rebuilt.
+     */
+    @PostMapping("/rollups/backfill")
+    public ResponseEntity<AckResponse> backfillRollups(
+            @RequestParam(defaultValue = BarRollupEntity.SOURCE_MARKET) String source,
+            @RequestParam(required = false) String symbol,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        if (!BarRollupEntity.SOURCE_MARKET.equals(source) && !BarRollupEntity.SOURCE_HISTORICAL.equals(source)) {
+            return ResponseEntity.badRequest()
+                    .body(AckResponse.builder()
+                            .ok(false)
+                            .message("Invalid source: " + source)
+                            .build());
+        }
+        if (to.isBefore(from)) {
+            return ResponseEntity.badRequest()
+                    .body(AckResponse.builder()
+                            .ok(false)
+                            .message("'to' must not be before 'from'")
+                            .build());
+        }
+
+        log.info("Backfilling bar rollups: source={}, symbol={}, {} ~ {}", source, symbol, from, to);
+        try {
+            int rows = symbol != null && !symbol.isBlank()
+                    ? barRollupService.backfill(source, symbol, from, to)
+                    : barRollupService.backfillAll(source, from, to);
+
+            return ResponseEntity.ok(AckResponse.builder()
+                    .ok(true)
+                    .message(String.format("Wrote %d rollup rows", rows))
+                    .build());
+
+        } catch (Exception e) {
+            log.error("Failed to backfill bar rollups", e);
+            return ResponseEntity.internalServerError()
+                    .body(AckResponse.builder()
+                            .ok(false)
+                            .message("Failed to backfill rollups: " + e.getMessage())
+                            .build());
+        }
+    }
+
+    /**
+     * Get tick journal status.
+     *
+     * GET /api/v1/admin/market-data/journal
+     */
+    @GetMapping("/journal")
+    public ResponseEntity<Map<String, Object>> getJournalStatus() {
+        return ResponseEntity.ok(tickJournal.getStatus());
+    }
+
+    /**
+     * Rebuild bars that never reached the database from the tick journal.
+     *
+     * POST /api/v1/admin/market-data/journal/recover[?date=2025-06-30]
+     *
+     * Only ticks after the last stored 1-minute bar of each symbol are replayed.
+     * Defaults to today.
+     */
+    @PostMapping("/journal/recover")
+    public ResponseEntity<AckResponse> recoverFromJournal(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+        LocalDate day = date != null ? date : LocalDate.now();
+        log.info("Recovering bars from tick journal: {}", day);
+        try {
+            TickJournalReplayer.RecoveryResult result = tickJournalReplayer.recoverBars(day);
+
+            return ResponseEntity.ok(AckResponse.builder()
+                    .ok(true)
+                    .message(String.format("Replayed %d ticks (%d already stored)",
+                            result.replayed(), result.skipped()))
+                    .build());
+
+        } catch (Exception e) {
+            log.error("Failed to recover bars from tick journal", e);
+            return ResponseEntity.internalServerError()
+                    .body(AckResponse.builder()
+                            .ok(false)
+                            .message("Failed to recover bars: " + e.getMessage())
+                            .build());
+        }
+    }
+
+    /**
+     * Get the latest quote of every symbol from the quote table.
+     *
+     * GET /api/v1/admin/market-data/quotes
+     */
+    @GetMapping("/quotes")
+    public ResponseEntity<List<Map<String, Object>>> getQuotes() {
+        QuoteBoard board = marketDataCache.snapshotAll(new QuoteBoard());
+
+        List<Map<String, Object>> quotes = new ArrayList<>(board.size());
+        for (int i = 0; i < board.size(); i++) {
+            QuoteSnapshot quote = board.get(i);
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("symbol", quote.getSymbol());
+            entry.put("price", quote.getPrice());
+            entry.put("volume", quote.getVolume());
+            entry.put("timestamp", quote.getTimestamp());
+            entry.put("version", quote.getVersion());
+            quotes.add(entry);
+        }
+        return ResponseEntity.ok(quotes);
+    }
+
+    /**
+     * Stream quotes via Server-Sent Events, conflated to the latest tick
+     * of each symbol at most once per interval.
+     *
+     * GET /api/v1/admin/market-data/quotes/stream[?intervalMs=500]
+     */
+    @GetMapping(value = "/quotes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamQuotes(@RequestParam(defaultValue = "500") long intervalMs) {
+        SseEmitter emitter = new SseEmitter(1800000L); // 30 minute timeout
+        Duration interval = Duration.ofMillis(Math.max(intervalMs, MIN_STREAM_INTERVAL_MS));
+        String name = "quote-stream-" + streamSequence.incrementAndGet();
+        AtomicReference<MarketDataConflator.Subscription> subscription = new AtomicReference<>();
+
+        subscription.set(marketDataConflator.subscribe(name, MarketDataConflator.Mode.INTERVAL, interval,
+                tick -> sendQuote(emitter, subscription.get(), tick)));
+
+        emitter.onCompletion(() -> subscription.get().close());
+        emitter.onTimeout(() -> subscription.get().close());
+        emitter.onError(e -> subscription.get().close());
+
+        log.info("Quote stream opened: {}, interval={}", name, interval);
+        return emitter;
+    }
+
+    private void sendQuote(SseEmitter emitter, MarketDataConflator.Subscription subscription, MarketTick tick) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("quote")
+                    .data(Map.of(
+                            "symbol", tick.getSymbol(),
+                            "price", tick.getPrice(),
+                            "volume", tick.getVolume(),
+                            "timestamp", tick.getTimestamp()
+                    )));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Quote stream {} closed: {}", subscription.getName(), e.getMessage());
+            subscription.close();
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * Get delivery lag and drop counters of every tick consumer.
+     *
+     * GET /api/v1/admin/market-data/consumers
+     */
+    @GetMapping("/consumers")
+    public ResponseEntity<List<MarketDataConflator.ConsumerStats>> getConsumers() {
+        return ResponseEntity.ok(marketDataConflator.getStats());
+    }
 }
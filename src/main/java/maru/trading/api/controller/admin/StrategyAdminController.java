@@ -10,6 +10,7 @@ import maru.trading.api.dto.request.StrategyParamsUpdateRequest;
 import maru.trading.api.dto.request.StrategyStatusUpdateRequest;
 import maru.trading.api.dto.request.StrategyUpdateRequest;
 import maru.trading.api.dto.response.StrategyResponse;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlanner;
 import maru.trading.domain.shared.DomainException;
 import maru.trading.domain.shared.ErrorCode;
 import maru.trading.infra.config.UlidGenerator;
@@ -39,6 +40,7 @@ public class StrategyAdminController {
 	private final StrategyJpaRepository strategyRepository;
 	private final StrategyVersionJpaRepository strategyVersionRepository;
 	private final ObjectMapper objectMapper;
+	private final StrategyExecutionPlanner executionPlanner;
 
 	/**
 	 * 전략 생성
@@ -134,6 +136,7 @@ public class StrategyAdminController {
 
 		strategy.activate(strategy.getActiveVersionId());
 		StrategyEntity updated = strategyRepository.save(strategy);
+		executionPlanner.invalidate("strategy activated: " + strategyId);
 
 		StrategyVersionEntity version = strategyVersionRepository
 				.findById(updated.getActiveVersionId())
@@ -175,6 +178,7 @@ public class StrategyAdminController {
 		// 전략의 activeVersionId 업데이트
 		strategy.setActiveVersionId(newVersionId);
 		StrategyEntity updated = strategyRepository.save(strategy);
+		executionPlanner.invalidate("strategy params updated: " + strategyId);
 
 		log.info("Created new strategy version: strategyId={}, versionId={}, versionNo={}",
 				strategyId, newVersionId, maxVersionNo + 1);
@@ -192,6 +196,7 @@ public class StrategyAdminController {
 
 		strategy.deactivate();
 		StrategyEntity updated = strategyRepository.save(strategy);
+		executionPlanner.invalidate("strategy deactivated: " + strategyId);
 
 		StrategyVersionEntity version = strategyVersionRepository
 				.findById(updated.getActiveVersionId())
@@ -316,6 +321,7 @@ public class StrategyAdminController {
 		}
 
 		StrategyEntity updated = strategyRepository.save(strategy);
+		executionPlanner.invalidate("strategy updated: " + strategyId);
 
 		return ResponseEntity.ok(toResponse(updated, params));
 	}
@@ -334,6 +340,7 @@ public class StrategyAdminController {
 		// 소프트 삭제 (delyn = 'Y')
 		strategy.markDeleted();
 		strategyRepository.save(strategy);
+		executionPlanner.invalidate("strategy deleted: " + strategyId);
 
 		Map<String, Object> response = new HashMap<>();
 		response.put("success", true);
@@ -366,6 +373,7 @@ public class StrategyAdminController {
 		}
 
 		StrategyEntity updated = strategyRepository.save(strategy);
+		executionPlanner.invalidate("strategy status changed: " + strategyId);
 
 		StrategyVersionEntity version = strategyVersionRepository
 				.findById(updated.getActiveVersionId())
@@ -21,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/v1/admin/scheduler/trigger - Manual trigger for a strategy
  * - POST /api/v1/admin/scheduler/execute-all - Execute all strategies once
  * - POST /api/v1/admin/scheduler/reset-stats - Reset scheduler statistics
+ * - POST /api/v1/admin/scheduler/strategies/{strategyId}/resume - Resume a demoted or suspended strategy
  */
 @Slf4j
 @RestController
@@ -58,6 +59,8 @@ public class StrategySchedulerController {
      * - enabled/disabled status
      * - last execution time
      * - execution statistics
+     * - per strategy×symbol timing of the last run
+     * - per strategy evaluation health (demoted / suspended)
      * - active strategy count
      */
     @GetMapping("/status")
@@ -96,6 +99,33 @@ public class StrategySchedulerController {
                     .executionCount(status.executionCount())
                     .successCount(status.successCount())
                     .errorCount(status.errorCount())
+                    .skippedRunCount(status.skippedRunCount())
+                    .lastRunDurationMillis(status.lastRunDurationMillis())
+                    .lastRunPairs(status.lastRunPairs().stream()
+                            .map(timing -> SchedulerStatusResponse.PairTiming.builder()
+                                    .strategyId(timing.strategyId())
+                                    .symbol(timing.symbol())
+                                    .accountId(timing.accountId())
+                                    .outcome(timing.outcome().name())
+                                    .startOffsetMillis(timing.startOffsetMillis())
+                                    .durationMillis(timing.durationMillis())
+                                    .build())
+                            .toList())
+                    .strategies(strategyScheduler.getStrategyHealth().stream()
+                            .map(health -> SchedulerStatusResponse.StrategyHealth.builder()
+                                    .strategyId(health.strategyId())
+                                    .state(health.state().name())
+                                    .meanMillis(health.meanMillis())
+                                    .maxMillis(health.maxMillis())
+                                    .slowRate(health.slowRate())
+                                    .errorRate(health.errorRate())
+                                    .evaluations(health.evaluations())
+                                    .errors(health.errors())
+                                    .skipped(health.skipped())
+                                    .suspendedUntil(health.suspendedUntil())
+                                    .reason(health.reason())
+                                    .build())
+                            .toList())
                     .activeStrategyCount(activeStrategyCount)
                     .message(message)
                     .build());
@@ -341,4 +371,45 @@ public class StrategySchedulerController {
                             .build());
         }
     }
+
+    /**
+     * Resume a strategy demoted or suspended by the evaluation circuit breaker.
+     *
+     * POST /api/v1/admin/scheduler/strategies/{strategyId}/resume
+     *
+     * Clears the strategy's evaluation window, so it is evaluated on every run again.
+     */
+    @PostMapping("/strategies/{strategyId}/resume")
+    public ResponseEntity<AckResponse> resumeStrategy(@PathVariable String strategyId) {
+        log.info("Resuming strategy evaluation: strategyId={}", strategyId);
+
+        if (!schedulerBeanActive) {
+            return ResponseEntity.badRequest()
+                    .body(AckResponse.builder()
+                            .ok(false)
+                            .message("Scheduler bean is not active")
+                            .build());
+        }
+
+        try {
+            boolean resumed = strategyScheduler.resumeStrategy(strategyId);
+
+            String message = resumed
+                    ? String.format("Strategy %s resumed", strategyId)
+                    : String.format("Strategy %s has no evaluation history", strategyId);
+
+            return ResponseEntity.ok(AckResponse.builder()
+                    .ok(true)
+                    .message(message)
+                    .build());
+
+        } catch (Exception e) {
+            log.error("Failed to resume strategy {}", strategyId, e);
+            return ResponseEntity.internalServerError()
+                    .body(AckResponse.builder()
+                            .ok(false)
+                            .message("Failed to resume strategy: " + e.getMessage())
+                            .build());
+        }
+    }
 }
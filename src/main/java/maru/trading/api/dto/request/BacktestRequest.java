@@ -87,4 +87,16 @@ public class BacktestRequest {
      * If not provided, defaults to DATABASE source.
      */
     private DataSourceConfig dataSourceConfig;
+
+    /**
+     * Scheduling class for async execution: "INTERACTIVE", "BATCH", "OPTIMIZATION".
+     * Default: "INTERACTIVE"
+     */
+    private String priority;
+
+    /**
+     * Requesting user, used for fair sharing between users in the async queue.
+     * Optional. Defaults to the strategy ID.
+     */
+    private String requestedBy;
 }
@@ -4,9 +4,11 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Response containing strategy scheduler status information.
@@ -54,6 +56,26 @@ public class SchedulerStatusResponse {
      */
     private int errorCount;
 
+    /**
+     * Number of runs skipped because the previous run was still going.
+     */
+    private int skippedRunCount;
+
+    /**
+     * Wall time of the last run in milliseconds.
+     */
+    private long lastRunDurationMillis;
+
+    /**
+     * Per strategy×symbol timing of the last run.
+     */
+    private List<PairTiming> lastRunPairs;
+
+    /**
+     * Evaluation health of each strategy (circuit breaker state).
+     */
+    private List<StrategyHealth> strategies;
+
     /**
      * Number of currently active strategies.
      */
@@ -63,4 +85,38 @@ public class SchedulerStatusResponse {
      * Status message.
      */
     private String message;
+
+    /**
+     * Timing of one strategy×symbol evaluation in the last run.
+     */
+    @Getter
+    @Builder
+    public static class PairTiming {
+        private final String strategyId;
+        private final String symbol;
+        private final String accountId;
+        private final String outcome;           // SIGNAL, NO_SIGNAL, ERROR, SKIPPED_RUNNING, DEADLINE_MISSED, DEMOTED, SUSPENDED
+        private final double startOffsetMillis; // From the start of the run
+        private final double durationMillis;
+    }
+
+    /**
+     * Evaluation health of one strategy.
+     */
+    @Getter
+    @Builder
+    public static class StrategyHealth {
+        private final String strategyId;
+        private final String state;             // ACTIVE, DEMOTED, SUSPENDED
+        private final double meanMillis;        // Over the recent evaluation window
+        private final double maxMillis;
+        private final double slowRate;          // Share over the latency budget
+        private final double errorRate;
+        private final long evaluations;
+        private final long errors;
+        private final long skipped;
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private final LocalDateTime suspendedUntil;
+        private final String reason;
+    }
 }
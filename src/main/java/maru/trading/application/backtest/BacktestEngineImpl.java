@@ -1,5 +1,6 @@
 package maru.trading.application.backtest;
 
+import maru.trading.application.usecase.strategy.LoadStrategyContextUseCase;
 import maru.trading.domain.backtest.*;
 import maru.trading.domain.execution.Fill;
 import maru.trading.domain.market.MarketBar;
@@ -10,6 +11,8 @@ import maru.trading.domain.order.Side;
 import maru.trading.domain.signal.Signal;
 import maru.trading.domain.signal.SignalDecision;
 import maru.trading.domain.signal.SignalType;
+import maru.trading.domain.strategy.IncrementalStrategyEngine;
+import maru.trading.domain.strategy.IndicatorCache;
 import maru.trading.domain.strategy.StrategyContext;
 import maru.trading.domain.strategy.StrategyEngine;
 import maru.trading.domain.strategy.StrategyFactory;
@@ -22,9 +25,14 @@ import maru.trading.infra.persistence.jpa.repository.BacktestTradeJpaRepository;
 import maru.trading.infra.persistence.jpa.repository.HistoricalBarJpaRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import maru.trading.infra.async.BacktestJobExecutor;
+import maru.trading.infra.cache.IndicatorRegistry;
+import maru.trading.infra.cache.IndicatorStore;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -32,6 +40,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -53,10 +62,15 @@ public class BacktestEngineImpl implements BacktestEngine {
     private final BacktestRunJpaRepository backtestRunRepository;
     private final BacktestTradeJpaRepository backtestTradeRepository;
     private final BacktestJobExecutor jobExecutor;
+    private final IndicatorRegistry indicatorRegistry;
+    private final IndicatorStore indicatorStore;
 
     // Track running backtests (for async support)
     private final Map<String, String> runningBacktests = new ConcurrentHashMap<>();
 
+    @Value("${backtest.checkpoint.resumeOnStartup:true}")
+    private boolean resumeOnStartup;
+
     public BacktestEngineImpl(
             DataReplayEngine dataReplayEngine,
             VirtualBroker virtualBroker,
@@ -64,7 +78,9 @@ public class BacktestEngineImpl implements BacktestEngine {
             HistoricalBarJpaRepository historicalBarRepository,
             BacktestRunJpaRepository backtestRunRepository,
             BacktestTradeJpaRepository backtestTradeRepository,
-            BacktestJobExecutor jobExecutor) {
+            BacktestJobExecutor jobExecutor,
+            IndicatorRegistry indicatorRegistry,
+            IndicatorStore indicatorStore) {
         this.dataReplayEngine = dataReplayEngine;
         this.virtualBroker = virtualBroker;
         this.performanceAnalyzer = performanceAnalyzer;
@@ -72,6 +88,8 @@ public class BacktestEngineImpl implements BacktestEngine {
         this.backtestRunRepository = backtestRunRepository;
         this.backtestTradeRepository = backtestTradeRepository;
         this.jobExecutor = jobExecutor;
+        this.indicatorRegistry = indicatorRegistry;
+        this.indicatorStore = indicatorStore;
     }
 
     @Override
@@ -119,11 +137,41 @@ public class BacktestEngineImpl implements BacktestEngine {
         }
     }
 
+    @Override
+    public BacktestResult run(BacktestConfig config, List<HistoricalBarEntity> bars) throws BacktestException {
+        validateConfig(config);
+
+        // Private replay engine and broker: workers run several trials concurrently
+        DataReplayEngineImpl replay = new DataReplayEngineImpl(historicalBarRepository);
+        replay.loadBars(bars);
+        try {
+            return executeBacktest(config, replay, new VirtualBrokerImpl());
+        } catch (Exception e) {
+            throw new BacktestException("Backtest execution failed: " + e.getMessage(), e);
+        }
+    }
+
     private BacktestResult executeBacktest(BacktestConfig config) {
+        dataReplayEngine.loadData(config);
+        return executeBacktest(config, dataReplayEngine, virtualBroker);
+    }
+
+    /**
+     * Replay loaded data through the strategy and virtual broker.
+     */
+    private BacktestResult executeBacktest(BacktestConfig config, DataReplayEngine dataReplayEngine,
+                                           VirtualBroker virtualBroker) {
+        try (BacktestIndicators indicators = new BacktestIndicators(
+                indicatorRegistry, indicatorStore, dataReplayEngine, config.getTimeframe())) {
+            return executeBacktest(config, dataReplayEngine, virtualBroker, indicators);
+        }
+    }
+
+    private BacktestResult executeBacktest(BacktestConfig config, DataReplayEngine dataReplayEngine,
+                                           VirtualBroker virtualBroker, BacktestIndicators indicators) {
         LocalDateTime startTime = LocalDateTime.now();
 
         // Initialize components
-        dataReplayEngine.loadData(config);
         virtualBroker.reset(config.getInitialCapital());
         virtualBroker.setCommission(config.getCommission());
         virtualBroker.setSlippage(config.getSlippage());
@@ -135,6 +183,8 @@ public class BacktestEngineImpl implements BacktestEngine {
         }
         log.info("Creating strategy: {}", strategyType);
         StrategyEngine strategy = StrategyFactory.createStrategy(strategyType);
+        IncrementalStrategyEngine incremental = startIncremental(strategy, config);
+        int requiredBars = requiredBars(config);
 
         // Result collectors
         List<Signal> allSignals = new ArrayList<>();
@@ -145,8 +195,8 @@ public class BacktestEngineImpl implements BacktestEngine {
         // Track open positions for trade matching
         Map<String, BacktestTrade> openPositions = new HashMap<>();
 
-        // Buffer bars for strategy context
-        List<MarketBar> barBuffer = new ArrayList<>();
+        // Buffer bars for strategy context (sliding window of the required bars)
+        List<MarketBar> barBuffer = new ArrayList<>(requiredBars + 1);
 
         // Replay data and execute strategy
         int barCount = 0;
@@ -156,10 +206,13 @@ public class BacktestEngineImpl implements BacktestEngine {
 
             // Convert to MarketBar and add to buffer
             MarketBar bar = convertToMarketBar(barEntity);
-            barBuffer.add(bar);
+            addToWindow(barBuffer, bar, requiredBars);
+            if (incremental != null) {
+                incremental.onBar(bar);
+            }
 
             // Execute strategy when we have enough bars
-            if (barBuffer.size() >= 21) { // Minimum bars for MA(20) strategy
+            if (barBuffer.size() >= requiredBars) {
                 StrategyContext context = StrategyContext.builder()
                         .strategyId(config.getStrategyId())
                         .symbol(barEntity.getSymbol())
@@ -167,9 +220,10 @@ public class BacktestEngineImpl implements BacktestEngine {
                         .bars(new ArrayList<>(barBuffer))
                         .params(config.getStrategyParams())
                         .timeframe(config.getTimeframe())
+                        .indicatorCache(indicators.forSymbol(barEntity.getSymbol()))
                         .build();
 
-                SignalDecision decision = strategy.evaluate(context);
+                SignalDecision decision = evaluate(strategy, incremental, context);
                 if (decision != null && decision.getSignalType() != SignalType.HOLD) {
                     // Create signal from decision
                     Signal signal = Signal.builder()
@@ -193,11 +247,6 @@ public class BacktestEngineImpl implements BacktestEngine {
                     // Submit order to virtual broker
                     virtualBroker.submitOrder(order);
                 }
-
-                // Keep only recent bars (sliding window)
-                if (barBuffer.size() > 100) {
-                    barBuffer.remove(0);
-                }
             }
 
             // Process fills
@@ -344,6 +393,50 @@ public class BacktestEngineImpl implements BacktestEngine {
                 .build();
     }
 
+    /**
+     * Start the state of an incremental engine before the first bar.
+     *
+     * Incremental engines are then fed every bar and evaluated from their
+     * state, as live instances are (see StrategyInstanceRegistry), so a
+     * backtest sees the same indicator values as live trading over the same
+     * history. Wilder-smoothed indicators such as RSI depend on where
+     * smoothing started, so a recomputation over the bar window would not.
+     * Their indicators stay private to the run: concurrent runs replay the
+     * same bars at their own pace, so a shared incremental indicator would
+     * not keep the values a slower run still needs.
+     *
+     * @return The engine as incremental, or null for stateless engines
+     */
+    private static IncrementalStrategyEngine startIncremental(StrategyEngine strategy, BacktestConfig config) {
+        if (!(strategy instanceof IncrementalStrategyEngine incremental)) {
+            return null;
+        }
+        incremental.warmUp(List.of(), config.getStrategyParams());
+        return incremental;
+    }
+
+    /**
+     * Bars the strategy is evaluated over, as for live contexts (see
+     * LoadStrategyContextUseCase). No evaluation runs before the window
+     * holds that many bars: strategies reject shorter histories.
+     */
+    private static int requiredBars(BacktestConfig config) {
+        Map<String, Object> params = config.getStrategyParams() != null ? config.getStrategyParams() : Map.of();
+        return Math.max(1, LoadStrategyContextUseCase.calculateRequiredBars(params));
+    }
+
+    private static void addToWindow(List<MarketBar> window, MarketBar bar, int size) {
+        window.add(bar);
+        if (window.size() > size) {
+            window.remove(0);
+        }
+    }
+
+    private static SignalDecision evaluate(StrategyEngine strategy, IncrementalStrategyEngine incremental,
+                                           StrategyContext context) {
+        return incremental != null ? incremental.evaluateState(context) : strategy.evaluate(context);
+    }
+
     private MarketBar convertToMarketBar(HistoricalBarEntity entity) {
         return MarketBar.restore(
                 entity.getSymbol(),
@@ -481,36 +574,38 @@ public class BacktestEngineImpl implements BacktestEngine {
 
     @Override
     public String runAsync(BacktestConfig config) {
-        log.info("Submitting async backtest for strategy: {}", config.getStrategyId());
+        return runAsync(config, BacktestPriority.INTERACTIVE, null);
+    }
+
+    @Override
+    public String runAsync(BacktestConfig config, BacktestPriority priority, String owner) {
+        log.info("Submitting async backtest for strategy: {}, priority: {}", config.getStrategyId(), priority);
+
+        String fairShareKey = owner != null && !owner.isBlank() ? owner : config.getStrategyId();
+        return jobExecutor.submit(config, priority, fairShareKey, this::executeBacktestWithProgress);
+    }
+
+    @Override
+    public boolean resumeAsync(String jobId) {
+        return jobExecutor.resume(jobId, BacktestPriority.INTERACTIVE, this::executeBacktestWithProgress);
+    }
 
-        return jobExecutor.submit(config, (cfg, progressCallback) -> {
-            return executeBacktestWithProgress(cfg, progressCallback);
-        });
+    /**
+     * Resume async backtests interrupted by the previous shutdown or crash.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        if (resumeOnStartup) {
+            jobExecutor.resumeInterruptedJobs(this::executeBacktestWithProgress);
+        }
     }
 
     @Override
     public CompletableFuture<BacktestResult> runAsyncWithFuture(BacktestConfig config) {
         String jobId = runAsync(config);
 
-        return CompletableFuture.supplyAsync(() -> {
-            // Poll until completion
-            while (true) {
-                BacktestProgress progress = jobExecutor.getProgress(jobId);
-                if (progress != null && progress.isDone()) {
-                    if (progress.isSuccess()) {
-                        return jobExecutor.getResult(jobId);
-                    } else {
-                        throw new RuntimeException("Backtest failed: " + progress.getErrorMessage());
-                    }
-                }
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("Interrupted while waiting for backtest", e);
-                }
-            }
-        });
+        // Completes when the job finishes; no polling
+        return jobExecutor.getCompletion(jobId);
     }
 
     @Override
@@ -525,16 +620,39 @@ public class BacktestEngineImpl implements BacktestEngine {
 
     /**
      * Execute backtest with progress callback for async execution.
+     *
+     * Takes checkpoints when the callback asks for them and continues from the
+     * callback's resume checkpoint, if any. Each job gets its own replay engine
+     * and virtual broker so concurrent jobs never share state.
      */
     private BacktestResult executeBacktestWithProgress(BacktestConfig config,
                                                         BacktestJobExecutor.ProgressCallback progressCallback) {
+        DataReplayEngine dataReplayEngine = new DataReplayEngineImpl(historicalBarRepository);
+        try (BacktestIndicators indicators = new BacktestIndicators(
+                indicatorRegistry, indicatorStore, dataReplayEngine, config.getTimeframe())) {
+            return executeBacktestWithProgress(config, progressCallback, dataReplayEngine, indicators);
+        }
+    }
+
+    private BacktestResult executeBacktestWithProgress(BacktestConfig config,
+                                                        BacktestJobExecutor.ProgressCallback progressCallback,
+                                                        DataReplayEngine dataReplayEngine,
+                                                        BacktestIndicators indicators) {
         LocalDateTime startTime = LocalDateTime.now();
+        VirtualBroker virtualBroker = new VirtualBrokerImpl();
 
         // Initialize components
         progressCallback.onProgress(5, "Loading data", 0, 0);
         dataReplayEngine.loadData(config);
         int totalBars = dataReplayEngine.getTotalBars();
 
+        BacktestCheckpoint resumeFrom = progressCallback.getResumeCheckpoint();
+        if (resumeFrom != null && resumeFrom.getTotalBars() != totalBars) {
+            log.warn("Historical data changed since checkpoint ({} -> {} bars), restarting backtest {} from the beginning",
+                    resumeFrom.getTotalBars(), totalBars, config.getBacktestId());
+            resumeFrom = null;
+        }
+
         progressCallback.onProgress(10, "Initializing broker", totalBars, 0);
         virtualBroker.reset(config.getInitialCapital());
         virtualBroker.setCommission(config.getCommission());
@@ -546,6 +664,8 @@ public class BacktestEngineImpl implements BacktestEngine {
             strategyType = "MA_CROSSOVER";
         }
         StrategyEngine strategy = StrategyFactory.createStrategy(strategyType);
+        IncrementalStrategyEngine incremental = startIncremental(strategy, config);
+        int requiredBars = requiredBars(config);
 
         // Result collectors
         List<Signal> allSignals = new ArrayList<>();
@@ -553,12 +673,40 @@ public class BacktestEngineImpl implements BacktestEngine {
         List<Fill> allFills = new ArrayList<>();
         List<BacktestTrade> allTrades = new ArrayList<>();
         Map<String, BacktestTrade> openPositions = new HashMap<>();
-        List<MarketBar> barBuffer = new ArrayList<>();
+        List<MarketBar> barBuffer = new ArrayList<>(requiredBars + 1);
 
         // Replay data
         int barCount = 0;
         int lastProgressPercent = 10;
 
+        if (resumeFrom != null) {
+            virtualBroker.restore(resumeFrom.getCashBalance(), resumeFrom.getPendingOrders(), resumeFrom.getFills());
+            addAllIfPresent(allSignals, resumeFrom.getSignals());
+            addAllIfPresent(allOrders, resumeFrom.getOrders());
+            addAllIfPresent(allFills, resumeFrom.getFills());
+            addAllIfPresent(allTrades, resumeFrom.getTrades());
+            if (resumeFrom.getOpenPositions() != null) {
+                openPositions.putAll(resumeFrom.getOpenPositions());
+            }
+            if (resumeFrom.getStartTime() != null) {
+                startTime = resumeFrom.getStartTime();
+            }
+
+            // Fast-forward the cursor, rebuilding the bar window and incremental state strategies evaluate
+            while (barCount < resumeFrom.getProcessedBars() && dataReplayEngine.hasNext()) {
+                MarketBar bar = convertToMarketBar(dataReplayEngine.next());
+                addToWindow(barBuffer, bar, requiredBars);
+                if (incremental != null) {
+                    incremental.onBar(bar);
+                }
+                barCount++;
+            }
+            lastProgressPercent = totalBars > 0 ? 10 + (int) ((barCount * 80.0) / totalBars) : 10;
+            progressCallback.onProgress(lastProgressPercent, "Resumed from checkpoint", totalBars, barCount);
+            log.info("Backtest {} resumed from checkpoint at bar {} of {}",
+                    config.getBacktestId(), barCount, totalBars);
+        }
+
         while (dataReplayEngine.hasNext()) {
             HistoricalBarEntity barEntity = dataReplayEngine.next();
             barCount++;
@@ -573,9 +721,12 @@ public class BacktestEngineImpl implements BacktestEngine {
             }
 
             MarketBar bar = convertToMarketBar(barEntity);
-            barBuffer.add(bar);
+            addToWindow(barBuffer, bar, requiredBars);
+            if (incremental != null) {
+                incremental.onBar(bar);
+            }
 
-            if (barBuffer.size() >= 21) {
+            if (barBuffer.size() >= requiredBars) {
                 StrategyContext context = StrategyContext.builder()
                         .strategyId(config.getStrategyId())
                         .symbol(barEntity.getSymbol())
@@ -583,9 +734,10 @@ public class BacktestEngineImpl implements BacktestEngine {
                         .bars(new ArrayList<>(barBuffer))
                         .params(config.getStrategyParams())
                         .timeframe(config.getTimeframe())
+                        .indicatorCache(indicators.forSymbol(barEntity.getSymbol()))
                         .build();
 
-                SignalDecision decision = strategy.evaluate(context);
+                SignalDecision decision = evaluate(strategy, incremental, context);
                 if (decision != null && decision.getSignalType() != SignalType.HOLD) {
                     Signal signal = Signal.builder()
                             .signalId(UlidGenerator.generate())
@@ -604,10 +756,6 @@ public class BacktestEngineImpl implements BacktestEngine {
                     allOrders.add(order);
                     virtualBroker.submitOrder(order);
                 }
-
-                if (barBuffer.size() > 100) {
-                    barBuffer.remove(0);
-                }
             }
 
             List<Fill> fills = virtualBroker.processBar(barEntity);
@@ -616,6 +764,29 @@ public class BacktestEngineImpl implements BacktestEngine {
             for (Fill fill : fills) {
                 processFill(fill, openPositions, allTrades, config);
             }
+
+            // Bar fully processed: safe point for cancellation and checkpoints
+            if (barCount % 100 == 0) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("Backtest interrupted at bar " + barCount);
+                }
+                if (progressCallback.isCheckpointDue(barCount)) {
+                    progressCallback.checkpoint(BacktestCheckpoint.builder()
+                            .backtestId(config.getBacktestId())
+                            .processedBars(barCount)
+                            .totalBars(totalBars)
+                            .cashBalance(virtualBroker.getCashBalance())
+                            .pendingOrders(virtualBroker.getPendingOrders())
+                            .openPositions(openPositions)
+                            .signals(allSignals)
+                            .orders(allOrders)
+                            .fills(allFills)
+                            .trades(allTrades)
+                            .startTime(startTime)
+                            .createdAt(LocalDateTime.now())
+                            .build());
+                }
+            }
         }
 
         progressCallback.onProgress(90, "Calculating metrics", totalBars, barCount);
@@ -669,4 +840,60 @@ public class BacktestEngineImpl implements BacktestEngine {
 
         return result;
     }
+
+    private static <T> void addAllIfPresent(List<T> target, List<T> source) {
+        if (source != null) {
+            target.addAll(source);
+        }
+    }
+
+    /**
+     * Indicators of one run, one per symbol: series are read from the
+     * persistent indicator store for the replayed data version, and missing
+     * ones are computed through "backtest" scope subscriptions of the shared
+     * indicator registry, so runs replaying the same bars share them.
+     */
+    private static final class BacktestIndicators implements AutoCloseable {
+        private static final String SCOPE = "backtest";
+
+        private final IndicatorRegistry registry;
+        private final IndicatorStore store;
+        private final DataReplayEngine replay;
+        private final String timeframe;
+        private final Map<String, IndicatorRegistry.Subscription> subscriptions = new HashMap<>();
+        private final Map<String, IndicatorCache> bySymbol = new HashMap<>();
+        private final List<IndicatorStore.Session> sessions = new ArrayList<>();
+
+        BacktestIndicators(IndicatorRegistry registry, IndicatorStore store,
+                           DataReplayEngine replay, String timeframe) {
+            this.registry = registry;
+            this.store = store;
+            this.replay = replay;
+            this.timeframe = timeframe;
+        }
+
+        IndicatorCache forSymbol(String symbol) {
+            IndicatorCache cache = bySymbol.get(symbol);
+            if (cache == null && !bySymbol.containsKey(symbol)) {
+                IndicatorCache shared = registry != null
+                        ? subscriptions.computeIfAbsent(symbol, s -> registry.subscribe(SCOPE, s, timeframe))
+                        : null;
+                cache = shared;
+                if (store != null) {
+                    IndicatorStore.Session session = store.open(symbol, timeframe, replay.getDataVersion(symbol), shared);
+                    sessions.add(session);
+                    cache = session;
+                }
+                bySymbol.put(symbol, cache);
+            }
+            return cache;
+        }
+
+        @Override
+        public void close() {
+            // Write stored series before releasing the shared ones
+            sessions.forEach(IndicatorStore.Session::close);
+            subscriptions.values().forEach(IndicatorRegistry.Subscription::close);
+        }
+    }
 }
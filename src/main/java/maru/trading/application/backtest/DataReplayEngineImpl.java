@@ -2,16 +2,22 @@ package maru.trading.application.backtest;
 
 import maru.trading.domain.backtest.BacktestConfig;
 import maru.trading.domain.backtest.DataReplayEngine;
+import maru.trading.domain.market.BarResampler;
 import maru.trading.infra.persistence.jpa.entity.HistoricalBarEntity;
 import maru.trading.infra.persistence.jpa.repository.HistoricalBarJpaRepository;
+import maru.trading.infra.persistence.rollup.BarRollupService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Data Replay Engine implementation.
@@ -30,6 +36,7 @@ public class DataReplayEngineImpl implements DataReplayEngine {
     private List<HistoricalBarEntity> allBars;
     private int currentIndex;
     private LocalDateTime currentTime;
+    private final Map<String, Long> dataVersions = new HashMap<>();
 
     public DataReplayEngineImpl(HistoricalBarJpaRepository historicalBarRepository) {
         this.historicalBarRepository = historicalBarRepository;
@@ -46,24 +53,19 @@ public class DataReplayEngineImpl implements DataReplayEngine {
         LocalDateTime startDateTime = config.getStartDate().atStartOfDay();
         LocalDateTime endDateTime = config.getEndDate().atTime(23, 59, 59);
 
-        // Load data from database
-        if (config.getSymbols().size() == 1) {
-            // Single symbol
-            String symbol = config.getSymbols().get(0);
-            allBars = historicalBarRepository.findBySymbolAndTimeframeAndDateRange(
-                    symbol,
-                    config.getTimeframe(),
-                    startDateTime,
-                    endDateTime
-            );
-        } else {
-            // Multiple symbols
-            allBars = historicalBarRepository.findBySymbolsAndTimeframeAndDateRange(
-                    config.getSymbols(),
-                    config.getTimeframe(),
-                    startDateTime,
-                    endDateTime
-            );
+        // Load data from database (rollups when they can answer the timeframe)
+        allBars = historicalBarRepository.findBarsRouted(
+                config.getSymbols(), config.getTimeframe(), startDateTime, endDateTime);
+
+        // Derive coarser timeframes from stored 1-minute bars when not stored themselves
+        if (allBars.isEmpty() && BarResampler.isDerivable(config.getTimeframe())) {
+            List<HistoricalBarEntity> minuteBars = historicalBarRepository.findBarsRouted(
+                    config.getSymbols(), BarResampler.BASE_TIMEFRAME, startDateTime, endDateTime);
+            if (!minuteBars.isEmpty()) {
+                allBars = BarRollupService.resampleHistoricalBars(minuteBars, config.getTimeframe());
+                log.info("Resampled {} 1m bars to {} {} bars",
+                        minuteBars.size(), allBars.size(), config.getTimeframe());
+            }
         }
 
         log.info("Loaded {} bars for replay", allBars.size());
@@ -73,6 +75,20 @@ public class DataReplayEngineImpl implements DataReplayEngine {
         }
 
         // Initialize iterator
+        dataVersions.clear();
+        iterator = allBars.iterator();
+        currentIndex = -1;
+        currentTime = null;
+    }
+
+    /**
+     * Load bars supplied by the caller instead of querying the database.
+     *
+     * @param bars Bars in chronological order
+     */
+    public void loadBars(List<HistoricalBarEntity> bars) {
+        allBars = bars;
+        dataVersions.clear();
         iterator = allBars.iterator();
         currentIndex = -1;
         currentTime = null;
@@ -127,6 +143,48 @@ public class DataReplayEngineImpl implements DataReplayEngine {
         return currentIndex;
     }
 
+    /**
+     * Hash of every loaded bar of the symbol (time, OHLC, volume), computed
+     * once per load.
+     */
+    @Override
+    public long getDataVersion(String symbol) {
+        if (allBars == null || symbol == null) {
+            return 0L;
+        }
+        return dataVersions.computeIfAbsent(symbol, this::fingerprint);
+    }
+
+    private long fingerprint(String symbol) {
+        long hash = 0xcbf29ce484222325L;
+        int count = 0;
+        for (HistoricalBarEntity bar : allBars) {
+            if (!symbol.equals(bar.getSymbol())) {
+                continue;
+            }
+            count++;
+            hash = mix(hash, bar.getBarTimestamp() != null ? bar.getBarTimestamp().toEpochSecond(ZoneOffset.UTC) : 0L);
+            hash = mix(hash, priceHash(bar.getOpenPrice()));
+            hash = mix(hash, priceHash(bar.getHighPrice()));
+            hash = mix(hash, priceHash(bar.getLowPrice()));
+            hash = mix(hash, priceHash(bar.getClosePrice()));
+            hash = mix(hash, bar.getVolume() != null ? bar.getVolume() : 0L);
+        }
+        if (count == 0) {
+            return 0L;
+        }
+        hash = mix(hash, count);
+        return hash != 0L ? hash : 1L;
+    }
+
+    private static long priceHash(BigDecimal price) {
+        return price != null ? price.hashCode() : 0L;
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * 0x100000001b3L;
+    }
+
     /**
      * Get progress percentage.
      *
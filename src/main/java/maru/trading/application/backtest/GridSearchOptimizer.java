@@ -2,8 +2,8 @@ package maru.trading.application.backtest;
 
 import maru.trading.domain.backtest.BacktestConfig;
 import maru.trading.domain.backtest.BacktestEngine;
-import maru.trading.domain.backtest.BacktestException;
 import maru.trading.domain.backtest.BacktestResult;
+import maru.trading.domain.backtest.distributed.TrialResult;
 import maru.trading.domain.backtest.optimization.*;
 import maru.trading.infra.config.UlidGenerator;
 import org.slf4j.Logger;
@@ -20,7 +20,9 @@ import java.util.Map;
 /**
  * Grid Search parameter optimization.
  *
- * Tests all possible parameter combinations.
+ * Tests all possible parameter combinations. The combinations are independent
+ * trials, fanned out to backtest workers through {@link TrialCoordinator}
+ * when any are registered.
  */
 @Component
 public class GridSearchOptimizer implements ParameterOptimizer {
@@ -28,9 +30,11 @@ public class GridSearchOptimizer implements ParameterOptimizer {
     private static final Logger log = LoggerFactory.getLogger(GridSearchOptimizer.class);
 
     private final BacktestEngine backtestEngine;
+    private final TrialCoordinator trialCoordinator;
 
-    public GridSearchOptimizer(BacktestEngine backtestEngine) {
+    public GridSearchOptimizer(BacktestEngine backtestEngine, TrialCoordinator trialCoordinator) {
         this.backtestEngine = backtestEngine;
+        this.trialCoordinator = trialCoordinator;
     }
 
     @Override
@@ -56,7 +60,27 @@ public class GridSearchOptimizer implements ParameterOptimizer {
             );
         }
 
-        // Run backtest for each combination
+        // Create backtest config for each combination
+        List<BacktestConfig> backtestConfigs = new ArrayList<>(totalCombinations);
+        for (Map<String, Object> parameters : parameterCombinations) {
+            backtestConfigs.add(BacktestConfig.builder()
+                    .backtestId(UlidGenerator.generate())
+                    .strategyId(config.getBaseConfig().getStrategyId())
+                    .symbols(config.getBaseConfig().getSymbols())
+                    .startDate(config.getBaseConfig().getStartDate())
+                    .endDate(config.getBaseConfig().getEndDate())
+                    .timeframe(config.getBaseConfig().getTimeframe())
+                    .initialCapital(config.getBaseConfig().getInitialCapital())
+                    .commission(config.getBaseConfig().getCommission())
+                    .slippage(config.getBaseConfig().getSlippage())
+                    .strategyParams(parameters)
+                    .dataSourceConfig(config.getBaseConfig().getDataSourceConfig())
+                    .build());
+        }
+
+        // Run all backtests (on workers when available)
+        List<TrialResult> trialResults = trialCoordinator.runBacktests(backtestConfigs, backtestEngine::run);
+
         List<OptimizationResult.OptimizationRun> allRuns = new ArrayList<>();
         BigDecimal bestObjectiveValue = null;
         Map<String, Object> bestParameters = null;
@@ -64,53 +88,39 @@ public class GridSearchOptimizer implements ParameterOptimizer {
 
         for (int i = 0; i < parameterCombinations.size(); i++) {
             Map<String, Object> parameters = parameterCombinations.get(i);
+            TrialResult trialResult = trialResults.get(i);
 
-            log.info("Running backtest {}/{} with parameters: {}", i + 1, totalCombinations, parameters);
-
-            try {
-                // Create backtest config with current parameters
-                BacktestConfig backtestConfig = BacktestConfig.builder()
-                        .backtestId(UlidGenerator.generate())
-                        .strategyId(config.getBaseConfig().getStrategyId())
-                        .symbols(config.getBaseConfig().getSymbols())
-                        .startDate(config.getBaseConfig().getStartDate())
-                        .endDate(config.getBaseConfig().getEndDate())
-                        .timeframe(config.getBaseConfig().getTimeframe())
-                        .initialCapital(config.getBaseConfig().getInitialCapital())
-                        .commission(config.getBaseConfig().getCommission())
-                        .slippage(config.getBaseConfig().getSlippage())
-                        .strategyParams(parameters)
-                        .build();
-
-                // Run backtest
-                BacktestResult result = backtestEngine.run(backtestConfig);
-
-                // Extract objective value
-                BigDecimal objectiveValue = extractObjectiveValue(result, config.getObjective());
-
-                // Record run
-                OptimizationResult.OptimizationRun run = OptimizationResult.OptimizationRun.builder()
-                        .parameters(parameters)
-                        .backtestResult(result)
-                        .objectiveValue(objectiveValue)
-                        .runNumber(i + 1)
-                        .build();
-
-                allRuns.add(run);
-
-                // Update best if this is better
-                if (bestObjectiveValue == null || objectiveValue.compareTo(bestObjectiveValue) > 0) {
-                    bestObjectiveValue = objectiveValue;
-                    bestParameters = parameters;
-                    bestBacktestResult = result;
-
-                    log.info("New best found! Objective value: {}, Parameters: {}",
-                            objectiveValue, parameters);
-                }
-
-            } catch (BacktestException e) {
-                log.error("Backtest failed for parameters {}: {}", parameters, e.getMessage());
+            log.info("Backtest {}/{} with parameters: {}", i + 1, totalCombinations, parameters);
+
+            if (!trialResult.isSuccess()) {
+                log.error("Backtest failed for parameters {}: {}", parameters, trialResult.getErrorMessage());
                 // Continue with next combination
+                continue;
+            }
+
+            BacktestResult result = trialResult.getBacktestResult();
+
+            // Extract objective value
+            BigDecimal objectiveValue = extractObjectiveValue(result, config.getObjective());
+
+            // Record run
+            OptimizationResult.OptimizationRun run = OptimizationResult.OptimizationRun.builder()
+                    .parameters(parameters)
+                    .backtestResult(result)
+                    .objectiveValue(objectiveValue)
+                    .runNumber(i + 1)
+                    .build();
+
+            allRuns.add(run);
+
+            // Update best if this is better
+            if (bestObjectiveValue == null || objectiveValue.compareTo(bestObjectiveValue) > 0) {
+                bestObjectiveValue = objectiveValue;
+                bestParameters = parameters;
+                bestBacktestResult = result;
+
+                log.info("New best found! Objective value: {}, Parameters: {}",
+                        objectiveValue, parameters);
             }
         }
 
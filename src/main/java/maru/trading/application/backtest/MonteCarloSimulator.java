@@ -2,10 +2,16 @@ package maru.trading.application.backtest;
 
 import maru.trading.domain.backtest.BacktestResult;
 import maru.trading.domain.backtest.BacktestTrade;
+import maru.trading.domain.backtest.distributed.MonteCarloChunk;
+import maru.trading.domain.backtest.distributed.SimulationOutcome;
+import maru.trading.domain.backtest.distributed.TrialResult;
+import maru.trading.domain.backtest.distributed.TrialTask;
 import maru.trading.domain.backtest.montecarlo.MonteCarloConfig;
 import maru.trading.domain.backtest.montecarlo.MonteCarloResult;
+import maru.trading.infra.config.UlidGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -19,12 +25,27 @@ import java.util.stream.Collectors;
  *
  * Generates multiple possible equity curve paths by resampling
  * historical trade returns to estimate outcome distributions.
+ *
+ * Simulations are always split into chunks, run on backtest workers when any
+ * are registered (see {@link TrialCoordinator}) and in this JVM otherwise.
+ * Each chunk derives its own seed from the configured seed and samples its
+ * equity curves the same way on both paths, so a seeded run gives the same
+ * result for a given chunk size whether or not workers are alive.
  */
 @Component
 public class MonteCarloSimulator {
 
     private static final Logger log = LoggerFactory.getLogger(MonteCarloSimulator.class);
 
+    private final TrialCoordinator trialCoordinator;
+
+    @Value("${backtest.distributed.monteCarloChunkSize:250}")
+    private int chunkSize;
+
+    public MonteCarloSimulator(TrialCoordinator trialCoordinator) {
+        this.trialCoordinator = trialCoordinator;
+    }
+
     /**
      * Run Monte Carlo simulation.
      *
@@ -52,31 +73,12 @@ public class MonteCarloSimulator {
 
         log.info("Base trades: {}", tradeReturns.size());
 
-        // Initialize random generator
-        Random random = config.getRandomSeed() != null
-                ? new Random(config.getRandomSeed())
-                : new Random();
-
         // Run simulations
-        List<SimulationRun> simulations = new ArrayList<>();
         BigDecimal initialCapital = baseResult.getConfig() != null && baseResult.getConfig().getInitialCapital() != null
                 ? baseResult.getConfig().getInitialCapital()
                 : BigDecimal.valueOf(10000000);
 
-        for (int i = 0; i < config.getNumSimulations(); i++) {
-            SimulationRun run = runSingleSimulation(
-                    i + 1,
-                    tradeReturns,
-                    initialCapital,
-                    config,
-                    random
-            );
-            simulations.add(run);
-
-            if ((i + 1) % 100 == 0) {
-                log.info("Completed {} / {} simulations", i + 1, config.getNumSimulations());
-            }
-        }
+        List<SimulationRun> simulations = runChunks(tradeReturns, initialCapital, config);
 
         // Analyze results
         MonteCarloResult result = analyzeSimulations(config, simulations, startTime);
@@ -96,6 +98,95 @@ public class MonteCarloSimulator {
         return result;
     }
 
+    /**
+     * Run a slice of simulations (worker side of a distributed run).
+     *
+     * @param chunk Simulation slice
+     * @return Outcome of each simulation in the slice
+     */
+    public List<SimulationOutcome> runChunk(MonteCarloChunk chunk) {
+        MonteCarloConfig sampling = MonteCarloConfig.builder()
+                .method(chunk.getMethod())
+                .preserveCorrelation(chunk.isPreserveCorrelation())
+                .blockSize(chunk.getBlockSize())
+                .build();
+        Random random = chunk.getSeed() != null ? new Random(chunk.getSeed()) : new Random();
+
+        List<SimulationOutcome> outcomes = new ArrayList<>(chunk.getSimulations());
+        for (int i = 0; i < chunk.getSimulations(); i++) {
+            SimulationRun run = runSingleSimulation(
+                    chunk.getFirstSimulation() + i,
+                    chunk.getTradeReturns(),
+                    chunk.getInitialCapital(),
+                    sampling,
+                    random
+            );
+            outcomes.add(SimulationOutcome.builder()
+                    .simulationNumber(run.simNumber)
+                    .totalReturn(run.totalReturn)
+                    .maxDrawdown(run.maxDrawdown)
+                    .finalEquity(run.finalEquity)
+                    .equityCurve(sampleEquityCurve(run.equityCurve, 100))
+                    .build());
+        }
+        return outcomes;
+    }
+
+    /**
+     * Split the simulation into chunks and run them on workers, or locally
+     * when none are registered.
+     */
+    private List<SimulationRun> runChunks(List<BigDecimal> tradeReturns, BigDecimal initialCapital,
+                                               MonteCarloConfig config) {
+        List<TrialTask> tasks = new ArrayList<>();
+        for (int first = 0, chunk = 0; first < config.getNumSimulations(); first += chunkSize, chunk++) {
+            tasks.add(TrialTask.builder()
+                    .trialId(UlidGenerator.generate())
+                    .type(TrialTask.TrialType.MONTE_CARLO)
+                    .attempt(1)
+                    .monteCarlo(MonteCarloChunk.builder()
+                            .tradeReturns(tradeReturns)
+                            .initialCapital(initialCapital)
+                            .method(config.getMethod())
+                            .preserveCorrelation(config.isPreserveCorrelation())
+                            .blockSize(config.getBlockSize())
+                            .firstSimulation(first + 1)
+                            .simulations(Math.min(chunkSize, config.getNumSimulations() - first))
+                            .seed(config.getRandomSeed() != null ? config.getRandomSeed() + chunk : null)
+                            .build())
+                    .build());
+        }
+        boolean distributed = trialCoordinator.hasWorkers() && tasks.size() > 1;
+        log.info("Running {} simulations in {} chunks ({})", config.getNumSimulations(), tasks.size(),
+                distributed ? "distributed" : "local");
+
+        List<TrialResult> results;
+        if (distributed) {
+            results = trialCoordinator.runTrials(tasks, this::runLocally);
+        } else {
+            results = new ArrayList<>(tasks.size());
+            for (TrialTask task : tasks) {
+                results.add(runLocally(task));
+            }
+        }
+
+        List<SimulationRun> simulations = new ArrayList<>(config.getNumSimulations());
+        for (TrialResult result : results) {
+            if (!result.isSuccess()) {
+                throw new IllegalStateException("Simulation chunk failed: " + result.getErrorMessage());
+            }
+            for (SimulationOutcome outcome : result.getSimulations()) {
+                simulations.add(new SimulationRun(outcome.getSimulationNumber(), outcome.getTotalReturn(),
+                        outcome.getMaxDrawdown(), outcome.getFinalEquity(), outcome.getEquityCurve()));
+            }
+        }
+        return simulations;
+    }
+
+    private TrialResult runLocally(TrialTask task) {
+        return TrialResult.monteCarlo(task.getTrialId(), TrialCoordinator.LOCAL_WORKER, runChunk(task.getMonteCarlo()));
+    }
+
     /**
      * Extract trade returns from backtest result.
      */
@@ -488,15 +579,13 @@ public class MonteCarloSimulator {
      * Convert SimulationRun to SimulationPath.
      */
     private MonteCarloResult.SimulationPath toSimulationPath(SimulationRun run) {
-        // Sample equity curve to reduce size (max 100 points)
-        List<BigDecimal> sampledCurve = sampleEquityCurve(run.equityCurve, 100);
-
+        // Equity curve was already sampled by runChunk (max 100 points)
         return MonteCarloResult.SimulationPath.builder()
                 .simulationNumber(run.simNumber)
                 .totalReturn(run.totalReturn)
                 .maxDrawdown(run.maxDrawdown)
                 .finalEquity(run.finalEquity)
-                .equityCurve(sampledCurve)
+                .equityCurve(run.equityCurve)
                 .build();
     }
 
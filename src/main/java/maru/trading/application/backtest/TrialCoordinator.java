@@ -0,0 +1,475 @@
+package maru.trading.application.backtest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import maru.trading.domain.backtest.BacktestConfig;
+import maru.trading.domain.backtest.BacktestException;
+import maru.trading.domain.backtest.BacktestResult;
+import maru.trading.domain.backtest.data.DataSourceConfig;
+import maru.trading.domain.backtest.data.DataSourceType;
+import maru.trading.domain.backtest.distributed.TrialResult;
+import maru.trading.domain.backtest.distributed.TrialTask;
+import maru.trading.domain.backtest.distributed.WorkerRegistration;
+import maru.trading.infra.config.UlidGenerator;
+import maru.trading.infra.persistence.jpa.entity.HistoricalBarEntity;
+import maru.trading.infra.persistence.jpa.repository.HistoricalBarJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Coordinator for distributed backtest trials.
+ *
+ * Worker processes (see {@code BacktestWorker}) register over HTTP, send
+ * heartbeats, pull batches of trials and report summaries back. Optimizers
+ * and simulators hand batches of independent trials to {@link #runTrials};
+ * the call blocks until every trial has a result.
+ *
+ * Reliability:
+ * - A trial leased to a worker that stops sending heartbeats, or that does
+ *   not report within the trial timeout, is re-queued (up to maxAttempts).
+ * - When no worker is alive, trials run locally on the calling thread, so
+ *   a single JVM behaves exactly as before.
+ * - Late results of re-queued trials are ignored (first result wins).
+ *
+ * Metrics:
+ * - backtest.workers.live - workers with a recent heartbeat
+ * - backtest.trials.queued / backtest.trials.leased - trials waiting / running on workers
+ * - backtest.trials.retried - trials re-queued after worker loss or timeout
+ * - backtest.trials.completed (tag: location=remote|local)
+ */
+@Component
+public class TrialCoordinator {
+
+    private static final Logger log = LoggerFactory.getLogger(TrialCoordinator.class);
+
+    public static final String LOCAL_WORKER = "local";
+
+    private static final int MAX_DATASETS = 1000;
+
+    private final HistoricalBarJpaRepository historicalBarRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, WorkerState> workers = new ConcurrentHashMap<>();
+    private final Map<String, PendingTrial> trials = new ConcurrentHashMap<>();
+    private final Deque<PendingTrial> queue = new ArrayDeque<>(); // guarded by this
+
+    // Dataset reference -> spec; refs are content hashes, so repeated specs share one entry
+    private final Map<String, BacktestConfig> datasets = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, BacktestConfig> eldest) {
+            return size() > MAX_DATASETS;
+        }
+    };
+
+    private Counter retriedCounter;
+    private Counter remoteCompletedCounter;
+    private Counter localCompletedCounter;
+
+    @Value("${backtest.distributed.enabled:true}")
+    private boolean enabled;
+
+    @Value("${backtest.distributed.workerTimeoutSeconds:15}")
+    private long workerTimeoutSeconds;
+
+    @Value("${backtest.distributed.trialTimeoutSeconds:600}")
+    private long trialTimeoutSeconds;
+
+    @Value("${backtest.distributed.maxAttempts:3}")
+    private int maxAttempts;
+
+    public TrialCoordinator(HistoricalBarJpaRepository historicalBarRepository, MeterRegistry meterRegistry) {
+        this.historicalBarRepository = historicalBarRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("backtest.workers.live", this, TrialCoordinator::getLiveWorkerCount)
+                .description("Backtest workers with a recent heartbeat")
+                .register(meterRegistry);
+        Gauge.builder("backtest.trials.queued", this, TrialCoordinator::getQueuedTrialCount)
+                .description("Trials waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("backtest.trials.leased", this, TrialCoordinator::getLeasedTrialCount)
+                .description("Trials running on workers")
+                .register(meterRegistry);
+        retriedCounter = Counter.builder("backtest.trials.retried")
+                .description("Trials re-queued after worker loss or timeout")
+                .register(meterRegistry);
+        remoteCompletedCounter = Counter.builder("backtest.trials.completed")
+                .tag("location", "remote")
+                .register(meterRegistry);
+        localCompletedCounter = Counter.builder("backtest.trials.completed")
+                .tag("location", "local")
+                .register(meterRegistry);
+    }
+
+    // ==================== Caller API ====================
+
+    /**
+     * Whether trials are currently distributed to workers.
+     */
+    public boolean hasWorkers() {
+        return enabled && getLiveWorkerCount() > 0;
+    }
+
+    /**
+     * Run independent backtests, on workers when available.
+     *
+     * @param configs Backtest configurations
+     * @param localRunner Runs a backtest in this JVM (no workers, or all workers lost)
+     * @return One result per config, in the same order
+     * @throws IllegalArgumentException if a config names a non-database data source
+     */
+    public List<TrialResult> runBacktests(List<BacktestConfig> configs, LocalBacktestRunner localRunner) {
+        List<TrialTask> tasks = new ArrayList<>(configs.size());
+        for (BacktestConfig config : configs) {
+            tasks.add(TrialTask.builder()
+                    .trialId(UlidGenerator.generate())
+                    .type(TrialTask.TrialType.BACKTEST)
+                    .attempt(1)
+                    .config(config)
+                    .datasetRef(registerDataset(config))
+                    .build());
+        }
+
+        return runTrials(tasks, task -> {
+            try {
+                return TrialResult.backtest(task.getTrialId(), LOCAL_WORKER, localRunner.run(task.getConfig()));
+            } catch (BacktestException e) {
+                return TrialResult.failure(task.getTrialId(), LOCAL_WORKER, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Run independent trials, on workers when available.
+     *
+     * Blocks until every trial has a result. Trials left without a live worker
+     * are run on the calling thread with {@code localRunner}.
+     *
+     * @return One result per task, in the same order
+     */
+    public List<TrialResult> runTrials(List<TrialTask> tasks, Function<TrialTask, TrialResult> localRunner) {
+        List<TrialResult> results = new ArrayList<>(tasks.size());
+        if (!hasWorkers()) {
+            for (TrialTask task : tasks) {
+                results.add(runLocally(task, localRunner));
+            }
+            return results;
+        }
+
+        List<PendingTrial> batch = new ArrayList<>(tasks.size());
+        synchronized (this) {
+            for (TrialTask task : tasks) {
+                PendingTrial trial = new PendingTrial(task);
+                trials.put(task.getTrialId(), trial);
+                queue.addLast(trial);
+                batch.add(trial);
+            }
+        }
+        log.info("Distributing {} trials to {} worker(s)", tasks.size(), getLiveWorkerCount());
+
+        for (PendingTrial trial : batch) {
+            results.add(await(trial, batch, localRunner));
+        }
+        return results;
+    }
+
+    private TrialResult await(PendingTrial trial, List<PendingTrial> batch,
+                              Function<TrialTask, TrialResult> localRunner) {
+        while (true) {
+            try {
+                return trial.future.get(1, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                if (!hasWorkers()) {
+                    runQueuedLocally(batch, localRunner);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                abandon(batch);
+                return TrialResult.failure(trial.task.getTrialId(), LOCAL_WORKER, "Interrupted");
+            } catch (ExecutionException e) {
+                return TrialResult.failure(trial.task.getTrialId(), LOCAL_WORKER, e.getCause().getMessage());
+            }
+        }
+    }
+
+    /**
+     * Take back not-yet-leased trials of a batch and run them here.
+     */
+    private void runQueuedLocally(List<PendingTrial> batch, Function<TrialTask, TrialResult> localRunner) {
+        for (PendingTrial trial : batch) {
+            boolean reclaimed;
+            synchronized (this) {
+                reclaimed = trial.workerId == null && queue.remove(trial);
+                if (reclaimed) {
+                    trials.remove(trial.task.getTrialId());
+                }
+            }
+            if (reclaimed) {
+                trial.future.complete(runLocally(trial.task, localRunner));
+            }
+        }
+    }
+
+    private TrialResult runLocally(TrialTask task, Function<TrialTask, TrialResult> localRunner) {
+        TrialResult result;
+        try {
+            result = localRunner.apply(task);
+        } catch (RuntimeException e) {
+            result = TrialResult.failure(task.getTrialId(), LOCAL_WORKER, e.getMessage());
+        }
+        localCompletedCounter.increment();
+        return result;
+    }
+
+    private synchronized void abandon(List<PendingTrial> batch) {
+        for (PendingTrial trial : batch) {
+            queue.remove(trial);
+            trials.remove(trial.task.getTrialId());
+            trial.future.cancel(false);
+        }
+    }
+
+    // ==================== Worker API ====================
+
+    public void register(WorkerRegistration registration) {
+        workers.put(registration.getWorkerId(), new WorkerState(registration));
+        log.info("Backtest worker registered: id={}, host={}, slots={}",
+                registration.getWorkerId(), registration.getHost(), registration.getSlots());
+    }
+
+    /**
+     * Record a heartbeat.
+     *
+     * @return false if the worker is unknown (it must register again)
+     */
+    public boolean heartbeat(String workerId) {
+        WorkerState worker = workers.get(workerId);
+        if (worker == null) {
+            return false;
+        }
+        worker.lastSeenMillis = System.currentTimeMillis();
+        return true;
+    }
+
+    /**
+     * Lease up to {@code max} queued trials to a worker.
+     *
+     * @return Leased trials, or null if the worker is unknown
+     */
+    public List<TrialTask> poll(String workerId, int max) {
+        if (!heartbeat(workerId)) {
+            return null;
+        }
+
+        List<TrialTask> leased = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(trialTimeoutSeconds);
+        synchronized (this) {
+            while (leased.size() < max && !queue.isEmpty()) {
+                PendingTrial trial = queue.pollFirst();
+                if (trial.future.isDone()) {
+                    continue;
+                }
+                trial.workerId = workerId;
+                trial.leaseDeadlineMillis = deadline;
+                leased.add(trial.task);
+            }
+        }
+        if (!leased.isEmpty()) {
+            log.debug("Leased {} trials to worker {}", leased.size(), workerId);
+        }
+        return leased;
+    }
+
+    /**
+     * Accept results reported by a worker. Results for unknown or already
+     * completed trials (e.g. re-queued after a timeout) are ignored.
+     */
+    public void complete(String workerId, List<TrialResult> results) {
+        heartbeat(workerId);
+        for (TrialResult result : results) {
+            PendingTrial trial = trials.remove(result.getTrialId());
+            if (trial == null) {
+                log.debug("Ignoring late result for trial {} from worker {}", result.getTrialId(), workerId);
+                continue;
+            }
+            remoteCompletedCounter.increment();
+            trial.future.complete(result);
+        }
+    }
+
+    /**
+     * Bars of a dataset, for workers filling their cache.
+     *
+     * @throws IllegalArgumentException if the reference is unknown
+     */
+    public List<HistoricalBarEntity> loadDataset(String datasetRef) {
+        BacktestConfig spec;
+        synchronized (datasets) {
+            spec = datasets.get(datasetRef);
+        }
+        if (spec == null) {
+            throw new IllegalArgumentException("Unknown dataset: " + datasetRef);
+        }
+        DataReplayEngineImpl replay = new DataReplayEngineImpl(historicalBarRepository);
+        replay.loadData(spec);
+        return replay.getAllBars();
+    }
+
+    /**
+     * Re-queue trials of lost workers and trials past their lease.
+     */
+    @Scheduled(fixedDelayString = "${backtest.distributed.reapIntervalMs:2000}")
+    public void reapExpiredLeases() {
+        long now = System.currentTimeMillis();
+        long workerCutoff = now - TimeUnit.SECONDS.toMillis(workerTimeoutSeconds);
+
+        workers.values().removeIf(worker -> {
+            boolean lost = worker.lastSeenMillis < workerCutoff;
+            if (lost) {
+                log.warn("Backtest worker {} lost (no heartbeat for {}s)",
+                        worker.registration.getWorkerId(), workerTimeoutSeconds);
+            }
+            return lost;
+        });
+
+        synchronized (this) {
+            for (PendingTrial trial : trials.values()) {
+                if (trial.workerId == null) {
+                    continue;
+                }
+                if (!workers.containsKey(trial.workerId) || trial.leaseDeadlineMillis < now) {
+                    requeue(trial);
+                }
+            }
+        }
+    }
+
+    private void requeue(PendingTrial trial) {
+        String lostWorker = trial.workerId;
+        trial.workerId = null;
+        if (trial.task.getAttempt() >= maxAttempts) {
+            trials.remove(trial.task.getTrialId());
+            trial.future.complete(TrialResult.failure(trial.task.getTrialId(), lostWorker,
+                    "Trial lost after " + trial.task.getAttempt() + " attempts"));
+            return;
+        }
+        trial.task = trial.task.withAttempt(trial.task.getAttempt() + 1);
+        queue.addFirst(trial);
+        retriedCounter.increment();
+        log.info("Re-queued trial {} from worker {} (attempt {})",
+                trial.task.getTrialId(), lostWorker, trial.task.getAttempt());
+    }
+
+    // ==================== Status ====================
+
+    public int getLiveWorkerCount() {
+        long cutoff = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(workerTimeoutSeconds);
+        return (int) workers.values().stream().filter(w -> w.lastSeenMillis >= cutoff).count();
+    }
+
+    public synchronized int getQueuedTrialCount() {
+        return queue.size();
+    }
+
+    public synchronized int getLeasedTrialCount() {
+        return (int) trials.values().stream().filter(t -> t.workerId != null).count();
+    }
+
+    public synchronized List<Map<String, Object>> getWorkerStatus() {
+        List<Map<String, Object>> status = new ArrayList<>();
+        for (WorkerState worker : workers.values()) {
+            String workerId = worker.registration.getWorkerId();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("workerId", workerId);
+            entry.put("host", worker.registration.getHost());
+            entry.put("slots", worker.registration.getSlots());
+            entry.put("lastSeenMillisAgo", System.currentTimeMillis() - worker.lastSeenMillis);
+            entry.put("leasedTrials", trials.values().stream().filter(t -> workerId.equals(t.workerId)).count());
+            status.add(entry);
+        }
+        return status;
+    }
+
+    /**
+     * Register the bar dataset a backtest replays and return its reference.
+     *
+     * Workers fetch datasets from {@link #loadDataset}, which replays the
+     * historical bar table, so other data sources are rejected rather than
+     * silently replaced by database bars.
+     *
+     * @throws IllegalArgumentException if the config names a non-database data source
+     */
+    String registerDataset(BacktestConfig config) {
+        DataSourceConfig dataSource = config.getDataSourceConfig();
+        if (dataSource != null && dataSource.getType() != DataSourceType.DATABASE) {
+            throw new IllegalArgumentException(
+                    "Distributed backtests replay database bars, unsupported data source: " + dataSource.getType());
+        }
+        String key = String.join(",", config.getSymbols()) + "|" + config.getTimeframe()
+                + "|" + config.getStartDate() + "|" + config.getEndDate();
+        String ref = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+        BacktestConfig spec = BacktestConfig.builder()
+                .backtestId(ref)
+                .symbols(config.getSymbols())
+                .timeframe(config.getTimeframe())
+                .startDate(config.getStartDate())
+                .endDate(config.getEndDate())
+                .build();
+        synchronized (datasets) {
+            datasets.put(ref, spec);
+        }
+        return ref;
+    }
+
+    /**
+     * Runs a backtest in the coordinator's JVM.
+     */
+    @FunctionalInterface
+    public interface LocalBacktestRunner {
+        BacktestResult run(BacktestConfig config) throws BacktestException;
+    }
+
+    private static class WorkerState {
+        final WorkerRegistration registration;
+        volatile long lastSeenMillis;
+
+        WorkerState(WorkerRegistration registration) {
+            this.registration = registration;
+            this.lastSeenMillis = System.currentTimeMillis();
+        }
+    }
+
+    private static class PendingTrial {
+        final CompletableFuture<TrialResult> future = new CompletableFuture<>();
+        TrialTask task;
+        String workerId;
+        long leaseDeadlineMillis;
+
+        PendingTrial(TrialTask task) {
+            this.task = task;
+        }
+    }
+}
@@ -15,7 +15,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -33,7 +33,7 @@ public class VirtualBrokerImpl implements VirtualBroker {
 
     private static final Logger log = LoggerFactory.getLogger(VirtualBrokerImpl.class);
 
-    // Pending orders (orderId -> Order)
+    // Pending orders (orderId -> Order), in submission order so restored runs fill identically
     private final Map<String, Order> pendingOrders;
 
     // All fills executed
@@ -49,7 +49,7 @@ public class VirtualBrokerImpl implements VirtualBroker {
     private BigDecimal slippage;
 
     public VirtualBrokerImpl() {
-        this.pendingOrders = new HashMap<>();
+        this.pendingOrders = new LinkedHashMap<>();
         this.allFills = new ArrayList<>();
         this.commission = BigDecimal.valueOf(0.001);
         this.slippage = BigDecimal.valueOf(0.0005);
@@ -218,6 +218,22 @@ public class VirtualBrokerImpl implements VirtualBroker {
         log.info("Virtual broker reset with initial cash: {}", initialCash);
     }
 
+    @Override
+    public void restore(BigDecimal cashBalance, List<Order> pendingOrders, List<Fill> fills) {
+        this.pendingOrders.clear();
+        if (pendingOrders != null) {
+            for (Order order : pendingOrders) {
+                this.pendingOrders.put(order.getOrderId(), order);
+            }
+        }
+        this.allFills.clear();
+        if (fills != null) {
+            this.allFills.addAll(fills);
+        }
+        this.cashBalance = cashBalance;
+        log.info("Virtual broker restored: cash={}, pendingOrders={}", cashBalance, this.pendingOrders.size());
+    }
+
     @Override
     public void setCommission(BigDecimal commission) {
         this.commission = commission;
@@ -4,6 +4,7 @@ import maru.trading.domain.backtest.BacktestConfig;
 import maru.trading.domain.backtest.BacktestEngine;
 import maru.trading.domain.backtest.BacktestException;
 import maru.trading.domain.backtest.BacktestResult;
+import maru.trading.domain.backtest.distributed.TrialResult;
 import maru.trading.domain.backtest.optimization.*;
 import maru.trading.domain.backtest.walkforward.WalkForwardConfig;
 import maru.trading.domain.backtest.walkforward.WalkForwardResult;
@@ -25,6 +26,8 @@ import java.util.Map;
  *
  * Divides data into rolling in-sample (training) and out-of-sample (testing) windows.
  * Optimizes parameters on in-sample, validates on out-of-sample.
+ * In-sample optimization trials and the in-sample/out-of-sample validation
+ * backtests of each window run on backtest workers when any are registered.
  */
 @Component
 public class WalkForwardAnalyzer {
@@ -33,10 +36,13 @@ public class WalkForwardAnalyzer {
 
     private final BacktestEngine backtestEngine;
     private final ParameterOptimizer optimizer;
+    private final TrialCoordinator trialCoordinator;
 
-    public WalkForwardAnalyzer(BacktestEngine backtestEngine, GridSearchOptimizer optimizer) {
+    public WalkForwardAnalyzer(BacktestEngine backtestEngine, GridSearchOptimizer optimizer,
+                               TrialCoordinator trialCoordinator) {
         this.backtestEngine = backtestEngine;
         this.optimizer = optimizer;
+        this.trialCoordinator = trialCoordinator;
     }
 
     /**
@@ -84,21 +90,15 @@ public class WalkForwardAnalyzer {
 
             log.info("Optimized parameters: {}", optimizedParams);
 
-            // 2. Backtest in-sample with optimized parameters
-            BacktestResult inSampleResult = runBacktest(
-                    config.getBaseConfig(),
-                    window.inSampleStart,
-                    window.inSampleEnd,
-                    optimizedParams
-            );
-
-            // 3. Validate on out-of-sample
-            BacktestResult outOfSampleResult = runBacktest(
-                    config.getBaseConfig(),
-                    window.outOfSampleStart,
-                    window.outOfSampleEnd,
-                    optimizedParams
-            );
+            // 2. Backtest in-sample with optimized parameters and 3. validate on out-of-sample
+            List<BacktestResult> validation = runBacktests(List.of(
+                    createBacktestConfig(config.getBaseConfig(), window.inSampleStart, window.inSampleEnd,
+                            optimizedParams),
+                    createBacktestConfig(config.getBaseConfig(), window.outOfSampleStart, window.outOfSampleEnd,
+                            optimizedParams)
+            ));
+            BacktestResult inSampleResult = validation.get(0);
+            BacktestResult outOfSampleResult = validation.get(1);
 
             // 4. Calculate metrics
             BigDecimal inSampleMetric = extractMetric(inSampleResult, config.getOptimizationConfig().getObjective());
@@ -262,6 +262,7 @@ public class WalkForwardAnalyzer {
                 .initialCapital(config.getBaseConfig().getInitialCapital())
                 .commission(config.getBaseConfig().getCommission())
                 .slippage(config.getBaseConfig().getSlippage())
+                .dataSourceConfig(config.getBaseConfig().getDataSourceConfig())
                 .build();
 
         OptimizationConfig optConfig = OptimizationConfig.builder()
@@ -280,15 +281,31 @@ public class WalkForwardAnalyzer {
     }
 
     /**
-     * Run backtest with given parameters.
+     * Run independent backtests (on workers when available).
+     *
+     * @throws BacktestException if any of them failed
      */
-    private BacktestResult runBacktest(
+    private List<BacktestResult> runBacktests(List<BacktestConfig> configs) throws BacktestException {
+        List<BacktestResult> results = new ArrayList<>(configs.size());
+        for (TrialResult trialResult : trialCoordinator.runBacktests(configs, backtestEngine::run)) {
+            if (!trialResult.isSuccess()) {
+                throw new BacktestException("Backtest execution failed: " + trialResult.getErrorMessage());
+            }
+            results.add(trialResult.getBacktestResult());
+        }
+        return results;
+    }
+
+    /**
+     * Create backtest config for a period with given parameters.
+     */
+    private BacktestConfig createBacktestConfig(
             BacktestConfig baseConfig,
             LocalDate startDate,
             LocalDate endDate,
-            Map<String, Object> parameters) throws BacktestException {
+            Map<String, Object> parameters) {
 
-        BacktestConfig config = BacktestConfig.builder()
+        return BacktestConfig.builder()
                 .backtestId(UlidGenerator.generate())
                 .strategyId(baseConfig.getStrategyId())
                 .symbols(baseConfig.getSymbols())
@@ -299,9 +316,8 @@ public class WalkForwardAnalyzer {
                 .commission(baseConfig.getCommission())
                 .slippage(baseConfig.getSlippage())
                 .strategyParams(parameters)
+                .dataSourceConfig(baseConfig.getDataSourceConfig())
                 .build();
-
-        return backtestEngine.run(config);
     }
 
     /**
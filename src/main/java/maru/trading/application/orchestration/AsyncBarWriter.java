@@ -0,0 +1,236 @@
+package maru.trading.application.orchestration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import maru.trading.application.ports.repo.BarRepository;
+import maru.trading.domain.market.MarketBar;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind queue for closed bars.
+ *
+ * The tick thread only enqueues closed bars; a single writer thread drains
+ * the queue and persists them with {@link BarRepository#saveAll} in batches
+ * of up to {@code batchSize}, at least every {@code flushIntervalMs}.
+ * A minute-boundary burst (one bar per symbol and timeframe) therefore costs
+ * the tick thread one queue offer per bar.
+ *
+ * If the queue is full the bar is dropped (it is still in BarCache) and
+ * counted; a failed batch is retried bar by bar so one bad row cannot lose
+ * the rest of the batch. Remaining bars are flushed on shutdown.
+ *
+ * Metrics:
+ * - bars.writer.queue.depth - bars waiting to be written
+ * - bars.writer.flush - time to write one batch
+ * - bars.writer.batch.size - bars per batch
+ * - bars.writer.dropped - bars rejected because the queue was full
+ * - bars.writer.failed - bars that could not be written
+ *
+ * Disabled with trading.bars.writer.enabled=false; BarAggregator then saves
+ * closed bars synchronously on the tick thread.
+ */
+@Component
+@ConditionalOnProperty(name = "trading.bars.writer.enabled", havingValue = "true", matchIfMissing = true)
+public class AsyncBarWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncBarWriter.class);
+
+    private static final long FLUSH_WAIT_SECONDS = 5;
+
+    private final BarRepository barRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${trading.bars.writer.queueCapacity:100000}")
+    private int queueCapacity;
+
+    @Value("${trading.bars.writer.batchSize:500}")
+    private int batchSize;
+
+    @Value("${trading.bars.writer.flushIntervalMs:200}")
+    private long flushIntervalMs;
+
+    private BlockingQueue<MarketBar> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+    private final Object writeLock = new Object();
+
+    // Bars enqueued but not yet written (queued or in the batch being written)
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private Timer flushTimer;
+    private DistributionSummary batchSizeSummary;
+    private Counter droppedCounter;
+    private Counter failedCounter;
+
+    public AsyncBarWriter(BarRepository barRepository, MeterRegistry meterRegistry) {
+        this.barRepository = barRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        open();
+
+        running = true;
+        writerThread = new Thread(this::runWriter, "bar-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+
+        log.info("AsyncBarWriter started: queueCapacity={}, batchSize={}, flushIntervalMs={}",
+                queueCapacity, batchSize, flushIntervalMs);
+    }
+
+    /**
+     * Create the queue and meters without starting the writer thread;
+     * bars are then written only by {@link #flush()}.
+     */
+    void open() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("bars.writer.queue.depth", queue, BlockingQueue::size)
+                .description("Closed bars waiting to be written")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("bars.writer.flush")
+                .description("Time to write one batch of bars")
+                .register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("bars.writer.batch.size")
+                .description("Bars per write batch")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("bars.writer.dropped")
+                .description("Bars rejected because the write queue was full")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("bars.writer.failed")
+                .description("Bars that could not be written")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+        log.info("AsyncBarWriter stopped");
+    }
+
+    /**
+     * Queue a closed bar for persistence. Never blocks.
+     *
+     * @return false if the queue is full and the bar was dropped
+     */
+    public boolean enqueue(MarketBar bar) {
+        pending.incrementAndGet();
+        if (queue.offer(bar)) {
+            return true;
+        }
+        pending.decrementAndGet();
+        droppedCounter.increment();
+        log.error("Bar write queue full, dropping bar: symbol={}, timeframe={}, timestamp={}",
+                bar.getSymbol(), bar.getTimeframe(), bar.getBarTimestamp());
+        return false;
+    }
+
+    /**
+     * Write all queued bars on the calling thread and wait for the batch the
+     * writer thread is currently writing, so every bar enqueued before the
+     * call is persisted when it returns.
+     *
+     * @return Number of bars written by the calling thread
+     */
+    public int flush() {
+        int written = 0;
+        List<MarketBar> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            written += write(batch);
+            batch.clear();
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(FLUSH_WAIT_SECONDS);
+        while (pending.get() > 0 && System.nanoTime() < deadline) {
+            // Wait for the writer thread's in-flight batch
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return written;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private void runWriter() {
+        List<MarketBar> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                MarketBar first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Unexpected error in bar writer", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private int write(List<MarketBar> batch) {
+        synchronized (writeLock) {
+            long start = System.nanoTime();
+            try {
+                barRepository.saveAll(batch);
+                batchSizeSummary.record(batch.size());
+                log.debug("Wrote {} bars", batch.size());
+                return batch.size();
+            } catch (Exception e) {
+                log.warn("Batch write of {} bars failed, retrying individually: {}", batch.size(), e.getMessage());
+                return writeIndividually(batch);
+            } finally {
+                pending.addAndGet(-batch.size());
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private int writeIndividually(List<MarketBar> batch) {
+        int written = 0;
+        for (MarketBar bar : batch) {
+            try {
+                barRepository.save(bar);
+                written++;
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("Failed to write bar: {}", bar, e);
+            }
+        }
+        return written;
+    }
+}
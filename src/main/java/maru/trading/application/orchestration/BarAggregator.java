@@ -1,15 +1,22 @@
 package maru.trading.application.orchestration;
 
+import jakarta.annotation.PostConstruct;
 import maru.trading.application.ports.repo.BarRepository;
+import maru.trading.domain.market.BarResampler;
+import maru.trading.domain.market.IncrementalBarResampler;
 import maru.trading.domain.market.MarketBar;
 import maru.trading.domain.market.MarketTick;
 import maru.trading.infra.cache.BarCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -17,30 +24,91 @@ import java.util.concurrent.ConcurrentHashMap;
  * Bar aggregation orchestrator.
  *
  * Responsibilities:
- * 1. Convert incoming ticks to 1-minute bars
+ * 1. Convert incoming ticks to bars of each configured timeframe
+ *    (trading.bars.timeframes, default 1m)
  * 2. Maintain in-progress bars
  * 3. Close bars when time boundary is crossed
- * 4. Persist closed bars to database
+ * 4. Persist closed bars to database (write-behind via {@link AsyncBarWriter})
  * 5. Cache closed bars for strategy access
+ * 6. Derive higher timeframes (trading.bars.derivedTimeframes) from closed
+ *    1-minute bars; derived bars are cached only, the 1-minute bars remain
+ *    the single stored timeframe
+ * 7. Emit a {@link BarClosed} event on the {@link BarCloseBus} for every
+ *    closed and derived bar, once it is in the cache - except for bars
+ *    rebuilt by {@link #recoverTick(MarketTick)}
  *
- * Thread-safe for concurrent tick processing.
+ * Thread-safe for concurrent tick processing: all bars of a symbol are
+ * updated under one of a fixed set of striped locks, so ticks of the same
+ * symbol are applied one at a time while different symbols proceed in
+ * parallel. The tick thread never waits for the database.
  */
 @Service
 public class BarAggregator {
 
     private static final Logger log = LoggerFactory.getLogger(BarAggregator.class);
     private static final String DEFAULT_TIMEFRAME = "1m";
+    private static final int LOCK_STRIPES = 64;
 
     private final BarRepository barRepository;
     private final BarCache barCache;
 
+    // Null: closed bars are saved synchronously (writer disabled)
+    private final AsyncBarWriter barWriter;
+
+    private final BarCloseBus barCloseBus;
+
     // Key: "symbol:timeframe" (e.g., "005930:1m")
-    // Value: In-progress bar
+    // Value: In-progress bar, mutated only under the symbol's stripe lock
     private final Map<String, MarketBar> currentBars = new ConcurrentHashMap<>();
 
-    public BarAggregator(BarRepository barRepository, BarCache barCache) {
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    private final BarResampler barResampler = new BarResampler();
+
+    @Value("${trading.bars.timeframes:1m}")
+    private String timeframes;
+
+    @Value("${trading.bars.derivedTimeframes:}")
+    private String derivedTimeframes;
+
+    // Timeframes aggregated directly from ticks
+    private List<String> tickTimeframes = List.of(DEFAULT_TIMEFRAME);
+
+    // Null when no derived timeframe is configured
+    private IncrementalBarResampler derivedBarResampler;
+
+    @Autowired
+    public BarAggregator(BarRepository barRepository, BarCache barCache,
+                         @Autowired(required = false) AsyncBarWriter barWriter,
+                         BarCloseBus barCloseBus) {
         this.barRepository = barRepository;
         this.barCache = barCache;
+        this.barWriter = barWriter;
+        this.barCloseBus = barCloseBus;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        List<String> configured = BarResampler.parseTimeframes(timeframes);
+        if (!configured.isEmpty()) {
+            for (String timeframe : configured) {
+                if (BarResampler.minutesOf(timeframe) <= 0) {
+                    throw new IllegalArgumentException("Unsupported bar timeframe: " + timeframe);
+                }
+            }
+            tickTimeframes = configured;
+        }
+
+        List<String> derived = BarResampler.parseTimeframes(derivedTimeframes);
+        derived.removeAll(tickTimeframes);
+        if (!derived.isEmpty()) {
+            derivedBarResampler = new IncrementalBarResampler(barResampler, derived);
+        }
+        log.info("BarAggregator initialized: timeframes={}, derived={}, persistence={}",
+                tickTimeframes, derived, barWriter != null ? "async" : "sync");
     }
 
     /**
@@ -50,75 +118,139 @@ public class BarAggregator {
      * @param tick Market tick
      */
     public void onTick(MarketTick tick) {
+        process(tick, true);
+    }
+
+    /**
+     * Replay a tick during crash recovery.
+     *
+     * Bars are rebuilt, cached and persisted exactly as for {@link #onTick},
+     * but no {@link BarClosed} events are emitted: the bars closed before the
+     * restart and must not trigger strategies or alerts again.
+     *
+     * @param tick Journaled tick
+     */
+    public void recoverTick(MarketTick tick) {
+        process(tick, false);
+    }
+
+    private void process(MarketTick tick, boolean publish) {
         if (tick == null) {
             log.warn("Received null tick, ignoring");
             return;
         }
 
         try {
-            String key = createKey(tick.getSymbol(), DEFAULT_TIMEFRAME);
-
-            // Get or create current bar for this tick
-            MarketBar currentBar = currentBars.computeIfAbsent(key, k -> {
-                LocalDateTime barTimestamp = getBarTimestamp(tick.getTimestamp(), DEFAULT_TIMEFRAME);
-                MarketBar newBar = new MarketBar(tick.getSymbol(), DEFAULT_TIMEFRAME, barTimestamp);
-                log.debug("Created new bar: symbol={}, timestamp={}", tick.getSymbol(), barTimestamp);
-                return newBar;
-            });
-
-            // Check if tick belongs to current bar or a new bar period
-            LocalDateTime tickBarTimestamp = getBarTimestamp(tick.getTimestamp(), DEFAULT_TIMEFRAME);
-
-            if (shouldCloseCurrentBar(currentBar, tickBarTimestamp)) {
-                // Close and persist current bar
-                closeBar(currentBar);
-                currentBars.remove(key);
-
-                // Create new bar for this tick
-                currentBar = new MarketBar(tick.getSymbol(), DEFAULT_TIMEFRAME, tickBarTimestamp);
-                currentBars.put(key, currentBar);
-                log.debug("Started new bar: symbol={}, timestamp={}", tick.getSymbol(), tickBarTimestamp);
+            synchronized (lockFor(tick.getSymbol())) {
+                for (String timeframe : tickTimeframes) {
+                    aggregate(tick, timeframe, publish);
+                }
             }
+        } catch (Exception e) {
+            log.error("Error processing tick: {}", tick, e);
+        }
+    }
 
-            // Add tick to current bar
-            currentBar.addTick(tick);
+    /**
+     * Add a tick to the in-progress bar of one timeframe.
+     * Caller holds the symbol's stripe lock.
+     */
+    private void aggregate(MarketTick tick, String timeframe, boolean publish) {
+        String key = createKey(tick.getSymbol(), timeframe);
+        LocalDateTime tickBarTimestamp = getBarTimestamp(tick.getTimestamp(), timeframe);
 
-            log.trace("Added tick to bar: symbol={}, price={}, volume={}, barTimestamp={}",
-                    tick.getSymbol(), tick.getPrice(), tick.getVolume(), currentBar.getBarTimestamp());
+        MarketBar currentBar = currentBars.get(key);
+        if (currentBar != null && shouldCloseCurrentBar(currentBar, tickBarTimestamp)) {
+            // Close and persist current bar
+            closeBar(currentBar, publish);
+            currentBar = null;
+        }
 
-        } catch (Exception e) {
-            log.error("Error processing tick: {}", tick, e);
+        if (currentBar == null) {
+            currentBar = new MarketBar(tick.getSymbol(), timeframe, tickBarTimestamp);
+            currentBars.put(key, currentBar);
+            log.debug("Started new bar: symbol={}, timeframe={}, timestamp={}",
+                    tick.getSymbol(), timeframe, tickBarTimestamp);
         }
+
+        // Add tick to current bar
+        currentBar.addTick(tick);
+
+        log.trace("Added tick to bar: symbol={}, price={}, volume={}, barTimestamp={}",
+                tick.getSymbol(), tick.getPrice(), tick.getVolume(), currentBar.getBarTimestamp());
     }
 
     /**
-     * Force close all current bars.
+     * Force close all current bars and wait until they are written.
      * Useful for end-of-day processing or shutdown.
      */
     public void closeAllBars() {
         log.info("Closing all current bars: count={}", currentBars.size());
 
-        currentBars.values().forEach(this::closeBar);
-        currentBars.clear();
+        for (String key : new ArrayList<>(currentBars.keySet())) {
+            String symbol = key.substring(0, key.lastIndexOf(':'));
+            synchronized (lockFor(symbol)) {
+                MarketBar bar = currentBars.remove(key);
+                if (bar != null) {
+                    closeBar(bar, true);
+                }
+            }
+        }
+
+        if (derivedBarResampler != null) {
+            for (String symbol : derivedBarResampler.getPendingSymbols()) {
+                synchronized (lockFor(symbol)) {
+                    for (MarketBar derived : derivedBarResampler.flush(symbol)) {
+                        barCache.put(derived);
+                        publishClosed(derived);
+                    }
+                }
+            }
+        }
+
+        // Closed bars must be durable once this returns (end of day, shutdown)
+        if (barWriter != null) {
+            barWriter.flush();
+        }
     }
 
     /**
-     * Close a bar and persist it.
+     * Close a bar, cache it and hand it to the writer.
+     * Caller holds the symbol's stripe lock.
      *
-     * @param bar Bar to close
+     * @param bar     Bar to close
+     * @param publish Whether to emit bar close events
      */
-    private void closeBar(MarketBar bar) {
+    private void closeBar(MarketBar bar, boolean publish) {
         try {
             bar.close();
             bar.validate();
 
             // Persist to database
-            barRepository.save(bar);
+            if (barWriter != null) {
+                barWriter.enqueue(bar);
+            } else {
+                barRepository.save(bar);
+            }
 
             // Cache for fast access
             barCache.put(bar);
+            if (publish) {
+                publishClosed(bar);
+            }
 
-            log.info("Closed and persisted bar: symbol={}, timeframe={}, timestamp={}, O={}, H={}, L={}, C={}, V={}",
+            if (derivedBarResampler != null && DEFAULT_TIMEFRAME.equals(bar.getTimeframe())) {
+                for (MarketBar derived : derivedBarResampler.onBar(bar)) {
+                    barCache.put(derived);
+                    if (publish) {
+                        publishClosed(derived);
+                    }
+                    log.debug("Derived bar closed: symbol={}, timeframe={}, timestamp={}",
+                            derived.getSymbol(), derived.getTimeframe(), derived.getBarTimestamp());
+                }
+            }
+
+            log.debug("Closed bar: symbol={}, timeframe={}, timestamp={}, O={}, H={}, L={}, C={}, V={}",
                     bar.getSymbol(), bar.getTimeframe(), bar.getBarTimestamp(),
                     bar.getOpen(), bar.getHigh(), bar.getLow(), bar.getClose(), bar.getVolume());
 
@@ -127,6 +259,15 @@ public class BarAggregator {
         }
     }
 
+    /**
+     * Emit a bar close event; listeners run on this thread under the symbol's lock.
+     */
+    private void publishClosed(MarketBar bar) {
+        if (barCloseBus.hasListeners()) {
+            barCloseBus.publish(new BarClosed(bar, System.nanoTime()));
+        }
+    }
+
     /**
      * Determine if current bar should be closed based on tick timestamp.
      *
@@ -148,25 +289,22 @@ public class BarAggregator {
      * - 09:00:59 -> 09:00:00
      * - 09:01:00 -> 09:01:00
      *
+     * Other timeframes use session-anchored buckets (see {@link BarResampler}).
+     *
      * @param tickTimestamp Tick timestamp
      * @param timeframe Timeframe (e.g., "1m")
      * @return Bar timestamp (rounded down)
      */
     private LocalDateTime getBarTimestamp(LocalDateTime tickTimestamp, String timeframe) {
-        if ("1m".equals(timeframe)) {
-            return tickTimestamp.truncatedTo(ChronoUnit.MINUTES);
-        } else if ("5m".equals(timeframe)) {
-            int minute = tickTimestamp.getMinute();
-            int roundedMinute = (minute / 5) * 5;
-            return tickTimestamp.withMinute(roundedMinute)
-                    .withSecond(0)
-                    .withNano(0);
-        } else if ("1h".equals(timeframe)) {
-            return tickTimestamp.truncatedTo(ChronoUnit.HOURS);
-        } else {
-            // Default: 1-minute
-            return tickTimestamp.truncatedTo(ChronoUnit.MINUTES);
+        if (BarResampler.isDerivable(timeframe)) {
+            return barResampler.bucketStart(tickTimestamp, timeframe);
         }
+        // Default: 1-minute
+        return tickTimestamp.truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    private Object lockFor(String symbol) {
+        return locks[Math.floorMod(symbol.hashCode(), LOCK_STRIPES)];
     }
 
     private String createKey(String symbol, String timeframe) {
@@ -0,0 +1,59 @@
+package maru.trading.application.orchestration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Fan-out bus for {@link BarClosed} events.
+ *
+ * BarAggregator publishes every closed bar once; the bus delivers it
+ * synchronously to all listeners on the closing (tick) thread while the
+ * symbol's bar lock is held. Listeners must therefore return quickly and
+ * hand any real work (strategy evaluation, I/O) to their own executor.
+ */
+@Component
+public class BarCloseBus {
+
+    private static final Logger log = LoggerFactory.getLogger(BarCloseBus.class);
+
+    private final List<Consumer<BarClosed>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Subscribe to bar close events.
+     *
+     * @param listener Listener invoked for each closed bar
+     * @return Handle that removes this subscription when run
+     */
+    public Runnable subscribe(Consumer<BarClosed> listener) {
+        listeners.add(listener);
+        log.debug("Bar close listener added: listeners={}", listeners.size());
+        return () -> listeners.remove(listener);
+    }
+
+    /**
+     * Deliver a closed bar to every listener.
+     */
+    public void publish(BarClosed event) {
+        for (Consumer<BarClosed> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                log.warn("Bar close listener error for {}:{}: {}",
+                        event.symbol(), event.timeframe(), e.getMessage());
+            }
+        }
+    }
+
+    public boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    public int getListenerCount() {
+        return listeners.size();
+    }
+}
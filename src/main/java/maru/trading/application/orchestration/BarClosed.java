@@ -0,0 +1,21 @@
+package maru.trading.application.orchestration;
+
+import maru.trading.domain.market.MarketBar;
+
+/**
+ * Event emitted by {@link BarAggregator} for every closed bar, including
+ * bars derived from closed 1-minute bars.
+ *
+ * @param bar         Closed bar
+ * @param closedNanos {@link System#nanoTime()} when the bar was closed
+ */
+public record BarClosed(MarketBar bar, long closedNanos) {
+
+    public String symbol() {
+        return bar.getSymbol();
+    }
+
+    public String timeframe() {
+        return bar.getTimeframe();
+    }
+}
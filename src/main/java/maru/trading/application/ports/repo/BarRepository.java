@@ -3,7 +3,9 @@ package maru.trading.application.ports.repo;
 import maru.trading.domain.market.MarketBar;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -21,6 +23,14 @@ public interface BarRepository {
      */
     MarketBar save(MarketBar bar);
 
+    /**
+     * Save a batch of market bars in one round trip.
+     * A bar that already exists (same symbol, timeframe and timestamp) is overwritten.
+     *
+     * @param bars Market bars to save
+     */
+    void saveAll(List<MarketBar> bars);
+
     /**
      * Find bar by symbol, timeframe, and timestamp.
      *
@@ -43,6 +53,16 @@ public interface BarRepository {
      */
     List<MarketBar> findRecentClosedBars(String symbol, String timeframe, int count);
 
+    /**
+     * Find N most recent closed bars for each of several symbols in one round trip.
+     *
+     * @param symbols Symbols
+     * @param timeframe Timeframe
+     * @param count Number of bars to retrieve per symbol
+     * @return Bars (oldest first) by symbol; symbols without bars are absent
+     */
+    Map<String, List<MarketBar>> findRecentClosedBarsBySymbol(Collection<String> symbols, String timeframe, int count);
+
     /**
      * Find bars within a time range.
      *
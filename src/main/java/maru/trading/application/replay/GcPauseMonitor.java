@@ -0,0 +1,80 @@
+package maru.trading.application.replay;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects stop-the-world GC pauses while a replay runs.
+ *
+ * Listens to the JVM's GC notifications; cycles of concurrent collectors
+ * (e.g. "G1 Concurrent GC") run beside the application and are not counted.
+ */
+final class GcPauseMonitor implements NotificationListener, AutoCloseable {
+
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+
+    // Guarded by this
+    private long pauses;
+    private long totalMillis;
+    private long maxMillis;
+
+    GcPauseMonitor() {
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(this, null, null);
+                emitters.add(emitter);
+            }
+        }
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        if (info.getGcName().contains("Concurrent") || info.getGcName().contains("Cycles")) {
+            return;
+        }
+        long duration = info.getGcInfo().getDuration();
+        synchronized (this) {
+            pauses++;
+            totalMillis += duration;
+            maxMillis = Math.max(maxMillis, duration);
+        }
+    }
+
+    synchronized long getPauses() {
+        return pauses;
+    }
+
+    synchronized long getTotalMillis() {
+        return totalMillis;
+    }
+
+    synchronized long getMaxMillis() {
+        return maxMillis;
+    }
+
+    @Override
+    public void close() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(this);
+            } catch (ListenerNotFoundException ignored) {
+                // Already removed
+            }
+        }
+        emitters.clear();
+    }
+}
@@ -0,0 +1,252 @@
+package maru.trading.application.replay;
+
+import maru.trading.application.orchestration.BarAggregator;
+import maru.trading.application.orchestration.BarCloseBus;
+import maru.trading.application.orchestration.BarClosed;
+import maru.trading.application.orchestration.SignalProcessingResult;
+import maru.trading.application.orchestration.TradingWorkflow;
+import maru.trading.application.scheduler.StrategyBarCloseDispatcher;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlan.Target;
+import maru.trading.broker.kis.marketdata.MarketDataCollector;
+import maru.trading.broker.kis.marketdata.TickPipeline;
+import maru.trading.domain.market.MarketTick;
+import maru.trading.domain.signal.Signal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Pushes a recorded or generated tick stream through the live hot path and
+ * measures it:
+ *
+ * tick → {@link MarketDataCollector} (validation, journal, cache, {@link BarAggregator})
+ *      → {@link BarClosed} on the {@link BarCloseBus}
+ *      → {@link StrategyBarCloseDispatcher} evaluates the subscribed strategies
+ *      → {@link TradingWorkflow} (risk, order, broker) for every signal
+ *
+ * Ticks enter where the {@link TickPipeline} process stage hands them to the
+ * collector; KIS frames carry neither the trading date nor fractional
+ * prices, so a recorded stream cannot be re-encoded for the parser without
+ * losing its timestamps. Strategies are evaluated only by the dispatcher,
+ * exactly as live: the replayer subscribes to its evaluations and never
+ * evaluates itself, so every strategy×symbol subscribed in the execution
+ * plan is evaluated once per bar close. The dispatcher must be active
+ * (trading.scheduler.strategy.trigger=BAR_CLOSE).
+ *
+ * Ticks are replayed on the calling thread in stream order at the exchange
+ * pace scaled by {@link ReplayOptions#getSpeed()} (0 = no pacing); the run
+ * ends when the dispatcher has evaluated every bar close of the stream.
+ *
+ * Stages reported:
+ * - collect - MarketDataCollector.onTick, including bar close and persistence
+ * - close-to-decision - bar close ({@link BarClosed#closedNanos()}) to evaluation done,
+ *   including the wait for the evaluation pool
+ * - strategy - one strategy evaluation
+ * - workflow - one signal through risk checks to the broker
+ * - close-to-order - bar close to the order acknowledged
+ *
+ * The run places real orders through whatever {@code BrokerClient} the
+ * workflow uses: build the replayer in a context wired to
+ * {@link StubBrokerClient}, with the tick journal disabled when replaying
+ * from it.
+ */
+public class HotPathReplayer {
+
+    private static final Logger log = LoggerFactory.getLogger(HotPathReplayer.class);
+
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+
+    // Timeframe strategies are evaluated on by default; its bars of the stream's symbols are reported
+    private static final String BAR_TIMEFRAME = "1m";
+
+    private final MarketDataCollector collector;
+    private final BarAggregator barAggregator;
+    private final BarCloseBus barCloseBus;
+    private final StrategyBarCloseDispatcher dispatcher;
+    private final TradingWorkflow tradingWorkflow;
+
+    public HotPathReplayer(
+            MarketDataCollector collector,
+            BarAggregator barAggregator,
+            BarCloseBus barCloseBus,
+            StrategyBarCloseDispatcher dispatcher,
+            TradingWorkflow tradingWorkflow) {
+        this.collector = collector;
+        this.barAggregator = barAggregator;
+        this.barCloseBus = barCloseBus;
+        this.dispatcher = dispatcher;
+        this.tradingWorkflow = tradingWorkflow;
+    }
+
+    /**
+     * Replay a stream and report throughput, stage latencies and GC pauses.
+     *
+     * @throws IllegalStateException if bar-close dispatch is not active
+     */
+    public ReplayReport run(TickStream stream, ReplayOptions options) {
+        if (!dispatcher.isActive()) {
+            throw new IllegalStateException(
+                    "Bar-close strategy dispatch is not active (trading.scheduler.strategy.trigger=BAR_CLOSE)");
+        }
+
+        Run run = new Run(options);
+        Runnable unsubscribeBars = barCloseBus.subscribe(run::onBarClosed);
+        Runnable unsubscribeEvaluations = dispatcher.subscribeEvaluations(run::onEvaluated);
+        try (GcPauseMonitor gcMonitor = new GcPauseMonitor()) {
+            run.startNanos = System.nanoTime();
+            stream.replay((tick, recordedNanos) -> run.onTick(tick));
+            if (options.isCloseBarsAtEnd()) {
+                barAggregator.closeAllBars();
+            }
+            awaitEvaluations();
+            long elapsedNanos = System.nanoTime() - run.startNanos;
+
+            ReplayReport report;
+            synchronized (run) {
+                Map<String, ReplayReport.LatencyStats> stages = new LinkedHashMap<>();
+                stages.put("collect", run.collect.toStats());
+                stages.put("close-to-decision", run.closeToDecision.toStats());
+                stages.put("strategy", run.strategy.toStats());
+                stages.put("workflow", run.workflow.toStats());
+                stages.put("close-to-order", run.closeToOrder.toStats());
+
+                report = ReplayReport.builder()
+                        .speed(options.getSpeed())
+                        .ticks(run.ticks)
+                        .barsClosed(run.barsClosed)
+                        .evaluations(run.evaluations)
+                        .signals(run.signals)
+                        .orders(run.orders)
+                        .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                        .throughput(elapsedNanos > 0 ? run.ticks * 1e9 / elapsedNanos : 0)
+                        .stages(stages)
+                        .gcPauses(gcMonitor.getPauses())
+                        .gcPauseTotalMillis(gcMonitor.getTotalMillis())
+                        .gcPauseMaxMillis(gcMonitor.getMaxMillis())
+                        .build();
+            }
+            log.info("{}", report.toSummary());
+            return report;
+        } finally {
+            unsubscribeBars.run();
+            unsubscribeEvaluations.run();
+        }
+    }
+
+    private void awaitEvaluations() {
+        try {
+            if (!dispatcher.awaitIdle(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Replay: strategy evaluations still running after {}s, reporting what finished",
+                        DRAIN_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * State of one replay run. Ticks and bar closes arrive on the replay
+     * thread, evaluations on the dispatcher's; counters and recorders are
+     * guarded by the run.
+     */
+    private final class Run {
+
+        private final double speed;
+        private final Set<String> symbols = new HashSet<>();
+
+        private final LatencyRecorder collect = new LatencyRecorder();
+        private final LatencyRecorder closeToDecision = new LatencyRecorder();
+        private final LatencyRecorder strategy = new LatencyRecorder();
+        private final LatencyRecorder workflow = new LatencyRecorder();
+        private final LatencyRecorder closeToOrder = new LatencyRecorder();
+
+        private long startNanos;
+        private long firstTickNanos = Long.MIN_VALUE;
+        private long ticks;
+        private long barsClosed;
+        private long evaluations;
+        private long signals;
+        private long orders;
+
+        Run(ReplayOptions options) {
+            this.speed = options.getSpeed();
+        }
+
+        void onTick(MarketTick tick) {
+            pace(tick.getTimestamp());
+
+            long received = System.nanoTime();
+            collector.onTick(tick, received);
+            long collected = System.nanoTime() - received;
+            synchronized (this) {
+                collect.record(collected);
+                ticks++;
+                symbols.add(tick.getSymbol());
+            }
+        }
+
+        /**
+         * Bus listener, on the closing (replay) thread.
+         */
+        synchronized void onBarClosed(BarClosed event) {
+            if (BAR_TIMEFRAME.equals(event.timeframe()) && symbols.contains(event.symbol())) {
+                barsClosed++;
+            }
+        }
+
+        /**
+         * Dispatcher listener, on the evaluating thread.
+         */
+        void onEvaluated(BarClosed event, Target target, Signal signal, long evaluationNanos) {
+            long decided = System.nanoTime();
+            synchronized (this) {
+                closeToDecision.record(decided - event.closedNanos());
+                strategy.record(evaluationNanos);
+                evaluations++;
+                if (signal == null) {
+                    return;
+                }
+                signals++;
+            }
+
+            long workflowStart = System.nanoTime();
+            SignalProcessingResult result = tradingWorkflow.processSignal(signal);
+            long workflowEnd = System.nanoTime();
+            synchronized (this) {
+                workflow.record(workflowEnd - workflowStart);
+                if (result.isSuccess()) {
+                    orders++;
+                    closeToOrder.record(workflowEnd - event.closedNanos());
+                }
+            }
+        }
+
+        /**
+         * Wait until the tick is due at the configured speed.
+         */
+        private void pace(LocalDateTime exchangeTime) {
+            if (speed <= 0) {
+                return;
+            }
+            long tickNanos = TimeUnit.SECONDS.toNanos(exchangeTime.toEpochSecond(ZoneOffset.UTC))
+                    + exchangeTime.getNano();
+            if (firstTickNanos == Long.MIN_VALUE) {
+                firstTickNanos = tickNanos;
+            }
+            long due = startNanos + (long) ((tickNanos - firstTickNanos) / speed);
+            long wait;
+            while ((wait = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(Math.min(wait, MAX_PARK_NANOS));
+            }
+        }
+    }
+}
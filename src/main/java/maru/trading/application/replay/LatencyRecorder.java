@@ -0,0 +1,44 @@
+package maru.trading.application.replay;
+
+import java.util.Arrays;
+
+/**
+ * Records every sample of one stage so percentiles are exact, not bucketed.
+ * Not thread-safe; callers synchronize.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+
+    void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    ReplayReport.LatencyStats toStats() {
+        if (count == 0) {
+            return ReplayReport.LatencyStats.builder().build();
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return ReplayReport.LatencyStats.builder()
+                .count(count)
+                .p50Micros(percentile(sorted, 0.50))
+                .p90Micros(percentile(sorted, 0.90))
+                .p99Micros(percentile(sorted, 0.99))
+                .p999Micros(percentile(sorted, 0.999))
+                .maxMicros(sorted[count - 1] / 1_000.0)
+                .build();
+    }
+
+    /**
+     * Nearest-rank percentile in microseconds.
+     */
+    private static double percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000.0;
+    }
+}
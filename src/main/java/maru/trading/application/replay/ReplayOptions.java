@@ -0,0 +1,24 @@
+package maru.trading.application.replay;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Settings of a {@link HotPathReplayer} run.
+ */
+@Getter
+@Builder
+public class ReplayOptions {
+
+    /**
+     * Replay speed: 1 = exchange time, N = N times faster, 0 = as fast as possible.
+     */
+    @Builder.Default
+    private final double speed = 0;
+
+    /**
+     * Close all in-progress bars at the end of the stream.
+     */
+    @Builder.Default
+    private final boolean closeBarsAtEnd = true;
+}
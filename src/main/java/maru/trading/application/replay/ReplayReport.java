@@ -0,0 +1,67 @@
+package maru.trading.application.replay;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Outcome of a {@link HotPathReplayer} run.
+ */
+@Getter
+@Builder
+public class ReplayReport {
+
+    private final double speed;
+    private final long ticks;
+    private final long barsClosed;
+    private final long evaluations;
+    private final long signals;
+    private final long orders;
+    private final long elapsedMillis;
+
+    /**
+     * Ticks per second of wall time.
+     */
+    private final double throughput;
+
+    /**
+     * Latency per stage (collect, close-to-decision, strategy, workflow, close-to-order).
+     */
+    private final Map<String, LatencyStats> stages;
+
+    private final long gcPauses;
+    private final long gcPauseTotalMillis;
+    private final long gcPauseMaxMillis;
+
+    /**
+     * Latency distribution of one stage.
+     */
+    @Getter
+    @Builder
+    public static class LatencyStats {
+        private final long count;
+        private final double p50Micros;
+        private final double p90Micros;
+        private final double p99Micros;
+        private final double p999Micros;
+        private final double maxMicros;
+    }
+
+    /**
+     * Multi-line human-readable summary.
+     */
+    public String toSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("Replay: speed=%s, ticks=%d, bars=%d, evaluations=%d, signals=%d, orders=%d%n",
+                speed > 0 ? speed + "x" : "max", ticks, barsClosed, evaluations, signals, orders));
+        summary.append(String.format("  elapsed=%dms, throughput=%.0f ticks/s%n", elapsedMillis, throughput));
+        stages.forEach((stage, stats) -> summary.append(String.format(
+                "  %-14s n=%-7d p50=%8.1fus p90=%8.1fus p99=%8.1fus p99.9=%8.1fus max=%8.1fus%n",
+                stage, stats.getCount(), stats.getP50Micros(), stats.getP90Micros(), stats.getP99Micros(),
+                stats.getP999Micros(), stats.getMaxMicros())));
+        summary.append(String.format("  gc: pauses=%d, total=%dms, max=%dms",
+                gcPauses, gcPauseTotalMillis, gcPauseMaxMillis));
+        return summary.toString();
+    }
+}
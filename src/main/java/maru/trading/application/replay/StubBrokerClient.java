@@ -0,0 +1,71 @@
+package maru.trading.application.replay;
+
+import maru.trading.application.ports.broker.BrokerAck;
+import maru.trading.application.ports.broker.BrokerClient;
+import maru.trading.application.ports.broker.BrokerOrderStatus;
+import maru.trading.application.ports.broker.BrokerResult;
+import maru.trading.domain.order.Order;
+import maru.trading.domain.order.OrderStatus;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Broker stand-in for replays: accepts every order after a fixed simulated
+ * round trip, never touches the network.
+ */
+public class StubBrokerClient implements BrokerClient {
+
+    private final long ackLatencyNanos;
+    private final AtomicLong ordersPlaced = new AtomicLong();
+
+    public StubBrokerClient() {
+        this(0);
+    }
+
+    /**
+     * @param ackLatencyNanos Simulated broker round trip per request
+     */
+    public StubBrokerClient(long ackLatencyNanos) {
+        this.ackLatencyNanos = ackLatencyNanos;
+    }
+
+    @Override
+    public BrokerAck placeOrder(Order order) {
+        simulateRoundTrip();
+        return BrokerAck.success("STUB-" + ordersPlaced.incrementAndGet());
+    }
+
+    @Override
+    public BrokerResult cancelOrder(String orderId) {
+        simulateRoundTrip();
+        return BrokerResult.success("Cancelled");
+    }
+
+    @Override
+    public BrokerResult modifyOrder(String orderId, BigDecimal newQty, BigDecimal newPrice) {
+        simulateRoundTrip();
+        return BrokerResult.success("Modified");
+    }
+
+    @Override
+    public BrokerOrderStatus getOrderStatus(String brokerOrderNo) {
+        simulateRoundTrip();
+        return BrokerOrderStatus.builder()
+                .brokerOrderNo(brokerOrderNo)
+                .status(OrderStatus.SENT)
+                .filledQty(BigDecimal.ZERO)
+                .build();
+    }
+
+    public long getOrdersPlaced() {
+        return ordersPlaced.get();
+    }
+
+    private void simulateRoundTrip() {
+        if (ackLatencyNanos > 0) {
+            LockSupport.parkNanos(ackLatencyNanos);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package maru.trading.application.replay;
+
+import lombok.Builder;
+import maru.trading.domain.market.MarketTick;
+import maru.trading.infra.journal.TickJournalReader;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generated tick stream shaped like a market open.
+ *
+ * Every symbol random-walks from {@code startPrice} in steps of {@code tickSize}.
+ * The tick rate starts at {@code baseRate x burstMultiplier} and decays linearly
+ * to {@code baseRate} over the first {@code burstSeconds}, mimicking the
+ * opening-auction burst. Ticks of a second are spread evenly over the second
+ * and interleaved across symbols. The same seed always yields the same stream.
+ */
+public class SyntheticTickStream implements TickStream {
+
+    private final List<String> symbols;
+    private final LocalDateTime start;
+    private final int durationSeconds;
+    private final int baseRate;
+    private final int burstMultiplier;
+    private final int burstSeconds;
+    private final long startPrice;
+    private final long tickSize;
+    private final long seed;
+
+    /**
+     * @param symbols         Symbols to generate (required)
+     * @param start           Exchange time of the first tick (default: yesterday 09:00)
+     * @param durationSeconds Length of the stream (default 600)
+     * @param baseRate        Ticks per second per symbol after the burst (default 5)
+     * @param burstMultiplier Rate multiplier at the open (default 10)
+     * @param burstSeconds    Length of the opening burst (default 60)
+     * @param startPrice      First price of every symbol (default 70000)
+     * @param tickSize        Price step (default 100)
+     * @param seed            Random seed (default 42)
+     */
+    @Builder
+    public SyntheticTickStream(List<String> symbols, LocalDateTime start, Integer durationSeconds,
+                               Integer baseRate, Integer burstMultiplier, Integer burstSeconds,
+                               Long startPrice, Long tickSize, Long seed) {
+        if (symbols == null || symbols.isEmpty()) {
+            throw new IllegalArgumentException("At least one symbol is required");
+        }
+        this.symbols = List.copyOf(symbols);
+        this.start = start != null ? start : LocalDateTime.now().toLocalDate().minusDays(1).atTime(9, 0);
+        this.durationSeconds = durationSeconds != null ? durationSeconds : 600;
+        this.baseRate = baseRate != null ? baseRate : 5;
+        this.burstMultiplier = burstMultiplier != null ? burstMultiplier : 10;
+        this.burstSeconds = burstSeconds != null ? burstSeconds : 60;
+        this.startPrice = startPrice != null ? startPrice : 70_000L;
+        this.tickSize = tickSize != null ? tickSize : 100L;
+        this.seed = seed != null ? seed : 42L;
+    }
+
+    /**
+     * Ticks per symbol generated in a given second of the stream.
+     */
+    int ratePerSymbol(int second) {
+        if (second >= burstSeconds || burstMultiplier <= 1) {
+            return baseRate;
+        }
+        double remaining = (double) (burstSeconds - second) / burstSeconds;
+        return (int) Math.round(baseRate * (1 + (burstMultiplier - 1) * remaining));
+    }
+
+    /**
+     * Total number of ticks in the stream.
+     */
+    public long size() {
+        long total = 0;
+        for (int second = 0; second < durationSeconds; second++) {
+            total += (long) ratePerSymbol(second) * symbols.size();
+        }
+        return total;
+    }
+
+    @Override
+    public long replay(TickJournalReader.TickVisitor visitor) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] prices = new long[symbols.size()];
+        Arrays.fill(prices, startPrice);
+
+        long count = 0;
+        for (int second = 0; second < durationSeconds; second++) {
+            int rate = ratePerSymbol(second);
+            int ticksInSecond = rate * symbols.size();
+            if (ticksInSecond == 0) {
+                continue;
+            }
+            long spacingNanos = 1_000_000_000L / ticksInSecond;
+            LocalDateTime secondStart = start.plusSeconds(second);
+            for (int i = 0; i < ticksInSecond; i++) {
+                int s = i % symbols.size();
+                prices[s] = Math.max(tickSize, prices[s] + (random.nextInt(3) - 1) * tickSize);
+                MarketTick tick = new MarketTick(symbols.get(s), BigDecimal.valueOf(prices[s]),
+                        1 + random.nextInt(100), secondStart.plusNanos(spacingNanos * i), "NORMAL");
+                visitor.onTick(tick, 0L);
+                count++;
+            }
+        }
+        return count;
+    }
+}
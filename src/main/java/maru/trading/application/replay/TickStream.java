@@ -0,0 +1,26 @@
+package maru.trading.application.replay;
+
+import maru.trading.infra.journal.TickJournalReader;
+
+import java.time.LocalDate;
+
+/**
+ * Source of ticks for {@link HotPathReplayer}, delivered in exchange-time order.
+ */
+@FunctionalInterface
+public interface TickStream {
+
+    /**
+     * Push every tick to the visitor.
+     *
+     * @return Number of ticks delivered
+     */
+    long replay(TickJournalReader.TickVisitor visitor);
+
+    /**
+     * Ticks recorded by the tick journal (inclusive date range).
+     */
+    static TickStream fromJournal(TickJournalReader reader, LocalDate from, LocalDate to) {
+        return visitor -> reader.read(from, to, visitor);
+    }
+}
@@ -0,0 +1,149 @@
+package maru.trading.application.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel (Varghese &amp; Lauck).
+ *
+ * Level 0 has {@code wheelSize} slots of one tick each; every higher level
+ * has the same number of slots, each as long as a full turn of the level
+ * below. An item is put in the lowest level whose turn covers its delay, in
+ * O(1). When a lower level wraps, the next slot of the level above is
+ * cascaded down, so each item is moved at most once per level before it
+ * fires. Delays beyond the top level's turn are parked in its furthest slot
+ * and re-placed when that slot comes round.
+ *
+ * The wheel is passive: {@link #advance(long)} moves it to the given time
+ * and returns the due items. Cancellation is left to the items (e.g. a
+ * cancelled flag checked when they fire).
+ *
+ * Thread-safe.
+ *
+ * @param <T> Scheduled item
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final int levels;
+    private final long[] ticksPerSlot;
+    private final List<ArrayDeque<Entry<T>>[]> wheels = new ArrayList<>();
+
+    private long currentTick;
+    private int size;
+
+    private record Entry<T>(long deadlineTick, T item) {
+    }
+
+    /**
+     * @param tickMillis Resolution of level 0
+     * @param wheelSize  Slots per level
+     * @param levels     Number of levels
+     * @param startMillis Current time
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis < 1 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("Invalid timing wheel: tickMillis=" + tickMillis
+                    + ", wheelSize=" + wheelSize + ", levels=" + levels);
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levels = levels;
+        this.ticksPerSlot = new long[levels];
+        long ticks = 1;
+        for (int level = 0; level < levels; level++) {
+            ticksPerSlot[level] = ticks;
+            ArrayDeque<Entry<T>>[] slots = new ArrayDeque[wheelSize];
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots[slot] = new ArrayDeque<>();
+            }
+            wheels.add(slots);
+            ticks = Math.multiplyExact(ticks, wheelSize);
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedule an item.
+     *
+     * @param deadlineMillis When the item is due; it fires on the first tick at or after it,
+     *                       past deadlines on the next tick
+     */
+    public synchronized void schedule(long deadlineMillis, T item) {
+        long deadlineTick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        place(new Entry<>(deadlineTick, item));
+        size++;
+    }
+
+    /**
+     * Advance the wheel to the given time.
+     *
+     * @return Items due by then, in deadline order across ticks; never one whose deadline is later
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> due = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade(1);
+            ArrayDeque<Entry<T>> slot = wheels.get(0)[(int) (currentTick % wheelSize)];
+            Entry<T> entry;
+            while ((entry = slot.poll()) != null) {
+                due.add(entry.item());
+            }
+        }
+        size -= due.size();
+        return due;
+    }
+
+    /**
+     * Number of scheduled items not yet returned by {@link #advance(long)}.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Longest delay placed exactly; longer ones are re-placed on the way.
+     */
+    public long getSpanMillis() {
+        return ticksPerSlot[levels - 1] * wheelSize * tickMillis;
+    }
+
+    /**
+     * Move the current slot of a level down when every level below has wrapped.
+     */
+    private void cascade(int level) {
+        if (level >= levels || currentTick % ticksPerSlot[level] != 0) {
+            return;
+        }
+        // Higher levels first, so their items land in this level's slot before it is emptied
+        cascade(level + 1);
+        ArrayDeque<Entry<T>> slot = wheels.get(level)[(int) ((currentTick / ticksPerSlot[level]) % wheelSize)];
+        int moved = slot.size();
+        for (int i = 0; i < moved; i++) {
+            place(slot.poll());
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delay = entry.deadlineTick() - currentTick;
+        for (int level = 0; level < levels; level++) {
+            if (delay < ticksPerSlot[level] * wheelSize) {
+                wheels.get(level)[(int) ((entry.deadlineTick() / ticksPerSlot[level]) % wheelSize)].add(entry);
+                return;
+            }
+        }
+        // Beyond the top level: park in its furthest slot and re-place when it comes round
+        int top = levels - 1;
+        long parkTick = currentTick + ticksPerSlot[top] * (wheelSize - 1);
+        wheels.get(top)[(int) ((parkTick / ticksPerSlot[top]) % wheelSize)].add(entry);
+    }
+}
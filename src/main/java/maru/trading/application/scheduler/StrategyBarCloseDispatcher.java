@@ -0,0 +1,289 @@
+package maru.trading.application.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import maru.trading.application.orchestration.BarCloseBus;
+import maru.trading.application.orchestration.BarClosed;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlan;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlan.Target;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlanner;
+import maru.trading.domain.signal.Signal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Event-driven strategy execution.
+ *
+ * Listens for {@link BarClosed} events and immediately evaluates the
+ * strategy×symbol targets subscribed to the bar's symbol and timeframe,
+ * instead of waiting for the next cron tick. Targets come from the
+ * in-memory execution plan of {@link StrategyExecutionPlanner}: a strategy
+ * subscribes to the timeframe of its bar-close cadence (1m by default, see
+ * {@link maru.trading.domain.strategy.StrategyCadence}); timeframes other
+ * than 1m must be produced by the bar aggregator (trading.bars.timeframes
+ * or trading.bars.derivedTimeframes), otherwise the planner falls back to
+ * 1m. Strategies on timed cadences are
+ * left to {@link StrategyCadenceScheduler}.
+ *
+ * The bus calls {@link #onBarClosed(BarClosed)} on the tick thread, so the
+ * targets are handed to {@link StrategyScheduler#dispatch(List, StrategyScheduler.PairListener)},
+ * like {@link StrategyCadenceScheduler} does: they run on the scheduler's
+ * evaluation pool in per-account lanes, under its circuit breaker (demoted
+ * strategies are evaluated on fewer bar closes, suspended ones not at
+ * all), in-flight guard (a strategy×symbol still evaluating the previous
+ * bar is skipped) and run deadline. Active only with
+ * trading.scheduler.strategy.trigger=BAR_CLOSE, and honours the
+ * scheduler's runtime enable/disable switch.
+ *
+ * Subscribes once the application is ready, after the startup warm-up
+ * ({@link StrategyWarmUpRunner}) has filled the bar cache and strategy
+ * state, so the first bar closes do not all fall back to the database.
+ *
+ * Listeners registered with {@link #subscribeEvaluations} see the outcome
+ * of every evaluation (the hot path replayer measures and routes signals
+ * from there); {@link #awaitIdle} waits for dispatched bar closes to finish.
+ *
+ * Metrics:
+ * - strategy.barclose.latency - bar close to evaluation done (tag signal=true|false)
+ * - strategy.barclose.rejected - targets rejected by the evaluation pool or not started by the deadline
+ */
+@Service
+@ConditionalOnProperty(
+        name = "trading.scheduler.strategy.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class StrategyBarCloseDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(StrategyBarCloseDispatcher.class);
+
+    private final BarCloseBus barCloseBus;
+    private final StrategyScheduler strategyScheduler;
+    private final StrategyExecutionPlanner executionPlanner;
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean active;
+    private Runnable unsubscribe;
+
+    private final List<EvaluationListener> evaluationListeners = new CopyOnWriteArrayList<>();
+
+    // Targets dispatched and not yet evaluated or skipped; notified when it drops to zero
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong evaluations = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    private Timer signalLatency;
+    private Timer holdLatency;
+    private Counter rejectedCounter;
+
+    public StrategyBarCloseDispatcher(
+            BarCloseBus barCloseBus,
+            StrategyScheduler strategyScheduler,
+            StrategyExecutionPlanner executionPlanner,
+            MeterRegistry meterRegistry) {
+        this.barCloseBus = barCloseBus;
+        this.strategyScheduler = strategyScheduler;
+        this.executionPlanner = executionPlanner;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Dispatcher state for admin visibility.
+     *
+     * @param dispatched Bar closes whose targets were handed to the evaluation pool
+     * @param rejected   Targets rejected by the pool or not started by the deadline
+     * @param skipped    Targets skipped by the circuit breaker or because still running
+     */
+    public record DispatcherStatus(boolean active, int subscriptions, long dispatched,
+                                   long evaluations, long rejected, long skipped) {
+    }
+
+    /**
+     * Receives the outcome of each bar-close evaluation, on the evaluating thread.
+     */
+    @FunctionalInterface
+    public interface EvaluationListener {
+
+        /**
+         * @param event           Bar close that triggered the evaluation
+         * @param target          Strategy×symbol evaluated
+         * @param signal          Signal produced, or null
+         * @param evaluationNanos Time spent in the evaluation
+         */
+        void onEvaluated(BarClosed event, Target target, Signal signal, long evaluationNanos);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (strategyScheduler.getTrigger() != StrategyScheduler.Trigger.BAR_CLOSE) {
+            log.info("StrategyBarCloseDispatcher inactive: trigger={}", strategyScheduler.getTrigger());
+            return;
+        }
+
+        signalLatency = latencyTimer("true");
+        holdLatency = latencyTimer("false");
+        rejectedCounter = Counter.builder("strategy.barclose.rejected")
+                .description("Bar-close targets rejected by the evaluation pool or not started by the deadline")
+                .register(meterRegistry);
+
+        // Build the plan here so the first bar close does not wait for it
+        try {
+            executionPlanner.current();
+        } catch (Exception e) {
+            log.error("Strategy execution plan not available yet; bar closes are skipped until it is", e);
+        }
+        unsubscribe = barCloseBus.subscribe(this::onBarClosed);
+        active = true;
+        log.info("StrategyBarCloseDispatcher started: subscriptions={}", getSubscriptionCount());
+    }
+
+    @PreDestroy
+    public void stop() {
+        active = false;
+        if (unsubscribe != null) {
+            unsubscribe.run();
+        }
+    }
+
+    /**
+     * Bus listener, called on the tick thread under the symbol's bar lock.
+     */
+    void onBarClosed(BarClosed event) {
+        if (!strategyScheduler.isEnabled()) {
+            return;
+        }
+        // Never rebuilds here; an invalidated plan is rebuilt by the planner's change check
+        StrategyExecutionPlan plan = executionPlanner.peek();
+        List<Target> targets = plan != null ? plan.getBarCloseTargets(event.symbol(), event.timeframe()) : List.of();
+        if (targets.isEmpty()) {
+            return;
+        }
+        pending.addAndGet(targets.size());
+        int handed = strategyScheduler.dispatch(targets,
+                (target, outcome, signal, durationNanos) -> onDone(event, target, outcome, signal, durationNanos));
+        if (handed > 0) {
+            dispatched.incrementAndGet();
+        }
+        int dropped = targets.size() - handed;
+        if (dropped > 0) {
+            rejected.addAndGet(dropped);
+            rejectedCounter.increment(dropped);
+            log.warn("Evaluation pool rejected {} bar-close targets: symbol={}, timeframe={}, bar={}",
+                    dropped, event.symbol(), event.timeframe(), event.bar().getBarTimestamp());
+            done(dropped);
+        }
+    }
+
+    private void onDone(BarClosed event, Target target, StrategyScheduler.PairOutcome outcome,
+                        Signal signal, long durationNanos) {
+        try {
+            switch (outcome) {
+                case SIGNAL, NO_SIGNAL, ERROR -> {
+                    evaluations.incrementAndGet();
+                    (signal != null ? signalLatency : holdLatency)
+                            .record(System.nanoTime() - event.closedNanos(), TimeUnit.NANOSECONDS);
+                    notifyEvaluated(event, target, signal, durationNanos);
+                }
+                case DEADLINE_MISSED -> {
+                    rejected.incrementAndGet();
+                    rejectedCounter.increment();
+                }
+                default -> skipped.incrementAndGet();
+            }
+        } finally {
+            done(1);
+        }
+    }
+
+    private void notifyEvaluated(BarClosed event, Target target, Signal signal, long evaluationNanos) {
+        for (EvaluationListener listener : evaluationListeners) {
+            try {
+                listener.onEvaluated(event, target, signal, evaluationNanos);
+            } catch (Exception e) {
+                log.warn("Evaluation listener error for strategy {} on {}: {}",
+                        target.strategyId(), target.symbol(), e.getMessage());
+            }
+        }
+    }
+
+    private void done(int targets) {
+        if (pending.addAndGet(-targets) == 0) {
+            synchronized (pending) {
+                pending.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Subscribe to the outcome of every bar-close evaluation.
+     *
+     * @return Handle that removes this subscription when run
+     */
+    public Runnable subscribeEvaluations(EvaluationListener listener) {
+        evaluationListeners.add(listener);
+        return () -> evaluationListeners.remove(listener);
+    }
+
+    /**
+     * Wait until every target dispatched so far has been evaluated or skipped.
+     *
+     * @return false if evaluations were still running when the timeout passed
+     */
+    public boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (pending) {
+            while (pending.get() > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(pending, remaining);
+            }
+        }
+        return true;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public DispatcherStatus getStatus() {
+        return new DispatcherStatus(active, getSubscriptionCount(),
+                dispatched.get(), evaluations.get(), rejected.get(), skipped.get());
+    }
+
+    /**
+     * Targets evaluated when a bar of the symbol and timeframe closes.
+     */
+    public List<Target> getSubscriptions(String symbol, String timeframe) {
+        StrategyExecutionPlan plan = executionPlanner.peek();
+        return plan != null ? plan.getBarCloseTargets(symbol, timeframe) : List.of();
+    }
+
+    private int getSubscriptionCount() {
+        StrategyExecutionPlan plan = executionPlanner.peek();
+        return plan != null ? plan.getBarCloseTargetCount() : 0;
+    }
+
+    private Timer latencyTimer(String signal) {
+        return Timer.builder("strategy.barclose.latency")
+                .description("Bar close to strategy evaluation done")
+                .tag("signal", signal)
+                .register(meterRegistry);
+    }
+}
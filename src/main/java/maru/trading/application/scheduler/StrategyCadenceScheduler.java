@@ -0,0 +1,307 @@
+package maru.trading.application.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlan;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlan.CompiledStrategy;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlanner;
+import maru.trading.domain.market.MarketHoursPolicy;
+import maru.trading.domain.market.TradingSession;
+import maru.trading.domain.strategy.StrategyCadence;
+import maru.trading.infra.config.MarketHoursConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fires strategies on timed cadences.
+ *
+ * Strategies whose version declares an interval or session cadence (see
+ * {@link StrategyCadence}) are kept on a {@link HierarchicalTimingWheel}:
+ * every trading.scheduler.strategy.cadence.tickMs the wheel is advanced and
+ * the due strategies' targets are handed to
+ * {@link StrategyScheduler#dispatch(List)}, then rescheduled for their next
+ * time. Scheduling and cancelling a strategy are O(1) regardless of how
+ * many are waiting.
+ *
+ * Each strategy fires at a stable offset after its nominal time, derived
+ * from its id and spread over trading.scheduler.strategy.cadence.jitterMs
+ * (at most half the interval), so strategies sharing a cadence do not all
+ * query the database and the broker at :00 while each keeps its period.
+ *
+ * Jobs follow the execution plan: when its generation changes, strategies
+ * that left or changed cadence are cancelled and new ones scheduled.
+ * Interval cadences only fire in trading.market.allowedSessions; sessions
+ * and public holidays come from {@link MarketHoursConfig}. Active only with
+ * trading.scheduler.strategy.trigger=BAR_CLOSE (bar-close cadences are
+ * evaluated by {@link StrategyBarCloseDispatcher}). Like the dispatcher it
+ * starts once the application is ready, after the startup warm-up
+ * ({@link StrategyWarmUpRunner}).
+ *
+ * Metrics:
+ * - strategy.cadence.fired - timed cadences fired
+ * - strategy.cadence.jobs - strategies on timed cadences
+ */
+@Service
+@ConditionalOnProperty(
+        name = "trading.scheduler.strategy.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class StrategyCadenceScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(StrategyCadenceScheduler.class);
+
+    static final int WHEEL_SIZE = 64;
+    static final int WHEEL_LEVELS = 4;
+
+    private final StrategyScheduler strategyScheduler;
+    private final StrategyExecutionPlanner executionPlanner;
+    private final MarketHoursConfig marketHoursConfig;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final MarketHoursPolicy marketHoursPolicy = new MarketHoursPolicy();
+
+    @Value("${trading.scheduler.strategy.cadence.tickMs:100}")
+    private long tickMillis;
+
+    @Value("${trading.scheduler.strategy.cadence.jitterMs:5000}")
+    private long jitterMillis;
+
+    // Guarded by this
+    private HierarchicalTimingWheel<Job> wheel;
+    private final Map<String, Job> jobs = new HashMap<>();
+    private long planGeneration = -1;
+
+    private ScheduledExecutorService ticker;
+    private final AtomicLong fired = new AtomicLong();
+    private final AtomicLong dispatched = new AtomicLong();
+    private Counter firedCounter;
+
+    /**
+     * A strategy on a timed cadence.
+     */
+    private static final class Job {
+        final String strategyId;
+        final StrategyCadence cadence;
+        final long offsetMillis;
+        LocalDateTime nominalTime;
+        volatile boolean cancelled;
+
+        Job(String strategyId, StrategyCadence cadence, long offsetMillis) {
+            this.strategyId = strategyId;
+            this.cadence = cadence;
+            this.offsetMillis = offsetMillis;
+        }
+    }
+
+    /**
+     * Next firing of a strategy.
+     *
+     * @param nominalTime Time the cadence is due
+     * @param fireTime    Nominal time plus the strategy's offset
+     */
+    public record JobStatus(String strategyId, String cadence, LocalDateTime nominalTime, LocalDateTime fireTime) {
+    }
+
+    /**
+     * Cadence scheduler state for admin visibility.
+     */
+    public record CadenceStatus(boolean active, List<JobStatus> jobs, long fired, long dispatched) {
+    }
+
+    @Autowired
+    public StrategyCadenceScheduler(
+            StrategyScheduler strategyScheduler,
+            StrategyExecutionPlanner executionPlanner,
+            MarketHoursConfig marketHoursConfig,
+            MeterRegistry meterRegistry,
+            Clock clock) {
+        this.strategyScheduler = strategyScheduler;
+        this.executionPlanner = executionPlanner;
+        this.marketHoursConfig = marketHoursConfig;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (strategyScheduler.getTrigger() != StrategyScheduler.Trigger.BAR_CLOSE) {
+            log.info("StrategyCadenceScheduler inactive: trigger={}", strategyScheduler.getTrigger());
+            return;
+        }
+        init();
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "strategy-cadence");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("StrategyCadenceScheduler started: tick={}ms, jitter={}ms, span={}h",
+                tickMillis, jitterMillis, wheel.getSpanMillis() / 3_600_000);
+    }
+
+    /**
+     * Create the wheel and metrics without starting the ticker.
+     */
+    synchronized void init() {
+        wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_SIZE, WHEEL_LEVELS, clock.millis());
+        if (firedCounter == null) {
+            firedCounter = Counter.builder("strategy.cadence.fired")
+                    .description("Timed strategy cadences fired")
+                    .register(meterRegistry);
+            Gauge.builder("strategy.cadence.jobs", this, scheduler -> scheduler.getJobCount())
+                    .description("Strategies on timed cadences")
+                    .register(meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * Ticker body: follow plan changes, then fire due strategies.
+     */
+    void tick() {
+        try {
+            long nowMillis = clock.millis();
+            List<Job> due;
+            synchronized (this) {
+                syncWithPlan(nowMillis);
+                due = wheel.advance(nowMillis);
+                for (Job job : due) {
+                    if (!job.cancelled) {
+                        schedule(job, job.nominalTime, nowMillis);
+                    }
+                }
+            }
+            for (Job job : due) {
+                if (!job.cancelled) {
+                    fire(job);
+                }
+            }
+        } catch (Exception e) {
+            // Keep the ticker alive; a failed tick is retried on the next one
+            log.error("Strategy cadence tick failed", e);
+        }
+    }
+
+    private void fire(Job job) {
+        fired.incrementAndGet();
+        firedCounter.increment();
+        StrategyExecutionPlan plan = executionPlanner.peek();
+        CompiledStrategy compiled = plan != null ? plan.find(job.strategyId) : null;
+        if (compiled == null) {
+            return;
+        }
+        log.debug("Strategy {} due on cadence {}", job.strategyId, job.cadence);
+        dispatched.addAndGet(strategyScheduler.dispatch(compiled.targets()));
+    }
+
+    private void syncWithPlan(long nowMillis) {
+        StrategyExecutionPlan plan = executionPlanner.peek();
+        if (plan == null || plan.getGeneration() == planGeneration) {
+            return;
+        }
+        planGeneration = plan.getGeneration();
+
+        Map<String, Job> previous = new HashMap<>(jobs);
+        jobs.clear();
+        for (CompiledStrategy compiled : plan.getStrategies()) {
+            StrategyCadence cadence = compiled.cadence();
+            if (!cadence.isTimed()) {
+                continue;
+            }
+            Job job = previous.remove(compiled.strategyId());
+            if (job == null || !job.cadence.equals(cadence)) {
+                if (job != null) {
+                    job.cancelled = true;
+                }
+                job = new Job(compiled.strategyId(), cadence, offsetOf(compiled.strategyId(), cadence));
+                schedule(job, LocalDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), clock.getZone()), nowMillis);
+            }
+            jobs.put(compiled.strategyId(), job);
+        }
+        previous.values().forEach(job -> job.cancelled = true);
+        log.info("Strategy cadences updated: generation={}, timed={}, cancelled={}",
+                planGeneration, jobs.size(), previous.size());
+    }
+
+    /**
+     * Put a job on the wheel for its first nominal time after {@code after}, skipping times already past.
+     */
+    private void schedule(Job job, LocalDateTime after, long nowMillis) {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), clock.getZone());
+        LocalDateTime next = job.cadence.nextFireTime(after, marketHoursPolicy, sessions(), holidays());
+        if (next.isBefore(now)) {
+            // Missed while stalled: no catch-up burst
+            next = job.cadence.nextFireTime(now, marketHoursPolicy, sessions(), holidays());
+        }
+        job.nominalTime = next;
+        wheel.schedule(toMillis(next) + job.offsetMillis, job);
+    }
+
+    /**
+     * Stable offset of a strategy within the jitter window.
+     */
+    long offsetOf(String strategyId, StrategyCadence cadence) {
+        long window = jitterMillis;
+        if (cadence.kind() == StrategyCadence.Kind.INTERVAL) {
+            window = Math.min(window, cadence.intervalMillis() / 2);
+        }
+        return window > 0 ? Math.floorMod(strategyId.hashCode() * 0x9E3779B9L, window) : 0;
+    }
+
+    private Set<TradingSession> sessions() {
+        return marketHoursConfig.getAllowedSessionsAsEnum();
+    }
+
+    private Set<LocalDate> holidays() {
+        return marketHoursConfig.getPublicHolidaysAsDate();
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    public synchronized int getJobCount() {
+        return jobs.size();
+    }
+
+    public synchronized CadenceStatus getStatus() {
+        List<JobStatus> status = new ArrayList<>();
+        for (Job job : jobs.values()) {
+            status.add(new JobStatus(job.strategyId, job.cadence.toString(), job.nominalTime,
+                    job.nominalTime.plusNanos(TimeUnit.MILLISECONDS.toNanos(job.offsetMillis))));
+        }
+        status.sort(Comparator.comparing(JobStatus::fireTime).thenComparing(JobStatus::strategyId));
+        return new CadenceStatus(wheel != null, status, fired.get(), dispatched.get());
+    }
+}
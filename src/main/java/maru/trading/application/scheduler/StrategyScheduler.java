@@ -1,27 +1,61 @@
 package maru.trading.application.scheduler;
 
-import maru.trading.application.ports.repo.StrategyRepository;
+import jakarta.annotation.PreDestroy;
 import maru.trading.application.usecase.strategy.ExecuteStrategyUseCase;
-import maru.trading.domain.strategy.Strategy;
-import maru.trading.infra.persistence.jpa.entity.StrategySymbolEntity;
-import maru.trading.infra.persistence.jpa.repository.StrategySymbolJpaRepository;
+import maru.trading.application.usecase.strategy.StrategyCircuitBreaker;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlan.CompiledStrategy;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlan.Target;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlanner;
+import maru.trading.domain.signal.Signal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Strategy scheduler.
  *
- * Automatically executes active strategies on a schedule.
- * Runs every minute to evaluate strategies and generate signals.
+ * Automatically executes active strategies.
+ * By default every strategy is evaluated on the cadence its version declares
+ * (see {@link maru.trading.domain.strategy.StrategyCadence}):
+ * {@link StrategyBarCloseDispatcher} evaluates bar-close cadences as soon as
+ * a bar of the strategy's timeframe closes for one of its symbols, and
+ * {@link StrategyCadenceScheduler} fires interval and session cadences from
+ * a timing wheel. With trading.scheduler.strategy.trigger=CRON every active
+ * strategy is
+ * evaluated on the cron schedule instead (trading.scheduler.strategy.cron,
+ * every minute by default). {@link #executeStrategies()} remains available
+ * as a manual full sweep in both modes.
+ *
+ * Strategies, versions, parameters and symbol mappings come from the
+ * in-memory plan of {@link StrategyExecutionPlanner}, so a run issues no
+ * metadata queries unless the plan was invalidated.
+ *
+ * Strategies demoted or suspended by the {@link StrategyCircuitBreaker}
+ * (too slow or failing too often) are skipped on their off turns, so one
+ * pathological strategy cannot hold up the others' evaluations.
  *
  * Can be disabled via application property:
  * trading.scheduler.strategy.enabled=false
@@ -39,12 +73,34 @@ public class StrategyScheduler {
     private static final Logger log = LoggerFactory.getLogger(StrategyScheduler.class);
 
     // Fallback defaults when no StrategySymbol mappings exist
-    private static final String DEFAULT_SYMBOL = "005930"; // Samsung Electronics
-    private static final String DEFAULT_ACCOUNT_ID = "ACC_DEMO_001"; // Default demo account
+    static final String DEFAULT_SYMBOL = StrategyExecutionPlanner.DEFAULT_SYMBOL;
+    static final String DEFAULT_ACCOUNT_ID = StrategyExecutionPlanner.DEFAULT_ACCOUNT_ID;
+
+    /**
+     * What starts strategy evaluation (trading.scheduler.strategy.trigger).
+     */
+    public enum Trigger {
+        /**
+         * Evaluate each strategy on its own cadence: on bar close of its timeframe
+         * ({@link StrategyBarCloseDispatcher}) or on the clock ({@link StrategyCadenceScheduler})
+         */
+        BAR_CLOSE,
+        /** Evaluate every active strategy on the cron schedule */
+        CRON
+    }
 
-    private final StrategyRepository strategyRepository;
-    private final StrategySymbolJpaRepository strategySymbolRepository;
+    private final StrategyExecutionPlanner executionPlanner;
     private final ExecuteStrategyUseCase executeStrategyUseCase;
+    private final StrategyCircuitBreaker circuitBreaker;
+
+    @Value("${trading.scheduler.strategy.trigger:BAR_CLOSE}")
+    private Trigger trigger;
+
+    @Value("${trading.scheduler.strategy.parallelism:4}")
+    private int parallelism;
+
+    @Value("${trading.scheduler.strategy.deadlineMs:50000}")
+    private long deadlineMillis;
 
     // Runtime state management
     private final AtomicBoolean enabled = new AtomicBoolean(true);
@@ -52,14 +108,25 @@ public class StrategyScheduler {
     private final AtomicInteger executionCount = new AtomicInteger(0);
     private final AtomicInteger successCount = new AtomicInteger(0);
     private final AtomicInteger errorCount = new AtomicInteger(0);
-
+    private final AtomicInteger skippedRunCount = new AtomicInteger(0);
+
+    // Concurrent evaluation
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Set<Target> inFlightPairs = ConcurrentHashMap.newKeySet();
+    // One serial lane per account, shared by runs and dispatches for the scheduler's lifetime
+    private final Map<String, AccountLane> accountLanes = new ConcurrentHashMap<>();
+    private volatile long lastRunDurationMillis;
+    private volatile List<PairTiming> lastRunPairs = List.of();
+    private ExecutorService executor;
+
+    @Autowired
     public StrategyScheduler(
-            StrategyRepository strategyRepository,
-            StrategySymbolJpaRepository strategySymbolRepository,
-            ExecuteStrategyUseCase executeStrategyUseCase) {
-        this.strategyRepository = strategyRepository;
-        this.strategySymbolRepository = strategySymbolRepository;
+            StrategyExecutionPlanner executionPlanner,
+            ExecuteStrategyUseCase executeStrategyUseCase,
+            StrategyCircuitBreaker circuitBreaker) {
+        this.executionPlanner = executionPlanner;
         this.executeStrategyUseCase = executeStrategyUseCase;
+        this.circuitBreaker = circuitBreaker;
     }
 
     /**
@@ -85,6 +152,10 @@ public class StrategyScheduler {
         return enabled.get();
     }
 
+    public Trigger getTrigger() {
+        return trigger;
+    }
+
     /**
      * Get scheduler status information.
      *
@@ -96,10 +167,33 @@ public class StrategyScheduler {
                 lastExecutionTime.get(),
                 executionCount.get(),
                 successCount.get(),
-                errorCount.get()
+                errorCount.get(),
+                skippedRunCount.get(),
+                lastRunDurationMillis,
+                lastRunPairs
         );
     }
 
+    public StrategyCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Evaluation health of every strategy evaluated so far.
+     */
+    public List<StrategyCircuitBreaker.StrategyHealth> getStrategyHealth() {
+        return circuitBreaker.getStatus();
+    }
+
+    /**
+     * Resume a demoted or suspended strategy.
+     *
+     * @return false if the strategy has not been evaluated yet
+     */
+    public boolean resumeStrategy(String strategyId) {
+        return circuitBreaker.reset(strategyId);
+    }
+
     /**
      * Reset scheduler statistics.
      */
@@ -107,31 +201,119 @@ public class StrategyScheduler {
         executionCount.set(0);
         successCount.set(0);
         errorCount.set(0);
+        skippedRunCount.set(0);
         log.info("Scheduler statistics reset");
     }
 
     /**
      * Status record for scheduler state.
+     *
+     * @param skippedRunCount       Runs skipped because the previous run was still going
+     * @param lastRunDurationMillis Wall time of the last run
+     * @param lastRunPairs          Per-pair timing of the last run
      */
     public record SchedulerStatus(
             boolean enabled,
             LocalDateTime lastExecutionTime,
             int executionCount,
             int successCount,
-            int errorCount
+            int errorCount,
+            int skippedRunCount,
+            long lastRunDurationMillis,
+            List<PairTiming> lastRunPairs
     ) {}
 
     /**
-     * Execute strategies every minute.
-     * Cron: "0 * * * * *" = every minute at 0 seconds
+     * Result of one strategy×symbol evaluation in a run.
+     */
+    public enum PairOutcome {
+        SIGNAL,
+        NO_SIGNAL,
+        ERROR,
+        /** Same pair still running from an earlier run */
+        SKIPPED_RUNNING,
+        /** Not started, or not finished, by the run deadline */
+        DEADLINE_MISSED,
+        /** Strategy demoted by the circuit breaker and not due this run */
+        DEMOTED,
+        /** Strategy suspended by the circuit breaker */
+        SUSPENDED
+    }
+
+    /**
+     * Timing of one strategy×symbol evaluation.
      *
-     * Schedule:
+     * @param startOffsetMillis Start relative to the beginning of the run
+     * @param durationMillis    Evaluation time (0 when skipped)
+     */
+    public record PairTiming(
+            String strategyId,
+            String symbol,
+            String accountId,
+            PairOutcome outcome,
+            double startOffsetMillis,
+            double durationMillis
+    ) {
+        static PairTiming of(Target pair, PairOutcome outcome, long startOffsetNanos, long durationNanos) {
+            return new PairTiming(pair.strategyId(), pair.symbol(), pair.accountId(), outcome,
+                    startOffsetNanos / 1_000_000.0, durationNanos / 1_000_000.0);
+        }
+    }
+
+    /**
+     * Receives each target of a {@link #dispatch(List, PairListener)} call once
+     * it has been evaluated or skipped, on the evaluating thread; targets
+     * still in flight from an earlier call are reported at once on the
+     * calling thread.
+     */
+    @FunctionalInterface
+    public interface PairListener {
+
+        /**
+         * @param outcome       How the target was handled
+         * @param signal        Signal produced, or null
+         * @param durationNanos Evaluation time (0 when skipped)
+         */
+        void onDone(Target target, PairOutcome outcome, Signal signal, long durationNanos);
+    }
+
+    /**
+     * Timing of an evaluated pair and the signal it produced, if any.
+     */
+    private record PairResult(PairTiming timing, Signal signal, long durationNanos) {
+    }
+
+    /**
+     * Cron entry point; runs the full sweep only in CRON trigger mode.
+     * Default cron: "0 * * * * *" = every minute at 0 seconds
+     */
+    @Scheduled(cron = "${trading.scheduler.strategy.cron:0 * * * * *}")
+    public void onSchedule() {
+        if (trigger == Trigger.CRON) {
+            executeStrategies();
+        }
+    }
+
+    /**
+     * Execute every active strategy for all of its symbols.
+     *
+     * Schedule (CRON trigger):
      * - 09:00:00 - First execution
      * - 09:01:00 - Second execution
      * - 09:02:00 - Third execution
      * - ...
+     *
+     * Strategy×symbol pairs are evaluated concurrently on a pool of
+     * trading.scheduler.strategy.parallelism threads. Pairs of the same
+     * account run one after another in mapping order on the account's lane,
+     * which {@link #dispatch} shares, so an account's signals keep a
+     * deterministic order; different accounts run in parallel. The call returns when every pair is done or the run
+     * deadline (trading.scheduler.strategy.deadlineMs) passes; pairs not
+     * started by then are skipped. A run requested while the previous one
+     * is still going is skipped, as is a pair still queued or running from
+     * an earlier run or dispatch. A slow evaluation holds up the rest of its
+     * account's lane; pairs behind it that miss the deadline are skipped.
      */
-    @Scheduled(cron = "0 * * * * *")
     public void executeStrategies() {
         // Check if scheduler is enabled at runtime
         if (!enabled.get()) {
@@ -139,74 +321,57 @@ public class StrategyScheduler {
             return;
         }
 
+        if (!running.compareAndSet(false, true)) {
+            skippedRunCount.incrementAndGet();
+            log.warn("StrategyScheduler: Previous execution still running, skipping this run");
+            return;
+        }
+
+        try {
+            runSweep();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void runSweep() {
         executionCount.incrementAndGet();
         lastExecutionTime.set(LocalDateTime.now());
+        long runStartNanos = System.nanoTime();
 
         try {
             log.info("StrategyScheduler: Starting scheduled execution");
 
-            // Find all active strategies
-            List<Strategy> activeStrategies = strategyRepository.findActiveStrategies();
+            // Active strategies and their symbols from the in-memory execution plan
+            List<CompiledStrategy> activeStrategies = executionPlanner.current().getStrategies();
 
             if (activeStrategies.isEmpty()) {
                 log.debug("No active strategies found, skipping execution");
                 successCount.incrementAndGet();
+                recordRun(runStartNanos, List.of());
                 return;
             }
 
             log.info("Found {} active strategies to execute", activeStrategies.size());
 
-            int strategySuccessCount = 0;
+            List<Target> pairs = new ArrayList<>();
             int strategyErrorCount = 0;
 
-            // Execute each strategy
-            for (Strategy strategy : activeStrategies) {
-                try {
-                    log.info("Executing strategy: id={}, name={}", strategy.getStrategyId(), strategy.getName());
-
-                    // Find all active symbols configured for this strategy
-                    List<StrategySymbolEntity> strategySymbols =
-                            strategySymbolRepository.findActiveByStrategyId(strategy.getStrategyId());
-
-                    if (strategySymbols.isEmpty()) {
-                        // Fallback: use default symbol if no mappings exist
-                        log.warn("No StrategySymbol mappings found for strategy {}, using default symbol {}",
-                                strategy.getStrategyId(), DEFAULT_SYMBOL);
-
-                        executeStrategyUseCase.execute(
-                                strategy.getStrategyId(),
-                                DEFAULT_SYMBOL,
-                                DEFAULT_ACCOUNT_ID
-                        );
-                        strategySuccessCount++;
-                    } else {
-                        // Execute strategy for each configured symbol
-                        for (StrategySymbolEntity mapping : strategySymbols) {
-                            try {
-                                log.debug("Executing strategy {} for symbol {} on account {}",
-                                        strategy.getStrategyId(), mapping.getSymbol(), mapping.getAccountId());
-
-                                executeStrategyUseCase.execute(
-                                        strategy.getStrategyId(),
-                                        mapping.getSymbol(),
-                                        mapping.getAccountId()
-                                );
-                                strategySuccessCount++;
-
-                            } catch (Exception e) {
-                                log.error("Error executing strategy {} for symbol {}: {}",
-                                        strategy.getStrategyId(), mapping.getSymbol(), e.getMessage());
-                                strategyErrorCount++;
-                                // Continue with next symbol even if one fails
-                            }
-                        }
-                    }
+            for (CompiledStrategy compiled : activeStrategies) {
+                log.info("Executing strategy: id={}, name={}", compiled.strategyId(), compiled.strategy().getName());
+                pairs.addAll(compiled.targets());
+            }
+
+            List<PairTiming> timings = evaluatePairs(pairs, runStartNanos);
+            recordRun(runStartNanos, timings);
 
-                } catch (Exception e) {
-                    log.error("Error executing strategy: id={}, name={}",
-                            strategy.getStrategyId(), strategy.getName(), e);
-                    strategyErrorCount++;
-                    // Continue with next strategy even if one fails
+            int strategySuccessCount = 0;
+            int skipped = 0;
+            for (PairTiming timing : timings) {
+                switch (timing.outcome()) {
+                    case SIGNAL, NO_SIGNAL -> strategySuccessCount++;
+                    case ERROR, DEADLINE_MISSED -> strategyErrorCount++;
+                    case SKIPPED_RUNNING, DEMOTED, SUSPENDED -> skipped++;
                 }
             }
 
@@ -216,8 +381,8 @@ public class StrategyScheduler {
                 errorCount.incrementAndGet();
             }
 
-            log.info("StrategyScheduler: Completed scheduled execution (success={}, errors={})",
-                    strategySuccessCount, strategyErrorCount);
+            log.info("StrategyScheduler: Completed scheduled execution (success={}, errors={}, skipped={}, elapsed={}ms)",
+                    strategySuccessCount, strategyErrorCount, skipped, lastRunDurationMillis);
 
         } catch (Exception e) {
             log.error("Error in strategy scheduler", e);
@@ -225,6 +390,284 @@ public class StrategyScheduler {
         }
     }
 
+    /**
+     * Evaluate pairs on their accounts' lanes and wait for them up to the run deadline.
+     *
+     * @return Timing of every pair, in the order given
+     */
+    private List<PairTiming> evaluatePairs(List<Target> pairs, long runStartNanos) {
+        long deadlineNanos = runStartNanos + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        AtomicReferenceArray<PairTiming> timings = new AtomicReferenceArray<>(pairs.size());
+
+        Map<String, List<Integer>> lanes = new LinkedHashMap<>();
+        for (int i = 0; i < pairs.size(); i++) {
+            Target pair = pairs.get(i);
+            if (claim(pair)) {
+                lanes.computeIfAbsent(pair.accountId(), k -> new ArrayList<>()).add(i);
+            } else {
+                timings.set(i, skipped(pair, PairOutcome.SKIPPED_RUNNING, System.nanoTime() - runStartNanos).timing());
+            }
+        }
+
+        CountDownLatch done = new CountDownLatch(lanes.size());
+        for (Map.Entry<String, List<Integer>> entry : lanes.entrySet()) {
+            List<Integer> lane = entry.getValue();
+            try {
+                laneFor(entry.getKey()).execute(() -> {
+                    try {
+                        for (int index : lane) {
+                            timings.compareAndSet(index, null,
+                                    evaluatePair(pairs.get(index), runStartNanos, deadlineNanos).timing());
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Shutting down: the lane's pairs are reported as missed
+                lane.forEach(index -> inFlightPairs.remove(pairs.get(index)));
+                done.countDown();
+            }
+        }
+
+        try {
+            if (!done.await(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                log.warn("StrategyScheduler: Run deadline of {}ms reached with lanes still running", deadlineMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<PairTiming> result = new ArrayList<>(pairs.size());
+        for (int i = 0; i < pairs.size(); i++) {
+            // Pairs still waiting or running are reported as missed; a late finish cannot overwrite this
+            timings.compareAndSet(i, null, PairTiming.of(pairs.get(i), PairOutcome.DEADLINE_MISSED,
+                    System.nanoTime() - runStartNanos, 0));
+            result.add(timings.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Evaluate targets on the evaluation pool without waiting for them.
+     *
+     * Used by {@link StrategyCadenceScheduler} for strategies on timed
+     * cadences. Targets get the same treatment as in a run: per-account
+     * lanes, circuit breaker, in-flight guard, and the run deadline after
+     * which targets not yet started are skipped. Does nothing while the
+     * scheduler is disabled.
+     *
+     * @return Number of targets handed to the pool or skipped as still in flight
+     */
+    public int dispatch(List<Target> targets) {
+        return dispatch(targets, null);
+    }
+
+    /**
+     * {@link #dispatch(List)}, reporting every target handed to the pool to a listener.
+     *
+     * Used by {@link StrategyBarCloseDispatcher} for bar-close cadences.
+     *
+     * @param listener Called once per target handed to the pool or skipped as still in flight, or null
+     * @return Number of targets reported; the others are never reported
+     */
+    public int dispatch(List<Target> targets, PairListener listener) {
+        if (!enabled.get() || targets.isEmpty()) {
+            return 0;
+        }
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+
+        int dispatched = 0;
+        Map<String, List<Target>> lanes = new LinkedHashMap<>();
+        for (Target target : targets) {
+            if (claim(target)) {
+                lanes.computeIfAbsent(target.accountId(), k -> new ArrayList<>()).add(target);
+            } else {
+                if (listener != null) {
+                    notifyDone(listener, target, skipped(target, PairOutcome.SKIPPED_RUNNING, 0));
+                }
+                dispatched++;
+            }
+        }
+
+        for (Map.Entry<String, List<Target>> entry : lanes.entrySet()) {
+            List<Target> lane = entry.getValue();
+            try {
+                laneFor(entry.getKey()).execute(() -> {
+                    for (Target target : lane) {
+                        PairResult result = evaluatePair(target, startNanos, deadlineNanos);
+                        if (listener != null) {
+                            notifyDone(listener, target, result);
+                        }
+                    }
+                });
+                dispatched += lane.size();
+            } catch (RejectedExecutionException e) {
+                lane.forEach(inFlightPairs::remove);
+                log.warn("StrategyScheduler: Evaluation pool rejected {} targets of account {}",
+                        lane.size(), entry.getKey());
+            }
+        }
+        return dispatched;
+    }
+
+    private void notifyDone(PairListener listener, Target target, PairResult result) {
+        try {
+            listener.onDone(target, result.timing().outcome(), result.signal(), result.durationNanos());
+        } catch (Exception e) {
+            log.warn("Dispatch listener error for strategy {} on {}: {}",
+                    target.strategyId(), target.symbol(), e.getMessage());
+        }
+    }
+
+    /**
+     * Mark a pair in flight from submission until its evaluation ends.
+     *
+     * @return false if the pair is still queued or running from an earlier run or dispatch
+     */
+    private boolean claim(Target pair) {
+        if (inFlightPairs.add(pair)) {
+            return true;
+        }
+        log.warn("Strategy {} for symbol {} is still running from a previous run, skipping",
+                pair.strategyId(), pair.symbol());
+        return false;
+    }
+
+    /**
+     * Evaluate a claimed pair and release it.
+     */
+    private PairResult evaluatePair(Target pair, long runStartNanos, long deadlineNanos) {
+        try {
+            return evaluateClaimed(pair, runStartNanos, deadlineNanos);
+        } finally {
+            inFlightPairs.remove(pair);
+        }
+    }
+
+    private PairResult evaluateClaimed(Target pair, long runStartNanos, long deadlineNanos) {
+        long startNanos = System.nanoTime();
+        if (startNanos - deadlineNanos >= 0) {
+            return skipped(pair, PairOutcome.DEADLINE_MISSED, startNanos - runStartNanos);
+        }
+        StrategyCircuitBreaker.Admission admission = circuitBreaker.admit(pair.strategyId(), pair.symbol());
+        if (admission != StrategyCircuitBreaker.Admission.EVALUATE) {
+            log.debug("Strategy {} for symbol {} skipped: {}", pair.strategyId(), pair.symbol(), admission);
+            return skipped(pair,
+                    admission == StrategyCircuitBreaker.Admission.DEMOTED ? PairOutcome.DEMOTED : PairOutcome.SUSPENDED,
+                    startNanos - runStartNanos);
+        }
+
+        PairOutcome outcome;
+        Signal signal = null;
+        try {
+            log.debug("Executing strategy {} for symbol {} on account {}",
+                    pair.strategyId(), pair.symbol(), pair.accountId());
+
+            signal = executeStrategyUseCase.execute(pair.strategyId(), pair.symbol(), pair.accountId());
+            outcome = signal != null ? PairOutcome.SIGNAL : PairOutcome.NO_SIGNAL;
+
+        } catch (Exception e) {
+            log.error("Error executing strategy {} for symbol {}: {}",
+                    pair.strategyId(), pair.symbol(), e.getMessage());
+            outcome = PairOutcome.ERROR;
+            // Continue with next symbol even if one fails
+        }
+
+        long endNanos = System.nanoTime();
+        return new PairResult(PairTiming.of(pair, outcome, startNanos - runStartNanos, endNanos - startNanos),
+                signal, endNanos - startNanos);
+    }
+
+    private static PairResult skipped(Target pair, PairOutcome outcome, long startOffsetNanos) {
+        return new PairResult(PairTiming.of(pair, outcome, startOffsetNanos, 0), null, 0);
+    }
+
+    private void recordRun(long runStartNanos, List<PairTiming> timings) {
+        lastRunDurationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - runStartNanos);
+        lastRunPairs = List.copyOf(timings);
+    }
+
+    private AccountLane laneFor(String accountId) {
+        return accountLanes.computeIfAbsent(accountId, k -> new AccountLane());
+    }
+
+    /**
+     * Serial lane of one account on the shared evaluation pool.
+     *
+     * Tasks run one at a time in submission order, whichever run or dispatch
+     * submitted them, so an account's evaluations never overlap even when
+     * bars of several of its symbols close together. Each task is handed to
+     * the pool separately, so a busy account cannot hold a pool thread while
+     * other accounts wait.
+     */
+    private final class AccountLane {
+
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        /**
+         * @throws RejectedExecutionException if the pool is shutting down
+         */
+        void execute(Runnable task) {
+            tasks.add(task);
+            try {
+                scheduleNext();
+            } catch (RejectedExecutionException e) {
+                tasks.remove(task);
+                throw e;
+            }
+        }
+
+        private void scheduleNext() {
+            if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+                try {
+                    executor().execute(this::runNext);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    throw e;
+                }
+            }
+        }
+
+        private void runNext() {
+            try {
+                Runnable task = tasks.poll();
+                if (task != null) {
+                    task.run();
+                }
+            } finally {
+                scheduled.set(false);
+                try {
+                    scheduleNext();
+                } catch (RejectedExecutionException e) {
+                    log.debug("StrategyScheduler: Evaluation pool shut down, dropping {} queued lane tasks",
+                            tasks.size());
+                }
+            }
+        }
+    }
+
+    private synchronized ExecutorService executor() {
+        if (executor == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+                Thread thread = new Thread(runnable, "strategy-eval-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Manual trigger for testing.
      * Called by StrategyAdminController.
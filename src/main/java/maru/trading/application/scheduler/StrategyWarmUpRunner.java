@@ -0,0 +1,287 @@
+package maru.trading.application.scheduler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import maru.trading.application.ports.repo.BarRepository;
+import maru.trading.application.usecase.strategy.LoadStrategyContextUseCase;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlan;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlan.CompiledStrategy;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlan.Target;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlanner;
+import maru.trading.application.usecase.strategy.StrategyInstanceRegistry;
+import maru.trading.domain.market.MarketBar;
+import maru.trading.domain.strategy.StrategyContext;
+import maru.trading.infra.cache.BarCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup warm-up of the bar cache and live strategy state.
+ *
+ * After a restart the {@link BarCache} is empty, so the first evaluation of
+ * every strategy×symbol would fall back to the database at once, usually
+ * right before the open. Before the application reports itself ready (it
+ * runs as an {@link ApplicationRunner}, which Spring Boot completes before
+ * readiness turns ACCEPTING_TRAFFIC), this runner:
+ * 1. builds the execution plan
+ * 2. loads the recent closed bars of every planned symbol, in batches of
+ *    trading.scheduler.strategy.warmup.batchSize symbols per query, running
+ *    trading.scheduler.strategy.warmup.parallelism queries at a time, and
+ *    preloads them into the bar cache
+ * 3. creates the live instance of every strategy×symbol in
+ *    {@link StrategyInstanceRegistry}, warming incremental engines from the
+ *    cached bars
+ *
+ * Bar-close dispatch and timed cadences start on ApplicationReadyEvent,
+ * which Spring Boot publishes after the runners, so they never evaluate
+ * ahead of the warm-up.
+ *
+ * Bars are loaded for every timeframe strategy contexts are built from
+ * (the bar timeframe of each cadence, see {@link LoadStrategyContextUseCase}),
+ * as many as the most demanding planned strategy on that timeframe needs,
+ * up to the cache capacity. A failed batch or strategy is logged and left
+ * to the normal load path.
+ *
+ * Metrics:
+ * - strategy.warmup.duration - time spent warming up at startup
+ */
+@Component
+@ConditionalOnProperty(
+        name = "trading.scheduler.strategy.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class StrategyWarmUpRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StrategyWarmUpRunner.class);
+
+    private final StrategyExecutionPlanner executionPlanner;
+    private final BarRepository barRepository;
+    private final BarCache barCache;
+    private final LoadStrategyContextUseCase loadContextUseCase;
+    private final StrategyInstanceRegistry instanceRegistry;
+    private final Timer durationTimer;
+
+    @Value("${trading.scheduler.strategy.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.scheduler.strategy.warmup.batchSize:100}")
+    private int batchSize;
+
+    @Value("${trading.scheduler.strategy.warmup.parallelism:4}")
+    private int parallelism;
+
+    private volatile WarmUpStatus status = new WarmUpStatus(false, 0, 0, 0, 0, 0);
+
+    /**
+     * Outcome of the startup warm-up.
+     *
+     * @param completed  Whether the warm-up has run
+     * @param symbols    Planned symbols
+     * @param bars       Bars preloaded into the cache
+     * @param instances  Strategy instances warmed up from history
+     * @param failures   Batches and strategy×symbols that failed
+     * @param durationMillis Time spent
+     */
+    public record WarmUpStatus(boolean completed, int symbols, long bars, int instances, int failures,
+                               long durationMillis) {
+    }
+
+    @Autowired
+    public StrategyWarmUpRunner(
+            StrategyExecutionPlanner executionPlanner,
+            BarRepository barRepository,
+            BarCache barCache,
+            LoadStrategyContextUseCase loadContextUseCase,
+            StrategyInstanceRegistry instanceRegistry,
+            MeterRegistry meterRegistry) {
+        this.executionPlanner = executionPlanner;
+        this.barRepository = barRepository;
+        this.barCache = barCache;
+        this.loadContextUseCase = loadContextUseCase;
+        this.instanceRegistry = instanceRegistry;
+        this.durationTimer = Timer.builder("strategy.warmup.duration")
+                .description("Startup warm-up of the bar cache and strategy state")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            log.info("Strategy warm-up disabled");
+            return;
+        }
+        warmUp();
+    }
+
+    /**
+     * Preload bars and strategy state for the current execution plan.
+     *
+     * @return Outcome, also kept for {@link #getStatus()}
+     */
+    public WarmUpStatus warmUp() {
+        long startNanos = System.nanoTime();
+        StrategyExecutionPlan plan = executionPlanner.current();
+
+        // Symbols and bar count per timeframe contexts are built from
+        Set<String> symbols = new TreeSet<>();
+        Map<String, Set<String>> symbolsByTimeframe = new TreeMap<>();
+        Map<String, Integer> counts = new TreeMap<>();
+        for (CompiledStrategy compiled : plan.getStrategies()) {
+            if (!compiled.isReady() || compiled.targets().isEmpty()) {
+                continue;
+            }
+            String timeframe = compiled.cadence().barTimeframe();
+            counts.merge(timeframe, compiled.requiredBars(), Math::max);
+            Set<String> timeframeSymbols = symbolsByTimeframe.computeIfAbsent(timeframe, k -> new TreeSet<>());
+            compiled.targets().forEach(target -> timeframeSymbols.add(target.symbol()));
+            symbols.addAll(timeframeSymbols);
+        }
+        counts.replaceAll((timeframe, count) -> Math.min(count, barCache.capacityFor(timeframe)));
+        counts.values().removeIf(count -> count <= 0);
+
+        long bars = 0;
+        int instances = 0;
+        int failures = 0;
+        if (!symbols.isEmpty() && !counts.isEmpty()) {
+            List<Callable<Integer>> batches = new ArrayList<>();
+            counts.forEach((timeframe, count) -> {
+                List<String> timeframeSymbols = new ArrayList<>(symbolsByTimeframe.get(timeframe));
+                for (List<String> batch : partition(timeframeSymbols, Math.max(1, batchSize))) {
+                    batches.add(() -> loadBatch(batch, timeframe, count));
+                }
+            });
+            ExecutorService executor = Executors.newFixedThreadPool(
+                    Math.max(1, Math.min(parallelism, batches.size())), runnable -> {
+                        Thread thread = new Thread(runnable, "strategy-warmup");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            try {
+                // Step 1: bars, one query per batch of symbols and timeframe
+                List<Future<Integer>> loads = new ArrayList<>();
+                for (Callable<Integer> batch : batches) {
+                    loads.add(executor.submit(batch));
+                }
+                for (Future<Integer> load : loads) {
+                    int loaded = await(load);
+                    if (loaded < 0) {
+                        failures++;
+                    } else {
+                        bars += loaded;
+                    }
+                }
+
+                // Step 2: strategy state, once per strategy×symbol
+                List<Future<Integer>> warmUps = new ArrayList<>();
+                for (CompiledStrategy compiled : plan.getStrategies()) {
+                    if (!compiled.isReady()) {
+                        continue;
+                    }
+                    Set<String> seen = new HashSet<>();
+                    for (Target target : compiled.targets()) {
+                        if (seen.add(target.symbol())) {
+                            warmUps.add(executor.submit(() -> warmUpInstance(compiled, target)));
+                        }
+                    }
+                }
+                for (Future<Integer> warmUp : warmUps) {
+                    int warmed = await(warmUp);
+                    if (warmed < 0) {
+                        failures++;
+                    } else {
+                        instances += warmed;
+                    }
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        long durationNanos = System.nanoTime() - startNanos;
+        durationTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+        status = new WarmUpStatus(true, symbols.size(), bars, instances, failures,
+                TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        log.info("Strategy warm-up done: symbols={}, bars={}, instances={}, failures={}, duration={}ms",
+                symbols.size(), bars, instances, failures, status.durationMillis());
+        return status;
+    }
+
+    /**
+     * @return Bars preloaded, or -1 on failure
+     */
+    private int loadBatch(List<String> symbols, String timeframe, int count) {
+        try {
+            Map<String, List<MarketBar>> recent = barRepository.findRecentClosedBarsBySymbol(symbols, timeframe, count);
+            int loaded = 0;
+            for (Map.Entry<String, List<MarketBar>> entry : recent.entrySet()) {
+                loaded += barCache.preload(entry.getKey(), timeframe, entry.getValue());
+            }
+            log.debug("Warm-up batch loaded: symbols={}, bars={}", symbols.size(), loaded);
+            return loaded;
+        } catch (Exception e) {
+            log.warn("Warm-up batch failed: symbols={}..{}", symbols.get(0), symbols.get(symbols.size() - 1), e);
+            return -1;
+        }
+    }
+
+    /**
+     * @return 1 if incremental state was warmed up, 0 for a stateless engine, -1 on failure
+     */
+    private int warmUpInstance(CompiledStrategy compiled, Target target) {
+        try {
+            StrategyContext context = loadContextUseCase.execute(compiled, target.symbol(), target.accountId());
+            if (context.getBars().isEmpty()) {
+                return 0;
+            }
+            return instanceRegistry.warmUp(compiled.strategy(), compiled.version(), context) ? 1 : 0;
+        } catch (Exception e) {
+            log.warn("Warm-up failed: strategyId={}, symbol={}: {}",
+                    compiled.strategyId(), target.symbol(), e.getMessage());
+            return -1;
+        }
+    }
+
+    private static int await(Future<Integer> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (ExecutionException e) {
+            return -1;
+        }
+    }
+
+    private static List<List<String>> partition(List<String> symbols, int size) {
+        List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < symbols.size(); from += size) {
+            batches.add(symbols.subList(from, Math.min(from + size, symbols.size())));
+        }
+        return batches;
+    }
+
+    public WarmUpStatus getStatus() {
+        return status;
+    }
+}
@@ -12,12 +12,16 @@ import org.springframework.stereotype.Service;
  * Use case for executing a strategy.
  *
  * Orchestrates the full strategy execution pipeline:
- * 1. Load strategy and version from database
+ * 1. Load strategy and version (from the execution plan, or the database
+ *    for strategies outside the plan)
  * 2. Load market data context
- * 3. Instantiate strategy engine
+ * 3. Look up the live strategy engine instance (see StrategyInstanceRegistry)
  * 4. Evaluate strategy to generate decision
  * 5. Generate and persist signal (if not HOLD)
  *
+ * Every evaluation is timed and reported to the StrategyCircuitBreaker,
+ * which demotes or suspends strategies that are too slow or keep failing.
+ *
  * This is the entry point called by StrategyScheduler.
  */
 @Service
@@ -28,14 +32,23 @@ public class ExecuteStrategyUseCase {
     private final StrategyRepository strategyRepository;
     private final LoadStrategyContextUseCase loadContextUseCase;
     private final GenerateSignalUseCase generateSignalUseCase;
+    private final StrategyExecutionPlanner executionPlanner;
+    private final StrategyInstanceRegistry instanceRegistry;
+    private final StrategyCircuitBreaker circuitBreaker;
 
     public ExecuteStrategyUseCase(
             StrategyRepository strategyRepository,
             LoadStrategyContextUseCase loadContextUseCase,
-            GenerateSignalUseCase generateSignalUseCase) {
+            GenerateSignalUseCase generateSignalUseCase,
+            StrategyExecutionPlanner executionPlanner,
+            StrategyInstanceRegistry instanceRegistry,
+            StrategyCircuitBreaker circuitBreaker) {
         this.strategyRepository = strategyRepository;
         this.loadContextUseCase = loadContextUseCase;
         this.generateSignalUseCase = generateSignalUseCase;
+        this.executionPlanner = executionPlanner;
+        this.instanceRegistry = instanceRegistry;
+        this.circuitBreaker = circuitBreaker;
     }
 
     /**
@@ -51,33 +64,50 @@ public class ExecuteStrategyUseCase {
                 strategyId, symbol, accountId);
 
         try {
-            // Step 1: Load strategy configuration
-            Strategy strategy = strategyRepository.findById(strategyId)
-                    .orElseThrow(() -> new IllegalArgumentException("Strategy not found: " + strategyId));
-
-            if (!strategy.isActive()) {
-                log.warn("Strategy is not active, skipping: strategyId={}, status={}",
-                        strategyId, strategy.getStatus());
-                return null;
+            Strategy strategy;
+            StrategyVersion version;
+            StrategyContext context;
+
+            StrategyExecutionPlan.CompiledStrategy compiled = executionPlanner.find(strategyId);
+            if (compiled != null && compiled.isReady()) {
+                // Steps 1-3 from the execution plan: no metadata queries
+                strategy = compiled.strategy();
+                version = compiled.version();
+                context = loadContextUseCase.execute(compiled, symbol, accountId);
+            } else {
+                // Step 1: Load strategy configuration
+                strategy = strategyRepository.findById(strategyId)
+                        .orElseThrow(() -> new IllegalArgumentException("Strategy not found: " + strategyId));
+
+                if (!strategy.isActive()) {
+                    log.warn("Strategy is not active, skipping: strategyId={}, status={}",
+                            strategyId, strategy.getStatus());
+                    return null;
+                }
+
+                // Step 2: Load strategy version
+                String activeVersionId = strategy.getActiveVersionId();
+                version = strategyRepository.findVersionById(activeVersionId)
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "Strategy version not found: versionId=" + activeVersionId));
+
+                // Step 3: Load strategy context (bars + params)
+                context = loadContextUseCase.execute(strategy, version, symbol, accountId);
             }
 
-            // Step 2: Load strategy version
-            String activeVersionId = strategy.getActiveVersionId();
-            StrategyVersion version = strategyRepository.findVersionById(activeVersionId)
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "Strategy version not found: versionId=" + activeVersionId));
-
-            // Step 3: Load strategy context (bars + params)
-            StrategyContext context = loadContextUseCase.execute(strategy, version, symbol, accountId);
-
             // Validate context
             context.validate();
 
-            // Step 4: Instantiate strategy engine based on strategy name
-            StrategyEngine engine = createStrategyEngine(strategy.getName(), context);
-
-            // Step 5: Evaluate strategy
-            SignalDecision decision = engine.evaluate(context);
+            // Steps 4-5: Evaluate with the live strategy instance (created and warmed up on first use)
+            SignalDecision decision;
+            long evaluationStart = System.nanoTime();
+            try {
+                decision = instanceRegistry.evaluate(strategy, version, context);
+            } catch (RuntimeException e) {
+                circuitBreaker.record(strategyId, System.nanoTime() - evaluationStart, true);
+                throw e;
+            }
+            circuitBreaker.record(strategyId, System.nanoTime() - evaluationStart, false);
 
             log.info("Strategy evaluated: strategyId={}, symbol={}, decision={}",
                     strategyId, symbol, decision.getSignalType());
@@ -96,50 +126,4 @@ public class ExecuteStrategyUseCase {
             return null;
         }
     }
-
-    /**
-     * Create strategy engine instance based on strategy name.
-     *
-     * @param strategyName Strategy name (e.g., "MA_CROSSOVER", "RSI")
-     * @param context Strategy context
-     * @return Strategy engine instance
-     */
-    private StrategyEngine createStrategyEngine(String strategyName, StrategyContext context) {
-        // Determine strategy type from name
-        // Convention: strategy name should match strategy type
-        String strategyType = extractStrategyType(strategyName);
-
-        // Validate parameters before instantiation
-        StrategyEngine engine = StrategyFactory.createStrategy(strategyType);
-        engine.validateParams(context.getParams());
-
-        return engine;
-    }
-
-    /**
-     * Extract strategy type from strategy name.
-     * Examples:
-     * - "MA Crossover Strategy" -> "MA_CROSSOVER"
-     * - "RSI Oversold" -> "RSI"
-     *
-     * @param strategyName Strategy name
-     * @return Strategy type identifier
-     */
-    private String extractStrategyType(String strategyName) {
-        if (strategyName == null) {
-            throw new IllegalArgumentException("Strategy name cannot be null");
-        }
-
-        String upperName = strategyName.toUpperCase();
-
-        // Simple pattern matching
-        if (upperName.contains("MA") && upperName.contains("CROSS")) {
-            return "MA_CROSSOVER";
-        } else if (upperName.contains("RSI")) {
-            return "RSI";
-        }
-
-        // Fallback: assume strategy name IS the strategy type
-        return strategyName.toUpperCase().replace(" ", "_");
-    }
 }
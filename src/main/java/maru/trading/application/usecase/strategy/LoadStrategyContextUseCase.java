@@ -1,10 +1,13 @@
 package maru.trading.application.usecase.strategy;
 
 import maru.trading.application.ports.repo.BarRepository;
+import maru.trading.domain.market.BarResampler;
 import maru.trading.domain.market.MarketBar;
 import maru.trading.domain.strategy.Strategy;
+import maru.trading.domain.strategy.StrategyCadence;
 import maru.trading.domain.strategy.StrategyContext;
 import maru.trading.domain.strategy.StrategyVersion;
+import maru.trading.domain.strategy.impl.RuleStrategy;
 import maru.trading.infra.cache.BarCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,14 +22,16 @@ import java.util.Map;
  *
  * Loads:
  * 1. Strategy parameters from active version
- * 2. Recent market bars for the symbol
+ * 2. Recent market bars for the symbol, of the timeframe the strategy's
+ *    cadence closes on ({@link StrategyCadence#barTimeframe()}; 1m for
+ *    timed cadences)
  * 3. Constructs StrategyContext for strategy evaluation
  */
 @Service
 public class LoadStrategyContextUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(LoadStrategyContextUseCase.class);
-    private static final String DEFAULT_TIMEFRAME = "1m";
+    public static final String DEFAULT_TIMEFRAME = BarResampler.BASE_TIMEFRAME; // Timed and invalid cadences
     private static final int DEFAULT_BAR_LOOKBACK = 100; // Load last 100 bars
 
     private final BarRepository barRepository;
@@ -58,29 +63,67 @@ public class LoadStrategyContextUseCase {
         // Step 1: Parse strategy parameters
         Map<String, Object> params = version.getParamsAsMap();
 
-        // Step 2: Determine required bar count from parameters
+        // Step 2: Determine required bar count and bar timeframe from parameters
         int requiredBars = calculateRequiredBars(params);
+        String timeframe = DEFAULT_TIMEFRAME;
+        try {
+            timeframe = StrategyCadence.fromParams(params).barTimeframe();
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid strategy cadence, using {} bars: {}", DEFAULT_TIMEFRAME, e.getMessage());
+        }
+
+        return buildContext(strategy.getStrategyId(), params, requiredBars, timeframe, symbol, accountId);
+    }
+
+    /**
+     * Execute the use case for a strategy from the execution plan.
+     * Parameters, required bar count and cadence are taken from the plan instead of being parsed again.
+     *
+     * @param compiled Compiled strategy (must be ready)
+     * @param symbol Symbol to evaluate
+     * @param accountId Account ID
+     * @return StrategyContext for strategy evaluation
+     */
+    public StrategyContext execute(
+            StrategyExecutionPlan.CompiledStrategy compiled,
+            String symbol,
+            String accountId) {
+
+        log.debug("Loading strategy context: strategyId={}, symbol={}, versionNo={} (plan)",
+                compiled.strategyId(), symbol, compiled.version().getVersionNo());
+
+        return buildContext(compiled.strategyId(), compiled.params(), compiled.requiredBars(),
+                compiled.cadence().barTimeframe(), symbol, accountId);
+    }
+
+    private StrategyContext buildContext(
+            String strategyId,
+            Map<String, Object> params,
+            int requiredBars,
+            String timeframe,
+            String symbol,
+            String accountId) {
 
         // Step 3: Load bars (try cache first, then database)
-        List<MarketBar> bars = loadBars(symbol, DEFAULT_TIMEFRAME, requiredBars);
+        List<MarketBar> bars = loadBars(symbol, timeframe, requiredBars);
 
         if (bars.isEmpty()) {
             log.warn("No bars available for strategy evaluation: symbol={}, timeframe={}",
-                    symbol, DEFAULT_TIMEFRAME);
+                    symbol, timeframe);
         }
 
         // Step 4: Build context
         StrategyContext context = StrategyContext.builder()
-                .strategyId(strategy.getStrategyId())
+                .strategyId(strategyId)
                 .symbol(symbol)
                 .accountId(accountId)
                 .bars(bars)
                 .params(params)
-                .timeframe(DEFAULT_TIMEFRAME)
+                .timeframe(timeframe)
                 .build();
 
         log.info("Loaded strategy context: strategyId={}, symbol={}, bars={}, params={}",
-                strategy.getStrategyId(), symbol, bars.size(), params.keySet());
+                strategyId, symbol, bars.size(), params.keySet());
 
         return context;
     }
@@ -117,11 +160,13 @@ public class LoadStrategyContextUseCase {
     /**
      * Calculate required bar count based on strategy parameters.
      * Different strategies need different amounts of historical data.
+     * Backtests size their bar window with it too, so they evaluate the
+     * same windows as live contexts.
      *
      * @param params Strategy parameters
      * @return Required bar count
      */
-    private int calculateRequiredBars(Map<String, Object> params) {
+    public static int calculateRequiredBars(Map<String, Object> params) {
         int maxPeriod = 0;
 
         // Check for MA parameters
@@ -137,6 +182,11 @@ public class LoadStrategyContextUseCase {
             maxPeriod = Math.max(maxPeriod, getIntParam(params, "period"));
         }
 
+        // Check for MACD periods (signal line over the slow EMA)
+        if (params.containsKey("slowPeriod")) {
+            maxPeriod = Math.max(maxPeriod, getIntParam(params, "slowPeriod") + getIntParam(params, "signalPeriod"));
+        }
+
         // Add buffer for indicator calculation (need extra bars for warmup)
         int bufferBars = 10;
 
@@ -144,10 +194,21 @@ public class LoadStrategyContextUseCase {
         int required = maxPeriod + bufferBars + 1;
 
         // Cap at maximum to avoid excessive memory usage
-        return Math.min(required, DEFAULT_BAR_LOOKBACK);
+        required = Math.min(required, DEFAULT_BAR_LOOKBACK);
+
+        // Rule strategies need exactly what their rules need
+        if (params.containsKey(RuleStrategy.ENTRY_PARAM)) {
+            try {
+                required = Math.max(required, RuleStrategy.requiredBars(params));
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid strategy rules, using default bar count: {}", e.getMessage());
+            }
+        }
+
+        return required;
     }
 
-    private int getIntParam(Map<String, Object> params, String key) {
+    private static int getIntParam(Map<String, Object> params, String key) {
         Object value = params.get(key);
         if (value instanceof Number) {
             return ((Number) value).intValue();
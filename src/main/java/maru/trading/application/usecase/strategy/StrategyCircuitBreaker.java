@@ -0,0 +1,370 @@
+package maru.trading.application.usecase.strategy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-strategy evaluation time budget and circuit breaker.
+ *
+ * Every strategy evaluation is timed and recorded in a window of the
+ * strategy's last evaluations. From that window a strategy is:
+ * - ACTIVE: evaluated whenever it is due
+ * - DEMOTED: more than maxSlowRate of its evaluations exceeded the latency
+ *   budget; each of its symbols evaluated only every demotedEvery-th time
+ *   it is due, and promoted again once the slow rate is back under half the threshold
+ * - SUSPENDED: more than maxErrorRate of its evaluations failed; not
+ *   evaluated for suspendSeconds, after which a single trial evaluation
+ *   either resumes it (window cleared) or suspends it again
+ *
+ * A window needs minEvaluations entries before it demotes or suspends.
+ * Scheduled runs ask {@link #admit(String, String)} before evaluating; manual
+ * triggers bypass the breaker, and {@link #reset(String)} resumes a
+ * strategy from the admin API.
+ *
+ * Metrics (tag strategyId):
+ * - strategy.evaluation.duration - evaluation time (tag outcome=success|error)
+ * - strategy.evaluation.skipped - evaluations skipped (tag reason=demoted|suspended)
+ * - strategy.evaluation.state - 0 active, 1 demoted, 2 suspended
+ */
+@Component
+public class StrategyCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(StrategyCircuitBreaker.class);
+
+    public enum State {
+        ACTIVE, DEMOTED, SUSPENDED
+    }
+
+    /**
+     * Whether a due evaluation may run.
+     */
+    public enum Admission {
+        EVALUATE,
+        /** Skipped: demoted strategy, not its turn */
+        DEMOTED,
+        /** Skipped: suspended strategy */
+        SUSPENDED
+    }
+
+    /**
+     * Snapshot of a strategy's evaluation health for admin visibility.
+     *
+     * @param windowSize       Evaluations in the window
+     * @param meanMillis       Mean evaluation time in the window
+     * @param maxMillis        Longest evaluation time in the window
+     * @param slowRate         Share of the window over the latency budget
+     * @param errorRate        Share of the window that failed
+     * @param suspendedUntil   End of the suspension (null unless suspended)
+     * @param reason           Why the strategy was last demoted or suspended
+     */
+    public record StrategyHealth(String strategyId, State state, int windowSize, double meanMillis,
+                                 double maxMillis, double slowRate, double errorRate, long evaluations,
+                                 long errors, long skipped, LocalDateTime suspendedUntil, String reason) {
+    }
+
+    @Value("${trading.scheduler.strategy.breaker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.scheduler.strategy.breaker.budgetMs:500}")
+    private long budgetMillis;
+
+    @Value("${trading.scheduler.strategy.breaker.window:20}")
+    private int window;
+
+    @Value("${trading.scheduler.strategy.breaker.minEvaluations:5}")
+    private int minEvaluations;
+
+    @Value("${trading.scheduler.strategy.breaker.maxSlowRate:0.5}")
+    private double maxSlowRate;
+
+    @Value("${trading.scheduler.strategy.breaker.maxErrorRate:0.5}")
+    private double maxErrorRate;
+
+    @Value("${trading.scheduler.strategy.breaker.demotedEvery:5}")
+    private int demotedEvery;
+
+    @Value("${trading.scheduler.strategy.breaker.suspendSeconds:300}")
+    private long suspendSeconds;
+
+    private final ConcurrentMap<String, Health> strategies = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public StrategyCircuitBreaker(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Decide whether a due evaluation of the strategy for a symbol may run.
+     * A demoted strategy's skipped turns, counted per symbol so every symbol
+     * gets its turn, and a suspended strategy's trial evaluation are
+     * decided here.
+     */
+    public Admission admit(String strategyId, String symbol) {
+        return admit(strategyId, symbol, System.nanoTime());
+    }
+
+    Admission admit(String strategyId, String symbol, long nowNanos) {
+        if (!enabled) {
+            return Admission.EVALUATE;
+        }
+        Health health = strategies.get(strategyId);
+        return health != null ? health.admit(symbol, nowNanos) : Admission.EVALUATE;
+    }
+
+    /**
+     * Record a finished evaluation.
+     *
+     * @param strategyId Strategy evaluated
+     * @param elapsedNanos Evaluation time
+     * @param failed true if the evaluation threw
+     */
+    public void record(String strategyId, long elapsedNanos, boolean failed) {
+        record(strategyId, elapsedNanos, failed, System.nanoTime());
+    }
+
+    void record(String strategyId, long elapsedNanos, boolean failed, long nowNanos) {
+        Health health = strategies.computeIfAbsent(strategyId, Health::new);
+        health.time(elapsedNanos, failed);
+        if (enabled) {
+            health.record(elapsedNanos, failed, nowNanos);
+        }
+    }
+
+    /**
+     * Resume a demoted or suspended strategy and clear its window.
+     *
+     * @return false if nothing was recorded for the strategy
+     */
+    public boolean reset(String strategyId) {
+        Health health = strategies.get(strategyId);
+        if (health == null) {
+            return false;
+        }
+        health.reset();
+        log.info("Strategy evaluation breaker reset: strategyId={}", strategyId);
+        return true;
+    }
+
+    public State getState(String strategyId) {
+        Health health = strategies.get(strategyId);
+        return health != null ? health.state() : State.ACTIVE;
+    }
+
+    public List<StrategyHealth> getStatus() {
+        List<StrategyHealth> status = new ArrayList<>();
+        for (Health health : strategies.values()) {
+            status.add(health.snapshot());
+        }
+        status.sort(Comparator.comparing(StrategyHealth::strategyId));
+        return status;
+    }
+
+    /**
+     * Evaluation window and breaker state of one strategy.
+     */
+    private final class Health {
+        private final String strategyId;
+        private final Timer successTimer;
+        private final Timer errorTimer;
+        private final Counter demotedSkips;
+        private final Counter suspendedSkips;
+
+        // Guarded by this
+        private final long[] durations = new long[Math.max(1, window)];
+        private final boolean[] failures = new boolean[durations.length];
+        private int size;
+        private int next;
+        private State state = State.ACTIVE;
+        private final Map<String, Long> turns = new HashMap<>();
+        private long suspendedUntilNanos;
+        private LocalDateTime suspendedUntil;
+        private boolean trialRunning;
+        private String reason;
+        private long evaluations;
+        private long errors;
+        private long skipped;
+
+        Health(String strategyId) {
+            this.strategyId = strategyId;
+            this.successTimer = durationTimer("success");
+            this.errorTimer = durationTimer("error");
+            this.demotedSkips = skipCounter("demoted");
+            this.suspendedSkips = skipCounter("suspended");
+            Gauge.builder("strategy.evaluation.state", this, h -> h.state().ordinal())
+                    .description("Strategy evaluation breaker state (0 active, 1 demoted, 2 suspended)")
+                    .tag("strategyId", strategyId)
+                    .register(meterRegistry);
+        }
+
+        synchronized Admission admit(String symbol, long nowNanos) {
+            switch (state) {
+                case DEMOTED:
+                    if (turns.merge(symbol, 1L, Long::sum) % demotedEvery == 0) {
+                        return Admission.EVALUATE;
+                    }
+                    skip(demotedSkips);
+                    return Admission.DEMOTED;
+                case SUSPENDED:
+                    if (nowNanos - suspendedUntilNanos >= 0) {
+                        // One trial evaluation; another after a further period if it never reports back
+                        trialRunning = true;
+                        suspendedUntilNanos = nowNanos + TimeUnit.SECONDS.toNanos(suspendSeconds);
+                        suspendedUntil = LocalDateTime.now().plusSeconds(suspendSeconds);
+                        return Admission.EVALUATE;
+                    }
+                    skip(suspendedSkips);
+                    return Admission.SUSPENDED;
+                default:
+                    return Admission.EVALUATE;
+            }
+        }
+
+        synchronized void record(long elapsedNanos, boolean failed, long nowNanos) {
+            evaluations++;
+            if (failed) {
+                errors++;
+            }
+
+            if (state == State.SUSPENDED) {
+                if (!trialRunning) {
+                    // Manual trigger while suspended; does not decide anything
+                    return;
+                }
+                trialRunning = false;
+                if (failed) {
+                    suspend(nowNanos, "trial evaluation failed");
+                    return;
+                }
+                clear();
+                state = State.ACTIVE;
+                log.info("Strategy evaluation resumed after suspension: strategyId={}", strategyId);
+            }
+
+            durations[next] = elapsedNanos;
+            failures[next] = failed;
+            next = (next + 1) % durations.length;
+            size = Math.min(size + 1, durations.length);
+            if (size < minEvaluations) {
+                return;
+            }
+
+            double errorRate = errorCount() / (double) size;
+            double slowRate = slowCount() / (double) size;
+            if (errorRate > maxErrorRate) {
+                suspend(nowNanos, String.format("error rate %.0f%% over %d evaluations", errorRate * 100, size));
+            } else if (state == State.ACTIVE && slowRate > maxSlowRate) {
+                state = State.DEMOTED;
+                turns.clear();
+                reason = String.format("%.0f%% of %d evaluations over the %dms budget", slowRate * 100, size, budgetMillis);
+                log.warn("Strategy evaluation demoted: strategyId={}, {}", strategyId, reason);
+            } else if (state == State.DEMOTED && slowRate <= maxSlowRate / 2) {
+                state = State.ACTIVE;
+                log.info("Strategy evaluation promoted: strategyId={}, slowRate={}", strategyId, slowRate);
+            }
+        }
+
+        synchronized void reset() {
+            clear();
+            state = State.ACTIVE;
+            trialRunning = false;
+            reason = null;
+        }
+
+        synchronized State state() {
+            return state;
+        }
+
+        synchronized StrategyHealth snapshot() {
+            long total = 0;
+            long max = 0;
+            for (int i = 0; i < size; i++) {
+                total += durations[i];
+                max = Math.max(max, durations[i]);
+            }
+            return new StrategyHealth(strategyId, state, size,
+                    size > 0 ? total / 1_000_000.0 / size : 0, max / 1_000_000.0,
+                    size > 0 ? slowCount() / (double) size : 0,
+                    size > 0 ? errorCount() / (double) size : 0,
+                    evaluations, errors, skipped,
+                    state == State.SUSPENDED ? suspendedUntil : null, reason);
+        }
+
+        private void suspend(long nowNanos, String why) {
+            state = State.SUSPENDED;
+            suspendedUntilNanos = nowNanos + TimeUnit.SECONDS.toNanos(suspendSeconds);
+            suspendedUntil = LocalDateTime.now().plusSeconds(suspendSeconds);
+            reason = why;
+            clear();
+            log.warn("Strategy evaluation suspended for {}s: strategyId={}, {}", suspendSeconds, strategyId, why);
+        }
+
+        private void clear() {
+            size = 0;
+            next = 0;
+        }
+
+        private int errorCount() {
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (failures[i]) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private int slowCount() {
+            long budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (durations[i] > budgetNanos) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private void skip(Counter counter) {
+            skipped++;
+            counter.increment();
+        }
+
+        void time(long elapsedNanos, boolean failed) {
+            (failed ? errorTimer : successTimer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private Timer durationTimer(String outcome) {
+            return Timer.builder("strategy.evaluation.duration")
+                    .description("Strategy evaluation time")
+                    .tag("strategyId", strategyId)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+
+        private Counter skipCounter(String reason) {
+            return Counter.builder("strategy.evaluation.skipped")
+                    .description("Strategy evaluations skipped by the breaker")
+                    .tag("strategyId", strategyId)
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+    }
+}
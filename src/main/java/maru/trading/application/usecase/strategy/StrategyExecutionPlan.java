@@ -0,0 +1,164 @@
+package maru.trading.application.usecase.strategy;
+
+import maru.trading.domain.market.BarResampler;
+import maru.trading.domain.strategy.Strategy;
+import maru.trading.domain.strategy.StrategyCadence;
+import maru.trading.domain.strategy.StrategyVersion;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, compiled view of everything strategy execution needs besides
+ * market data: active strategies, their active versions with parsed
+ * parameters, required bar count and cadence, and the
+ * strategy×symbol×account targets they are evaluated for.
+ *
+ * Built by {@link StrategyExecutionPlanner}; shared by all evaluation
+ * threads, so nothing in it may be modified.
+ */
+public final class StrategyExecutionPlan {
+
+    /**
+     * A strategy evaluated for one symbol on one account.
+     */
+    public record Target(String strategyId, String symbol, String accountId) {
+    }
+
+    /**
+     * An active strategy with its version resolved and parameters parsed.
+     *
+     * @param version      Active version, or null if it could not be loaded
+     * @param params       Parsed parameters (unmodifiable), or null if the version or its JSON is invalid
+     * @param requiredBars Bars needed for evaluation, derived from the parameters
+     * @param targets      Symbols and accounts to evaluate, in mapping order
+     * @param cadence      When the strategy is evaluated
+     */
+    public record CompiledStrategy(
+            Strategy strategy,
+            StrategyVersion version,
+            Map<String, Object> params,
+            int requiredBars,
+            List<Target> targets,
+            StrategyCadence cadence
+    ) {
+        /**
+         * Compiled strategy on the default cadence.
+         */
+        public CompiledStrategy(Strategy strategy, StrategyVersion version, Map<String, Object> params,
+                                int requiredBars, List<Target> targets) {
+            this(strategy, version, params, requiredBars, targets, StrategyCadence.DEFAULT);
+        }
+
+        public String strategyId() {
+            return strategy.getStrategyId();
+        }
+
+        /**
+         * Whether the strategy can be executed from the plan alone.
+         */
+        public boolean isReady() {
+            return version != null && params != null;
+        }
+    }
+
+    private final long generation;
+    private final LocalDateTime builtAt;
+    private final List<CompiledStrategy> strategies;
+    private final Map<String, CompiledStrategy> strategiesById;
+    private final Map<String, List<Target>> targetsBySymbol;
+    private final Map<String, List<Target>> barCloseTargets;
+    private final int targetCount;
+
+    StrategyExecutionPlan(long generation, List<CompiledStrategy> strategies) {
+        this.generation = generation;
+        this.builtAt = LocalDateTime.now();
+        this.strategies = List.copyOf(strategies);
+
+        Map<String, CompiledStrategy> byId = new LinkedHashMap<>();
+        Map<String, List<Target>> bySymbol = new HashMap<>();
+        Map<String, List<Target>> byBar = new HashMap<>();
+        int count = 0;
+        for (CompiledStrategy compiled : strategies) {
+            byId.put(compiled.strategyId(), compiled);
+            StrategyCadence cadence = compiled.cadence();
+            for (Target target : compiled.targets()) {
+                bySymbol.computeIfAbsent(target.symbol(), k -> new ArrayList<>()).add(target);
+                if (!cadence.isTimed()) {
+                    byBar.computeIfAbsent(barKey(target.symbol(), cadence.timeframe()), k -> new ArrayList<>())
+                            .add(target);
+                }
+                count++;
+            }
+        }
+        bySymbol.replaceAll((symbol, targets) -> List.copyOf(targets));
+        byBar.replaceAll((key, targets) -> List.copyOf(targets));
+        this.strategiesById = Collections.unmodifiableMap(byId);
+        this.targetsBySymbol = Map.copyOf(bySymbol);
+        this.barCloseTargets = Map.copyOf(byBar);
+        this.targetCount = count;
+    }
+
+    /**
+     * Active strategies, in the order the repository returned them.
+     */
+    public List<CompiledStrategy> getStrategies() {
+        return strategies;
+    }
+
+    /**
+     * @return Compiled strategy, or null if the strategy is not active
+     */
+    public CompiledStrategy find(String strategyId) {
+        return strategiesById.get(strategyId);
+    }
+
+    /**
+     * Targets of every strategy evaluated for a symbol.
+     */
+    public List<Target> getTargets(String symbol) {
+        return targetsBySymbol.getOrDefault(symbol, List.of());
+    }
+
+    /**
+     * Targets of the strategies evaluated when a bar of the symbol and timeframe closes.
+     */
+    public List<Target> getBarCloseTargets(String symbol, String timeframe) {
+        return barCloseTargets.getOrDefault(barKey(symbol, timeframe), List.of());
+    }
+
+    /**
+     * Number of targets evaluated on bar close (the rest run on timed cadences).
+     */
+    public int getBarCloseTargetCount() {
+        int count = 0;
+        for (List<Target> targets : barCloseTargets.values()) {
+            count += targets.size();
+        }
+        return count;
+    }
+
+    public int getTargetCount() {
+        return targetCount;
+    }
+
+    /**
+     * Build number, increasing with every rebuild.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    private static String barKey(String symbol, String timeframe) {
+        return symbol + ":" + BarResampler.normalize(timeframe);
+    }
+}
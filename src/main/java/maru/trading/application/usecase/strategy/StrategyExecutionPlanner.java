@@ -0,0 +1,294 @@
+package maru.trading.application.usecase.strategy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import maru.trading.application.ports.repo.StrategyRepository;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlan.CompiledStrategy;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlan.Target;
+import maru.trading.domain.market.BarResampler;
+import maru.trading.domain.strategy.Strategy;
+import maru.trading.domain.strategy.StrategyCadence;
+import maru.trading.domain.strategy.StrategyVersion;
+import maru.trading.infra.persistence.jpa.entity.StrategySymbolEntity;
+import maru.trading.infra.persistence.jpa.repository.StrategyJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.StrategySymbolJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Owner of the in-memory {@link StrategyExecutionPlan}.
+ *
+ * The plan is compiled once from the strategy, version and strategy-symbol
+ * tables and then served from memory, so evaluating strategies issues no
+ * metadata queries. It is rebuilt lazily, on the next {@link #current()},
+ * after being invalidated:
+ * - explicitly via {@link #invalidate(String)} (StrategyAdminController after
+ *   every change; inside a transaction the plan is invalidated again after commit)
+ * - by {@link #checkForChanges()}, which compares a cheap fingerprint of the
+ *   tables (row counts and latest update time) every
+ *   trading.scheduler.strategy.plan.checkMs to catch changes made elsewhere
+ *
+ * If a rebuild fails the previous plan stays in use and the rebuild is
+ * retried on the next access.
+ *
+ * A bar-close cadence must name a timeframe BarAggregator closes bars for
+ * (trading.bars.timeframes or trading.bars.derivedTimeframes); otherwise the
+ * strategy would never be evaluated, so it falls back to
+ * {@link StrategyCadence#DEFAULT} with a warning.
+ *
+ * Metrics: strategy.plan.rebuilds, strategy.plan.targets.
+ */
+@Component
+public class StrategyExecutionPlanner {
+
+    private static final Logger log = LoggerFactory.getLogger(StrategyExecutionPlanner.class);
+
+    // Fallback defaults when no StrategySymbol mappings exist
+    public static final String DEFAULT_SYMBOL = "005930"; // Samsung Electronics
+    public static final String DEFAULT_ACCOUNT_ID = "ACC_DEMO_001"; // Default demo account
+
+    private final StrategyRepository strategyRepository;
+    private final StrategySymbolJpaRepository strategySymbolRepository;
+    private final StrategyJpaRepository strategyJpaRepository;
+
+    @Value("${trading.bars.timeframes:1m}")
+    private String timeframes;
+
+    @Value("${trading.bars.derivedTimeframes:}")
+    private String derivedTimeframes;
+
+    private volatile StrategyExecutionPlan plan;
+    private volatile boolean stale = true;
+    private volatile Fingerprint fingerprint;
+    private long generation;
+
+    private final Counter rebuildCounter;
+
+    @Autowired
+    public StrategyExecutionPlanner(
+            StrategyRepository strategyRepository,
+            StrategySymbolJpaRepository strategySymbolRepository,
+            StrategyJpaRepository strategyJpaRepository,
+            MeterRegistry meterRegistry) {
+        this.strategyRepository = strategyRepository;
+        this.strategySymbolRepository = strategySymbolRepository;
+        this.strategyJpaRepository = strategyJpaRepository;
+
+        this.rebuildCounter = Counter.builder("strategy.plan.rebuilds")
+                .description("Strategy execution plan rebuilds")
+                .register(meterRegistry);
+        Gauge.builder("strategy.plan.targets", this,
+                        planner -> planner.plan != null ? planner.plan.getTargetCount() : 0)
+                .description("Strategy×symbol targets in the execution plan")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * Current plan, rebuilding it first if it was invalidated.
+     *
+     * @throws RuntimeException if no plan was ever built and building fails
+     */
+    public StrategyExecutionPlan current() {
+        StrategyExecutionPlan current = plan;
+        if (current != null && !stale) {
+            return current;
+        }
+        synchronized (this) {
+            if (plan != null && !stale) {
+                return plan;
+            }
+            return rebuild();
+        }
+    }
+
+    /**
+     * Last built plan without rebuilding; safe on latency-sensitive threads.
+     *
+     * @return Plan, or null if none was built yet
+     */
+    public StrategyExecutionPlan peek() {
+        return plan;
+    }
+
+    /**
+     * Compiled strategy from the current plan.
+     *
+     * @return Compiled strategy, or null if the strategy is not active
+     */
+    public CompiledStrategy find(String strategyId) {
+        return current().find(strategyId);
+    }
+
+    /**
+     * Mark the plan outdated; the next {@link #current()} rebuilds it.
+     *
+     * @param reason Logged reason
+     */
+    public void invalidate(String reason) {
+        stale = true;
+        log.debug("Strategy execution plan invalidated: {}", reason);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A rebuild before commit would not see the change
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stale = true;
+                }
+            });
+        }
+    }
+
+    /**
+     * Invalidate and rebuild the plan when the strategy tables changed.
+     */
+    @Scheduled(fixedDelayString = "${trading.scheduler.strategy.plan.checkMs:10000}",
+            initialDelayString = "${trading.scheduler.strategy.plan.checkMs:10000}")
+    public void checkForChanges() {
+        try {
+            Fingerprint latest = readFingerprint();
+            Fingerprint known = fingerprint;
+            if (known != null && !known.equals(latest)) {
+                invalidate("strategy tables changed");
+            }
+            if (stale) {
+                current();
+            }
+        } catch (Exception e) {
+            log.warn("Strategy execution plan change check failed: {}", e.getMessage());
+        }
+    }
+
+    private StrategyExecutionPlan rebuild() {
+        long startNanos = System.nanoTime();
+        // Cleared before reading, so an invalidation during the build is not lost
+        stale = false;
+        try {
+            Fingerprint before = readFingerprint();
+
+            List<CompiledStrategy> compiled = new ArrayList<>();
+            for (Strategy strategy : strategyRepository.findActiveStrategies()) {
+                compiled.add(compile(strategy));
+            }
+
+            StrategyExecutionPlan built = new StrategyExecutionPlan(++generation, compiled);
+            plan = built;
+            fingerprint = before;
+            rebuildCounter.increment();
+            log.info("Strategy execution plan built: generation={}, strategies={}, targets={}, elapsed={}ms",
+                    built.getGeneration(), compiled.size(), built.getTargetCount(),
+                    (System.nanoTime() - startNanos) / 1_000_000);
+            return built;
+
+        } catch (RuntimeException e) {
+            stale = true;
+            if (plan == null) {
+                throw e;
+            }
+            log.error("Strategy execution plan rebuild failed, keeping generation {}", plan.getGeneration(), e);
+            return plan;
+        }
+    }
+
+    private CompiledStrategy compile(Strategy strategy) {
+        List<Target> targets = new ArrayList<>();
+        List<StrategySymbolEntity> mappings =
+                strategySymbolRepository.findActiveByStrategyId(strategy.getStrategyId());
+        if (mappings.isEmpty()) {
+            // Fallback: use default symbol if no mappings exist
+            log.warn("No StrategySymbol mappings found for strategy {}, using default symbol {}",
+                    strategy.getStrategyId(), DEFAULT_SYMBOL);
+            targets.add(new Target(strategy.getStrategyId(), DEFAULT_SYMBOL, DEFAULT_ACCOUNT_ID));
+        } else {
+            for (StrategySymbolEntity mapping : mappings) {
+                targets.add(new Target(strategy.getStrategyId(), mapping.getSymbol(), mapping.getAccountId()));
+            }
+        }
+
+        StrategyVersion version = null;
+        Map<String, Object> params = null;
+        int requiredBars = 0;
+        StrategyCadence cadence = StrategyCadence.DEFAULT;
+        try {
+            if (strategy.getActiveVersionId() != null) {
+                version = strategyRepository.findVersionById(strategy.getActiveVersionId()).orElse(null);
+            }
+            if (version != null) {
+                params = Collections.unmodifiableMap(new LinkedHashMap<>(version.getParamsAsMap()));
+                requiredBars = LoadStrategyContextUseCase.calculateRequiredBars(params);
+                cadence = cadence(strategy, params);
+            } else {
+                log.warn("Active version not found for strategy {}: versionId={}",
+                        strategy.getStrategyId(), strategy.getActiveVersionId());
+            }
+        } catch (Exception e) {
+            // Executed through the database path, which reports the error per evaluation
+            log.warn("Strategy {} could not be compiled: {}", strategy.getStrategyId(), e.getMessage());
+            params = null;
+        }
+
+        return new CompiledStrategy(strategy, version, params, requiredBars, List.copyOf(targets), cadence);
+    }
+
+    private StrategyCadence cadence(Strategy strategy, Map<String, Object> params) {
+        StrategyCadence cadence;
+        try {
+            cadence = StrategyCadence.fromParams(params);
+        } catch (IllegalArgumentException e) {
+            log.warn("Strategy {} has an invalid cadence, using {}: {}",
+                    strategy.getStrategyId(), StrategyCadence.DEFAULT, e.getMessage());
+            return StrategyCadence.DEFAULT;
+        }
+        if (!cadence.isTimed() && !barTimeframes().contains(cadence.timeframe())) {
+            log.warn("Strategy {} has cadence {} but no {} bars are built (trading.bars.timeframes / "
+                            + "derivedTimeframes), using {}",
+                    strategy.getStrategyId(), cadence, cadence.timeframe(), StrategyCadence.DEFAULT);
+            return StrategyCadence.DEFAULT;
+        }
+        return cadence;
+    }
+
+    /**
+     * Timeframes BarAggregator closes bars for, aggregated from ticks or derived.
+     */
+    private Set<String> barTimeframes() {
+        Set<String> built = new LinkedHashSet<>(BarResampler.parseTimeframes(timeframes));
+        if (built.isEmpty()) {
+            built.add(BarResampler.BASE_TIMEFRAME);
+        }
+        built.addAll(BarResampler.parseTimeframes(derivedTimeframes));
+        return built;
+    }
+
+    private Fingerprint readFingerprint() {
+        return new Fingerprint(
+                strategyJpaRepository.count(),
+                strategyJpaRepository.findLatestUpdatedAt(),
+                strategySymbolRepository.count(),
+                strategySymbolRepository.findLatestUpdatedAt());
+    }
+
+    /**
+     * Cheap summary of the strategy tables; any insert, update or delete changes it.
+     */
+    private record Fingerprint(long strategies, LocalDateTime strategiesUpdatedAt,
+                               long symbols, LocalDateTime symbolsUpdatedAt) {
+    }
+}
@@ -0,0 +1,364 @@
+package maru.trading.application.usecase.strategy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import maru.trading.domain.market.MarketBar;
+import maru.trading.domain.signal.SignalDecision;
+import maru.trading.domain.strategy.IncrementalStrategyEngine;
+import maru.trading.domain.strategy.IndicatorCache;
+import maru.trading.domain.strategy.Strategy;
+import maru.trading.domain.strategy.StrategyContext;
+import maru.trading.domain.strategy.StrategyEngine;
+import maru.trading.domain.strategy.StrategyFactory;
+import maru.trading.domain.strategy.StrategyVersion;
+import maru.trading.domain.strategy.impl.RuleStrategy;
+import maru.trading.infra.cache.IndicatorRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * Registry of live strategy engine instances.
+ *
+ * One instance is kept per (strategyId, versionId, symbol, timeframe), so
+ * engines are created and their parameters validated once instead of on
+ * every evaluation. Instances of {@link IncrementalStrategyEngine}s keep
+ * their indicator state:
+ * - warmed up once from the bars of the first evaluation context, or
+ *   ahead of it at startup ({@link #warmUp})
+ * - afterwards fed only the closed bars newer than the last one applied
+ *   (normally the single bar that just closed), which is O(1) per bar
+ * - warmed up again when the context no longer overlaps the applied bars
+ *   (missed bars) or the parameters differ
+ *
+ * Other engines are stateless and shared by all evaluations of the key.
+ * Each instance holds a "live" {@link IndicatorRegistry} subscription for
+ * its symbol and timeframe, so strategies on the same symbol share
+ * indicator series while any of them is live: stateless engines the series
+ * of each bar window, incremental engines the incremental indicators they
+ * warmed up from the same history (an instance that falls behind their
+ * kept values is warmed up again with private indicators).
+ *
+ * Instances are evicted when a new version of the strategy is evaluated for
+ * the same symbol and timeframe, and when the execution plan changes:
+ * strategies no longer in the plan, or whose active version changed, are
+ * dropped on the next evaluation.
+ *
+ * Metrics: strategy.instances.live, strategy.instances.warmups,
+ * strategy.instances.bars, strategy.instances.evictions.
+ */
+@Component
+public class StrategyInstanceRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(StrategyInstanceRegistry.class);
+
+    static final String LIVE_SCOPE = "live";
+    static final String RULES_TYPE = "RULES";
+
+    /**
+     * Identity of a live instance.
+     */
+    public record Key(String strategyId, String versionId, String symbol, String timeframe) {
+    }
+
+    /**
+     * Snapshot of a live instance for admin visibility.
+     */
+    public record InstanceStatus(Key key, String strategyType, boolean incremental, int barCount,
+                                 LocalDateTime lastBarTimestamp, long evaluations, long warmUps) {
+    }
+
+    private final ConcurrentMap<Key, LiveInstance> instances = new ConcurrentHashMap<>();
+    private final StrategyExecutionPlanner executionPlanner;
+    private final IndicatorRegistry indicatorRegistry;
+    private volatile long prunedGeneration;
+
+    private final Counter warmUpCounter;
+    private final Counter barCounter;
+    private final Counter evictionCounter;
+
+    @Autowired
+    public StrategyInstanceRegistry(
+            StrategyExecutionPlanner executionPlanner,
+            IndicatorRegistry indicatorRegistry,
+            MeterRegistry meterRegistry) {
+        this.executionPlanner = executionPlanner;
+        this.indicatorRegistry = indicatorRegistry;
+
+        Gauge.builder("strategy.instances.live", instances, Map::size)
+                .description("Live strategy instances")
+                .register(meterRegistry);
+        this.warmUpCounter = Counter.builder("strategy.instances.warmups")
+                .description("Strategy instance warm-ups from history")
+                .register(meterRegistry);
+        this.barCounter = Counter.builder("strategy.instances.bars")
+                .description("Closed bars applied incrementally to strategy instances")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("strategy.instances.evictions")
+                .description("Strategy instances evicted after a version or plan change")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Evaluate a strategy with its live instance for the context's symbol and timeframe.
+     *
+     * @param strategy Strategy (its name determines the engine type unless the parameters hold an entry rule)
+     * @param version Active version
+     * @param context Evaluation context, bars oldest first
+     * @return Signal decision
+     * @throws IllegalArgumentException if the strategy type is unknown, the
+     *         parameters are invalid or there are not enough bars
+     */
+    public SignalDecision evaluate(Strategy strategy, StrategyVersion version, StrategyContext context) {
+        return instanceFor(strategy, version, context).evaluate(context);
+    }
+
+    /**
+     * Create the live instance for the context's symbol and timeframe ahead of
+     * its first evaluation, e.g. at startup. Incremental engines are warmed up
+     * from the context's bars, so the first evaluation only applies newer bars.
+     *
+     * @param strategy Strategy (its name determines the engine type unless the parameters hold an entry rule)
+     * @param version Active version
+     * @param context Context with the history to warm up from, bars oldest first
+     * @return true if indicator state was warmed up, false for stateless engines
+     * @throws IllegalArgumentException if the strategy type is unknown, the
+     *         parameters are invalid or there are not enough bars
+     */
+    public boolean warmUp(Strategy strategy, StrategyVersion version, StrategyContext context) {
+        return instanceFor(strategy, version, context).warmUp(context);
+    }
+
+    /**
+     * Drop every instance of a strategy.
+     *
+     * @return Number of instances evicted
+     */
+    public int evict(String strategyId) {
+        return evictIf(key -> key.strategyId().equals(strategyId), "evicted: " + strategyId);
+    }
+
+    public int size() {
+        return instances.size();
+    }
+
+    public List<InstanceStatus> getStatus() {
+        List<InstanceStatus> status = new ArrayList<>();
+        for (LiveInstance instance : instances.values()) {
+            status.add(instance.status());
+        }
+        return status;
+    }
+
+    /**
+     * Create an engine for a strategy and validate the parameters once.
+     * Parameters with an entry rule select the rule engine (RULES);
+     * otherwise the strategy name determines the type.
+     */
+    static StrategyEngine createEngine(String strategyName, Map<String, Object> params) {
+        String strategyType = params != null && params.containsKey(RuleStrategy.ENTRY_PARAM)
+                ? RULES_TYPE
+                : extractStrategyType(strategyName);
+
+        StrategyEngine engine = StrategyFactory.createStrategy(strategyType);
+        engine.validateParams(params);
+
+        return engine;
+    }
+
+    /**
+     * Extract strategy type from strategy name.
+     * Examples:
+     * - "MA Crossover Strategy" -> "MA_CROSSOVER"
+     * - "RSI Oversold" -> "RSI"
+     *
+     * @param strategyName Strategy name
+     * @return Strategy type identifier
+     */
+    static String extractStrategyType(String strategyName) {
+        if (strategyName == null) {
+            throw new IllegalArgumentException("Strategy name cannot be null");
+        }
+
+        String upperName = strategyName.toUpperCase();
+
+        // Simple pattern matching
+        if (upperName.contains("MA") && upperName.contains("CROSS")) {
+            return "MA_CROSSOVER";
+        } else if (upperName.contains("RSI")) {
+            return "RSI";
+        }
+
+        // Fallback: assume strategy name IS the strategy type
+        return strategyName.toUpperCase().replace(" ", "_");
+    }
+
+    private LiveInstance instanceFor(Strategy strategy, StrategyVersion version, StrategyContext context) {
+        pruneIfPlanChanged();
+
+        Key key = new Key(strategy.getStrategyId(), version.getStrategyVersionId(),
+                context.getSymbol(), context.getTimeframe());
+        LiveInstance instance = instances.get(key);
+        if (instance == null) {
+            instance = instances.computeIfAbsent(key, k -> {
+                StrategyEngine engine = createEngine(strategy.getName(), context.getParams());
+                return new LiveInstance(k, engine, indicatorRegistry.subscribe(LIVE_SCOPE, k.symbol(), k.timeframe()));
+            });
+            evictOtherVersions(key);
+        }
+        return instance;
+    }
+
+    private void evictOtherVersions(Key key) {
+        evictIf(other -> other.strategyId().equals(key.strategyId())
+                        && other.symbol().equals(key.symbol())
+                        && other.timeframe().equals(key.timeframe())
+                        && !other.versionId().equals(key.versionId()),
+                "version changed: " + key.strategyId() + " -> " + key.versionId());
+    }
+
+    private void pruneIfPlanChanged() {
+        StrategyExecutionPlan plan = executionPlanner.peek();
+        if (plan == null || plan.getGeneration() == prunedGeneration) {
+            return;
+        }
+        prunedGeneration = plan.getGeneration();
+        evictIf(key -> {
+            StrategyExecutionPlan.CompiledStrategy compiled = plan.find(key.strategyId());
+            if (compiled == null) {
+                return true;
+            }
+            return compiled.version() != null
+                    && !key.versionId().equals(compiled.version().getStrategyVersionId());
+        }, "plan generation " + plan.getGeneration());
+    }
+
+    private int evictIf(Predicate<Key> condition, String reason) {
+        int evicted = 0;
+        for (Key key : instances.keySet()) {
+            LiveInstance instance;
+            if (condition.test(key) && (instance = instances.remove(key)) != null) {
+                instance.release();
+                evicted++;
+                log.info("Strategy instance evicted ({}): {}", reason, key);
+            }
+        }
+        if (evicted > 0) {
+            evictionCounter.increment(evicted);
+        }
+        return evicted;
+    }
+
+    /**
+     * An engine and, for incremental engines, the bars applied to it.
+     */
+    private final class LiveInstance {
+        private final Key key;
+        private final StrategyEngine engine;
+        private final IncrementalStrategyEngine incremental;
+        private final IndicatorRegistry.Subscription indicators;
+
+        // Guarded by this
+        private Map<String, Object> params;
+        private LocalDateTime lastBarTimestamp;
+        private long evaluations;
+        private long warmUps;
+
+        LiveInstance(Key key, StrategyEngine engine, IndicatorRegistry.Subscription indicators) {
+            this.key = key;
+            this.engine = engine;
+            this.incremental = engine instanceof IncrementalStrategyEngine inc ? inc : null;
+            this.indicators = indicators;
+        }
+
+        SignalDecision evaluate(StrategyContext context) {
+            if (incremental == null) {
+                // Stateless engine, safe to share
+                return engine.evaluate(context.toBuilder().indicatorCache(indicators).build());
+            }
+            synchronized (this) {
+                evaluations++;
+                apply(context);
+                return incremental.evaluateState(context);
+            }
+        }
+
+        boolean warmUp(StrategyContext context) {
+            if (incremental == null) {
+                return false;
+            }
+            synchronized (this) {
+                apply(context);
+                return true;
+            }
+        }
+
+        private void apply(StrategyContext context) {
+            List<MarketBar> bars = context.getBars();
+            boolean paramsChanged = params != null && !params.equals(context.getParams());
+            if (paramsChanged) {
+                engine.validateParams(context.getParams());
+            }
+
+            if (params == null || paramsChanged || lastBarTimestamp == null
+                    || (!bars.isEmpty() && bars.get(0).getBarTimestamp().isAfter(lastBarTimestamp))) {
+                // First use, new parameters, or bars were missed since the last evaluation
+                rebuild(bars, context.getParams(), indicators);
+            } else {
+                // Apply only the bars after the last applied one
+                int from = bars.size();
+                while (from > 0 && bars.get(from - 1).getBarTimestamp().isAfter(lastBarTimestamp)) {
+                    from--;
+                }
+                try {
+                    for (int i = from; i < bars.size(); i++) {
+                        incremental.onBar(bars.get(i));
+                    }
+                    if (from < bars.size()) {
+                        barCounter.increment(bars.size() - from);
+                    }
+                } catch (IllegalStateException e) {
+                    // Fell behind a shared indicator's kept values
+                    rebuild(bars, context.getParams(), null);
+                }
+            }
+
+            if (!bars.isEmpty()) {
+                lastBarTimestamp = bars.get(bars.size() - 1).getBarTimestamp();
+            }
+        }
+
+        private void rebuild(List<MarketBar> bars, Map<String, Object> newParams, IndicatorCache shared) {
+            try {
+                incremental.warmUp(bars, newParams, shared);
+            } catch (IllegalStateException e) {
+                // Shared indicators started from these bars moved past them; keep this instance's private
+                incremental.warmUp(bars, newParams, null);
+            }
+            params = newParams;
+            warmUps++;
+            warmUpCounter.increment();
+            log.debug("Strategy instance warmed up: {}, bars={}, shared={}", key, bars.size(), shared != null);
+        }
+
+        void release() {
+            indicators.close();
+        }
+
+        synchronized InstanceStatus status() {
+            return new InstanceStatus(key, engine.getStrategyType(), incremental != null,
+                    incremental != null ? incremental.getBarCount() : 0,
+                    lastBarTimestamp, evaluations, warmUps);
+        }
+    }
+}
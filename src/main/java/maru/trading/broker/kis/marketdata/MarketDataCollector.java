@@ -3,6 +3,7 @@ package maru.trading.broker.kis.marketdata;
 import maru.trading.application.orchestration.BarAggregator;
 import maru.trading.domain.market.MarketTick;
 import maru.trading.infra.cache.MarketDataCache;
+import maru.trading.infra.journal.TickJournal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -23,6 +24,8 @@ public class MarketDataCollector {
     private final BarAggregator barAggregator;
     private final TickDataValidator validator;
     private final DataQualityMonitor qualityMonitor;
+    private final TickJournal tickJournal;
+    private final MarketDataConflator conflator;
 
     private final AtomicLong ticksReceived = new AtomicLong(0);
     private final AtomicLong ticksValid = new AtomicLong(0);
@@ -32,11 +35,15 @@ public class MarketDataCollector {
             MarketDataCache marketDataCache,
             BarAggregator barAggregator,
             TickDataValidator validator,
-            DataQualityMonitor qualityMonitor) {
+            DataQualityMonitor qualityMonitor,
+            TickJournal tickJournal,
+            MarketDataConflator conflator) {
         this.marketDataCache = marketDataCache;
         this.barAggregator = barAggregator;
         this.validator = validator;
         this.qualityMonitor = qualityMonitor;
+        this.tickJournal = tickJournal;
+        this.conflator = conflator;
     }
 
     /**
@@ -45,6 +52,16 @@ public class MarketDataCollector {
      * @param tick Market tick data
      */
     public void onTick(MarketTick tick) {
+        onTick(tick, System.nanoTime());
+    }
+
+    /**
+     * Process incoming tick data from WebSocket.
+     *
+     * @param tick          Market tick data
+     * @param receivedNanos {@link System#nanoTime()} when the frame arrived
+     */
+    public void onTick(MarketTick tick, long receivedNanos) {
         ticksReceived.incrementAndGet();
 
         try {
@@ -60,13 +77,19 @@ public class MarketDataCollector {
 
             ticksValid.incrementAndGet();
 
-            // 2. Update cache
+            // 2. Journal the raw tick (replay, recovery, tick-level backtests)
+            tickJournal.append(tick, receivedNanos);
+
+            // 3. Update cache
             marketDataCache.put(tick);
 
-            // 3. Trigger bar aggregator
+            // 4. Trigger bar aggregator
             barAggregator.onTick(tick);
 
-            // 4. Record quality metrics
+            // 5. Fan out to downstream consumers (conflated per consumer policy)
+            conflator.publish(tick, receivedNanos);
+
+            // 6. Record quality metrics
             qualityMonitor.recordValidTick(tick.getSymbol());
 
             if (ticksReceived.get() % 1000 == 0) {
@@ -0,0 +1,327 @@
+package maru.trading.broker.kis.marketdata;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import maru.trading.domain.market.MarketTick;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Conflating fan-out of validated ticks to downstream consumers.
+ *
+ * {@link MarketDataCollector} publishes every tick once; each consumer
+ * receives ticks on its own delivery thread according to its {@link Mode}:
+ * - EVERY_TICK - every tick in order, through a bounded queue (overflow is dropped)
+ * - LATEST - only the latest tick per symbol; ticks replaced before delivery are dropped
+ * - INTERVAL - the latest tick per symbol, at most once per interval
+ *
+ * Publishing never blocks the tick thread, so a slow consumer sees the
+ * current state of each symbol instead of a growing backlog.
+ *
+ * Metrics (tagged by consumer): marketdata.consumer.delivered,
+ * marketdata.consumer.dropped, marketdata.consumer.lag (tick receipt to
+ * delivery) and marketdata.consumer.pending.
+ */
+@Component
+public class MarketDataConflator {
+
+    private static final Logger log = LoggerFactory.getLogger(MarketDataConflator.class);
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    /**
+     * Delivery policy of a consumer.
+     */
+    public enum Mode {
+        EVERY_TICK,
+        LATEST,
+        INTERVAL
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${trading.market-data.conflation.queueCapacity:10000}")
+    private int queueCapacity;
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public MarketDataConflator(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Register a consumer and start its delivery thread.
+     *
+     * @param name     Consumer name (metric tag, thread name)
+     * @param mode     Delivery policy
+     * @param interval Minimum time between deliveries of a symbol (INTERVAL only)
+     * @param consumer Callback, invoked on the consumer's delivery thread
+     * @return Subscription; close it to stop delivery
+     */
+    public Subscription subscribe(String name, Mode mode, Duration interval, Consumer<MarketTick> consumer) {
+        if (mode == Mode.INTERVAL && (interval == null || interval.isZero() || interval.isNegative())) {
+            throw new IllegalArgumentException("INTERVAL mode requires a positive interval");
+        }
+
+        Subscription subscription = new Subscription(name, mode, interval, consumer);
+        subscriptions.add(subscription);
+        subscription.start();
+        log.info("Market data consumer subscribed: name={}, mode={}, interval={}", name, mode, interval);
+        return subscription;
+    }
+
+    /**
+     * Hand a validated tick to every consumer.
+     *
+     * @param tick          Tick
+     * @param receivedNanos {@link System#nanoTime()} when the frame arrived
+     */
+    public void publish(MarketTick tick, long receivedNanos) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        Pending pending = new Pending(tick, receivedNanos);
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(pending);
+        }
+    }
+
+    /**
+     * Delivery statistics of every consumer.
+     */
+    public List<ConsumerStats> getStats() {
+        List<ConsumerStats> stats = new ArrayList<>();
+        for (Subscription subscription : subscriptions) {
+            stats.add(subscription.getStats());
+        }
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+    }
+
+    /**
+     * Delivery statistics of one consumer.
+     */
+    public record ConsumerStats(String name, Mode mode, long delivered, long dropped, int pending,
+                                double lastLagMillis, double maxLagMillis) {
+    }
+
+    private record Pending(MarketTick tick, long receivedNanos) {
+    }
+
+    /**
+     * A registered consumer with its own pending state and delivery thread.
+     */
+    public final class Subscription implements AutoCloseable {
+
+        private final String name;
+        private final Mode mode;
+        private final Duration interval;
+        private final Consumer<MarketTick> consumer;
+
+        // EVERY_TICK
+        private final BlockingQueue<Pending> queue;
+        // LATEST / INTERVAL: latest undelivered tick per symbol, and symbols in arrival order
+        private final Map<String, Pending> latest = new ConcurrentHashMap<>();
+        private final BlockingQueue<String> dirty = new LinkedBlockingQueue<>();
+
+        private final AtomicLong delivered = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private volatile long lastLagNanos;
+        private volatile long maxLagNanos;
+
+        private final List<Meter> meters = new ArrayList<>();
+        private final Counter deliveredCounter;
+        private final Counter droppedCounter;
+        private final Timer lagTimer;
+
+        private final Thread thread;
+        private volatile boolean active = true;
+
+        private Subscription(String name, Mode mode, Duration interval, Consumer<MarketTick> consumer) {
+            this.name = name;
+            this.mode = mode;
+            this.interval = interval;
+            this.consumer = consumer;
+            this.queue = mode == Mode.EVERY_TICK ? new ArrayBlockingQueue<>(queueCapacity) : null;
+            this.thread = new Thread(this::run, "md-consumer-" + name);
+            this.thread.setDaemon(true);
+
+            deliveredCounter = Counter.builder("marketdata.consumer.delivered")
+                    .description("Ticks delivered to the consumer")
+                    .tag("consumer", name)
+                    .register(meterRegistry);
+            droppedCounter = Counter.builder("marketdata.consumer.dropped")
+                    .description("Ticks conflated away or rejected by a full queue")
+                    .tag("consumer", name)
+                    .register(meterRegistry);
+            lagTimer = Timer.builder("marketdata.consumer.lag")
+                    .description("Tick receipt to delivery to the consumer")
+                    .tag("consumer", name)
+                    .register(meterRegistry);
+            meters.add(deliveredCounter);
+            meters.add(droppedCounter);
+            meters.add(lagTimer);
+            meters.add(Gauge.builder("marketdata.consumer.pending", this, Subscription::getPending)
+                    .description("Ticks or symbols waiting for delivery")
+                    .tag("consumer", name)
+                    .register(meterRegistry));
+        }
+
+        private void start() {
+            thread.start();
+        }
+
+        /**
+         * Called on the tick thread; never blocks.
+         */
+        private void offer(Pending pending) {
+            if (!active) {
+                return;
+            }
+            if (mode == Mode.EVERY_TICK) {
+                if (!queue.offer(pending)) {
+                    drop();
+                }
+                return;
+            }
+            String symbol = pending.tick().getSymbol();
+            if (latest.put(symbol, pending) == null) {
+                dirty.offer(symbol);
+            } else {
+                drop();
+            }
+        }
+
+        private void run() {
+            try {
+                while (active) {
+                    switch (mode) {
+                        case EVERY_TICK -> {
+                            Pending pending = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                            if (pending != null) {
+                                deliver(pending);
+                            }
+                        }
+                        case LATEST -> {
+                            String symbol = dirty.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                            if (symbol != null) {
+                                deliverLatest(symbol);
+                            }
+                        }
+                        case INTERVAL -> {
+                            Thread.sleep(interval.toMillis());
+                            // Only symbols already waiting: each is delivered once per interval
+                            for (int n = dirty.size(); n > 0 && active; n--) {
+                                deliverLatest(dirty.poll());
+                            }
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void deliverLatest(String symbol) {
+            Pending pending = latest.remove(symbol);
+            if (pending != null) {
+                deliver(pending);
+            }
+        }
+
+        private void deliver(Pending pending) {
+            try {
+                consumer.accept(pending.tick());
+            } catch (Exception e) {
+                log.warn("Market data consumer {} failed on {}: {}", name, pending.tick().getSymbol(), e.getMessage());
+            }
+
+            long lagNanos = System.nanoTime() - pending.receivedNanos();
+            lastLagNanos = lagNanos;
+            if (lagNanos > maxLagNanos) {
+                maxLagNanos = lagNanos;
+            }
+            delivered.incrementAndGet();
+            deliveredCounter.increment();
+            lagTimer.record(lagNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void drop() {
+            dropped.incrementAndGet();
+            droppedCounter.increment();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Mode getMode() {
+            return mode;
+        }
+
+        public long getDelivered() {
+            return delivered.get();
+        }
+
+        public long getDropped() {
+            return dropped.get();
+        }
+
+        /**
+         * Queued ticks (EVERY_TICK) or symbols with an undelivered tick.
+         */
+        public int getPending() {
+            return mode == Mode.EVERY_TICK ? queue.size() : latest.size();
+        }
+
+        public ConsumerStats getStats() {
+            return new ConsumerStats(name, mode, getDelivered(), getDropped(), getPending(),
+                    lastLagNanos / 1_000_000.0, maxLagNanos / 1_000_000.0);
+        }
+
+        /**
+         * Stop delivery and unregister; pending ticks are discarded.
+         */
+        @Override
+        public void close() {
+            if (!active) {
+                return;
+            }
+            active = false;
+            subscriptions.remove(this);
+            if (Thread.currentThread() != thread) {
+                thread.interrupt();
+            }
+            meters.forEach(meterRegistry::remove);
+            log.info("Market data consumer unsubscribed: name={}, delivered={}, dropped={}",
+                    name, getDelivered(), getDropped());
+        }
+    }
+}
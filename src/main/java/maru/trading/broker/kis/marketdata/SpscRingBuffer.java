@@ -0,0 +1,103 @@
+package maru.trading.broker.kis.marketdata;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded single-producer / single-consumer ring of pre-allocated, reusable slots.
+ *
+ * The producer claims the next sequence, fills the slot in place and publishes it;
+ * the consumer reads every published slot up to the latest sequence and releases
+ * them in one step. Slots are never reallocated, so a steady stream of events
+ * produces no garbage in the ring itself.
+ *
+ * Exactly one thread may produce and exactly one thread may consume at a time.
+ *
+ * @param <T> Slot type
+ */
+final class SpscRingBuffer<T> {
+
+    private final Object[] slots;
+    private final int mask;
+    private final int capacity;
+
+    // Last published sequence (written by the producer)
+    private final AtomicLong published = new AtomicLong(-1);
+
+    // Last released sequence (written by the consumer)
+    private final AtomicLong released = new AtomicLong(-1);
+
+    // Producer-local: next sequence to claim
+    private long nextSequence;
+
+    /**
+     * @param capacity Number of slots, rounded up to a power of two
+     * @param factory  Creates the slots once
+     */
+    SpscRingBuffer(int capacity, Supplier<T> factory) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Ring capacity must be at least 2: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.capacity = size;
+        this.mask = size - 1;
+        this.slots = new Object[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = factory.get();
+        }
+    }
+
+    /**
+     * Claim the next slot for writing.
+     *
+     * @return Sequence of the claimed slot, or -1 if the ring is full
+     */
+    long tryClaim() {
+        if (nextSequence - released.get() > capacity) {
+            return -1;
+        }
+        return nextSequence;
+    }
+
+    /**
+     * Make a claimed slot visible to the consumer.
+     */
+    void publish(long sequence) {
+        nextSequence = sequence + 1;
+        published.lazySet(sequence);
+    }
+
+    /**
+     * Latest published sequence; every slot up to it may be read.
+     */
+    long availableSequence() {
+        return published.get();
+    }
+
+    /**
+     * Return all slots up to {@code sequence} to the producer.
+     */
+    void release(long sequence) {
+        released.lazySet(sequence);
+    }
+
+    long releasedSequence() {
+        return released.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    T get(long sequence) {
+        return (T) slots[(int) (sequence & mask)];
+    }
+
+    /**
+     * Number of published slots not yet released.
+     */
+    int size() {
+        return (int) (published.get() - released.get());
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,345 @@
+package maru.trading.broker.kis.marketdata;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import maru.trading.broker.kis.ws.KisWebSocketMessageParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Staged pipeline from the KIS WebSocket to {@link MarketDataCollector}.
+ *
+ * Stages (one thread each):
+ * 1. Ingest - the WebSocket listener thread copies the raw frame into the
+ *    next slot of the raw ring ({@link #publish}) and returns immediately.
+ * 2. Parse - one thread decodes raw frames (every record of a multi-record
+ *    frame) straight into the primitive slots of the symbol's shard ring
+ *    (symbol hash modulo {@code shards}).
+ * 3. Process - one thread per shard runs {@link MarketDataCollector#onTick}
+ *    (validation, MarketDataCache, BarAggregator, DataQualityMonitor).
+ *    All ticks of a symbol go to the same shard, so they stay in order.
+ *
+ * Rings are pre-allocated and their slots reused ({@link SpscRingBuffer}).
+ * Ingestion never waits: when the raw ring is full the frame is dropped and
+ * counted. The parser waits for a full shard ring, which backs up into the
+ * raw ring.
+ *
+ * With trading.market-data.pipeline.enabled=false frames are parsed and
+ * processed on the calling thread.
+ *
+ * Metrics:
+ * - marketdata.pipeline.depth{stage=raw|shard-N} - slots waiting in each ring
+ * - marketdata.pipeline.latency{stage=parse} - frame received to tick parsed
+ * - marketdata.pipeline.latency{stage=process} - frame received to tick processed
+ * - marketdata.pipeline.dropped - frames dropped because the raw ring was full
+ * - marketdata.pipeline.parse.failed - frames that yielded no tick
+ */
+@Component
+@DependsOn("tickJournalReplayer") // journal recovery finishes before live ticks reach BarAggregator
+public class TickPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(TickPipeline.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int IDLE_SPINS = 100;
+
+    private final KisWebSocketMessageParser parser;
+    private final MarketDataCollector collector;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${trading.market-data.pipeline.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.market-data.pipeline.rawBufferSize:65536}")
+    private int rawBufferSize;
+
+    @Value("${trading.market-data.pipeline.shardBufferSize:16384}")
+    private int shardBufferSize;
+
+    @Value("${trading.market-data.pipeline.shards:4}")
+    private int shardCount;
+
+    private SpscRingBuffer<RawSlot> rawRing;
+    private SpscRingBuffer<TickSlot>[] shardRings;
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    private Timer parseLatency;
+    private Timer processLatency;
+    private Counter droppedCounter;
+    private Counter parseFailedCounter;
+
+    public TickPipeline(KisWebSocketMessageParser parser, MarketDataCollector collector, MeterRegistry meterRegistry) {
+        this.parser = parser;
+        this.collector = collector;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        open();
+        if (!enabled) {
+            log.info("TickPipeline disabled: frames are processed on the WebSocket thread");
+            return;
+        }
+
+        running = true;
+        startThread("tick-parser", this::runParser);
+        for (int shard = 0; shard < shardCount; shard++) {
+            SpscRingBuffer<TickSlot> ring = shardRings[shard];
+            startThread("tick-shard-" + shard, () -> runShard(ring));
+        }
+        log.info("TickPipeline started: rawBufferSize={}, shards={}, shardBufferSize={}",
+                rawRing.capacity(), shardCount, shardRings[0].capacity());
+    }
+
+    /**
+     * Create rings and meters without starting the stage threads.
+     */
+    @SuppressWarnings("unchecked")
+    void open() {
+        rawRing = new SpscRingBuffer<>(rawBufferSize, RawSlot::new);
+        shardRings = new SpscRingBuffer[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            shardRings[shard] = new SpscRingBuffer<>(shardBufferSize, TickSlot::new);
+        }
+
+        Gauge.builder("marketdata.pipeline.depth", rawRing, SpscRingBuffer::size)
+                .description("Slots waiting in a tick pipeline ring")
+                .tag("stage", "raw")
+                .register(meterRegistry);
+        for (int shard = 0; shard < shardCount; shard++) {
+            Gauge.builder("marketdata.pipeline.depth", shardRings[shard], SpscRingBuffer::size)
+                    .description("Slots waiting in a tick pipeline ring")
+                    .tag("stage", "shard-" + shard)
+                    .register(meterRegistry);
+        }
+        parseLatency = Timer.builder("marketdata.pipeline.latency")
+                .description("Time from frame received to stage completed")
+                .tag("stage", "parse")
+                .register(meterRegistry);
+        processLatency = Timer.builder("marketdata.pipeline.latency")
+                .description("Time from frame received to stage completed")
+                .tag("stage", "process")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("marketdata.pipeline.dropped")
+                .description("Frames dropped because the raw ring was full")
+                .register(meterRegistry);
+        parseFailedCounter = Counter.builder("marketdata.pipeline.parse.failed")
+                .description("Frames that yielded no tick")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        for (Thread thread : threads) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        threads.clear();
+        log.info("TickPipeline stopped");
+    }
+
+    /**
+     * Hand a real-time frame to the pipeline. Never blocks.
+     * Called by the WebSocket listener thread (single producer).
+     *
+     * @return false if the raw ring is full and the frame was dropped
+     */
+    public synchronized boolean publish(String frame) {
+        long received = System.nanoTime();
+        if (!enabled) {
+            int ticks = parser.parseFrame(frame, (symbol, price, volume, date, secondOfDay, status) ->
+                    collector.onTick(KisWebSocketMessageParser.toMarketTick(
+                            symbol, price, volume, date, secondOfDay, status), received));
+            recordParsed(ticks, received);
+            if (ticks > 0) {
+                processLatency.record(System.nanoTime() - received, TimeUnit.NANOSECONDS);
+            }
+            return true;
+        }
+
+        long sequence = rawRing.tryClaim();
+        if (sequence < 0) {
+            droppedCounter.increment();
+            log.warn("Tick pipeline raw ring full, dropping frame");
+            return false;
+        }
+        RawSlot slot = rawRing.get(sequence);
+        slot.frame = frame;
+        slot.receivedNanos = received;
+        rawRing.publish(sequence);
+        return true;
+    }
+
+    /**
+     * Current depth of each ring (admin/monitoring).
+     */
+    public Map<String, Integer> getDepths() {
+        Map<String, Integer> depths = new LinkedHashMap<>();
+        depths.put("raw", rawRing.size());
+        for (int shard = 0; shard < shardRings.length; shard++) {
+            depths.put("shard-" + shard, shardRings[shard].size());
+        }
+        return depths;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Parse stage: decode raw frames and route ticks to their shard.
+     */
+    private void runParser() {
+        long next = 0;
+        int idle = 0;
+        ShardRouter router = new ShardRouter();
+        while (running || rawRing.availableSequence() >= next) {
+            long available = rawRing.availableSequence();
+            if (available < next) {
+                idle = idle(idle);
+                continue;
+            }
+            idle = 0;
+            for (long sequence = next; sequence <= available; sequence++) {
+                RawSlot slot = rawRing.get(sequence);
+                router.receivedNanos = slot.receivedNanos;
+                recordParsed(parser.parseFrame(slot.frame, router), slot.receivedNanos);
+                slot.frame = null;
+            }
+            rawRing.release(available);
+            next = available + 1;
+        }
+    }
+
+    private void recordParsed(int ticks, long receivedNanos) {
+        if (ticks == 0) {
+            parseFailedCounter.increment();
+        } else {
+            parseLatency.record(System.nanoTime() - receivedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Writes decoded ticks into the slot of their shard ring (parser thread only).
+     */
+    private final class ShardRouter implements KisWebSocketMessageParser.TickSink {
+
+        long receivedNanos;
+
+        @Override
+        public void onTick(String symbol, long price, long volume, LocalDate tradingDate, int secondOfDay,
+                           String tradingStatus) {
+            SpscRingBuffer<TickSlot> ring = shardRings[Math.floorMod(symbol.hashCode(), shardRings.length)];
+            long sequence;
+            int idle = 0;
+            while ((sequence = ring.tryClaim()) < 0) {
+                // Shard is behind: wait, backing up into the raw ring
+                if (!running) {
+                    return;
+                }
+                idle = idle(idle);
+            }
+            TickSlot slot = ring.get(sequence);
+            slot.symbol = symbol;
+            slot.price = price;
+            slot.volume = volume;
+            slot.tradingDate = tradingDate;
+            slot.secondOfDay = secondOfDay;
+            slot.tradingStatus = tradingStatus;
+            slot.receivedNanos = receivedNanos;
+            ring.publish(sequence);
+        }
+    }
+
+    /**
+     * Process stage: run the collector for every tick of one shard.
+     */
+    private void runShard(SpscRingBuffer<TickSlot> ring) {
+        long next = 0;
+        int idle = 0;
+        while (running || ring.availableSequence() >= next) {
+            long available = ring.availableSequence();
+            if (available < next) {
+                idle = idle(idle);
+                continue;
+            }
+            idle = 0;
+            for (long sequence = next; sequence <= available; sequence++) {
+                TickSlot slot = ring.get(sequence);
+                try {
+                    collector.onTick(KisWebSocketMessageParser.toMarketTick(slot.symbol, slot.price,
+                            slot.volume, slot.tradingDate, slot.secondOfDay, slot.tradingStatus),
+                            slot.receivedNanos);
+                } catch (Exception e) {
+                    log.error("Error processing tick for {}", slot.symbol, e);
+                }
+                processLatency.record(System.nanoTime() - slot.receivedNanos, TimeUnit.NANOSECONDS);
+            }
+            ring.release(available);
+            next = available + 1;
+        }
+    }
+
+    /**
+     * Busy-spin briefly, then park; keeps latency low under load without
+     * burning a core when the market is quiet.
+     */
+    private static int idle(int idleCount) {
+        if (idleCount < IDLE_SPINS) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        return idleCount + 1;
+    }
+
+    private void startThread(String name, Runnable task) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+        threads.add(thread);
+    }
+
+    /**
+     * Raw frame slot (ingest -> parse).
+     */
+    static final class RawSlot {
+        String frame;
+        long receivedNanos;
+    }
+
+    /**
+     * Parsed tick slot (parse -> process).
+     */
+    static final class TickSlot {
+        String symbol;
+        long price;
+        long volume;
+        LocalDate tradingDate;
+        int secondOfDay;
+        String tradingStatus;
+        long receivedNanos;
+    }
+}
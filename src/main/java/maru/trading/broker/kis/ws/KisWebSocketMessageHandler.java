@@ -39,15 +39,24 @@ public class KisWebSocketMessageHandler {
      * Handle incoming WebSocket message.
      * Routes to appropriate parser based on message type.
      *
+     * Real-time frames are dispatched on the TR ID read from the frame header;
+     * JSON messages (control messages, stub data) on their "type" field.
+     *
      * @param rawMessage Raw message string
      */
     public void handleMessage(String rawMessage) {
         try {
             log.debug("Received WebSocket message: {}", rawMessage);
 
-            // In production, parse message header to determine type
-            // For MVP stub, we'll use simple prefix detection
-            if (rawMessage.contains("\"type\":\"tick\"")) {
+            String trId = KisWebSocketMessageParser.trIdOf(rawMessage);
+            if (trId != null) {
+                switch (trId) {
+                    case KisWebSocketMessageParser.TR_TICK -> handleTickMessage(rawMessage);
+                    case KisWebSocketMessageParser.TR_FILL_NOTICE,
+                         KisWebSocketMessageParser.TR_FILL_NOTICE_PAPER -> handleFillMessage(rawMessage);
+                    default -> log.debug("Ignoring real-time message: trId={}", trId);
+                }
+            } else if (rawMessage.contains("\"type\":\"tick\"")) {
                 handleTickMessage(rawMessage);
             } else if (rawMessage.contains("\"type\":\"fill\"")) {
                 handleFillMessage(rawMessage);
@@ -4,12 +4,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import maru.trading.broker.kis.ws.dto.KisTickMessage;
 import maru.trading.domain.market.MarketTick;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * KIS WebSocket message parser (Stage 2).
@@ -17,18 +22,191 @@ import java.time.LocalTime;
  * Parses incoming WebSocket messages from KIS API and converts them
  * to domain model MarketTick objects.
  *
+ * Real-time frames have the form {@code "0|H0STCNT0|003|rec1^rec2^rec3"}:
+ * encryption flag, TR ID, record count and the records, whose fields are
+ * separated by '^' ({@value #TICK_FIELD_COUNT} fields per H0STCNT0 record,
+ * records follow each other). {@link #parseFrame} reads the header once and
+ * decodes every record with a single forward scan over the frame, parsing
+ * numbers straight into primitives. Symbols are interned, trading statuses
+ * are constants and the trading date is cached, so decoding a frame
+ * allocates nothing but a new symbol the first time it is seen.
+ *
  * Supports:
- * - Real-time tick data (H0STCNT0)
- * - Quote data (H0STASP0)
+ * - Real-time tick data (H0STCNT0), all records of a frame
+ * - JSON messages (control messages, stub data)
  */
 @Slf4j
 @Component
 public class KisWebSocketMessageParser {
 
+    public static final String TR_TICK = "H0STCNT0";
+    public static final String TR_QUOTE = "H0STASP0";
+    public static final String TR_FILL_NOTICE = "H0STCNI0";
+    public static final String TR_FILL_NOTICE_PAPER = "H0STCNI9";
+
+    private static final String[] KNOWN_TR_IDS = {TR_TICK, TR_QUOTE, TR_FILL_NOTICE, TR_FILL_NOTICE_PAPER};
+
+    /**
+     * Fields per H0STCNT0 record.
+     */
+    static final int TICK_FIELD_COUNT = 46;
+
+    // H0STCNT0 field positions
+    private static final int FIELD_SYMBOL = 0;       // MKSC_SHRN_ISCD
+    private static final int FIELD_TIME = 1;         // STCK_CNTG_HOUR (HHMMSS)
+    private static final int FIELD_PRICE = 2;        // STCK_PRPR
+    private static final int FIELD_SIGN = 3;         // PRDY_VRSS_SIGN
+    private static final int FIELD_VOLUME = 12;      // CNTG_VOL
+
+    private static final char FIELD_SEPARATOR = '^';
+    private static final char HEADER_SEPARATOR = '|';
+    private static final long INVALID = Long.MIN_VALUE;
+
+    /**
+     * Receives the ticks of a frame, one call per record.
+     * Arguments are primitives or shared instances; nothing is allocated per tick.
+     */
+    @FunctionalInterface
+    public interface TickSink {
+
+        /**
+         * @param symbol        Interned symbol code
+         * @param price         Trade price (KRW)
+         * @param volume        Trade volume
+         * @param tradingDate   Cached trading date
+         * @param secondOfDay   Trade time as seconds since midnight
+         * @param tradingStatus Constant trading status (NORMAL, UPPER_LIMIT, LOWER_LIMIT)
+         */
+        void onTick(String symbol, long price, long volume, LocalDate tradingDate, int secondOfDay,
+                    String tradingStatus);
+    }
+
     private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final SymbolTable symbols = new SymbolTable();
 
-    public KisWebSocketMessageParser(ObjectMapper objectMapper) {
+    private volatile TradingDate tradingDate = new TradingDate(null, Long.MIN_VALUE);
+
+    @Autowired
+    public KisWebSocketMessageParser(ObjectMapper objectMapper, Clock clock) {
         this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    /**
+     * TR ID of a real-time frame, read from its header.
+     *
+     * @return One of the TR_* constants, or null for JSON, unknown TR IDs and malformed frames
+     */
+    public static String trIdOf(CharSequence frame) {
+        if (frame == null || frame.length() < 3 || frame.charAt(1) != HEADER_SEPARATOR
+                || (frame.charAt(0) != '0' && frame.charAt(0) != '1')) {
+            return null;
+        }
+        int end = indexOf(frame, HEADER_SEPARATOR, 2, frame.length());
+        for (String trId : KNOWN_TR_IDS) {
+            if (regionEquals(frame, 2, end, trId)) {
+                return trId;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Decode every tick record of a real-time H0STCNT0 frame.
+     *
+     * @param frame Frame "0|H0STCNT0|count|records"
+     * @param sink  Receives one call per valid record
+     * @return Number of ticks delivered to the sink
+     */
+    public int parseFrame(CharSequence frame, TickSink sink) {
+        int end = frame.length();
+        if (!TR_TICK.equals(trIdOf(frame))) {
+            return 0;
+        }
+        if (frame.charAt(0) != '0') {
+            log.warn("Encrypted tick frames are not supported");
+            return 0;
+        }
+
+        // Header: flag | tr_id | count | data
+        int countStart = 2 + TR_TICK.length() + 1;
+        int countEnd = indexOf(frame, HEADER_SEPARATOR, countStart, end);
+        long count = parseLong(frame, countStart, countEnd);
+        if (count <= 0 || countEnd >= end) {
+            log.warn("Invalid tick frame header: {}", frame);
+            return 0;
+        }
+
+        LocalDate date = tradingDate();
+        int delivered = 0;
+        int pos = countEnd + 1;
+        for (int record = 0; record < count && pos < end; record++) {
+            int symbolStart = -1;
+            int symbolEnd = -1;
+            long time = INVALID;
+            long price = INVALID;
+            long volume = INVALID;
+            char sign = '3';
+            int fields = 0;
+
+            while (fields < TICK_FIELD_COUNT && pos <= end) {
+                int fieldEnd = indexOf(frame, FIELD_SEPARATOR, pos, end);
+                switch (fields) {
+                    case FIELD_SYMBOL -> {
+                        symbolStart = pos;
+                        symbolEnd = fieldEnd;
+                    }
+                    case FIELD_TIME -> time = parseTime(frame, pos, fieldEnd);
+                    case FIELD_PRICE -> price = parseLong(frame, pos, fieldEnd);
+                    case FIELD_SIGN -> sign = fieldEnd > pos ? frame.charAt(pos) : '3';
+                    case FIELD_VOLUME -> volume = parseLong(frame, pos, fieldEnd);
+                    default -> {
+                        // Field not used
+                    }
+                }
+                fields++;
+                pos = fieldEnd + 1;
+            }
+
+            if (symbolEnd <= symbolStart || time == INVALID || price <= 0 || volume < 0) {
+                log.warn("Skipping invalid tick record {} of frame: {}", record, frame);
+                continue;
+            }
+            sink.onTick(symbols.intern(frame, symbolStart, symbolEnd), price, volume, date, (int) time,
+                    tradingStatusOf(sign));
+            delivered++;
+        }
+        return delivered;
+    }
+
+    /**
+     * Parse all ticks of a message.
+     *
+     * @param message Real-time frame or JSON message
+     * @return Ticks in record order, possibly empty
+     */
+    public List<MarketTick> parseTicks(String message) {
+        if (message == null || message.isBlank()) {
+            return List.of();
+        }
+        if (message.startsWith("{")) {
+            MarketTick tick = parseTickMessage(message);
+            return tick != null ? List.of(tick) : List.of();
+        }
+        List<MarketTick> ticks = new ArrayList<>(1);
+        parseFrame(message, (symbol, price, volume, date, secondOfDay, status) ->
+                ticks.add(toMarketTick(symbol, price, volume, date, secondOfDay, status)));
+        return ticks;
+    }
+
+    /**
+     * Build the domain tick from decoded primitives.
+     */
+    public static MarketTick toMarketTick(String symbol, long price, long volume, LocalDate tradingDate,
+                                          int secondOfDay, String tradingStatus) {
+        return new MarketTick(symbol, BigDecimal.valueOf(price), volume,
+                LocalDateTime.of(tradingDate, LocalTime.ofSecondOfDay(secondOfDay)), tradingStatus);
     }
 
     /**
@@ -100,37 +278,24 @@ public class KisWebSocketMessageParser {
     /**
      * Parse delimited format message.
      *
-     * Format: "0|H0STCNT0|005930|72000|100|153000|..."
-     * Fields: response_code|tr_id|symbol|price|volume|time|...
+     * Format: "0|H0STCNT0|001|005930^093015^72000^..."
+     * Only the first record is returned; use {@link #parseFrame} for all of them.
      */
     private MarketTick parseDelimitedMessage(String message) {
-        String[] fields = message.split("\\|");
-
-        if (fields.length < 6) {
-            log.warn("Delimited message has insufficient fields: {}", message);
-            return null;
-        }
-
-        try {
-            String responseCode = fields[0];
-            String trId = fields[1];
-            String symbol = fields[2];
-            BigDecimal price = new BigDecimal(fields[3]);
-            long volume = Long.parseLong(fields[4]);
-            LocalDateTime timestamp = parseKisTime(fields[5]);
-
-            String tradingStatus = "NORMAL";
-
-            MarketTick tick = new MarketTick(symbol, price, volume, timestamp, tradingStatus);
-
-            log.trace("Parsed delimited tick: symbol={}, price={}, volume={}", symbol, price, volume);
-
-            return tick;
+        MarketTick[] first = new MarketTick[1];
+        parseFrame(message, (symbol, price, volume, date, secondOfDay, status) -> {
+            if (first[0] == null) {
+                first[0] = toMarketTick(symbol, price, volume, date, secondOfDay, status);
+            }
+        });
 
-        } catch (Exception e) {
-            log.error("Error parsing delimited message: {}", message, e);
+        if (first[0] == null) {
+            log.warn("Delimited message has no valid tick record: {}", message);
             return null;
         }
+        log.trace("Parsed delimited tick: symbol={}, price={}, volume={}",
+                first[0].getSymbol(), first[0].getPrice(), first[0].getVolume());
+        return first[0];
     }
 
     /**
@@ -153,10 +318,9 @@ public class KisWebSocketMessageParser {
             int minute = Integer.parseInt(kisTime.substring(2, 4));
             int second = Integer.parseInt(kisTime.substring(4, 6));
 
-            LocalDate today = LocalDate.now();
             LocalTime time = LocalTime.of(hour, minute, second);
 
-            return LocalDateTime.of(today, time);
+            return LocalDateTime.of(tradingDate(), time);
 
         } catch (Exception e) {
             log.error("Error parsing KIS time: {}", kisTime, e);
@@ -171,15 +335,18 @@ public class KisWebSocketMessageParser {
      * @return Trading status string
      */
     private String determineTradingStatus(String sign) {
-        if (sign == null) {
+        if (sign == null || sign.length() != 1) {
             return "NORMAL";
         }
+        return tradingStatusOf(sign.charAt(0));
+    }
 
+    private static String tradingStatusOf(char sign) {
         return switch (sign) {
-            case "1" -> "UPPER_LIMIT";  // 상한가
-            case "4" -> "LOWER_LIMIT";  // 하한가
-            case "2", "5" -> "NORMAL";  // 상승/하락
-            case "3" -> "NORMAL";       // 보합
+            case '1' -> "UPPER_LIMIT";  // 상한가
+            case '4' -> "LOWER_LIMIT";  // 하한가
+            case '2', '5' -> "NORMAL";  // 상승/하락
+            case '3' -> "NORMAL";       // 보합
             default -> "NORMAL";
         };
     }
@@ -215,4 +382,165 @@ public class KisWebSocketMessageParser {
             return 0L;
         }
     }
+
+    /**
+     * Today's date, recomputed only when the clock passes midnight.
+     */
+    LocalDate tradingDate() {
+        long now = clock.millis();
+        TradingDate cached = tradingDate;
+        if (now < cached.validUntilMillis) {
+            return cached.date;
+        }
+        ZoneId zone = clock.getZone();
+        LocalDate today = LocalDate.now(clock);
+        long nextMidnight = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        tradingDate = new TradingDate(today, nextMidnight);
+        return today;
+    }
+
+    /**
+     * HHMMSS to seconds since midnight.
+     *
+     * @return Seconds, or {@link #INVALID}
+     */
+    private static long parseTime(CharSequence s, int start, int end) {
+        if (end - start != 6) {
+            return INVALID;
+        }
+        long hhmmss = parseLong(s, start, end);
+        if (hhmmss < 0) {
+            return INVALID;
+        }
+        long hour = hhmmss / 10000;
+        long minute = (hhmmss / 100) % 100;
+        long second = hhmmss % 100;
+        if (hour > 23 || minute > 59 || second > 59) {
+            return INVALID;
+        }
+        return hour * 3600 + minute * 60 + second;
+    }
+
+    /**
+     * Parse a decimal integer with optional sign.
+     *
+     * @return Value, or {@link #INVALID} if the region is empty or not a number
+     */
+    private static long parseLong(CharSequence s, int start, int end) {
+        if (start >= end) {
+            return INVALID;
+        }
+        boolean negative = false;
+        int pos = start;
+        char first = s.charAt(pos);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++pos == end) {
+                return INVALID;
+            }
+        }
+        long value = 0;
+        for (; pos < end; pos++) {
+            int digit = s.charAt(pos) - '0';
+            if (digit < 0 || digit > 9 || value > (Long.MAX_VALUE - digit) / 10) {
+                return INVALID;
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    private static int indexOf(CharSequence s, char c, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (s.charAt(i) == c) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static boolean regionEquals(CharSequence s, int start, int end, String expected) {
+        if (end - start != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (s.charAt(start + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record TradingDate(LocalDate date, long validUntilMillis) {
+    }
+
+    /**
+     * Interns symbol codes read from a frame region without creating a String
+     * for symbols already seen. Lookups are lock-free; the rare insert copies
+     * the table (copy-on-write), so the parser may be shared between threads.
+     */
+    static final class SymbolTable {
+
+        private volatile String[] table = new String[1024];
+        private int size;
+
+        String intern(CharSequence s, int start, int end) {
+            int hash = hash(s, start, end);
+            String[] current = table;
+            String found = find(current, s, start, end, hash);
+            return found != null ? found : insert(s, start, end, hash);
+        }
+
+        private synchronized String insert(CharSequence s, int start, int end, int hash) {
+            String[] current = table;
+            String found = find(current, s, start, end, hash);
+            if (found != null) {
+                return found;
+            }
+            String symbol = s.subSequence(start, end).toString();
+            String[] next = current.clone();
+            if ((size + 1) * 2 > next.length) {
+                next = new String[current.length * 2];
+                for (String existing : current) {
+                    if (existing != null) {
+                        put(next, existing);
+                    }
+                }
+            }
+            put(next, symbol);
+            size++;
+            table = next;
+            return symbol;
+        }
+
+        private static String find(String[] table, CharSequence s, int start, int end, int hash) {
+            int mask = table.length - 1;
+            for (int i = hash & mask; ; i = (i + 1) & mask) {
+                String entry = table[i];
+                if (entry == null) {
+                    return null;
+                }
+                if (regionEquals(s, start, end, entry)) {
+                    return entry;
+                }
+            }
+        }
+
+        private static void put(String[] table, String symbol) {
+            int mask = table.length - 1;
+            int i = hash(symbol, 0, symbol.length()) & mask;
+            while (table[i] != null) {
+                i = (i + 1) & mask;
+            }
+            table[i] = symbol;
+        }
+
+        private static int hash(CharSequence s, int start, int end) {
+            int h = 0;
+            for (int i = start; i < end; i++) {
+                h = 31 * h + s.charAt(i);
+            }
+            return h ^ (h >>> 16);
+        }
+    }
 }
@@ -6,6 +6,7 @@ import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import maru.trading.broker.kis.auth.KisAuthenticationClient;
 import maru.trading.broker.kis.config.KisProperties;
+import maru.trading.broker.kis.marketdata.TickPipeline;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -32,7 +33,8 @@ import java.util.function.Consumer;
  * - Subscription message sending
  * - Connection state tracking
  * - Reconnection with exponential backoff
- * - Message routing to handler
+ * - Message routing: real-time data frames ("0|TR_ID|...") to the
+ *   {@link TickPipeline}, JSON control messages to the handler
  */
 @Slf4j
 @Component
@@ -42,6 +44,7 @@ public class WebSocketConnectionManager implements WebSocket.Listener {
     private final KisWebSocketMessageHandler messageHandler;
     private final KisAuthenticationClient authenticationClient;
     private final ObjectMapper objectMapper;
+    private final TickPipeline tickPipeline;
 
     @Value("${trading.market-data.mode:STUB}")
     private String marketDataMode;
@@ -56,15 +59,20 @@ public class WebSocketConnectionManager implements WebSocket.Listener {
     private Consumer<String> onMessageCallback;
     private String approvalKey;
 
+    // Fragments of a message split across several onText calls
+    private final StringBuilder partialMessage = new StringBuilder();
+
     public WebSocketConnectionManager(
             KisProperties kisProperties,
             KisWebSocketMessageHandler messageHandler,
             KisAuthenticationClient authenticationClient,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            TickPipeline tickPipeline) {
         this.kisProperties = kisProperties;
         this.messageHandler = messageHandler;
         this.authenticationClient = authenticationClient;
         this.objectMapper = objectMapper;
+        this.tickPipeline = tickPipeline;
     }
 
     /**
@@ -274,15 +282,34 @@ public class WebSocketConnectionManager implements WebSocket.Listener {
 
     /**
      * WebSocket.Listener callback: onText
+     *
+     * Real-time data frames are handed to the tick pipeline without waiting
+     * for parsing or processing.
      */
     @Override
     public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
-        String message = data.toString();
+        if (!last) {
+            partialMessage.append(data);
+            webSocket.request(1);
+            return null;
+        }
+
+        String message;
+        if (partialMessage.length() > 0) {
+            message = partialMessage.append(data).toString();
+            partialMessage.setLength(0);
+        } else {
+            message = data.toString();
+        }
         log.trace("Received WebSocket message: {}", message);
 
         try {
-            // Route to message handler
-            messageHandler.handleMessage(message);
+            if (isRealtimeFrame(message)) {
+                tickPipeline.publish(message);
+            } else {
+                // Route to message handler
+                messageHandler.handleMessage(message);
+            }
 
             // Notify callback if registered
             if (onMessageCallback != null) {
@@ -297,6 +324,13 @@ public class WebSocketConnectionManager implements WebSocket.Listener {
         return null;
     }
 
+    /**
+     * Unencrypted real-time data frame: "0|TR_ID|count|data".
+     */
+    private static boolean isRealtimeFrame(String message) {
+        return message.length() > 2 && message.charAt(0) == '0' && message.charAt(1) == '|';
+    }
+
     /**
      * WebSocket.Listener callback: onOpen
      */
@@ -0,0 +1,78 @@
+package maru.trading.domain.backtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import maru.trading.domain.execution.Fill;
+import maru.trading.domain.order.Order;
+import maru.trading.domain.signal.Signal;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot of a running backtest, taken between two bars.
+ *
+ * Holds everything needed to continue the replay where it stopped:
+ * the replay cursor, virtual broker state, open positions and the
+ * results accumulated so far. Strategy and indicator state is not stored:
+ * on resume the engine replays the bars before the cursor without
+ * evaluating or trading, refilling the bar window and feeding each bar to
+ * an incremental strategy's {@code onBar}, so its state matches the run
+ * that wrote the checkpoint.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BacktestCheckpoint {
+
+    /**
+     * Backtest ID the checkpoint belongs to.
+     */
+    private String backtestId;
+
+    /**
+     * Number of bars already processed (replay cursor).
+     */
+    private int processedBars;
+
+    /**
+     * Total bars in the replay when the checkpoint was taken.
+     * Used to detect that the underlying data changed since.
+     */
+    private int totalBars;
+
+    /**
+     * Virtual broker cash balance.
+     */
+    private BigDecimal cashBalance;
+
+    /**
+     * Orders submitted to the virtual broker but not yet filled.
+     */
+    private List<Order> pendingOrders;
+
+    /**
+     * Open positions by symbol, awaiting a closing fill.
+     */
+    private Map<String, BacktestTrade> openPositions;
+
+    private List<Signal> signals;
+    private List<Order> orders;
+    private List<Fill> fills;
+    private List<BacktestTrade> trades;
+
+    /**
+     * Wall-clock start of the original (first) run.
+     */
+    private LocalDateTime startTime;
+
+    /**
+     * When the checkpoint was taken.
+     */
+    private LocalDateTime createdAt;
+}
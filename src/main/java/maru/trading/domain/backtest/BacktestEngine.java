@@ -1,5 +1,8 @@
 package maru.trading.domain.backtest;
 
+import maru.trading.infra.persistence.jpa.entity.HistoricalBarEntity;
+
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -46,6 +49,19 @@ public interface BacktestEngine {
      */
     BacktestResult run(BacktestConfig config) throws BacktestException;
 
+    /**
+     * Run backtest synchronously on bars supplied by the caller.
+     *
+     * Used by distributed workers, which receive datasets from the coordinator
+     * instead of reading them from the database. Nothing is persisted.
+     *
+     * @param config Backtest configuration
+     * @param bars Bars to replay, in chronological order
+     * @return Backtest result with performance metrics
+     * @throws BacktestException if backtest execution fails
+     */
+    BacktestResult run(BacktestConfig config, List<HistoricalBarEntity> bars) throws BacktestException;
+
     /**
      * Validate backtest configuration.
      *
@@ -86,6 +102,30 @@ public interface BacktestEngine {
      */
     String runAsync(BacktestConfig config);
 
+    /**
+     * Run backtest asynchronously in a given scheduling class.
+     *
+     * Jobs of the same owner (user or strategy) share the owner's turn within
+     * the priority class, so one owner cannot starve the others.
+     *
+     * @param config Backtest configuration
+     * @param priority Scheduling class
+     * @param owner Fair-share key; defaults to the strategy ID when null
+     * @return Job ID for tracking progress
+     */
+    String runAsync(BacktestConfig config, BacktestPriority priority, String owner);
+
+    /**
+     * Resume a stopped async backtest (interrupted, failed or cancelled).
+     *
+     * Continues from the job's latest checkpoint when one exists,
+     * otherwise restarts it from the first bar under the same job ID.
+     *
+     * @param jobId Job ID from runAsync()
+     * @return true if the job was queued, false if it is already queued or running
+     */
+    boolean resumeAsync(String jobId);
+
     /**
      * Run backtest asynchronously with callback.
      *
@@ -0,0 +1,39 @@
+package maru.trading.domain.backtest;
+
+/**
+ * Scheduling class of an asynchronous backtest job.
+ *
+ * Classes are dispatched in declaration order: an interactive job queued
+ * behind a burst of optimization trials is always started first.
+ */
+public enum BacktestPriority {
+
+    /**
+     * Submitted by a user waiting on the result (admin UI, API).
+     */
+    INTERACTIVE,
+
+    /**
+     * Scheduled or bulk backtests nobody is actively waiting on.
+     */
+    BATCH,
+
+    /**
+     * Individual trials of a parameter optimization run.
+     */
+    OPTIMIZATION;
+
+    /**
+     * Parse a priority name, falling back to INTERACTIVE for null/blank/unknown values.
+     */
+    public static BacktestPriority fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return INTERACTIVE;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return INTERACTIVE;
+        }
+    }
+}
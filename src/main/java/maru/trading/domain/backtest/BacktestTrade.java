@@ -1,5 +1,6 @@
 package maru.trading.domain.backtest;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,7 +14,10 @@ import java.time.LocalDateTime;
  * Backtest trade (entry + exit).
  *
  * Represents a complete round-trip trade during backtest simulation.
+ * Derived flags (winner/loser) are serialized but ignored when read back,
+ * e.g. in trial summaries reported by backtest workers.
  */
+@JsonIgnoreProperties(ignoreUnknown = true)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
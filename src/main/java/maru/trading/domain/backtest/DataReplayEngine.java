@@ -73,4 +73,18 @@ public interface DataReplayEngine {
      * @return Current position in replay
      */
     int getCurrentIndex();
+
+    /**
+     * Get the version of the loaded bars of a symbol.
+     *
+     * The version changes whenever any of those bars (or the loaded range)
+     * changes, so results derived from the bars can be reused while it stays
+     * the same.
+     *
+     * @param symbol Symbol code
+     * @return Data version, or 0 if unknown
+     */
+    default long getDataVersion(String symbol) {
+        return 0L;
+    }
 }
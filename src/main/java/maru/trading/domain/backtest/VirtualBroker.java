@@ -71,6 +71,17 @@ public interface VirtualBroker {
      */
     void reset(BigDecimal initialCash);
 
+    /**
+     * Restore broker state from a checkpoint.
+     *
+     * Commission and slippage are not part of the state and must be set separately.
+     *
+     * @param cashBalance Cash balance at the checkpoint
+     * @param pendingOrders Orders still pending at the checkpoint
+     * @param fills Fills executed before the checkpoint
+     */
+    void restore(BigDecimal cashBalance, List<Order> pendingOrders, List<Fill> fills);
+
     /**
      * Set commission rate.
      *
@@ -0,0 +1,46 @@
+package maru.trading.domain.backtest.distributed;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import maru.trading.domain.backtest.montecarlo.MonteCarloConfig;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Slice of a Monte Carlo simulation: runs simulations
+ * {@code firstSimulation .. firstSimulation + simulations - 1} of the whole.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonteCarloChunk {
+
+    /**
+     * Net P&L of each base backtest trade.
+     */
+    private List<BigDecimal> tradeReturns;
+
+    private BigDecimal initialCapital;
+
+    private MonteCarloConfig.SimulationMethod method;
+
+    private boolean preserveCorrelation;
+
+    private int blockSize;
+
+    /**
+     * Number of the first simulation in this slice (1-based).
+     */
+    private int firstSimulation;
+
+    private int simulations;
+
+    /**
+     * Seed of this slice; null for a random seed.
+     */
+    private Long seed;
+}
@@ -0,0 +1,26 @@
+package maru.trading.domain.backtest.distributed;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Result of one Monte Carlo simulation, with its equity curve sampled
+ * to at most 100 points.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimulationOutcome {
+
+    private int simulationNumber;
+    private BigDecimal totalReturn;
+    private BigDecimal maxDrawdown;
+    private BigDecimal finalEquity;
+    private List<BigDecimal> equityCurve;
+}
@@ -0,0 +1,68 @@
+package maru.trading.domain.backtest.distributed;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import maru.trading.domain.backtest.BacktestResult;
+
+import java.util.List;
+
+/**
+ * Outcome of a trial, reported by a worker (or produced locally).
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrialResult {
+
+    private String trialId;
+
+    /**
+     * Worker that ran the trial; "local" when run by the coordinator itself.
+     */
+    private String workerId;
+
+    private boolean success;
+
+    private String errorMessage;
+
+    /**
+     * Backtest summary (BACKTEST trials): metrics and closed trades,
+     * without signals, orders, fills or equity curve.
+     */
+    private BacktestResult backtestResult;
+
+    /**
+     * Simulation outcomes (MONTE_CARLO trials).
+     */
+    private List<SimulationOutcome> simulations;
+
+    public static TrialResult backtest(String trialId, String workerId, BacktestResult result) {
+        return TrialResult.builder()
+                .trialId(trialId)
+                .workerId(workerId)
+                .success(true)
+                .backtestResult(result)
+                .build();
+    }
+
+    public static TrialResult monteCarlo(String trialId, String workerId, List<SimulationOutcome> simulations) {
+        return TrialResult.builder()
+                .trialId(trialId)
+                .workerId(workerId)
+                .success(true)
+                .simulations(simulations)
+                .build();
+    }
+
+    public static TrialResult failure(String trialId, String workerId, String errorMessage) {
+        return TrialResult.builder()
+                .trialId(trialId)
+                .workerId(workerId)
+                .success(false)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package maru.trading.domain.backtest.distributed;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import maru.trading.domain.backtest.BacktestConfig;
+
+/**
+ * Unit of work handed to a backtest worker.
+ *
+ * A BACKTEST trial carries a full backtest configuration plus a reference to
+ * the bar dataset it replays; workers fetch each dataset once and cache it.
+ * A MONTE_CARLO trial carries a slice of simulations to run.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrialTask {
+
+    private String trialId;
+
+    private TrialType type;
+
+    /**
+     * Delivery attempt, starting at 1; incremented when a lost worker's trial is re-queued.
+     */
+    private int attempt;
+
+    /**
+     * Backtest configuration (BACKTEST trials).
+     */
+    private BacktestConfig config;
+
+    /**
+     * Dataset reference resolved through the coordinator (BACKTEST trials).
+     */
+    private String datasetRef;
+
+    /**
+     * Simulation slice (MONTE_CARLO trials).
+     */
+    private MonteCarloChunk monteCarlo;
+
+    public TrialTask withAttempt(int attempt) {
+        return new TrialTask(trialId, type, attempt, config, datasetRef, monteCarlo);
+    }
+
+    public enum TrialType {
+        BACKTEST,
+        MONTE_CARLO
+    }
+}
@@ -0,0 +1,25 @@
+package maru.trading.domain.backtest.distributed;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Registration sent by a backtest worker to the coordinator.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkerRegistration {
+
+    private String workerId;
+
+    private String host;
+
+    /**
+     * Trials the worker runs concurrently.
+     */
+    private int slots;
+}
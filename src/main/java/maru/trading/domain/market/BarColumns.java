@@ -0,0 +1,128 @@
+package maru.trading.domain.market;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Column-oriented OHLCV series for a single symbol and timeframe.
+ *
+ * Holds prices as primitive arrays so bulk operations (resampling,
+ * indicators over a full backtest range) avoid per-bar objects.
+ * Rows are appended in chronological order. Not thread-safe.
+ */
+public class BarColumns {
+
+    private final String symbol;
+    private final String timeframe;
+
+    private LocalDateTime[] timestamps;
+    private double[] open;
+    private double[] high;
+    private double[] low;
+    private double[] close;
+    private long[] volume;
+    private int size;
+
+    public BarColumns(String symbol, String timeframe, int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.symbol = symbol;
+        this.timeframe = timeframe;
+        this.timestamps = new LocalDateTime[capacity];
+        this.open = new double[capacity];
+        this.high = new double[capacity];
+        this.low = new double[capacity];
+        this.close = new double[capacity];
+        this.volume = new long[capacity];
+    }
+
+    /**
+     * Append a row.
+     */
+    public void add(LocalDateTime timestamp, double o, double h, double l, double c, long v) {
+        if (size == timestamps.length) {
+            grow();
+        }
+        timestamps[size] = timestamp;
+        open[size] = o;
+        high[size] = h;
+        low[size] = l;
+        close[size] = c;
+        volume[size] = v;
+        size++;
+    }
+
+    /**
+     * Merge a later, finer bar into the last row.
+     */
+    void mergeLast(double h, double l, double c, long v) {
+        int last = size - 1;
+        if (h > high[last]) {
+            high[last] = h;
+        }
+        if (l < low[last]) {
+            low[last] = l;
+        }
+        close[last] = c;
+        volume[last] += v;
+    }
+
+    private void grow() {
+        int capacity = timestamps.length * 2;
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        open = Arrays.copyOf(open, capacity);
+        high = Arrays.copyOf(high, capacity);
+        low = Arrays.copyOf(low, capacity);
+        close = Arrays.copyOf(close, capacity);
+        volume = Arrays.copyOf(volume, capacity);
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public String getTimeframe() {
+        return timeframe;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public LocalDateTime getTimestamp(int index) {
+        return timestamps[checkIndex(index)];
+    }
+
+    public double getOpen(int index) {
+        return open[checkIndex(index)];
+    }
+
+    public double getHigh(int index) {
+        return high[checkIndex(index)];
+    }
+
+    public double getLow(int index) {
+        return low[checkIndex(index)];
+    }
+
+    public double getClose(int index) {
+        return close[checkIndex(index)];
+    }
+
+    public long getVolume(int index) {
+        return volume[checkIndex(index)];
+    }
+
+    /**
+     * Copy of the close column, e.g. as indicator input.
+     */
+    public double[] closes() {
+        return Arrays.copyOf(close, size);
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return index;
+    }
+}
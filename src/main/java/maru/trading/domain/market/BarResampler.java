@@ -0,0 +1,177 @@
+package maru.trading.domain.market;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Derives higher-timeframe bars from 1-minute bars.
+ *
+ * Supported timeframes: 1m (identity), 3m, 5m, 15m, 30m, 60m (alias 1h) and 1d.
+ *
+ * Intraday buckets are anchored at the start of the trading session a bar
+ * belongs to (see {@link MarketHoursPolicy}) and never span two sessions.
+ * The minute printed at the inclusive session end (e.g. 15:30 closing
+ * auction) is folded into the last bucket of the session. Bars outside any
+ * session are bucketed on the clock. Daily bars are stamped at 00:00.
+ *
+ * Stateless - thread-safe. For live aggregation see {@link IncrementalBarResampler}.
+ */
+public class BarResampler {
+
+    public static final String BASE_TIMEFRAME = "1m";
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final MarketHoursPolicy marketHoursPolicy;
+
+    public BarResampler() {
+        this(new MarketHoursPolicy());
+    }
+
+    public BarResampler(MarketHoursPolicy marketHoursPolicy) {
+        this.marketHoursPolicy = marketHoursPolicy;
+    }
+
+    /**
+     * Length of a timeframe in minutes.
+     *
+     * @return Minutes, or -1 if the timeframe is not supported
+     */
+    public static int minutesOf(String timeframe) {
+        if (timeframe == null) {
+            return -1;
+        }
+        return switch (timeframe) {
+            case "1m" -> 1;
+            case "3m" -> 3;
+            case "5m" -> 5;
+            case "15m" -> 15;
+            case "30m" -> 30;
+            case "60m", "1h" -> 60;
+            case "1d" -> MINUTES_PER_DAY;
+            default -> -1;
+        };
+    }
+
+    /**
+     * Canonical name of a timeframe (60m for its alias 1h), so bars, caches
+     * and strategy cadences use one key per timeframe.
+     */
+    public static String normalize(String timeframe) {
+        return "1h".equals(timeframe) ? "60m" : timeframe;
+    }
+
+    /**
+     * Parse a comma-separated list of timeframes, e.g. "5m,15m,1h".
+     *
+     * @return Normalized timeframes in list order (empty if blank)
+     */
+    public static List<String> parseTimeframes(String value) {
+        List<String> timeframes = new ArrayList<>();
+        if (value == null || value.isBlank()) {
+            return timeframes;
+        }
+        for (String timeframe : value.split(",")) {
+            if (!timeframe.isBlank()) {
+                timeframes.add(normalize(timeframe.trim()));
+            }
+        }
+        return timeframes;
+    }
+
+    /**
+     * Check if a timeframe can be derived from 1-minute bars.
+     */
+    public static boolean isDerivable(String timeframe) {
+        return minutesOf(timeframe) > 1;
+    }
+
+    /**
+     * Start of the bucket a 1-minute bar (or tick) belongs to.
+     *
+     * @param timestamp Bar or tick timestamp
+     * @param timeframe Target timeframe
+     * @return Bucket start (bar timestamp of the derived bar)
+     */
+    public LocalDateTime bucketStart(LocalDateTime timestamp, String timeframe) {
+        int minutes = minutesOf(timeframe);
+        if (minutes <= 0) {
+            throw new IllegalArgumentException("Unsupported timeframe: " + timeframe);
+        }
+
+        LocalDateTime minute = timestamp.truncatedTo(ChronoUnit.MINUTES);
+        if (minutes == 1) {
+            return minute;
+        }
+        if (minutes == MINUTES_PER_DAY) {
+            return minute.toLocalDate().atStartOfDay();
+        }
+
+        LocalDateTime anchor;
+        long sessionMinutes;
+        TradingSession session = marketHoursPolicy.getCurrentSession(minute);
+        if (session == null) {
+            anchor = minute.toLocalDate().atStartOfDay();
+            sessionMinutes = MINUTES_PER_DAY;
+        } else {
+            LocalTime start = marketHoursPolicy.getSessionStartTime(session);
+            LocalTime end = marketHoursPolicy.getSessionEndTime(session);
+            anchor = minute.toLocalDate().atTime(start);
+            sessionMinutes = Duration.between(start, end).toMinutes();
+        }
+
+        long elapsed = Math.min(Duration.between(anchor, minute).toMinutes(), Math.max(0, sessionMinutes - 1));
+        return anchor.plusMinutes(elapsed / minutes * minutes);
+    }
+
+    /**
+     * Check if a 1-minute bar is the last one of its bucket, i.e. the derived
+     * bar can be closed without waiting for the next bar.
+     *
+     * The last minute of the regular session (15:30) completes every bucket,
+     * including 60m and the daily bar, whose clock buckets would otherwise
+     * stay open until a bar of the next bucket arrives.
+     */
+    public boolean isBucketComplete(LocalDateTime minuteTimestamp, String timeframe) {
+        LocalDateTime minute = minuteTimestamp.truncatedTo(ChronoUnit.MINUTES);
+        if (minutesOf(timeframe) > 1
+                && marketHoursPolicy.getCurrentSession(minute) == TradingSession.REGULAR
+                && minute.toLocalTime().equals(marketHoursPolicy.getSessionEndTime(TradingSession.REGULAR))) {
+            return true;
+        }
+        LocalDateTime bucket = bucketStart(minuteTimestamp, timeframe);
+        return !bucket.equals(bucketStart(minuteTimestamp.plusMinutes(1), timeframe));
+    }
+
+    /**
+     * Resample a column batch of 1-minute bars of one symbol.
+     *
+     * @param source 1-minute bars in chronological order
+     * @param timeframe Target timeframe
+     * @return Derived bars
+     */
+    public BarColumns resample(BarColumns source, String timeframe) {
+        int minutes = minutesOf(timeframe);
+        if (minutes <= 0) {
+            throw new IllegalArgumentException("Unsupported timeframe: " + timeframe);
+        }
+
+        BarColumns target = new BarColumns(source.getSymbol(), timeframe, source.size() / minutes + 2);
+        LocalDateTime currentBucket = null;
+        for (int i = 0; i < source.size(); i++) {
+            LocalDateTime bucket = bucketStart(source.getTimestamp(i), timeframe);
+            if (!bucket.equals(currentBucket)) {
+                target.add(bucket, source.getOpen(i), source.getHigh(i), source.getLow(i),
+                        source.getClose(i), source.getVolume(i));
+                currentBucket = bucket;
+            } else {
+                target.mergeLast(source.getHigh(i), source.getLow(i), source.getClose(i), source.getVolume(i));
+            }
+        }
+        return target;
+    }
+}
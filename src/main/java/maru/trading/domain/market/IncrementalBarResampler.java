@@ -0,0 +1,113 @@
+package maru.trading.domain.market;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds higher-timeframe bars incrementally as 1-minute bars close.
+ *
+ * A derived bar is emitted as soon as its last minute has been added
+ * (see {@link BarResampler#isBucketComplete}), or when a bar of a later bucket
+ * arrives after gaps in the minute stream. Partial bars can be emitted with
+ * {@link #flush(String)} at end of day.
+ *
+ * Thread-safe across symbols: bars of different symbols may be added
+ * concurrently, but bars of one symbol must be added by one thread at a time
+ * (BarAggregator adds them under the symbol's lock).
+ */
+public class IncrementalBarResampler {
+
+    private final BarResampler resampler;
+    private final List<String> timeframes;
+
+    // Key: "symbol:timeframe", value: derived bar being built
+    private final Map<String, MarketBar> partials = new ConcurrentHashMap<>();
+
+    public IncrementalBarResampler(BarResampler resampler, List<String> timeframes) {
+        for (String timeframe : timeframes) {
+            if (!BarResampler.isDerivable(timeframe)) {
+                throw new IllegalArgumentException("Cannot derive timeframe from 1m bars: " + timeframe);
+            }
+        }
+        this.resampler = resampler;
+        this.timeframes = List.copyOf(timeframes);
+    }
+
+    /**
+     * Add a closed 1-minute bar.
+     *
+     * @param bar Closed 1-minute bar
+     * @return Derived bars completed by this bar (closed), possibly empty
+     */
+    public List<MarketBar> onBar(MarketBar bar) {
+        List<MarketBar> completed = new ArrayList<>(2);
+        for (String timeframe : timeframes) {
+            String key = bar.getSymbol() + ":" + timeframe;
+            LocalDateTime bucket = resampler.bucketStart(bar.getBarTimestamp(), timeframe);
+
+            MarketBar partial = partials.get(key);
+            if (partial != null && !partial.getBarTimestamp().equals(bucket)) {
+                if (bucket.isBefore(partial.getBarTimestamp())) {
+                    // Out-of-order bar for an already emitted bucket
+                    continue;
+                }
+                partial.close();
+                completed.add(partial);
+                partial = null;
+            }
+            if (partial == null) {
+                partial = new MarketBar(bar.getSymbol(), timeframe, bucket);
+                partials.put(key, partial);
+            }
+
+            partial.addBar(bar);
+
+            if (resampler.isBucketComplete(bar.getBarTimestamp(), timeframe)) {
+                partial.close();
+                completed.add(partial);
+                partials.remove(key);
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * Symbols with a partial derived bar.
+     */
+    public Set<String> getPendingSymbols() {
+        Set<String> symbols = new HashSet<>();
+        for (String key : partials.keySet()) {
+            symbols.add(key.substring(0, key.lastIndexOf(':')));
+        }
+        return symbols;
+    }
+
+    /**
+     * Close and return the partial derived bars of one symbol.
+     *
+     * Same threading rule as {@link #onBar}: the caller holds the symbol's lock.
+     *
+     * @param symbol Symbol
+     * @return Closed partial bars, possibly empty
+     */
+    public List<MarketBar> flush(String symbol) {
+        List<MarketBar> flushed = new ArrayList<>(timeframes.size());
+        for (String timeframe : timeframes) {
+            MarketBar partial = partials.remove(symbol + ":" + timeframe);
+            if (partial != null && partial.getOpen() != null) {
+                partial.close();
+                flushed.add(partial);
+            }
+        }
+        return flushed;
+    }
+
+    public List<String> getTimeframes() {
+        return timeframes;
+    }
+}
@@ -79,6 +79,35 @@ public class MarketBar {
         volume += tick.getVolume();
     }
 
+    /**
+     * Merge a finer bar into this bar, updating OHLCV values.
+     * Bars must be added in chronological order.
+     */
+    public void addBar(MarketBar bar) {
+        if (closed) {
+            throw new IllegalStateException("Cannot add bar to closed bar");
+        }
+        if (bar.getOpen() == null) {
+            return;
+        }
+
+        if (open == null) {
+            open = bar.getOpen();
+            high = bar.getHigh();
+            low = bar.getLow();
+        } else {
+            if (bar.getHigh().compareTo(high) > 0) {
+                high = bar.getHigh();
+            }
+            if (bar.getLow().compareTo(low) < 0) {
+                low = bar.getLow();
+            }
+        }
+
+        close = bar.getClose();
+        volume += bar.getVolume();
+    }
+
     /**
      * Mark bar as closed (no more ticks can be added).
      */
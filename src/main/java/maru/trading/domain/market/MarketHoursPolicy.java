@@ -200,27 +200,56 @@ public class MarketHoursPolicy {
      * @return Next opening time for the session
      */
     public LocalDateTime getNextOpeningTime(LocalDateTime now, TradingSession session) {
+        return getNextOpeningTime(now, session, null);
+    }
+
+    /**
+     * Get next market opening time, skipping weekends and public holidays.
+     *
+     * @param now Current time
+     * @param session Target session
+     * @param publicHolidays Set of public holiday dates (may be null)
+     * @return First session start strictly after now
+     */
+    public LocalDateTime getNextOpeningTime(LocalDateTime now, TradingSession session, Set<LocalDate> publicHolidays) {
         if (now == null || session == null) {
             throw new IllegalArgumentException("Parameters cannot be null");
         }
+        return nextSessionTime(now, getSessionStartTime(session), publicHolidays);
+    }
 
+    /**
+     * Get next market closing time, skipping weekends and public holidays.
+     *
+     * @param now Current time
+     * @param session Target session
+     * @param publicHolidays Set of public holiday dates (may be null)
+     * @return First session end strictly after now
+     */
+    public LocalDateTime getNextClosingTime(LocalDateTime now, TradingSession session, Set<LocalDate> publicHolidays) {
+        if (now == null || session == null) {
+            throw new IllegalArgumentException("Parameters cannot be null");
+        }
+        return nextSessionTime(now, getSessionEndTime(session), publicHolidays);
+    }
+
+    /**
+     * First business day time of day strictly after now.
+     */
+    private LocalDateTime nextSessionTime(LocalDateTime now, LocalTime time, Set<LocalDate> publicHolidays) {
         LocalDate date = now.toLocalDate();
-        LocalTime sessionStart = getSessionStartTime(session);
 
-        // If before session today, return today's session start
-        if (now.toLocalTime().isBefore(sessionStart)) {
-            return LocalDateTime.of(date, sessionStart);
+        // If before the time today, today counts when it is a business day
+        if (!now.toLocalTime().isBefore(time) || !isBusinessDay(date, publicHolidays)) {
+            date = getNextBusinessDay(date, publicHolidays);
         }
-
-        // Otherwise, return next business day's session start
-        LocalDate nextBusinessDay = getNextBusinessDay(date);
-        return LocalDateTime.of(nextBusinessDay, sessionStart);
+        return LocalDateTime.of(date, time);
     }
 
     /**
      * Get session start time.
      */
-    private LocalTime getSessionStartTime(TradingSession session) {
+    public LocalTime getSessionStartTime(TradingSession session) {
         return switch (session) {
             case PRE_MARKET -> LocalTime.of(8, 30);
             case REGULAR -> LocalTime.of(9, 0);
@@ -230,16 +259,33 @@ public class MarketHoursPolicy {
     }
 
     /**
-     * Get next business day (skip weekends).
+     * Get session end time (inclusive, see {@link #isWithinSession}).
+     */
+    public LocalTime getSessionEndTime(TradingSession session) {
+        return switch (session) {
+            case PRE_MARKET -> LocalTime.of(8, 40);
+            case REGULAR -> LocalTime.of(15, 30);
+            case AFTER_HOURS_CLOSING -> LocalTime.of(16, 0);
+            case AFTER_HOURS -> LocalTime.of(18, 0);
+        };
+    }
+
+    /**
+     * Get next business day (skip weekends and public holidays).
      */
-    private LocalDate getNextBusinessDay(LocalDate date) {
+    private LocalDate getNextBusinessDay(LocalDate date, Set<LocalDate> publicHolidays) {
         LocalDate nextDay = date.plusDays(1);
 
-        while (nextDay.getDayOfWeek() == DayOfWeek.SATURDAY
-                || nextDay.getDayOfWeek() == DayOfWeek.SUNDAY) {
+        while (!isBusinessDay(nextDay, publicHolidays)) {
             nextDay = nextDay.plusDays(1);
         }
 
         return nextDay;
     }
+
+    private boolean isBusinessDay(LocalDate date, Set<LocalDate> publicHolidays) {
+        return date.getDayOfWeek() != DayOfWeek.SATURDAY
+                && date.getDayOfWeek() != DayOfWeek.SUNDAY
+                && !isPublicHoliday(date, publicHolidays);
+    }
 }
@@ -0,0 +1,65 @@
+package maru.trading.domain.strategy;
+
+import maru.trading.domain.market.MarketBar;
+import maru.trading.domain.signal.SignalDecision;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Strategy that can keep its indicators as incremental state.
+ *
+ * A long-lived instance is warmed once from history and then fed each
+ * closed bar, so evaluating a new bar costs O(1) for incremental indicators
+ * instead of recomputing them over the whole bar window.
+ *
+ * The stateless {@link #evaluate(StrategyContext)} keeps working as before.
+ * The incremental methods mutate the instance, so such an instance belongs
+ * to one strategy version, symbol and timeframe, and callers must not use it
+ * from several threads at once.
+ */
+public interface IncrementalStrategyEngine extends StrategyEngine {
+
+    /**
+     * Reset the state and rebuild it from history, keeping indicators private.
+     *
+     * @param bars Closed bars, oldest first
+     * @param params Strategy parameters (already validated)
+     */
+    default void warmUp(List<MarketBar> bars, Map<String, Object> params) {
+        warmUp(bars, params, null);
+    }
+
+    /**
+     * Reset the state and rebuild it from history.
+     *
+     * @param bars Closed bars, oldest first
+     * @param params Strategy parameters (already validated)
+     * @param indicators Cache to share incremental indicators through
+     *                   ({@link IndicatorCache#rolling}), or null to keep them private
+     */
+    void warmUp(List<MarketBar> bars, Map<String, Object> params, IndicatorCache indicators);
+
+    /**
+     * Update the state with the next closed bar.
+     *
+     * @param bar Closed bar following the last bar applied
+     * @throws IllegalStateException if a shared indicator no longer holds the
+     *         bar's value (warm up again)
+     */
+    void onBar(MarketBar bar);
+
+    /**
+     * Evaluate the current state.
+     *
+     * @param context Context of the evaluation (parameters, symbol; bars are not read)
+     * @return Signal decision for the last bar applied
+     * @throws IllegalArgumentException if not enough bars were applied yet
+     */
+    SignalDecision evaluateState(StrategyContext context);
+
+    /**
+     * @return Number of bars applied since the last warm-up
+     */
+    int getBarCount();
+}
@@ -0,0 +1,51 @@
+package maru.trading.domain.strategy;
+
+import maru.trading.domain.market.MarketBar;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Shared store of computed indicator series.
+ *
+ * Lets strategies evaluating the same symbol and timeframe reuse an
+ * indicator (e.g. RSI(14)) computed over the same bar window instead of
+ * each recomputing it. Cached values are shared between strategies and
+ * threads and must not be modified.
+ *
+ * A list-valued series may come back holding only its most recent values
+ * (persistent stores keep the tail of each window's series), so strategies
+ * read series from the end.
+ *
+ * Incremental engines share their indicators through {@link #rolling}
+ * instead: one {@link RollingSeries} advanced once per closed bar for every
+ * strategy that started it from the same bar.
+ */
+public interface IndicatorCache {
+
+    /**
+     * Get an indicator series for a bar window, computing it if absent.
+     *
+     * @param indicator Indicator name including its parameters, e.g. "RSI(14)"
+     * @param bars Input window, oldest first; identifies the cached value
+     * @param compute Computes the series from the window
+     * @return Cached or computed series
+     */
+    <T> T get(String indicator, List<MarketBar> bars, Supplier<T> compute);
+
+    /**
+     * Get an incremental indicator started at a bar, creating it if absent.
+     * Values depend on the first bar applied (e.g. Wilder smoothing), so
+     * only indicators started at the same bar are shared. The default keeps
+     * the indicator private to the caller.
+     *
+     * @param indicator Indicator name including its parameters, e.g. "RSI(14)"
+     * @param origin Timestamp of the first bar the caller applies
+     * @param create Creates the indicator before its first price
+     * @return Shared or new series
+     */
+    default RollingSeries rolling(String indicator, LocalDateTime origin, Supplier<IndicatorLibrary.Rolling> create) {
+        return new RollingSeries(create.get(), 2);
+    }
+}
@@ -13,7 +13,8 @@ import java.util.List;
  * - EMA (Exponential Moving Average)
  * - RSI (Relative Strength Index)
  *
- * All methods are static and thread-safe.
+ * All methods are static and thread-safe. The Rolling* classes are
+ * stateful, incremental counterparts for long-lived strategy instances.
  */
 public class IndicatorLibrary {
 
@@ -629,4 +630,157 @@ public class IndicatorLibrary {
 
         return new SpreadResult(spread, mean, stdDev, zScore);
     }
+
+    // ==================== Incremental Indicators ====================
+
+    /**
+     * Indicator updated one price at a time.
+     */
+    public interface Rolling {
+
+        /**
+         * Add the next price.
+         *
+         * @return Value including the price, or null until enough prices were added
+         */
+        BigDecimal add(BigDecimal price);
+
+        /**
+         * @return Latest value, or null until enough prices were added
+         */
+        BigDecimal getValue();
+    }
+
+    /**
+     * Simple Moving Average updated one price at a time.
+     *
+     * Keeps the last 'period' prices in a ring buffer and a running sum, so
+     * each {@link #add(BigDecimal)} is O(1). Values equal the corresponding
+     * elements of {@link #calculateMA(List, int)}. Not thread-safe.
+     */
+    public static class RollingMA implements Rolling {
+        private final int period;
+        private final BigDecimal[] window;
+        private int count;
+        private int next;
+        private BigDecimal sum = BigDecimal.ZERO;
+        private BigDecimal value;
+
+        public RollingMA(int period) {
+            if (period <= 0) {
+                throw new IllegalArgumentException("Period must be positive: " + period);
+            }
+            this.period = period;
+            this.window = new BigDecimal[period];
+        }
+
+        /**
+         * Add the next price.
+         *
+         * @return MA including the price, or null until 'period' prices were added
+         */
+        @Override
+        public BigDecimal add(BigDecimal price) {
+            if (count == period) {
+                sum = sum.subtract(window[next]);
+            } else {
+                count++;
+            }
+            window[next] = price;
+            next = (next + 1) % period;
+            sum = sum.add(price);
+
+            if (count == period) {
+                value = sum.divide(BigDecimal.valueOf(period), SCALE, ROUNDING_MODE);
+            }
+            return value;
+        }
+
+        /**
+         * @return Latest MA, or null until 'period' prices were added
+         */
+        @Override
+        public BigDecimal getValue() {
+            return value;
+        }
+
+        public boolean isReady() {
+            return value != null;
+        }
+    }
+
+    /**
+     * Relative Strength Index updated one price at a time with Wilder smoothing.
+     *
+     * Seeded like {@link #calculateRSI(List, int)} from the simple average of
+     * the first 'period' changes, then smoothed for every further price in
+     * O(1). Fed from the same first price, values equal calculateRSI; fed a
+     * longer history, they carry more smoothing than a recomputation over a
+     * trailing window. Not thread-safe.
+     */
+    public static class RollingRSI implements Rolling {
+        private final int period;
+        private BigDecimal previousPrice;
+        private int changes;
+        private BigDecimal avgGain = BigDecimal.ZERO;
+        private BigDecimal avgLoss = BigDecimal.ZERO;
+        private BigDecimal value;
+
+        public RollingRSI(int period) {
+            if (period <= 0) {
+                throw new IllegalArgumentException("Period must be positive: " + period);
+            }
+            this.period = period;
+        }
+
+        /**
+         * Add the next price.
+         *
+         * @return RSI including the price, or null until 'period + 1' prices were added
+         */
+        @Override
+        public BigDecimal add(BigDecimal price) {
+            if (previousPrice == null) {
+                previousPrice = price;
+                return null;
+            }
+            BigDecimal change = price.subtract(previousPrice);
+            previousPrice = price;
+            BigDecimal gain = change.compareTo(BigDecimal.ZERO) > 0 ? change : BigDecimal.ZERO;
+            BigDecimal loss = change.compareTo(BigDecimal.ZERO) > 0 ? BigDecimal.ZERO : change.abs();
+            changes++;
+
+            if (changes < period) {
+                // Accumulate sums for the first (simple) average
+                avgGain = avgGain.add(gain);
+                avgLoss = avgLoss.add(loss);
+                return null;
+            }
+            if (changes == period) {
+                avgGain = avgGain.add(gain).divide(BigDecimal.valueOf(period), SCALE, ROUNDING_MODE);
+                avgLoss = avgLoss.add(loss).divide(BigDecimal.valueOf(period), SCALE, ROUNDING_MODE);
+            } else {
+                avgGain = avgGain.multiply(BigDecimal.valueOf(period - 1))
+                        .add(gain)
+                        .divide(BigDecimal.valueOf(period), SCALE, ROUNDING_MODE);
+                avgLoss = avgLoss.multiply(BigDecimal.valueOf(period - 1))
+                        .add(loss)
+                        .divide(BigDecimal.valueOf(period), SCALE, ROUNDING_MODE);
+            }
+            value = calculateRSIValue(avgGain, avgLoss);
+            return value;
+        }
+
+        /**
+         * @return Latest RSI, or null until 'period + 1' prices were added
+         */
+        @Override
+        public BigDecimal getValue() {
+            return value;
+        }
+
+        public boolean isReady() {
+            return value != null;
+        }
+    }
 }
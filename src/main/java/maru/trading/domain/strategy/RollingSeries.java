@@ -0,0 +1,87 @@
+package maru.trading.domain.strategy;
+
+import maru.trading.domain.market.MarketBar;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Incremental indicator with the values of its most recent bars.
+ *
+ * Each closed bar is applied once, by the first reader to reach it; readers
+ * still on an earlier bar read that bar's value from the kept tail. Several
+ * strategies reading the same bar stream can so share one instance (see
+ * {@link IndicatorCache#rolling}). Thread-safe.
+ */
+public final class RollingSeries {
+
+    private final IndicatorLibrary.Rolling indicator;
+    private final LocalDateTime[] timestamps;
+    private final BigDecimal[] values;
+    private int next;
+    private LocalDateTime last;
+
+    /**
+     * @param indicator Indicator to advance, before its first price
+     * @param depth     Number of recent bar values kept (at least 2)
+     */
+    public RollingSeries(IndicatorLibrary.Rolling indicator, int depth) {
+        int size = Math.max(2, depth);
+        this.indicator = indicator;
+        this.timestamps = new LocalDateTime[size];
+        this.values = new BigDecimal[size];
+    }
+
+    /**
+     * Apply the bars after the last one applied.
+     *
+     * @param bars Closed bars, oldest first
+     */
+    public synchronized void advanceTo(List<MarketBar> bars) {
+        int from = bars.size();
+        while (from > 0 && (last == null || bars.get(from - 1).getBarTimestamp().isAfter(last))) {
+            from--;
+        }
+        for (int i = from; i < bars.size(); i++) {
+            apply(bars.get(i));
+        }
+    }
+
+    /**
+     * Value at a bar: the bar is applied if it follows the last one applied,
+     * otherwise its value is read from the kept tail.
+     *
+     * @param bar Closed bar
+     * @return Value at the bar, or null until the indicator is ready
+     * @throws IllegalStateException if the bar is older than the kept tail
+     */
+    public synchronized BigDecimal valueAt(MarketBar bar) {
+        LocalDateTime timestamp = bar.getBarTimestamp();
+        if (last == null || timestamp.isAfter(last)) {
+            return apply(bar);
+        }
+        for (int i = 0; i < timestamps.length; i++) {
+            if (timestamp.equals(timestamps[i])) {
+                return values[i];
+            }
+        }
+        throw new IllegalStateException("Bar " + timestamp + " is older than the kept values (last " + last + ")");
+    }
+
+    /**
+     * @return Timestamp of the last bar applied, or null before the first
+     */
+    public synchronized LocalDateTime getLastBarTimestamp() {
+        return last;
+    }
+
+    private BigDecimal apply(MarketBar bar) {
+        BigDecimal value = indicator.add(bar.getClose());
+        last = bar.getBarTimestamp();
+        timestamps[next] = last;
+        values[next] = value;
+        next = (next + 1) % timestamps.length;
+        return value;
+    }
+}
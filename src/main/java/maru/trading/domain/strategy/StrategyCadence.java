@@ -0,0 +1,221 @@
+package maru.trading.domain.strategy;
+
+import maru.trading.domain.market.BarResampler;
+import maru.trading.domain.market.MarketHoursPolicy;
+import maru.trading.domain.market.TradingSession;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * When a strategy is evaluated.
+ *
+ * Declared per strategy version by the "cadence" parameter:
+ * - bar:&lt;timeframe&gt; - when a bar of the timeframe closes (e.g. bar:5m, bar:1d); "bar" alone is bar:1m
+ * - every:&lt;N&gt;s|m|h - every N seconds, minutes or hours while the market is open (e.g. every:10s)
+ * - session-open[:&lt;session&gt;] - at the start of a trading session (default REGULAR)
+ * - session-close[:&lt;session&gt;] - at the end of a trading session (default REGULAR)
+ *
+ * Without the parameter a strategy is evaluated on every 1-minute bar close.
+ * Strategy contexts hold bars of {@link #barTimeframe()}: the cadence
+ * timeframe for bar closes, 1-minute bars for timed cadences.
+ * Intervals are aligned to the clock (every:10s fires at :00, :10, ...),
+ * sessions follow {@link MarketHoursPolicy}.
+ *
+ * @param kind            Cadence kind
+ * @param timeframe       Bar timeframe (BAR_CLOSE only)
+ * @param intervalSeconds Interval (INTERVAL only)
+ * @param session         Trading session (SESSION_OPEN / SESSION_CLOSE only)
+ */
+public record StrategyCadence(Kind kind, String timeframe, long intervalSeconds, TradingSession session) {
+
+    public static final String PARAM = "cadence";
+
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+    public enum Kind {
+        BAR_CLOSE,
+        INTERVAL,
+        SESSION_OPEN,
+        SESSION_CLOSE
+    }
+
+    public static final StrategyCadence DEFAULT = barClose(BarResampler.BASE_TIMEFRAME);
+
+    /**
+     * @param timeframe Bar timeframe; aliases are normalized (bar:1h closes on 60m bars)
+     */
+    public static StrategyCadence barClose(String timeframe) {
+        if (BarResampler.minutesOf(timeframe) <= 0) {
+            throw new IllegalArgumentException("Unsupported cadence timeframe: " + timeframe);
+        }
+        return new StrategyCadence(Kind.BAR_CLOSE, BarResampler.normalize(timeframe), 0, null);
+    }
+
+    public static StrategyCadence every(long seconds) {
+        if (seconds < 1 || seconds > SECONDS_PER_DAY) {
+            throw new IllegalArgumentException("Cadence interval must be between 1s and 24h: " + seconds + "s");
+        }
+        return new StrategyCadence(Kind.INTERVAL, null, seconds, null);
+    }
+
+    public static StrategyCadence sessionOpen(TradingSession session) {
+        return new StrategyCadence(Kind.SESSION_OPEN, null, 0, session);
+    }
+
+    public static StrategyCadence sessionClose(TradingSession session) {
+        return new StrategyCadence(Kind.SESSION_CLOSE, null, 0, session);
+    }
+
+    /**
+     * Cadence declared by strategy parameters.
+     *
+     * @param params Strategy parameters (may be null)
+     * @return Declared cadence, or {@link #DEFAULT}
+     * @throws IllegalArgumentException if the cadence parameter is invalid
+     */
+    public static StrategyCadence fromParams(Map<String, Object> params) {
+        Object value = params != null ? params.get(PARAM) : null;
+        return value != null ? parse(value.toString()) : DEFAULT;
+    }
+
+    /**
+     * Parse a cadence specification (see class documentation).
+     *
+     * @throws IllegalArgumentException if the specification is invalid
+     */
+    public static StrategyCadence parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            throw new IllegalArgumentException("Cadence cannot be empty");
+        }
+        String normalized = spec.trim().toLowerCase(Locale.ROOT);
+        int colon = normalized.indexOf(':');
+        String kind = colon < 0 ? normalized : normalized.substring(0, colon);
+        String argument = colon < 0 ? null : normalized.substring(colon + 1).trim();
+
+        return switch (kind) {
+            case "bar" -> barClose(argument != null ? argument : BarResampler.BASE_TIMEFRAME);
+            case "every" -> every(parseSeconds(argument, spec));
+            case "session-open" -> sessionOpen(parseSession(argument, spec));
+            case "session-close" -> sessionClose(parseSession(argument, spec));
+            default -> throw new IllegalArgumentException("Unknown cadence: " + spec
+                    + " (expected bar:<timeframe>, every:<N>s|m|h, session-open or session-close)");
+        };
+    }
+
+    private static long parseSeconds(String argument, String spec) {
+        if (argument == null || argument.length() < 2) {
+            throw new IllegalArgumentException("Cadence interval missing: " + spec);
+        }
+        long unit = switch (argument.charAt(argument.length() - 1)) {
+            case 's' -> 1;
+            case 'm' -> 60;
+            case 'h' -> 60 * 60;
+            default -> throw new IllegalArgumentException("Cadence interval unit must be s, m or h: " + spec);
+        };
+        try {
+            return Long.parseLong(argument.substring(0, argument.length() - 1)) * unit;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cadence interval: " + spec);
+        }
+    }
+
+    private static TradingSession parseSession(String argument, String spec) {
+        if (argument == null) {
+            return TradingSession.REGULAR;
+        }
+        try {
+            return TradingSession.valueOf(argument.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown trading session in cadence: " + spec);
+        }
+    }
+
+    /**
+     * Whether the cadence is driven by the clock rather than by bar closes.
+     */
+    public boolean isTimed() {
+        return kind != Kind.BAR_CLOSE;
+    }
+
+    /**
+     * Timeframe of the bars the strategy is evaluated on.
+     */
+    public String barTimeframe() {
+        return kind == Kind.BAR_CLOSE ? timeframe : BarResampler.BASE_TIMEFRAME;
+    }
+
+    /**
+     * Interval in milliseconds (0 unless INTERVAL).
+     */
+    public long intervalMillis() {
+        return intervalSeconds * 1000;
+    }
+
+    /**
+     * Next evaluation time of a timed cadence.
+     *
+     * Intervals only fire while one of the sessions is open; outside them
+     * the next time is the first aligned instant after the next opening.
+     *
+     * @param after          Previous evaluation time or now
+     * @param policy         Market hours
+     * @param sessions       Sessions intervals are limited to (REGULAR if empty)
+     * @param publicHolidays Public holidays (may be null)
+     * @return First evaluation time strictly after {@code after}
+     * @throws IllegalStateException for a BAR_CLOSE cadence
+     */
+    public LocalDateTime nextFireTime(LocalDateTime after, MarketHoursPolicy policy,
+                                      Set<TradingSession> sessions, Set<LocalDate> publicHolidays) {
+        return switch (kind) {
+            case BAR_CLOSE -> throw new IllegalStateException("Bar close cadence is not timed: " + this);
+            case SESSION_OPEN -> policy.getNextOpeningTime(after, session, publicHolidays);
+            case SESSION_CLOSE -> policy.getNextClosingTime(after, session, publicHolidays);
+            case INTERVAL -> nextInterval(after, policy, sessions, publicHolidays);
+        };
+    }
+
+    private LocalDateTime nextInterval(LocalDateTime after, MarketHoursPolicy policy,
+                                       Set<TradingSession> sessions, Set<LocalDate> publicHolidays) {
+        if (sessions == null || sessions.isEmpty()) {
+            sessions = Set.of(TradingSession.REGULAR);
+        }
+        LocalDateTime next = alignedAfter(after);
+        // A few attempts cover an interval longer than the gap to the next session
+        for (int attempt = 0; attempt < 8 && !policy.isMarketOpen(next, sessions, publicHolidays); attempt++) {
+            LocalDateTime opening = null;
+            for (TradingSession candidate : sessions) {
+                LocalDateTime open = policy.getNextOpeningTime(next, candidate, publicHolidays);
+                if (opening == null || open.isBefore(opening)) {
+                    opening = open;
+                }
+            }
+            next = alignedAfter(opening.minusNanos(1));
+        }
+        return next;
+    }
+
+    /**
+     * First instant strictly after the given time whose second of day is a multiple of the interval.
+     */
+    private LocalDateTime alignedAfter(LocalDateTime after) {
+        LocalDateTime day = after.truncatedTo(ChronoUnit.DAYS);
+        long second = after.toLocalTime().toSecondOfDay();
+        long next = (second / intervalSeconds + 1) * intervalSeconds;
+        return next >= SECONDS_PER_DAY ? day.plusDays(1) : day.plusSeconds(next);
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case BAR_CLOSE -> "bar:" + timeframe;
+            case INTERVAL -> "every:" + intervalSeconds + "s";
+            case SESSION_OPEN -> "session-open:" + session;
+            case SESSION_CLOSE -> "session-close:" + session;
+        };
+    }
+}
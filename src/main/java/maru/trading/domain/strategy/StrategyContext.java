@@ -20,7 +20,7 @@ import java.util.Map;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class StrategyContext {
 
     /**
@@ -56,6 +56,12 @@ public class StrategyContext {
      */
     private String timeframe;
 
+    /**
+     * Shared indicator cache for the symbol and timeframe (optional).
+     * Null computes every indicator directly.
+     */
+    private IndicatorCache indicatorCache;
+
     /**
      * Validate context data.
      * Throws IllegalArgumentException if invalid.
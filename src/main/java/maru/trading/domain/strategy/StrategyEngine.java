@@ -9,6 +9,8 @@ import maru.trading.domain.signal.SignalDecision;
  * in automated signal generation.
  *
  * Strategy implementations should be stateless and thread-safe.
+ * Strategies that keep indicator state between bars additionally implement
+ * {@link IncrementalStrategyEngine}.
  */
 public interface StrategyEngine {
 
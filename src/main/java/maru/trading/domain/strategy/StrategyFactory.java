@@ -5,6 +5,7 @@ import maru.trading.domain.strategy.impl.MACDStrategy;
 import maru.trading.domain.strategy.impl.MACrossoverStrategy;
 import maru.trading.domain.strategy.impl.PairTradingStrategy;
 import maru.trading.domain.strategy.impl.RSIStrategy;
+import maru.trading.domain.strategy.impl.RuleStrategy;
 import maru.trading.domain.strategy.impl.VWAPStrategy;
 import maru.trading.domain.strategy.impl.VolatilityBreakoutStrategy;
 
@@ -19,6 +20,7 @@ import java.util.Map;
  * - RSI: RSI overbought/oversold strategy
  * - BOLLINGER_BANDS: Bollinger Bands mean reversion strategy
  * - MACD: MACD crossover strategy
+ * - RULES: User-defined entry/exit rules (see RuleStrategy)
  *
  * Extensible - add new strategies by:
  * 1. Implementing StrategyEngine interface
@@ -37,6 +39,7 @@ public class StrategyFactory {
         STRATEGY_REGISTRY.put("VWAP", VWAPStrategy.class);
         STRATEGY_REGISTRY.put("VOLATILITY_BREAKOUT", VolatilityBreakoutStrategy.class);
         STRATEGY_REGISTRY.put("PAIR_TRADING", PairTradingStrategy.class);
+        STRATEGY_REGISTRY.put("RULES", RuleStrategy.class);
     }
 
     /**
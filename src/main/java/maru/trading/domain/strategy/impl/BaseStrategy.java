@@ -2,11 +2,15 @@ package maru.trading.domain.strategy.impl;
 
 import maru.trading.domain.market.MarketBar;
 import maru.trading.domain.signal.SignalDecision;
+import maru.trading.domain.strategy.IndicatorCache;
+import maru.trading.domain.strategy.IndicatorLibrary;
+import maru.trading.domain.strategy.RollingSeries;
 import maru.trading.domain.strategy.StrategyContext;
 import maru.trading.domain.strategy.StrategyEngine;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -16,6 +20,8 @@ import java.util.stream.Collectors;
  * - Parameter validation
  * - Price extraction from bars
  * - Default TTL handling
+ * - Indicator lookup through the context's shared indicator cache
+ * - Incremental indicators shared through the same cache
  *
  * Subclasses implement evaluate() method with specific strategy logic.
  */
@@ -38,6 +44,39 @@ public abstract class BaseStrategy implements StrategyEngine {
         }
     }
 
+    /**
+     * Get an indicator series for the context's bars, from the shared
+     * indicator cache when the context has one.
+     *
+     * @param context Strategy context
+     * @param indicator Indicator name including its parameters, e.g. "MA(20)"
+     * @param compute Computes the series from the context's bars
+     * @return Indicator series (read-only; may hold only the most recent values)
+     */
+    protected <T> T indicator(StrategyContext context, String indicator, Supplier<T> compute) {
+        IndicatorCache cache = context.getIndicatorCache();
+        return cache != null ? cache.get(indicator, context.getBars(), compute) : compute.get();
+    }
+
+    /**
+     * Start an incremental indicator from history, shared through the cache
+     * with strategies that start it from the same first bar.
+     *
+     * @param indicators Cache to share through, or null to keep the indicator private
+     * @param indicator Indicator name including its parameters, e.g. "MA(20)"
+     * @param bars Closed bars to apply, oldest first
+     * @param create Creates the indicator before its first price
+     * @return Series advanced to the last of the bars
+     */
+    protected RollingSeries rolling(IndicatorCache indicators, String indicator, List<MarketBar> bars,
+                                    Supplier<IndicatorLibrary.Rolling> create) {
+        RollingSeries series = indicators != null && !bars.isEmpty()
+                ? indicators.rolling(indicator, bars.get(0).getBarTimestamp(), create)
+                : new RollingSeries(create.get(), 2);
+        series.advanceTo(bars);
+        return series;
+    }
+
     /**
      * Extract close prices from bars.
      *
@@ -56,8 +56,9 @@ public class BollingerBandsStrategy extends BaseStrategy {
         List<BigDecimal> closePrices = extractClosePrices(context.getBars());
 
         // Calculate Bollinger Bands
-        List<IndicatorLibrary.BollingerBands> bbList =
-                IndicatorLibrary.calculateBollingerBands(closePrices, period, stdDevMultiplier);
+        List<IndicatorLibrary.BollingerBands> bbList = indicator(context,
+                "BB(" + period + "," + stdDevMultiplier + ")",
+                () -> IndicatorLibrary.calculateBollingerBands(closePrices, period, stdDevMultiplier));
 
         // Get latest BB and price
         IndicatorLibrary.BollingerBands bbNow = bbList.get(bbList.size() - 1);
@@ -59,8 +59,9 @@ public class MACDStrategy extends BaseStrategy {
         List<BigDecimal> closePrices = extractClosePrices(context.getBars());
 
         // Calculate MACD
-        List<IndicatorLibrary.MACD> macdList =
-                IndicatorLibrary.calculateMACD(closePrices, fastPeriod, slowPeriod, signalPeriod);
+        List<IndicatorLibrary.MACD> macdList = indicator(context,
+                "MACD(" + fastPeriod + "," + slowPeriod + "," + signalPeriod + ")",
+                () -> IndicatorLibrary.calculateMACD(closePrices, fastPeriod, slowPeriod, signalPeriod));
 
         // Get latest and previous MACD values
         IndicatorLibrary.MACD macdNow = macdList.get(macdList.size() - 1);
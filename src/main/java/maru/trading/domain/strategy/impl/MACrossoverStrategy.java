@@ -1,7 +1,11 @@
 package maru.trading.domain.strategy.impl;
 
+import maru.trading.domain.market.MarketBar;
 import maru.trading.domain.signal.SignalDecision;
+import maru.trading.domain.strategy.IncrementalStrategyEngine;
+import maru.trading.domain.strategy.IndicatorCache;
 import maru.trading.domain.strategy.IndicatorLibrary;
+import maru.trading.domain.strategy.RollingSeries;
 import maru.trading.domain.strategy.StrategyContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,12 +28,27 @@ import java.util.Map;
  * - ttlSeconds: Signal TTL (optional, default 300)
  *
  * Minimum bars required: longPeriod + 1 (to detect crossover)
+ *
+ * Incremental mode keeps both MAs as rolling sums, so each new bar is O(1).
+ * Warmed up with an indicator cache, the rolling MAs are shared with the
+ * other strategies on the same bars that started them from the same bar.
  */
-public class MACrossoverStrategy extends BaseStrategy {
+public class MACrossoverStrategy extends BaseStrategy implements IncrementalStrategyEngine {
 
     private static final Logger log = LoggerFactory.getLogger(MACrossoverStrategy.class);
     private static final String STRATEGY_TYPE = "MA_CROSSOVER";
 
+    // Incremental state; not used by evaluate()
+    private int stateShortPeriod;
+    private int stateLongPeriod;
+    private RollingSeries rollingShortMA;
+    private RollingSeries rollingLongMA;
+    private BigDecimal shortMA;
+    private BigDecimal longMA;
+    private BigDecimal previousShortMA;
+    private BigDecimal previousLongMA;
+    private int barCount;
+
     @Override
     public SignalDecision evaluate(StrategyContext context) {
         // Validate context
@@ -54,8 +73,10 @@ public class MACrossoverStrategy extends BaseStrategy {
         List<BigDecimal> closePrices = extractClosePrices(context.getBars());
 
         // Calculate MAs
-        List<BigDecimal> shortMA = IndicatorLibrary.calculateMA(closePrices, shortPeriod);
-        List<BigDecimal> longMA = IndicatorLibrary.calculateMA(closePrices, longPeriod);
+        List<BigDecimal> shortMA = indicator(context, "MA(" + shortPeriod + ")",
+                () -> IndicatorLibrary.calculateMA(closePrices, shortPeriod));
+        List<BigDecimal> longMA = indicator(context, "MA(" + longPeriod + ")",
+                () -> IndicatorLibrary.calculateMA(closePrices, longPeriod));
 
         // Get latest and previous MA values
         BigDecimal shortMANow = shortMA.get(shortMA.size() - 1);
@@ -63,6 +84,59 @@ public class MACrossoverStrategy extends BaseStrategy {
         BigDecimal shortMAPrev = shortMA.get(shortMA.size() - 2);
         BigDecimal longMAPrev = longMA.get(longMA.size() - 2);
 
+        return decide(context, shortPeriod, longPeriod, ttlSeconds, shortMANow, longMANow, shortMAPrev, longMAPrev);
+    }
+
+    @Override
+    public void warmUp(List<MarketBar> bars, Map<String, Object> params, IndicatorCache indicators) {
+        stateShortPeriod = ((Number) params.get("shortPeriod")).intValue();
+        stateLongPeriod = ((Number) params.get("longPeriod")).intValue();
+        rollingShortMA = rolling(indicators, "MA(" + stateShortPeriod + ")", bars,
+                () -> new IndicatorLibrary.RollingMA(stateShortPeriod));
+        rollingLongMA = rolling(indicators, "MA(" + stateLongPeriod + ")", bars,
+                () -> new IndicatorLibrary.RollingMA(stateLongPeriod));
+
+        // Values at the last two bars, applied by the series
+        int size = bars.size();
+        previousShortMA = size > 1 ? rollingShortMA.valueAt(bars.get(size - 2)) : null;
+        previousLongMA = size > 1 ? rollingLongMA.valueAt(bars.get(size - 2)) : null;
+        shortMA = size > 0 ? rollingShortMA.valueAt(bars.get(size - 1)) : null;
+        longMA = size > 0 ? rollingLongMA.valueAt(bars.get(size - 1)) : null;
+        barCount = size;
+    }
+
+    @Override
+    public void onBar(MarketBar bar) {
+        previousShortMA = shortMA;
+        previousLongMA = longMA;
+        shortMA = rollingShortMA.valueAt(bar);
+        longMA = rollingLongMA.valueAt(bar);
+        barCount++;
+    }
+
+    @Override
+    public SignalDecision evaluateState(StrategyContext context) {
+        if (rollingLongMA == null) {
+            throw new IllegalStateException("MA Crossover state not warmed up");
+        }
+        int minBars = stateLongPeriod + 1;
+        if (barCount < minBars) {
+            throw new IllegalArgumentException(
+                    "Insufficient bars for " + STRATEGY_TYPE + ": need " + minBars + ", got " + barCount);
+        }
+
+        return decide(context, stateShortPeriod, stateLongPeriod, getTtlSeconds(context),
+                shortMA, longMA, previousShortMA, previousLongMA);
+    }
+
+    @Override
+    public int getBarCount() {
+        return barCount;
+    }
+
+    private SignalDecision decide(StrategyContext context, int shortPeriod, int longPeriod, int ttlSeconds,
+                                  BigDecimal shortMANow, BigDecimal longMANow,
+                                  BigDecimal shortMAPrev, BigDecimal longMAPrev) {
         log.debug("MA Crossover evaluation: symbol={}, shortMA(now)={}, longMA(now)={}, shortMA(prev)={}, longMA(prev)={}",
                 context.getSymbol(), shortMANow, longMANow, shortMAPrev, longMAPrev);
 
@@ -70,7 +70,8 @@ public class PairTradingStrategy extends BaseStrategy {
         List<BigDecimal> closePrices = extractClosePrices(context.getBars());
 
         // Calculate spread and Z-Score
-        IndicatorLibrary.SpreadResult spreadResult = IndicatorLibrary.calculateSimpleSpread(closePrices, lookbackPeriod);
+        IndicatorLibrary.SpreadResult spreadResult = indicator(context, "SPREAD(" + lookbackPeriod + ")",
+                () -> IndicatorLibrary.calculateSimpleSpread(closePrices, lookbackPeriod));
 
         BigDecimal currentPrice = closePrices.get(closePrices.size() - 1);
         BigDecimal zScore = spreadResult.getZScore();
@@ -1,7 +1,11 @@
 package maru.trading.domain.strategy.impl;
 
+import maru.trading.domain.market.MarketBar;
 import maru.trading.domain.signal.SignalDecision;
+import maru.trading.domain.strategy.IncrementalStrategyEngine;
+import maru.trading.domain.strategy.IndicatorCache;
 import maru.trading.domain.strategy.IndicatorLibrary;
+import maru.trading.domain.strategy.RollingSeries;
 import maru.trading.domain.strategy.StrategyContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,12 +29,26 @@ import java.util.Map;
  * - ttlSeconds: Signal TTL (optional, default 300)
  *
  * Minimum bars required: period + 2 (to detect crossover)
+ *
+ * Incremental mode keeps Wilder's smoothed averages, so each new bar is O(1).
+ * Smoothing continues from the warm-up instead of restarting at the oldest
+ * bar of the window, so values can differ slightly from evaluate(). Live
+ * instances and backtests both evaluate in incremental mode. Warmed up with
+ * an indicator cache, the rolling RSI is shared with the other strategies on
+ * the same bars that started it from the same bar.
  */
-public class RSIStrategy extends BaseStrategy {
+public class RSIStrategy extends BaseStrategy implements IncrementalStrategyEngine {
 
     private static final Logger log = LoggerFactory.getLogger(RSIStrategy.class);
     private static final String STRATEGY_TYPE = "RSI";
 
+    // Incremental state; not used by evaluate()
+    private int statePeriod;
+    private RollingSeries rollingRSI;
+    private BigDecimal rsi;
+    private BigDecimal previousRSI;
+    private int barCount;
+
     @Override
     public SignalDecision evaluate(StrategyContext context) {
         // Validate context
@@ -57,12 +75,60 @@ public class RSIStrategy extends BaseStrategy {
         List<BigDecimal> closePrices = extractClosePrices(context.getBars());
 
         // Calculate RSI
-        List<BigDecimal> rsiValues = IndicatorLibrary.calculateRSI(closePrices, period);
+        List<BigDecimal> rsiValues = indicator(context, "RSI(" + period + ")",
+                () -> IndicatorLibrary.calculateRSI(closePrices, period));
 
         // Get latest and previous RSI values
         BigDecimal rsiNow = rsiValues.get(rsiValues.size() - 1);
         BigDecimal rsiPrev = rsiValues.get(rsiValues.size() - 2);
 
+        return decide(context, overboughtThreshold, oversoldThreshold, ttlSeconds, rsiNow, rsiPrev);
+    }
+
+    @Override
+    public void warmUp(List<MarketBar> bars, Map<String, Object> params, IndicatorCache indicators) {
+        statePeriod = ((Number) params.get("period")).intValue();
+        rollingRSI = rolling(indicators, "RSI(" + statePeriod + ")", bars,
+                () -> new IndicatorLibrary.RollingRSI(statePeriod));
+
+        // Values at the last two bars, applied by the series
+        int size = bars.size();
+        previousRSI = size > 1 ? rollingRSI.valueAt(bars.get(size - 2)) : null;
+        rsi = size > 0 ? rollingRSI.valueAt(bars.get(size - 1)) : null;
+        barCount = size;
+    }
+
+    @Override
+    public void onBar(MarketBar bar) {
+        previousRSI = rsi;
+        rsi = rollingRSI.valueAt(bar);
+        barCount++;
+    }
+
+    @Override
+    public SignalDecision evaluateState(StrategyContext context) {
+        if (rollingRSI == null) {
+            throw new IllegalStateException("RSI state not warmed up");
+        }
+        int minBars = statePeriod + 2;
+        if (barCount < minBars) {
+            throw new IllegalArgumentException(
+                    "Insufficient bars for " + STRATEGY_TYPE + ": need " + minBars + ", got " + barCount);
+        }
+
+        return decide(context,
+                context.getParamAsDouble("overboughtThreshold"),
+                context.getParamAsDouble("oversoldThreshold"),
+                getTtlSeconds(context), rsi, previousRSI);
+    }
+
+    @Override
+    public int getBarCount() {
+        return barCount;
+    }
+
+    private SignalDecision decide(StrategyContext context, double overboughtThreshold, double oversoldThreshold,
+                                  int ttlSeconds, BigDecimal rsiNow, BigDecimal rsiPrev) {
         log.debug("RSI evaluation: symbol={}, RSI(now)={}, RSI(prev)={}, overbought={}, oversold={}",
                 context.getSymbol(), rsiNow, rsiPrev, overboughtThreshold, oversoldThreshold);
 
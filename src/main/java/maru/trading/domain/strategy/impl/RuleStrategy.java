@@ -0,0 +1,210 @@
+package maru.trading.domain.strategy.impl;
+
+import maru.trading.domain.market.MarketBar;
+import maru.trading.domain.signal.SignalDecision;
+import maru.trading.domain.strategy.IncrementalStrategyEngine;
+import maru.trading.domain.strategy.IndicatorCache;
+import maru.trading.domain.strategy.StrategyContext;
+import maru.trading.domain.strategy.rule.CompiledRule;
+import maru.trading.domain.strategy.rule.RuleNode;
+import maru.trading.domain.strategy.rule.RuleParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * User-defined rule strategy.
+ *
+ * Strategy Logic:
+ * - BUY when the entry rule holds for the last bar
+ * - SELL when the exit rule holds (and the entry rule does not)
+ * - HOLD otherwise
+ *
+ * Parameters:
+ * - entry: Entry rule, e.g. "crossAbove(ema(close,12), ema(close,26)) &amp;&amp; rsi(close,14) &lt; 70"
+ * - exit: Exit rule (optional)
+ * - ttlSeconds: Signal TTL (optional, default 300)
+ * - Any other numeric parameter can be referenced in the rules by name
+ *
+ * See {@link RuleParser} for the rule language.
+ *
+ * Minimum bars required: the most any rule needs (e.g. 27 for a crossover
+ * of ema(close,26)).
+ *
+ * Rules are parsed once per parameter set and compiled into
+ * {@link CompiledRule}s. Incremental mode keeps the compiled rules, so each
+ * new bar updates their indicators in O(1) without allocating.
+ */
+public class RuleStrategy extends BaseStrategy implements IncrementalStrategyEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(RuleStrategy.class);
+    private static final String STRATEGY_TYPE = "RULES";
+
+    public static final String ENTRY_PARAM = "entry";
+    public static final String EXIT_PARAM = "exit";
+
+    private volatile Rules rules;
+
+    // Incremental state; not used by evaluate()
+    private Rules stateRules;
+    private CompiledRule stateEntry;
+    private CompiledRule stateExit;
+    private int barCount;
+
+    @Override
+    public SignalDecision evaluate(StrategyContext context) {
+        // Validate context
+        context.validate();
+
+        Rules parsed = rules(context.getParams());
+        int ttlSeconds = getTtlSeconds(context);
+
+        // Validate minimum bars
+        validateMinimumBars(context, parsed.requiredBars());
+
+        // Compile fresh state and replay the window
+        CompiledRule entry = CompiledRule.compile(parsed.entry());
+        CompiledRule exit = parsed.exit() != null ? CompiledRule.compile(parsed.exit()) : null;
+        for (MarketBar bar : context.getBars()) {
+            entry.onBar(bar);
+            if (exit != null) {
+                exit.onBar(bar);
+            }
+        }
+
+        return decide(context, parsed, ttlSeconds, entry, exit);
+    }
+
+    @Override
+    public void warmUp(List<MarketBar> bars, Map<String, Object> params, IndicatorCache indicators) {
+        // Compiled rules keep primitive indicator state of their own; nothing is shared
+        stateRules = rules(params);
+        stateEntry = CompiledRule.compile(stateRules.entry());
+        stateExit = stateRules.exit() != null ? CompiledRule.compile(stateRules.exit()) : null;
+        barCount = 0;
+
+        for (MarketBar bar : bars) {
+            onBar(bar);
+        }
+    }
+
+    @Override
+    public void onBar(MarketBar bar) {
+        if (stateEntry == null) {
+            throw new IllegalStateException("Rule state not warmed up");
+        }
+        stateEntry.onBar(bar);
+        if (stateExit != null) {
+            stateExit.onBar(bar);
+        }
+        barCount++;
+    }
+
+    @Override
+    public SignalDecision evaluateState(StrategyContext context) {
+        if (stateEntry == null) {
+            throw new IllegalStateException("Rule state not warmed up");
+        }
+        if (barCount < stateRules.requiredBars()) {
+            throw new IllegalArgumentException(
+                    "Insufficient bars for " + STRATEGY_TYPE + ": need " + stateRules.requiredBars() + ", got " + barCount);
+        }
+
+        return decide(context, stateRules, getTtlSeconds(context), stateEntry, stateExit);
+    }
+
+    @Override
+    public int getBarCount() {
+        return barCount;
+    }
+
+    private SignalDecision decide(StrategyContext context, Rules parsed, int ttlSeconds,
+                                  CompiledRule entry, CompiledRule exit) {
+        if (entry.test()) {
+            String reason = "Entry rule matched: " + parsed.entrySource();
+            log.info("BUY signal generated: symbol={}, {}", context.getSymbol(), reason);
+            return SignalDecision.buy(getDefaultQuantity(context), reason, ttlSeconds);
+        }
+
+        if (exit != null && exit.test()) {
+            String reason = "Exit rule matched: " + parsed.exitSource();
+            log.info("SELL signal generated: symbol={}, {}", context.getSymbol(), reason);
+            return SignalDecision.sell(getDefaultQuantity(context), reason, ttlSeconds);
+        }
+
+        log.debug("HOLD signal: symbol={}, no rule matched", context.getSymbol());
+        return SignalDecision.hold("No rule matched");
+    }
+
+    /**
+     * Parsed rules for a parameter set; reused while the parameters stay the same.
+     */
+    private Rules rules(Map<String, Object> params) {
+        Rules current = rules;
+        if (current != null && (current.params() == params || current.params().equals(params))) {
+            return current;
+        }
+        Rules parsed = parse(params);
+        rules = parsed;
+        return parsed;
+    }
+
+    private static Rules parse(Map<String, Object> params) {
+        if (params == null || !(params.get(ENTRY_PARAM) instanceof String entrySource)) {
+            throw new IllegalArgumentException("Missing required parameter: " + ENTRY_PARAM);
+        }
+        RuleNode entry = RuleParser.parse(entrySource, params);
+
+        Object exitValue = params.get(EXIT_PARAM);
+        if (exitValue != null && !(exitValue instanceof String)) {
+            throw new IllegalArgumentException(EXIT_PARAM + " must be a string");
+        }
+        String exitSource = (String) exitValue;
+        RuleNode exit = exitSource != null ? RuleParser.parse(exitSource, params) : null;
+
+        int requiredBars = entry.firstBar();
+        if (exit != null) {
+            requiredBars = Math.max(requiredBars, exit.firstBar());
+        }
+        return new Rules(params, entrySource, entry, exitSource, exit, requiredBars);
+    }
+
+    /**
+     * Bars needed by the rules in a parameter set.
+     *
+     * @param params Strategy parameters
+     * @return Required bar count
+     * @throws IllegalArgumentException if the rules are missing or invalid
+     */
+    public static int requiredBars(Map<String, Object> params) {
+        return parse(params).requiredBars();
+    }
+
+    @Override
+    public String getStrategyType() {
+        return STRATEGY_TYPE;
+    }
+
+    @Override
+    public void validateParams(Map<String, Object> params) {
+        if (params == null || params.isEmpty()) {
+            throw new IllegalArgumentException("Rule strategy requires parameters");
+        }
+
+        Rules parsed = parse(params);
+
+        Object ttl = params.get("ttlSeconds");
+        if (ttl != null && (!(ttl instanceof Number) || ((Number) ttl).intValue() <= 0)) {
+            throw new IllegalArgumentException("ttlSeconds must be a positive number");
+        }
+
+        log.info("Rule strategy params validated: entry={}, exit={}, requiredBars={}",
+                parsed.entrySource(), parsed.exitSource(), parsed.requiredBars());
+    }
+
+    private record Rules(Map<String, Object> params, String entrySource, RuleNode entry,
+                         String exitSource, RuleNode exit, int requiredBars) {
+    }
+}
@@ -51,7 +51,8 @@ public class VWAPStrategy extends BaseStrategy {
         List<Long> volumes = extractVolumes(bars);
 
         // Calculate VWAP
-        List<IndicatorLibrary.VWAPResult> vwapResults = IndicatorLibrary.calculateVWAP(highs, lows, closes, volumes);
+        List<IndicatorLibrary.VWAPResult> vwapResults = indicator(context, "VWAP",
+                () -> IndicatorLibrary.calculateVWAP(highs, lows, closes, volumes));
 
         // Get current and previous values
         BigDecimal priceNow = closes.get(closes.size() - 1);
@@ -0,0 +1,448 @@
+package maru.trading.domain.strategy.rule;
+
+import maru.trading.domain.market.MarketBar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A rule compiled into a tree of specialized lambdas with incremental state.
+ *
+ * Compilation turns each {@link RuleNode} into a {@link DoubleSupplier} or
+ * {@link BooleanSupplier} specialized for its operator (constants are folded
+ * and constant operands captured directly), and each indicator or
+ * crossover into a stateful node holding its window in a primitive ring
+ * buffer. {@link #onBar} updates the stateful nodes in dependency order and
+ * {@link #test} evaluates the condition for the last bar; neither allocates.
+ *
+ * An instance belongs to one bar stream and is not thread-safe; compile one
+ * per stream (compiling is cheap, the rule is parsed once).
+ */
+public final class CompiledRule {
+
+    private final Bar bar = new Bar();
+    private final List<Stateful> stateful = new ArrayList<>();
+    private final boolean[] fields = new boolean[RuleNode.Field.values().length];
+    private final Stateful[] updates;
+    private final BooleanSupplier condition;
+    private final int requiredBars;
+    private final boolean usesOpen;
+    private final boolean usesHigh;
+    private final boolean usesLow;
+    private final boolean usesClose;
+    private int barCount;
+
+    private CompiledRule(RuleNode rule) {
+        if (!rule.isCondition()) {
+            throw new IllegalArgumentException("Rule must be a condition");
+        }
+        this.condition = condition(rule);
+        this.updates = stateful.toArray(new Stateful[0]);
+        this.requiredBars = rule.firstBar();
+        this.usesOpen = fields[RuleNode.Field.OPEN.ordinal()];
+        this.usesHigh = fields[RuleNode.Field.HIGH.ordinal()];
+        this.usesLow = fields[RuleNode.Field.LOW.ordinal()];
+        this.usesClose = fields[RuleNode.Field.CLOSE.ordinal()];
+    }
+
+    /**
+     * Compile a parsed rule into a new instance with empty state.
+     */
+    public static CompiledRule compile(RuleNode rule) {
+        return new CompiledRule(rule);
+    }
+
+    /**
+     * Apply the next closed bar.
+     * Only the prices the rule reads are converted.
+     */
+    public void onBar(MarketBar marketBar) {
+        onBar(usesOpen ? marketBar.getOpen().doubleValue() : 0,
+                usesHigh ? marketBar.getHigh().doubleValue() : 0,
+                usesLow ? marketBar.getLow().doubleValue() : 0,
+                usesClose ? marketBar.getClose().doubleValue() : 0,
+                marketBar.getVolume());
+    }
+
+    /**
+     * Apply the next closed bar given as primitives.
+     */
+    public void onBar(double open, double high, double low, double close, double volume) {
+        bar.open = open;
+        bar.high = high;
+        bar.low = low;
+        bar.close = close;
+        bar.volume = volume;
+        barCount++;
+        for (Stateful node : updates) {
+            node.update(barCount);
+        }
+    }
+
+    /**
+     * Evaluate the condition for the last bar applied.
+     *
+     * @return false until {@link #isReady()}
+     */
+    public boolean test() {
+        return barCount >= requiredBars && condition.getAsBoolean();
+    }
+
+    public boolean isReady() {
+        return barCount >= requiredBars;
+    }
+
+    /**
+     * @return Bars needed before the rule has a value
+     */
+    public int getRequiredBars() {
+        return requiredBars;
+    }
+
+    public int getBarCount() {
+        return barCount;
+    }
+
+    private BooleanSupplier condition(RuleNode node) {
+        if (node instanceof RuleNode.Comparison comparison) {
+            return comparison(comparison);
+        } else if (node instanceof RuleNode.Cross cross) {
+            CrossNode state = new CrossNode(cross.above(), number(cross.left()), number(cross.right()),
+                    Math.max(cross.left().firstBar(), cross.right().firstBar()));
+            stateful.add(state);
+            return state;
+        } else if (node instanceof RuleNode.And and) {
+            BooleanSupplier left = condition(and.left());
+            BooleanSupplier right = condition(and.right());
+            return () -> left.getAsBoolean() && right.getAsBoolean();
+        } else if (node instanceof RuleNode.Or or) {
+            BooleanSupplier left = condition(or.left());
+            BooleanSupplier right = condition(or.right());
+            return () -> left.getAsBoolean() || right.getAsBoolean();
+        } else if (node instanceof RuleNode.Not not) {
+            BooleanSupplier operand = condition(not.operand());
+            return () -> !operand.getAsBoolean();
+        }
+        throw new IllegalArgumentException("Not a condition: " + node);
+    }
+
+    private BooleanSupplier comparison(RuleNode.Comparison comparison) {
+        DoubleSupplier left = number(comparison.left());
+        if (comparison.right() instanceof RuleNode.Constant constant) {
+            // Most rules compare against a threshold
+            double c = constant.value();
+            return switch (comparison.comparator()) {
+                case LESS -> () -> left.getAsDouble() < c;
+                case LESS_OR_EQUAL -> () -> left.getAsDouble() <= c;
+                case GREATER -> () -> left.getAsDouble() > c;
+                case GREATER_OR_EQUAL -> () -> left.getAsDouble() >= c;
+                case EQUAL -> () -> left.getAsDouble() == c;
+                case NOT_EQUAL -> () -> left.getAsDouble() != c;
+            };
+        }
+        DoubleSupplier right = number(comparison.right());
+        return switch (comparison.comparator()) {
+            case LESS -> () -> left.getAsDouble() < right.getAsDouble();
+            case LESS_OR_EQUAL -> () -> left.getAsDouble() <= right.getAsDouble();
+            case GREATER -> () -> left.getAsDouble() > right.getAsDouble();
+            case GREATER_OR_EQUAL -> () -> left.getAsDouble() >= right.getAsDouble();
+            case EQUAL -> () -> left.getAsDouble() == right.getAsDouble();
+            case NOT_EQUAL -> () -> left.getAsDouble() != right.getAsDouble();
+        };
+    }
+
+    private DoubleSupplier number(RuleNode node) {
+        if (node instanceof RuleNode.Constant constant) {
+            double c = constant.value();
+            return () -> c;
+        } else if (node instanceof RuleNode.BarField field) {
+            fields[field.field().ordinal()] = true;
+            Bar b = bar;
+            return switch (field.field()) {
+                case OPEN -> () -> b.open;
+                case HIGH -> () -> b.high;
+                case LOW -> () -> b.low;
+                case CLOSE -> () -> b.close;
+                case VOLUME -> () -> b.volume;
+            };
+        } else if (node instanceof RuleNode.Negate negate) {
+            DoubleSupplier operand = number(negate.operand());
+            return () -> -operand.getAsDouble();
+        } else if (node instanceof RuleNode.Abs abs) {
+            DoubleSupplier operand = number(abs.operand());
+            return () -> Math.abs(operand.getAsDouble());
+        } else if (node instanceof RuleNode.Arithmetic arithmetic) {
+            return arithmetic(arithmetic);
+        } else if (node instanceof RuleNode.IndicatorCall call) {
+            IndicatorNode state = indicator(call);
+            stateful.add(state);
+            return state;
+        }
+        throw new IllegalArgumentException("Not a number: " + node);
+    }
+
+    private DoubleSupplier arithmetic(RuleNode.Arithmetic arithmetic) {
+        RuleNode.Operator operator = arithmetic.operator();
+        if (arithmetic.left() instanceof RuleNode.Constant l && arithmetic.right() instanceof RuleNode.Constant r) {
+            double folded = operator.apply(l.value(), r.value());
+            return () -> folded;
+        }
+        DoubleSupplier left = number(arithmetic.left());
+        if (arithmetic.right() instanceof RuleNode.Constant constant) {
+            double c = constant.value();
+            return switch (operator) {
+                case ADD -> () -> left.getAsDouble() + c;
+                case SUBTRACT -> () -> left.getAsDouble() - c;
+                case MULTIPLY -> () -> left.getAsDouble() * c;
+                case DIVIDE -> () -> left.getAsDouble() / c;
+                case MIN -> () -> Math.min(left.getAsDouble(), c);
+                case MAX -> () -> Math.max(left.getAsDouble(), c);
+            };
+        }
+        DoubleSupplier right = number(arithmetic.right());
+        return switch (operator) {
+            case ADD -> () -> left.getAsDouble() + right.getAsDouble();
+            case SUBTRACT -> () -> left.getAsDouble() - right.getAsDouble();
+            case MULTIPLY -> () -> left.getAsDouble() * right.getAsDouble();
+            case DIVIDE -> () -> left.getAsDouble() / right.getAsDouble();
+            case MIN -> () -> Math.min(left.getAsDouble(), right.getAsDouble());
+            case MAX -> () -> Math.max(left.getAsDouble(), right.getAsDouble());
+        };
+    }
+
+    private IndicatorNode indicator(RuleNode.IndicatorCall call) {
+        // Children first, so they are updated before the node reads them
+        DoubleSupplier input = number(call.input());
+        int inputFirstBar = call.input().firstBar();
+        int period = call.period();
+        return switch (call.indicator()) {
+            case SMA -> new SmaNode(input, inputFirstBar, period);
+            case EMA -> new EmaNode(input, inputFirstBar, period);
+            case RSI -> new RsiNode(input, inputFirstBar, period);
+            case HIGHEST -> new ExtremeNode(input, inputFirstBar, period, true);
+            case LOWEST -> new ExtremeNode(input, inputFirstBar, period, false);
+            case PREV -> new PrevNode(input, inputFirstBar, period);
+        };
+    }
+
+    /**
+     * Fields of the bar being applied.
+     */
+    private static final class Bar {
+        double open;
+        double high;
+        double low;
+        double close;
+        double volume;
+    }
+
+    /**
+     * Node whose value depends on earlier bars.
+     */
+    private abstract static class Stateful {
+        final int inputFirstBar;
+
+        Stateful(int inputFirstBar) {
+            this.inputFirstBar = inputFirstBar;
+        }
+
+        void update(int barCount) {
+            if (barCount >= inputFirstBar) {
+                accept();
+            }
+        }
+
+        abstract void accept();
+    }
+
+    private abstract static class IndicatorNode extends Stateful implements DoubleSupplier {
+        final DoubleSupplier input;
+        double value = Double.NaN;
+
+        IndicatorNode(DoubleSupplier input, int inputFirstBar) {
+            super(inputFirstBar);
+            this.input = input;
+        }
+
+        @Override
+        public double getAsDouble() {
+            return value;
+        }
+    }
+
+    /**
+     * Last {@code size} input values, oldest first when iterated from {@link #oldest()}.
+     */
+    private abstract static class WindowNode extends IndicatorNode {
+        final double[] window;
+        int count;
+        int next;
+
+        WindowNode(DoubleSupplier input, int inputFirstBar, int size) {
+            super(input, inputFirstBar);
+            this.window = new double[size];
+        }
+
+        @Override
+        void accept() {
+            window[next] = input.getAsDouble();
+            next = next + 1 == window.length ? 0 : next + 1;
+            count++;
+            if (count >= window.length) {
+                value = compute();
+            }
+        }
+
+        int oldest() {
+            return next;
+        }
+
+        abstract double compute();
+    }
+
+    private static final class SmaNode extends WindowNode {
+        SmaNode(DoubleSupplier input, int inputFirstBar, int period) {
+            super(input, inputFirstBar, period);
+        }
+
+        @Override
+        double compute() {
+            double sum = 0;
+            for (int i = 0, j = oldest(); i < window.length; i++, j = j + 1 == window.length ? 0 : j + 1) {
+                sum += window[j];
+            }
+            return sum / window.length;
+        }
+    }
+
+    private static final class ExtremeNode extends WindowNode {
+        private final boolean highest;
+
+        ExtremeNode(DoubleSupplier input, int inputFirstBar, int period, boolean highest) {
+            super(input, inputFirstBar, period);
+            this.highest = highest;
+        }
+
+        @Override
+        double compute() {
+            double result = window[0];
+            for (int i = 1; i < window.length; i++) {
+                result = highest ? Math.max(result, window[i]) : Math.min(result, window[i]);
+            }
+            return result;
+        }
+    }
+
+    private static final class PrevNode extends WindowNode {
+        PrevNode(DoubleSupplier input, int inputFirstBar, int barsAgo) {
+            super(input, inputFirstBar, barsAgo + 1);
+        }
+
+        @Override
+        double compute() {
+            return window[oldest()];
+        }
+    }
+
+    private static final class EmaNode extends IndicatorNode {
+        private final int period;
+        private final double k;
+        private double seedSum;
+        private int count;
+
+        EmaNode(DoubleSupplier input, int inputFirstBar, int period) {
+            super(input, inputFirstBar);
+            this.period = period;
+            this.k = 2.0 / (period + 1);
+        }
+
+        @Override
+        void accept() {
+            double v = input.getAsDouble();
+            count++;
+            if (count < period) {
+                seedSum += v;
+            } else if (count == period) {
+                seedSum += v;
+                value = seedSum / period;
+            } else {
+                value = v * k + value * (1 - k);
+            }
+        }
+    }
+
+    private static final class RsiNode extends IndicatorNode {
+        private final int period;
+        private double previous;
+        private int changes = -1;
+        private double avgGain;
+        private double avgLoss;
+
+        RsiNode(DoubleSupplier input, int inputFirstBar, int period) {
+            super(input, inputFirstBar);
+            this.period = period;
+        }
+
+        @Override
+        void accept() {
+            double v = input.getAsDouble();
+            if (changes < 0) {
+                previous = v;
+                changes = 0;
+                return;
+            }
+            double change = v - previous;
+            previous = v;
+            double gain = change > 0 ? change : 0;
+            double loss = change > 0 ? 0 : -change;
+            changes++;
+            if (changes < period) {
+                avgGain += gain;
+                avgLoss += loss;
+                return;
+            }
+            if (changes == period) {
+                avgGain = (avgGain + gain) / period;
+                avgLoss = (avgLoss + loss) / period;
+            } else {
+                avgGain = (avgGain * (period - 1) + gain) / period;
+                avgLoss = (avgLoss * (period - 1) + loss) / period;
+            }
+            value = RuleInterpreter.rsi(avgGain, avgLoss);
+        }
+    }
+
+    private static final class CrossNode extends Stateful implements BooleanSupplier {
+        private final boolean above;
+        private final DoubleSupplier left;
+        private final DoubleSupplier right;
+        private double left0 = Double.NaN;
+        private double right0 = Double.NaN;
+        private double left1 = Double.NaN;
+        private double right1 = Double.NaN;
+
+        CrossNode(boolean above, DoubleSupplier left, DoubleSupplier right, int inputFirstBar) {
+            super(inputFirstBar);
+            this.above = above;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        void accept() {
+            left1 = left0;
+            right1 = right0;
+            left0 = left.getAsDouble();
+            right0 = right.getAsDouble();
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            return above
+                    ? left0 > right0 && left1 <= right1
+                    : left0 < right0 && left1 >= right1;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package maru.trading.domain.strategy.rule;
+
+import maru.trading.domain.market.MarketBar;
+
+import java.util.List;
+
+/**
+ * Tree-walking evaluator of a parsed rule over a bar window.
+ *
+ * Evaluates {@link RuleNode}s recursively and recomputes every indicator
+ * from the window on each call, with the same definitions as
+ * {@link CompiledRule}. It is the reference for the compiled form (tests,
+ * benchmarks, one-off checks), not for per-bar evaluation.
+ */
+public final class RuleInterpreter {
+
+    private final List<MarketBar> bars;
+    private final double[][] fields = new double[RuleNode.Field.values().length][];
+
+    private RuleInterpreter(List<MarketBar> bars) {
+        this.bars = bars;
+    }
+
+    /**
+     * Evaluate a rule for the last bar of a window.
+     *
+     * @param rule Condition node
+     * @param bars Bar window, oldest first
+     * @return false if the window is shorter than the rule needs
+     */
+    public static boolean test(RuleNode rule, List<MarketBar> bars) {
+        if (bars.size() < rule.firstBar()) {
+            return false;
+        }
+        return new RuleInterpreter(bars).condition(rule, bars.size() - 1);
+    }
+
+    /**
+     * RSI from average gain and loss; shared with the compiled form.
+     */
+    static double rsi(double avgGain, double avgLoss) {
+        if (avgLoss == 0) {
+            return 100;
+        }
+        return 100 - 100 / (1 + avgGain / avgLoss);
+    }
+
+    private boolean condition(RuleNode node, int i) {
+        if (node instanceof RuleNode.Comparison comparison) {
+            return comparison.comparator().test(number(comparison.left(), i), number(comparison.right(), i));
+        } else if (node instanceof RuleNode.Cross cross) {
+            double left0 = number(cross.left(), i);
+            double right0 = number(cross.right(), i);
+            double left1 = number(cross.left(), i - 1);
+            double right1 = number(cross.right(), i - 1);
+            return cross.above()
+                    ? left0 > right0 && left1 <= right1
+                    : left0 < right0 && left1 >= right1;
+        } else if (node instanceof RuleNode.And and) {
+            return condition(and.left(), i) && condition(and.right(), i);
+        } else if (node instanceof RuleNode.Or or) {
+            return condition(or.left(), i) || condition(or.right(), i);
+        } else if (node instanceof RuleNode.Not not) {
+            return !condition(not.operand(), i);
+        }
+        throw new IllegalArgumentException("Not a condition: " + node);
+    }
+
+    /**
+     * Value of a numeric node at bar index i (0-based).
+     */
+    private double number(RuleNode node, int i) {
+        if (node instanceof RuleNode.Constant constant) {
+            return constant.value();
+        } else if (node instanceof RuleNode.BarField field) {
+            return column(field.field())[i];
+        } else if (node instanceof RuleNode.Negate negate) {
+            return -number(negate.operand(), i);
+        } else if (node instanceof RuleNode.Abs abs) {
+            return Math.abs(number(abs.operand(), i));
+        } else if (node instanceof RuleNode.Arithmetic arithmetic) {
+            return arithmetic.operator().apply(number(arithmetic.left(), i), number(arithmetic.right(), i));
+        } else if (node instanceof RuleNode.IndicatorCall call) {
+            return indicator(call, i);
+        }
+        throw new IllegalArgumentException("Not a number: " + node);
+    }
+
+    /**
+     * Values of a bar field over the window, converted on first use.
+     */
+    private double[] column(RuleNode.Field field) {
+        double[] column = fields[field.ordinal()];
+        if (column == null) {
+            column = new double[bars.size()];
+            for (int i = 0; i < column.length; i++) {
+                MarketBar bar = bars.get(i);
+                column[i] = switch (field) {
+                    case OPEN -> bar.getOpen().doubleValue();
+                    case HIGH -> bar.getHigh().doubleValue();
+                    case LOW -> bar.getLow().doubleValue();
+                    case CLOSE -> bar.getClose().doubleValue();
+                    case VOLUME -> bar.getVolume();
+                };
+            }
+            fields[field.ordinal()] = column;
+        }
+        return column;
+    }
+
+    private double indicator(RuleNode.IndicatorCall call, int i) {
+        RuleNode input = call.input();
+        int n = call.period();
+        // First index at which the input has a value
+        int start = input.firstBar() - 1;
+        switch (call.indicator()) {
+            case SMA: {
+                double sum = 0;
+                for (int j = i - n + 1; j <= i; j++) {
+                    sum += number(input, j);
+                }
+                return sum / n;
+            }
+            case HIGHEST: {
+                double result = number(input, i - n + 1);
+                for (int j = i - n + 2; j <= i; j++) {
+                    result = Math.max(result, number(input, j));
+                }
+                return result;
+            }
+            case LOWEST: {
+                double result = number(input, i - n + 1);
+                for (int j = i - n + 2; j <= i; j++) {
+                    result = Math.min(result, number(input, j));
+                }
+                return result;
+            }
+            case PREV:
+                return number(input, i - n);
+            case EMA: {
+                double k = 2.0 / (n + 1);
+                double seed = 0;
+                for (int j = start; j < start + n; j++) {
+                    seed += number(input, j);
+                }
+                double ema = seed / n;
+                for (int j = start + n; j <= i; j++) {
+                    ema = number(input, j) * k + ema * (1 - k);
+                }
+                return ema;
+            }
+            case RSI: {
+                double avgGain = 0;
+                double avgLoss = 0;
+                double previous = number(input, start);
+                for (int j = start + 1; j <= i; j++) {
+                    double v = number(input, j);
+                    double change = v - previous;
+                    previous = v;
+                    double gain = change > 0 ? change : 0;
+                    double loss = change > 0 ? 0 : -change;
+                    int changes = j - start;
+                    if (changes < n) {
+                        avgGain += gain;
+                        avgLoss += loss;
+                    } else if (changes == n) {
+                        avgGain = (avgGain + gain) / n;
+                        avgLoss = (avgLoss + loss) / n;
+                    } else {
+                        avgGain = (avgGain * (n - 1) + gain) / n;
+                        avgLoss = (avgLoss * (n - 1) + loss) / n;
+                    }
+                }
+                return rsi(avgGain, avgLoss);
+            }
+            default:
+                throw new IllegalArgumentException("Unknown indicator: " + call.indicator());
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package maru.trading.domain.strategy.rule;
+
+/**
+ * Syntax tree of a strategy rule, produced by {@link RuleParser}.
+ *
+ * Nodes are either numeric series (bar fields, constants, arithmetic,
+ * indicators) or conditions (comparisons, crossovers, logic). Parameters
+ * referenced by name are already substituted as constants.
+ *
+ * {@link #firstBar()} is the number of bars after which a node has a value,
+ * e.g. 26 for ema(close, 26) and 27 for a crossover of it. Both the
+ * {@link CompiledRule} and the {@link RuleInterpreter} follow these
+ * definitions, so they give the same results:
+ * - sma, highest, lowest: over the last n values
+ * - ema: seeded with the SMA of the first n values, k = 2 / (n + 1)
+ * - rsi: Wilder smoothing seeded with the average of the first n changes
+ * - prev(x, k): x k bars ago
+ * - crossAbove(a, b): a &gt; b now and a &lt;= b on the previous bar
+ *
+ * The same results hold for the same bars from the same first bar. ema and
+ * rsi are seeded at the first bar they see, so a rule evaluated over a bar
+ * window (RuleStrategy.evaluate) differs from the same rule kept as
+ * incremental state since an earlier bar (RuleStrategy.evaluateState) until
+ * the seed has decayed. Live instances and backtests both keep the
+ * incremental state, so their signals agree once the seeds of their first
+ * bars have decayed.
+ */
+public sealed interface RuleNode {
+
+    /**
+     * @return Number of bars after which the node has a value (at least 1)
+     */
+    int firstBar();
+
+    /**
+     * @return true for conditions, false for numeric series
+     */
+    boolean isCondition();
+
+    enum Field {
+        OPEN, HIGH, LOW, CLOSE, VOLUME
+    }
+
+    enum Indicator {
+        SMA, EMA, RSI, HIGHEST, LOWEST, PREV;
+
+        int firstBar(int inputFirstBar, int period) {
+            return switch (this) {
+                case SMA, EMA, HIGHEST, LOWEST -> inputFirstBar + period - 1;
+                case RSI, PREV -> inputFirstBar + period;
+            };
+        }
+    }
+
+    enum Operator {
+        ADD, SUBTRACT, MULTIPLY, DIVIDE, MIN, MAX;
+
+        double apply(double left, double right) {
+            return switch (this) {
+                case ADD -> left + right;
+                case SUBTRACT -> left - right;
+                case MULTIPLY -> left * right;
+                case DIVIDE -> left / right;
+                case MIN -> Math.min(left, right);
+                case MAX -> Math.max(left, right);
+            };
+        }
+    }
+
+    enum Comparator {
+        LESS, LESS_OR_EQUAL, GREATER, GREATER_OR_EQUAL, EQUAL, NOT_EQUAL;
+
+        boolean test(double left, double right) {
+            return switch (this) {
+                case LESS -> left < right;
+                case LESS_OR_EQUAL -> left <= right;
+                case GREATER -> left > right;
+                case GREATER_OR_EQUAL -> left >= right;
+                case EQUAL -> left == right;
+                case NOT_EQUAL -> left != right;
+            };
+        }
+    }
+
+    record Constant(double value) implements RuleNode {
+        @Override
+        public int firstBar() {
+            return 1;
+        }
+
+        @Override
+        public boolean isCondition() {
+            return false;
+        }
+    }
+
+    record BarField(Field field) implements RuleNode {
+        @Override
+        public int firstBar() {
+            return 1;
+        }
+
+        @Override
+        public boolean isCondition() {
+            return false;
+        }
+    }
+
+    record Negate(RuleNode operand) implements RuleNode {
+        @Override
+        public int firstBar() {
+            return operand.firstBar();
+        }
+
+        @Override
+        public boolean isCondition() {
+            return false;
+        }
+    }
+
+    record Abs(RuleNode operand) implements RuleNode {
+        @Override
+        public int firstBar() {
+            return operand.firstBar();
+        }
+
+        @Override
+        public boolean isCondition() {
+            return false;
+        }
+    }
+
+    record Arithmetic(Operator operator, RuleNode left, RuleNode right) implements RuleNode {
+        @Override
+        public int firstBar() {
+            return Math.max(left.firstBar(), right.firstBar());
+        }
+
+        @Override
+        public boolean isCondition() {
+            return false;
+        }
+    }
+
+    record IndicatorCall(Indicator indicator, RuleNode input, int period) implements RuleNode {
+        @Override
+        public int firstBar() {
+            return indicator.firstBar(input.firstBar(), period);
+        }
+
+        @Override
+        public boolean isCondition() {
+            return false;
+        }
+    }
+
+    record Comparison(Comparator comparator, RuleNode left, RuleNode right) implements RuleNode {
+        @Override
+        public int firstBar() {
+            return Math.max(left.firstBar(), right.firstBar());
+        }
+
+        @Override
+        public boolean isCondition() {
+            return true;
+        }
+    }
+
+    record Cross(boolean above, RuleNode left, RuleNode right) implements RuleNode {
+        @Override
+        public int firstBar() {
+            return Math.max(left.firstBar(), right.firstBar()) + 1;
+        }
+
+        @Override
+        public boolean isCondition() {
+            return true;
+        }
+    }
+
+    record And(RuleNode left, RuleNode right) implements RuleNode {
+        @Override
+        public int firstBar() {
+            return Math.max(left.firstBar(), right.firstBar());
+        }
+
+        @Override
+        public boolean isCondition() {
+            return true;
+        }
+    }
+
+    record Or(RuleNode left, RuleNode right) implements RuleNode {
+        @Override
+        public int firstBar() {
+            return Math.max(left.firstBar(), right.firstBar());
+        }
+
+        @Override
+        public boolean isCondition() {
+            return true;
+        }
+    }
+
+    record Not(RuleNode operand) implements RuleNode {
+        @Override
+        public int firstBar() {
+            return operand.firstBar();
+        }
+
+        @Override
+        public boolean isCondition() {
+            return true;
+        }
+    }
+}
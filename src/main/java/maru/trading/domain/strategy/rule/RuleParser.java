@@ -0,0 +1,341 @@
+package maru.trading.domain.strategy.rule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parser of the strategy rule language.
+ *
+ * Grammar:
+ * <pre>
+ * rule       := or
+ * or         := and ( "||" and )*
+ * and        := not ( "&amp;&amp;" not )*
+ * not        := "!" not | comparison
+ * comparison := sum ( ( "&lt;" | "&lt;=" | "&gt;" | "&gt;=" | "==" | "!=" ) sum )?
+ * sum        := product ( ( "+" | "-" ) product )*
+ * product    := unary ( ( "*" | "/" ) unary )*
+ * unary      := "-" unary | primary
+ * primary    := number | name | name "(" rule ( "," rule )* ")" | "(" rule ")"
+ * </pre>
+ *
+ * Names are bar fields (open, high, low, close, volume) or numeric strategy
+ * parameters, substituted as constants. Functions:
+ * - sma / ma, ema, rsi, highest, lowest (series, period)
+ * - prev (series, bars ago)
+ * - crossAbove, crossBelow (series, series) - conditions
+ * - abs (series), min / max (series, series)
+ *
+ * Periods must be constant positive integers (literals or parameters).
+ * Errors are reported as IllegalArgumentException with the position.
+ */
+public final class RuleParser {
+
+    static final int MAX_PERIOD = 5000;
+
+    private final String source;
+    private final Map<String, Object> params;
+    private final List<Token> tokens;
+    private int index;
+
+    private RuleParser(String source, Map<String, Object> params) {
+        this.source = source;
+        this.params = params != null ? params : Map.of();
+        this.tokens = tokenize(source);
+    }
+
+    /**
+     * Parse a rule.
+     *
+     * @param source Rule text, e.g. "crossAbove(ema(close,12), ema(close,26)) &amp;&amp; rsi(close,14) &lt; 70"
+     * @param params Strategy parameters referenced by name (may be null)
+     * @return Condition node
+     * @throws IllegalArgumentException if the rule is invalid or not a condition
+     */
+    public static RuleNode parse(String source, Map<String, Object> params) {
+        if (source == null || source.isBlank()) {
+            throw new IllegalArgumentException("Rule cannot be blank");
+        }
+        RuleParser parser = new RuleParser(source, params);
+        RuleNode rule = parser.or();
+        if (parser.peek().type != TokenType.END) {
+            throw parser.error("Unexpected '" + parser.peek().text + "'", parser.peek());
+        }
+        if (!rule.isCondition()) {
+            throw new IllegalArgumentException("Rule must be a condition: " + source);
+        }
+        return rule;
+    }
+
+    private RuleNode or() {
+        RuleNode left = and();
+        while (accept("||")) {
+            Token at = previous();
+            left = new RuleNode.Or(condition(left, at), condition(and(), at));
+        }
+        return left;
+    }
+
+    private RuleNode and() {
+        RuleNode left = not();
+        while (accept("&&")) {
+            Token at = previous();
+            left = new RuleNode.And(condition(left, at), condition(not(), at));
+        }
+        return left;
+    }
+
+    private RuleNode not() {
+        if (accept("!")) {
+            Token at = previous();
+            return new RuleNode.Not(condition(not(), at));
+        }
+        return comparison();
+    }
+
+    private RuleNode comparison() {
+        RuleNode left = sum();
+        RuleNode.Comparator comparator = switch (peek().text) {
+            case "<" -> RuleNode.Comparator.LESS;
+            case "<=" -> RuleNode.Comparator.LESS_OR_EQUAL;
+            case ">" -> RuleNode.Comparator.GREATER;
+            case ">=" -> RuleNode.Comparator.GREATER_OR_EQUAL;
+            case "==" -> RuleNode.Comparator.EQUAL;
+            case "!=" -> RuleNode.Comparator.NOT_EQUAL;
+            default -> null;
+        };
+        if (comparator == null || peek().type != TokenType.OPERATOR) {
+            return left;
+        }
+        Token at = next();
+        return new RuleNode.Comparison(comparator, number(left, at), number(sum(), at));
+    }
+
+    private RuleNode sum() {
+        RuleNode left = product();
+        while (peek().type == TokenType.OPERATOR && (peek().text.equals("+") || peek().text.equals("-"))) {
+            Token at = next();
+            RuleNode.Operator operator = at.text.equals("+") ? RuleNode.Operator.ADD : RuleNode.Operator.SUBTRACT;
+            left = new RuleNode.Arithmetic(operator, number(left, at), number(product(), at));
+        }
+        return left;
+    }
+
+    private RuleNode product() {
+        RuleNode left = unary();
+        while (peek().type == TokenType.OPERATOR && (peek().text.equals("*") || peek().text.equals("/"))) {
+            Token at = next();
+            RuleNode.Operator operator = at.text.equals("*") ? RuleNode.Operator.MULTIPLY : RuleNode.Operator.DIVIDE;
+            left = new RuleNode.Arithmetic(operator, number(left, at), number(unary(), at));
+        }
+        return left;
+    }
+
+    private RuleNode unary() {
+        if (accept("-")) {
+            Token at = previous();
+            RuleNode operand = number(unary(), at);
+            return operand instanceof RuleNode.Constant constant
+                    ? new RuleNode.Constant(-constant.value())
+                    : new RuleNode.Negate(operand);
+        }
+        return primary();
+    }
+
+    private RuleNode primary() {
+        Token token = next();
+        switch (token.type) {
+            case NUMBER:
+                return new RuleNode.Constant(Double.parseDouble(token.text));
+            case NAME:
+                if (accept("(")) {
+                    return call(token);
+                }
+                return name(token);
+            case OPERATOR:
+                if (token.text.equals("(")) {
+                    RuleNode inner = or();
+                    expect(")");
+                    return inner;
+                }
+                throw error("Unexpected '" + token.text + "'", token);
+            default:
+                throw error("Unexpected end of rule", token);
+        }
+    }
+
+    private RuleNode name(Token token) {
+        switch (token.text.toLowerCase(Locale.ROOT)) {
+            case "open":
+                return new RuleNode.BarField(RuleNode.Field.OPEN);
+            case "high":
+                return new RuleNode.BarField(RuleNode.Field.HIGH);
+            case "low":
+                return new RuleNode.BarField(RuleNode.Field.LOW);
+            case "close":
+                return new RuleNode.BarField(RuleNode.Field.CLOSE);
+            case "volume":
+                return new RuleNode.BarField(RuleNode.Field.VOLUME);
+            default:
+                Object value = params.get(token.text);
+                if (value instanceof Number number) {
+                    return new RuleNode.Constant(number.doubleValue());
+                }
+                throw error("Unknown name '" + token.text + "'", token);
+        }
+    }
+
+    private RuleNode call(Token function) {
+        List<RuleNode> args = new ArrayList<>();
+        if (!accept(")")) {
+            do {
+                args.add(or());
+            } while (accept(","));
+            expect(")");
+        }
+
+        String name = function.text.toLowerCase(Locale.ROOT);
+        switch (name) {
+            case "sma", "ma":
+                return indicator(RuleNode.Indicator.SMA, function, args);
+            case "ema":
+                return indicator(RuleNode.Indicator.EMA, function, args);
+            case "rsi":
+                return indicator(RuleNode.Indicator.RSI, function, args);
+            case "highest":
+                return indicator(RuleNode.Indicator.HIGHEST, function, args);
+            case "lowest":
+                return indicator(RuleNode.Indicator.LOWEST, function, args);
+            case "prev":
+                return indicator(RuleNode.Indicator.PREV, function, args);
+            case "crossabove", "crossbelow":
+                arity(function, args, 2);
+                return new RuleNode.Cross(name.equals("crossabove"),
+                        number(args.get(0), function), number(args.get(1), function));
+            case "abs":
+                arity(function, args, 1);
+                return new RuleNode.Abs(number(args.get(0), function));
+            case "min", "max":
+                arity(function, args, 2);
+                return new RuleNode.Arithmetic(name.equals("min") ? RuleNode.Operator.MIN : RuleNode.Operator.MAX,
+                        number(args.get(0), function), number(args.get(1), function));
+            default:
+                throw error("Unknown function '" + function.text + "'", function);
+        }
+    }
+
+    private RuleNode indicator(RuleNode.Indicator indicator, Token function, List<RuleNode> args) {
+        arity(function, args, 2);
+        RuleNode input = number(args.get(0), function);
+        if (!(args.get(1) instanceof RuleNode.Constant constant)
+                || constant.value() != Math.rint(constant.value())
+                || constant.value() < 1 || constant.value() > MAX_PERIOD) {
+            throw error(function.text + " period must be an integer between 1 and " + MAX_PERIOD, function);
+        }
+        return new RuleNode.IndicatorCall(indicator, input, (int) constant.value());
+    }
+
+    private void arity(Token function, List<RuleNode> args, int expected) {
+        if (args.size() != expected) {
+            throw error(function.text + " takes " + expected + " argument(s), got " + args.size(), function);
+        }
+    }
+
+    private RuleNode number(RuleNode node, Token at) {
+        if (node.isCondition()) {
+            throw error("Expected a number near '" + at.text + "'", at);
+        }
+        return node;
+    }
+
+    private RuleNode condition(RuleNode node, Token at) {
+        if (!node.isCondition()) {
+            throw error("Expected a condition near '" + at.text + "'", at);
+        }
+        return node;
+    }
+
+    private boolean accept(String operator) {
+        if (peek().type == TokenType.OPERATOR && peek().text.equals(operator)) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String operator) {
+        if (!accept(operator)) {
+            throw error("Expected '" + operator + "'", peek());
+        }
+    }
+
+    private Token peek() {
+        return tokens.get(index);
+    }
+
+    private Token next() {
+        Token token = tokens.get(index);
+        if (token.type != TokenType.END) {
+            index++;
+        }
+        return token;
+    }
+
+    private Token previous() {
+        return tokens.get(index - 1);
+    }
+
+    private IllegalArgumentException error(String message, Token at) {
+        return new IllegalArgumentException(message + " at position " + (at.position + 1) + ": " + source);
+    }
+
+    private enum TokenType {
+        NUMBER, NAME, OPERATOR, END
+    }
+
+    private record Token(TokenType type, String text, int position) {
+    }
+
+    private List<Token> tokenize(String text) {
+        List<Token> result = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (Character.isDigit(c) || (c == '.' && i + 1 < text.length() && Character.isDigit(text.charAt(i + 1)))) {
+                int start = i;
+                while (i < text.length() && (Character.isDigit(text.charAt(i)) || text.charAt(i) == '.')) {
+                    i++;
+                }
+                String number = text.substring(start, i);
+                if (number.indexOf('.') != number.lastIndexOf('.')) {
+                    throw new IllegalArgumentException("Invalid number '" + number + "' at position " + (start + 1) + ": " + text);
+                }
+                result.add(new Token(TokenType.NUMBER, number, start));
+            } else if (Character.isLetter(c) || c == '_') {
+                int start = i;
+                while (i < text.length() && (Character.isLetterOrDigit(text.charAt(i)) || text.charAt(i) == '_')) {
+                    i++;
+                }
+                result.add(new Token(TokenType.NAME, text.substring(start, i), start));
+            } else {
+                String two = i + 1 < text.length() ? text.substring(i, i + 2) : "";
+                if (two.equals("&&") || two.equals("||") || two.equals("<=") || two.equals(">=")
+                        || two.equals("==") || two.equals("!=")) {
+                    result.add(new Token(TokenType.OPERATOR, two, i));
+                    i += 2;
+                } else if ("()+-*/<>!,".indexOf(c) >= 0) {
+                    result.add(new Token(TokenType.OPERATOR, String.valueOf(c), i));
+                    i++;
+                } else {
+                    throw new IllegalArgumentException("Unexpected character '" + c + "' at position " + (i + 1) + ": " + text);
+                }
+            }
+        }
+        result.add(new Token(TokenType.END, "end of rule", text.length()));
+        return result;
+    }
+}
@@ -1,6 +1,10 @@
 package maru.trading.infra.async;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import maru.trading.domain.backtest.*;
@@ -13,6 +17,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.concurrent.*;
 import java.util.function.Consumer;
@@ -22,9 +27,21 @@ import java.util.function.Consumer;
  *
  * Manages asynchronous backtest execution with:
  * - Thread pool management
- * - Job queue processing
- * - Progress tracking
+ * - Priority/fair-share job queue with admission control (see {@link BacktestJobScheduler})
+ * - Progress tracking (in memory while running, from the job table afterwards)
+ * - Push-based progress fan-out to subscribers (see {@link BacktestProgressHub})
+ * - Bounded result storage with spill-to-disk (see {@link BacktestResultStore})
  * - Cancellation support
+ * - Periodic checkpoints and resume of interrupted jobs (see {@link BacktestCheckpointStore})
+ *
+ * Jobs are never run on the submitting thread: a job that cannot be admitted
+ * is rejected with a {@link RejectedExecutionException}.
+ *
+ * Metrics (exposed via /actuator/metrics):
+ * - backtest.jobs.queued / backtest.jobs.active (tag: priority)
+ * - backtest.jobs.queued.cost - estimated bar-symbols waiting in the queue
+ * - backtest.jobs.wait (tag: priority) - time from submission to start
+ * - backtest.jobs.rejected - jobs refused by admission control
  */
 @Service
 public class BacktestJobExecutor {
@@ -33,14 +50,20 @@ public class BacktestJobExecutor {
 
     private final BacktestJobJpaRepository jobRepository;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     // In-memory tracking for running jobs
     private final Map<String, CompletableFuture<BacktestResult>> runningFutures = new ConcurrentHashMap<>();
+    private final Map<String, Future<?>> workerHandles = new ConcurrentHashMap<>();
     private final Map<String, BacktestProgress> progressMap = new ConcurrentHashMap<>();
-    private final Map<String, BacktestResult> resultCache = new ConcurrentHashMap<>();
-    private final Map<String, Consumer<BacktestProgress>> progressListeners = new ConcurrentHashMap<>();
+    private final BacktestResultStore resultStore;
+    private final BacktestProgressHub progressHub;
+    private final BacktestCheckpointStore checkpointStore;
 
     private ExecutorService executor;
+    private BacktestJobScheduler scheduler;
+    private final Map<BacktestPriority, Timer> waitTimers = new EnumMap<>(BacktestPriority.class);
+    private Counter rejectedCounter;
 
     @Value("${backtest.executor.poolSize:4}")
     private int poolSize;
@@ -48,21 +71,67 @@ public class BacktestJobExecutor {
     @Value("${backtest.executor.queueCapacity:100}")
     private int queueCapacity;
 
-    public BacktestJobExecutor(BacktestJobJpaRepository jobRepository, ObjectMapper objectMapper) {
+    /**
+     * Largest single job accepted, in estimated bars x symbols.
+     */
+    @Value("${backtest.executor.maxJobCost:100000000}")
+    private long maxJobCost;
+
+    /**
+     * Largest total estimated cost allowed to wait in the queue.
+     */
+    @Value("${backtest.executor.maxQueuedCost:500000000}")
+    private long maxQueuedCost;
+
+    /**
+     * Minimum time between two checkpoints of the same job; 0 disables checkpointing.
+     */
+    @Value("${backtest.checkpoint.intervalSeconds:60}")
+    private long checkpointIntervalSeconds;
+
+    public BacktestJobExecutor(BacktestJobJpaRepository jobRepository, ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry, BacktestResultStore resultStore,
+                               BacktestProgressHub progressHub, BacktestCheckpointStore checkpointStore) {
         this.jobRepository = jobRepository;
         this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.resultStore = resultStore;
+        this.progressHub = progressHub;
+        this.checkpointStore = checkpointStore;
     }
 
     @PostConstruct
     public void init() {
-        log.info("Initializing BacktestJobExecutor with pool size: {}", poolSize);
-        executor = new ThreadPoolExecutor(
-                poolSize,
-                poolSize * 2,
-                60L, TimeUnit.SECONDS,
-                new LinkedBlockingQueue<>(queueCapacity),
-                new ThreadPoolExecutor.CallerRunsPolicy()
-        );
+        log.info("Initializing BacktestJobExecutor with pool size: {}, queue capacity: {}",
+                poolSize, queueCapacity);
+        scheduler = new BacktestJobScheduler(poolSize, queueCapacity, maxJobCost, maxQueuedCost);
+        // Never holds more than poolSize tasks: the scheduler only releases a job when a worker is free
+        executor = Executors.newFixedThreadPool(poolSize);
+        registerMetrics();
+    }
+
+    private void registerMetrics() {
+        for (BacktestPriority priority : BacktestPriority.values()) {
+            String tag = priority.name().toLowerCase();
+            Gauge.builder("backtest.jobs.queued", scheduler, s -> s.getQueuedCount(priority))
+                    .description("Backtest jobs waiting for a worker")
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            Gauge.builder("backtest.jobs.active", scheduler, s -> s.getRunningCount(priority))
+                    .description("Backtest jobs currently running")
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            waitTimers.put(priority, Timer.builder("backtest.jobs.wait")
+                    .description("Time from submission until a worker picks up the job")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("backtest.jobs.queued.cost", scheduler, BacktestJobScheduler::getQueuedCost)
+                .description("Estimated bar-symbols waiting in the backtest queue")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("backtest.jobs.rejected")
+                .description("Backtest jobs refused by admission control")
+                .register(meterRegistry);
     }
 
     @PreDestroy
@@ -82,17 +151,32 @@ public class BacktestJobExecutor {
     /**
      * Submit a backtest job for asynchronous execution.
      *
+     * Runs as an interactive job owned by the config's strategy.
+     *
      * @param config Backtest configuration
      * @param backtestRunner Function to execute the backtest
      * @return Job ID
      */
     public String submit(BacktestConfig config, BacktestRunner backtestRunner) {
+        return submit(config, BacktestPriority.INTERACTIVE, config.getStrategyId(), backtestRunner);
+    }
+
+    /**
+     * Submit a backtest job for asynchronous execution.
+     *
+     * @param config Backtest configuration
+     * @param priority Scheduling class
+     * @param owner Fair-share key (user or strategy); jobs of the same owner share one turn
+     * @param backtestRunner Function to execute the backtest
+     * @return Job ID
+     * @throws RejectedExecutionException if the job fails admission control
+     */
+    public String submit(BacktestConfig config, BacktestPriority priority, String owner,
+                         BacktestRunner backtestRunner) {
         String jobId = UlidGenerator.generate();
         String backtestId = config.getBacktestId() != null ? config.getBacktestId() : jobId;
 
-        log.info("Submitting backtest job: {}", jobId);
-
-        // Create job entity
+        // Create job entity before queueing: a worker finishing another job may start this one at once
         BacktestJobEntity jobEntity = BacktestJobEntity.builder()
                 .jobId(jobId)
                 .jobType(BacktestJobEntity.JobType.BACKTEST)
@@ -106,48 +190,118 @@ public class BacktestJobExecutor {
 
         jobRepository.save(jobEntity);
 
-        // Initialize progress
-        BacktestProgress initialProgress = BacktestProgress.initial(jobId);
-        progressMap.put(jobId, initialProgress);
+        try {
+            enqueue(jobId, config, priority, owner, backtestRunner);
+        } catch (RejectedExecutionException e) {
+            jobRepository.deleteById(jobId);
+            throw e;
+        }
 
-        // Submit to executor
-        CompletableFuture<BacktestResult> future = CompletableFuture.supplyAsync(() -> {
-            try {
-                // Update status to running
-                updateJobStatus(jobId, "RUNNING", 0, "Loading data");
-                updateProgress(jobId, BacktestProgress.running(jobId, 0, "Loading data", 0, 0));
-
-                // Execute backtest with progress callback
-                BacktestResult result = backtestRunner.run(config, (percent, phase, total, processed) -> {
-                    updateJobStatus(jobId, "RUNNING", percent, phase);
-                    updateProgress(jobId, BacktestProgress.builder()
-                            .jobId(jobId)
-                            .status(BacktestProgress.Status.RUNNING)
-                            .progressPercent(percent)
-                            .currentPhase(phase)
-                            .totalBars(total)
-                            .processedBars(processed)
-                            .build());
-                });
+        dispatch();
 
-                // Mark as completed
-                updateJobStatus(jobId, "COMPLETED", 100, "Completed");
-                updateProgress(jobId, BacktestProgress.completed(jobId));
-                resultCache.put(jobId, result);
+        return jobId;
+    }
 
-                // Save result summary
-                saveResultSummary(jobId, result);
+    /**
+     * Resume a stopped job under its original job ID.
+     *
+     * Continues from the job's latest checkpoint if one exists, otherwise
+     * starts over from the first bar. Works for jobs interrupted by a restart
+     * as well as for failed or cancelled jobs.
+     *
+     * @param jobId Job ID
+     * @param priority Scheduling class
+     * @param backtestRunner Function to execute the backtest
+     * @return true if the job was queued, false if it is already queued or running
+     * @throws IllegalArgumentException if the job is unknown
+     * @throws IllegalStateException if the job already completed
+     * @throws RejectedExecutionException if the job fails admission control
+     */
+    public boolean resume(String jobId, BacktestPriority priority, BacktestRunner backtestRunner) {
+        if (runningFutures.containsKey(jobId)) {
+            return false;
+        }
+
+        BacktestJobEntity job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
+        if ("COMPLETED".equals(job.getStatus())) {
+            throw new IllegalStateException("Job already completed: " + jobId);
+        }
+
+        BacktestConfig config = deserializeConfig(job.getConfig());
+        boolean fromCheckpoint = checkpointStore.exists(jobId);
+        log.info("Resuming backtest job {} ({})", jobId, fromCheckpoint ? "from checkpoint" : "from start");
+
+        // Persist before queueing so a worker's RUNNING/COMPLETED updates are never overwritten
+        job.requeue(fromCheckpoint ? "Queued (resume from checkpoint)" : "Queued (restart)");
+        jobRepository.save(job);
+
+        try {
+            enqueue(jobId, config, priority, config.getStrategyId(), backtestRunner);
+        } catch (RejectedExecutionException e) {
+            failJob(jobId, "Resume rejected: " + e.getMessage());
+            throw e;
+        }
 
-                log.info("Backtest job {} completed successfully", jobId);
-                return result;
+        dispatch();
+        return true;
+    }
 
-            } catch (Exception e) {
-                log.error("Backtest job {} failed: {}", jobId, e.getMessage(), e);
-                updateJobStatus(jobId, "FAILED", -1, "Failed: " + e.getMessage());
-                updateProgress(jobId, BacktestProgress.failed(jobId, e.getMessage()));
-                throw new CompletionException(e);
+    /**
+     * Resume every backtest job left queued or running by a previous process.
+     *
+     * Must be called once on startup, before new jobs are submitted.
+     *
+     * @param backtestRunner Function to execute the backtests
+     * @return Number of jobs resumed
+     */
+    public int resumeInterruptedJobs(BacktestRunner backtestRunner) {
+        int resumed = 0;
+        for (BacktestJobEntity job : jobRepository.findRunningJobs()) {
+            if (!BacktestJobEntity.JobType.BACKTEST.equals(job.getJobType())) {
+                continue;
+            }
+            try {
+                if (resume(job.getJobId(), BacktestPriority.BATCH, backtestRunner)) {
+                    resumed++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Cannot resume backtest job {}: {}", job.getJobId(), e.getMessage());
+                failJob(job.getJobId(), "Resume failed: " + e.getMessage());
             }
-        }, executor);
+        }
+        if (resumed > 0) {
+            log.info("Resumed {} interrupted backtest job(s)", resumed);
+        }
+        return resumed;
+    }
+
+    /**
+     * Queue a job in the scheduler and start tracking it.
+     */
+    private void enqueue(String jobId, BacktestConfig config, BacktestPriority priority, String owner,
+                         BacktestRunner backtestRunner) {
+        long cost = BacktestJobScheduler.estimateCost(config);
+
+        log.info("Submitting backtest job: {}, priority={}, owner={}, estimatedCost={}",
+                jobId, priority, owner, cost);
+
+        CompletableFuture<BacktestResult> future = new CompletableFuture<>();
+        BacktestJobScheduler.QueuedJob queuedJob = new BacktestJobScheduler.QueuedJob(
+                jobId, priority, owner, cost,
+                () -> runJob(jobId, config, backtestRunner, future));
+
+        try {
+            scheduler.enqueue(queuedJob);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Backtest job rejected: {}", e.getMessage());
+            throw e;
+        }
+
+        // Initialize progress
+        BacktestProgress initialProgress = BacktestProgress.initial(jobId);
+        progressMap.put(jobId, initialProgress);
 
         runningFutures.put(jobId, future);
 
@@ -155,8 +309,100 @@ public class BacktestJobExecutor {
         future.whenComplete((result, error) -> {
             runningFutures.remove(jobId);
         });
+    }
 
-        return jobId;
+    /**
+     * Start as many queued jobs as the scheduler allows.
+     */
+    private void dispatch() {
+        BacktestJobScheduler.QueuedJob job;
+        while ((job = scheduler.poll()) != null) {
+            BacktestJobScheduler.QueuedJob next = job;
+            waitTimers.get(next.getPriority())
+                    .record(System.nanoTime() - next.getEnqueuedNanos(), TimeUnit.NANOSECONDS);
+            try {
+                Future<?> handle = executor.submit(() -> {
+                    try {
+                        next.getTask().run();
+                    } finally {
+                        workerHandles.remove(next.getJobId());
+                        scheduler.release(next);
+                        dispatch();
+                    }
+                });
+                workerHandles.put(next.getJobId(), handle);
+                if (handle.isDone()) {
+                    workerHandles.remove(next.getJobId());
+                }
+            } catch (RejectedExecutionException e) {
+                // Executor is shutting down: leave it queued so the next start resumes it
+                scheduler.release(next);
+                log.info("Backtest job {} not started before shutdown, will resume on next start", next.getJobId());
+                updateJobStatus(next.getJobId(), "QUEUED", -1, "Queued (not started before shutdown)");
+                CompletableFuture<BacktestResult> future = runningFutures.get(next.getJobId());
+                if (future != null) {
+                    future.completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private void runJob(String jobId, BacktestConfig config, BacktestRunner backtestRunner,
+                        CompletableFuture<BacktestResult> future) {
+        if (future.isDone()) {
+            return;
+        }
+        try {
+            // Update status to running
+            updateJobStatus(jobId, "RUNNING", 0, "Loading data");
+            updateProgress(jobId, BacktestProgress.running(jobId, 0, "Loading data", 0, 0));
+
+            // Execute backtest with progress callback
+            BacktestResult result = backtestRunner.run(config, new JobProgressCallback(jobId));
+
+            if (future.isCancelled()) {
+                log.info("Backtest job {} finished after cancellation, discarding result", jobId);
+                return;
+            }
+
+            // Mark as completed; store the result first so completion subscribers can read it
+            resultStore.put(jobId, result);
+            updateJobStatus(jobId, "COMPLETED", 100, "Completed");
+            updateProgress(jobId, BacktestProgress.completed(jobId));
+
+            // Save result summary
+            saveResultSummary(jobId, result);
+            checkpointStore.delete(jobId);
+
+            log.info("Backtest job {} completed successfully", jobId);
+            future.complete(result);
+
+        } catch (Exception e) {
+            if (future.isCancelled()) {
+                log.info("Backtest job {} stopped after cancellation", jobId);
+                return;
+            }
+            if (executor.isShutdown()) {
+                // Interrupted by shutdown: leave it queued so the next start resumes it
+                log.info("Backtest job {} interrupted by shutdown, will resume on next start", jobId);
+                updateJobStatus(jobId, "QUEUED", -1, "Interrupted by shutdown");
+                future.completeExceptionally(e);
+                return;
+            }
+            log.error("Backtest job {} failed: {}", jobId, e.getMessage(), e);
+            updateJobStatus(jobId, "FAILED", -1, "Failed: " + e.getMessage());
+            updateProgress(jobId, BacktestProgress.failed(jobId, e.getMessage()));
+            future.completeExceptionally(e);
+        }
+    }
+
+    private void failJob(String jobId, String message) {
+        updateJobStatus(jobId, "FAILED", -1, "Failed: " + message);
+        updateProgress(jobId, BacktestProgress.failed(jobId, message));
+        CompletableFuture<BacktestResult> future = runningFutures.get(jobId);
+        if (future != null) {
+            future.completeExceptionally(new RejectedExecutionException(message));
+        }
     }
 
     /**
@@ -179,7 +425,7 @@ public class BacktestJobExecutor {
      * Get result of a completed job.
      */
     public BacktestResult getResult(String jobId) {
-        return resultCache.get(jobId);
+        return resultStore.get(jobId);
     }
 
     /**
@@ -188,7 +434,14 @@ public class BacktestJobExecutor {
     public boolean cancel(String jobId) {
         CompletableFuture<BacktestResult> future = runningFutures.get(jobId);
         if (future != null && !future.isDone()) {
+            boolean wasQueued = scheduler.remove(jobId) != null;
             boolean cancelled = future.cancel(true);
+            if (!wasQueued) {
+                Future<?> handle = workerHandles.get(jobId);
+                if (handle != null) {
+                    handle.cancel(true);
+                }
+            }
             if (cancelled) {
                 updateJobStatus(jobId, "CANCELLED", -1, "Cancelled by user");
                 updateProgress(jobId, BacktestProgress.cancelled(jobId));
@@ -207,18 +460,54 @@ public class BacktestJobExecutor {
                 .orElse(false);
     }
 
+    /**
+     * Get a future that completes when the job finishes.
+     *
+     * Completes immediately for jobs that already finished; never polls.
+     *
+     * @param jobId Job ID
+     * @return Future with the job result, failed if the job failed or is unknown
+     */
+    public CompletableFuture<BacktestResult> getCompletion(String jobId) {
+        CompletableFuture<BacktestResult> future = runningFutures.get(jobId);
+        if (future != null) {
+            // Dependent copy: cancelling it must not cancel the job itself
+            return future.copy();
+        }
+
+        BacktestResult result = resultStore.get(jobId);
+        if (result != null) {
+            return CompletableFuture.completedFuture(result);
+        }
+
+        BacktestProgress progress = getProgress(jobId);
+        String reason = progress == null ? "Job not found: " + jobId
+                : progress.isSuccess() ? "Result no longer available for job " + jobId
+                : "Backtest " + progress.getStatus().name().toLowerCase() + ": " + progress.getErrorMessage();
+        return CompletableFuture.failedFuture(new IllegalStateException(reason));
+    }
+
     /**
      * Register a progress listener for a job.
+     *
+     * @return Handle that removes the listener when run
      */
-    public void addProgressListener(String jobId, Consumer<BacktestProgress> listener) {
-        progressListeners.put(jobId, listener);
+    public Runnable addProgressListener(String jobId, Consumer<BacktestProgress> listener) {
+        return progressHub.subscribe(jobId, listener);
     }
 
     /**
-     * Remove progress listener.
+     * Remove all progress listeners of a job.
      */
     public void removeProgressListener(String jobId) {
-        progressListeners.remove(jobId);
+        progressHub.unsubscribeAll(jobId);
+    }
+
+    /**
+     * Get number of jobs waiting in the in-memory queue, per priority class.
+     */
+    public int getQueueDepth(BacktestPriority priority) {
+        return scheduler.getQueuedCount(priority);
     }
 
     /**
@@ -253,17 +542,14 @@ public class BacktestJobExecutor {
     }
 
     private void updateProgress(String jobId, BacktestProgress progress) {
-        progressMap.put(jobId, progress);
-
-        // Notify listener if registered
-        Consumer<BacktestProgress> listener = progressListeners.get(jobId);
-        if (listener != null) {
-            try {
-                listener.accept(progress);
-            } catch (Exception e) {
-                log.warn("Progress listener error for job {}: {}", jobId, e.getMessage());
-            }
+        // Only live jobs are kept in memory; finished jobs are served from the job table
+        if (progress.isDone()) {
+            progressMap.remove(jobId);
+        } else {
+            progressMap.put(jobId, progress);
         }
+
+        progressHub.publish(progress);
     }
 
     private void saveResultSummary(String jobId, BacktestResult result) {
@@ -293,6 +579,14 @@ public class BacktestJobExecutor {
         }
     }
 
+    private BacktestConfig deserializeConfig(String json) {
+        try {
+            return objectMapper.readValue(json, BacktestConfig.class);
+        } catch (Exception e) {
+            throw new IllegalStateException("Invalid stored backtest config: " + e.getMessage(), e);
+        }
+    }
+
     private BacktestProgress toProgress(BacktestJobEntity entity) {
         return BacktestProgress.builder()
                 .jobId(entity.getJobId())
@@ -316,9 +610,80 @@ public class BacktestJobExecutor {
 
     /**
      * Progress callback interface.
+     *
+     * Also gives the runner access to checkpointing: runners call
+     * {@link #isCheckpointDue(int)} between bars and hand over a snapshot with
+     * {@link #checkpoint(BacktestCheckpoint)} when it returns true.
      */
     @FunctionalInterface
     public interface ProgressCallback {
         void onProgress(int percent, String phase, int totalBars, int processedBars);
+
+        /**
+         * Whether the runner should take a checkpoint now.
+         */
+        default boolean isCheckpointDue(int processedBars) {
+            return false;
+        }
+
+        /**
+         * Persist a checkpoint of the running backtest.
+         */
+        default void checkpoint(BacktestCheckpoint checkpoint) {
+        }
+
+        /**
+         * Checkpoint to continue from, or null to start from the first bar.
+         */
+        default BacktestCheckpoint getResumeCheckpoint() {
+            return null;
+        }
+    }
+
+    /**
+     * Callback bound to one job: publishes progress and stores its checkpoints.
+     */
+    private class JobProgressCallback implements ProgressCallback {
+
+        private final String jobId;
+        private long lastCheckpointNanos = System.nanoTime();
+
+        JobProgressCallback(String jobId) {
+            this.jobId = jobId;
+        }
+
+        @Override
+        public void onProgress(int percent, String phase, int totalBars, int processedBars) {
+            updateJobStatus(jobId, "RUNNING", percent, phase);
+            updateProgress(jobId, BacktestProgress.builder()
+                    .jobId(jobId)
+                    .status(BacktestProgress.Status.RUNNING)
+                    .progressPercent(percent)
+                    .currentPhase(phase)
+                    .totalBars(totalBars)
+                    .processedBars(processedBars)
+                    .build());
+        }
+
+        @Override
+        public boolean isCheckpointDue(int processedBars) {
+            return checkpointIntervalSeconds > 0
+                    && System.nanoTime() - lastCheckpointNanos >= TimeUnit.SECONDS.toNanos(checkpointIntervalSeconds);
+        }
+
+        @Override
+        public void checkpoint(BacktestCheckpoint checkpoint) {
+            checkpointStore.save(jobId, checkpoint);
+            lastCheckpointNanos = System.nanoTime();
+        }
+
+        @Override
+        public BacktestCheckpoint getResumeCheckpoint() {
+            BacktestCheckpoint checkpoint = checkpointStore.load(jobId);
+            if (checkpoint != null) {
+                checkpointStore.recordResume();
+            }
+            return checkpoint;
+        }
     }
 }
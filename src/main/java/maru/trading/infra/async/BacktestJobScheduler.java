@@ -0,0 +1,294 @@
+package maru.trading.infra.async;
+
+import maru.trading.domain.backtest.BacktestConfig;
+import maru.trading.domain.backtest.BacktestPriority;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Priority and fair-share queue for backtest jobs.
+ *
+ * Dispatch rules:
+ * - Priority classes are served in order (INTERACTIVE, BATCH, OPTIMIZATION)
+ * - Within a class, owners (user or strategy) are served round-robin,
+ *   so one owner's burst of jobs cannot monopolize the class
+ * - Non-interactive jobs may never occupy the last worker, and optimization
+ *   trials at most half of the workers, so an interactive backtest always
+ *   finds a free slot without waiting for a long trial to finish
+ *
+ * Admission control rejects jobs whose estimated cost (bars x symbols) is too
+ * large on its own, or that would push the total queued cost over the limit.
+ *
+ * Not thread-safe by itself; all access is synchronized on this instance.
+ */
+public class BacktestJobScheduler {
+
+    /**
+     * Bars per regular KRX session (09:00-15:30) for a 1-minute timeframe.
+     */
+    private static final int MINUTES_PER_SESSION = 390;
+
+    private final int workers;
+    private final int queueCapacity;
+    private final long maxJobCost;
+    private final long maxQueuedCost;
+
+    private final Map<BacktestPriority, LinkedHashMap<String, Deque<QueuedJob>>> queues =
+            new EnumMap<>(BacktestPriority.class);
+    private final Map<BacktestPriority, Integer> queuedCounts = new EnumMap<>(BacktestPriority.class);
+    private final Map<BacktestPriority, Integer> runningCounts = new EnumMap<>(BacktestPriority.class);
+
+    private long queuedCost;
+
+    public BacktestJobScheduler(int workers, int queueCapacity, long maxJobCost, long maxQueuedCost) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Workers must be positive");
+        }
+        this.workers = workers;
+        this.queueCapacity = queueCapacity;
+        this.maxJobCost = maxJobCost;
+        this.maxQueuedCost = maxQueuedCost;
+
+        for (BacktestPriority priority : BacktestPriority.values()) {
+            queues.put(priority, new LinkedHashMap<>());
+            queuedCounts.put(priority, 0);
+            runningCounts.put(priority, 0);
+        }
+    }
+
+    /**
+     * Admit a job into the queue.
+     *
+     * @throws RejectedExecutionException if the job fails admission control
+     */
+    public synchronized void enqueue(QueuedJob job) {
+        if (job.getCost() > maxJobCost) {
+            throw new RejectedExecutionException(String.format(
+                    "Backtest too large: estimated %d bar-symbols exceeds limit %d",
+                    job.getCost(), maxJobCost));
+        }
+        if (getQueuedCount() >= queueCapacity) {
+            throw new RejectedExecutionException(String.format(
+                    "Backtest queue is full (%d jobs)", queueCapacity));
+        }
+        if (queuedCost + job.getCost() > maxQueuedCost) {
+            throw new RejectedExecutionException(String.format(
+                    "Backtest queue is saturated: %d bar-symbols queued, limit %d",
+                    queuedCost, maxQueuedCost));
+        }
+
+        queues.get(job.getPriority())
+                .computeIfAbsent(job.getOwner(), k -> new ArrayDeque<>())
+                .addLast(job);
+        queuedCounts.merge(job.getPriority(), 1, Integer::sum);
+        queuedCost += job.getCost();
+    }
+
+    /**
+     * Take the next job that may start now and count it as running.
+     *
+     * @return Next job, or null if nothing is eligible
+     */
+    public synchronized QueuedJob poll() {
+        if (getRunningCount() >= workers) {
+            return null;
+        }
+
+        for (BacktestPriority priority : BacktestPriority.values()) {
+            if (queuedCounts.get(priority) == 0 || !hasCapacity(priority)) {
+                continue;
+            }
+
+            QueuedJob job = pollRoundRobin(queues.get(priority));
+            if (job != null) {
+                queuedCounts.merge(priority, -1, Integer::sum);
+                runningCounts.merge(priority, 1, Integer::sum);
+                queuedCost -= job.getCost();
+                return job;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Release the worker slot held by a job polled earlier.
+     */
+    public synchronized void release(QueuedJob job) {
+        runningCounts.merge(job.getPriority(), -1, Integer::sum);
+    }
+
+    /**
+     * Remove a job that is still waiting in the queue.
+     *
+     * @return Removed job, or null if it is not queued
+     */
+    public synchronized QueuedJob remove(String jobId) {
+        for (Map.Entry<BacktestPriority, LinkedHashMap<String, Deque<QueuedJob>>> entry : queues.entrySet()) {
+            Iterator<Deque<QueuedJob>> owners = entry.getValue().values().iterator();
+            while (owners.hasNext()) {
+                Deque<QueuedJob> deque = owners.next();
+                for (Iterator<QueuedJob> it = deque.iterator(); it.hasNext(); ) {
+                    QueuedJob job = it.next();
+                    if (job.getJobId().equals(jobId)) {
+                        it.remove();
+                        if (deque.isEmpty()) {
+                            owners.remove();
+                        }
+                        queuedCounts.merge(entry.getKey(), -1, Integer::sum);
+                        queuedCost -= job.getCost();
+                        return job;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    public synchronized int getQueuedCount(BacktestPriority priority) {
+        return queuedCounts.get(priority);
+    }
+
+    public synchronized int getRunningCount(BacktestPriority priority) {
+        return runningCounts.get(priority);
+    }
+
+    public synchronized int getQueuedCount() {
+        return queuedCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public synchronized int getRunningCount() {
+        return runningCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public synchronized long getQueuedCost() {
+        return queuedCost;
+    }
+
+    /**
+     * Estimate the cost of a backtest as bars x symbols.
+     *
+     * Uses calendar days scaled to trading days (5/7) and the number of bars
+     * per regular session for the configured timeframe.
+     */
+    public static long estimateCost(BacktestConfig config) {
+        if (config.getStartDate() == null || config.getEndDate() == null) {
+            return 0;
+        }
+        long calendarDays = ChronoUnit.DAYS.between(config.getStartDate(), config.getEndDate()) + 1;
+        long tradingDays = Math.max(1, calendarDays * 5 / 7);
+        int symbols = config.getSymbols() != null ? Math.max(1, config.getSymbols().size()) : 1;
+        return tradingDays * barsPerSession(config.getTimeframe()) * symbols;
+    }
+
+    /**
+     * Number of bars in one regular session for a timeframe such as "5m", "1h" or "1d".
+     */
+    static int barsPerSession(String timeframe) {
+        if (timeframe == null || timeframe.length() < 2) {
+            return 1;
+        }
+        char unit = Character.toLowerCase(timeframe.charAt(timeframe.length() - 1));
+        int amount;
+        try {
+            amount = Integer.parseInt(timeframe.substring(0, timeframe.length() - 1));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+        if (amount <= 0) {
+            return 1;
+        }
+        return switch (unit) {
+            case 'm' -> Math.max(1, MINUTES_PER_SESSION / amount);
+            case 'h' -> Math.max(1, (MINUTES_PER_SESSION + 60 * amount - 1) / (60 * amount));
+            default -> 1;
+        };
+    }
+
+    private boolean hasCapacity(BacktestPriority priority) {
+        if (priority == BacktestPriority.INTERACTIVE || workers == 1) {
+            return true;
+        }
+
+        int nonInteractive = runningCounts.get(BacktestPriority.BATCH)
+                + runningCounts.get(BacktestPriority.OPTIMIZATION);
+        if (nonInteractive >= workers - 1) {
+            return false;
+        }
+
+        if (priority == BacktestPriority.OPTIMIZATION) {
+            return runningCounts.get(BacktestPriority.OPTIMIZATION) < Math.max(1, workers / 2);
+        }
+        return true;
+    }
+
+    private QueuedJob pollRoundRobin(LinkedHashMap<String, Deque<QueuedJob>> owners) {
+        Iterator<Map.Entry<String, Deque<QueuedJob>>> it = owners.entrySet().iterator();
+        if (!it.hasNext()) {
+            return null;
+        }
+
+        Map.Entry<String, Deque<QueuedJob>> head = it.next();
+        Deque<QueuedJob> deque = head.getValue();
+        QueuedJob job = deque.pollFirst();
+        it.remove();
+
+        // Move the owner to the back so the next poll serves someone else
+        if (!deque.isEmpty()) {
+            owners.put(head.getKey(), deque);
+        }
+        return job;
+    }
+
+    /**
+     * A job waiting for (or holding) a worker slot.
+     */
+    public static class QueuedJob {
+
+        private final String jobId;
+        private final BacktestPriority priority;
+        private final String owner;
+        private final long cost;
+        private final long enqueuedNanos;
+        private final Runnable task;
+
+        public QueuedJob(String jobId, BacktestPriority priority, String owner, long cost, Runnable task) {
+            this.jobId = jobId;
+            this.priority = priority != null ? priority : BacktestPriority.INTERACTIVE;
+            this.owner = owner != null ? owner : "anonymous";
+            this.cost = cost;
+            this.enqueuedNanos = System.nanoTime();
+            this.task = task;
+        }
+
+        public String getJobId() {
+            return jobId;
+        }
+
+        public BacktestPriority getPriority() {
+            return priority;
+        }
+
+        public String getOwner() {
+            return owner;
+        }
+
+        public long getCost() {
+            return cost;
+        }
+
+        public long getEnqueuedNanos() {
+            return enqueuedNanos;
+        }
+
+        public Runnable getTask() {
+            return task;
+        }
+    }
+}
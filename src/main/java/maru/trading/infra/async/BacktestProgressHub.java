@@ -0,0 +1,177 @@
+package maru.trading.infra.async;
+
+import jakarta.annotation.PreDestroy;
+import maru.trading.domain.backtest.BacktestProgress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Fan-out hub for backtest progress events.
+ *
+ * BacktestJobExecutor publishes every progress update once; the hub delivers it
+ * to all subscribers of that job (SSE emitters, listeners):
+ * - {@link #subscribe} listeners are called synchronously on the publishing
+ *   worker and must not block
+ * - {@link #subscribeLatest} listeners are called on a small sender pool and
+ *   only see the latest event not yet delivered, so a slow client (e.g. a
+ *   blocking SSE send) never stalls the backtest or other subscribers
+ *
+ * Subscriptions of a job are dropped automatically after its terminal
+ * (COMPLETED, FAILED, CANCELLED) event has been delivered.
+ */
+@Component
+public class BacktestProgressHub {
+
+    private static final Logger log = LoggerFactory.getLogger(BacktestProgressHub.class);
+
+    private static final int SENDER_THREADS = 2;
+
+    private final Map<String, List<Consumer<BacktestProgress>>> subscribers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger senderThreadNumber = new AtomicInteger();
+
+    private final ExecutorService sender = Executors.newFixedThreadPool(SENDER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "backtest-progress-sender-" + senderThreadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Subscribe to progress events of a job.
+     *
+     * @param jobId Job ID
+     * @param listener Listener invoked for each event
+     * @return Handle that removes this subscription when run
+     */
+    public Runnable subscribe(String jobId, Consumer<BacktestProgress> listener) {
+        subscribers.computeIfAbsent(jobId, k -> new CopyOnWriteArrayList<>()).add(listener);
+        log.debug("Progress subscriber added: jobId={}, subscribers={}", jobId, getSubscriberCount(jobId));
+        return () -> unsubscribe(jobId, listener);
+    }
+
+    /**
+     * Subscribe a listener that may block, such as an SSE send.
+     *
+     * Events are handed to the sender pool; while one is being delivered,
+     * newer events replace each other and only the latest is delivered next.
+     * The terminal event is always delivered, as nothing is published after it.
+     *
+     * @param jobId Job ID
+     * @param listener Listener invoked on a sender thread, never concurrently with itself
+     * @return Handle that removes this subscription when run
+     */
+    public Runnable subscribeLatest(String jobId, Consumer<BacktestProgress> listener) {
+        return subscribe(jobId, new LatestOnlyListener(jobId, listener));
+    }
+
+    /**
+     * Remove a single subscription.
+     */
+    public void unsubscribe(String jobId, Consumer<BacktestProgress> listener) {
+        subscribers.computeIfPresent(jobId, (k, list) -> {
+            list.remove(listener);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * Remove all subscriptions of a job.
+     */
+    public void unsubscribeAll(String jobId) {
+        subscribers.remove(jobId);
+    }
+
+    /**
+     * Deliver a progress event to every subscriber of its job.
+     */
+    public void publish(BacktestProgress progress) {
+        String jobId = progress.getJobId();
+        List<Consumer<BacktestProgress>> listeners = progress.isDone()
+                ? subscribers.remove(jobId)
+                : subscribers.get(jobId);
+        if (listeners == null) {
+            return;
+        }
+
+        for (Consumer<BacktestProgress> listener : listeners) {
+            try {
+                listener.accept(progress);
+            } catch (Exception e) {
+                log.warn("Progress listener error for job {}: {}", jobId, e.getMessage());
+                unsubscribe(jobId, listener);
+            }
+        }
+    }
+
+    public int getSubscriberCount(String jobId) {
+        List<Consumer<BacktestProgress>> listeners = subscribers.get(jobId);
+        return listeners != null ? listeners.size() : 0;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(List::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * Conflating mailbox in front of a slow listener.
+     */
+    private final class LatestOnlyListener implements Consumer<BacktestProgress> {
+        private final String jobId;
+        private final Consumer<BacktestProgress> delegate;
+        private final AtomicReference<BacktestProgress> latest = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        LatestOnlyListener(String jobId, Consumer<BacktestProgress> delegate) {
+            this.jobId = jobId;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void accept(BacktestProgress progress) {
+            latest.set(progress);
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            do {
+                BacktestProgress progress;
+                while ((progress = latest.getAndSet(null)) != null) {
+                    try {
+                        delegate.accept(progress);
+                    } catch (Exception e) {
+                        log.warn("Progress listener error for job {}: {}", jobId, e.getMessage());
+                        unsubscribe(jobId, this);
+                        latest.set(null);
+                    }
+                }
+                scheduled.set(false);
+                // An event set after the last poll but before the flag was cleared
+            } while (latest.get() != null && scheduled.compareAndSet(false, true));
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package maru.trading.infra.async;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import maru.trading.domain.backtest.BacktestResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bounded store for completed backtest results.
+ *
+ * Keeps the most recently used results in memory, bounded both by entry count
+ * and by weight (number of signals, orders, fills, trades and equity points).
+ * Results pushed out of memory are spilled to gzip-compressed JSON files and
+ * reloaded transparently on the next {@link #get(String)}.
+ *
+ * Metrics:
+ * - backtest.results.cached / backtest.results.weight - in-memory entries and weight
+ * - backtest.results.evicted - results spilled to disk
+ * - backtest.results.reloaded - results read back from disk
+ * - backtest.results.spill.failures - results kept in memory because they could not be spilled
+ */
+@Component
+public class BacktestResultStore {
+
+    private static final Logger log = LoggerFactory.getLogger(BacktestResultStore.class);
+
+    private static final String FILE_SUFFIX = ".json.gz";
+
+    private final ObjectMapper spillMapper;
+    private final MeterRegistry meterRegistry;
+
+    // Access-ordered: iteration starts at the least recently used entry
+    private final LinkedHashMap<String, BacktestResult> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Long> weights = new LinkedHashMap<>();
+    private long totalWeight;
+
+    // Evicted results not yet on disk, so a concurrent get() never misses them
+    private final Map<String, BacktestResult> pendingSpills = new ConcurrentHashMap<>();
+
+    private Counter evictedCounter;
+    private Counter reloadedCounter;
+    private Counter spillFailureCounter;
+
+    @Value("${backtest.results.maxEntries:50}")
+    private int maxEntries;
+
+    @Value("${backtest.results.maxWeight:2000000}")
+    private long maxWeight;
+
+    @Value("${backtest.results.spillDir:${java.io.tmpdir}/backtest-results}")
+    private String spillDir;
+
+    @Value("${backtest.results.retentionHours:72}")
+    private long retentionHours;
+
+    private Path spillPath;
+
+    @Autowired
+    public BacktestResultStore(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.spillMapper = objectMapper.copy()
+                .registerModule(new ParameterNamesModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        spillPath = Paths.get(spillDir);
+        try {
+            Files.createDirectories(spillPath);
+        } catch (IOException e) {
+            log.warn("Cannot create backtest result spill directory {}: {}", spillPath, e.getMessage());
+        }
+        purgeExpiredFiles();
+
+        Gauge.builder("backtest.results.cached", this, BacktestResultStore::size)
+                .description("Backtest results held in memory")
+                .register(meterRegistry);
+        Gauge.builder("backtest.results.weight", this, BacktestResultStore::getTotalWeight)
+                .description("Weight (records) of backtest results held in memory")
+                .register(meterRegistry);
+        evictedCounter = Counter.builder("backtest.results.evicted")
+                .description("Backtest results spilled from memory to disk")
+                .register(meterRegistry);
+        reloadedCounter = Counter.builder("backtest.results.reloaded")
+                .description("Backtest results reloaded from disk")
+                .register(meterRegistry);
+        spillFailureCounter = Counter.builder("backtest.results.spill.failures")
+                .description("Backtest results kept in memory because spilling them failed")
+                .register(meterRegistry);
+
+        log.info("BacktestResultStore initialized: maxEntries={}, maxWeight={}, spillDir={}",
+                maxEntries, maxWeight, spillPath);
+    }
+
+    /**
+     * Store a result, spilling least recently used results if over budget.
+     */
+    public void put(String jobId, BacktestResult result) {
+        if (jobId == null || result == null) {
+            return;
+        }
+
+        List<Map.Entry<String, BacktestResult>> evicted;
+        synchronized (this) {
+            removeFromMemory(jobId);
+            long weight = weigh(result);
+            memory.put(jobId, result);
+            weights.put(jobId, weight);
+            totalWeight += weight;
+            evicted = evictOverBudget();
+            for (Map.Entry<String, BacktestResult> entry : evicted) {
+                pendingSpills.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        for (Map.Entry<String, BacktestResult> entry : evicted) {
+            spill(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Get a result from memory, or reload it from disk if it was spilled.
+     *
+     * @return Result, or null if unknown
+     */
+    public BacktestResult get(String jobId) {
+        if (jobId == null) {
+            return null;
+        }
+
+        synchronized (this) {
+            BacktestResult cached = memory.get(jobId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        BacktestResult pending = pendingSpills.get(jobId);
+        if (pending != null) {
+            return pending;
+        }
+
+        BacktestResult reloaded = reload(jobId);
+        if (reloaded != null) {
+            reloadedCounter.increment();
+            put(jobId, reloaded);
+        }
+        return reloaded;
+    }
+
+    /**
+     * Check whether a result is available (in memory or on disk).
+     */
+    public boolean contains(String jobId) {
+        synchronized (this) {
+            if (memory.containsKey(jobId)) {
+                return true;
+            }
+        }
+        return pendingSpills.containsKey(jobId) || Files.exists(fileFor(jobId));
+    }
+
+    public synchronized int size() {
+        return memory.size();
+    }
+
+    public synchronized long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public double getEvictionCount() {
+        return evictedCounter.count();
+    }
+
+    public double getReloadCount() {
+        return reloadedCounter.count();
+    }
+
+    public double getSpillFailureCount() {
+        return spillFailureCounter.count();
+    }
+
+    /**
+     * Weight of a result: one unit per stored record.
+     */
+    static long weigh(BacktestResult result) {
+        long weight = 1;
+        weight += sizeOf(result.getSignals());
+        weight += sizeOf(result.getOrders());
+        weight += sizeOf(result.getFills());
+        weight += sizeOf(result.getPositions());
+        weight += sizeOf(result.getTrades());
+        if (result.getEquityCurve() != null) {
+            weight += sizeOf(result.getEquityCurve().getPoints());
+        }
+        return weight;
+    }
+
+    private static int sizeOf(List<?> list) {
+        return list != null ? list.size() : 0;
+    }
+
+    private List<Map.Entry<String, BacktestResult>> evictOverBudget() {
+        List<Map.Entry<String, BacktestResult>> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, BacktestResult>> it = memory.entrySet().iterator();
+        while ((memory.size() > maxEntries || totalWeight > maxWeight) && it.hasNext()) {
+            Map.Entry<String, BacktestResult> eldest = it.next();
+            evicted.add(Map.entry(eldest.getKey(), eldest.getValue()));
+            it.remove();
+            Long weight = weights.remove(eldest.getKey());
+            totalWeight -= weight != null ? weight : 0;
+        }
+        return evicted;
+    }
+
+    private void removeFromMemory(String jobId) {
+        if (memory.remove(jobId) != null) {
+            Long weight = weights.remove(jobId);
+            totalWeight -= weight != null ? weight : 0;
+        }
+    }
+
+    private void spill(String jobId, BacktestResult result) {
+        Path target = fileFor(jobId);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+            spillMapper.writeValue(out, result);
+        } catch (IOException e) {
+            log.warn("Failed to spill backtest result {}, keeping it in memory: {}", jobId, e.getMessage());
+            deleteQuietly(temp);
+            keepResident(jobId, result);
+            return;
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            evictedCounter.increment();
+            pendingSpills.remove(jobId);
+            log.debug("Spilled backtest result {} to {}", jobId, target);
+        } catch (IOException e) {
+            log.warn("Failed to move spilled backtest result {}, keeping it in memory: {}", jobId, e.getMessage());
+            deleteQuietly(temp);
+            keepResident(jobId, result);
+        }
+    }
+
+    /**
+     * Put a result that could not be spilled back in memory, over budget if need be;
+     * the next put tries to spill it again.
+     */
+    private void keepResident(String jobId, BacktestResult result) {
+        spillFailureCounter.increment();
+        synchronized (this) {
+            // A newer result stored meanwhile wins
+            if (!memory.containsKey(jobId)) {
+                long weight = weigh(result);
+                memory.put(jobId, result);
+                weights.put(jobId, weight);
+                totalWeight += weight;
+            }
+            pendingSpills.remove(jobId);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Cannot delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    private BacktestResult reload(String jobId) {
+        Path file = fileFor(jobId);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            BacktestResult result = spillMapper.readValue(in, BacktestResult.class);
+            log.debug("Reloaded backtest result {} from {}", jobId, file);
+            return result;
+        } catch (IOException e) {
+            log.warn("Failed to reload backtest result {}: {}", jobId, e.getMessage());
+            return null;
+        }
+    }
+
+    private Path fileFor(String jobId) {
+        // Job IDs are ULIDs; strip anything that could escape the spill directory
+        String safeId = jobId.replaceAll("[^A-Za-z0-9_-]", "_");
+        return spillPath.resolve(safeId + FILE_SUFFIX);
+    }
+
+    private void purgeExpiredFiles() {
+        if (retentionHours <= 0 || !Files.isDirectory(spillPath)) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(Duration.ofHours(retentionHours));
+        try (Stream<Path> files = Files.list(spillPath)) {
+            files.filter(p -> p.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .filter(p -> {
+                        try {
+                            return Files.getLastModifiedTime(p).toInstant().isBefore(cutoff);
+                        } catch (IOException e) {
+                            return false;
+                        }
+                    })
+                    .forEach(p -> {
+                        try {
+                            Files.deleteIfExists(p);
+                        } catch (IOException e) {
+                            log.debug("Failed to delete expired result file {}: {}", p, e.getMessage());
+                        }
+                    });
+        } catch (IOException e) {
+            log.warn("Failed to purge expired backtest result files: {}", e.getMessage());
+        }
+    }
+}
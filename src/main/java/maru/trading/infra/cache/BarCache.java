@@ -1,21 +1,38 @@
 package maru.trading.infra.cache;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import maru.trading.domain.market.MarketBar;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 /**
  * In-memory cache for market bars.
  *
  * Stores recent bars for fast access by strategy engine.
- * Thread-safe for concurrent access.
+ * Each symbol-timeframe keeps a fixed-capacity ring ({@link BarRing}), so
+ * memory per key is bounded for the whole trading day and the oldest bar
+ * is evicted on every put once the ring is full. Reads never lock and
+ * return read-only windowed views over the ring instead of copies; a view
+ * stays valid until another capacity's worth of bars has been added.
+ * At startup rings are filled with history ({@link #preload}) before
+ * strategies first read them.
+ *
+ * Capacity is configured per timeframe:
+ * - trading.bars.cache.capacity - default for every timeframe
+ * - trading.bars.cache.capacities - overrides, e.g. "1m:400,1d:250"
  */
 @Component
 public class BarCache {
@@ -23,11 +40,53 @@ public class BarCache {
     private static final Logger log = LoggerFactory.getLogger(BarCache.class);
 
     // Key: "symbol:timeframe" (e.g., "005930:1m")
-    // Value: List of bars (ordered oldest to newest)
-    private final Map<String, List<MarketBar>> cache = new ConcurrentHashMap<>();
+    // Value: Ring of bars (ordered oldest to newest)
+    private final Map<String, BarRing> cache = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${trading.bars.cache.capacity:200}")
+    private int defaultCapacity;
+
+    @Value("${trading.bars.cache.capacities:}")
+    private String capacities;
+
+    private volatile Map<String, Integer> capacityByTimeframe = Map.of();
+
+    private final LongAdder evictions = new LongAdder();
 
-    // Default maximum bars to keep per symbol-timeframe
-    private static final int DEFAULT_MAX_BARS = 200;
+    @Autowired
+    public BarCache(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        Map<String, Integer> parsed = new HashMap<>();
+        for (String entry : capacities.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid bar cache capacity (expected timeframe:bars): " + entry);
+            }
+            parsed.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        capacityByTimeframe = Map.copyOf(parsed);
+
+        Gauge.builder("bars.cache.size", this, BarCache::size)
+                .description("Bars held in the bar cache")
+                .register(meterRegistry);
+        Gauge.builder("bars.cache.keys", cache, Map::size)
+                .description("Symbol-timeframe rings in the bar cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("bars.cache.evictions", evictions, LongAdder::sum)
+                .description("Bars evicted from full rings")
+                .register(meterRegistry);
+
+        log.info("BarCache initialized: defaultCapacity={}, capacities={}", defaultCapacity, capacityByTimeframe);
+    }
 
     /**
      * Put a bar into the cache.
@@ -41,24 +100,37 @@ public class BarCache {
 
         String key = createKey(bar.getSymbol(), bar.getTimeframe());
 
-        cache.compute(key, (k, bars) -> {
-            if (bars == null) {
-                bars = new ArrayList<>();
-            }
+        BarRing ring = cache.computeIfAbsent(key, k -> new BarRing(capacityFor(bar.getTimeframe())));
 
-            // Add bar to the end (newest)
-            bars.add(bar);
+        // Add bar to the end (newest), overwriting the oldest once full
+        if (ring.add(bar)) {
+            evictions.increment();
+        }
 
-            // Trim if exceeds max size
-            if (bars.size() > DEFAULT_MAX_BARS) {
-                bars = bars.subList(bars.size() - DEFAULT_MAX_BARS, bars.size());
-            }
+        log.debug("Cached bar: symbol={}, timeframe={}, total_bars={}",
+                bar.getSymbol(), bar.getTimeframe(), ring.size());
+    }
+
+    /**
+     * Preload history for a symbol and timeframe, e.g. from the database at startup.
+     * Bars put since are kept; only history older than them is added.
+     *
+     * @param symbol Symbol
+     * @param timeframe Timeframe
+     * @param history Closed bars (oldest first)
+     * @return Number of history bars cached
+     */
+    public int preload(String symbol, String timeframe, List<MarketBar> history) {
+        if (history == null || history.isEmpty()) {
+            return 0;
+        }
 
-            log.debug("Cached bar: symbol={}, timeframe={}, total_bars={}",
-                    bar.getSymbol(), bar.getTimeframe(), bars.size());
+        BarRing ring = cache.computeIfAbsent(createKey(symbol, timeframe), k -> new BarRing(capacityFor(timeframe)));
+        int loaded = ring.preload(history);
 
-            return bars;
-        });
+        log.debug("Preloaded bars: symbol={}, timeframe={}, loaded={}, total_bars={}",
+                symbol, timeframe, loaded, ring.size());
+        return loaded;
     }
 
     /**
@@ -67,22 +139,11 @@ public class BarCache {
      * @param symbol Symbol
      * @param timeframe Timeframe (e.g., "1m")
      * @param count Number of bars to retrieve (most recent)
-     * @return List of bars (oldest first), or empty list if not found
+     * @return Read-only view of the bars (oldest first), or empty list if not found
      */
     public List<MarketBar> getRecentBars(String symbol, String timeframe, int count) {
-        String key = createKey(symbol, timeframe);
-        List<MarketBar> bars = cache.get(key);
-
-        if (bars == null || bars.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        if (count <= 0 || count >= bars.size()) {
-            return new ArrayList<>(bars);
-        }
-
-        // Return last N bars (most recent)
-        return new ArrayList<>(bars.subList(bars.size() - count, bars.size()));
+        BarRing ring = cache.get(createKey(symbol, timeframe));
+        return ring != null ? ring.window(count) : List.of();
     }
 
     /**
@@ -90,12 +151,10 @@ public class BarCache {
      *
      * @param symbol Symbol
      * @param timeframe Timeframe
-     * @return List of all cached bars (oldest first)
+     * @return Read-only view of all cached bars (oldest first)
      */
     public List<MarketBar> getAllBars(String symbol, String timeframe) {
-        String key = createKey(symbol, timeframe);
-        List<MarketBar> bars = cache.get(key);
-        return bars != null ? new ArrayList<>(bars) : new ArrayList<>();
+        return getRecentBars(symbol, timeframe, 0);
     }
 
     /**
@@ -106,14 +165,8 @@ public class BarCache {
      * @return Most recent bar, or null if not found
      */
     public MarketBar getLatestBar(String symbol, String timeframe) {
-        String key = createKey(symbol, timeframe);
-        List<MarketBar> bars = cache.get(key);
-
-        if (bars == null || bars.isEmpty()) {
-            return null;
-        }
-
-        return bars.get(bars.size() - 1);
+        BarRing ring = cache.get(createKey(symbol, timeframe));
+        return ring != null ? ring.latest() : null;
     }
 
     /**
@@ -149,6 +202,31 @@ public class BarCache {
                 ));
     }
 
+    /**
+     * Total bars held across all symbol-timeframes.
+     */
+    public long size() {
+        long size = 0;
+        for (BarRing ring : cache.values()) {
+            size += ring.size();
+        }
+        return size;
+    }
+
+    /**
+     * Bars evicted from full rings since startup.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Ring capacity for a timeframe.
+     */
+    public int capacityFor(String timeframe) {
+        return capacityByTimeframe.getOrDefault(timeframe, defaultCapacity);
+    }
+
     private String createKey(String symbol, String timeframe) {
         return symbol + ":" + timeframe;
     }
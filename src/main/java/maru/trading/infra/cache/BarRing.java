@@ -0,0 +1,165 @@
+package maru.trading.infra.cache;
+
+import maru.trading.domain.market.MarketBar;
+
+import java.lang.invoke.VarHandle;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Fixed-capacity ring of bars for one symbol and timeframe.
+ *
+ * Writes are serialized per ring and publish through the volatile
+ * {@link Bounds}, replaced as a whole so readers see both ends of the
+ * window consistently; reads never lock. The slot array is twice the
+ * visible capacity, so a {@link Window} handed to a reader stays valid
+ * until another {@code capacity} bars have been added.
+ * A window read after that throws {@link ConcurrentModificationException}
+ * instead of returning a newer bar in place of an older one.
+ */
+final class BarRing {
+
+    private final int capacity;
+    private final MarketBar[] slots;
+
+    private volatile Bounds bounds = new Bounds(0, 0);
+
+    /**
+     * Sequences of the bars held: bars [max(start, head - capacity), head) are visible.
+     *
+     * @param start First sequence holding a bar; moved only by preload
+     * @param head  Sequence of the next bar to be written
+     */
+    private record Bounds(long start, long head) {
+    }
+
+    BarRing(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.slots = new MarketBar[capacity * 2];
+    }
+
+    /**
+     * Append a bar.
+     *
+     * @return true if the oldest visible bar was evicted
+     */
+    synchronized boolean add(MarketBar bar) {
+        Bounds current = bounds;
+        long sequence = current.head();
+        slots[(int) (sequence % slots.length)] = bar;
+        bounds = new Bounds(current.start(), sequence + 1);
+        return sequence - current.start() >= capacity;
+    }
+
+    /**
+     * Fill the ring with history older than the bars it holds.
+     *
+     * Bars already in the ring (added live since startup) stay newest;
+     * history at or after the oldest of them is skipped. The merged bars are
+     * written as new sequences, into slots no current window covers, then
+     * published at once with new bounds: a reader sees either the old bars
+     * or the merged bars.
+     *
+     * @param history Closed bars ordered oldest to newest
+     * @return Number of history bars now visible
+     */
+    synchronized int preload(List<MarketBar> history) {
+        List<MarketBar> live = new ArrayList<>(window(0));
+        LocalDateTime oldest = live.isEmpty() ? null : live.get(0).getBarTimestamp();
+
+        List<MarketBar> merged = new ArrayList<>(history.size() + live.size());
+        for (MarketBar bar : history) {
+            if (oldest == null || bar.getBarTimestamp().isBefore(oldest)) {
+                merged.add(bar);
+            }
+        }
+        int older = merged.size();
+        if (older == 0) {
+            return 0;
+        }
+        merged.addAll(live);
+
+        int from = Math.max(0, merged.size() - capacity);
+        long first = bounds.head();
+        long sequence = first;
+        for (int i = from; i < merged.size(); i++) {
+            slots[(int) (sequence++ % slots.length)] = merged.get(i);
+        }
+        bounds = new Bounds(first, sequence);
+        return Math.max(0, older - from);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int size() {
+        Bounds current = bounds;
+        return (int) Math.min(current.head() - current.start(), capacity);
+    }
+
+    MarketBar latest() {
+        Bounds current = bounds;
+        long end = current.head();
+        return end == current.start() ? null : slots[(int) ((end - 1) % slots.length)];
+    }
+
+    /**
+     * Read-only view of the most recent bars.
+     *
+     * @param count Number of bars (0 or negative = all visible bars)
+     * @return View ordered oldest to newest
+     */
+    List<MarketBar> window(int count) {
+        Bounds current = bounds;
+        long end = current.head();
+        int size = (int) Math.min(end - current.start(), capacity);
+        if (count > 0 && count < size) {
+            size = count;
+        }
+        return size == 0 ? List.of() : new Window(end - size, size);
+    }
+
+    /**
+     * Zero-copy view of {@code size} bars starting at sequence {@code start}.
+     */
+    private final class Window extends AbstractList<MarketBar> implements RandomAccess {
+
+        private final long start;
+        private final int size;
+
+        Window(long start, int size) {
+            this.start = start;
+            this.size = size;
+        }
+
+        @Override
+        public MarketBar get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            long sequence = start + index;
+            MarketBar bar = slots[(int) (sequence % slots.length)];
+            // The writer may be reusing the slot (it stores before publishing the bounds)
+            VarHandle.acquireFence();
+            long head = bounds.head();
+            if (head - sequence >= slots.length) {
+                throw new ConcurrentModificationException(
+                        "Bar window overwritten: " + (head - start - size) + " bars added since it was taken");
+            }
+            return bar;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package maru.trading.infra.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import maru.trading.domain.market.MarketBar;
+import maru.trading.domain.strategy.IndicatorCache;
+import maru.trading.domain.strategy.IndicatorLibrary;
+import maru.trading.domain.strategy.RollingSeries;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shared, reference-counted memoization of indicator series.
+ *
+ * Series are keyed by (scope, symbol, timeframe, indicator with params) and
+ * the bar window they were computed from, so an indicator is computed once
+ * per closed bar and window and reused by every strategy evaluating it,
+ * live and in backtests. The scope separates data sources ("live" bars from
+ * the market data feed, "backtest" bars from the historical table).
+ *
+ * Memory is tied to subscriptions: a {@link Subscription} for a
+ * scope/symbol/timeframe keeps its series cached, and when the last one is
+ * closed they are released. Lookups through a closed subscription are
+ * computed without caching. Each indicator keeps at most
+ * trading.indicators.cache.windows recent windows; the oldest is replaced.
+ *
+ * Windows are identified by size, first/last bar timestamp and first/last
+ * close, which is O(1) and unambiguous for bars from one data source.
+ *
+ * Incremental engines (MA crossover, RSI) do not recompute windows; they
+ * share {@link RollingSeries} instead, keyed by indicator and the bar they
+ * were started from, so each closed bar is applied once for all strategies
+ * that warmed up from the same history. Each such series keeps its values
+ * for the last trading.indicators.cache.windows bars for strategies still
+ * evaluating an earlier bar, and each indicator the series of that many
+ * recent origins.
+ *
+ * Metrics:
+ * - indicator.cache.requests (tag result=hit|miss|bypass; incremental series count once per warm-up)
+ * - indicator.cache.hit.ratio - hits / (hits + misses)
+ * - indicator.cache.subscriptions, indicator.cache.series
+ */
+@Component
+public class IndicatorRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(IndicatorRegistry.class);
+
+    @Value("${trading.indicators.cache.windows:4}")
+    private int windowsPerIndicator;
+
+    private final ConcurrentMap<GroupKey, Group> groups = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+
+    @Autowired
+    public IndicatorRegistry(MeterRegistry meterRegistry) {
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.bypassCounter = requestCounter(meterRegistry, "bypass");
+        Gauge.builder("indicator.cache.hit.ratio", this, IndicatorRegistry::getHitRatio)
+                .description("Share of indicator lookups served from the cache")
+                .register(meterRegistry);
+        Gauge.builder("indicator.cache.subscriptions", this, IndicatorRegistry::getSubscriptionCount)
+                .description("Active indicator cache subscriptions")
+                .register(meterRegistry);
+        Gauge.builder("indicator.cache.series", this, IndicatorRegistry::getSeriesCount)
+                .description("Cached indicator series")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cache statistics for admin visibility.
+     */
+    public record Stats(long hits, long misses, long bypasses, double hitRatio,
+                        int subscriptions, int series) {
+    }
+
+    /**
+     * Subscribe to the indicators of a symbol and timeframe.
+     *
+     * @param scope Data source, e.g. "live" or "backtest"
+     * @return Subscription to pass to strategies as their {@link IndicatorCache}; close when done
+     */
+    public Subscription subscribe(String scope, String symbol, String timeframe) {
+        GroupKey key = new GroupKey(scope, symbol, timeframe);
+        Group group = groups.compute(key, (k, existing) -> {
+            Group g = existing != null ? existing : new Group();
+            g.refs++;
+            return g;
+        });
+        return new Subscription(key, group);
+    }
+
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), bypasses.sum(), getHitRatio(),
+                getSubscriptionCount(), getSeriesCount());
+    }
+
+    double getHitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total > 0 ? (double) h / total : 0.0;
+    }
+
+    int getSubscriptionCount() {
+        int count = 0;
+        for (Group group : groups.values()) {
+            count += group.refs;
+        }
+        return count;
+    }
+
+    int getSeriesCount() {
+        int count = 0;
+        for (Group group : groups.values()) {
+            count += group.series.size() + group.rolling.size();
+        }
+        return count;
+    }
+
+    private void release(GroupKey key) {
+        groups.computeIfPresent(key, (k, group) -> {
+            group.refs--;
+            if (group.refs > 0) {
+                return group;
+            }
+            log.debug("Indicator cache released: {}, series={}", k, group.series.size());
+            return null;
+        });
+    }
+
+    private <T> T get(Group group, String indicator, List<MarketBar> bars, Supplier<T> compute) {
+        if (bars == null || bars.isEmpty()) {
+            return bypass(compute);
+        }
+        Window window = Window.of(bars);
+        Series series = group.series.computeIfAbsent(indicator, k -> new Series(windowsPerIndicator));
+
+        // Computed under the series lock so concurrent strategies compute it once
+        synchronized (series) {
+            Object cached = series.find(window);
+            if (cached != null) {
+                hits.increment();
+                hitCounter.increment();
+                @SuppressWarnings("unchecked")
+                T value = (T) cached;
+                return value;
+            }
+            T value = compute.get();
+            series.put(window, value);
+            misses.increment();
+            missCounter.increment();
+            return value;
+        }
+    }
+
+    private RollingSeries rolling(Group group, String indicator, LocalDateTime origin,
+                                  Supplier<IndicatorLibrary.Rolling> create) {
+        if (origin == null) {
+            return bypass(() -> new RollingSeries(create.get(), 2));
+        }
+        Origins origins = group.rolling.computeIfAbsent(indicator, k -> new Origins(windowsPerIndicator));
+
+        synchronized (origins) {
+            RollingSeries series = origins.find(origin);
+            if (series != null) {
+                hits.increment();
+                hitCounter.increment();
+                return series;
+            }
+            series = new RollingSeries(create.get(), windowsPerIndicator);
+            origins.put(origin, series);
+            misses.increment();
+            missCounter.increment();
+            return series;
+        }
+    }
+
+    private <T> T bypass(Supplier<T> compute) {
+        bypasses.increment();
+        bypassCounter.increment();
+        return compute.get();
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("indicator.cache.requests")
+                .description("Indicator lookups through the shared indicator cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A strategy's handle on the indicators of one scope, symbol and timeframe.
+     */
+    public final class Subscription implements IndicatorCache, AutoCloseable {
+        private final GroupKey key;
+        private final Group group;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscription(GroupKey key, Group group) {
+            this.key = key;
+            this.group = group;
+        }
+
+        @Override
+        public <T> T get(String indicator, List<MarketBar> bars, Supplier<T> compute) {
+            if (closed.get()) {
+                return bypass(compute);
+            }
+            return IndicatorRegistry.this.get(group, indicator, bars, compute);
+        }
+
+        @Override
+        public RollingSeries rolling(String indicator, LocalDateTime origin,
+                                     Supplier<IndicatorLibrary.Rolling> create) {
+            if (closed.get()) {
+                return bypass(() -> new RollingSeries(create.get(), 2));
+            }
+            return IndicatorRegistry.this.rolling(group, indicator, origin, create);
+        }
+
+        /**
+         * Release the subscription; idempotent.
+         */
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(key);
+            }
+        }
+
+        public boolean isClosed() {
+            return closed.get();
+        }
+    }
+
+    private record GroupKey(String scope, String symbol, String timeframe) {
+    }
+
+    /**
+     * Series of one scope, symbol and timeframe; refs guarded by the groups map.
+     */
+    private static final class Group {
+        private int refs;
+        private final ConcurrentMap<String, Series> series = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, Origins> rolling = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Identity of a bar window.
+     */
+    private record Window(int size, LocalDateTime first, LocalDateTime last,
+                          BigDecimal firstClose, BigDecimal lastClose) {
+
+        static Window of(List<MarketBar> bars) {
+            MarketBar first = bars.get(0);
+            MarketBar last = bars.get(bars.size() - 1);
+            return new Window(bars.size(), first.getBarTimestamp(), last.getBarTimestamp(),
+                    first.getClose(), last.getClose());
+        }
+
+        boolean matches(Window other) {
+            return size == other.size
+                    && Objects.equals(last, other.last)
+                    && Objects.equals(first, other.first)
+                    && compare(lastClose, other.lastClose)
+                    && compare(firstClose, other.firstClose);
+        }
+
+        private static boolean compare(BigDecimal a, BigDecimal b) {
+            return a == null ? b == null : b != null && a.compareTo(b) == 0;
+        }
+    }
+
+    /**
+     * Most recent windows of one indicator; guarded by its own lock.
+     */
+    private static final class Series {
+        private final Window[] windows;
+        private final Object[] values;
+        private int next;
+
+        Series(int capacity) {
+            int size = Math.max(1, capacity);
+            this.windows = new Window[size];
+            this.values = new Object[size];
+        }
+
+        Object find(Window window) {
+            for (int i = 0; i < windows.length; i++) {
+                if (windows[i] != null && windows[i].matches(window)) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+
+        void put(Window window, Object value) {
+            windows[next] = window;
+            values[next] = value;
+            next = (next + 1) % windows.length;
+        }
+    }
+
+    /**
+     * Incremental series of one indicator by the bar they were started from,
+     * most recent origins only; guarded by its own lock.
+     */
+    private static final class Origins {
+        private final LocalDateTime[] origins;
+        private final RollingSeries[] series;
+        private int next;
+
+        Origins(int capacity) {
+            int size = Math.max(1, capacity);
+            this.origins = new LocalDateTime[size];
+            this.series = new RollingSeries[size];
+        }
+
+        RollingSeries find(LocalDateTime origin) {
+            for (int i = 0; i < origins.length; i++) {
+                if (origin.equals(origins[i])) {
+                    return series[i];
+                }
+            }
+            return null;
+        }
+
+        void put(LocalDateTime origin, RollingSeries value) {
+            origins[next] = origin;
+            series[next] = value;
+            next = (next + 1) % origins.length;
+        }
+    }
+}
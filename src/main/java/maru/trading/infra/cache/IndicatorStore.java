@@ -0,0 +1,525 @@
+package maru.trading.infra.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import maru.trading.domain.market.MarketBar;
+import maru.trading.domain.strategy.IndicatorCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static maru.trading.infra.cache.IndicatorStoreFormat.*;
+
+/**
+ * Persistent store of precomputed indicator series for backtests.
+ *
+ * Repeated backtests and optimizer trials replay the same history and
+ * compute the same indicators (EMA 12/26, RSI 14, Bollinger 20/2, ...) over
+ * the same bar windows. The store keeps them in compact columnar files (see
+ * {@link IndicatorStoreFormat}), one per (symbol, timeframe, indicator with
+ * params) and bar data version, so later runs read them instead of
+ * recomputing. A change to any replayed bar changes the data version, and the
+ * series are computed again into a new file; the most recent
+ * trading.indicators.store.maxVersions files are kept per indicator.
+ *
+ * A backtest run opens a {@link Session} per symbol and passes it to its
+ * strategies as their {@link IndicatorCache}. Lookups the store cannot answer
+ * are computed (through the shared {@link IndicatorRegistry} when given) and
+ * recorded; the session writes them when it is closed. Only the newest
+ * trading.indicators.store.depth values of each window's series are kept,
+ * which is what strategies read. Series of other shapes are computed as
+ * before and not stored.
+ *
+ * Metrics:
+ * - indicator.store.requests (tag result=hit|miss)
+ * - indicator.store.rows.written - window rows written to store files
+ */
+@Component
+public class IndicatorStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IndicatorStore.class);
+
+    @Value("${trading.indicators.store.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.indicators.store.dir:data/indicator-store}")
+    private String storeDir;
+
+    @Value("${trading.indicators.store.depth:2}")
+    private int depth;
+
+    @Value("${trading.indicators.store.maxVersions:4}")
+    private int maxVersions;
+
+    // Serializes writers of one file within this JVM
+    private final ConcurrentMap<Path, Object> fileLocks = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter rowCounter;
+
+    @Autowired
+    public IndicatorStore(MeterRegistry meterRegistry) {
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.rowCounter = Counter.builder("indicator.store.rows.written")
+                .description("Indicator window rows written to the indicator store")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Open the stored indicators of a symbol and timeframe for one backtest run.
+     *
+     * @param dataVersion Version of the replayed bars of the symbol; 0 if unknown (nothing is stored)
+     * @param delegate    Cache to compute missing series through, or null to compute directly
+     * @return Session to pass to strategies as their {@link IndicatorCache}; close when the run ends
+     */
+    public Session open(String symbol, String timeframe, long dataVersion, IndicatorCache delegate) {
+        boolean active = enabled && dataVersion != 0 && symbol != null && timeframe != null;
+        Path directory = active ? directory(Paths.get(storeDir), symbol, timeframe) : null;
+        return new Session(directory, dataVersion, delegate);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("indicator.store.requests")
+                .description("Backtest indicator lookups through the indicator store")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Stored indicators of one symbol, timeframe and data version, used by
+     * one backtest run (not thread-safe).
+     */
+    public final class Session implements IndicatorCache, AutoCloseable {
+        private final Path directory;
+        private final long dataVersion;
+        private final IndicatorCache delegate;
+        private final Map<String, Columns> series = new HashMap<>();
+        private boolean closed;
+
+        private Session(Path directory, long dataVersion, IndicatorCache delegate) {
+            this.directory = directory;
+            this.dataVersion = dataVersion;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public <T> T get(String indicator, List<MarketBar> bars, Supplier<T> compute) {
+            if (directory == null || closed || bars == null || bars.isEmpty()) {
+                return compute(indicator, bars, compute);
+            }
+            Columns columns = series.computeIfAbsent(indicator, this::load);
+            if (columns.unsupported) {
+                return compute(indicator, bars, compute);
+            }
+
+            long last = encodeTime(bars.get(bars.size() - 1).getBarTimestamp());
+            long first = encodeTime(bars.get(0).getBarTimestamp());
+            int row = columns.find(last, first, bars.size());
+            if (row >= 0) {
+                hitCounter.increment();
+                @SuppressWarnings("unchecked")
+                T value = (T) columns.decode(row);
+                return value;
+            }
+
+            T value = compute(indicator, bars, compute);
+            missCounter.increment();
+            columns.append(last, first, bars.size(), value);
+            return value;
+        }
+
+        /**
+         * Write the series computed during the run; idempotent.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            series.forEach((indicator, columns) -> {
+                if (columns.appended() > 0) {
+                    write(indicator, columns);
+                }
+            });
+            series.clear();
+        }
+
+        private <T> T compute(String indicator, List<MarketBar> bars, Supplier<T> compute) {
+            return delegate != null ? delegate.get(indicator, bars, compute) : compute.get();
+        }
+
+        private Columns load(String indicator) {
+            Columns columns = read(directory.resolve(fileName(indicator, dataVersion)), indicator);
+            return columns != null ? columns : new Columns(null, depth);
+        }
+
+        private void write(String indicator, Columns columns) {
+            Path target = directory.resolve(fileName(indicator, dataVersion));
+            synchronized (fileLocks.computeIfAbsent(target, k -> new Object())) {
+                try {
+                    Files.createDirectories(directory);
+
+                    // Another run may have written the file since it was loaded
+                    Columns merged = columns;
+                    Columns current = read(target, indicator);
+                    if (current != null && current.kind == columns.kind) {
+                        merged = current.merge(columns);
+                    }
+
+                    Path temp = directory.resolve(target.getFileName() + ".tmp");
+                    Files.write(temp, merged.encode(indicator, dataVersion));
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    rowCounter.increment(columns.appended());
+                    log.debug("Indicator store written: {}, rows={}", target, merged.rows);
+                } catch (IOException e) {
+                    log.warn("Failed to write indicator store file {}: {}", target, e.getMessage());
+                    return;
+                }
+            }
+            pruneVersions(indicator);
+        }
+
+        private Columns read(Path file, String indicator) {
+            byte[] bytes;
+            try {
+                bytes = Files.readAllBytes(file);
+            } catch (NoSuchFileException e) {
+                return null;
+            } catch (IOException e) {
+                log.warn("Failed to read indicator store file {}: {}", file, e.getMessage());
+                return null;
+            }
+            try {
+                return Columns.decode(ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN),
+                        indicator, dataVersion, depth);
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                log.warn("Ignoring unreadable indicator store file {}: {}", file, e.getMessage());
+                return null;
+            }
+        }
+
+        private void pruneVersions(String indicator) {
+            String prefix = filePrefix(indicator);
+            try (Stream<Path> files = Files.list(directory)) {
+                List<Path> versions = files
+                        .filter(f -> f.getFileName().toString().startsWith(prefix)
+                                && f.getFileName().toString().endsWith(FILE_SUFFIX))
+                        .sorted(Comparator.comparing(IndicatorStore::lastModified).reversed())
+                        .toList();
+                for (Path stale : versions.subList(Math.min(versions.size(), Math.max(1, maxVersions)), versions.size())) {
+                    Files.deleteIfExists(stale);
+                    log.debug("Indicator store version removed: {}", stale);
+                }
+            } catch (IOException e) {
+                log.debug("Failed to prune indicator store versions of {}: {}", indicator, e.getMessage());
+            }
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Rows of one indicator series in column arrays. Rows read from a file
+     * come first, sorted; rows appended during a run follow in run order.
+     */
+    private static final class Columns {
+        private Kind kind;
+        private final int depth;
+        private boolean unsupported;
+
+        private int rows;
+        private int sortedRows;
+        private long[] last = new long[0];
+        private long[] first = new long[0];
+        private int[] size = new int[0];
+        private byte[] count = new byte[0];
+        private long[][] unscaled;
+        private byte[][] scale;
+
+        Columns(Kind kind, int depth) {
+            this.kind = kind;
+            this.depth = Math.max(1, Math.min(depth, Byte.MAX_VALUE));
+            if (kind != null) {
+                allocateValueColumns(kind);
+            }
+        }
+
+        int appended() {
+            return rows - sortedRows;
+        }
+
+        /**
+         * Row of a window, or -1.
+         */
+        int find(long lastTime, long firstTime, int windowSize) {
+            int low = 0;
+            int high = sortedRows - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compare(mid, lastTime, windowSize, firstTime);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            // Same window requested again in this run
+            if (rows > sortedRows && compare(rows - 1, lastTime, windowSize, firstTime) == 0) {
+                return rows - 1;
+            }
+            return -1;
+        }
+
+        List<Object> decode(int row) {
+            int values = count[row];
+            Object[] elements = new Object[values];
+            BigDecimal[] fields = new BigDecimal[kind.fields];
+            for (int i = 0; i < values; i++) {
+                int slot = values - 1 - i;
+                for (int f = 0; f < kind.fields; f++) {
+                    int column = f * depth + slot;
+                    byte s = scale[column][row];
+                    fields[f] = s == NULL_SCALE ? null : BigDecimal.valueOf(unscaled[column][row], s);
+                }
+                elements[i] = kind.element(fields);
+            }
+            return Collections.unmodifiableList(Arrays.asList(elements));
+        }
+
+        /**
+         * Record the series of a window if it has a storable shape.
+         */
+        void append(long lastTime, long firstTime, int windowSize, Object value) {
+            if (!(value instanceof List<?> list) || list.isEmpty()) {
+                return;
+            }
+            Kind valueKind = Kind.of(list.get(list.size() - 1));
+            if (valueKind == null || (kind != null && kind != valueKind)) {
+                unsupported = true;
+                return;
+            }
+            int values = Math.min(depth, list.size());
+            for (int i = list.size() - values; i < list.size(); i++) {
+                Object element = list.get(i);
+                if (element == null ? valueKind != Kind.DECIMAL : Kind.of(element) != valueKind) {
+                    unsupported = true;
+                    return;
+                }
+                for (int f = 0; f < valueKind.fields; f++) {
+                    if (element != null && !encodable(valueKind.field(element, f))) {
+                        unsupported = true;
+                        return;
+                    }
+                }
+            }
+            if (kind == null) {
+                kind = valueKind;
+                allocateValueColumns(kind);
+            }
+
+            int row = addRow(lastTime, firstTime, windowSize, (byte) values);
+            for (int slot = 0; slot < values; slot++) {
+                Object element = list.get(list.size() - 1 - slot);
+                for (int f = 0; f < kind.fields; f++) {
+                    BigDecimal field = element != null ? kind.field(element, f) : null;
+                    int column = f * depth + slot;
+                    unscaled[column][row] = field != null ? field.unscaledValue().longValue() : 0L;
+                    scale[column][row] = field != null ? (byte) field.scale() : NULL_SCALE;
+                }
+            }
+        }
+
+        /**
+         * These rows and the other's, sorted, one row per window.
+         */
+        Columns merge(Columns other) {
+            Columns merged = new Columns(kind, depth);
+            List<int[]> all = new ArrayList<>(rows + other.rows);
+            for (int r = 0; r < rows; r++) {
+                all.add(new int[]{0, r});
+            }
+            for (int r = 0; r < other.rows; r++) {
+                all.add(new int[]{1, r});
+            }
+            all.sort((a, b) -> {
+                Columns ca = a[0] == 0 ? this : other;
+                Columns cb = b[0] == 0 ? this : other;
+                return ca.compare(a[1], cb.last[b[1]], cb.size[b[1]], cb.first[b[1]]);
+            });
+            for (int[] ref : all) {
+                Columns source = ref[0] == 0 ? this : other;
+                int r = ref[1];
+                if (merged.rows > 0 && merged.compare(merged.rows - 1, source.last[r], source.size[r], source.first[r]) == 0) {
+                    continue;
+                }
+                int row = merged.addRow(source.last[r], source.first[r], source.size[r], source.count[r]);
+                for (int c = 0; c < unscaled.length; c++) {
+                    merged.unscaled[c][row] = source.unscaled[c][r];
+                    merged.scale[c][row] = source.scale[c][r];
+                }
+            }
+            merged.sortedRows = merged.rows;
+            return merged;
+        }
+
+        byte[] encode(String indicator, long dataVersion) {
+            Columns sorted = sortedRows == rows ? this : new Columns(kind, depth).merge(this);
+            byte[] name = indicator.getBytes(StandardCharsets.UTF_8);
+            int n = sorted.rows;
+            int valueColumns = kind.fields * depth;
+            ByteBuffer buffer = ByteBuffer
+                    .allocate(24 + name.length + n * (8 + 8 + 4 + 1) + valueColumns * n * (8 + 1))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(dataVersion)
+                    .put((byte) kind.ordinal()).put((byte) depth)
+                    .putShort((short) name.length).put(name)
+                    .putInt(n);
+            for (int r = 0; r < n; r++) {
+                buffer.putLong(sorted.last[r]);
+            }
+            for (int r = 0; r < n; r++) {
+                buffer.putLong(sorted.first[r]);
+            }
+            for (int r = 0; r < n; r++) {
+                buffer.putInt(sorted.size[r]);
+            }
+            buffer.put(sorted.count, 0, n);
+            for (int c = 0; c < valueColumns; c++) {
+                for (int r = 0; r < n; r++) {
+                    buffer.putLong(sorted.unscaled[c][r]);
+                }
+                buffer.put(sorted.scale[c], 0, n);
+            }
+            return Arrays.copyOf(buffer.array(), buffer.position());
+        }
+
+        /**
+         * Columns of a store file, or null if it belongs to another data
+         * version or depth.
+         *
+         * @throws IllegalArgumentException if the file is not an indicator store file
+         */
+        static Columns decode(ByteBuffer buffer, String indicator, long dataVersion, int depth) {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IllegalArgumentException("not an indicator store file");
+            }
+            long fileVersion = buffer.getLong();
+            int kindOrdinal = buffer.get();
+            int fileDepth = buffer.get();
+            byte[] name = new byte[buffer.getShort()];
+            buffer.get(name);
+            if (fileVersion != dataVersion || fileDepth != depth
+                    || !indicator.equals(new String(name, StandardCharsets.UTF_8))) {
+                return null;
+            }
+            if (kindOrdinal < 0 || kindOrdinal >= Kind.values().length) {
+                throw new IllegalArgumentException("unknown element kind " + kindOrdinal);
+            }
+
+            Columns columns = new Columns(Kind.values()[kindOrdinal], fileDepth);
+            int n = buffer.getInt();
+            if (n < 0) {
+                throw new IllegalArgumentException("negative row count");
+            }
+            columns.ensureCapacity(n);
+            for (int r = 0; r < n; r++) {
+                columns.last[r] = buffer.getLong();
+            }
+            for (int r = 0; r < n; r++) {
+                columns.first[r] = buffer.getLong();
+            }
+            for (int r = 0; r < n; r++) {
+                columns.size[r] = buffer.getInt();
+            }
+            buffer.get(columns.count, 0, n);
+            for (int c = 0; c < columns.unscaled.length; c++) {
+                for (int r = 0; r < n; r++) {
+                    columns.unscaled[c][r] = buffer.getLong();
+                }
+                buffer.get(columns.scale[c], 0, n);
+            }
+            columns.rows = n;
+            columns.sortedRows = n;
+            return columns;
+        }
+
+        private int compare(int row, long lastTime, int windowSize, long firstTime) {
+            int cmp = Long.compare(last[row], lastTime);
+            if (cmp == 0) {
+                cmp = Integer.compare(size[row], windowSize);
+            }
+            if (cmp == 0) {
+                cmp = Long.compare(first[row], firstTime);
+            }
+            return cmp;
+        }
+
+        private int addRow(long lastTime, long firstTime, int windowSize, byte values) {
+            ensureCapacity(rows + 1);
+            int row = rows++;
+            last[row] = lastTime;
+            first[row] = firstTime;
+            size[row] = windowSize;
+            count[row] = values;
+            return row;
+        }
+
+        private void allocateValueColumns(Kind kind) {
+            unscaled = new long[kind.fields * depth][last.length];
+            scale = new byte[kind.fields * depth][last.length];
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= last.length) {
+                return;
+            }
+            int grown = Math.max(capacity, Math.max(16, last.length * 2));
+            last = Arrays.copyOf(last, grown);
+            first = Arrays.copyOf(first, grown);
+            size = Arrays.copyOf(size, grown);
+            count = Arrays.copyOf(count, grown);
+            if (unscaled != null) {
+                for (int c = 0; c < unscaled.length; c++) {
+                    unscaled[c] = Arrays.copyOf(unscaled[c], grown);
+                    scale[c] = Arrays.copyOf(scale[c], grown);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package maru.trading.infra.cache;
+
+import maru.trading.domain.strategy.IndicatorLibrary;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * On-disk layout of the indicator store, shared by {@link IndicatorStore} and its column files.
+ *
+ * Directory: {@code <dir>/<symbol>/<timeframe>/<indicator>-<hash>-<dataVersion>.ind},
+ * one file per indicator (with its parameters) and bar data version.
+ *
+ * File: a header followed by one column per field, little-endian:
+ * <pre>
+ * offset  header
+ * 0       magic (int)
+ * 4       format version (int)
+ * 8       bar data version (long)
+ * 16      element kind (byte)
+ * 17      depth (byte) - values kept per window
+ * 18      indicator name length (short) + UTF-8 bytes
+ * n       row count (int)
+ *
+ * columns (rows sorted by last bar time, window size, first bar time)
+ *         last bar time   long[rows]  epoch millis of the local date-time
+ *         first bar time  long[rows]
+ *         window size     int[rows]
+ *         value count     byte[rows]  values stored for the row (<= depth)
+ *         per field, per slot (slot 0 = newest value):
+ *           unscaled      long[rows]
+ *           scale         byte[rows]  NULL_SCALE for a null value
+ * </pre>
+ *
+ * A row holds the newest {@code depth} values of the series computed over
+ * one bar window; values are fixed-point (unscaled long and scale), so they
+ * decode to exactly the computed BigDecimals.
+ */
+final class IndicatorStoreFormat {
+
+    static final int MAGIC = 0x52545349; // "ISTR"
+    static final int VERSION = 1;
+
+    static final byte NULL_SCALE = Byte.MIN_VALUE;
+
+    static final String FILE_SUFFIX = ".ind";
+
+    private IndicatorStoreFormat() {
+    }
+
+    /**
+     * Element type of a stored series and the BigDecimal fields it is made of.
+     */
+    enum Kind {
+        DECIMAL(1),
+        BOLLINGER(3),
+        MACD(3),
+        VWAP(3);
+
+        final int fields;
+
+        Kind(int fields) {
+            this.fields = fields;
+        }
+
+        /**
+         * Kind of a series element, or null if it cannot be stored.
+         */
+        static Kind of(Object element) {
+            if (element instanceof BigDecimal) {
+                return DECIMAL;
+            } else if (element instanceof IndicatorLibrary.BollingerBands) {
+                return BOLLINGER;
+            } else if (element instanceof IndicatorLibrary.MACD) {
+                return MACD;
+            } else if (element instanceof IndicatorLibrary.VWAPResult) {
+                return VWAP;
+            }
+            return null;
+        }
+
+        BigDecimal field(Object element, int field) {
+            return switch (this) {
+                case DECIMAL -> (BigDecimal) element;
+                case BOLLINGER -> {
+                    IndicatorLibrary.BollingerBands bands = (IndicatorLibrary.BollingerBands) element;
+                    yield field == 0 ? bands.getUpper() : field == 1 ? bands.getMiddle() : bands.getLower();
+                }
+                case MACD -> {
+                    IndicatorLibrary.MACD macd = (IndicatorLibrary.MACD) element;
+                    yield field == 0 ? macd.getMacdLine() : field == 1 ? macd.getSignalLine() : macd.getHistogram();
+                }
+                case VWAP -> {
+                    IndicatorLibrary.VWAPResult vwap = (IndicatorLibrary.VWAPResult) element;
+                    yield field == 0 ? vwap.getVwap() : field == 1 ? vwap.getCumulativeTPV() : vwap.getCumulativeVolume();
+                }
+            };
+        }
+
+        Object element(BigDecimal[] values) {
+            return switch (this) {
+                case DECIMAL -> values[0];
+                case BOLLINGER -> new IndicatorLibrary.BollingerBands(values[0], values[1], values[2]);
+                case MACD -> new IndicatorLibrary.MACD(values[0], values[1], values[2]);
+                case VWAP -> new IndicatorLibrary.VWAPResult(values[0], values[1], values[2]);
+            };
+        }
+    }
+
+    static Path directory(Path root, String symbol, String timeframe) {
+        return root.resolve(safeName(symbol)).resolve(safeName(timeframe));
+    }
+
+    /**
+     * File name prefix of an indicator; the hash keeps names that sanitize alike apart.
+     */
+    static String filePrefix(String indicator) {
+        return safeName(indicator) + "-" + Integer.toHexString(indicator.hashCode()) + "-";
+    }
+
+    static String fileName(String indicator, long dataVersion) {
+        return filePrefix(indicator) + Long.toHexString(dataVersion) + FILE_SUFFIX;
+    }
+
+    static long encodeTime(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1000L + time.getNano() / 1_000_000;
+    }
+
+    /**
+     * True if the value fits the fixed-point encoding (null included).
+     */
+    static boolean encodable(BigDecimal value) {
+        return value == null
+                || (value.scale() > NULL_SCALE && value.scale() <= Byte.MAX_VALUE
+                && value.unscaledValue().bitLength() < Long.SIZE);
+    }
+
+    private static String safeName(String name) {
+        return name.replaceAll("[^A-Za-z0-9._]", "_");
+    }
+}
@@ -5,8 +5,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -16,6 +22,15 @@ import java.util.concurrent.ConcurrentHashMap;
  * Thread-safe cache using ConcurrentHashMap.
  * Stores the most recent tick for each symbol.
  *
+ * Alongside the tick objects, every symbol owns a slot in a primitive quote
+ * table (unscaled price, scale, volume, exchange timestamp) guarded by a
+ * per-slot version (seqlock): a writer makes the version odd, writes the
+ * fields and makes it even again; readers retry until they see the same
+ * even version before and after reading. {@link #getPrice(String)},
+ * {@link #readQuote(String, QuoteSnapshot)} and {@link #snapshotAll(QuoteBoard)}
+ * read the table without locking or allocating (beyond the returned price).
+ * Symbols beyond {@link #MAX_SYMBOLS} are served from the tick map only.
+ *
  * In MVP, no persistence or expiry.
  * In production, could add:
  * - TTL-based expiry (evict ticks older than 1 hour)
@@ -27,9 +42,36 @@ public class MarketDataCache {
 
     private static final Logger log = LoggerFactory.getLogger(MarketDataCache.class);
     private static final Duration STALENESS_THRESHOLD = Duration.ofHours(1);
+    private static final long STALENESS_THRESHOLD_MILLIS = STALENESS_THRESHOLD.toMillis();
+
+    // Quote table capacity (KRX lists about 2,700 stocks)
+    static final int MAX_SYMBOLS = 4096;
+
+    // One 64-byte line per slot: version, price, scale, volume, timestamp, present
+    private static final int STRIDE = 8;
+    private static final int VERSION = 0;
+    private static final int PRICE = 1;
+    private static final int SCALE = 2;
+    private static final int VOLUME = 3;
+    private static final int TIMESTAMP = 4;
+    private static final int PRESENT = 5;
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private static final long OFFSET_REFRESH_MILLIS = 60_000;
 
     private final Map<String, MarketTick> tickCache = new ConcurrentHashMap<>();
 
+    private final long[] slots = new long[MAX_SYMBOLS * STRIDE];
+    private final String[] slotSymbols = new String[MAX_SYMBOLS];
+    private final Map<String, Integer> slotBySymbol = new ConcurrentHashMap<>();
+    private volatile int slotCount;
+    private boolean tableFullLogged;
+
+    // Local zone offset, refreshed once a minute, to age exchange (local) timestamps
+    private volatile long zoneOffsetMillis;
+    private volatile long zoneOffsetCheckedAt;
+
     /**
      * Store a market tick in cache.
      * Overwrites existing tick for the symbol.
@@ -40,6 +82,10 @@ public class MarketDataCache {
             return;
         }
 
+        int slot = slotFor(tick.getSymbol());
+        if (slot >= 0) {
+            writeQuote(slot, tick);
+        }
         tickCache.put(tick.getSymbol(), tick);
         log.debug("Cached tick: symbol={}, price={}", tick.getSymbol(), tick.getPrice());
     }
@@ -57,21 +103,67 @@ public class MarketDataCache {
      * Returns null if no tick found or tick is stale.
      */
     public BigDecimal getPrice(String symbol) {
-        MarketTick tick = tickCache.get(symbol);
+        Integer slot = slotBySymbol.get(symbol);
+        if (slot == null) {
+            return getPriceFromTick(symbol);
+        }
 
-        if (tick == null) {
-            log.debug("No tick found for symbol: {}", symbol);
-            return null;
+        int base = slot * STRIDE;
+        long version;
+        long price;
+        long scale;
+        long timestamp;
+        long present;
+        do {
+            version = (long) SLOTS.getAcquire(slots, base + VERSION);
+            price = slots[base + PRICE];
+            scale = slots[base + SCALE];
+            timestamp = slots[base + TIMESTAMP];
+            present = slots[base + PRESENT];
+            VarHandle.acquireFence();
+        } while ((version & 1) != 0 || version != (long) SLOTS.getVolatile(slots, base + VERSION));
+
+        if (present == 0) {
+            // Removed, or a price the table cannot hold
+            return getPriceFromTick(symbol);
         }
 
         // Check if tick is stale
-        if (tick.isDelayed(STALENESS_THRESHOLD)) {
-            log.warn("Stale tick for symbol {}: age={}", symbol,
-                    Duration.between(tick.getTimestamp(), java.time.LocalDateTime.now()));
+        long ageMillis = nowLocalMillis() - timestamp;
+        if (ageMillis > STALENESS_THRESHOLD_MILLIS) {
+            log.warn("Stale tick for symbol {}: age={}", symbol, Duration.ofMillis(ageMillis));
             return null;
         }
 
-        return tick.getPrice();
+        return BigDecimal.valueOf(price, (int) scale);
+    }
+
+    /**
+     * Copy the latest quote of a symbol into a reusable snapshot.
+     * Staleness is not checked; use {@link QuoteSnapshot#getTimestampMillis()}.
+     *
+     * @return false if the symbol has no quote in the table
+     */
+    public boolean readQuote(String symbol, QuoteSnapshot into) {
+        Integer slot = slotBySymbol.get(symbol);
+        return slot != null && readSlot(slot, into);
+    }
+
+    /**
+     * Refill a board with the latest quote of every symbol in the table.
+     *
+     * @return The same board
+     */
+    public QuoteBoard snapshotAll(QuoteBoard board) {
+        board.reset();
+        int count = slotCount;
+        for (int slot = 0; slot < count; slot++) {
+            if (!readSlot(slot, board.next())) {
+                // Removed symbol: reuse the snapshot for the next slot
+                board.drop();
+            }
+        }
+        return board;
     }
 
     /**
@@ -85,6 +177,10 @@ public class MarketDataCache {
      * Remove tick from cache.
      */
     public void remove(String symbol) {
+        Integer slot = slotBySymbol.get(symbol);
+        if (slot != null) {
+            clearQuote(slot);
+        }
         tickCache.remove(symbol);
         log.debug("Removed tick from cache: symbol={}", symbol);
     }
@@ -93,6 +189,10 @@ public class MarketDataCache {
      * Clear all ticks from cache.
      */
     public void clear() {
+        int count = slotCount;
+        for (int slot = 0; slot < count; slot++) {
+            clearQuote(slot);
+        }
         tickCache.clear();
         log.info("Cleared market data cache");
     }
@@ -103,4 +203,136 @@ public class MarketDataCache {
     public int size() {
         return tickCache.size();
     }
+
+    private BigDecimal getPriceFromTick(String symbol) {
+        MarketTick tick = tickCache.get(symbol);
+
+        if (tick == null) {
+            log.debug("No tick found for symbol: {}", symbol);
+            return null;
+        }
+
+        // Check if tick is stale
+        if (tick.isDelayed(STALENESS_THRESHOLD)) {
+            log.warn("Stale tick for symbol {}: age={}", symbol,
+                    Duration.between(tick.getTimestamp(), LocalDateTime.now()));
+            return null;
+        }
+
+        return tick.getPrice();
+    }
+
+    /**
+     * Slot of a symbol, assigning the next free one on first use.
+     *
+     * @return Slot index, or -1 if the table is full
+     */
+    private int slotFor(String symbol) {
+        Integer slot = slotBySymbol.get(symbol);
+        if (slot != null) {
+            return slot;
+        }
+        synchronized (slotSymbols) {
+            slot = slotBySymbol.get(symbol);
+            if (slot != null) {
+                return slot;
+            }
+            int next = slotCount;
+            if (next == MAX_SYMBOLS) {
+                if (!tableFullLogged) {
+                    tableFullLogged = true;
+                    log.warn("Quote table full ({} symbols); further symbols are served from the tick map only",
+                            MAX_SYMBOLS);
+                }
+                return -1;
+            }
+            slotSymbols[next] = symbol;
+            slotBySymbol.put(symbol, next);
+            slotCount = next + 1;
+            return next;
+        }
+    }
+
+    private void writeQuote(int slot, MarketTick tick) {
+        BigDecimal price = tick.getPrice();
+        if (price == null || price.unscaledValue().bitLength() > 63) {
+            // Not representable as a long: readers fall back to the tick map
+            clearQuote(slot);
+            return;
+        }
+
+        LocalDateTime timestamp = tick.getTimestamp();
+        long timestampMillis = timestamp != null
+                ? timestamp.toEpochSecond(ZoneOffset.UTC) * 1000 + timestamp.getNano() / 1_000_000
+                : 0;
+
+        int base = slot * STRIDE;
+        long version = lockSlot(base);
+        slots[base + PRICE] = price.unscaledValue().longValue();
+        slots[base + SCALE] = price.scale();
+        slots[base + VOLUME] = tick.getVolume();
+        slots[base + TIMESTAMP] = timestampMillis;
+        slots[base + PRESENT] = 1;
+        SLOTS.setRelease(slots, base + VERSION, version + 2);
+    }
+
+    private void clearQuote(int slot) {
+        int base = slot * STRIDE;
+        long version = lockSlot(base);
+        slots[base + PRESENT] = 0;
+        SLOTS.setRelease(slots, base + VERSION, version + 2);
+    }
+
+    /**
+     * Make the slot version odd, waiting for a concurrent writer of the same slot.
+     *
+     * @return Version before locking
+     */
+    private long lockSlot(int base) {
+        while (true) {
+            long version = (long) SLOTS.getVolatile(slots, base + VERSION);
+            if ((version & 1) == 0 && SLOTS.compareAndSet(slots, base + VERSION, version, version + 1)) {
+                return version;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private boolean readSlot(int slot, QuoteSnapshot into) {
+        int base = slot * STRIDE;
+        long version;
+        long price;
+        long scale;
+        long volume;
+        long timestamp;
+        long present;
+        do {
+            version = (long) SLOTS.getAcquire(slots, base + VERSION);
+            price = slots[base + PRICE];
+            scale = slots[base + SCALE];
+            volume = slots[base + VOLUME];
+            timestamp = slots[base + TIMESTAMP];
+            present = slots[base + PRESENT];
+            VarHandle.acquireFence();
+        } while ((version & 1) != 0 || version != (long) SLOTS.getVolatile(slots, base + VERSION));
+
+        if (present == 0) {
+            return false;
+        }
+        into.set(slotSymbols[slot], price, (int) scale, volume, timestamp, version >>> 1);
+        return true;
+    }
+
+    /**
+     * Current local wall-clock time as epoch millis in UTC, comparable to stored timestamps.
+     */
+    private long nowLocalMillis() {
+        long now = System.currentTimeMillis();
+        if (now - zoneOffsetCheckedAt > OFFSET_REFRESH_MILLIS) {
+            zoneOffsetMillis = ZoneId.systemDefault().getRules()
+                    .getOffset(Instant.ofEpochMilli(now)).getTotalSeconds() * 1000L;
+            zoneOffsetCheckedAt = now;
+        }
+        return now + zoneOffsetMillis;
+    }
 }
@@ -0,0 +1,65 @@
+package maru.trading.infra.cache;
+
+import java.util.Arrays;
+
+/**
+ * Reusable bulk snapshot of every quote in {@link MarketDataCache}.
+ *
+ * Filled by {@link MarketDataCache#snapshotAll(QuoteBoard)}; snapshots are
+ * allocated only when the number of symbols grows, so a consumer that
+ * keeps its board refreshes all quotes without allocating. Each entry is
+ * consistent on its own; entries are not taken at the same instant.
+ * Not thread-safe: one board per consumer thread.
+ */
+public final class QuoteBoard {
+
+    private QuoteSnapshot[] quotes = new QuoteSnapshot[0];
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public QuoteSnapshot get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return quotes[index];
+    }
+
+    /**
+     * Find the snapshot of a symbol (linear scan).
+     *
+     * @return Snapshot, or null if the symbol has no quote
+     */
+    public QuoteSnapshot find(String symbol) {
+        for (int i = 0; i < size; i++) {
+            if (quotes[i].getSymbol().equals(symbol)) {
+                return quotes[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Next snapshot to fill, growing the board if needed.
+     */
+    QuoteSnapshot next() {
+        if (size == quotes.length) {
+            int oldLength = quotes.length;
+            quotes = Arrays.copyOf(quotes, Math.max(16, oldLength * 2));
+            for (int i = oldLength; i < quotes.length; i++) {
+                quotes[i] = new QuoteSnapshot();
+            }
+        }
+        return quotes[size++];
+    }
+
+    void drop() {
+        size--;
+    }
+
+    void reset() {
+        size = 0;
+    }
+}
@@ -0,0 +1,72 @@
+package maru.trading.infra.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Consistent copy of one symbol's latest quote from {@link MarketDataCache}.
+ *
+ * Mutable and meant to be reused: readers keep one instance (or a
+ * {@link QuoteBoard}) and refill it, so reading a quote allocates nothing
+ * until a {@link BigDecimal} or {@link LocalDateTime} view is asked for.
+ */
+public final class QuoteSnapshot {
+
+    private String symbol;
+    private long unscaledPrice;
+    private int priceScale;
+    private long volume;
+    private long timestampMillis;
+    private long version;
+
+    void set(String symbol, long unscaledPrice, int priceScale, long volume, long timestampMillis, long version) {
+        this.symbol = symbol;
+        this.unscaledPrice = unscaledPrice;
+        this.priceScale = priceScale;
+        this.volume = volume;
+        this.timestampMillis = timestampMillis;
+        this.version = version;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public BigDecimal getPrice() {
+        return BigDecimal.valueOf(unscaledPrice, priceScale);
+    }
+
+    public double getPriceAsDouble() {
+        return priceScale == 0 ? unscaledPrice : getPrice().doubleValue();
+    }
+
+    public long getVolume() {
+        return volume;
+    }
+
+    /**
+     * Exchange (local) time of the tick as epoch millis of the same wall-clock time in UTC.
+     */
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(timestampMillis, 1000),
+                (int) Math.floorMod(timestampMillis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * Number of updates written to the symbol's slot, to detect changes between reads.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return "QuoteSnapshot{symbol='" + symbol + "', price=" + getPrice() + ", volume=" + volume
+                + ", timestamp=" + getTimestamp() + ", version=" + version + '}';
+    }
+}
@@ -9,6 +9,8 @@ import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import java.time.Clock;
+
 /**
  * Scheduler configuration with thread pool support.
  *
@@ -66,4 +68,15 @@ public class SchedulerConfig {
 
         return scheduler;
     }
+
+    /**
+     * Wall clock for components that read the current time (trading date,
+     * cadence schedules), so tests can substitute a fixed clock.
+     *
+     * @return System clock in the default time zone
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
 }
@@ -0,0 +1,92 @@
+package maru.trading.infra.distributed;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import maru.trading.domain.backtest.distributed.TrialResult;
+import maru.trading.domain.backtest.distributed.TrialTask;
+import maru.trading.domain.backtest.distributed.WorkerRegistration;
+import maru.trading.infra.persistence.jpa.entity.HistoricalBarEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * HTTP client a backtest worker uses to talk to the coordinator
+ * (see {@code BacktestWorkerController}).
+ */
+@Component
+@ConditionalOnProperty(prefix = "backtest.worker", name = "enabled", havingValue = "true")
+public class BacktestCoordinatorClient {
+
+    private static final String WORKERS_PATH = "/api/v1/admin/backtests/workers";
+
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+
+    public BacktestCoordinatorClient(RestTemplateBuilder builder,
+                                     ObjectMapper objectMapper,
+                                     @Value("${backtest.worker.coordinatorUrl:http://localhost:8080}") String coordinatorUrl,
+                                     @Value("${backtest.worker.readTimeoutSeconds:120}") long readTimeoutSeconds) {
+        // Coordinator and worker may run different builds; tolerate extra fields
+        ObjectMapper workerMapper = objectMapper.copy()
+                .registerModule(new ParameterNamesModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.restTemplate = builder
+                .messageConverters(new MappingJackson2HttpMessageConverter(workerMapper))
+                .setConnectTimeout(Duration.ofSeconds(5))
+                .setReadTimeout(Duration.ofSeconds(readTimeoutSeconds))
+                .build();
+        this.baseUrl = coordinatorUrl.replaceAll("/+$", "") + WORKERS_PATH;
+    }
+
+    public void register(WorkerRegistration registration) {
+        restTemplate.postForEntity(baseUrl + "/register", registration, Void.class);
+    }
+
+    /**
+     * @return false if the coordinator does not know this worker
+     */
+    public boolean heartbeat(String workerId) {
+        try {
+            restTemplate.postForEntity(baseUrl + "/{workerId}/heartbeat", null, Void.class, workerId);
+            return true;
+        } catch (HttpClientErrorException.NotFound e) {
+            return false;
+        }
+    }
+
+    /**
+     * Lease up to {@code max} trials.
+     *
+     * @return Leased trials, or null if the coordinator does not know this worker
+     */
+    public List<TrialTask> poll(String workerId, int max) {
+        try {
+            return restTemplate.exchange(baseUrl + "/{workerId}/poll?max={max}", HttpMethod.POST, null,
+                    new ParameterizedTypeReference<List<TrialTask>>() {}, workerId, max).getBody();
+        } catch (HttpClientErrorException.NotFound e) {
+            return null;
+        }
+    }
+
+    public void report(String workerId, List<TrialResult> results) {
+        restTemplate.exchange(baseUrl + "/{workerId}/results", HttpMethod.POST,
+                new HttpEntity<>(results), Void.class, workerId);
+    }
+
+    public List<HistoricalBarEntity> fetchDataset(String datasetRef) {
+        return restTemplate.exchange(baseUrl + "/datasets/{datasetRef}", HttpMethod.GET, null,
+                new ParameterizedTypeReference<List<HistoricalBarEntity>>() {}, datasetRef).getBody();
+    }
+}
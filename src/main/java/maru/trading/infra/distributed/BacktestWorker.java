@@ -0,0 +1,297 @@
+package maru.trading.infra.distributed;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import maru.trading.application.backtest.MonteCarloSimulator;
+import maru.trading.domain.backtest.BacktestEngine;
+import maru.trading.domain.backtest.BacktestResult;
+import maru.trading.domain.backtest.distributed.TrialResult;
+import maru.trading.domain.backtest.distributed.TrialTask;
+import maru.trading.domain.backtest.distributed.WorkerRegistration;
+import maru.trading.infra.persistence.jpa.entity.HistoricalBarEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Backtest worker: pulls trials from a coordinator and runs them in this JVM.
+ *
+ * Enabled with {@code backtest.worker.enabled=true}. The worker registers on
+ * startup, sends heartbeats, and leases as many trials as it has free slots.
+ * Each result is reported as soon as its trial finishes. Backtest results are
+ * reduced to a summary (trades, metrics, final capital) before reporting;
+ * signals, orders and fills stay on the worker.
+ *
+ * If the coordinator forgets the worker (e.g. after a restart) the worker
+ * registers again. Results that cannot be delivered are dropped: the
+ * coordinator re-queues the trial when its lease expires.
+ *
+ * Metrics:
+ * - backtest.worker.trials (tag: outcome=success|failure)
+ * - backtest.worker.busy - slots running a trial
+ * - backtest.worker.dataset.cache (tag: result=hit|miss)
+ */
+@Component
+@ConditionalOnProperty(prefix = "backtest.worker", name = "enabled", havingValue = "true")
+public class BacktestWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(BacktestWorker.class);
+
+    private static final int REPORT_ATTEMPTS = 3;
+
+    private final BacktestEngine backtestEngine;
+    private final MonteCarloSimulator monteCarloSimulator;
+    private final BacktestCoordinatorClient coordinatorClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${backtest.worker.id:}")
+    private String configuredWorkerId;
+
+    @Value("${backtest.worker.slots:0}")
+    private int configuredSlots;
+
+    @Value("${backtest.worker.heartbeatIntervalMs:3000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${backtest.worker.pollIntervalMs:500}")
+    private long pollIntervalMs;
+
+    @Value("${backtest.worker.datasetCacheSize:16}")
+    private int datasetCacheSize;
+
+    private String workerId;
+    private int slots;
+    private Semaphore freeSlots;
+    private DatasetCache datasetCache;
+    private ExecutorService trialPool;
+    private ScheduledExecutorService heartbeatScheduler;
+    private Thread pollThread;
+    private final AtomicInteger busySlots = new AtomicInteger();
+
+    private volatile boolean running;
+    private volatile boolean registered;
+
+    private Counter successCounter;
+    private Counter failureCounter;
+
+    public BacktestWorker(BacktestEngine backtestEngine,
+                          MonteCarloSimulator monteCarloSimulator,
+                          BacktestCoordinatorClient coordinatorClient,
+                          MeterRegistry meterRegistry) {
+        this.backtestEngine = backtestEngine;
+        this.monteCarloSimulator = monteCarloSimulator;
+        this.coordinatorClient = coordinatorClient;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        workerId = configuredWorkerId.isBlank() ? defaultWorkerId() : configuredWorkerId;
+        slots = configuredSlots > 0 ? configuredSlots : Runtime.getRuntime().availableProcessors();
+        freeSlots = new Semaphore(slots);
+        datasetCache = new DatasetCache(datasetCacheSize);
+
+        successCounter = Counter.builder("backtest.worker.trials").tag("outcome", "success").register(meterRegistry);
+        failureCounter = Counter.builder("backtest.worker.trials").tag("outcome", "failure").register(meterRegistry);
+        Gauge.builder("backtest.worker.busy", busySlots, AtomicInteger::get)
+                .description("Worker slots running a trial")
+                .register(meterRegistry);
+        Gauge.builder("backtest.worker.dataset.cache", datasetCache, DatasetCache::getHits)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        Gauge.builder("backtest.worker.dataset.cache", datasetCache, DatasetCache::getMisses)
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        trialPool = Executors.newFixedThreadPool(slots, r -> {
+            Thread thread = new Thread(r, "backtest-worker-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "backtest-worker-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        running = true;
+        heartbeatScheduler.scheduleWithFixedDelay(this::sendHeartbeat,
+                heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+        pollThread = new Thread(this::pollLoop, "backtest-worker-poll");
+        pollThread.setDaemon(true);
+        pollThread.start();
+
+        log.info("BacktestWorker started: id={}, slots={}", workerId, slots);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (pollThread != null) {
+            pollThread.interrupt();
+        }
+        if (heartbeatScheduler != null) {
+            heartbeatScheduler.shutdownNow();
+        }
+        if (trialPool != null) {
+            trialPool.shutdownNow();
+        }
+        log.info("BacktestWorker {} stopped", workerId);
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                if (!registered && !register()) {
+                    Thread.sleep(heartbeatIntervalMs);
+                    continue;
+                }
+
+                freeSlots.acquire();
+                int leasable = 1 + freeSlots.drainPermits();
+                List<TrialTask> tasks = pollQuietly(leasable);
+                if (tasks == null) {
+                    registered = false;
+                    freeSlots.release(leasable);
+                    continue;
+                }
+                freeSlots.release(leasable - tasks.size());
+                for (TrialTask task : tasks) {
+                    trialPool.execute(() -> runTrial(task));
+                }
+                if (tasks.isEmpty()) {
+                    Thread.sleep(pollIntervalMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private boolean register() {
+        try {
+            coordinatorClient.register(WorkerRegistration.builder()
+                    .workerId(workerId)
+                    .host(hostName())
+                    .slots(slots)
+                    .build());
+            registered = true;
+            log.info("Registered with coordinator as {}", workerId);
+        } catch (RuntimeException e) {
+            log.warn("Coordinator unreachable, retrying registration: {}", e.getMessage());
+        }
+        return registered;
+    }
+
+    private List<TrialTask> pollQuietly(int max) {
+        try {
+            return coordinatorClient.poll(workerId, max);
+        } catch (RuntimeException e) {
+            log.warn("Poll failed: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void sendHeartbeat() {
+        if (!registered) {
+            return;
+        }
+        try {
+            if (!coordinatorClient.heartbeat(workerId)) {
+                log.info("Coordinator no longer knows worker {}; registering again", workerId);
+                registered = false;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    private void runTrial(TrialTask task) {
+        busySlots.incrementAndGet();
+        try {
+            TrialResult result = execute(task);
+            (result.isSuccess() ? successCounter : failureCounter).increment();
+            report(result);
+        } finally {
+            busySlots.decrementAndGet();
+            freeSlots.release();
+        }
+    }
+
+    TrialResult execute(TrialTask task) {
+        try {
+            return switch (task.getType()) {
+                case BACKTEST -> {
+                    List<HistoricalBarEntity> bars = datasetCache.get(task.getDatasetRef(),
+                            coordinatorClient::fetchDataset);
+                    BacktestResult result = backtestEngine.run(task.getConfig(), bars);
+                    yield TrialResult.backtest(task.getTrialId(), workerId, summarize(result));
+                }
+                case MONTE_CARLO -> TrialResult.monteCarlo(task.getTrialId(), workerId,
+                        monteCarloSimulator.runChunk(task.getMonteCarlo()));
+            };
+        } catch (Exception e) {
+            log.warn("Trial {} failed: {}", task.getTrialId(), e.getMessage());
+            return TrialResult.failure(task.getTrialId(), workerId, e.getMessage());
+        }
+    }
+
+    private void report(TrialResult result) {
+        for (int attempt = 1; attempt <= REPORT_ATTEMPTS; attempt++) {
+            try {
+                coordinatorClient.report(workerId, List.of(result));
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Reporting trial {} failed (attempt {}): {}", result.getTrialId(), attempt, e.getMessage());
+            }
+        }
+        log.error("Dropping result of trial {}; the coordinator will re-queue it", result.getTrialId());
+    }
+
+    /**
+     * Reduce a backtest result to what optimizers consume.
+     */
+    static BacktestResult summarize(BacktestResult result) {
+        return BacktestResult.builder()
+                .backtestId(result.getBacktestId())
+                .config(result.getConfig())
+                .startTime(result.getStartTime())
+                .endTime(result.getEndTime())
+                .trades(result.getTrades())
+                .finalCapital(result.getFinalCapital())
+                .totalReturn(result.getTotalReturn())
+                .performanceMetrics(result.getPerformanceMetrics())
+                .riskMetrics(result.getRiskMetrics())
+                .build();
+    }
+
+    private static String defaultWorkerId() {
+        return hostName() + "-" + ProcessHandle.current().pid();
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package maru.trading.infra.distributed;
+
+import maru.trading.infra.persistence.jpa.entity.HistoricalBarEntity;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Worker-side LRU cache of bar datasets, keyed by dataset reference.
+ *
+ * Concurrent requests for a dataset that is being fetched wait for the
+ * single in-flight fetch instead of fetching it again.
+ */
+class DatasetCache {
+
+    private final int maxEntries;
+    private final Map<String, CompletableFuture<List<HistoricalBarEntity>>> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    DatasetCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<List<HistoricalBarEntity>>> eldest) {
+                return size() > DatasetCache.this.maxEntries;
+            }
+        };
+    }
+
+    List<HistoricalBarEntity> get(String datasetRef, Function<String, List<HistoricalBarEntity>> loader) {
+        CompletableFuture<List<HistoricalBarEntity>> future;
+        boolean owner = false;
+        synchronized (entries) {
+            future = entries.get(datasetRef);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                entries.put(datasetRef, future);
+                owner = true;
+            }
+        }
+
+        if (owner) {
+            misses.incrementAndGet();
+            try {
+                future.complete(loader.apply(datasetRef));
+            } catch (RuntimeException e) {
+                synchronized (entries) {
+                    entries.remove(datasetRef, future);
+                }
+                future.completeExceptionally(e);
+            }
+        } else {
+            hits.incrementAndGet();
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : e;
+        }
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package maru.trading.infra.journal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import maru.trading.domain.market.MarketTick;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static maru.trading.infra.journal.TickJournalFormat.*;
+
+/**
+ * Append-only journal of every validated market tick.
+ *
+ * Ticks are written as fixed-size binary records into memory-mapped segment
+ * files (see {@link TickJournalFormat}), one directory per exchange date. A
+ * segment is rolled when it is full; a restart opens a new segment instead of
+ * touching existing ones. Appending is a few stores into the mapped page
+ * cache - no syscall, no allocation for known symbols - and survives a
+ * process crash because the pages belong to the OS.
+ *
+ * Symbols are spread over trading.market-data.journal.lanes independent
+ * writers by hash, like the tick pipeline shards, each with its own lock,
+ * segment and dictionary: shards never wait on each other's appends. Segment
+ * numbers are allocated per exchange date across lanes in opening order, so
+ * reading segments by number keeps every symbol in exchange order.
+ *
+ * Read back with {@link TickJournalReader}; {@link TickJournalReplayer}
+ * rebuilds bars from the journal.
+ *
+ * Metrics:
+ * - marketdata.journal.appended - ticks written
+ * - marketdata.journal.failed - ticks that could not be written
+ * - marketdata.journal.segments - segment files opened
+ */
+@Component
+public class TickJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(TickJournal.class);
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${trading.market-data.journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.market-data.journal.dir:data/tick-journal}")
+    private String journalDir;
+
+    @Value("${trading.market-data.journal.segmentSize:67108864}")
+    private int segmentSize;
+
+    @Value("${trading.market-data.journal.lanes:4}")
+    private int laneCount;
+
+    private Path rootPath;
+
+    private Counter appendedCounter;
+    private Counter failedCounter;
+    private Counter segmentCounter;
+
+    private Lane[] lanes;
+
+    // Segment numbering of the current exchange date, guarded by this
+    private long numberingDay = Long.MIN_VALUE;
+    private int nextSegmentIndex;
+
+    @Autowired
+    public TickJournal(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (segmentSize < HEADER_SIZE + 4 * RECORD_SIZE) {
+            throw new IllegalArgumentException("Journal segment size too small: " + segmentSize);
+        }
+        rootPath = Paths.get(journalDir);
+        lanes = new Lane[Math.max(1, laneCount)];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane();
+        }
+
+        appendedCounter = Counter.builder("marketdata.journal.appended")
+                .description("Ticks written to the tick journal")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("marketdata.journal.failed")
+                .description("Ticks that could not be written to the tick journal")
+                .register(meterRegistry);
+        segmentCounter = Counter.builder("marketdata.journal.segments")
+                .description("Tick journal segment files opened")
+                .register(meterRegistry);
+
+        log.info("TickJournal initialized: enabled={}, dir={}, segmentSize={}, lanes={}",
+                enabled, rootPath, segmentSize, lanes.length);
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Lane lane : lanes) {
+            lane.close();
+        }
+        synchronized (this) {
+            numberingDay = Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Append a validated tick.
+     *
+     * @param tick         Tick (timestamp is the exchange time)
+     * @param receiveNanos {@link System#nanoTime()} when the frame arrived
+     */
+    public void append(MarketTick tick, long receiveNanos) {
+        if (!enabled) {
+            return;
+        }
+        lanes[Math.floorMod(tick.getSymbol().hashCode(), lanes.length)].append(tick, receiveNanos);
+    }
+
+    /**
+     * Current write positions (admin/monitoring).
+     */
+    public Map<String, Object> getStatus() {
+        List<Map<String, Object>> laneStatus = new ArrayList<>(lanes.length);
+        for (Lane lane : lanes) {
+            laneStatus.add(lane.getStatus());
+        }
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("dir", rootPath.toAbsolutePath().toString());
+        status.put("segmentSize", segmentSize);
+        status.put("lanes", laneStatus);
+        status.put("appended", (long) appendedCounter.count());
+        status.put("failed", (long) failedCounter.count());
+        return status;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Path getRootPath() {
+        return rootPath;
+    }
+
+    /**
+     * Number for the next segment of an exchange date, after any segments
+     * already on disk (written before a restart or by another lane).
+     */
+    private synchronized int claimSegmentIndex(long epochDay) throws IOException {
+        if (epochDay != numberingDay) {
+            Path dayDir = dayDirectory(rootPath, LocalDate.ofEpochDay(epochDay));
+            Files.createDirectories(dayDir);
+            try (Stream<Path> files = Files.list(dayDir)) {
+                nextSegmentIndex = files.mapToInt(TickJournalFormat::segmentIndex).max().orElse(-1) + 1;
+            }
+            numberingDay = epochDay;
+        }
+        return nextSegmentIndex++;
+    }
+
+    /**
+     * Writer of the symbols hashed to it.
+     */
+    private final class Lane {
+
+        // Guarded by this
+        private long currentDay = Long.MIN_VALUE;
+        private Path currentSegment;
+        private MappedByteBuffer buffer;
+        private final Map<String, Integer> dictionary = new HashMap<>();
+
+        synchronized void append(MarketTick tick, long receiveNanos) {
+            LocalDateTime timestamp = tick.getTimestamp();
+            long exchangeMillis = timestamp.toEpochSecond(ZoneOffset.UTC) * 1000 + timestamp.getNano() / 1_000_000;
+            try {
+                long day = Math.floorDiv(exchangeMillis, MILLIS_PER_DAY);
+                if (day != currentDay) {
+                    openDay(day);
+                }
+                if (buffer == null) {
+                    // Day could not be opened (logged once); retried on the next date
+                    failedCounter.increment();
+                    return;
+                }
+                // Room for the tick and up to two dictionary entries
+                if (buffer.remaining() < 3 * RECORD_SIZE) {
+                    openSegment();
+                }
+
+                int symbolId = idOf(tick.getSymbol());
+                int statusId = tick.getTradingStatus() != null ? idOf(tick.getTradingStatus()) : -1;
+
+                int position = buffer.position();
+                buffer.putShort(position + 2, (short) statusId);
+                buffer.putInt(position + 4, symbolId);
+                buffer.putLong(position + 8, encodePrice(tick.getPrice()));
+                buffer.putLong(position + 16, tick.getVolume());
+                buffer.putLong(position + 24, exchangeMillis);
+                buffer.putLong(position + 32, receiveNanos);
+                buffer.put(position, TYPE_TICK);
+                buffer.position(position + RECORD_SIZE);
+                appendedCounter.increment();
+            } catch (IOException | RuntimeException e) {
+                failedCounter.increment();
+                log.warn("Failed to journal tick for {}: {}", tick.getSymbol(), e.getMessage());
+            }
+        }
+
+        synchronized void close() {
+            if (buffer != null) {
+                buffer.force();
+                buffer = null;
+                currentDay = Long.MIN_VALUE;
+            }
+        }
+
+        synchronized Map<String, Object> getStatus() {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("segment", currentSegment != null ? currentSegment.toString() : null);
+            status.put("segmentPosition", buffer != null ? buffer.position() : 0);
+            return status;
+        }
+
+        /**
+         * Dictionary id of a symbol or status, declaring it in the current segment first if needed.
+         */
+        private int idOf(String value) {
+            Integer id = dictionary.get(value);
+            if (id != null) {
+                return id;
+            }
+
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > MAX_DICT_BYTES) {
+                throw new IllegalArgumentException("Journal dictionary entry too long: " + value);
+            }
+            int newId = dictionary.size();
+            int position = buffer.position();
+            buffer.putInt(position + 4, newId);
+            buffer.put(position + 8, (byte) bytes.length);
+            buffer.put(position + 9, bytes);
+            buffer.put(position, TYPE_DICT);
+            buffer.position(position + RECORD_SIZE);
+            dictionary.put(value, newId);
+            return newId;
+        }
+
+        /**
+         * Start writing a new exchange date.
+         */
+        private void openDay(long epochDay) {
+            currentDay = epochDay;
+            buffer = null;
+            try {
+                openSegment();
+            } catch (IOException e) {
+                log.error("Cannot open tick journal for {}: {}", LocalDate.ofEpochDay(epochDay), e.getMessage());
+            }
+        }
+
+        private void openSegment() throws IOException {
+            buffer = null;
+            Path segment = dayDirectory(rootPath, LocalDate.ofEpochDay(currentDay))
+                    .resolve(segmentName(claimSegmentIndex(currentDay)));
+            MappedByteBuffer mapped;
+            try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw");
+                 FileChannel channel = file.getChannel()) {
+                // The mapping stays valid after the channel is closed
+                mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            }
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            mapped.putInt(0, MAGIC);
+            mapped.putInt(4, VERSION);
+            mapped.putInt(8, RECORD_SIZE);
+            mapped.position(HEADER_SIZE);
+            // Whole records only
+            mapped.limit(segmentSize - (segmentSize - HEADER_SIZE) % RECORD_SIZE);
+
+            buffer = mapped;
+            currentSegment = segment;
+            dictionary.clear();
+            segmentCounter.increment();
+            log.info("Tick journal segment opened: {}", segment);
+        }
+    }
+}
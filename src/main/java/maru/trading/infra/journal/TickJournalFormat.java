@@ -0,0 +1,104 @@
+package maru.trading.infra.journal;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * On-disk layout of the tick journal, shared by {@link TickJournal} and {@link TickJournalReader}.
+ *
+ * Directory: {@code <dir>/<yyyyMMdd>/ticks-<00000>.seg}, one directory per
+ * exchange date, segments numbered in write order.
+ *
+ * Segment: a 16-byte header (magic, version, record size) followed by
+ * fixed-size 40-byte little-endian records. The file is pre-sized and
+ * zero-filled, so the first record whose type byte is 0 marks the end.
+ *
+ * Records:
+ * <pre>
+ * offset  TICK                        DICT
+ * 0       type (1)                    type (2)
+ * 2       status id (short, -1=null)  -
+ * 4       symbol id (int)             entry id (int)
+ * 8       price x 10^4 (long)         length (byte) + UTF-8 bytes (max 31)
+ * 16      volume (long)
+ * 24      exchange time (long, epoch millis of the local date-time)
+ * 32      receive time (long, System.nanoTime)
+ * </pre>
+ *
+ * Symbol codes and trading statuses are written once per segment as DICT
+ * records before the first tick that uses them, so every segment can be read
+ * on its own. The type byte is written last, so a record torn by a crash
+ * reads as the end of the segment.
+ */
+final class TickJournalFormat {
+
+    static final int MAGIC = 0x4c4e4a54; // "TJNL"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 40;
+
+    static final byte TYPE_END = 0;
+    static final byte TYPE_TICK = 1;
+    static final byte TYPE_DICT = 2;
+
+    static final int MAX_DICT_BYTES = RECORD_SIZE - 9;
+
+    static final int PRICE_SCALE = 4;
+    static final long PRICE_FACTOR = 10_000L;
+
+    static final String SEGMENT_PREFIX = "ticks-";
+    static final String SEGMENT_SUFFIX = ".seg";
+
+    static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private TickJournalFormat() {
+    }
+
+    static Path dayDirectory(Path root, LocalDate day) {
+        return root.resolve(DAY_FORMAT.format(day));
+    }
+
+    static String segmentName(int index) {
+        return String.format("%s%05d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Segment index from its file name, or -1 if the file is not a segment.
+     */
+    static int segmentIndex(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(name, SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length(), 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Price as a fixed-point long (4 decimals). Whole-number prices (KRX ticks)
+     * take the allocation-free path.
+     */
+    static long encodePrice(BigDecimal price) {
+        if (price.scale() == 0) {
+            return Math.multiplyExact(price.longValueExact(), PRICE_FACTOR);
+        }
+        return price.setScale(PRICE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Inverse of {@link #encodePrice}; whole-number prices come back with scale 0
+     * like the live ticks.
+     */
+    static BigDecimal decodePrice(long encoded) {
+        if (encoded % PRICE_FACTOR == 0) {
+            return BigDecimal.valueOf(encoded / PRICE_FACTOR);
+        }
+        return BigDecimal.valueOf(encoded, PRICE_SCALE);
+    }
+}
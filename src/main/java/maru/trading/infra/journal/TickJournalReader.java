@@ -0,0 +1,189 @@
+package maru.trading.infra.journal;
+
+import maru.trading.domain.market.MarketTick;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static maru.trading.infra.journal.TickJournalFormat.*;
+
+/**
+ * Sequential reader of the tick journal written by {@link TickJournal}.
+ *
+ * Ticks are delivered segment by segment in segment-number order: every
+ * symbol in exchange order, while symbols written by different journal lanes
+ * are not interleaved with each other. A segment
+ * that is still being written, or was cut short by a crash, is read up to its
+ * last complete record.
+ *
+ * Not thread-safe; create one reader per replay.
+ */
+public class TickJournalReader {
+
+    private static final Logger log = LoggerFactory.getLogger(TickJournalReader.class);
+
+    /**
+     * Receives journaled ticks.
+     */
+    @FunctionalInterface
+    public interface TickVisitor {
+
+        /**
+         * @param tick         Tick as journaled (timestamp is the exchange time)
+         * @param receiveNanos {@link System#nanoTime()} when the original frame arrived
+         */
+        void onTick(MarketTick tick, long receiveNanos);
+    }
+
+    private final Path rootPath;
+
+    public TickJournalReader(Path rootPath) {
+        this.rootPath = rootPath;
+    }
+
+    /**
+     * Exchange dates with a journal directory, oldest first.
+     */
+    public List<LocalDate> days() {
+        if (!Files.isDirectory(rootPath)) {
+            return List.of();
+        }
+        List<LocalDate> days = new ArrayList<>();
+        try (Stream<Path> dirs = Files.list(rootPath)) {
+            dirs.filter(Files::isDirectory).forEach(dir -> {
+                try {
+                    days.add(LocalDate.parse(dir.getFileName().toString(), DAY_FORMAT));
+                } catch (DateTimeParseException e) {
+                    log.debug("Ignoring non-journal directory {}", dir);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list tick journal " + rootPath, e);
+        }
+        days.sort(Comparator.naturalOrder());
+        return days;
+    }
+
+    /**
+     * Segment files of one exchange date in segment-number order.
+     */
+    public List<Path> segments(LocalDate day) {
+        Path dayDir = dayDirectory(rootPath, day);
+        if (!Files.isDirectory(dayDir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dayDir)) {
+            return files.filter(file -> segmentIndex(file) >= 0)
+                    .sorted(Comparator.comparingInt(TickJournalFormat::segmentIndex))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list tick journal " + dayDir, e);
+        }
+    }
+
+    /**
+     * Read every tick of a date range (inclusive).
+     *
+     * @return Number of ticks delivered
+     */
+    public long read(LocalDate from, LocalDate to, TickVisitor visitor) {
+        long count = 0;
+        for (LocalDate day : days()) {
+            if (day.isBefore(from) || day.isAfter(to)) {
+                continue;
+            }
+            for (Path segment : segments(day)) {
+                count += readSegment(segment, visitor);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Ticks of one symbol in a date range (inclusive), e.g. for a tick-level backtest.
+     */
+    public List<MarketTick> readTicks(String symbol, LocalDate from, LocalDate to) {
+        List<MarketTick> ticks = new ArrayList<>();
+        read(from, to, (tick, receiveNanos) -> {
+            if (tick.getSymbol().equals(symbol)) {
+                ticks.add(tick);
+            }
+        });
+        return ticks;
+    }
+
+    /**
+     * Read one segment file.
+     *
+     * @return Number of ticks delivered
+     */
+    public long readSegment(Path segment, TickVisitor visitor) {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read tick journal segment " + segment, e);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            log.warn("Skipping {}: not a tick journal segment", segment);
+            return 0;
+        }
+        if (buffer.getInt(4) != VERSION || buffer.getInt(8) != RECORD_SIZE) {
+            log.warn("Skipping {}: unsupported journal version {}", segment, buffer.getInt(4));
+            return 0;
+        }
+
+        List<String> dictionary = new ArrayList<>();
+        long count = 0;
+        for (int position = HEADER_SIZE; position + RECORD_SIZE <= buffer.capacity(); position += RECORD_SIZE) {
+            byte type = buffer.get(position);
+            if (type == TYPE_END) {
+                break;
+            }
+            if (type == TYPE_DICT) {
+                byte[] bytes = new byte[buffer.get(position + 8)];
+                buffer.get(position + 9, bytes);
+                int id = buffer.getInt(position + 4);
+                while (dictionary.size() <= id) {
+                    dictionary.add(null);
+                }
+                dictionary.set(id, new String(bytes, StandardCharsets.UTF_8));
+            } else if (type == TYPE_TICK) {
+                short statusId = buffer.getShort(position + 2);
+                long exchangeMillis = buffer.getLong(position + 24);
+                MarketTick tick = new MarketTick(
+                        dictionary.get(buffer.getInt(position + 4)),
+                        decodePrice(buffer.getLong(position + 8)),
+                        buffer.getLong(position + 16),
+                        LocalDateTime.ofEpochSecond(Math.floorDiv(exchangeMillis, 1000),
+                                (int) Math.floorMod(exchangeMillis, 1000) * 1_000_000, ZoneOffset.UTC),
+                        statusId >= 0 ? dictionary.get(statusId) : null);
+                visitor.onTick(tick, buffer.getLong(position + 32));
+                count++;
+            } else {
+                log.warn("Corrupt record in {} at offset {}, stopping", segment, position);
+                break;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,157 @@
+package maru.trading.infra.journal;
+
+import jakarta.annotation.PostConstruct;
+import maru.trading.application.orchestration.BarAggregator;
+import maru.trading.application.ports.repo.BarRepository;
+import maru.trading.domain.market.BarResampler;
+import maru.trading.domain.market.MarketBar;
+import maru.trading.domain.market.MarketTick;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replays the tick journal ({@link TickJournal}).
+ *
+ * - Crash recovery: ticks of the day newer than the last persisted 1-minute
+ *   bar of each symbol are fed through {@link BarAggregator#recoverTick}, which
+ *   re-creates, caches and persists the bars lost with the process
+ *   (in-progress bars and closed bars still queued for the database) without
+ *   emitting bar close events. Runs on startup before the tick pipeline.
+ * - Bar regeneration: builds bars of any supported timeframe straight from
+ *   ticks, without touching the live aggregator or the database.
+ * - Tick replay for tick-level backtests ({@link TickJournalReader}).
+ */
+@Component
+public class TickJournalReplayer {
+
+    private static final Logger log = LoggerFactory.getLogger(TickJournalReplayer.class);
+
+    private static final String RECOVERY_TIMEFRAME = "1m";
+
+    private final TickJournal tickJournal;
+    private final BarAggregator barAggregator;
+    private final BarRepository barRepository;
+    private final BarResampler barResampler = new BarResampler();
+
+    @Value("${trading.market-data.journal.recoverOnStartup:true}")
+    private boolean recoverOnStartup;
+
+    public TickJournalReplayer(TickJournal tickJournal, BarAggregator barAggregator, BarRepository barRepository) {
+        this.tickJournal = tickJournal;
+        this.barAggregator = barAggregator;
+        this.barRepository = barRepository;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!tickJournal.isEnabled() || !recoverOnStartup) {
+            return;
+        }
+        try {
+            recoverBars(LocalDate.now());
+        } catch (Exception e) {
+            log.error("Tick journal recovery failed", e);
+        }
+    }
+
+    /**
+     * Result of a crash recovery.
+     */
+    public record RecoveryResult(LocalDate day, long replayed, long skipped) {
+    }
+
+    /**
+     * Rebuild the bars of one exchange date that never reached the database.
+     *
+     * Ticks at or before the last persisted 1-minute bar of their symbol are
+     * skipped, so bars already stored are not written twice. Recovered bars
+     * do not reach bar close listeners: strategies already saw them live.
+     */
+    public RecoveryResult recoverBars(LocalDate day) {
+        long startTime = System.currentTimeMillis();
+        Map<String, LocalDateTime> persistedUntil = new HashMap<>();
+        long[] counts = new long[2];
+
+        reader().read(day, day, (tick, receiveNanos) -> {
+            LocalDateTime cutoff = persistedUntil.computeIfAbsent(tick.getSymbol(), this::lastPersistedBar);
+            if (!tick.getTimestamp().truncatedTo(ChronoUnit.MINUTES).isAfter(cutoff)) {
+                counts[1]++;
+                return;
+            }
+            barAggregator.recoverTick(tick);
+            counts[0]++;
+        });
+
+        RecoveryResult result = new RecoveryResult(day, counts[0], counts[1]);
+        log.info("Tick journal recovery for {}: {} ticks replayed, {} skipped, {} symbols, {}ms",
+                day, result.replayed(), result.skipped(), persistedUntil.size(),
+                System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    /**
+     * Build bars of a timeframe from journaled ticks (inclusive date range).
+     * Buckets follow the live aggregator (session-anchored, see {@link BarResampler}).
+     *
+     * @return Closed bars per symbol in chronological order
+     */
+    public Map<String, List<MarketBar>> regenerateBars(LocalDate from, LocalDate to, String timeframe) {
+        if (BarResampler.minutesOf(timeframe) <= 0) {
+            throw new IllegalArgumentException("Unsupported timeframe: " + timeframe);
+        }
+
+        Map<String, List<MarketBar>> bars = new LinkedHashMap<>();
+        Map<String, MarketBar> current = new HashMap<>();
+        reader().read(from, to, (tick, receiveNanos) -> {
+            LocalDateTime bucket = barResampler.bucketStart(tick.getTimestamp(), timeframe);
+            MarketBar bar = current.get(tick.getSymbol());
+            if (bar == null || !bar.getBarTimestamp().equals(bucket)) {
+                if (bar != null) {
+                    bar.close();
+                }
+                bar = new MarketBar(tick.getSymbol(), timeframe, bucket);
+                current.put(tick.getSymbol(), bar);
+                bars.computeIfAbsent(tick.getSymbol(), symbol -> new ArrayList<>()).add(bar);
+            }
+            bar.addTick(tick);
+        });
+        current.values().forEach(MarketBar::close);
+        return bars;
+    }
+
+    /**
+     * Journaled ticks of one symbol (inclusive date range), for tick-level backtests.
+     */
+    public List<MarketTick> loadTicks(String symbol, LocalDate from, LocalDate to) {
+        return reader().readTicks(symbol, from, to);
+    }
+
+    /**
+     * Stream every journaled tick of a date range (inclusive).
+     *
+     * @return Number of ticks delivered
+     */
+    public long replayTicks(LocalDate from, LocalDate to, TickJournalReader.TickVisitor visitor) {
+        return reader().read(from, to, visitor);
+    }
+
+    private TickJournalReader reader() {
+        return new TickJournalReader(tickJournal.getRootPath());
+    }
+
+    private LocalDateTime lastPersistedBar(String symbol) {
+        List<MarketBar> recent = barRepository.findRecentClosedBars(symbol, RECOVERY_TIMEFRAME, 1);
+        return recent.isEmpty() ? LocalDateTime.MIN : recent.get(recent.size() - 1).getBarTimestamp();
+    }
+}
@@ -1,56 +1,125 @@
 package maru.trading.infra.persistence.adapter;
 
+import jakarta.annotation.PostConstruct;
 import maru.trading.application.ports.repo.BarRepository;
 import maru.trading.domain.market.MarketBar;
 import maru.trading.infra.config.UlidGenerator;
 import maru.trading.infra.persistence.jpa.entity.BarEntity;
 import maru.trading.infra.persistence.jpa.repository.BarJpaRepository;
+import maru.trading.infra.persistence.rollup.BarRollupService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Adapter implementation for BarRepository.
  * Converts between domain model (MarketBar) and JPA entity (BarEntity).
+ *
+ * Closed 1-minute bars also update the 5m / 1h / 1d rollups, and reads of
+ * coarser timeframes are answered from rollups when they cover the query
+ * (see {@link BarRollupService}). Timeframes the bar aggregator stores itself
+ * (trading.bars.timeframes) are always read from market_bars.
  */
 @Component
 public class BarRepositoryAdapter implements BarRepository {
 
+    private static final String UPSERT_SQL = "INSERT INTO market_bars " +
+            "(bar_id, symbol, timeframe, open_price, high_price, low_price, close_price, volume, " +
+            "bar_timestamp, closed, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE open_price = VALUES(open_price), high_price = VALUES(high_price), " +
+            "low_price = VALUES(low_price), close_price = VALUES(close_price), volume = VALUES(volume), " +
+            "closed = VALUES(closed)";
+
+    // One index range scan per symbol, combined into a single statement
+    private static final String RECENT_CLOSED_SQL = "(SELECT symbol, timeframe, open_price, high_price, " +
+            "low_price, close_price, volume, bar_timestamp, closed FROM market_bars " +
+            "WHERE symbol = ? AND timeframe = ? AND closed = true ORDER BY bar_timestamp DESC LIMIT ?)";
+
     private final BarJpaRepository barJpaRepository;
     private final UlidGenerator ulidGenerator;
+    private final BarRollupService barRollupService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${trading.bars.timeframes:1m}")
+    private String timeframes;
+
+    // Timeframes stored in market_bars by the bar aggregator
+    private Set<String> storedTimeframes = Set.of("1m");
 
-    public BarRepositoryAdapter(BarJpaRepository barJpaRepository, UlidGenerator ulidGenerator) {
+    public BarRepositoryAdapter(BarJpaRepository barJpaRepository, UlidGenerator ulidGenerator,
+                                BarRollupService barRollupService, JdbcTemplate jdbcTemplate) {
         this.barJpaRepository = barJpaRepository;
         this.ulidGenerator = ulidGenerator;
+        this.barRollupService = barRollupService;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
+    @PostConstruct
+    public void init() {
+        storedTimeframes = Arrays.stream(timeframes.split(","))
+                .map(String::trim)
+                .filter(timeframe -> !timeframe.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Upsert a bar and merge it into the rollups. Saving the same bar again
+     * overwrites the row and leaves the rollups unchanged.
+     */
     @Override
+    @Transactional
     public MarketBar save(MarketBar bar) {
         if (bar == null) {
             throw new IllegalArgumentException("Bar cannot be null");
         }
+        saveAll(List.of(bar));
+        return bar;
+    }
 
-        bar.validate();
-
-        BarEntity entity = BarEntity.builder()
-                .barId(ulidGenerator.generateInstance())
-                .symbol(bar.getSymbol())
-                .timeframe(bar.getTimeframe())
-                .openPrice(bar.getOpen())
-                .highPrice(bar.getHigh())
-                .lowPrice(bar.getLow())
-                .closePrice(bar.getClose())
-                .volume(bar.getVolume())
-                .barTimestamp(bar.getBarTimestamp())
-                .closed(bar.isClosed())
-                .build();
-
-        BarEntity savedEntity = barJpaRepository.save(entity);
-        return toDomain(savedEntity);
+    /**
+     * Upsert bars in one JDBC batch and merge them into the rollups in the
+     * same transaction.
+     */
+    @Override
+    @Transactional
+    public void saveAll(List<MarketBar> bars) {
+        if (bars == null || bars.isEmpty()) {
+            return;
+        }
+        bars.forEach(MarketBar::validate);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, bars, bars.size(), (ps, bar) -> {
+            ps.setString(1, ulidGenerator.generateInstance());
+            ps.setString(2, bar.getSymbol());
+            ps.setString(3, bar.getTimeframe());
+            ps.setBigDecimal(4, bar.getOpen());
+            ps.setBigDecimal(5, bar.getHigh());
+            ps.setBigDecimal(6, bar.getLow());
+            ps.setBigDecimal(7, bar.getClose());
+            ps.setLong(8, bar.getVolume());
+            ps.setTimestamp(9, Timestamp.valueOf(bar.getBarTimestamp()));
+            ps.setBoolean(10, bar.isClosed());
+            ps.setTimestamp(11, now);
+        });
+        barRollupService.applyMarketBars(bars);
     }
 
     @Override
@@ -67,6 +136,13 @@ public class BarRepositoryAdapter implements BarRepository {
             return Collections.emptyList();
         }
 
+        if (!storedTimeframes.contains(timeframe)) {
+            List<MarketBar> fromRollups = barRollupService.findRecentMarketBars(symbol, timeframe, count);
+            if (!fromRollups.isEmpty()) {
+                return fromRollups;
+            }
+        }
+
         List<BarEntity> entities = barJpaRepository.findRecentClosedBars(symbol, timeframe, count);
 
         // Reverse to get oldest-first order
@@ -77,10 +153,63 @@ public class BarRepositoryAdapter implements BarRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Map<String, List<MarketBar>> findRecentClosedBarsBySymbol(Collection<String> symbols, String timeframe, int count) {
+        if (symbols == null || symbols.isEmpty() || count <= 0) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, List<MarketBar>> bars = new HashMap<>();
+        if (BarRollupService.routeTimeframe(timeframe) != null && !storedTimeframes.contains(timeframe)) {
+            // Coarse timeframes are derived from rollups symbol by symbol
+            for (String symbol : symbols) {
+                List<MarketBar> recent = findRecentClosedBars(symbol, timeframe, count);
+                if (!recent.isEmpty()) {
+                    bars.put(symbol, recent);
+                }
+            }
+            return bars;
+        }
+
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(symbols));
+        String sql = String.join(" UNION ALL ", Collections.nCopies(distinct.size(), RECENT_CLOSED_SQL));
+        Object[] args = new Object[distinct.size() * 3];
+        for (int i = 0; i < distinct.size(); i++) {
+            args[i * 3] = distinct.get(i);
+            args[i * 3 + 1] = timeframe;
+            args[i * 3 + 2] = count;
+        }
+
+        jdbcTemplate.query(sql, rs -> {
+            MarketBar bar = MarketBar.restore(
+                    rs.getString("symbol"),
+                    rs.getString("timeframe"),
+                    rs.getTimestamp("bar_timestamp").toLocalDateTime(),
+                    rs.getBigDecimal("open_price"),
+                    rs.getBigDecimal("high_price"),
+                    rs.getBigDecimal("low_price"),
+                    rs.getBigDecimal("close_price"),
+                    rs.getLong("volume"),
+                    rs.getBoolean("closed"));
+            bars.computeIfAbsent(bar.getSymbol(), k -> new ArrayList<>()).add(bar);
+        }, args);
+
+        // Oldest first
+        bars.values().forEach(list -> list.sort(Comparator.comparing(MarketBar::getBarTimestamp)));
+        return bars;
+    }
+
     @Override
     public List<MarketBar> findBarsInRange(
             String symbol, String timeframe, LocalDateTime startTime, LocalDateTime endTime) {
 
+        if (!storedTimeframes.contains(timeframe)) {
+            List<MarketBar> fromRollups = barRollupService.findMarketBarsInRange(symbol, timeframe, startTime, endTime);
+            if (!fromRollups.isEmpty()) {
+                return fromRollups;
+            }
+        }
+
         return barJpaRepository.findBarsInRange(symbol, timeframe, startTime, endTime).stream()
                 .map(this::toDomain)
                 .collect(Collectors.toList());
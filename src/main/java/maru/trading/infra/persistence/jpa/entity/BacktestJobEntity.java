@@ -118,6 +118,16 @@ public class BacktestJobEntity {
         this.completedAt = LocalDateTime.now();
     }
 
+    /**
+     * Put an interrupted or stopped job back in the queue (resume).
+     */
+    public void requeue(String phase) {
+        this.status = "QUEUED";
+        this.currentPhase = phase;
+        this.errorMessage = null;
+        this.completedAt = null;
+    }
+
     /**
      * Check if job is still running.
      */
@@ -0,0 +1,91 @@
+package maru.trading.infra.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity for bar rollups: 5m / 1h / 1d aggregates of 1-minute bars
+ * from market_bars (source MARKET) or historical_bars (source HISTORICAL).
+ */
+@Entity
+@Table(name = "bar_rollups", indexes = {
+        @Index(name = "uk_rollups_source_symbol_timeframe_timestamp",
+                columnList = "source, symbol, timeframe, bar_timestamp", unique = true)
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BarRollupEntity {
+
+    public static final String SOURCE_MARKET = "MARKET";
+    public static final String SOURCE_HISTORICAL = "HISTORICAL";
+
+    @Id
+    @Column(name = "rollup_id", columnDefinition = "CHAR(26)")
+    private String rollupId;
+
+    @Column(name = "source", length = 16, nullable = false)
+    private String source;
+
+    @Column(name = "symbol", length = 16, nullable = false)
+    private String symbol;
+
+    @Column(name = "timeframe", length = 8, nullable = false)
+    private String timeframe;
+
+    /**
+     * Bucket start.
+     */
+    @Column(name = "bar_timestamp", nullable = false)
+    private LocalDateTime barTimestamp;
+
+    @Column(name = "open_price", precision = 18, scale = 4, nullable = false)
+    private BigDecimal openPrice;
+
+    @Column(name = "high_price", precision = 18, scale = 4, nullable = false)
+    private BigDecimal highPrice;
+
+    @Column(name = "low_price", precision = 18, scale = 4, nullable = false)
+    private BigDecimal lowPrice;
+
+    @Column(name = "close_price", precision = 18, scale = 4, nullable = false)
+    private BigDecimal closePrice;
+
+    @Column(name = "volume", nullable = false)
+    private Long volume;
+
+    /**
+     * Number of 1-minute bars merged into this rollup.
+     */
+    @Column(name = "bar_count", nullable = false)
+    private Integer barCount;
+
+    /**
+     * Whether the bucket is complete (no more 1-minute bars expected).
+     */
+    @Column(name = "closed", nullable = false)
+    private Boolean closed;
+
+    /**
+     * Timestamp of the last 1-minute bar merged into this rollup.
+     */
+    @Column(name = "last_bar_timestamp")
+    private LocalDateTime lastBarTimestamp;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (updatedAt == null) {
+            updatedAt = LocalDateTime.now();
+        }
+    }
+}
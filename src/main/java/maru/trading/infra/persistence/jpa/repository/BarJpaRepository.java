@@ -75,4 +75,42 @@ public interface BarJpaRepository extends JpaRepository<BarEntity, String> {
             @Param("symbol") String symbol,
             @Param("timeframe") String timeframe,
             @Param("count") int count);
+
+    /**
+     * Timestamp of the first closed bar in a time range (rollup coverage check).
+     *
+     * @return First bar timestamp, or null if there is none
+     */
+    @Query("SELECT MIN(b.barTimestamp) FROM BarEntity b " +
+            "WHERE b.symbol = :symbol AND b.timeframe = :timeframe AND b.closed = true " +
+            "AND b.barTimestamp >= :startTime AND b.barTimestamp <= :endTime")
+    LocalDateTime findFirstClosedBarTimestamp(
+            @Param("symbol") String symbol,
+            @Param("timeframe") String timeframe,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * Timestamp of the first closed bar before a time (rollup coverage check).
+     *
+     * @return First bar timestamp, or null if there is none
+     */
+    @Query("SELECT MIN(b.barTimestamp) FROM BarEntity b " +
+            "WHERE b.symbol = :symbol AND b.timeframe = :timeframe AND b.closed = true " +
+            "AND b.barTimestamp < :before")
+    LocalDateTime findFirstClosedBarTimestampBefore(
+            @Param("symbol") String symbol,
+            @Param("timeframe") String timeframe,
+            @Param("before") LocalDateTime before);
+
+    /**
+     * Symbols with bars of a timeframe in a time range (rollup backfill).
+     */
+    @Query("SELECT DISTINCT b.symbol FROM BarEntity b " +
+            "WHERE b.timeframe = :timeframe " +
+            "AND b.barTimestamp >= :startTime AND b.barTimestamp <= :endTime")
+    List<String> findDistinctSymbols(
+            @Param("timeframe") String timeframe,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
 }
@@ -0,0 +1,68 @@
+package maru.trading.infra.persistence.jpa.repository;
+
+import maru.trading.infra.persistence.jpa.entity.BarRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA repository for bar rollups.
+ */
+@Repository
+public interface BarRollupJpaRepository extends JpaRepository<BarRollupEntity, String> {
+
+    Optional<BarRollupEntity> findBySourceAndSymbolAndTimeframeAndBarTimestamp(
+            String source, String symbol, String timeframe, LocalDateTime barTimestamp);
+
+    /**
+     * Find closed rollups within a time range.
+     *
+     * @return Rollups ordered by timestamp ascending
+     */
+    @Query("SELECT r FROM BarRollupEntity r " +
+            "WHERE r.source = :source AND r.symbol = :symbol AND r.timeframe = :timeframe " +
+            "AND r.barTimestamp >= :startTime AND r.barTimestamp <= :endTime " +
+            "AND r.closed = true " +
+            "ORDER BY r.barTimestamp ASC")
+    List<BarRollupEntity> findClosedInRange(
+            @Param("source") String source,
+            @Param("symbol") String symbol,
+            @Param("timeframe") String timeframe,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * Find N most recent closed rollups.
+     *
+     * @return Rollups ordered by timestamp descending (newest first)
+     */
+    @Query(value = "SELECT * FROM bar_rollups " +
+            "WHERE source = :source AND symbol = :symbol AND timeframe = :timeframe AND closed = true " +
+            "ORDER BY bar_timestamp DESC LIMIT :count", nativeQuery = true)
+    List<BarRollupEntity> findRecentClosed(
+            @Param("source") String source,
+            @Param("symbol") String symbol,
+            @Param("timeframe") String timeframe,
+            @Param("count") int count);
+
+    /**
+     * Delete rollups of all timeframes in a time range (before a backfill rewrites them).
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM BarRollupEntity r " +
+            "WHERE r.source = :source AND r.symbol = :symbol " +
+            "AND r.barTimestamp >= :startTime AND r.barTimestamp <= :endTime")
+    int deleteInRange(
+            @Param("source") String source,
+            @Param("symbol") String symbol,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+}
@@ -1,13 +1,18 @@
 package maru.trading.infra.persistence.jpa.repository;
 
+import maru.trading.domain.market.BarResampler;
+import maru.trading.infra.persistence.jpa.entity.BarRollupEntity;
 import maru.trading.infra.persistence.jpa.entity.HistoricalBarEntity;
+import maru.trading.infra.persistence.rollup.BarRollupService;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * JPA Repository for HistoricalBarEntity.
@@ -125,4 +130,98 @@ public interface HistoricalBarJpaRepository extends JpaRepository<HistoricalBarE
      * @param cutoffDate Cutoff date (bars before this will be deleted)
      */
     void deleteByBarTimestampBefore(LocalDateTime cutoffDate);
+
+    /**
+     * Symbols with bars of a timeframe in a date range (rollup backfill).
+     */
+    @Query("SELECT DISTINCT h.symbol FROM HistoricalBarEntity h " +
+            "WHERE h.timeframe = :timeframe " +
+            "AND h.barTimestamp >= :startDate " +
+            "AND h.barTimestamp <= :endDate")
+    List<String> findDistinctSymbols(
+            @Param("timeframe") String timeframe,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * Find historical rollups (5m / 1h / 1d) for symbols in date range.
+     *
+     * @return Rollups ordered by timestamp ASC
+     */
+    @Query("SELECT r FROM BarRollupEntity r " +
+            "WHERE r.source = 'HISTORICAL' " +
+            "AND r.symbol IN :symbols " +
+            "AND r.timeframe = :timeframe " +
+            "AND r.barTimestamp >= :startDate " +
+            "AND r.barTimestamp <= :endDate " +
+            "AND r.closed = true " +
+            "ORDER BY r.barTimestamp ASC")
+    List<BarRollupEntity> findRollupsBySymbolsAndTimeframeAndDateRange(
+            @Param("symbols") List<String> symbols,
+            @Param("timeframe") String timeframe,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * First bar timestamp of each symbol in date range (rollup coverage check).
+     *
+     * @return Rows of [symbol, first bar timestamp]
+     */
+    @Query("SELECT h.symbol, MIN(h.barTimestamp) FROM HistoricalBarEntity h " +
+            "WHERE h.symbol IN :symbols " +
+            "AND h.timeframe = :timeframe " +
+            "AND h.barTimestamp >= :startDate " +
+            "AND h.barTimestamp <= :endDate " +
+            "GROUP BY h.symbol")
+    List<Object[]> findFirstBarTimestamps(
+            @Param("symbols") List<String> symbols,
+            @Param("timeframe") String timeframe,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * Find bars for one or more symbols in date range, reading the coarsest
+     * rollup that can answer the timeframe (see {@link BarRollupService#routeTimeframe})
+     * and falling back to historical_bars unless the rollups of every symbol
+     * cover its 1-minute bars from the start of the range (see {@link BarRollupService#covers}).
+     *
+     * @return List of bars ordered by timestamp ASC
+     */
+    default List<HistoricalBarEntity> findBarsRouted(
+            List<String> symbols,
+            String timeframe,
+            LocalDateTime startDate,
+            LocalDateTime endDate) {
+        String rollupTimeframe = BarRollupService.routeTimeframe(timeframe);
+        if (rollupTimeframe != null) {
+            List<BarRollupEntity> rollups = findRollupsBySymbolsAndTimeframeAndDateRange(
+                    symbols, rollupTimeframe, startDate, endDate);
+            if (!rollups.isEmpty()) {
+                // Rollups are ordered by timestamp: the first one seen per symbol is its earliest
+                Map<String, LocalDateTime> firstRollups = new HashMap<>();
+                rollups.forEach(rollup -> firstRollups.putIfAbsent(rollup.getSymbol(), rollup.getBarTimestamp()));
+
+                boolean covered = true;
+                for (Object[] row : findFirstBarTimestamps(symbols, BarResampler.BASE_TIMEFRAME,
+                        BarRollupService.firstBucketFrom(startDate, rollupTimeframe), endDate)) {
+                    LocalDateTime firstRollup = firstRollups.get((String) row[0]);
+                    if (firstRollup == null
+                            || !BarRollupService.covers(firstRollup, (LocalDateTime) row[1], rollupTimeframe)) {
+                        covered = false;
+                        break;
+                    }
+                }
+                if (covered) {
+                    return BarRollupService.toHistoricalBars(rollups, timeframe);
+                }
+            }
+        }
+        if (symbols.size() == 1) {
+            return findBySymbolAndTimeframeAndDateRange(symbols.get(0), timeframe, startDate, endDate);
+        }
+        return findBySymbolsAndTimeframeAndDateRange(symbols, timeframe, startDate, endDate);
+    }
 }
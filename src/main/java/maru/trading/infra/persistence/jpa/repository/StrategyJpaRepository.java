@@ -3,8 +3,10 @@ package maru.trading.infra.persistence.jpa.repository;
 import maru.trading.domain.shared.Environment;
 import maru.trading.infra.persistence.jpa.entity.StrategyEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +29,8 @@ public interface StrategyJpaRepository extends JpaRepository<StrategyEntity, Str
 	List<StrategyEntity> findByStatusAndDelyn(String status, String delyn);
 
 	List<StrategyEntity> findByStatusAndModeAndDelyn(String status, Environment mode, String delyn);
+
+	// 실행 계획 변경 감지용: 가장 최근 수정 시각
+	@Query("SELECT MAX(s.updatedAt) FROM StrategyEntity s")
+	LocalDateTime findLatestUpdatedAt();
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -55,4 +56,12 @@ public interface StrategySymbolJpaRepository extends JpaRepository<StrategySymbo
      */
     @Query("SELECT s FROM StrategySymbolEntity s WHERE s.isActive = true")
     List<StrategySymbolEntity> findAllActive();
+
+    /**
+     * Latest update time of any mapping (change detection).
+     *
+     * @return Latest updatedAt, or null if there are no mappings
+     */
+    @Query("SELECT MAX(s.updatedAt) FROM StrategySymbolEntity s")
+    LocalDateTime findLatestUpdatedAt();
 }
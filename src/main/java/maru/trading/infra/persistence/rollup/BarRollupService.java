@@ -0,0 +1,628 @@
+package maru.trading.infra.persistence.rollup;
+
+import maru.trading.domain.market.BarColumns;
+import maru.trading.domain.market.BarResampler;
+import maru.trading.domain.market.MarketBar;
+import maru.trading.infra.config.UlidGenerator;
+import maru.trading.infra.persistence.jpa.entity.BarEntity;
+import maru.trading.infra.persistence.jpa.entity.BarRollupEntity;
+import maru.trading.infra.persistence.jpa.entity.HistoricalBarEntity;
+import maru.trading.infra.persistence.jpa.repository.BarJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.BarRollupJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.HistoricalBarJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maintains and reads bar rollups (5m / 1h / 1d aggregates of 1-minute bars).
+ *
+ * - Live: each batch of closed 1-minute bars saved to market_bars is merged
+ *   into the rollup rows of its buckets with batched upserts
+ *   ({@link #applyMarketBars}). A bucket closes on
+ *   its last minute or, if that minute never prints, when a bar of a later
+ *   bucket arrives.
+ * - Bulk: {@link #backfill} rebuilds rollups from stored 1-minute bars,
+ *   one day range at a time.
+ * - Reads: a requested timeframe is served from the coarsest rollup whose
+ *   length divides it ({@link #routeTimeframe}), e.g. 15m and 30m from 5m,
+ *   1d from 1d; finer rollups are resampled in memory. Rollups answer only
+ *   when they cover the start of the query ({@link #covers}): 1-minute bars
+ *   stored before the first rollup bucket (e.g. before rollups were
+ *   introduced or backfilled) send the read back to the raw tables.
+ *
+ * Buckets follow {@link BarResampler} (session-anchored).
+ */
+@Component
+public class BarRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(BarRollupService.class);
+
+    /**
+     * Rollup timeframes, coarsest first.
+     */
+    public static final List<String> ROLLUP_TIMEFRAMES = List.of("1d", "1h", "5m");
+
+    private static final int BACKFILL_CHUNK_DAYS = 7;
+
+    private static final BarResampler RESAMPLER = new BarResampler();
+
+    private static final String SELECT_LIVE_SQL = "SELECT symbol, bar_timestamp, open_price, high_price, " +
+            "low_price, close_price, volume, bar_count, closed, last_bar_timestamp FROM bar_rollups " +
+            "WHERE source = ? AND timeframe = ? AND bar_timestamp >= ? AND bar_timestamp <= ? " +
+            "AND symbol IN (%s) FOR UPDATE";
+
+    private static final String CLOSE_BEFORE_SQL = "UPDATE bar_rollups SET closed = true, updated_at = ? " +
+            "WHERE source = ? AND symbol = ? AND timeframe = ? AND closed = false AND bar_timestamp < ?";
+
+    private static final String UPSERT_SQL = "INSERT INTO bar_rollups " +
+            "(rollup_id, source, symbol, timeframe, bar_timestamp, open_price, high_price, low_price, close_price, " +
+            "volume, bar_count, closed, last_bar_timestamp, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE high_price = VALUES(high_price), low_price = VALUES(low_price), " +
+            "close_price = VALUES(close_price), volume = VALUES(volume), bar_count = VALUES(bar_count), " +
+            "closed = VALUES(closed), last_bar_timestamp = VALUES(last_bar_timestamp), updated_at = VALUES(updated_at)";
+
+    private final BarRollupJpaRepository rollupRepository;
+    private final BarJpaRepository barJpaRepository;
+    private final HistoricalBarJpaRepository historicalBarRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public BarRollupService(BarRollupJpaRepository rollupRepository,
+                            BarJpaRepository barJpaRepository,
+                            HistoricalBarJpaRepository historicalBarRepository,
+                            JdbcTemplate jdbcTemplate) {
+        this.rollupRepository = rollupRepository;
+        this.barJpaRepository = barJpaRepository;
+        this.historicalBarRepository = historicalBarRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Coarsest rollup timeframe that can answer a query for {@code timeframe}.
+     *
+     * @return Rollup timeframe, or null if only the 1-minute source can answer
+     */
+    public static String routeTimeframe(String timeframe) {
+        int minutes = BarResampler.minutesOf(timeframe);
+        if (minutes <= 1) {
+            return null;
+        }
+        for (String rollup : ROLLUP_TIMEFRAMES) {
+            int rollupMinutes = BarResampler.minutesOf(rollup);
+            if (rollupMinutes <= minutes && minutes % rollupMinutes == 0) {
+                return rollup;
+            }
+        }
+        return null;
+    }
+
+    // ==================== Live updates ====================
+
+    /**
+     * Merge a closed 1-minute live bar into its rollups.
+     */
+    @Transactional
+    public void applyMarketBar(MarketBar bar) {
+        applyMarketBars(List.of(bar));
+    }
+
+    /**
+     * Merge a batch of closed 1-minute live bars into their rollups.
+     *
+     * Per rollup timeframe: one locking read of the affected rollup rows, one
+     * batch closing earlier buckets of symbols that open a new one, and one
+     * batched upsert of the changed rows. A bar at or before the last merged
+     * minute of its rollup is skipped, so applying the same bar twice is a no-op.
+     */
+    @Transactional
+    public void applyMarketBars(List<MarketBar> bars) {
+        List<MarketBar> minutes = bars.stream()
+                .filter(bar -> BarResampler.BASE_TIMEFRAME.equals(bar.getTimeframe()) && bar.isClosed())
+                .sorted(Comparator.comparing(MarketBar::getBarTimestamp))
+                .toList();
+        if (minutes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (String timeframe : ROLLUP_TIMEFRAMES) {
+            applyMarketBars(minutes, timeframe, now);
+        }
+    }
+
+    private void applyMarketBars(List<MarketBar> minutes, String timeframe, Timestamp now) {
+        Map<String, LiveRollup> rollups = loadLiveRollups(minutes, timeframe);
+        Map<String, LiveRollup> latestBySymbol = new HashMap<>();
+        Map<String, LocalDateTime> firstOpenedBySymbol = new LinkedHashMap<>();
+        List<LiveRollup> changed = new ArrayList<>();
+
+        for (MarketBar bar : minutes) {
+            LocalDateTime bucket = RESAMPLER.bucketStart(bar.getBarTimestamp(), timeframe);
+            boolean complete = RESAMPLER.isBucketComplete(bar.getBarTimestamp(), timeframe);
+            LiveRollup rollup = rollups.get(key(bar.getSymbol(), bucket));
+            if (rollup == null) {
+                rollup = new LiveRollup(bar, bucket, complete);
+                rollups.put(key(bar.getSymbol(), bucket), rollup);
+                firstOpenedBySymbol.putIfAbsent(bar.getSymbol(), bucket);
+            } else if (!rollup.merge(bar, complete)) {
+                continue;
+            }
+            if (!rollup.changed) {
+                rollup.changed = true;
+                changed.add(rollup);
+            }
+
+            // Earlier buckets whose last minute never printed are complete now
+            LiveRollup previous = latestBySymbol.put(bar.getSymbol(), rollup);
+            if (previous != null && previous.bucket.isBefore(bucket)) {
+                previous.closed = true;
+            }
+        }
+
+        if (!firstOpenedBySymbol.isEmpty()) {
+            List<Map.Entry<String, LocalDateTime>> opened = new ArrayList<>(firstOpenedBySymbol.entrySet());
+            jdbcTemplate.batchUpdate(CLOSE_BEFORE_SQL, opened, opened.size(), (ps, entry) -> {
+                ps.setTimestamp(1, now);
+                ps.setString(2, BarRollupEntity.SOURCE_MARKET);
+                ps.setString(3, entry.getKey());
+                ps.setString(4, timeframe);
+                ps.setTimestamp(5, Timestamp.valueOf(entry.getValue()));
+            });
+        }
+        if (!changed.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, changed, changed.size(), (ps, rollup) -> {
+                ps.setString(1, UlidGenerator.generate());
+                ps.setString(2, BarRollupEntity.SOURCE_MARKET);
+                ps.setString(3, rollup.symbol);
+                ps.setString(4, timeframe);
+                ps.setTimestamp(5, Timestamp.valueOf(rollup.bucket));
+                ps.setBigDecimal(6, rollup.open);
+                ps.setBigDecimal(7, rollup.high);
+                ps.setBigDecimal(8, rollup.low);
+                ps.setBigDecimal(9, rollup.close);
+                ps.setLong(10, rollup.volume);
+                ps.setInt(11, rollup.barCount);
+                ps.setBoolean(12, rollup.closed);
+                ps.setTimestamp(13, Timestamp.valueOf(rollup.lastBar));
+                ps.setTimestamp(14, now);
+            });
+        }
+    }
+
+    /**
+     * Existing rollups of a timeframe for the symbols and buckets of a batch, locked for update.
+     */
+    private Map<String, LiveRollup> loadLiveRollups(List<MarketBar> minutes, String timeframe) {
+        Set<String> symbols = new LinkedHashSet<>();
+        minutes.forEach(bar -> symbols.add(bar.getSymbol()));
+        LocalDateTime from = RESAMPLER.bucketStart(minutes.get(0).getBarTimestamp(), timeframe);
+        LocalDateTime to = RESAMPLER.bucketStart(minutes.get(minutes.size() - 1).getBarTimestamp(), timeframe);
+
+        List<Object> args = new ArrayList<>(symbols.size() + 4);
+        args.add(BarRollupEntity.SOURCE_MARKET);
+        args.add(timeframe);
+        args.add(Timestamp.valueOf(from));
+        args.add(Timestamp.valueOf(to));
+        args.addAll(symbols);
+        String sql = String.format(SELECT_LIVE_SQL, String.join(", ", Collections.nCopies(symbols.size(), "?")));
+
+        Map<String, LiveRollup> rollups = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            Timestamp lastBar = rs.getTimestamp("last_bar_timestamp");
+            LiveRollup rollup = new LiveRollup(
+                    rs.getString("symbol"),
+                    rs.getTimestamp("bar_timestamp").toLocalDateTime(),
+                    rs.getBigDecimal("open_price"),
+                    rs.getBigDecimal("high_price"),
+                    rs.getBigDecimal("low_price"),
+                    rs.getBigDecimal("close_price"),
+                    rs.getLong("volume"),
+                    rs.getInt("bar_count"),
+                    rs.getBoolean("closed"),
+                    lastBar != null ? lastBar.toLocalDateTime() : null);
+            rollups.put(key(rollup.symbol, rollup.bucket), rollup);
+        }, args.toArray());
+        return rollups;
+    }
+
+    private static String key(String symbol, LocalDateTime bucket) {
+        return symbol + '|' + bucket;
+    }
+
+    /**
+     * Mutable copy of a live rollup row while a batch is merged.
+     */
+    private static final class LiveRollup {
+        final String symbol;
+        final LocalDateTime bucket;
+        final BigDecimal open;
+        BigDecimal high;
+        BigDecimal low;
+        BigDecimal close;
+        long volume;
+        int barCount;
+        boolean closed;
+        LocalDateTime lastBar;
+        boolean changed;
+
+        LiveRollup(String symbol, LocalDateTime bucket, BigDecimal open, BigDecimal high, BigDecimal low,
+                   BigDecimal close, long volume, int barCount, boolean closed, LocalDateTime lastBar) {
+            this.symbol = symbol;
+            this.bucket = bucket;
+            this.open = open;
+            this.high = high;
+            this.low = low;
+            this.close = close;
+            this.volume = volume;
+            this.barCount = barCount;
+            this.closed = closed;
+            this.lastBar = lastBar;
+        }
+
+        LiveRollup(MarketBar bar, LocalDateTime bucket, boolean complete) {
+            this(bar.getSymbol(), bucket, bar.getOpen(), bar.getHigh(), bar.getLow(), bar.getClose(),
+                    bar.getVolume(), 1, complete, bar.getBarTimestamp());
+        }
+
+        /**
+         * @return false if the bar was already merged
+         */
+        boolean merge(MarketBar bar, boolean complete) {
+            if (lastBar != null && !bar.getBarTimestamp().isAfter(lastBar)) {
+                return false;
+            }
+            if (bar.getHigh().compareTo(high) > 0) {
+                high = bar.getHigh();
+            }
+            if (bar.getLow().compareTo(low) < 0) {
+                low = bar.getLow();
+            }
+            close = bar.getClose();
+            volume += bar.getVolume();
+            barCount++;
+            closed |= complete;
+            lastBar = bar.getBarTimestamp();
+            return true;
+        }
+    }
+
+    // ==================== Backfill ====================
+
+    /**
+     * Rebuild rollups of one symbol from stored 1-minute bars.
+     * Existing rollups in the range are replaced; buckets of past days are
+     * marked closed.
+     *
+     * @param source {@link BarRollupEntity#SOURCE_MARKET} or {@link BarRollupEntity#SOURCE_HISTORICAL}
+     * @return Number of rollup rows written
+     */
+    public int backfill(String source, String symbol, LocalDate from, LocalDate to) {
+        int written = 0;
+        LocalDate chunkStart = from;
+        while (!chunkStart.isAfter(to)) {
+            LocalDate chunkEnd = chunkStart.plusDays(BACKFILL_CHUNK_DAYS - 1);
+            if (chunkEnd.isAfter(to)) {
+                chunkEnd = to;
+            }
+            written += backfillChunk(source, symbol, chunkStart.atStartOfDay(), chunkEnd.atTime(LocalTime.MAX));
+            chunkStart = chunkEnd.plusDays(1);
+        }
+        log.info("Rollup backfill completed: source={}, symbol={}, {} ~ {}, rows={}",
+                source, symbol, from, to, written);
+        return written;
+    }
+
+    /**
+     * Rebuild rollups of every symbol that has 1-minute bars in the range.
+     *
+     * @return Number of rollup rows written
+     */
+    public int backfillAll(String source, LocalDate from, LocalDate to) {
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.atTime(LocalTime.MAX);
+        List<String> symbols = BarRollupEntity.SOURCE_HISTORICAL.equals(source)
+                ? historicalBarRepository.findDistinctSymbols(BarResampler.BASE_TIMEFRAME, start, end)
+                : barJpaRepository.findDistinctSymbols(BarResampler.BASE_TIMEFRAME, start, end);
+
+        int written = 0;
+        for (String symbol : symbols) {
+            written += backfill(source, symbol, from, to);
+        }
+        return written;
+    }
+
+    private int backfillChunk(String source, String symbol, LocalDateTime start, LocalDateTime end) {
+        BarColumns minutes = loadMinuteBars(source, symbol, start, end);
+        rollupRepository.deleteInRange(source, symbol, start, end);
+        if (minutes.size() == 0) {
+            return 0;
+        }
+
+        LocalDateTime lastMinute = minutes.getTimestamp(minutes.size() - 1);
+        boolean pastDay = lastMinute.toLocalDate().isBefore(LocalDate.now());
+        List<BarRollupEntity> rollups = new ArrayList<>();
+        for (String timeframe : ROLLUP_TIMEFRAMES) {
+            BarColumns resampled = RESAMPLER.resample(minutes, timeframe);
+            LocalDateTime[] lastMinutes = new LocalDateTime[resampled.size()];
+            int[] barCounts = countMinutesPerBucket(minutes, resampled, timeframe, lastMinutes);
+            int last = resampled.size() - 1;
+            for (int i = 0; i <= last; i++) {
+                boolean closed = i < last || pastDay || RESAMPLER.isBucketComplete(lastMinute, timeframe);
+                rollups.add(BarRollupEntity.builder()
+                        .rollupId(UlidGenerator.generate())
+                        .source(source)
+                        .symbol(symbol)
+                        .timeframe(timeframe)
+                        .barTimestamp(resampled.getTimestamp(i))
+                        .openPrice(BigDecimal.valueOf(resampled.getOpen(i)))
+                        .highPrice(BigDecimal.valueOf(resampled.getHigh(i)))
+                        .lowPrice(BigDecimal.valueOf(resampled.getLow(i)))
+                        .closePrice(BigDecimal.valueOf(resampled.getClose(i)))
+                        .volume(resampled.getVolume(i))
+                        .barCount(barCounts[i])
+                        .closed(closed)
+                        .lastBarTimestamp(lastMinutes[i])
+                        .build());
+            }
+        }
+        rollupRepository.saveAll(rollups);
+        return rollups.size();
+    }
+
+    private BarColumns loadMinuteBars(String source, String symbol, LocalDateTime start, LocalDateTime end) {
+        BarColumns columns = new BarColumns(symbol, BarResampler.BASE_TIMEFRAME, 1024);
+        if (BarRollupEntity.SOURCE_HISTORICAL.equals(source)) {
+            for (HistoricalBarEntity bar : historicalBarRepository.findBySymbolAndTimeframeAndDateRange(
+                    symbol, BarResampler.BASE_TIMEFRAME, start, end)) {
+                columns.add(bar.getBarTimestamp(), bar.getOpenPrice().doubleValue(), bar.getHighPrice().doubleValue(),
+                        bar.getLowPrice().doubleValue(), bar.getClosePrice().doubleValue(),
+                        bar.getVolume() != null ? bar.getVolume() : 0L);
+            }
+        } else {
+            for (BarEntity bar : barJpaRepository.findBarsInRange(symbol, BarResampler.BASE_TIMEFRAME, start, end)) {
+                columns.add(bar.getBarTimestamp(), bar.getOpenPrice().doubleValue(), bar.getHighPrice().doubleValue(),
+                        bar.getLowPrice().doubleValue(), bar.getClosePrice().doubleValue(),
+                        bar.getVolume() != null ? bar.getVolume() : 0L);
+            }
+        }
+        return columns;
+    }
+
+    private static int[] countMinutesPerBucket(BarColumns minutes, BarColumns resampled, String timeframe,
+                                               LocalDateTime[] lastMinutes) {
+        int[] counts = new int[resampled.size()];
+        int bucket = 0;
+        for (int i = 0; i < minutes.size(); i++) {
+            LocalDateTime start = RESAMPLER.bucketStart(minutes.getTimestamp(i), timeframe);
+            while (!resampled.getTimestamp(bucket).equals(start)) {
+                bucket++;
+            }
+            counts[bucket]++;
+            lastMinutes[bucket] = minutes.getTimestamp(i);
+        }
+        return counts;
+    }
+
+    // ==================== Reads ====================
+
+    /**
+     * Closed live bars of {@code timeframe} in a range, answered from rollups.
+     *
+     * @return Bars ordered by timestamp, or an empty list if the rollups have
+     *         no rows or do not cover startTime (caller falls back to market_bars)
+     */
+    public List<MarketBar> findMarketBarsInRange(String symbol, String timeframe,
+                                                 LocalDateTime startTime, LocalDateTime endTime) {
+        String rollupTimeframe = routeTimeframe(timeframe);
+        if (rollupTimeframe == null) {
+            return Collections.emptyList();
+        }
+        List<BarRollupEntity> rollups = rollupRepository.findClosedInRange(
+                BarRollupEntity.SOURCE_MARKET, symbol, rollupTimeframe, startTime, endTime);
+        if (rollups.isEmpty()) {
+            return Collections.emptyList();
+        }
+        LocalDateTime firstMinute = barJpaRepository.findFirstClosedBarTimestamp(symbol, BarResampler.BASE_TIMEFRAME,
+                firstBucketFrom(startTime, rollupTimeframe), endTime);
+        if (!covers(rollups.get(0).getBarTimestamp(), firstMinute, rollupTimeframe)) {
+            return Collections.emptyList();
+        }
+        return toMarketBars(rollups, rollupTimeframe, timeframe);
+    }
+
+    /**
+     * N most recent closed live bars of {@code timeframe}, answered from rollups.
+     *
+     * @return Bars oldest first, or an empty list if the rollups have no rows
+     *         or fall short of count while older 1-minute bars exist
+     */
+    public List<MarketBar> findRecentMarketBars(String symbol, String timeframe, int count) {
+        String rollupTimeframe = routeTimeframe(timeframe);
+        if (rollupTimeframe == null || count <= 0) {
+            return Collections.emptyList();
+        }
+        int ratio = BarResampler.minutesOf(timeframe) / BarResampler.minutesOf(rollupTimeframe);
+        int limit = (count + 1) * ratio;
+        List<BarRollupEntity> rollups = new ArrayList<>(rollupRepository.findRecentClosed(
+                BarRollupEntity.SOURCE_MARKET, symbol, rollupTimeframe, limit));
+        if (rollups.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Collections.reverse(rollups);
+        if (rollups.size() < limit) {
+            // All rollups read: they must reach back as far as the 1-minute bars
+            LocalDateTime firstRollup = rollups.get(0).getBarTimestamp();
+            LocalDateTime firstMinute = barJpaRepository.findFirstClosedBarTimestampBefore(
+                    symbol, BarResampler.BASE_TIMEFRAME, firstRollup);
+            if (!covers(firstRollup, firstMinute, rollupTimeframe)) {
+                return Collections.emptyList();
+            }
+        }
+
+        List<MarketBar> bars = toMarketBars(rollups, rollupTimeframe, timeframe);
+        if (ratio > 1 && !bars.isEmpty()) {
+            // The oldest derived bar may be missing rollups cut off by the limit
+            bars = bars.subList(1, bars.size());
+        }
+        return bars.size() > count ? new ArrayList<>(bars.subList(bars.size() - count, bars.size())) : bars;
+    }
+
+    private static List<MarketBar> toMarketBars(List<BarRollupEntity> rollups, String rollupTimeframe,
+                                                String timeframe) {
+        List<MarketBar> bars = new ArrayList<>(rollups.size());
+        if (rollups.isEmpty()) {
+            return bars;
+        }
+        if (BarResampler.minutesOf(rollupTimeframe) == BarResampler.minutesOf(timeframe)) {
+            for (BarRollupEntity rollup : rollups) {
+                bars.add(MarketBar.restore(rollup.getSymbol(), timeframe, rollup.getBarTimestamp(),
+                        rollup.getOpenPrice(), rollup.getHighPrice(), rollup.getLowPrice(),
+                        rollup.getClosePrice(), rollup.getVolume(), true));
+            }
+            return bars;
+        }
+
+        BarColumns resampled = RESAMPLER.resample(toColumns(rollups.get(0).getSymbol(), rollups), timeframe);
+        LocalDateTime lastCovered = lastCoveredMinute(rollups.get(rollups.size() - 1).getBarTimestamp(),
+                rollupTimeframe);
+        int size = resampled.size();
+        if (!RESAMPLER.isBucketComplete(lastCovered, timeframe)) {
+            // Newest derived bar still waits for rollups
+            size--;
+        }
+        for (int i = 0; i < size; i++) {
+            bars.add(MarketBar.restore(resampled.getSymbol(), timeframe, resampled.getTimestamp(i),
+                    BigDecimal.valueOf(resampled.getOpen(i)), BigDecimal.valueOf(resampled.getHigh(i)),
+                    BigDecimal.valueOf(resampled.getLow(i)), BigDecimal.valueOf(resampled.getClose(i)),
+                    resampled.getVolume(i), true));
+        }
+        return bars;
+    }
+
+    /**
+     * Convert historical rollups to bars of {@code timeframe}.
+     *
+     * @param rollups Rollups of one or more symbols, ordered by timestamp
+     * @return Bars ordered by timestamp, then symbol order of the input
+     */
+    public static List<HistoricalBarEntity> toHistoricalBars(List<BarRollupEntity> rollups, String timeframe) {
+        List<HistoricalBarEntity> bars = new ArrayList<>(rollups.size());
+        for (BarRollupEntity rollup : rollups) {
+            bars.add(HistoricalBarEntity.builder()
+                    .symbol(rollup.getSymbol())
+                    .timeframe(rollup.getTimeframe())
+                    .barTimestamp(rollup.getBarTimestamp())
+                    .openPrice(rollup.getOpenPrice())
+                    .highPrice(rollup.getHighPrice())
+                    .lowPrice(rollup.getLowPrice())
+                    .closePrice(rollup.getClosePrice())
+                    .volume(rollup.getVolume())
+                    .build());
+        }
+        return resampleHistoricalBars(bars, timeframe);
+    }
+
+    /**
+     * Resample historical bars (one or more symbols) to a coarser timeframe.
+     * Bars already at {@code timeframe} are relabelled only.
+     *
+     * @return Bars ordered by timestamp, then symbol order of the input
+     */
+    public static List<HistoricalBarEntity> resampleHistoricalBars(List<HistoricalBarEntity> bars, String timeframe) {
+        Map<String, BarColumns> columnsBySymbol = new LinkedHashMap<>();
+        for (HistoricalBarEntity bar : bars) {
+            columnsBySymbol
+                    .computeIfAbsent(bar.getSymbol(), symbol ->
+                            new BarColumns(symbol, bar.getTimeframe(), Math.min(bars.size(), 4096)))
+                    .add(bar.getBarTimestamp(),
+                            bar.getOpenPrice().doubleValue(),
+                            bar.getHighPrice().doubleValue(),
+                            bar.getLowPrice().doubleValue(),
+                            bar.getClosePrice().doubleValue(),
+                            bar.getVolume() != null ? bar.getVolume() : 0L);
+        }
+
+        List<HistoricalBarEntity> derived = new ArrayList<>();
+        for (BarColumns columns : columnsBySymbol.values()) {
+            BarColumns resampled = RESAMPLER.resample(columns, timeframe);
+            for (int i = 0; i < resampled.size(); i++) {
+                derived.add(HistoricalBarEntity.builder()
+                        .symbol(resampled.getSymbol())
+                        .timeframe(timeframe)
+                        .barTimestamp(resampled.getTimestamp(i))
+                        .openPrice(BigDecimal.valueOf(resampled.getOpen(i)))
+                        .highPrice(BigDecimal.valueOf(resampled.getHigh(i)))
+                        .lowPrice(BigDecimal.valueOf(resampled.getLow(i)))
+                        .closePrice(BigDecimal.valueOf(resampled.getClose(i)))
+                        .volume(resampled.getVolume(i))
+                        .build());
+            }
+        }
+        // Stable sort keeps symbol order within a timestamp
+        derived.sort(Comparator.comparing(HistoricalBarEntity::getBarTimestamp));
+        return derived;
+    }
+
+    /**
+     * Check whether rollups starting at {@code firstRollup} cover the 1-minute
+     * bars of a query.
+     *
+     * @param firstRollup First rollup bucket of the query
+     * @param firstMinute First 1-minute source bar of the query from
+     *                    {@link #firstBucketFrom}, or null if there is none
+     */
+    public static boolean covers(LocalDateTime firstRollup, LocalDateTime firstMinute, String rollupTimeframe) {
+        return firstMinute == null
+                || !firstRollup.isAfter(RESAMPLER.bucketStart(firstMinute, rollupTimeframe));
+    }
+
+    /**
+     * First rollup bucket start at or after {@code time}: a range query from
+     * {@code time} does not read the rollup of a bucket it starts inside.
+     */
+    public static LocalDateTime firstBucketFrom(LocalDateTime time, String rollupTimeframe) {
+        LocalDateTime bucket = RESAMPLER.bucketStart(time, rollupTimeframe);
+        if (bucket.equals(time)) {
+            return time;
+        }
+        return lastCoveredMinute(bucket, rollupTimeframe).plusMinutes(1);
+    }
+
+    /**
+     * Last minute that falls into a rollup bucket (includes a folded session-end minute).
+     */
+    private static LocalDateTime lastCoveredMinute(LocalDateTime bucketStart, String rollupTimeframe) {
+        LocalDateTime minute = bucketStart.plusMinutes(BarResampler.minutesOf(rollupTimeframe) - 1);
+        while (RESAMPLER.bucketStart(minute.plusMinutes(1), rollupTimeframe).equals(bucketStart)) {
+            minute = minute.plusMinutes(1);
+        }
+        return minute;
+    }
+
+    private static BarColumns toColumns(String symbol, List<BarRollupEntity> rollups) {
+        BarColumns columns = new BarColumns(symbol, rollups.get(0).getTimeframe(), rollups.size());
+        for (BarRollupEntity rollup : rollups) {
+            columns.add(rollup.getBarTimestamp(), rollup.getOpenPrice().doubleValue(),
+                    rollup.getHighPrice().doubleValue(), rollup.getLowPrice().doubleValue(),
+                    rollup.getClosePrice().doubleValue(), rollup.getVolume());
+        }
+        return columns;
+    }
+}
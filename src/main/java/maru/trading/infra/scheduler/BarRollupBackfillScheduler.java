@@ -0,0 +1,62 @@
+package maru.trading.infra.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import maru.trading.infra.persistence.jpa.entity.BarRollupEntity;
+import maru.trading.infra.persistence.rollup.BarRollupService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 봉 롤업(5m/1h/1d) 백필 스케줄러.
+ *
+ * 장 마감 후 당일(및 설정된 기간) market_bars 1분봉으로 롤업을 다시 생성합니다.
+ * 실시간 증분 갱신에서 누락된 봉을 보정하고, 일봉 롤업을 마감(closed) 처리합니다.
+ *
+ * 설정:
+ * - trading.bars.rollup.backfill.enabled: 스케줄러 활성화 여부
+ * - trading.bars.rollup.backfill.cron: 실행 주기 (cron 표현식)
+ * - trading.bars.rollup.backfill.days: 재생성할 기간 (오늘 포함 일수)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        prefix = "trading.bars.rollup.backfill",
+        name = "enabled",
+        havingValue = "true"
+)
+public class BarRollupBackfillScheduler {
+
+    private final BarRollupService barRollupService;
+    private final int days;
+
+    public BarRollupBackfillScheduler(
+            BarRollupService barRollupService,
+            @Value("${trading.bars.rollup.backfill.days:1}") int days) {
+        this.barRollupService = barRollupService;
+        this.days = Math.max(1, days);
+
+        log.info("BarRollupBackfillScheduler initialized - days: {}", this.days);
+    }
+
+    /**
+     * 롤업 백필 실행.
+     */
+    @Scheduled(cron = "${trading.bars.rollup.backfill.cron:0 30 18 * * MON-FRI}")
+    public void backfill() {
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(days - 1L);
+        long startMs = System.currentTimeMillis();
+
+        try {
+            int rows = barRollupService.backfillAll(BarRollupEntity.SOURCE_MARKET, from, to);
+            log.info("Bar rollup backfill completed: {} ~ {}, rows={}, duration={} ms",
+                    from, to, rows, System.currentTimeMillis() - startMs);
+        } catch (Exception e) {
+            log.error("Bar rollup backfill failed: {} ~ {}", from, to, e);
+        }
+    }
+}
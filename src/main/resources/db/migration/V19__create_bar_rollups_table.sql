@@ -0,0 +1,25 @@
+-- V19: Bar rollup table (5m / 1h / 1d aggregates of 1-minute bars)
+-- Rows are derived from market_bars (source = MARKET) or historical_bars
+-- (source = HISTORICAL); range scans over coarse timeframes read this table
+-- instead of millions of 1-minute rows.
+
+CREATE TABLE bar_rollups (
+    rollup_id       CHAR(26)       NOT NULL COMMENT '롤업 ID (ULID)',
+    source          VARCHAR(16)    NOT NULL COMMENT '원천 테이블 (MARKET, HISTORICAL)',
+    symbol          VARCHAR(16)    NOT NULL,
+    timeframe       VARCHAR(8)     NOT NULL COMMENT '5m, 1h, 1d',
+    bar_timestamp   DATETIME(3)    NOT NULL COMMENT '버킷 시작 시각',
+    open_price      DECIMAL(18,4)  NOT NULL,
+    high_price      DECIMAL(18,4)  NOT NULL,
+    low_price       DECIMAL(18,4)  NOT NULL,
+    close_price     DECIMAL(18,4)  NOT NULL,
+    volume          BIGINT         NOT NULL,
+    bar_count       INT            NOT NULL COMMENT '집계된 1분봉 수',
+    closed          BOOLEAN        NOT NULL DEFAULT FALSE COMMENT '버킷 완료 여부',
+    updated_at      DATETIME(3)    NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+
+    PRIMARY KEY (rollup_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE UNIQUE INDEX uk_rollups_source_symbol_timeframe_timestamp
+    ON bar_rollups (source, symbol, timeframe, bar_timestamp);
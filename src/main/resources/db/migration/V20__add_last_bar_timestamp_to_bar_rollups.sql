@@ -0,0 +1,7 @@
+-- V20: Last merged 1-minute bar of each rollup
+-- Live rollups are merged with a batched upsert; a 1-minute bar at or before
+-- last_bar_timestamp was already merged and is skipped, so saving the same
+-- bar again (writer retries, journal recovery) does not count it twice.
+
+ALTER TABLE bar_rollups
+  ADD COLUMN last_bar_timestamp DATETIME(3) NULL COMMENT '마지막으로 집계된 1분봉 시각' AFTER closed;
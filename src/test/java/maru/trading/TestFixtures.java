@@ -1,5 +1,11 @@
 package maru.trading;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import maru.trading.application.ports.repo.StrategyRepository;
+import maru.trading.application.scheduler.StrategyScheduler;
+import maru.trading.application.usecase.strategy.ExecuteStrategyUseCase;
+import maru.trading.application.usecase.strategy.StrategyCircuitBreaker;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlanner;
 import maru.trading.domain.execution.Fill;
 import maru.trading.domain.execution.Position;
 import maru.trading.domain.order.Order;
@@ -10,8 +16,19 @@ import maru.trading.domain.risk.RiskRule;
 import maru.trading.domain.risk.RiskRuleScope;
 import maru.trading.domain.risk.RiskState;
 import maru.trading.domain.risk.KillSwitchStatus;
+import maru.trading.domain.shared.Environment;
+import maru.trading.domain.strategy.Strategy;
+import maru.trading.domain.strategy.StrategyVersion;
+import maru.trading.infra.cache.BarCache;
+import maru.trading.infra.cache.IndicatorRegistry;
+import maru.trading.infra.cache.IndicatorStore;
+import maru.trading.infra.persistence.jpa.entity.StrategySymbolEntity;
+import maru.trading.infra.persistence.jpa.repository.StrategyJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.StrategySymbolJpaRepository;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 
 /**
@@ -190,4 +207,152 @@ public class TestFixtures {
             .openOrderCount(0)
             .build();
     }
+
+    /**
+     * Create an active PAPER strategy whose active version is "VER_" + strategyId.
+     */
+    public static Strategy createActiveStrategy(String strategyId, String name) {
+        return Strategy.builder()
+                .strategyId(strategyId)
+                .name(name)
+                .status("ACTIVE")
+                .mode(Environment.PAPER)
+                .activeVersionId("VER_" + strategyId)
+                .build();
+    }
+
+    /**
+     * Create the active version ("VER_" + strategyId) of a strategy.
+     */
+    public static StrategyVersion createStrategyVersion(String strategyId, String paramsJson) {
+        return createStrategyVersion(strategyId, "VER_" + strategyId, paramsJson);
+    }
+
+    /**
+     * Create a strategy version.
+     */
+    public static StrategyVersion createStrategyVersion(String strategyId, String versionId, String paramsJson) {
+        return StrategyVersion.builder()
+                .strategyVersionId(versionId)
+                .strategyId(strategyId)
+                .versionNo(1)
+                .paramsJson(paramsJson)
+                .build();
+    }
+
+    /**
+     * Create an active strategy×symbol mapping on an account.
+     */
+    public static StrategySymbolEntity createStrategySymbol(String strategyId, String symbol, String accountId) {
+        return StrategySymbolEntity.builder()
+                .strategySymbolId("SS_" + System.nanoTime())
+                .strategyId(strategyId)
+                .symbol(symbol)
+                .accountId(accountId)
+                .isActive(true)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Create one H0STCNT0 record (46 '^'-separated fields) for KIS real-time frames.
+     * Unused fields are filled with "0".
+     */
+    public static String kisTickRecord(String symbol, String hhmmss, long price, char sign, long volume) {
+        String[] fields = new String[46];
+        java.util.Arrays.fill(fields, "0");
+        fields[0] = symbol;
+        fields[1] = hhmmss;
+        fields[2] = Long.toString(price);
+        fields[3] = Character.toString(sign);
+        fields[12] = Long.toString(volume);
+        return String.join("^", fields);
+    }
+
+    /**
+     * Create a KIS real-time H0STCNT0 frame carrying the given records.
+     */
+    public static String kisTickFrame(String... records) {
+        return "0|H0STCNT0|" + String.format("%03d", records.length) + "|" + String.join("^", records);
+    }
+
+    // ==================== Components (application.yml defaults) ====================
+
+    /**
+     * Create a bar cache keeping 200 bars per symbol and timeframe.
+     */
+    public static BarCache createBarCache(MeterRegistry meterRegistry) {
+        BarCache barCache = new BarCache(meterRegistry);
+        ReflectionTestUtils.setField(barCache, "defaultCapacity", 200);
+        ReflectionTestUtils.setField(barCache, "capacities", "");
+        return barCache;
+    }
+
+    /**
+     * Create an enabled strategy circuit breaker.
+     */
+    public static StrategyCircuitBreaker createCircuitBreaker(MeterRegistry meterRegistry) {
+        StrategyCircuitBreaker breaker = new StrategyCircuitBreaker(meterRegistry);
+        ReflectionTestUtils.setField(breaker, "enabled", true);
+        ReflectionTestUtils.setField(breaker, "budgetMillis", 500L);
+        ReflectionTestUtils.setField(breaker, "window", 20);
+        ReflectionTestUtils.setField(breaker, "minEvaluations", 5);
+        ReflectionTestUtils.setField(breaker, "maxSlowRate", 0.5);
+        ReflectionTestUtils.setField(breaker, "maxErrorRate", 0.5);
+        ReflectionTestUtils.setField(breaker, "demotedEvery", 5);
+        ReflectionTestUtils.setField(breaker, "suspendSeconds", 300L);
+        return breaker;
+    }
+
+    /**
+     * Create a BAR_CLOSE strategy scheduler with 4 evaluation threads and a 50s run deadline.
+     */
+    public static StrategyScheduler createStrategyScheduler(
+        StrategyExecutionPlanner executionPlanner,
+        ExecuteStrategyUseCase executeStrategyUseCase,
+        StrategyCircuitBreaker circuitBreaker
+    ) {
+        StrategyScheduler scheduler = new StrategyScheduler(executionPlanner, executeStrategyUseCase, circuitBreaker);
+        ReflectionTestUtils.setField(scheduler, "trigger", StrategyScheduler.Trigger.BAR_CLOSE);
+        ReflectionTestUtils.setField(scheduler, "parallelism", 4);
+        ReflectionTestUtils.setField(scheduler, "deadlineMillis", 50_000L);
+        return scheduler;
+    }
+
+    /**
+     * Create a strategy execution planner for 1m bars from ticks and 5m, 15m, 60m and 1d derived bars.
+     */
+    public static StrategyExecutionPlanner createStrategyExecutionPlanner(
+        StrategyRepository strategyRepository,
+        StrategySymbolJpaRepository strategySymbolRepository,
+        StrategyJpaRepository strategyJpaRepository,
+        MeterRegistry meterRegistry
+    ) {
+        StrategyExecutionPlanner planner = new StrategyExecutionPlanner(strategyRepository, strategySymbolRepository,
+                strategyJpaRepository, meterRegistry);
+        ReflectionTestUtils.setField(planner, "timeframes", "1m");
+        ReflectionTestUtils.setField(planner, "derivedTimeframes", "5m,15m,60m,1d");
+        return planner;
+    }
+
+    /**
+     * Create an indicator registry keeping 4 windows per indicator.
+     */
+    public static IndicatorRegistry createIndicatorRegistry(MeterRegistry meterRegistry) {
+        IndicatorRegistry registry = new IndicatorRegistry(meterRegistry);
+        ReflectionTestUtils.setField(registry, "windowsPerIndicator", 4);
+        return registry;
+    }
+
+    /**
+     * Create an enabled indicator store in the given directory.
+     */
+    public static IndicatorStore createIndicatorStore(MeterRegistry meterRegistry, Path storeDir) {
+        IndicatorStore store = new IndicatorStore(meterRegistry);
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "storeDir", storeDir.toString());
+        ReflectionTestUtils.setField(store, "depth", 2);
+        ReflectionTestUtils.setField(store, "maxVersions", 4);
+        return store;
+    }
 }
@@ -3,6 +3,9 @@ package maru.trading.api.controller.admin;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import maru.trading.api.dto.request.AddSymbolsRequest;
 import maru.trading.api.dto.request.RemoveSymbolsRequest;
+import maru.trading.broker.kis.marketdata.MarketDataConflator;
+import maru.trading.domain.market.MarketTick;
+import maru.trading.infra.cache.MarketDataCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,6 +17,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -28,6 +34,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * - GET /api/v1/admin/market-data/symbols - Get subscribed symbols
  * - POST /api/v1/admin/market-data/resubscribe - Resubscribe to market data
  * - GET /api/v1/admin/market-data/status - Get subscription status
+ * - POST /api/v1/admin/market-data/rollups/backfill - Rebuild bar rollups
+ * - GET /api/v1/admin/market-data/quotes - Get latest quotes
+ * - GET /api/v1/admin/market-data/consumers - Get tick consumer counters
  */
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -42,6 +51,12 @@ class MarketDataAdminControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MarketDataCache marketDataCache;
+
+    @Autowired
+    private MarketDataConflator marketDataConflator;
+
     private static final String BASE_URL = "/api/v1/admin/market-data";
 
     @Nested
@@ -165,4 +180,69 @@ class MarketDataAdminControllerTest {
                     .andExpect(jsonPath("$.message").exists());
         }
     }
+
+    @Nested
+    @DisplayName("POST /api/v1/admin/market-data/rollups/backfill - Backfill Rollups")
+    class BackfillRollups {
+
+        @Test
+        @DisplayName("Should backfill rollups for a date range")
+        void backfillRollups_Success() throws Exception {
+            mockMvc.perform(post(BASE_URL + "/rollups/backfill")
+                            .param("source", "HISTORICAL")
+                            .param("from", "2026-01-05")
+                            .param("to", "2026-01-09"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.ok").value(true));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown source")
+        void backfillRollups_InvalidSource() throws Exception {
+            mockMvc.perform(post(BASE_URL + "/rollups/backfill")
+                            .param("source", "OTHER")
+                            .param("from", "2026-01-05")
+                            .param("to", "2026-01-09"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.ok").value(false));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/admin/market-data/quotes - Get Quotes")
+    class GetQuotes {
+
+        @Test
+        @DisplayName("Should return the latest quote of cached symbols")
+        void getQuotes_Success() throws Exception {
+            marketDataCache.put(new MarketTick("QTE001", BigDecimal.valueOf(70100), 300L,
+                    LocalDateTime.now(), "NORMAL"));
+
+            mockMvc.perform(get(BASE_URL + "/quotes"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$").isArray())
+                    .andExpect(jsonPath("$[?(@.symbol == 'QTE001')].price").value(70100))
+                    .andExpect(jsonPath("$[?(@.symbol == 'QTE001')].volume").value(300));
+
+            marketDataCache.remove("QTE001");
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/admin/market-data/consumers - Get Consumers")
+    class GetConsumers {
+
+        @Test
+        @DisplayName("Should return lag and drop counters of registered consumers")
+        void getConsumers_Success() throws Exception {
+            try (MarketDataConflator.Subscription subscription = marketDataConflator.subscribe(
+                    "admin-test", MarketDataConflator.Mode.INTERVAL, Duration.ofSeconds(1), tick -> {})) {
+
+                mockMvc.perform(get(BASE_URL + "/consumers"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$[?(@.name == 'admin-test')].mode").value("INTERVAL"))
+                        .andExpect(jsonPath("$[?(@.name == 'admin-test')].dropped").value(0));
+            }
+        }
+    }
 }
@@ -3,6 +3,7 @@ package maru.trading.api.controller.admin;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import maru.trading.api.dto.request.StrategyCreateRequest;
 import maru.trading.api.dto.request.StrategyParamsUpdateRequest;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlanner;
 import maru.trading.domain.shared.Environment;
 import maru.trading.infra.config.UlidGenerator;
 import maru.trading.infra.persistence.jpa.entity.StrategyEntity;
@@ -59,6 +60,9 @@ class StrategyAdminControllerTest {
     @Autowired
     private StrategyVersionJpaRepository strategyVersionRepository;
 
+    @Autowired
+    private StrategyExecutionPlanner executionPlanner;
+
     private static final String BASE_URL = "/api/v1/admin/strategies";
 
     @Nested
@@ -329,6 +333,21 @@ class StrategyAdminControllerTest {
             assertThat(after.getStatus()).isEqualTo("ACTIVE");
         }
 
+        @Test
+        @DisplayName("Should add activated strategy to the execution plan")
+        void activateStrategy_InvalidatesExecutionPlan() throws Exception {
+            // Given
+            String strategyId = createTestStrategy("ACTIVATE_PLAN_TEST_" + System.currentTimeMillis());
+            assertThat(executionPlanner.current().find(strategyId)).isNull();
+
+            // When
+            mockMvc.perform(post(BASE_URL + "/" + strategyId + "/activate"))
+                    .andExpect(status().isOk());
+
+            // Then
+            assertThat(executionPlanner.current().find(strategyId)).isNotNull();
+        }
+
         @Test
         @DisplayName("Should return 404 for non-existent strategy")
         void activateStrategy_NotFound() throws Exception {
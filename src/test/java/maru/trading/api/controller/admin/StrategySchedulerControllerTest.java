@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import maru.trading.api.dto.request.SchedulerTriggerRequest;
 import maru.trading.application.ports.repo.StrategyRepository;
 import maru.trading.application.scheduler.StrategyScheduler;
+import maru.trading.application.usecase.strategy.StrategyCircuitBreaker;
 import maru.trading.domain.shared.Environment;
 import maru.trading.domain.strategy.Strategy;
 import org.junit.jupiter.api.BeforeEach;
@@ -54,7 +55,11 @@ class StrategySchedulerControllerTest {
                 LocalDateTime.now(),
                 10,
                 9,
-                1
+                1,
+                0,
+                120L,
+                List.of(new StrategyScheduler.PairTiming(
+                        "STR_001", "005930", "ACC_001", StrategyScheduler.PairOutcome.SIGNAL, 0.5, 118.0))
         );
     }
 
@@ -81,6 +86,10 @@ class StrategySchedulerControllerTest {
                     .andExpect(jsonPath("$.executionCount").value(10))
                     .andExpect(jsonPath("$.successCount").value(9))
                     .andExpect(jsonPath("$.errorCount").value(1))
+                    .andExpect(jsonPath("$.lastRunDurationMillis").value(120))
+                    .andExpect(jsonPath("$.lastRunPairs[0].symbol").value("005930"))
+                    .andExpect(jsonPath("$.lastRunPairs[0].outcome").value("SIGNAL"))
+                    .andExpect(jsonPath("$.lastRunPairs[0].durationMillis").value(118.0))
                     .andExpect(jsonPath("$.activeStrategyCount").value(1));
         }
 
@@ -89,7 +98,7 @@ class StrategySchedulerControllerTest {
         void shouldReturnStatusWhenDisabled() throws Exception {
             // Given
             StrategyScheduler.SchedulerStatus disabledStatus = new StrategyScheduler.SchedulerStatus(
-                    false, LocalDateTime.now(), 5, 5, 0
+                    false, LocalDateTime.now(), 5, 5, 0, 0, 0L, List.of()
             );
             given(strategyScheduler.getStatus()).willReturn(disabledStatus);
             given(strategyRepository.findActiveStrategies()).willReturn(Collections.emptyList());
@@ -292,4 +301,46 @@ class StrategySchedulerControllerTest {
             verify(strategyScheduler).resetStatistics();
         }
     }
+
+    @Nested
+    @DisplayName("Strategy circuit breaker")
+    class CircuitBreakerTests {
+
+        @Test
+        @DisplayName("Should include per-strategy evaluation health in status")
+        void shouldReturnStrategyHealth() throws Exception {
+            // Given
+            given(strategyScheduler.getStatus()).willReturn(defaultStatus);
+            given(strategyRepository.findActiveStrategies()).willReturn(Collections.emptyList());
+            given(strategyScheduler.getStrategyHealth()).willReturn(List.of(
+                    new StrategyCircuitBreaker.StrategyHealth("STR_002", StrategyCircuitBreaker.State.SUSPENDED,
+                            0, 0, 0, 0, 0, 12, 7, 3, LocalDateTime.of(2026, 1, 5, 9, 30),
+                            "error rate 60% over 5 evaluations")));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/admin/scheduler/status"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.strategies[0].strategyId").value("STR_002"))
+                    .andExpect(jsonPath("$.strategies[0].state").value("SUSPENDED"))
+                    .andExpect(jsonPath("$.strategies[0].errors").value(7))
+                    .andExpect(jsonPath("$.strategies[0].skipped").value(3))
+                    .andExpect(jsonPath("$.strategies[0].suspendedUntil").value("2026-01-05T09:30:00"))
+                    .andExpect(jsonPath("$.strategies[0].reason").value("error rate 60% over 5 evaluations"));
+        }
+
+        @Test
+        @DisplayName("Should resume a suspended strategy")
+        void shouldResumeStrategy() throws Exception {
+            // Given
+            given(strategyScheduler.resumeStrategy("STR_002")).willReturn(true);
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/admin/scheduler/strategies/STR_002/resume"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.ok").value(true))
+                    .andExpect(jsonPath("$.message").value("Strategy STR_002 resumed"));
+
+            verify(strategyScheduler).resumeStrategy("STR_002");
+        }
+    }
 }
@@ -0,0 +1,137 @@
+package maru.trading.application.backtest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.domain.backtest.BacktestConfig;
+import maru.trading.domain.backtest.BacktestResult;
+import maru.trading.domain.backtest.DataReplayEngine;
+import maru.trading.domain.backtest.VirtualBroker;
+import maru.trading.domain.signal.Signal;
+import maru.trading.domain.signal.SignalType;
+import maru.trading.domain.strategy.impl.RuleStrategy;
+import maru.trading.infra.async.BacktestJobExecutor;
+import maru.trading.infra.persistence.jpa.entity.HistoricalBarEntity;
+import maru.trading.infra.persistence.jpa.repository.BacktestRunJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.BacktestTradeJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.HistoricalBarJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static maru.trading.TestFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("BacktestEngineImpl Test")
+class BacktestEngineImplTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 5, 9, 0);
+    private static final String ENTRY = "crossAbove(ema(close,12), ema(close,26)) && rsi(close,14) < 70";
+
+    @TempDir
+    Path storeDir;
+
+    private BacktestEngineImpl engine;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        engine = new BacktestEngineImpl(
+                mock(DataReplayEngine.class),
+                mock(VirtualBroker.class),
+                new PerformanceAnalyzerImpl(),
+                mock(HistoricalBarJpaRepository.class),
+                mock(BacktestRunJpaRepository.class),
+                mock(BacktestTradeJpaRepository.class),
+                mock(BacktestJobExecutor.class),
+                createIndicatorRegistry(meterRegistry),
+                createIndicatorStore(meterRegistry, storeDir));
+    }
+
+    @Test
+    @DisplayName("Should run a rule strategy that needs more than 21 bars")
+    void shouldRunRuleNeedingMoreBars() throws Exception {
+        // Given - 27 bars needed for the crossover of ema(close,26)
+        assertThat(RuleStrategy.requiredBars(Map.of("entry", ENTRY))).isEqualTo(27);
+
+        // When - falling, then rising with pullbacks, so RSI stays below 70
+        BacktestResult result = engine.run(config(Map.of("entry", ENTRY)), swingBars(80));
+
+        // Then
+        assertThat(result.getSignals())
+                .isNotEmpty()
+                .extracting(Signal::getSignalType)
+                .containsOnly(SignalType.BUY);
+    }
+
+    @Test
+    @DisplayName("Should not evaluate before the required bars have been replayed")
+    void shouldWaitForRequiredBars() throws Exception {
+        // When - one bar short of the 27 the rule needs
+        BacktestResult result = engine.run(config(Map.of("entry", ENTRY)), swingBars(26));
+
+        // Then
+        assertThat(result.getSignals()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should evaluate rules needing more than 100 bars")
+    void shouldRunRuleNeedingLongWindow() throws Exception {
+        // Given - 120 bars needed
+        Map<String, Object> params = Map.of("entry", "close > sma(close,120)");
+        assertThat(RuleStrategy.requiredBars(params)).isEqualTo(120);
+
+        // When
+        BacktestResult result = engine.run(config(params), swingBars(160));
+
+        // Then
+        assertThat(result.getSignals()).isNotEmpty();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private BacktestConfig config(Map<String, Object> params) {
+        return BacktestConfig.builder()
+                .backtestId("BT_TEST")
+                .strategyId("STR_RULES")
+                .strategyType("RULES")
+                .strategyParams(params)
+                .startDate(LocalDate.of(2026, 1, 5))
+                .endDate(LocalDate.of(2026, 1, 5))
+                .symbols(List.of("005930"))
+                .build();
+    }
+
+    /**
+     * Falls by 100 for the first 40 bars, then rises 300 and falls 200 in turn.
+     */
+    private List<HistoricalBarEntity> swingBars(int count) {
+        List<HistoricalBarEntity> bars = new ArrayList<>();
+        long price = 80_000;
+        for (int i = 0; i < count; i++) {
+            price += i < 40 ? -100 : (i % 2 == 0 ? 300 : -200);
+            BigDecimal close = BigDecimal.valueOf(price);
+            bars.add(HistoricalBarEntity.builder()
+                    .barId("BAR_" + i)
+                    .symbol("005930")
+                    .timeframe("1m")
+                    .barTimestamp(START.plusMinutes(i))
+                    .openPrice(close)
+                    .highPrice(close.add(BigDecimal.valueOf(50)))
+                    .lowPrice(close.subtract(BigDecimal.valueOf(50)))
+                    .closePrice(close)
+                    .volume(1000L)
+                    .createdAt(START)
+                    .build());
+        }
+        return bars;
+    }
+}
@@ -0,0 +1,91 @@
+package maru.trading.application.backtest;
+
+import maru.trading.domain.backtest.BacktestConfig;
+import maru.trading.domain.backtest.BacktestResult;
+import maru.trading.domain.backtest.BacktestTrade;
+import maru.trading.domain.backtest.distributed.TrialResult;
+import maru.trading.domain.backtest.distributed.TrialTask;
+import maru.trading.domain.backtest.montecarlo.MonteCarloConfig;
+import maru.trading.domain.backtest.montecarlo.MonteCarloResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("MonteCarloSimulator Test")
+class MonteCarloSimulatorTest {
+
+    @Test
+    @DisplayName("Should give the same seeded result with and without workers")
+    @SuppressWarnings("unchecked")
+    void shouldBeReproducibleAcrossPaths() {
+        // Given - no workers
+        TrialCoordinator local = mock(TrialCoordinator.class);
+        given(local.hasWorkers()).willReturn(false);
+
+        // Given - workers, which run each chunk as the coordinator hands it out
+        TrialCoordinator distributed = mock(TrialCoordinator.class);
+        given(distributed.hasWorkers()).willReturn(true);
+        given(distributed.runTrials(anyList(), any())).willAnswer(invocation -> {
+            List<TrialTask> tasks = invocation.getArgument(0);
+            Function<TrialTask, TrialResult> runner = invocation.getArgument(1);
+            return tasks.stream().map(runner).toList();
+        });
+
+        MonteCarloConfig config = config();
+
+        // When
+        MonteCarloResult withoutWorkers = simulator(local).simulate(config);
+        MonteCarloResult withWorkers = simulator(distributed).simulate(config);
+
+        // Then
+        verify(local, never()).runTrials(anyList(), any());
+        assertThat(withWorkers.getNumSimulations()).isEqualTo(600);
+        assertThat(withWorkers.getMeanReturn()).isEqualByComparingTo(withoutWorkers.getMeanReturn());
+        assertThat(withWorkers.getReturnPercentiles()).isEqualTo(withoutWorkers.getReturnPercentiles());
+        assertThat(withWorkers.getBestCase().getSimulationNumber())
+                .isEqualTo(withoutWorkers.getBestCase().getSimulationNumber());
+
+        // Same curve resolution on both paths
+        assertThat(withWorkers.getBestCase().getEquityCurve())
+                .isEqualTo(withoutWorkers.getBestCase().getEquityCurve())
+                .hasSizeLessThanOrEqualTo(101);
+    }
+
+    private MonteCarloSimulator simulator(TrialCoordinator coordinator) {
+        MonteCarloSimulator simulator = new MonteCarloSimulator(coordinator);
+        ReflectionTestUtils.setField(simulator, "chunkSize", 250);
+        return simulator;
+    }
+
+    private MonteCarloConfig config() {
+        List<BacktestTrade> trades = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            trades.add(BacktestTrade.builder()
+                    .netPnl(BigDecimal.valueOf((i % 5 - 2) * 10000L))
+                    .build());
+        }
+        BacktestResult base = BacktestResult.builder()
+                .config(BacktestConfig.builder().initialCapital(BigDecimal.valueOf(10_000_000)).build())
+                .trades(trades)
+                .build();
+        return MonteCarloConfig.builder()
+                .simulationId("MC_TEST")
+                .baseBacktestResult(base)
+                .numSimulations(600)
+                .randomSeed(42L)
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+package maru.trading.application.backtest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.domain.backtest.BacktestConfig;
+import maru.trading.domain.backtest.data.DataSourceConfig;
+import maru.trading.domain.backtest.distributed.TrialResult;
+import maru.trading.domain.backtest.distributed.TrialTask;
+import maru.trading.domain.backtest.distributed.WorkerRegistration;
+import maru.trading.infra.persistence.jpa.repository.HistoricalBarJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("TrialCoordinator Test")
+class TrialCoordinatorTest {
+
+    private static final Function<TrialTask, TrialResult> LOCAL_RUNNER =
+            task -> TrialResult.monteCarlo(task.getTrialId(), TrialCoordinator.LOCAL_WORKER, List.of());
+
+    private TrialCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        coordinator = new TrialCoordinator(mock(HistoricalBarJpaRepository.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(coordinator, "enabled", true);
+        ReflectionTestUtils.setField(coordinator, "workerTimeoutSeconds", 15L);
+        ReflectionTestUtils.setField(coordinator, "trialTimeoutSeconds", 600L);
+        ReflectionTestUtils.setField(coordinator, "maxAttempts", 2);
+        coordinator.init();
+    }
+
+    @Nested
+    @DisplayName("runTrials() Tests")
+    class RunTrialsTests {
+
+        @Test
+        @DisplayName("Should run trials locally when no worker is registered")
+        void shouldRunLocallyWithoutWorkers() {
+            List<TrialResult> results = coordinator.runTrials(List.of(task("T1"), task("T2")), LOCAL_RUNNER);
+
+            assertThat(results).extracting(TrialResult::getTrialId).containsExactly("T1", "T2");
+            assertThat(results).allMatch(r -> TrialCoordinator.LOCAL_WORKER.equals(r.getWorkerId()));
+        }
+
+        @Test
+        @DisplayName("Should return worker results in submission order")
+        void shouldReturnWorkerResults() throws Exception {
+            register("W1");
+
+            CompletableFuture<List<TrialResult>> results = CompletableFuture.supplyAsync(
+                    () -> coordinator.runTrials(List.of(task("T1"), task("T2")), LOCAL_RUNNER));
+            List<TrialTask> leased = pollUntilLeased("W1", 2);
+            coordinator.complete("W1", List.of(
+                    TrialResult.monteCarlo(leased.get(1).getTrialId(), "W1", List.of()),
+                    TrialResult.monteCarlo(leased.get(0).getTrialId(), "W1", List.of())));
+
+            assertThat(results.get(5, TimeUnit.SECONDS))
+                    .extracting(TrialResult::getTrialId, TrialResult::getWorkerId)
+                    .containsExactly(
+                            tuple("T1", "W1"),
+                            tuple("T2", "W1"));
+            assertThat(coordinator.getLeasedTrialCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should reject backtests that replay a non-database data source")
+        void shouldRejectNonDatabaseDataSource() {
+            BacktestConfig config = BacktestConfig.builder()
+                    .backtestId("BT1")
+                    .symbols(List.of("005930"))
+                    .timeframe("1d")
+                    .startDate(LocalDate.of(2026, 1, 5))
+                    .endDate(LocalDate.of(2026, 1, 9))
+                    .dataSourceConfig(DataSourceConfig.csv("/data/005930.csv"))
+                    .build();
+
+            assertThatThrownBy(() -> coordinator.runBacktests(List.of(config), c -> {
+                throw new AssertionError("Must not run");
+            }))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("CSV");
+        }
+    }
+
+    @Nested
+    @DisplayName("reapExpiredLeases() Tests")
+    class ReapTests {
+
+        @Test
+        @DisplayName("Should re-queue trials of a lost worker to another worker")
+        void shouldRequeueTrialsOfLostWorker() throws Exception {
+            register("W1");
+            CompletableFuture<List<TrialResult>> results = CompletableFuture.supplyAsync(
+                    () -> coordinator.runTrials(List.of(task("T1")), LOCAL_RUNNER));
+            pollUntilLeased("W1", 1);
+
+            register("W2");
+            expireWorker("W1");
+            coordinator.reapExpiredLeases();
+
+            List<TrialTask> retried = coordinator.poll("W2", 1);
+            assertThat(retried).hasSize(1);
+            assertThat(retried.get(0).getAttempt()).isEqualTo(2);
+
+            coordinator.complete("W2", List.of(TrialResult.monteCarlo("T1", "W2", List.of())));
+            coordinator.complete("W1", List.of(TrialResult.failure("T1", "W1", "late")));
+
+            TrialResult result = results.get(5, TimeUnit.SECONDS).get(0);
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.getWorkerId()).isEqualTo("W2");
+        }
+
+        @Test
+        @DisplayName("Should fail trial after max attempts")
+        void shouldFailTrialAfterMaxAttempts() throws Exception {
+            ReflectionTestUtils.setField(coordinator, "trialTimeoutSeconds", 0L);
+            register("W1");
+            CompletableFuture<List<TrialResult>> results = CompletableFuture.supplyAsync(
+                    () -> coordinator.runTrials(List.of(task("T1")), LOCAL_RUNNER));
+
+            pollUntilLeased("W1", 1);
+            Thread.sleep(5);
+            coordinator.reapExpiredLeases();
+            pollUntilLeased("W1", 1);
+            Thread.sleep(5);
+            coordinator.reapExpiredLeases();
+
+            TrialResult result = results.get(5, TimeUnit.SECONDS).get(0);
+            assertThat(result.isSuccess()).isFalse();
+            assertThat(result.getErrorMessage()).contains("2 attempts");
+        }
+    }
+
+    @Nested
+    @DisplayName("Worker API Tests")
+    class WorkerApiTests {
+
+        @Test
+        @DisplayName("Should reject heartbeat and poll of unknown worker")
+        void shouldRejectUnknownWorker() {
+            assertThat(coordinator.heartbeat("W9")).isFalse();
+            assertThat(coordinator.poll("W9", 1)).isNull();
+            assertThat(coordinator.hasWorkers()).isFalse();
+        }
+    }
+
+    private void register(String workerId) {
+        coordinator.register(WorkerRegistration.builder().workerId(workerId).host("localhost").slots(2).build());
+    }
+
+    private void expireWorker(String workerId) {
+        Map<?, ?> workers = (Map<?, ?>) ReflectionTestUtils.getField(coordinator, "workers");
+        ReflectionTestUtils.setField(workers.get(workerId), "lastSeenMillis", 0L);
+    }
+
+    private List<TrialTask> pollUntilLeased(String workerId, int count) throws InterruptedException {
+        List<TrialTask> leased = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (leased.size() < count && System.currentTimeMillis() < deadline) {
+            leased.addAll(coordinator.poll(workerId, count - leased.size()));
+            if (leased.size() < count) {
+                Thread.sleep(10);
+            }
+        }
+        return leased;
+    }
+
+    private static TrialTask task(String trialId) {
+        return TrialTask.builder()
+                .trialId(trialId)
+                .type(TrialTask.TrialType.MONTE_CARLO)
+                .attempt(1)
+                .build();
+    }
+}
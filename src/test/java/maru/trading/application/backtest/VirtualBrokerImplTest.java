@@ -263,6 +263,33 @@ class VirtualBrokerImplTest {
         assertThat(virtualBroker.getCashBalance()).isEqualByComparingTo(BigDecimal.valueOf(5_000_000));
     }
 
+    @Test
+    @DisplayName("Restore should continue from checkpointed state")
+    void testRestore() {
+        // Given: Broker state captured after a fill, with an order still pending
+        virtualBroker.submitOrder(createMarketOrder(Side.BUY, BigDecimal.valueOf(10), "005930"));
+        virtualBroker.processBar(createBar("005930", BigDecimal.valueOf(70_000), BigDecimal.valueOf(71_000),
+                BigDecimal.valueOf(69_000), BigDecimal.valueOf(70_500), 1000L));
+        virtualBroker.submitOrder(createMarketOrder(Side.SELL, BigDecimal.valueOf(10), "005930"));
+
+        BigDecimal cash = virtualBroker.getCashBalance();
+        List<Order> pending = virtualBroker.getPendingOrders();
+        List<Fill> fills = virtualBroker.getAllFills();
+
+        // When: A fresh broker is restored from that state
+        VirtualBrokerImpl restored = new VirtualBrokerImpl();
+        restored.restore(cash, pending, fills);
+        List<Fill> newFills = restored.processBar(createBar("005930", BigDecimal.valueOf(71_000),
+                BigDecimal.valueOf(72_000), BigDecimal.valueOf(70_000), BigDecimal.valueOf(71_500), 1000L));
+
+        // Then: The pending order fills and history is preserved
+        assertThat(newFills).hasSize(1);
+        assertThat(newFills.get(0).getSide()).isEqualTo(Side.SELL);
+        assertThat(restored.getAllFills()).hasSize(2);
+        assertThat(restored.getPendingOrders()).isEmpty();
+        assertThat(restored.getCashBalance()).isGreaterThan(cash);
+    }
+
     // ========== Helper Methods ==========
 
     private Order createMarketOrder(Side side, BigDecimal qty, String symbol) {
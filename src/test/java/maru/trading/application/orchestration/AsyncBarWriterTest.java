@@ -0,0 +1,132 @@
+package maru.trading.application.orchestration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.application.ports.repo.BarRepository;
+import maru.trading.domain.market.MarketBar;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * AsyncBarWriter 테스트
+ *
+ * 테스트 범위:
+ * 1. 큐에 쌓인 봉 → saveAll 배치 저장
+ * 2. 배치 실패 → 봉 단위 재시도
+ * 3. 큐 가득 참 → 봉 버림 + 카운트
+ * 4. 백그라운드 스레드 저장
+ */
+@DisplayName("AsyncBarWriter 테스트")
+class AsyncBarWriterTest {
+
+    private BarRepository barRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncBarWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        barRepository = mock(BarRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new AsyncBarWriter(barRepository, meterRegistry);
+        ReflectionTestUtils.setField(writer, "queueCapacity", 3);
+        ReflectionTestUtils.setField(writer, "batchSize", 2);
+        ReflectionTestUtils.setField(writer, "flushIntervalMs", 20L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("flush - 큐의 봉을 batchSize 단위로 saveAll")
+    void flush_WritesInBatches() {
+        // Given - 백그라운드 스레드 없이 큐만 사용
+        writer.open();
+        writer.enqueue(bar(0));
+        writer.enqueue(bar(1));
+        writer.enqueue(bar(2));
+
+        // When
+        int written = writer.flush();
+
+        // Then
+        assertThat(written).isEqualTo(3);
+        verify(barRepository, times(2)).saveAll(anyList());
+        assertThat(writer.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("배치 실패 → 봉 단위 save로 재시도, 실패한 봉만 카운트")
+    void flush_BatchFails_RetriesIndividually() {
+        // Given
+        writer.open();
+        doThrow(new RuntimeException("batch failed")).when(barRepository).saveAll(anyList());
+        MarketBar bad = bar(1);
+        doThrow(new RuntimeException("bad row")).when(barRepository).save(bad);
+        writer.enqueue(bar(0));
+        writer.enqueue(bad);
+
+        // When
+        int written = writer.flush();
+
+        // Then
+        assertThat(written).isEqualTo(1);
+        verify(barRepository, times(2)).save(any());
+        assertThat(meterRegistry.counter("bars.writer.failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("큐 가득 참 → enqueue false, dropped 카운트")
+    void enqueue_QueueFull_Drops() {
+        // Given
+        writer.open();
+        writer.enqueue(bar(0));
+        writer.enqueue(bar(1));
+        writer.enqueue(bar(2));
+
+        // When
+        boolean accepted = writer.enqueue(bar(3));
+
+        // Then
+        assertThat(accepted).isFalse();
+        assertThat(meterRegistry.counter("bars.writer.dropped").count()).isEqualTo(1.0);
+        assertThat(writer.getQueueDepth()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("start - 백그라운드 스레드가 큐를 비움")
+    void start_WriterThreadDrainsQueue() throws Exception {
+        // Given
+        writer.start();
+
+        // When
+        writer.enqueue(bar(0));
+        writer.enqueue(bar(1));
+
+        // Then
+        verify(barRepository, timeout(2000).atLeastOnce()).saveAll(anyList());
+        long deadline = System.currentTimeMillis() + 2000;
+        while (writer.getQueueDepth() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(writer.getQueueDepth()).isZero();
+        assertThat(meterRegistry.get("bars.writer.queue.depth").gauge()).isNotNull();
+    }
+
+    private MarketBar bar(int minute) {
+        BigDecimal price = BigDecimal.valueOf(70000 + minute);
+        return MarketBar.restore("005930", "1m", LocalDateTime.of(2026, 1, 5, 9, minute),
+                price, price, price, price, 10L, true);
+    }
+}
@@ -12,9 +12,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
@@ -30,6 +33,7 @@ import static org.mockito.Mockito.*;
  * 4. 바 닫기 시 저장 및 캐싱
  * 5. 여러 심볼 동시 집계
  * 6. Null 틱 처리
+ * 7. 다중 타임프레임, 비동기 저장
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("BarAggregator 도메인 테스트")
@@ -48,7 +52,7 @@ class BarAggregatorTest {
 
     @BeforeEach
     void setUp() {
-        barAggregator = new BarAggregator(barRepository, barCache);
+        barAggregator = new BarAggregator(barRepository, barCache, null, new BarCloseBus());
     }
 
     // ==================== 1. Bar Creation Tests ====================
@@ -336,6 +340,77 @@ class BarAggregatorTest {
         assertThat(stats.get("000660:1m")).contains("timestamp=2026-01-01T09:30");
     }
 
+    // ==================== 7. Timeframes / Async Writer ====================
+
+    @Test
+    @DisplayName("다중 타임프레임 설정 → 타임프레임별 바 동시 집계")
+    void testOnTick_MultipleTimeframes_AggregatesEach() {
+        // Given
+        ReflectionTestUtils.setField(barAggregator, "timeframes", "1m,5m");
+        barAggregator.init();
+
+        // When - 09:30~09:35 틱
+        for (int minute = 30; minute <= 35; minute++) {
+            barAggregator.onTick(createTick("005930", BigDecimal.valueOf(70000 + minute), 10L,
+                    LocalDateTime.of(2026, 1, 5, 9, minute, 0)));
+        }
+
+        // Then - 1분봉 5개 + 5분봉 1개(09:30) 닫힘
+        verify(barRepository, times(6)).save(barCaptor.capture());
+        assertThat(barCaptor.getAllValues())
+                .filteredOn(bar -> "5m".equals(bar.getTimeframe()))
+                .singleElement()
+                .satisfies(bar -> {
+                    assertThat(bar.getBarTimestamp()).isEqualTo(LocalDateTime.of(2026, 1, 5, 9, 30));
+                    assertThat(bar.getVolume()).isEqualTo(50L);
+                    assertThat(bar.getClose()).isEqualByComparingTo("70034");
+                });
+        assertThat(barAggregator.getStats()).containsKeys("005930:1m", "005930:5m");
+    }
+
+    @Test
+    @DisplayName("비동기 Writer 사용 시 → 닫힌 바는 큐에 넣고 직접 저장하지 않음")
+    void testCloseBar_WithAsyncWriter_Enqueues() {
+        // Given
+        AsyncBarWriter barWriter = mock(AsyncBarWriter.class);
+        BarAggregator asyncAggregator = new BarAggregator(barRepository, barCache, barWriter, new BarCloseBus());
+
+        // When
+        asyncAggregator.onTick(createTick("005930", BigDecimal.valueOf(70000), 100L,
+                LocalDateTime.of(2026, 1, 5, 9, 30, 10)));
+        asyncAggregator.onTick(createTick("005930", BigDecimal.valueOf(70100), 100L,
+                LocalDateTime.of(2026, 1, 5, 9, 31, 5)));
+
+        // Then
+        verify(barWriter, times(1)).enqueue(any());
+        verify(barRepository, never()).save(any());
+        verify(barCache, times(1)).put(any());
+    }
+
+    @Test
+    @DisplayName("바 마감 버스 연결 시 → 닫힌 바마다 BarClosed 발행")
+    void testCloseBar_PublishesBarClosed() {
+        // Given
+        BarCloseBus barCloseBus = new BarCloseBus();
+        List<BarClosed> events = new ArrayList<>();
+        barCloseBus.subscribe(events::add);
+        BarAggregator busAggregator = new BarAggregator(barRepository, barCache, null, barCloseBus);
+
+        // When - 09:30 bar closes on the 09:31 tick, 09:31 bar stays open
+        busAggregator.onTick(createTick("005930", BigDecimal.valueOf(70000), 100L,
+                LocalDateTime.of(2026, 1, 5, 9, 30, 10)));
+        busAggregator.onTick(createTick("005930", BigDecimal.valueOf(70100), 100L,
+                LocalDateTime.of(2026, 1, 5, 9, 31, 5)));
+
+        // Then
+        assertThat(events).hasSize(1);
+        BarClosed event = events.get(0);
+        assertThat(event.symbol()).isEqualTo("005930");
+        assertThat(event.timeframe()).isEqualTo("1m");
+        assertThat(event.bar().isClosed()).isTrue();
+        assertThat(event.bar().getBarTimestamp()).isEqualTo(LocalDateTime.of(2026, 1, 5, 9, 30));
+    }
+
     // ==================== Helper Methods ====================
 
     private MarketTick createTick(String symbol, BigDecimal price, long volume, LocalDateTime timestamp) {
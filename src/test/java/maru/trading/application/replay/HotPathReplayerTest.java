@@ -0,0 +1,220 @@
+package maru.trading.application.replay;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.application.orchestration.BarAggregator;
+import maru.trading.application.orchestration.BarCloseBus;
+import maru.trading.application.orchestration.SignalProcessingResult;
+import maru.trading.application.orchestration.TradingWorkflow;
+import maru.trading.application.ports.repo.BarRepository;
+import maru.trading.application.ports.repo.StrategyRepository;
+import maru.trading.application.scheduler.StrategyBarCloseDispatcher;
+import maru.trading.application.scheduler.StrategyScheduler;
+import maru.trading.application.usecase.strategy.ExecuteStrategyUseCase;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlanner;
+import maru.trading.broker.kis.marketdata.MarketDataCollector;
+import maru.trading.domain.market.MarketTick;
+import maru.trading.domain.shared.Environment;
+import maru.trading.domain.signal.Signal;
+import maru.trading.domain.signal.SignalType;
+import maru.trading.domain.strategy.Strategy;
+import maru.trading.infra.persistence.jpa.entity.StrategySymbolEntity;
+import maru.trading.infra.persistence.jpa.repository.StrategyJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.StrategySymbolJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static maru.trading.TestFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for HotPathReplayer.
+ *
+ * Ticks go through a real BarAggregator, BarCloseBus and
+ * StrategyBarCloseDispatcher; the collector, strategy evaluation and
+ * workflow are mocked.
+ */
+@DisplayName("HotPathReplayer Unit Tests")
+class HotPathReplayerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 5, 9, 0);
+
+    private MarketDataCollector collector;
+    private ExecuteStrategyUseCase executeStrategyUseCase;
+    private TradingWorkflow tradingWorkflow;
+    private StrategyScheduler strategyScheduler;
+    private StrategyBarCloseDispatcher dispatcher;
+    private HotPathReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BarCloseBus barCloseBus = new BarCloseBus();
+        BarAggregator barAggregator = new BarAggregator(mock(BarRepository.class), createBarCache(meterRegistry),
+                null, barCloseBus);
+        barAggregator.init();
+        collector = mock(MarketDataCollector.class);
+        doAnswer(invocation -> {
+            barAggregator.onTick(invocation.getArgument(0));
+            return null;
+        }).when(collector).onTick(any(MarketTick.class), anyLong());
+
+        // STR1 subscribed to RPL001 on ACC1
+        StrategyRepository strategyRepository = mock(StrategyRepository.class);
+        StrategySymbolJpaRepository strategySymbolRepository = mock(StrategySymbolJpaRepository.class);
+        when(strategyRepository.findActiveStrategies()).thenReturn(List.of(Strategy.builder()
+                .strategyId("STR1").name("STR1").status("ACTIVE").mode(Environment.PAPER)
+                .activeVersionId("VER_STR1").build()));
+        when(strategySymbolRepository.findActiveByStrategyId("STR1")).thenReturn(List.of(
+                StrategySymbolEntity.builder().strategySymbolId("SS1").strategyId("STR1").symbol("RPL001")
+                        .accountId("ACC1").isActive(true).createdAt(START).build()));
+        StrategyExecutionPlanner executionPlanner = createStrategyExecutionPlanner(strategyRepository,
+                strategySymbolRepository, mock(StrategyJpaRepository.class), meterRegistry);
+
+        executeStrategyUseCase = mock(ExecuteStrategyUseCase.class);
+        tradingWorkflow = mock(TradingWorkflow.class);
+        strategyScheduler = createStrategyScheduler(executionPlanner, executeStrategyUseCase,
+                createCircuitBreaker(meterRegistry));
+        dispatcher = new StrategyBarCloseDispatcher(barCloseBus, strategyScheduler, executionPlanner, meterRegistry);
+        replayer = new HotPathReplayer(collector, barAggregator, barCloseBus, dispatcher, tradingWorkflow);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+        strategyScheduler.shutdown();
+    }
+
+    @Nested
+    @DisplayName("run() Tests")
+    class RunTests {
+
+        @Test
+        @DisplayName("Should evaluate subscribed strategies once per bar close through the dispatcher")
+        void shouldDriveStrategiesOnBarClose() {
+            // Given - 3 minutes, 2 symbols, strategy subscribed to the first only
+            dispatcher.start();
+            SyntheticTickStream stream = stream(180, 2, 1);
+            Signal signal = Signal.builder().signalId("SIG1").signalType(SignalType.BUY).build();
+            when(executeStrategyUseCase.execute(anyString(), anyString(), anyString()))
+                    .thenReturn(signal)
+                    .thenReturn(null);
+            when(tradingWorkflow.processSignal(signal)).thenReturn(SignalProcessingResult.success("ORD1"));
+
+            // When
+            ReplayReport report = replayer.run(stream, ReplayOptions.builder().build());
+
+            // Then - 3 bars per symbol, the last ones closed at the end of the stream
+            assertThat(report.getTicks()).isEqualTo(720).isEqualTo(stream.size());
+            assertThat(report.getBarsClosed()).isEqualTo(6);
+            assertThat(report.getEvaluations()).isEqualTo(3);
+            assertThat(report.getSignals()).isEqualTo(1);
+            assertThat(report.getOrders()).isEqualTo(1);
+            assertThat(report.getStages()).containsOnlyKeys(
+                    "collect", "close-to-decision", "strategy", "workflow", "close-to-order");
+            assertThat(report.getStages().get("collect").getCount()).isEqualTo(720);
+            assertThat(report.getStages().get("close-to-decision").getCount()).isEqualTo(3);
+            assertThat(report.getStages().get("close-to-order").getCount()).isEqualTo(1);
+            assertThat(report.getThroughput()).isPositive();
+            assertThat(report.toSummary()).contains("ticks=720", "close-to-order", "gc:");
+
+            verify(collector, times(720)).onTick(any(MarketTick.class), anyLong());
+            verify(executeStrategyUseCase, times(3)).execute("STR1", "RPL001", "ACC1");
+            verifyNoMoreInteractions(executeStrategyUseCase);
+        }
+
+        @Test
+        @DisplayName("Should pace ticks at N x exchange time")
+        void shouldPaceAtSpeed() {
+            // Given - 60 seconds of ticks at 60x = about one second
+            dispatcher.start();
+            SyntheticTickStream stream = stream(60, 1, 1);
+
+            // When
+            ReplayReport report = replayer.run(stream, ReplayOptions.builder().speed(60).build());
+
+            // Then
+            assertThat(report.getElapsedMillis()).isGreaterThanOrEqualTo(950);
+            assertThat(report.getSpeed()).isEqualTo(60);
+        }
+
+        @Test
+        @DisplayName("Should refuse to run when bar-close dispatch is inactive")
+        void shouldRequireActiveDispatcher() {
+            // Given
+            ReflectionTestUtils.setField(strategyScheduler, "trigger", StrategyScheduler.Trigger.CRON);
+            dispatcher.start();
+
+            // When / Then
+            assertThatThrownBy(() -> replayer.run(stream(60, 1, 1), ReplayOptions.builder().build()))
+                    .isInstanceOf(IllegalStateException.class);
+            verifyNoInteractions(collector);
+        }
+    }
+
+    @Nested
+    @DisplayName("SyntheticTickStream Tests")
+    class SyntheticTickStreamTests {
+
+        @Test
+        @DisplayName("Should produce the same stream for the same seed")
+        void shouldBeDeterministic() {
+            // Given
+            SyntheticTickStream stream = stream(30, 2, 10);
+
+            // When
+            List<MarketTick> first = new ArrayList<>();
+            List<MarketTick> second = new ArrayList<>();
+            stream.replay((tick, nanos) -> first.add(tick));
+            stream.replay((tick, nanos) -> second.add(tick));
+
+            // Then
+            assertThat(first).hasSize((int) stream.size());
+            assertThat(first).extracting(MarketTick::getPrice).containsExactlyElementsOf(
+                    second.stream().map(MarketTick::getPrice).toList());
+            assertThat(first).extracting(MarketTick::getTimestamp).isSorted();
+            assertThat(first).allSatisfy(tick -> assertThat(tick.getPrice()).isGreaterThan(BigDecimal.ZERO));
+        }
+
+        @Test
+        @DisplayName("Should burst at the open and decay to the base rate")
+        void shouldBurstAtOpen() {
+            // Given
+            SyntheticTickStream stream = stream(120, 1, 10);
+
+            // Then
+            assertThat(stream.ratePerSymbol(0)).isEqualTo(20);
+            assertThat(stream.ratePerSymbol(30)).isBetween(2, 20);
+            assertThat(stream.ratePerSymbol(60)).isEqualTo(2);
+            assertThat(stream.ratePerSymbol(119)).isEqualTo(2);
+        }
+    }
+
+    private static SyntheticTickStream stream(int seconds, int symbols, int burstMultiplier) {
+        List<String> symbolList = new ArrayList<>();
+        for (int i = 1; i <= symbols; i++) {
+            symbolList.add(String.format("RPL%03d", i));
+        }
+        return SyntheticTickStream.builder()
+                .symbols(symbolList)
+                .start(START)
+                .durationSeconds(seconds)
+                .baseRate(2)
+                .burstMultiplier(burstMultiplier)
+                .burstSeconds(60)
+                .build();
+    }
+}
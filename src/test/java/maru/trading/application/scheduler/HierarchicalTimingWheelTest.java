@@ -0,0 +1,91 @@
+package maru.trading.application.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for HierarchicalTimingWheel.
+ *
+ * Wheels of 8 slots × 3 levels with 10ms ticks: level 0 covers 80ms,
+ * level 1 640ms, level 2 5120ms.
+ */
+@DisplayName("HierarchicalTimingWheel Unit Tests")
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000;
+
+    @Test
+    @DisplayName("Should fire items on the first tick at or after their deadline")
+    void shouldFireOnDeadlineTick() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START);
+        wheel.schedule(START + 30, "a");
+        wheel.schedule(START + 35, "b");
+
+        // When & Then
+        assertThat(wheel.advance(START + 29)).isEmpty();
+        assertThat(wheel.advance(START + 30)).containsExactly("a");
+        assertThat(wheel.advance(START + 39)).isEmpty();
+        assertThat(wheel.advance(START + 40)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should cascade items through every level without firing early or late")
+    void shouldCascadeAcrossLevels() {
+        // Given - deadlines up to the top level's span and beyond
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START);
+        Random random = new Random(3);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            long deadline = START + 10 + random.nextInt(12_000);
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+
+        // When - advance in uneven steps
+        List<Long> fired = new ArrayList<>();
+        long now = START;
+        while (now < START + 13_000) {
+            long previous = now;
+            now += 1 + random.nextInt(40);
+            for (long deadline : wheel.advance(now)) {
+                // Then - due by now, and not yet due a tick before the previous advance
+                assertThat(deadline).isLessThanOrEqualTo(now);
+                assertThat(deadline).isGreaterThan(previous - 10);
+                fired.add(deadline);
+            }
+        }
+
+        assertThat(fired).containsExactlyInAnyOrderElementsOf(deadlines);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fire past deadlines on the next tick")
+    void shouldFirePastDeadlinesNextTick() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START);
+        wheel.schedule(START - 500, "late");
+
+        // When & Then
+        assertThat(wheel.advance(START + 10)).containsExactly("late");
+        assertThat(wheel.getSpanMillis()).isEqualTo(5120);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid geometry")
+    void shouldRejectInvalidGeometry() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<>(0, 8, 3, START))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<>(10, 1, 3, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
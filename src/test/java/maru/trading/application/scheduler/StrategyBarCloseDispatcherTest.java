@@ -0,0 +1,300 @@
+package maru.trading.application.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.application.orchestration.BarCloseBus;
+import maru.trading.application.orchestration.BarClosed;
+import maru.trading.application.ports.repo.StrategyRepository;
+import maru.trading.application.usecase.strategy.ExecuteStrategyUseCase;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlan;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlanner;
+import maru.trading.domain.market.MarketBar;
+import maru.trading.infra.persistence.jpa.repository.StrategyJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.StrategySymbolJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static maru.trading.TestFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StrategyBarCloseDispatcher.
+ *
+ * Verifies:
+ * - Bar closes are routed only to strategies subscribed to the bar's symbol and timeframe
+ *   (the timeframe of the strategy's bar-close cadence, 1m by default)
+ * - The scheduler's runtime switch and the CRON trigger disable dispatch
+ * - Bar close to evaluation latency is recorded
+ * - Targets run on the scheduler's evaluation pool: accounts in parallel,
+ *   one account's bar closes in order, a strategy×symbol still evaluating
+ *   the previous bar skipped
+ */
+@DisplayName("StrategyBarCloseDispatcher Unit Tests")
+class StrategyBarCloseDispatcherTest {
+
+    private StrategyRepository strategyRepository;
+    private StrategySymbolJpaRepository strategySymbolRepository;
+    private ExecuteStrategyUseCase executeStrategyUseCase;
+    private StrategyScheduler strategyScheduler;
+    private BarCloseBus barCloseBus;
+    private SimpleMeterRegistry meterRegistry;
+    private StrategyBarCloseDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        strategyRepository = mock(StrategyRepository.class);
+        strategySymbolRepository = mock(StrategySymbolJpaRepository.class);
+        executeStrategyUseCase = mock(ExecuteStrategyUseCase.class);
+        meterRegistry = new SimpleMeterRegistry();
+        StrategyExecutionPlanner executionPlanner = createStrategyExecutionPlanner(strategyRepository,
+                strategySymbolRepository, mock(StrategyJpaRepository.class), meterRegistry);
+        strategyScheduler = createStrategyScheduler(executionPlanner, executeStrategyUseCase,
+                createCircuitBreaker(meterRegistry));
+        barCloseBus = new BarCloseBus();
+        dispatcher = new StrategyBarCloseDispatcher(barCloseBus, strategyScheduler, executionPlanner,
+                meterRegistry);
+
+        given(strategyRepository.findActiveStrategies()).willReturn(List.of(
+                createActiveStrategy("STR_001", "STR_001"), createActiveStrategy("STR_002", "STR_002")));
+        given(strategySymbolRepository.findActiveByStrategyId("STR_001")).willReturn(List.of(
+                createStrategySymbol("STR_001", "000660", "ACC_001"), createStrategySymbol("STR_001", "035420", "ACC_001")));
+        given(strategySymbolRepository.findActiveByStrategyId("STR_002")).willReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+        strategyScheduler.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Routing")
+    class Routing {
+
+        @Test
+        @DisplayName("Should evaluate only strategies subscribed to the closed bar's symbol")
+        void shouldEvaluateOnlyMatchingSubscriptions() throws Exception {
+            // Given
+            dispatcher.start();
+
+            // When
+            barCloseBus.publish(barClosed("000660", "1m"));
+
+            // Then
+            waitUntil(() -> dispatcher.getStatus().evaluations() == 1);
+            verify(executeStrategyUseCase).execute("STR_001", "000660", "ACC_001");
+            verifyNoMoreInteractions(executeStrategyUseCase);
+        }
+
+        @Test
+        @DisplayName("Should fall back to the default symbol for strategies without mappings")
+        void shouldSubscribeDefaultSymbolWithoutMappings() {
+            // When
+            dispatcher.start();
+
+            // Then
+            assertThat(dispatcher.getSubscriptions(StrategyScheduler.DEFAULT_SYMBOL, "1m"))
+                    .containsExactly(new StrategyExecutionPlan.Target(
+                            "STR_002", StrategyScheduler.DEFAULT_SYMBOL, StrategyScheduler.DEFAULT_ACCOUNT_ID));
+            assertThat(dispatcher.getStatus().subscriptions()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should ignore timeframes other than 1m and unsubscribed symbols")
+        void shouldIgnoreUnsubscribedBars() throws Exception {
+            // Given
+            dispatcher.start();
+
+            // When
+            barCloseBus.publish(barClosed("000660", "5m"));
+            barCloseBus.publish(barClosed("035720", "1m"));
+            Thread.sleep(50);
+
+            // Then
+            assertThat(dispatcher.getStatus().dispatched()).isZero();
+            verifyNoInteractions(executeStrategyUseCase);
+        }
+
+        @Test
+        @DisplayName("Should route strategies to the timeframe of their bar-close cadence")
+        void shouldRouteByCadenceTimeframe() throws Exception {
+            // Given - STR_001 evaluated on 5-minute bars, STR_002 every 10 seconds
+            given(strategyRepository.findVersionById("VER_STR_001")).willReturn(Optional.of(
+                    createStrategyVersion("STR_001", "{\"cadence\":\"bar:5m\"}")));
+            given(strategyRepository.findVersionById("VER_STR_002")).willReturn(Optional.of(
+                    createStrategyVersion("STR_002", "{\"cadence\":\"every:10s\"}")));
+            dispatcher.start();
+
+            // When
+            barCloseBus.publish(barClosed("000660", "1m"));
+            barCloseBus.publish(barClosed(StrategyScheduler.DEFAULT_SYMBOL, "1m"));
+            barCloseBus.publish(barClosed("000660", "5m"));
+
+            // Then
+            waitUntil(() -> dispatcher.getStatus().evaluations() == 1);
+            verify(executeStrategyUseCase).execute("STR_001", "000660", "ACC_001");
+            verifyNoMoreInteractions(executeStrategyUseCase);
+            assertThat(dispatcher.getSubscriptions("035420", "5m")).hasSize(1);
+            assertThat(dispatcher.getStatus().subscriptions()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should not dispatch while the scheduler is disabled")
+        void shouldSkipWhenSchedulerDisabled() throws Exception {
+            // Given
+            dispatcher.start();
+            strategyScheduler.setEnabled(false);
+
+            // When
+            barCloseBus.publish(barClosed("005930", "1m"));
+            Thread.sleep(50);
+
+            // Then
+            assertThat(dispatcher.getStatus().dispatched()).isZero();
+            verifyNoInteractions(executeStrategyUseCase);
+        }
+
+        @Test
+        @DisplayName("Should stay inactive when the trigger is CRON")
+        void shouldStayInactiveOnCronTrigger() {
+            // Given
+            ReflectionTestUtils.setField(strategyScheduler, "trigger", StrategyScheduler.Trigger.CRON);
+
+            // When
+            dispatcher.start();
+
+            // Then
+            assertThat(dispatcher.getStatus().active()).isFalse();
+            assertThat(barCloseBus.hasListeners()).isFalse();
+            verifyNoInteractions(strategyRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics and evaluation pool")
+    class MetricsAndEvaluationPool {
+
+        @Test
+        @DisplayName("Should record bar close to evaluation latency")
+        void shouldRecordLatency() throws Exception {
+            // Given
+            dispatcher.start();
+
+            // When
+            barCloseBus.publish(barClosed("035420", "1m"));
+
+            // Then
+            waitUntil(() -> dispatcher.getStatus().evaluations() == 1);
+            waitUntil(() -> meterRegistry.get("strategy.barclose.latency").tag("signal", "false").timer().count() == 1);
+        }
+
+        @Test
+        @DisplayName("Should skip a strategy×symbol still evaluating the previous bar close")
+        void shouldSkipPairStillRunning() throws Exception {
+            // Given - evaluation blocked
+            CountDownLatch release = new CountDownLatch(1);
+            given(executeStrategyUseCase.execute(anyString(), anyString(), anyString())).willAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            });
+            dispatcher.start();
+
+            // When - the next bar closes while the first is still being evaluated
+            barCloseBus.publish(barClosed("005930", "1m"));
+            waitUntil(() -> mockingDetails(executeStrategyUseCase).getInvocations().size() == 1);
+            barCloseBus.publish(barClosed("005930", "1m"));
+            waitUntil(() -> dispatcher.getStatus().skipped() == 1);
+            release.countDown();
+
+            // Then
+            assertThat(dispatcher.awaitIdle(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(dispatcher.getStatus().dispatched()).isEqualTo(2);
+            assertThat(dispatcher.getStatus().evaluations()).isEqualTo(1);
+            assertThat(dispatcher.getStatus().rejected()).isZero();
+            verify(executeStrategyUseCase).execute(anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should evaluate different accounts in parallel")
+        void shouldEvaluateAccountsInParallel() throws Exception {
+            // Given - each evaluation waits until both accounts are running
+            given(strategySymbolRepository.findActiveByStrategyId("STR_001")).willReturn(List.of(
+                    createStrategySymbol("STR_001", "000660", "ACC_001"), createStrategySymbol("STR_001", "000660", "ACC_002")));
+            CountDownLatch running = new CountDownLatch(2);
+            given(executeStrategyUseCase.execute(anyString(), anyString(), anyString())).willAnswer(invocation -> {
+                running.countDown();
+                running.await(5, TimeUnit.SECONDS);
+                return null;
+            });
+            dispatcher.start();
+
+            // When
+            barCloseBus.publish(barClosed("000660", "1m"));
+
+            // Then
+            assertThat(dispatcher.awaitIdle(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(running.getCount()).isZero();
+            assertThat(dispatcher.getStatus().evaluations()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should evaluate one account's bar closes on different symbols one after another")
+        void shouldSerializeAccountAcrossBarCloses() throws Exception {
+            // Given - STR_001 trades 000660 and 035420 on ACC_001; each evaluation takes a while
+            AtomicInteger active = new AtomicInteger();
+            AtomicInteger maxActive = new AtomicInteger();
+            List<String> order = Collections.synchronizedList(new ArrayList<>());
+            given(executeStrategyUseCase.execute(anyString(), anyString(), anyString())).willAnswer(invocation -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                order.add(invocation.getArgument(1));
+                Thread.sleep(50);
+                active.decrementAndGet();
+                return null;
+            });
+            dispatcher.start();
+
+            // When - two separate bar close events
+            barCloseBus.publish(barClosed("000660", "1m"));
+            barCloseBus.publish(barClosed("035420", "1m"));
+
+            // Then
+            waitUntil(() -> dispatcher.getStatus().evaluations() == 2);
+            assertThat(maxActive).hasValue(1);
+            assertThat(order).containsExactly("000660", "035420");
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private BarClosed barClosed(String symbol, String timeframe) {
+        BigDecimal price = BigDecimal.valueOf(70000);
+        MarketBar bar = MarketBar.restore(symbol, timeframe, LocalDateTime.of(2026, 1, 5, 9, 30),
+                price, price, price, price, 100L, true);
+        return new BarClosed(bar, System.nanoTime());
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
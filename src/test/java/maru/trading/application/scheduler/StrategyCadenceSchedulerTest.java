@@ -0,0 +1,256 @@
+package maru.trading.application.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.application.ports.repo.StrategyRepository;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlan.Target;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlanner;
+import maru.trading.domain.strategy.StrategyCadence;
+import maru.trading.infra.config.MarketHoursConfig;
+import maru.trading.infra.persistence.jpa.repository.StrategyJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.StrategySymbolJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static maru.trading.TestFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StrategyCadenceScheduler.
+ *
+ * Driven through tick() with a manual clock; no ticker thread is started.
+ */
+@DisplayName("StrategyCadenceScheduler Unit Tests")
+class StrategyCadenceSchedulerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final List<Target> STR_001_TARGETS = List.of(new Target("STR_001", "005930", "ACC_001"));
+
+    private StrategyRepository strategyRepository;
+    private StrategySymbolJpaRepository strategySymbolRepository;
+    private StrategyExecutionPlanner executionPlanner;
+    private StrategyScheduler strategyScheduler;
+    private ManualClock clock;
+    private StrategyCadenceScheduler cadenceScheduler;
+
+    @BeforeEach
+    void setUp() {
+        strategyRepository = mock(StrategyRepository.class);
+        strategySymbolRepository = mock(StrategySymbolJpaRepository.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        executionPlanner = createStrategyExecutionPlanner(strategyRepository, strategySymbolRepository,
+                mock(StrategyJpaRepository.class), meterRegistry);
+        strategyScheduler = mock(StrategyScheduler.class);
+        given(strategyScheduler.getTrigger()).willReturn(StrategyScheduler.Trigger.BAR_CLOSE);
+        given(strategyScheduler.dispatch(anyList())).willAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        clock = new ManualClock(LocalDateTime.of(2025, 1, 2, 10, 0)); // Thursday
+        cadenceScheduler = new StrategyCadenceScheduler(strategyScheduler, executionPlanner, new MarketHoursConfig(),
+                meterRegistry, clock);
+        ReflectionTestUtils.setField(cadenceScheduler, "tickMillis", 100L);
+        ReflectionTestUtils.setField(cadenceScheduler, "jitterMillis", 5000L);
+
+        given(strategyRepository.findActiveStrategies()).willReturn(List.of(createActiveStrategy("STR_001", "STR_001"), createActiveStrategy("STR_002", "STR_002")));
+        given(strategySymbolRepository.findActiveByStrategyId("STR_001")).willReturn(List.of(
+                createStrategySymbol("STR_001", "005930", "ACC_001")));
+        given(strategySymbolRepository.findActiveByStrategyId("STR_002")).willReturn(List.of());
+        given(strategyRepository.findVersionById("VER_STR_002")).willReturn(Optional.of(createStrategyVersion("STR_002", "{}")));
+    }
+
+    private void useCadence(String cadence) {
+        given(strategyRepository.findVersionById("VER_STR_001")).willReturn(Optional.of(
+                createStrategyVersion("STR_001", "{\"cadence\":\"" + cadence + "\"}")));
+        executionPlanner.invalidate("test");
+        executionPlanner.current();
+    }
+
+    @Nested
+    @DisplayName("Firing")
+    class Firing {
+
+        @Test
+        @DisplayName("Should fire an interval strategy every period at its offset")
+        void shouldFireIntervalStrategy() {
+            // Given
+            useCadence("every:10s");
+            long offset = cadenceScheduler.offsetOf("STR_001", StrategyCadence.every(10));
+            cadenceScheduler.init();
+            cadenceScheduler.tick();
+
+            // When & Then - nothing before 10:00:10 + offset, fired on the next 100ms tick
+            clock.set(LocalDateTime.of(2025, 1, 2, 10, 0, 10).plusNanos((offset - 1) * 1_000_000));
+            cadenceScheduler.tick();
+            verify(strategyScheduler, never()).dispatch(anyList());
+
+            clock.set(LocalDateTime.of(2025, 1, 2, 10, 0, 10).plusNanos((offset + 100) * 1_000_000));
+            cadenceScheduler.tick();
+            verify(strategyScheduler, times(1)).dispatch(STR_001_TARGETS);
+
+            clock.set(LocalDateTime.of(2025, 1, 2, 10, 0, 20).plusNanos((offset + 100) * 1_000_000));
+            cadenceScheduler.tick();
+            verify(strategyScheduler, times(2)).dispatch(STR_001_TARGETS);
+
+            StrategyCadenceScheduler.CadenceStatus status = cadenceScheduler.getStatus();
+            assertThat(status.fired()).isEqualTo(2);
+            assertThat(status.dispatched()).isEqualTo(2);
+            assertThat(status.jobs()).singleElement().satisfies(job -> {
+                assertThat(job.strategyId()).isEqualTo("STR_001");
+                assertThat(job.cadence()).isEqualTo("every:10s");
+                assertThat(job.nominalTime()).isEqualTo(LocalDateTime.of(2025, 1, 2, 10, 0, 30));
+            });
+        }
+
+        @Test
+        @DisplayName("Should fire a session-open strategy at the next opening")
+        void shouldFireAtSessionOpen() {
+            // Given
+            clock.set(LocalDateTime.of(2025, 1, 2, 8, 0));
+            useCadence("session-open");
+            cadenceScheduler.init();
+            cadenceScheduler.tick();
+
+            // When
+            clock.set(LocalDateTime.of(2025, 1, 2, 9, 0, 6));
+            cadenceScheduler.tick();
+
+            // Then
+            verify(strategyScheduler).dispatch(STR_001_TARGETS);
+            assertThat(cadenceScheduler.getStatus().jobs().get(0).nominalTime())
+                    .isEqualTo(LocalDateTime.of(2025, 1, 3, 9, 0));
+        }
+
+        @Test
+        @DisplayName("Should not catch up on times missed while stalled")
+        void shouldNotCatchUpMissedTimes() {
+            // Given
+            useCadence("every:10s");
+            cadenceScheduler.init();
+            cadenceScheduler.tick();
+
+            // When - one minute without ticks
+            clock.set(LocalDateTime.of(2025, 1, 2, 10, 1, 10));
+            cadenceScheduler.tick();
+
+            // Then - fired once, next time after now
+            verify(strategyScheduler, times(1)).dispatch(STR_001_TARGETS);
+            assertThat(cadenceScheduler.getStatus().jobs().get(0).nominalTime())
+                    .isAfter(LocalDateTime.of(2025, 1, 2, 10, 1, 10));
+        }
+    }
+
+    @Nested
+    @DisplayName("Plan changes and spreading")
+    class PlanChanges {
+
+        @Test
+        @DisplayName("Should leave bar-close strategies to the dispatcher")
+        void shouldIgnoreBarCloseStrategies() {
+            // Given
+            useCadence("bar:5m");
+            cadenceScheduler.init();
+
+            // When
+            cadenceScheduler.tick();
+
+            // Then
+            assertThat(cadenceScheduler.getJobCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should cancel a strategy whose cadence is no longer timed")
+        void shouldCancelChangedStrategy() {
+            // Given
+            useCadence("every:10s");
+            cadenceScheduler.init();
+            cadenceScheduler.tick();
+            assertThat(cadenceScheduler.getJobCount()).isEqualTo(1);
+
+            // When
+            useCadence("bar:1m");
+            cadenceScheduler.tick();
+            clock.set(LocalDateTime.of(2025, 1, 2, 10, 0, 20));
+            cadenceScheduler.tick();
+
+            // Then
+            assertThat(cadenceScheduler.getJobCount()).isZero();
+            verify(strategyScheduler, never()).dispatch(anyList());
+        }
+
+        @Test
+        @DisplayName("Should spread strategies sharing a cadence over the jitter window")
+        void shouldSpreadOffsets() {
+            // Given
+            Set<Long> offsets = new HashSet<>();
+
+            // When
+            for (int i = 0; i < 200; i++) {
+                long offset = cadenceScheduler.offsetOf("STR_" + i, StrategyCadence.every(60));
+                assertThat(offset).isBetween(0L, 4999L);
+                offsets.add(offset / 500);
+            }
+
+            // Then - every tenth of the window used; short intervals use at most half the period
+            assertThat(offsets).hasSize(10);
+            assertThat(cadenceScheduler.offsetOf("STR_1", StrategyCadence.every(2))).isLessThan(1000);
+        }
+
+        @Test
+        @DisplayName("Should stay inactive when the trigger is CRON")
+        void shouldStayInactiveOnCronTrigger() {
+            // Given
+            given(strategyScheduler.getTrigger()).willReturn(StrategyScheduler.Trigger.CRON);
+
+            // When
+            cadenceScheduler.start();
+
+            // Then
+            assertThat(cadenceScheduler.getStatus().active()).isFalse();
+            cadenceScheduler.stop();
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+
+
+
+    private static final class ManualClock extends Clock {
+        private Instant instant;
+
+        ManualClock(LocalDateTime time) {
+            set(time);
+        }
+
+        void set(LocalDateTime time) {
+            instant = time.atZone(ZONE).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package maru.trading.application.scheduler;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import maru.trading.application.ports.repo.StrategyRepository;
 import maru.trading.application.usecase.strategy.ExecuteStrategyUseCase;
+import maru.trading.application.usecase.strategy.StrategyCircuitBreaker;
 import maru.trading.domain.shared.Environment;
 import maru.trading.domain.signal.Signal;
 import maru.trading.domain.signal.SignalType;
 import maru.trading.domain.strategy.Strategy;
 import maru.trading.infra.persistence.jpa.entity.StrategySymbolEntity;
+import maru.trading.infra.persistence.jpa.repository.StrategyJpaRepository;
 import maru.trading.infra.persistence.jpa.repository.StrategySymbolJpaRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,17 +19,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static maru.trading.TestFixtures.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.groups.Tuple.tuple;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -41,6 +50,7 @@ import static org.mockito.Mockito.*;
  * - Fallback to default symbol when no mappings exist
  * - Error handling for individual strategy failures
  * - Manual trigger functionality
+ * - Concurrent evaluation: per-account ordering, run deadline, skip-if-running, per-pair timing
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("StrategyScheduler Unit Tests")
@@ -55,7 +65,6 @@ class StrategySchedulerTest {
     @Mock
     private ExecuteStrategyUseCase executeStrategyUseCase;
 
-    @InjectMocks
     private StrategyScheduler strategyScheduler;
 
     @Captor
@@ -71,8 +80,19 @@ class StrategySchedulerTest {
     private Strategy activeStrategy2;
     private Strategy inactiveStrategy;
 
+    @AfterEach
+    void tearDown() {
+        strategyScheduler.shutdown();
+    }
+
     @BeforeEach
     void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        strategyScheduler = createStrategyScheduler(
+                createStrategyExecutionPlanner(strategyRepository, strategySymbolRepository,
+                        mock(StrategyJpaRepository.class), meterRegistry),
+                executeStrategyUseCase, createCircuitBreaker(meterRegistry));
+
         activeStrategy1 = Strategy.builder()
                 .strategyId("STR_001")
                 .name("MA Crossover")
@@ -164,8 +184,17 @@ class StrategySchedulerTest {
             );
 
             assertThat(strategyIdCaptor.getAllValues()).containsOnly("STR_001");
-            assertThat(symbolCaptor.getAllValues()).containsExactly("005930", "035420", "000660");
-            assertThat(accountIdCaptor.getAllValues()).containsExactly("ACC_001", "ACC_001", "ACC_002");
+            assertThat(symbolCaptor.getAllValues()).containsExactlyInAnyOrder("005930", "035420", "000660");
+            assertThat(accountIdCaptor.getAllValues()).containsExactlyInAnyOrder("ACC_001", "ACC_001", "ACC_002");
+
+            // Same account keeps mapping order
+            List<String> acc001Symbols = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                if (accountIdCaptor.getAllValues().get(i).equals("ACC_001")) {
+                    acc001Symbols.add(symbolCaptor.getAllValues().get(i));
+                }
+            }
+            assertThat(acc001Symbols).containsExactly("005930", "035420");
         }
 
         @Test
@@ -269,6 +298,173 @@ class StrategySchedulerTest {
         }
     }
 
+    @Nested
+    @DisplayName("executeStrategies() - Concurrent Evaluation")
+    class ConcurrentEvaluationTests {
+
+        @Test
+        @DisplayName("Should evaluate accounts in parallel and keep order within an account")
+        void shouldRunAccountsInParallelWithPerAccountOrder() {
+            // Given - ACC_001's first pair only finishes once ACC_002's pair has started
+            given(strategyRepository.findActiveStrategies()).willReturn(List.of(activeStrategy1));
+            given(strategySymbolRepository.findActiveByStrategyId("STR_001")).willReturn(List.of(
+                    createStrategySymbolEntity("STR_001", "005930", "ACC_001"),
+                    createStrategySymbolEntity("STR_001", "035420", "ACC_001"),
+                    createStrategySymbolEntity("STR_001", "000660", "ACC_002")));
+
+            CountDownLatch acc002Started = new CountDownLatch(1);
+            List<String> acc001Order = Collections.synchronizedList(new ArrayList<>());
+            given(executeStrategyUseCase.execute(anyString(), anyString(), anyString())).willAnswer(invocation -> {
+                String symbol = invocation.getArgument(1);
+                if (invocation.getArgument(2).equals("ACC_002")) {
+                    acc002Started.countDown();
+                } else {
+                    if (symbol.equals("005930")) {
+                        assertThat(acc002Started.await(5, TimeUnit.SECONDS)).isTrue();
+                    }
+                    acc001Order.add(symbol);
+                }
+                return null;
+            });
+
+            // When
+            strategyScheduler.executeStrategies();
+
+            // Then
+            assertThat(acc001Order).containsExactly("005930", "035420");
+            assertThat(strategyScheduler.getStatus().lastRunPairs())
+                    .extracting(StrategyScheduler.PairTiming::outcome)
+                    .containsOnly(StrategyScheduler.PairOutcome.NO_SIGNAL);
+        }
+
+        @Test
+        @DisplayName("Should report per-pair timing in status")
+        void shouldReportPairTiming() {
+            // Given
+            given(strategyRepository.findActiveStrategies()).willReturn(List.of(activeStrategy1, activeStrategy2));
+            given(strategySymbolRepository.findActiveByStrategyId(anyString())).willReturn(Collections.emptyList());
+            given(executeStrategyUseCase.execute("STR_001", "005930", "ACC_DEMO_001"))
+                    .willReturn(Signal.builder().signalId("SIG_001").signalType(SignalType.BUY).build());
+            doThrow(new RuntimeException("boom"))
+                    .when(executeStrategyUseCase).execute("STR_002", "005930", "ACC_DEMO_001");
+
+            // When
+            strategyScheduler.executeStrategies();
+
+            // Then
+            StrategyScheduler.SchedulerStatus status = strategyScheduler.getStatus();
+            assertThat(status.lastRunPairs()).hasSize(2);
+            assertThat(status.lastRunPairs()).extracting(StrategyScheduler.PairTiming::strategyId,
+                            StrategyScheduler.PairTiming::outcome)
+                    .containsExactly(
+                            tuple("STR_001", StrategyScheduler.PairOutcome.SIGNAL),
+                            tuple("STR_002", StrategyScheduler.PairOutcome.ERROR));
+            assertThat(status.lastRunPairs()).allSatisfy(timing ->
+                    assertThat(timing.durationMillis()).isGreaterThanOrEqualTo(0));
+            assertThat(status.errorCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should stop at the run deadline and skip pairs not started")
+        void shouldSkipPairsAfterDeadline() {
+            // Given - first pair of the only lane outlives the deadline
+            ReflectionTestUtils.setField(strategyScheduler, "deadlineMillis", 200L);
+            given(strategyRepository.findActiveStrategies()).willReturn(List.of(activeStrategy1));
+            given(strategySymbolRepository.findActiveByStrategyId("STR_001")).willReturn(List.of(
+                    createStrategySymbolEntity("STR_001", "005930", "ACC_001"),
+                    createStrategySymbolEntity("STR_001", "035420", "ACC_001")));
+            CountDownLatch release = new CountDownLatch(1);
+            given(executeStrategyUseCase.execute("STR_001", "005930", "ACC_001")).willAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            });
+
+            try {
+                // When
+                long start = System.nanoTime();
+                strategyScheduler.executeStrategies();
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                // Then
+                assertThat(elapsedMillis).isLessThan(2000);
+                assertThat(strategyScheduler.getStatus().lastRunPairs())
+                        .extracting(StrategyScheduler.PairTiming::outcome)
+                        .containsExactly(StrategyScheduler.PairOutcome.DEADLINE_MISSED,
+                                StrategyScheduler.PairOutcome.DEADLINE_MISSED);
+                assertThat(strategyScheduler.getStatus().errorCount()).isEqualTo(1);
+
+                // Next run: both pairs are still in flight on the account's lane (one running, one queued)
+                strategyScheduler.executeStrategies();
+                assertThat(strategyScheduler.getStatus().lastRunPairs())
+                        .extracting(StrategyScheduler.PairTiming::outcome)
+                        .containsExactly(StrategyScheduler.PairOutcome.SKIPPED_RUNNING,
+                                StrategyScheduler.PairOutcome.SKIPPED_RUNNING);
+            } finally {
+                release.countDown();
+            }
+            verify(executeStrategyUseCase, times(1)).execute("STR_001", "005930", "ACC_001");
+        }
+
+        @Test
+        @DisplayName("Should skip a run while the previous run is still going")
+        void shouldSkipOverlappingRun() throws Exception {
+            // Given - first run blocked inside evaluation
+            given(strategyRepository.findActiveStrategies()).willReturn(List.of(activeStrategy1));
+            given(strategySymbolRepository.findActiveByStrategyId("STR_001")).willReturn(Collections.emptyList());
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            given(executeStrategyUseCase.execute(anyString(), anyString(), anyString())).willAnswer(invocation -> {
+                entered.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            });
+            Thread firstRun = new Thread(strategyScheduler::executeStrategies);
+            firstRun.start();
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            strategyScheduler.executeStrategies();
+            release.countDown();
+            firstRun.join(5000);
+
+            // Then
+            assertThat(strategyScheduler.getStatus().skippedRunCount()).isEqualTo(1);
+            assertThat(strategyScheduler.getStatus().executionCount()).isEqualTo(1);
+            verify(executeStrategyUseCase, times(1)).execute(anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should skip strategies suspended by the circuit breaker until resumed")
+        void shouldSkipSuspendedStrategy() {
+            // Given - STR_002 failed every recent evaluation
+            given(strategyRepository.findActiveStrategies()).willReturn(List.of(activeStrategy1, activeStrategy2));
+            given(strategySymbolRepository.findActiveByStrategyId(anyString())).willReturn(Collections.emptyList());
+            for (int i = 0; i < 5; i++) {
+                strategyScheduler.getCircuitBreaker().record("STR_002", 1_000_000, true);
+            }
+
+            // When
+            strategyScheduler.executeStrategies();
+
+            // Then
+            assertThat(strategyScheduler.getStatus().lastRunPairs())
+                    .extracting(StrategyScheduler.PairTiming::outcome)
+                    .containsExactly(StrategyScheduler.PairOutcome.NO_SIGNAL,
+                            StrategyScheduler.PairOutcome.SUSPENDED);
+            assertThat(strategyScheduler.getStatus().errorCount()).isZero();
+            assertThat(strategyScheduler.getStrategyHealth())
+                    .extracting(StrategyCircuitBreaker.StrategyHealth::strategyId,
+                            StrategyCircuitBreaker.StrategyHealth::state)
+                    .containsExactly(tuple("STR_002", StrategyCircuitBreaker.State.SUSPENDED));
+            verify(executeStrategyUseCase, never()).execute(eq("STR_002"), anyString(), anyString());
+
+            // After resume it runs again
+            assertThat(strategyScheduler.resumeStrategy("STR_002")).isTrue();
+            strategyScheduler.executeStrategies();
+            verify(executeStrategyUseCase, times(1)).execute(eq("STR_002"), anyString(), anyString());
+        }
+    }
+
     @Nested
     @DisplayName("triggerManually() - Manual Execution")
     class TriggerManuallyTests {
@@ -0,0 +1,187 @@
+package maru.trading.application.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.application.ports.repo.BarRepository;
+import maru.trading.application.ports.repo.StrategyRepository;
+import maru.trading.application.usecase.strategy.LoadStrategyContextUseCase;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlanner;
+import maru.trading.application.usecase.strategy.StrategyInstanceRegistry;
+import maru.trading.domain.market.BarResampler;
+import maru.trading.domain.market.MarketBar;
+import maru.trading.infra.cache.BarCache;
+import maru.trading.infra.persistence.jpa.repository.StrategyJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.StrategySymbolJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static maru.trading.TestFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StrategyWarmUpRunner.
+ *
+ * Uses a real plan, bar cache, context loader and instance registry over
+ * mocked repositories.
+ */
+@DisplayName("StrategyWarmUpRunner Unit Tests")
+class StrategyWarmUpRunnerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 5, 9, 0);
+    private static final String MA_PARAMS = "{\"shortPeriod\":5,\"longPeriod\":20}";
+
+    private StrategyRepository strategyRepository;
+    private StrategySymbolJpaRepository strategySymbolRepository;
+    private BarRepository barRepository;
+    private BarCache barCache;
+    private StrategyInstanceRegistry instanceRegistry;
+    private SimpleMeterRegistry meterRegistry;
+    private StrategyWarmUpRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        strategyRepository = mock(StrategyRepository.class);
+        strategySymbolRepository = mock(StrategySymbolJpaRepository.class);
+        barRepository = mock(BarRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        barCache = createBarCache(meterRegistry);
+        StrategyExecutionPlanner executionPlanner = createStrategyExecutionPlanner(strategyRepository,
+                strategySymbolRepository, mock(StrategyJpaRepository.class), meterRegistry);
+        instanceRegistry = new StrategyInstanceRegistry(executionPlanner, createIndicatorRegistry(meterRegistry),
+                meterRegistry);
+        runner = new StrategyWarmUpRunner(executionPlanner, barRepository, barCache,
+                new LoadStrategyContextUseCase(barRepository, barCache), instanceRegistry, meterRegistry);
+        ReflectionTestUtils.setField(runner, "enabled", true);
+        ReflectionTestUtils.setField(runner, "batchSize", 2);
+        ReflectionTestUtils.setField(runner, "parallelism", 4);
+
+        given(strategyRepository.findActiveStrategies()).willReturn(List.of(
+                createActiveStrategy("STR_001", "MA Crossover"), createActiveStrategy("STR_002", "MA Crossover")));
+        given(strategyRepository.findVersionById("VER_STR_001")).willReturn(Optional.of(createStrategyVersion("STR_001", MA_PARAMS)));
+        given(strategyRepository.findVersionById("VER_STR_002")).willReturn(Optional.of(createStrategyVersion("STR_002", MA_PARAMS)));
+        given(strategySymbolRepository.findActiveByStrategyId("STR_001")).willReturn(List.of(
+                createStrategySymbol("STR_001", "005930", "ACC_001"), createStrategySymbol("STR_001", "000660", "ACC_001"),
+                createStrategySymbol("STR_001", "005930", "ACC_002")));
+        given(strategySymbolRepository.findActiveByStrategyId("STR_002")).willReturn(List.of(
+                createStrategySymbol("STR_002", "035420", "ACC_001")));
+        given(barRepository.findRecentClosedBarsBySymbol(anyCollection(), anyString(), anyInt())).willAnswer(invocation -> {
+            Collection<String> symbols = invocation.getArgument(0);
+            Map<String, List<MarketBar>> bars = new HashMap<>();
+            symbols.forEach(symbol -> bars.put(symbol, bars(symbol, invocation.getArgument(1), invocation.getArgument(2))));
+            return bars;
+        });
+    }
+
+    @Test
+    @DisplayName("Should preload bars in batches and warm every strategy×symbol before the first evaluation")
+    void shouldWarmUpCacheAndInstances() {
+        // When
+        StrategyWarmUpRunner.WarmUpStatus status = runner.warmUp();
+
+        // Then - 3 symbols in batches of 2, 31 bars each (longPeriod 20 + buffer)
+        verify(barRepository, times(2)).findRecentClosedBarsBySymbol(anyCollection(), eq("1m"), eq(31));
+        assertThat(barCache.getStats())
+                .containsEntry("005930:1m", 31)
+                .containsEntry("000660:1m", 31)
+                .containsEntry("035420:1m", 31);
+
+        // Contexts were built from the cache, not per-symbol queries
+        verify(barRepository, never()).findRecentClosedBars(anyString(), anyString(), anyInt());
+        assertThat(instanceRegistry.size()).isEqualTo(3);
+        assertThat(instanceRegistry.getStatus()).allSatisfy(instance -> {
+            assertThat(instance.warmUps()).isEqualTo(1);
+            assertThat(instance.evaluations()).isZero();
+        });
+
+        assertThat(status.completed()).isTrue();
+        assertThat(status.symbols()).isEqualTo(3);
+        assertThat(status.bars()).isEqualTo(93);
+        assertThat(status.instances()).isEqualTo(3);
+        assertThat(status.failures()).isZero();
+        assertThat(runner.getStatus()).isEqualTo(status);
+        assertThat(meterRegistry.get("strategy.warmup.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should preload the bars of each strategy's cadence timeframe")
+    void shouldWarmUpCadenceTimeframes() {
+        // Given - STR_002 is evaluated on 5-minute bar closes
+        given(strategyRepository.findVersionById("VER_STR_002")).willReturn(Optional.of(createStrategyVersion("STR_002",
+                "{\"shortPeriod\":5,\"longPeriod\":20,\"cadence\":\"bar:5m\"}")));
+
+        // When
+        StrategyWarmUpRunner.WarmUpStatus status = runner.warmUp();
+
+        // Then
+        verify(barRepository).findRecentClosedBarsBySymbol(List.of("000660", "005930"), "1m", 31);
+        verify(barRepository).findRecentClosedBarsBySymbol(List.of("035420"), "5m", 31);
+        assertThat(barCache.getStats()).containsOnlyKeys("005930:1m", "000660:1m", "035420:5m");
+        verify(barRepository, never()).findRecentClosedBars(anyString(), anyString(), anyInt());
+        assertThat(instanceRegistry.getStatus()).extracting(instance -> instance.key().timeframe())
+                .containsExactlyInAnyOrder("1m", "1m", "5m");
+        assertThat(status.symbols()).isEqualTo(3);
+        assertThat(status.instances()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should count a failed batch and still warm the strategies it could")
+    void shouldSurviveFailedBatch() {
+        // Given - the batch holding 000660 and 005930 fails
+        given(barRepository.findRecentClosedBarsBySymbol(argThat((Collection<String> symbols) -> symbols != null
+                && symbols.contains("005930")), eq("1m"), anyInt()))
+                .willThrow(new RuntimeException("connection reset"));
+        given(barRepository.findRecentClosedBars(anyString(), eq("1m"), anyInt())).willReturn(List.of());
+
+        // When
+        StrategyWarmUpRunner.WarmUpStatus status = runner.warmUp();
+
+        // Then
+        assertThat(status.failures()).isEqualTo(1);
+        assertThat(status.bars()).isEqualTo(31);
+        assertThat(status.instances()).isEqualTo(1);
+        assertThat(barCache.getStats()).containsOnlyKeys("035420:1m");
+    }
+
+    @Test
+    @DisplayName("Should skip the warm-up when disabled")
+    void shouldSkipWhenDisabled() {
+        // Given
+        ReflectionTestUtils.setField(runner, "enabled", false);
+
+        // When
+        runner.run(null);
+
+        // Then
+        assertThat(runner.getStatus().completed()).isFalse();
+        verifyNoInteractions(barRepository);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private List<MarketBar> bars(String symbol, String timeframe, int count) {
+        List<MarketBar> bars = new ArrayList<>();
+        int minutes = BarResampler.minutesOf(timeframe);
+        for (int i = 0; i < count; i++) {
+            BigDecimal price = BigDecimal.valueOf(70000 + (i % 7) * 100);
+            bars.add(MarketBar.restore(symbol, timeframe, START.plusMinutes((long) i * minutes),
+                    price, price.add(BigDecimal.TEN), price.subtract(BigDecimal.TEN), price, 1000L, true));
+        }
+        return bars;
+    }
+
+
+
+}
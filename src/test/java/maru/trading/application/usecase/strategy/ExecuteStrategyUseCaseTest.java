@@ -1,23 +1,32 @@
 package maru.trading.application.usecase.strategy;
 
 import maru.trading.application.ports.repo.StrategyRepository;
+import maru.trading.domain.market.MarketBar;
 import maru.trading.domain.signal.Signal;
 import maru.trading.domain.signal.SignalDecision;
 import maru.trading.domain.signal.SignalType;
 import maru.trading.domain.strategy.Strategy;
 import maru.trading.domain.strategy.StrategyContext;
 import maru.trading.domain.strategy.StrategyVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static maru.trading.TestFixtures.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,9 +42,23 @@ class ExecuteStrategyUseCaseTest {
     @Mock
     private GenerateSignalUseCase generateSignalUseCase;
 
-    @InjectMocks
+    @Mock
+    private StrategyExecutionPlanner executionPlanner;
+
+    @Mock
+    private StrategyCircuitBreaker circuitBreaker;
+
     private ExecuteStrategyUseCase executeStrategyUseCase;
 
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StrategyInstanceRegistry instanceRegistry = new StrategyInstanceRegistry(
+                executionPlanner, createIndicatorRegistry(meterRegistry), meterRegistry);
+        executeStrategyUseCase = new ExecuteStrategyUseCase(strategyRepository, loadContextUseCase,
+                generateSignalUseCase, executionPlanner, instanceRegistry, circuitBreaker);
+    }
+
     @Test
     @DisplayName("Should return null when strategy not found")
     void shouldReturnNullWhenStrategyNotFound() {
@@ -117,4 +140,98 @@ class ExecuteStrategyUseCaseTest {
         // Then
         assertThat(result).isNull();
     }
+
+    @Test
+    @DisplayName("Should take strategy, version and params from the execution plan without metadata queries")
+    void shouldUseExecutionPlan() {
+        // Given
+        Strategy strategy = Strategy.builder()
+                .strategyId("STR_001")
+                .name("MA Crossover")
+                .status("ACTIVE")
+                .activeVersionId("VER_001")
+                .build();
+        StrategyVersion version = StrategyVersion.builder()
+                .strategyVersionId("VER_001")
+                .strategyId("STR_001")
+                .paramsJson("{\"shortPeriod\": 5, \"longPeriod\": 20}")
+                .build();
+        StrategyExecutionPlan.CompiledStrategy compiled = new StrategyExecutionPlan.CompiledStrategy(
+                strategy, version, Map.of("shortPeriod", 5, "longPeriod", 20), 31, List.of());
+
+        when(executionPlanner.find("STR_001")).thenReturn(compiled);
+        when(loadContextUseCase.execute(compiled, "005930", "ACC_001"))
+                .thenThrow(new RuntimeException("No bars"));
+
+        // When
+        Signal result = executeStrategyUseCase.execute("STR_001", "005930", "ACC_001");
+
+        // Then
+        assertThat(result).isNull();
+        verify(loadContextUseCase).execute(compiled, "005930", "ACC_001");
+        verifyNoInteractions(strategyRepository);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database when the plan has no usable version")
+    void shouldFallBackWhenPlanEntryNotReady() {
+        // Given
+        Strategy strategy = Strategy.builder()
+                .strategyId("STR_001")
+                .name("MA Crossover")
+                .status("ACTIVE")
+                .activeVersionId("VER_001")
+                .build();
+        when(executionPlanner.find("STR_001")).thenReturn(
+                new StrategyExecutionPlan.CompiledStrategy(strategy, null, null, 0, List.of()));
+        when(strategyRepository.findById("STR_001")).thenReturn(Optional.of(strategy));
+        when(strategyRepository.findVersionById("VER_001")).thenReturn(Optional.empty());
+
+        // When
+        Signal result = executeStrategyUseCase.execute("STR_001", "005930", "ACC_001");
+
+        // Then
+        assertThat(result).isNull();
+        verify(strategyRepository).findVersionById("VER_001");
+    }
+
+    @Test
+    @DisplayName("Should report timed evaluation failures to the circuit breaker")
+    void shouldRecordEvaluationFailure() {
+        // Given - one bar where MA(20) crossover needs 21
+        Strategy strategy = Strategy.builder()
+                .strategyId("STR_001")
+                .name("MA Crossover")
+                .status("ACTIVE")
+                .activeVersionId("VER_001")
+                .build();
+        StrategyVersion version = StrategyVersion.builder()
+                .strategyVersionId("VER_001")
+                .strategyId("STR_001")
+                .build();
+        Map<String, Object> params = Map.of("shortPeriod", 5, "longPeriod", 20);
+        StrategyExecutionPlan.CompiledStrategy compiled = new StrategyExecutionPlan.CompiledStrategy(
+                strategy, version, params, 31, List.of());
+        BigDecimal price = BigDecimal.valueOf(70000);
+        StrategyContext context = StrategyContext.builder()
+                .strategyId("STR_001")
+                .symbol("005930")
+                .accountId("ACC_001")
+                .bars(List.of(MarketBar.restore("005930", "1m", LocalDateTime.of(2026, 1, 5, 9, 0),
+                        price, price, price, price, 100L, true)))
+                .params(params)
+                .timeframe("1m")
+                .build();
+
+        when(executionPlanner.find("STR_001")).thenReturn(compiled);
+        when(loadContextUseCase.execute(compiled, "005930", "ACC_001")).thenReturn(context);
+
+        // When
+        Signal result = executeStrategyUseCase.execute("STR_001", "005930", "ACC_001");
+
+        // Then
+        assertThat(result).isNull();
+        verify(circuitBreaker).record(eq("STR_001"), anyLong(), eq(true));
+        verifyNoInteractions(generateSignalUseCase);
+    }
 }
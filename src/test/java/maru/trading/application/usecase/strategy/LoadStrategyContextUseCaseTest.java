@@ -3,6 +3,7 @@ package maru.trading.application.usecase.strategy;
 import maru.trading.application.ports.repo.BarRepository;
 import maru.trading.domain.market.MarketBar;
 import maru.trading.domain.strategy.Strategy;
+import maru.trading.domain.strategy.StrategyCadence;
 import maru.trading.domain.strategy.StrategyContext;
 import maru.trading.domain.strategy.StrategyVersion;
 import maru.trading.infra.cache.BarCache;
@@ -19,6 +20,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -178,6 +180,49 @@ class LoadStrategyContextUseCaseTest {
             assertThat(result.getParams()).containsEntry("shortPeriod", 5);
             assertThat(result.getParams()).containsEntry("longPeriod", 20);
         }
+
+        @Test
+        @DisplayName("Should load bars of the bar close cadence timeframe")
+        void shouldLoadBarsOfCadenceTimeframe() {
+            // Given
+            String symbol = "005930";
+            StrategyVersion hourly = StrategyVersion.builder()
+                    .versionNo(2)
+                    .paramsJson("{\"shortPeriod\":5,\"longPeriod\":20,\"cadence\":\"bar:1h\"}")
+                    .build();
+            StrategyExecutionPlan.CompiledStrategy compiled = new StrategyExecutionPlan.CompiledStrategy(
+                    testStrategy, testVersion, Map.of("shortPeriod", 5, "longPeriod", 20), 31,
+                    List.of(), StrategyCadence.parse("bar:15m"));
+
+            when(barCache.getRecentBars(any(), any(), anyInt())).thenReturn(testBars);
+
+            // When
+            StrategyContext fromVersion = loadStrategyContextUseCase.execute(testStrategy, hourly, symbol, "ACC_001");
+            StrategyContext fromPlan = loadStrategyContextUseCase.execute(compiled, symbol, "ACC_001");
+
+            // Then
+            assertThat(fromVersion.getTimeframe()).isEqualTo("60m");
+            assertThat(fromPlan.getTimeframe()).isEqualTo("15m");
+            verify(barCache).getRecentBars(eq(symbol), eq("60m"), anyInt());
+            verify(barCache).getRecentBars(eq(symbol), eq("15m"), eq(31));
+        }
+
+        @Test
+        @DisplayName("Should load 1-minute bars for timed cadences")
+        void shouldLoadMinuteBarsForTimedCadences() {
+            // Given
+            StrategyExecutionPlan.CompiledStrategy compiled = new StrategyExecutionPlan.CompiledStrategy(
+                    testStrategy, testVersion, Map.of("shortPeriod", 5, "longPeriod", 20), 31,
+                    List.of(), StrategyCadence.every(10));
+
+            when(barCache.getRecentBars(any(), any(), anyInt())).thenReturn(testBars);
+
+            // When
+            StrategyContext result = loadStrategyContextUseCase.execute(compiled, "005930", "ACC_001");
+
+            // Then
+            assertThat(result.getTimeframe()).isEqualTo("1m");
+        }
     }
 
     @Nested
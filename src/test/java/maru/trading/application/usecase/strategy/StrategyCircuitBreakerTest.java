@@ -0,0 +1,210 @@
+package maru.trading.application.usecase.strategy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.application.usecase.strategy.StrategyCircuitBreaker.Admission;
+import maru.trading.application.usecase.strategy.StrategyCircuitBreaker.State;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static maru.trading.TestFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for StrategyCircuitBreaker.
+ *
+ * Default budgets: 500ms, window 20, at least 5 evaluations, demote above
+ * 50% slow, suspend above 50% errors, demoted strategies every 5th turn,
+ * 300s suspension.
+ */
+@DisplayName("StrategyCircuitBreaker Unit Tests")
+class StrategyCircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(800);
+    private static final long SUSPENSION = TimeUnit.SECONDS.toNanos(300);
+
+    private SimpleMeterRegistry meterRegistry;
+    private StrategyCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        breaker = createCircuitBreaker(meterRegistry);
+    }
+
+    private void recordTimes(int times, long elapsedNanos, boolean failed, long nowNanos) {
+        for (int i = 0; i < times; i++) {
+            breaker.record("STR_001", elapsedNanos, failed, nowNanos);
+        }
+    }
+
+    @Nested
+    @DisplayName("Latency budget")
+    class LatencyTests {
+
+        @Test
+        @DisplayName("Should keep evaluating strategies within budget")
+        void shouldStayActiveWithinBudget() {
+            // Given
+            recordTimes(20, FAST, false, 0);
+
+            // When & Then
+            assertThat(breaker.getState("STR_001")).isEqualTo(State.ACTIVE);
+            assertThat(breaker.admit("STR_001", "005930", 0)).isEqualTo(Admission.EVALUATE);
+            assertThat(breaker.admit("UNKNOWN", "005930", 0)).isEqualTo(Admission.EVALUATE);
+        }
+
+        @Test
+        @DisplayName("Should demote a slow strategy to every 5th turn")
+        void shouldDemoteSlowStrategy() {
+            // Given - 3 of 5 evaluations over the budget
+            recordTimes(2, FAST, false, 0);
+            recordTimes(3, SLOW, false, 0);
+
+            // When
+            List<Admission> admissions = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                admissions.add(breaker.admit("STR_001", "005930", 0));
+            }
+
+            // Then
+            assertThat(breaker.getState("STR_001")).isEqualTo(State.DEMOTED);
+            assertThat(admissions).filteredOn(a -> a == Admission.EVALUATE).hasSize(2);
+            assertThat(admissions.get(4)).isEqualTo(Admission.EVALUATE);
+            assertThat(admissions.get(0)).isEqualTo(Admission.DEMOTED);
+            assertThat(meterRegistry.get("strategy.evaluation.skipped")
+                    .tag("strategyId", "STR_001").tag("reason", "demoted").counter().count()).isEqualTo(8);
+            assertThat(breaker.getStatus().get(0).reason()).contains("over the 500ms budget");
+        }
+
+        @Test
+        @DisplayName("Should give every symbol of a demoted strategy its turn")
+        void shouldCountDemotedTurnsPerSymbol() {
+            // Given
+            recordTimes(5, SLOW, false, 0);
+
+            // When - 5 runs over 40 symbols
+            Set<String> evaluated = new HashSet<>();
+            for (int run = 0; run < 5; run++) {
+                for (int i = 0; i < 40; i++) {
+                    String symbol = String.format("%06d", i);
+                    if (breaker.admit("STR_001", symbol, 0) == Admission.EVALUATE) {
+                        assertThat(evaluated.add(symbol)).isTrue();
+                    }
+                }
+            }
+
+            // Then
+            assertThat(evaluated).hasSize(40);
+        }
+
+        @Test
+        @DisplayName("Should promote a demoted strategy once it is fast again")
+        void shouldPromoteRecoveredStrategy() {
+            // Given
+            recordTimes(5, SLOW, false, 0);
+            assertThat(breaker.getState("STR_001")).isEqualTo(State.DEMOTED);
+
+            // When - window of 20 with 5 slow = 25%, at half the threshold
+            recordTimes(15, FAST, false, 0);
+
+            // Then
+            assertThat(breaker.getState("STR_001")).isEqualTo(State.ACTIVE);
+        }
+    }
+
+    @Nested
+    @DisplayName("Error rate")
+    class ErrorTests {
+
+        @Test
+        @DisplayName("Should suspend a failing strategy until the suspension ends")
+        void shouldSuspendFailingStrategy() {
+            // Given
+            recordTimes(2, FAST, false, 0);
+            recordTimes(3, FAST, true, 0);
+
+            // When & Then
+            assertThat(breaker.getState("STR_001")).isEqualTo(State.SUSPENDED);
+            assertThat(breaker.admit("STR_001", "005930", SUSPENSION - 1)).isEqualTo(Admission.SUSPENDED);
+            assertThat(breaker.getStatus().get(0).suspendedUntil()).isNotNull();
+            assertThat(meterRegistry.get("strategy.evaluation.state").tag("strategyId", "STR_001")
+                    .gauge().value()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should resume after a successful trial evaluation")
+        void shouldResumeAfterSuccessfulTrial() {
+            // Given
+            recordTimes(5, FAST, true, 0);
+
+            // When - one trial after the suspension
+            assertThat(breaker.admit("STR_001", "005930", SUSPENSION)).isEqualTo(Admission.EVALUATE);
+            assertThat(breaker.admit("STR_001", "005930", SUSPENSION)).isEqualTo(Admission.SUSPENDED);
+            breaker.record("STR_001", FAST, false, SUSPENSION);
+
+            // Then
+            assertThat(breaker.getState("STR_001")).isEqualTo(State.ACTIVE);
+            assertThat(breaker.admit("STR_001", "005930", SUSPENSION)).isEqualTo(Admission.EVALUATE);
+        }
+
+        @Test
+        @DisplayName("Should suspend again after a failed trial evaluation")
+        void shouldSuspendAgainAfterFailedTrial() {
+            // Given
+            recordTimes(5, FAST, true, 0);
+
+            // When
+            breaker.admit("STR_001", "005930", SUSPENSION);
+            breaker.record("STR_001", FAST, true, SUSPENSION);
+
+            // Then
+            assertThat(breaker.getState("STR_001")).isEqualTo(State.SUSPENDED);
+            assertThat(breaker.admit("STR_001", "005930", 2 * SUSPENSION - 1)).isEqualTo(Admission.SUSPENDED);
+            assertThat(breaker.admit("STR_001", "005930", 2 * SUSPENSION)).isEqualTo(Admission.EVALUATE);
+        }
+
+        @Test
+        @DisplayName("Should resume a suspended strategy on reset")
+        void shouldResumeOnReset() {
+            // Given
+            recordTimes(5, FAST, true, 0);
+
+            // When
+            boolean reset = breaker.reset("STR_001");
+
+            // Then
+            assertThat(reset).isTrue();
+            assertThat(breaker.getState("STR_001")).isEqualTo(State.ACTIVE);
+            assertThat(breaker.getStatus().get(0).windowSize()).isZero();
+            assertThat(breaker.reset("UNKNOWN")).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should time every evaluation per strategy and outcome")
+    void shouldTimeEvaluations() {
+        // When
+        recordTimes(3, FAST, false, 0);
+        breaker.record("STR_001", FAST, true, 0);
+
+        // Then
+        assertThat(meterRegistry.get("strategy.evaluation.duration")
+                .tag("strategyId", "STR_001").tag("outcome", "success").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("strategy.evaluation.duration")
+                .tag("strategyId", "STR_001").tag("outcome", "error").timer().count()).isEqualTo(1);
+        StrategyCircuitBreaker.StrategyHealth health = breaker.getStatus().get(0);
+        assertThat(health.evaluations()).isEqualTo(4);
+        assertThat(health.errors()).isEqualTo(1);
+        assertThat(health.errorRate()).isEqualTo(0.25);
+        assertThat(health.meanMillis()).isEqualTo(5.0);
+    }
+}
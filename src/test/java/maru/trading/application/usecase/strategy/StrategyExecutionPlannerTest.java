@@ -0,0 +1,266 @@
+package maru.trading.application.usecase.strategy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.application.ports.repo.StrategyRepository;
+import maru.trading.domain.strategy.StrategyCadence;
+import maru.trading.infra.persistence.jpa.repository.StrategyJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.StrategySymbolJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static maru.trading.TestFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StrategyExecutionPlanner.
+ *
+ * Verifies:
+ * - Strategies, versions, params and symbol mappings are compiled into the plan
+ * - The plan is served from memory until invalidated
+ * - Bar-close cadences are limited to the timeframes bars are built for
+ * - A failed rebuild keeps the previous plan
+ * - Database changes are detected through the table fingerprint
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StrategyExecutionPlanner Unit Tests")
+class StrategyExecutionPlannerTest {
+
+    @Mock
+    private StrategyRepository strategyRepository;
+
+    @Mock
+    private StrategySymbolJpaRepository strategySymbolRepository;
+
+    @Mock
+    private StrategyJpaRepository strategyJpaRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StrategyExecutionPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        planner = createStrategyExecutionPlanner(strategyRepository, strategySymbolRepository,
+                strategyJpaRepository, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Compilation")
+    class CompilationTests {
+
+        @Test
+        @DisplayName("Should compile active strategies with parsed params, required bars and targets")
+        void shouldCompileStrategies() {
+            // Given
+            given(strategyRepository.findActiveStrategies()).willReturn(List.of(createActiveStrategy("STR_001", "MA Crossover"), createActiveStrategy("STR_002", "MA Crossover")));
+            given(strategyRepository.findVersionById("VER_STR_001")).willReturn(Optional.of(
+                    createStrategyVersion("STR_001", "{\"shortPeriod\": 5, \"longPeriod\": 20}")));
+            given(strategyRepository.findVersionById("VER_STR_002")).willReturn(Optional.of(
+                    createStrategyVersion("STR_002", "{\"period\": 14}")));
+            given(strategySymbolRepository.findActiveByStrategyId("STR_001")).willReturn(List.of(
+                    createStrategySymbol("STR_001", "005930", "ACC_001"), createStrategySymbol("STR_001", "000660", "ACC_002")));
+            given(strategySymbolRepository.findActiveByStrategyId("STR_002")).willReturn(List.of());
+
+            // When
+            StrategyExecutionPlan plan = planner.current();
+
+            // Then
+            StrategyExecutionPlan.CompiledStrategy compiled = plan.find("STR_001");
+            assertThat(compiled.isReady()).isTrue();
+            assertThat(compiled.params()).containsEntry("longPeriod", 20);
+            assertThat(compiled.requiredBars()).isEqualTo(31);
+            assertThat(compiled.targets()).containsExactly(
+                    new StrategyExecutionPlan.Target("STR_001", "005930", "ACC_001"),
+                    new StrategyExecutionPlan.Target("STR_001", "000660", "ACC_002"));
+
+            assertThat(plan.getTargets("005930")).extracting(StrategyExecutionPlan.Target::strategyId)
+                    .containsExactly("STR_001", "STR_002");
+            assertThat(plan.find("STR_002").targets()).containsExactly(new StrategyExecutionPlan.Target(
+                    "STR_002", StrategyExecutionPlanner.DEFAULT_SYMBOL, StrategyExecutionPlanner.DEFAULT_ACCOUNT_ID));
+            assertThat(plan.getTargetCount()).isEqualTo(3);
+            assertThat(plan.find("STR_UNKNOWN")).isNull();
+        }
+
+        @Test
+        @DisplayName("Should keep a strategy with a missing version as not ready")
+        void shouldMarkMissingVersionNotReady() {
+            // Given
+            given(strategyRepository.findActiveStrategies()).willReturn(List.of(createActiveStrategy("STR_001", "MA Crossover")));
+            given(strategyRepository.findVersionById("VER_STR_001")).willReturn(Optional.empty());
+            given(strategySymbolRepository.findActiveByStrategyId("STR_001")).willReturn(List.of());
+
+            // When
+            StrategyExecutionPlan.CompiledStrategy compiled = planner.current().find("STR_001");
+
+            // Then
+            assertThat(compiled.isReady()).isFalse();
+            assertThat(compiled.targets()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should keep a strategy with invalid params JSON as not ready")
+        void shouldMarkInvalidParamsNotReady() {
+            // Given
+            given(strategyRepository.findActiveStrategies()).willReturn(List.of(createActiveStrategy("STR_001", "MA Crossover")));
+            given(strategyRepository.findVersionById("VER_STR_001")).willReturn(Optional.of(createStrategyVersion("STR_001", "{broken")));
+            given(strategySymbolRepository.findActiveByStrategyId("STR_001")).willReturn(List.of());
+
+            // When
+            StrategyExecutionPlan.CompiledStrategy compiled = planner.current().find("STR_001");
+
+            // Then
+            assertThat(compiled.isReady()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should keep cadences on built timeframes and fall back to the default otherwise")
+        void shouldValidateCadenceTimeframes() {
+            // Given
+            given(strategyRepository.findActiveStrategies()).willReturn(List.of(
+                    createActiveStrategy("STR_001", "MA Crossover"), createActiveStrategy("STR_002", "MA Crossover"),
+                    createActiveStrategy("STR_003", "MA Crossover")));
+            given(strategyRepository.findVersionById("VER_STR_001")).willReturn(Optional.of(
+                    createStrategyVersion("STR_001", "{\"cadence\": \"bar:1h\"}")));
+            given(strategyRepository.findVersionById("VER_STR_002")).willReturn(Optional.of(
+                    createStrategyVersion("STR_002", "{\"cadence\": \"bar:30m\"}")));
+            given(strategyRepository.findVersionById("VER_STR_003")).willReturn(Optional.of(
+                    createStrategyVersion("STR_003", "{\"cadence\": \"bar:1d\"}")));
+            given(strategySymbolRepository.findActiveByStrategyId(anyString())).willReturn(List.of());
+
+            // When
+            StrategyExecutionPlan plan = planner.current();
+
+            // Then
+            assertThat(plan.find("STR_001").cadence()).isEqualTo(StrategyCadence.barClose("60m"));
+            assertThat(plan.find("STR_002").cadence()).isEqualTo(StrategyCadence.DEFAULT);
+            assertThat(plan.find("STR_003").cadence()).isEqualTo(StrategyCadence.barClose("1d"));
+            assertThat(plan.getBarCloseTargets(StrategyExecutionPlanner.DEFAULT_SYMBOL, "1h"))
+                    .extracting(StrategyExecutionPlan.Target::strategyId).containsExactly("STR_001");
+        }
+
+        @Test
+        @DisplayName("Should propagate the failure when no plan was ever built")
+        void shouldThrowWithoutPreviousPlan() {
+            // Given
+            given(strategyRepository.findActiveStrategies()).willThrow(new RuntimeException("Database connection failed"));
+
+            // When & Then
+            assertThatThrownBy(() -> planner.current()).isInstanceOf(RuntimeException.class);
+            assertThat(planner.peek()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Caching and invalidation")
+    class CachingTests {
+
+        @BeforeEach
+        void setUp() {
+            given(strategyRepository.findActiveStrategies()).willReturn(List.of(createActiveStrategy("STR_001", "MA Crossover")));
+            given(strategyRepository.findVersionById("VER_STR_001")).willReturn(Optional.of(createStrategyVersion("STR_001", "{}")));
+            given(strategySymbolRepository.findActiveByStrategyId("STR_001")).willReturn(List.of());
+        }
+
+        @Test
+        @DisplayName("Should serve the plan from memory without further queries")
+        void shouldServeFromMemory() {
+            // Given
+            StrategyExecutionPlan first = planner.current();
+
+            // When
+            for (int i = 0; i < 100; i++) {
+                planner.current();
+                planner.find("STR_001");
+            }
+
+            // Then
+            assertThat(planner.current()).isSameAs(first);
+            verify(strategyRepository, times(1)).findActiveStrategies();
+            verify(strategySymbolRepository, times(1)).findActiveByStrategyId("STR_001");
+        }
+
+        @Test
+        @DisplayName("Should rebuild on the next access after invalidation")
+        void shouldRebuildAfterInvalidate() {
+            // Given
+            StrategyExecutionPlan first = planner.current();
+
+            // When
+            planner.invalidate("test");
+            StrategyExecutionPlan second = planner.current();
+
+            // Then
+            assertThat(second).isNotSameAs(first);
+            assertThat(second.getGeneration()).isEqualTo(first.getGeneration() + 1);
+            verify(strategyRepository, times(2)).findActiveStrategies();
+        }
+
+        @Test
+        @DisplayName("Should keep the previous plan when a rebuild fails and retry next time")
+        void shouldKeepPreviousPlanOnFailure() {
+            // Given
+            StrategyExecutionPlan first = planner.current();
+            planner.invalidate("test");
+            given(strategyRepository.findActiveStrategies())
+                    .willThrow(new RuntimeException("Database connection failed"))
+                    .willReturn(List.of());
+
+            // When
+            StrategyExecutionPlan afterFailure = planner.current();
+            StrategyExecutionPlan afterRetry = planner.current();
+
+            // Then
+            assertThat(afterFailure).isSameAs(first);
+            assertThat(afterRetry.getStrategies()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Change detection")
+    class ChangeDetectionTests {
+
+        @Test
+        @DisplayName("Should rebuild only when the table fingerprint changes")
+        void shouldRebuildOnFingerprintChange() {
+            // Given
+            LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 5, 9, 0);
+            given(strategyJpaRepository.count()).willReturn(1L);
+            given(strategyJpaRepository.findLatestUpdatedAt()).willReturn(updatedAt);
+            given(strategySymbolRepository.count()).willReturn(0L);
+            given(strategySymbolRepository.findLatestUpdatedAt()).willReturn(null);
+            given(strategyRepository.findActiveStrategies()).willReturn(List.of());
+            planner.current();
+
+            // When - unchanged
+            planner.checkForChanges();
+
+            // Then
+            verify(strategyRepository, times(1)).findActiveStrategies();
+
+            // When - strategy updated elsewhere
+            given(strategyJpaRepository.findLatestUpdatedAt()).willReturn(updatedAt.plusSeconds(1));
+            planner.checkForChanges();
+
+            // Then
+            verify(strategyRepository, times(2)).findActiveStrategies();
+            assertThat(planner.peek().getGeneration()).isEqualTo(2);
+            assertThat(meterRegistry.get("strategy.plan.rebuilds").counter().count()).isEqualTo(2);
+        }
+    }
+
+    // Helper methods
+
+
+}
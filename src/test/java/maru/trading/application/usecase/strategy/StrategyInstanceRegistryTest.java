@@ -0,0 +1,366 @@
+package maru.trading.application.usecase.strategy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.domain.market.MarketBar;
+import maru.trading.domain.signal.SignalDecision;
+import maru.trading.domain.strategy.Strategy;
+import maru.trading.domain.strategy.StrategyContext;
+import maru.trading.domain.strategy.StrategyVersion;
+import maru.trading.domain.strategy.impl.MACrossoverStrategy;
+import maru.trading.domain.strategy.impl.RuleStrategy;
+import maru.trading.infra.cache.IndicatorRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static maru.trading.TestFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for StrategyInstanceRegistry.
+ *
+ * Verifies:
+ * - One instance per strategy, version, symbol and timeframe
+ * - Entry-rule parameters select the rule engine
+ * - Incremental instances are warmed up once and then fed only new bars
+ * - Missed bars and changed parameters trigger a new warm-up
+ * - Instances are evicted on version and plan changes
+ * - Instances share indicator series and incremental indicators while they are live
+ */
+@DisplayName("StrategyInstanceRegistry Unit Tests")
+class StrategyInstanceRegistryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 5, 9, 0);
+    private static final Map<String, Object> MA_PARAMS = Map.of("shortPeriod", 5, "longPeriod", 20);
+
+    private SimpleMeterRegistry meterRegistry;
+    private IndicatorRegistry indicatorRegistry;
+    private StrategyInstanceRegistry registry;
+    private List<MarketBar> history;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        indicatorRegistry = createIndicatorRegistry(meterRegistry);
+        registry = new StrategyInstanceRegistry(mock(StrategyExecutionPlanner.class), indicatorRegistry, meterRegistry);
+        history = createBars(60);
+    }
+
+    @Nested
+    @DisplayName("Incremental evaluation")
+    class IncrementalTests {
+
+        @Test
+        @DisplayName("Should warm up once and then apply only the newly closed bar")
+        void shouldWarmUpOnceThenApplyNewBars() {
+            // Given
+            Strategy strategy = createActiveStrategy("STR_001", "MA Crossover");
+            StrategyVersion version = createStrategyVersion("STR_001", "VER_1", null);
+
+            // When - sliding 31-bar window, one new bar per evaluation
+            for (int end = 31; end <= history.size(); end++) {
+                StrategyContext context = context(history.subList(end - 31, end), MA_PARAMS);
+                SignalDecision decision = registry.evaluate(strategy, version, context);
+
+                // Then - same decision as a full recomputation
+                assertThat(decision.getReason()).isEqualTo(new MACrossoverStrategy().evaluate(context).getReason());
+            }
+
+            StrategyInstanceRegistry.InstanceStatus status = registry.getStatus().get(0);
+            assertThat(registry.size()).isEqualTo(1);
+            assertThat(status.incremental()).isTrue();
+            assertThat(status.warmUps()).isEqualTo(1);
+            assertThat(status.evaluations()).isEqualTo(30);
+            assertThat(status.barCount()).isEqualTo(60);
+            assertThat(status.lastBarTimestamp()).isEqualTo(history.get(59).getBarTimestamp());
+            assertThat(meterRegistry.get("strategy.instances.bars").counter().count()).isEqualTo(29);
+            assertThat(meterRegistry.get("strategy.instances.warmups").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not apply a bar twice when evaluated again without a new bar")
+        void shouldNotReapplySameBar() {
+            // Given
+            Strategy strategy = createActiveStrategy("STR_001", "MA Crossover");
+            StrategyVersion version = createStrategyVersion("STR_001", "VER_1", null);
+            StrategyContext context = context(history.subList(0, 31), MA_PARAMS);
+
+            // When
+            registry.evaluate(strategy, version, context);
+            registry.evaluate(strategy, version, context);
+
+            // Then
+            assertThat(registry.getStatus().get(0).barCount()).isEqualTo(31);
+            assertThat(registry.getStatus().get(0).warmUps()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should warm up again when bars were missed since the last evaluation")
+        void shouldRewarmAfterGap() {
+            // Given
+            Strategy strategy = createActiveStrategy("STR_001", "MA Crossover");
+            StrategyVersion version = createStrategyVersion("STR_001", "VER_1", null);
+            registry.evaluate(strategy, version, context(history.subList(0, 31), MA_PARAMS));
+
+            // When - window no longer overlaps the applied bars
+            registry.evaluate(strategy, version, context(history.subList(29 + 10, 60), MA_PARAMS));
+
+            // Then
+            StrategyInstanceRegistry.InstanceStatus status = registry.getStatus().get(0);
+            assertThat(status.warmUps()).isEqualTo(2);
+            assertThat(status.barCount()).isEqualTo(21);
+        }
+
+        @Test
+        @DisplayName("Should reject invalid parameters without keeping an instance")
+        void shouldRejectInvalidParams() {
+            // Given
+            Strategy strategy = createActiveStrategy("STR_001", "MA Crossover");
+            StrategyVersion version = createStrategyVersion("STR_001", "VER_1", null);
+            StrategyContext context = context(history.subList(0, 31), Map.of("shortPeriod", 20, "longPeriod", 5));
+
+            // When & Then
+            assertThatThrownBy(() -> registry.evaluate(strategy, version, context))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(registry.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should share one stateless instance for non-incremental strategies")
+        void shouldShareStatelessInstance() {
+            // Given
+            Strategy strategy = createActiveStrategy("STR_002", "BOLLINGER_BANDS");
+            StrategyVersion version = createStrategyVersion("STR_002", "VER_1", null);
+            Map<String, Object> params = Map.of("period", 20, "stdDevMultiplier", 2.0);
+
+            // When
+            registry.evaluate(strategy, version, context(history.subList(0, 31), params));
+            registry.evaluate(strategy, version, context(history.subList(1, 32), params));
+
+            // Then
+            assertThat(registry.size()).isEqualTo(1);
+            assertThat(registry.getStatus().get(0).incremental()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should evaluate a strategy with an entry rule as RULES whatever its name")
+        void shouldSelectRuleEngineByEntryParam() {
+            // Given
+            Strategy strategy = createActiveStrategy("STR_003", "Momentum Breakout");
+            StrategyVersion version = createStrategyVersion("STR_003", "VER_1", null);
+            Map<String, Object> params = Map.of("entry", "close > sma(close, 5)");
+            StrategyContext context = context(history.subList(0, 31), params);
+
+            // When
+            SignalDecision decision = registry.evaluate(strategy, version, context);
+
+            // Then
+            assertThat(decision.getReason()).isEqualTo(new RuleStrategy().evaluate(context).getReason());
+            assertThat(registry.getStatus()).singleElement().satisfies(status -> {
+                assertThat(status.strategyType()).isEqualTo("RULES");
+                assertThat(status.incremental()).isTrue();
+            });
+        }
+
+        @Test
+        @DisplayName("Should warm up ahead of the first evaluation so it applies only the new bar")
+        void shouldWarmUpAheadOfEvaluation() {
+            // Given
+            Strategy strategy = createActiveStrategy("STR_001", "MA Crossover");
+            StrategyVersion version = createStrategyVersion("STR_001", "VER_1", null);
+
+            // When
+            boolean warmed = registry.warmUp(strategy, version, context(history.subList(0, 31), MA_PARAMS));
+            StrategyContext context = context(history.subList(1, 32), MA_PARAMS);
+            SignalDecision decision = registry.evaluate(strategy, version, context);
+
+            // Then
+            StrategyInstanceRegistry.InstanceStatus status = registry.getStatus().get(0);
+            assertThat(warmed).isTrue();
+            assertThat(status.warmUps()).isEqualTo(1);
+            assertThat(status.evaluations()).isEqualTo(1);
+            assertThat(status.barCount()).isEqualTo(32);
+            assertThat(decision.getReason()).isEqualTo(new MACrossoverStrategy().evaluate(context).getReason());
+            assertThat(registry.warmUp(createActiveStrategy("STR_002", "BOLLINGER_BANDS"), createStrategyVersion("STR_002", "VER_1", null),
+                    context(history.subList(0, 31), Map.of("period", 20, "stdDevMultiplier", 2.0)))).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Shared indicators")
+    class SharedIndicatorTests {
+
+        @Test
+        @DisplayName("Should compute an indicator once for strategies on the same symbol and window")
+        void shouldShareIndicatorsBetweenStrategies() {
+            // Given
+            Map<String, Object> params = Map.of("period", 20, "stdDevMultiplier", 2.0);
+            StrategyContext context = context(history.subList(0, 31), params);
+
+            // When
+            registry.evaluate(createActiveStrategy("STR_001", "BOLLINGER_BANDS"), createStrategyVersion("STR_001", "VER_1", null), context);
+            registry.evaluate(createActiveStrategy("STR_002", "BOLLINGER_BANDS"), createStrategyVersion("STR_002", "VER_1", null), context);
+
+            // Then
+            assertThat(indicatorRegistry.getStats().misses()).isEqualTo(1);
+            assertThat(indicatorRegistry.getStats().hits()).isEqualTo(1);
+            assertThat(indicatorRegistry.getStats().subscriptions()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should share incremental indicators between strategies warmed up from the same bars")
+        void shouldShareIncrementalIndicators() {
+            // Given
+            Strategy first = createActiveStrategy("STR_001", "MA Crossover");
+            Strategy second = createActiveStrategy("STR_002", "MA Crossover");
+
+            // When - both evaluated on a sliding 31-bar window
+            for (int end = 31; end <= history.size(); end++) {
+                StrategyContext context = context(history.subList(end - 31, end), MA_PARAMS);
+                String expected = new MACrossoverStrategy().evaluate(context).getReason();
+
+                // Then - same decisions as a full recomputation
+                assertThat(registry.evaluate(first, createStrategyVersion("STR_001", "VER_1", null), context)
+                        .getReason()).isEqualTo(expected);
+                assertThat(registry.evaluate(second, createStrategyVersion("STR_002", "VER_1", null), context)
+                        .getReason()).isEqualTo(expected);
+            }
+
+            // MA(5) and MA(20) created once, reused by the second strategy
+            assertThat(indicatorRegistry.getStats().misses()).isEqualTo(2);
+            assertThat(indicatorRegistry.getStats().hits()).isEqualTo(2);
+            assertThat(registry.getStatus()).extracting(StrategyInstanceRegistry.InstanceStatus::warmUps)
+                    .containsOnly(1L);
+        }
+
+        @Test
+        @DisplayName("Should warm up privately when behind the values a shared indicator keeps")
+        void shouldWarmUpPrivatelyWhenBehindSharedIndicator() {
+            // Given - both warmed up from the same bars, then only STR_001 moves on
+            Strategy first = createActiveStrategy("STR_001", "MA Crossover");
+            Strategy second = createActiveStrategy("STR_002", "MA Crossover");
+            StrategyVersion firstVersion = createStrategyVersion("STR_001", "VER_1", null);
+            StrategyVersion secondVersion = createStrategyVersion("STR_002", "VER_1", null);
+            registry.evaluate(first, firstVersion, context(history.subList(0, 31), MA_PARAMS));
+            registry.evaluate(second, secondVersion, context(history.subList(0, 31), MA_PARAMS));
+            for (int end = 32; end <= 40; end++) {
+                registry.evaluate(first, firstVersion, context(history.subList(end - 31, end), MA_PARAMS));
+            }
+
+            // When - STR_002 catches up on 9 bars, more than the 4 kept
+            StrategyContext context = context(history.subList(9, 40), MA_PARAMS);
+            SignalDecision decision = registry.evaluate(second, secondVersion, context);
+
+            // Then
+            assertThat(decision.getReason()).isEqualTo(new MACrossoverStrategy().evaluate(context).getReason());
+            assertThat(registry.getStatus())
+                    .filteredOn(status -> status.key().strategyId().equals("STR_002"))
+                    .singleElement()
+                    .satisfies(status -> {
+                        assertThat(status.warmUps()).isEqualTo(2);
+                        assertThat(status.barCount()).isEqualTo(31);
+                    });
+        }
+
+        @Test
+        @DisplayName("Should release the indicator subscription of an evicted instance")
+        void shouldReleaseSubscriptionOnEviction() {
+            // Given
+            Map<String, Object> params = Map.of("period", 20, "stdDevMultiplier", 2.0);
+            registry.evaluate(createActiveStrategy("STR_001", "BOLLINGER_BANDS"), createStrategyVersion("STR_001", "VER_1", null),
+                    context(history.subList(0, 31), params));
+
+            // When
+            registry.evict("STR_001");
+
+            // Then
+            assertThat(indicatorRegistry.getStats().subscriptions()).isZero();
+            assertThat(indicatorRegistry.getStats().series()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("Should evict the previous version's instance when a new version is evaluated")
+        void shouldEvictOnVersionChange() {
+            // Given
+            Strategy strategy = createActiveStrategy("STR_001", "MA Crossover");
+            registry.evaluate(strategy, createStrategyVersion("STR_001", "VER_1", null), context(history.subList(0, 31), MA_PARAMS));
+
+            // When
+            registry.evaluate(strategy, createStrategyVersion("STR_001", "VER_2", null), context(history.subList(0, 31), MA_PARAMS));
+
+            // Then
+            assertThat(registry.getStatus()).extracting(status -> status.key().versionId()).containsExactly("VER_2");
+            assertThat(meterRegistry.get("strategy.instances.evictions").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should drop instances of strategies removed from, or changed in, the execution plan")
+        void shouldPruneOnPlanChange() {
+            // Given
+            StrategyExecutionPlanner planner = mock(StrategyExecutionPlanner.class);
+            registry = new StrategyInstanceRegistry(planner, indicatorRegistry, meterRegistry);
+            Strategy first = createActiveStrategy("STR_001", "MA Crossover");
+            Strategy second = createActiveStrategy("STR_002", "MA Crossover");
+            given(planner.peek()).willReturn(plan(1, compiled(first, "VER_1"), compiled(second, "VER_1")));
+            registry.evaluate(first, createStrategyVersion("STR_001", "VER_1", null), context(history.subList(0, 31), MA_PARAMS));
+            registry.evaluate(second, createStrategyVersion("STR_002", "VER_1", null), context(history.subList(0, 31), MA_PARAMS));
+
+            // When - STR_001 moved to VER_2 and STR_002 was deactivated
+            given(planner.peek()).willReturn(plan(2, compiled(first, "VER_2")));
+            registry.evaluate(first, createStrategyVersion("STR_001", "VER_2", null), context(history.subList(0, 31), MA_PARAMS));
+
+            // Then
+            assertThat(registry.getStatus()).extracting(StrategyInstanceRegistry.InstanceStatus::key)
+                    .containsExactly(new StrategyInstanceRegistry.Key("STR_001", "VER_2", "005930", "1m"));
+        }
+    }
+
+    // Helper methods
+    private StrategyExecutionPlan plan(long generation, StrategyExecutionPlan.CompiledStrategy... compiled) {
+        return new StrategyExecutionPlan(generation, List.of(compiled));
+    }
+
+    private StrategyExecutionPlan.CompiledStrategy compiled(Strategy strategy, String versionId) {
+        return new StrategyExecutionPlan.CompiledStrategy(
+                strategy, createStrategyVersion(strategy.getStrategyId(), versionId, null), MA_PARAMS, 31, List.of());
+    }
+
+
+
+    private StrategyContext context(List<MarketBar> bars, Map<String, Object> params) {
+        return StrategyContext.builder()
+                .strategyId("STR_001")
+                .symbol("005930")
+                .accountId("ACC_001")
+                .bars(bars)
+                .params(params)
+                .timeframe("1m")
+                .build();
+    }
+
+    private List<MarketBar> createBars(int count) {
+        List<MarketBar> bars = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // Oscillating prices so both moving averages cross several times
+            BigDecimal price = BigDecimal.valueOf(70000 + Math.round(Math.sin(i / 4.0) * 1500) + i * 10L);
+            bars.add(MarketBar.restore("005930", "1m", START.plusMinutes(i),
+                    price, price, price, price, 100L, true));
+        }
+        return bars;
+    }
+}
@@ -0,0 +1,213 @@
+package maru.trading.broker.kis.marketdata;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.domain.market.MarketTick;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MarketDataConflator 테스트
+ *
+ * 테스트 범위:
+ * 1. EVERY_TICK → 모든 틱 순서대로 전달, 큐 가득 참 → 버림 + 카운트
+ * 2. LATEST → 느린 소비자는 심볼별 최신 틱만 수신
+ * 3. INTERVAL → 심볼별 주기당 최대 1회 전달
+ * 4. 구독 해제 → 전달 중지, 지표 제거
+ */
+@DisplayName("MarketDataConflator 테스트")
+class MarketDataConflatorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MarketDataConflator conflator;
+    private final List<MarketTick> delivered = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        conflator = new MarketDataConflator(meterRegistry);
+        ReflectionTestUtils.setField(conflator, "queueCapacity", 10000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        conflator.shutdown();
+    }
+
+    @Test
+    @DisplayName("EVERY_TICK - 모든 틱을 발행 순서대로 전달")
+    void everyTick_DeliversAllTicksInOrder() throws Exception {
+        // Given
+        MarketDataConflator.Subscription subscription = conflator.subscribe(
+                "all", MarketDataConflator.Mode.EVERY_TICK, null, delivered::add);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            conflator.publish(tick("005930", 70000 + i), System.nanoTime());
+        }
+
+        // Then
+        awaitDelivered(subscription, 100);
+        assertThat(delivered).extracting(t -> t.getPrice().intValue())
+                .containsExactlyElementsOf(range(70000, 100));
+        assertThat(subscription.getDropped()).isZero();
+        assertThat(meterRegistry.get("marketdata.consumer.delivered").tag("consumer", "all").counter().count())
+                .isEqualTo(100);
+        assertThat(meterRegistry.get("marketdata.consumer.lag").tag("consumer", "all").timer().count())
+                .isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("EVERY_TICK - 큐가 가득 차면 틱 버림 + 카운트 (발행 스레드는 대기하지 않음)")
+    void everyTick_DropsWhenQueueFull() throws Exception {
+        // Given - blocked consumer with a queue of 4
+        ReflectionTestUtils.setField(conflator, "queueCapacity", 4);
+        CountDownLatch release = new CountDownLatch(1);
+        MarketDataConflator.Subscription subscription = conflator.subscribe(
+                "slow", MarketDataConflator.Mode.EVERY_TICK, null, tick -> {
+                    await(release);
+                    delivered.add(tick);
+                });
+
+        // When
+        conflator.publish(tick("005930", 70000), System.nanoTime());
+        waitUntil(() -> subscription.getPending() == 0);
+        for (int i = 1; i <= 10; i++) {
+            conflator.publish(tick("005930", 70000 + i), System.nanoTime());
+        }
+        release.countDown();
+
+        // Then - 1 in flight + 4 queued, 6 dropped
+        awaitDelivered(subscription, 5);
+        assertThat(subscription.getDropped()).isEqualTo(6);
+        assertThat(delivered).extracting(t -> t.getPrice().intValue())
+                .containsExactly(70000, 70001, 70002, 70003, 70004);
+    }
+
+    @Test
+    @DisplayName("LATEST - 느린 소비자는 심볼별 최신 틱만 수신")
+    void latest_SlowConsumerSeesLatestPerSymbol() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        MarketDataConflator.Subscription subscription = conflator.subscribe(
+                "strategy", MarketDataConflator.Mode.LATEST, null, tick -> {
+                    await(release);
+                    delivered.add(tick);
+                });
+
+        // When - first tick blocks the consumer, the rest pile up
+        conflator.publish(tick("005930", 70000), System.nanoTime());
+        waitUntil(() -> subscription.getPending() == 0);
+        for (int i = 1; i <= 50; i++) {
+            conflator.publish(tick("005930", 70000 + i), System.nanoTime());
+            conflator.publish(tick("000660", 100000 + i), System.nanoTime());
+        }
+        assertThat(subscription.getPending()).isEqualTo(2);
+        release.countDown();
+
+        // Then
+        awaitDelivered(subscription, 3);
+        assertThat(delivered).extracting(t -> t.getPrice().intValue())
+                .containsExactly(70000, 70050, 100050);
+        assertThat(subscription.getDropped()).isEqualTo(98);
+        assertThat(subscription.getStats().maxLagMillis()).isPositive();
+    }
+
+    @Test
+    @DisplayName("INTERVAL - 심볼별 주기당 최대 1회 전달")
+    void interval_DeliversAtMostOncePerInterval() throws Exception {
+        // Given
+        MarketDataConflator.Subscription subscription = conflator.subscribe(
+                "dashboard", MarketDataConflator.Mode.INTERVAL, Duration.ofMillis(200), delivered::add);
+
+        // When - about 2 intervals of continuous ticks
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(450);
+        int published = 0;
+        while (System.nanoTime() < end) {
+            conflator.publish(tick("005930", 70000 + published++), System.nanoTime());
+            Thread.sleep(1);
+        }
+        awaitDelivered(subscription, 2);
+        Thread.sleep(250);
+
+        // Then
+        assertThat(delivered.size()).isBetween(2, 3);
+        assertThat(subscription.getDelivered() + subscription.getDropped()).isEqualTo(published);
+        assertThat(delivered.get(delivered.size() - 1).getPrice().intValue()).isEqualTo(70000 + published - 1);
+    }
+
+    @Test
+    @DisplayName("INTERVAL - 주기 없이 등록하면 예외")
+    void interval_RequiresPositiveInterval() {
+        assertThatThrownBy(() -> conflator.subscribe("bad", MarketDataConflator.Mode.INTERVAL, Duration.ZERO, t -> {}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("구독 해제 - 전달 중지, 통계와 지표에서 제거")
+    void close_StopsDeliveryAndRemovesMeters() throws Exception {
+        // Given
+        MarketDataConflator.Subscription subscription = conflator.subscribe(
+                "temp", MarketDataConflator.Mode.LATEST, null, delivered::add);
+        conflator.publish(tick("005930", 70000), System.nanoTime());
+        awaitDelivered(subscription, 1);
+
+        // When
+        subscription.close();
+        conflator.publish(tick("005930", 70001), System.nanoTime());
+        Thread.sleep(150);
+
+        // Then
+        assertThat(delivered).hasSize(1);
+        assertThat(conflator.getStats()).isEmpty();
+        assertThat(meterRegistry.find("marketdata.consumer.delivered").tag("consumer", "temp").counter()).isNull();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private MarketTick tick(String symbol, int price) {
+        return new MarketTick(symbol, BigDecimal.valueOf(price), 10L, LocalDateTime.now(), "NORMAL");
+    }
+
+    private List<Integer> range(int start, int count) {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            values.add(start + i);
+        }
+        return values;
+    }
+
+    private void awaitDelivered(MarketDataConflator.Subscription subscription, long count) throws InterruptedException {
+        waitUntil(() -> subscription.getDelivered() >= count);
+    }
+
+    private void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
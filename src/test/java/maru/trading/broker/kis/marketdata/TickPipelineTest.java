@@ -0,0 +1,164 @@
+package maru.trading.broker.kis.marketdata;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.TestFixtures;
+import maru.trading.broker.kis.ws.KisWebSocketMessageParser;
+import maru.trading.domain.market.MarketTick;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * TickPipeline 테스트
+ *
+ * 테스트 범위:
+ * 1. 파서/샤드 스레드를 거쳐 모든 틱 처리, 심볼별 순서 유지
+ * 2. 수신 링 가득 참 → 프레임 버림 + 카운트
+ * 3. 비활성화 → 호출 스레드에서 동기 처리
+ * 4. SpscRingBuffer 슬롯 재사용
+ */
+@DisplayName("TickPipeline 테스트")
+class TickPipelineTest {
+
+    private MarketDataCollector collector;
+    private SimpleMeterRegistry meterRegistry;
+    private TickPipeline pipeline;
+    private final List<MarketTick> processed = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        collector = mock(MarketDataCollector.class);
+        doAnswer(invocation -> processed.add(invocation.getArgument(0))).when(collector).onTick(any(), anyLong());
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new TickPipeline(new KisWebSocketMessageParser(new ObjectMapper(), Clock.systemDefaultZone()), collector, meterRegistry);
+        ReflectionTestUtils.setField(pipeline, "enabled", true);
+        ReflectionTestUtils.setField(pipeline, "rawBufferSize", 64);
+        ReflectionTestUtils.setField(pipeline, "shardBufferSize", 16);
+        ReflectionTestUtils.setField(pipeline, "shardCount", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.stop();
+    }
+
+    @Test
+    @DisplayName("모든 프레임 처리 - 심볼별 수신 순서 유지")
+    void publish_ProcessesAllTicksInSymbolOrder() throws Exception {
+        // Given
+        pipeline.start();
+
+        // When - 두 심볼 교차 수신, 링보다 많은 프레임
+        for (int i = 0; i < 200; i++) {
+            while (!pipeline.publish(frame("005930", 70000 + i, i))) {
+                Thread.sleep(1);
+            }
+            while (!pipeline.publish(frame("000660", 50000 + i, i))) {
+                Thread.sleep(1);
+            }
+        }
+
+        // Then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (processed.size() < 400 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(processed).hasSize(400);
+        assertThat(pricesOf("005930")).isSorted().hasSize(200).startsWith(70000L);
+        assertThat(pricesOf("000660")).isSorted().hasSize(200).startsWith(50000L);
+        assertThat(meterRegistry.get("marketdata.pipeline.latency").tag("stage", "process").timer().count())
+                .isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("수신 링 가득 참 → publish false, dropped 카운트")
+    void publish_RawRingFull_Drops() {
+        // Given - 스레드 없이 링만 생성
+        ReflectionTestUtils.setField(pipeline, "rawBufferSize", 4);
+        pipeline.open();
+        for (int i = 0; i < 4; i++) {
+            assertThat(pipeline.publish(frame("005930", 70000, i))).isTrue();
+        }
+
+        // When
+        boolean accepted = pipeline.publish(frame("005930", 70000, 4));
+
+        // Then
+        assertThat(accepted).isFalse();
+        assertThat(meterRegistry.counter("marketdata.pipeline.dropped").count()).isEqualTo(1.0);
+        assertThat(pipeline.getDepths()).containsEntry("raw", 4);
+        verify(collector, never()).onTick(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("비활성화 → 호출 스레드에서 파싱 후 즉시 처리")
+    void publish_Disabled_ProcessesInline() {
+        // Given
+        ReflectionTestUtils.setField(pipeline, "enabled", false);
+        pipeline.start();
+
+        // When
+        pipeline.publish(frame("005930", 70100, 0));
+        pipeline.publish("garbage");
+
+        // Then
+        assertThat(processed).singleElement()
+                .satisfies(tick -> assertThat(tick.getPrice()).isEqualByComparingTo("70100"));
+        assertThat(meterRegistry.counter("marketdata.pipeline.parse.failed").count()).isEqualTo(1.0);
+    }
+
+    @Nested
+    @DisplayName("SpscRingBuffer")
+    class RingBufferTests {
+
+        @Test
+        @DisplayName("용량은 2의 거듭제곱, 해제된 슬롯만 재사용")
+        void ring_ReusesReleasedSlots() {
+            SpscRingBuffer<long[]> ring = new SpscRingBuffer<>(3, () -> new long[1]);
+            assertThat(ring.capacity()).isEqualTo(4);
+
+            for (int i = 0; i < 4; i++) {
+                long sequence = ring.tryClaim();
+                ring.get(sequence)[0] = i;
+                ring.publish(sequence);
+            }
+            assertThat(ring.tryClaim()).isEqualTo(-1);
+            assertThat(ring.size()).isEqualTo(4);
+
+            ring.release(1);
+            long sequence = ring.tryClaim();
+
+            assertThat(sequence).isEqualTo(4);
+            assertThat(ring.get(sequence)).isSameAs(ring.get(0));
+            assertThat(ring.size()).isEqualTo(2);
+        }
+    }
+
+    private List<Long> pricesOf(String symbol) {
+        synchronized (processed) {
+            return processed.stream()
+                    .filter(tick -> tick.getSymbol().equals(symbol))
+                    .map(tick -> tick.getPrice().longValue())
+                    .toList();
+        }
+    }
+
+    private static String frame(String symbol, long price, int second) {
+        return TestFixtures.kisTickFrame(
+                TestFixtures.kisTickRecord(symbol, String.format("0930%02d", second % 60), price, '2', 10));
+    }
+}
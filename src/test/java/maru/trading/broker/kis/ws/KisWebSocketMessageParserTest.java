@@ -0,0 +1,165 @@
+package maru.trading.broker.kis.ws;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import maru.trading.domain.market.MarketTick;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static maru.trading.TestFixtures.kisTickFrame;
+import static maru.trading.TestFixtures.kisTickRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KisWebSocketMessageParser Test")
+class KisWebSocketMessageParserTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private MutableClock clock;
+    private KisWebSocketMessageParser parser;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(LocalDateTime.of(2026, 1, 5, 9, 30).atZone(KST).toInstant(), KST);
+        parser = new KisWebSocketMessageParser(new ObjectMapper(), clock);
+    }
+
+    @Nested
+    @DisplayName("parseFrame")
+    class ParseFrame {
+
+        @Test
+        @DisplayName("Should decode every record of a multi-record frame")
+        void parseFrame_AllRecords() {
+            String frame = kisTickFrame(
+                    kisTickRecord("005930", "093015", 72000, '2', 150),
+                    kisTickRecord("005930", "093016", 72100, '1', 20),
+                    kisTickRecord("000660", "093016", 130500, '4', 7));
+
+            List<MarketTick> ticks = parser.parseTicks(frame);
+
+            assertThat(ticks).hasSize(3);
+            assertThat(ticks.get(0).getSymbol()).isEqualTo("005930");
+            assertThat(ticks.get(0).getPrice()).isEqualByComparingTo("72000");
+            assertThat(ticks.get(0).getVolume()).isEqualTo(150);
+            assertThat(ticks.get(0).getTimestamp()).isEqualTo(LocalDateTime.of(2026, 1, 5, 9, 30, 15));
+            assertThat(ticks.get(1).getTradingStatus()).isEqualTo("UPPER_LIMIT");
+            assertThat(ticks.get(2).getSymbol()).isEqualTo("000660");
+            assertThat(ticks.get(2).getTradingStatus()).isEqualTo("LOWER_LIMIT");
+        }
+
+        @Test
+        @DisplayName("Should deliver primitives with interned symbols")
+        void parseFrame_PrimitivesAndInternedSymbols() {
+            List<String> symbols = new ArrayList<>();
+            List<Integer> seconds = new ArrayList<>();
+            KisWebSocketMessageParser.TickSink sink = (symbol, price, volume, date, secondOfDay, status) -> {
+                symbols.add(symbol);
+                seconds.add(secondOfDay);
+            };
+
+            parser.parseFrame(kisTickFrame(kisTickRecord("005930", "153000", 72000, '2', 1)), sink);
+            parser.parseFrame(new StringBuilder(kisTickFrame(kisTickRecord("005930", "000001", 72000, '2', 1))), sink);
+
+            assertThat(symbols.get(0)).isSameAs(symbols.get(1));
+            assertThat(seconds).containsExactly(15 * 3600 + 30 * 60, 1);
+        }
+
+        @Test
+        @DisplayName("Should skip invalid records and keep the valid ones")
+        void parseFrame_SkipsInvalidRecord() {
+            String frame = kisTickFrame(
+                    kisTickRecord("005930", "093015", 72000, '2', 150),
+                    kisTickRecord("005930", "99xx99", 72000, '2', 150),
+                    kisTickRecord("005930", "093017", 72200, '2', 5));
+
+            List<MarketTick> ticks = parser.parseTicks(frame);
+
+            assertThat(ticks).extracting(tick -> tick.getPrice().longValue()).containsExactly(72000L, 72200L);
+        }
+
+        @Test
+        @DisplayName("Should ignore other TR IDs, encrypted frames and malformed headers")
+        void parseFrame_IgnoresNonTickFrames() {
+            KisWebSocketMessageParser.TickSink sink = (symbol, price, volume, date, secondOfDay, status) -> {
+                throw new AssertionError("No tick expected");
+            };
+
+            assertThat(parser.parseFrame("0|H0STASP0|001|005930^0^0", sink)).isZero();
+            assertThat(parser.parseFrame("1|H0STCNT0|001|encrypted", sink)).isZero();
+            assertThat(parser.parseFrame("0|H0STCNT0|abc|005930", sink)).isZero();
+            assertThat(parser.parseFrame("0|H0STCNT0", sink)).isZero();
+        }
+
+        @Test
+        @DisplayName("parseTickMessage should return the first record")
+        void parseTickMessage_FirstRecord() {
+            MarketTick tick = parser.parseTickMessage(kisTickFrame(
+                    kisTickRecord("005930", "093015", 72000, '2', 150),
+                    kisTickRecord("005930", "093016", 72100, '2', 20)));
+
+            assertThat(tick).isNotNull();
+            assertThat(tick.getPrice()).isEqualByComparingTo("72000");
+        }
+    }
+
+    @Test
+    @DisplayName("trIdOf should read the TR ID from the frame header")
+    void trIdOf() {
+        assertThat(KisWebSocketMessageParser.trIdOf("0|H0STCNT0|001|x")).isSameAs(KisWebSocketMessageParser.TR_TICK);
+        assertThat(KisWebSocketMessageParser.trIdOf("1|H0STCNI9|001|x"))
+                .isSameAs(KisWebSocketMessageParser.TR_FILL_NOTICE_PAPER);
+        assertThat(KisWebSocketMessageParser.trIdOf("0|UNKNOWN|001|x")).isNull();
+        assertThat(KisWebSocketMessageParser.trIdOf("{\"header\":{}}")).isNull();
+    }
+
+    @Test
+    @DisplayName("Trading date should be cached and roll over at midnight")
+    void tradingDate_RollsAtMidnight() {
+        assertThat(parser.tradingDate()).isEqualTo(LocalDate.of(2026, 1, 5));
+
+        clock.instant = LocalDateTime.of(2026, 1, 5, 23, 59, 59).atZone(KST).toInstant();
+        assertThat(parser.tradingDate()).isEqualTo(LocalDate.of(2026, 1, 5));
+
+        clock.instant = LocalDateTime.of(2026, 1, 6, 0, 0).atZone(KST).toInstant();
+        assertThat(parser.tradingDate()).isEqualTo(LocalDate.of(2026, 1, 6));
+    }
+
+    /**
+     * Clock whose instant can be moved by the test.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+        private final ZoneId zone;
+
+        MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
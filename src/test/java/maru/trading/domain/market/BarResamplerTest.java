@@ -0,0 +1,201 @@
+package maru.trading.domain.market;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BarResampler / IncrementalBarResampler 도메인 테스트
+ *
+ * 테스트 범위:
+ * 1. 세션 기준 버킷 경계 계산
+ * 2. 컬럼 배열 일괄 리샘플링
+ * 3. 1분봉 마감 시 점진적 상위 봉 생성
+ */
+@DisplayName("BarResampler 도메인 테스트")
+class BarResamplerTest {
+
+    // 2026-01-05 is a Monday
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 1, 5, 0, 0);
+
+    private BarResampler resampler;
+
+    @BeforeEach
+    void setUp() {
+        resampler = new BarResampler();
+    }
+
+    @Nested
+    @DisplayName("bucketStart()")
+    class BucketStartTests {
+
+        @ParameterizedTest(name = "{0} {1} -> {2}")
+        @CsvSource({
+                "09:00, 3m, 09:00",
+                "09:04, 3m, 09:03",
+                "09:14, 5m, 09:10",
+                "10:44, 15m, 10:30",
+                "15:29, 30m, 15:00",
+                "15:30, 5m, 15:25",    // 장 마감 동시호가 봉은 마지막 버킷에 포함
+                "15:30, 60m, 15:00",
+                "08:35, 60m, 08:30",   // 장전 시간외는 08:30 기준
+                "15:45, 15m, 15:40",   // 시간외 종가는 15:40 기준
+                "12:59, 1h, 12:00"
+        })
+        @DisplayName("세션 시작 시각 기준으로 버킷 시작을 계산한다")
+        void shouldAnchorBucketsAtSessionStart(String time, String timeframe, String expected) {
+            LocalDateTime timestamp = MONDAY.with(LocalTime.parse(time));
+
+            assertThat(resampler.bucketStart(timestamp, timeframe))
+                    .isEqualTo(MONDAY.with(LocalTime.parse(expected)));
+        }
+
+        @Test
+        @DisplayName("일봉은 자정 기준 날짜로 묶는다")
+        void shouldBucketDailyByDate() {
+            assertThat(resampler.bucketStart(MONDAY.withHour(15).withMinute(30), "1d")).isEqualTo(MONDAY);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 타임프레임은 예외")
+        void shouldRejectUnsupportedTimeframe() {
+            assertThatThrownBy(() -> resampler.bucketStart(MONDAY, "7m"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("버킷의 마지막 1분봉을 판별한다")
+        void shouldDetectLastMinuteOfBucket() {
+            assertThat(resampler.isBucketComplete(MONDAY.withHour(9).withMinute(4), "5m")).isTrue();
+            assertThat(resampler.isBucketComplete(MONDAY.withHour(9).withMinute(3), "5m")).isFalse();
+            assertThat(resampler.isBucketComplete(MONDAY.withHour(15).withMinute(29), "30m")).isFalse();
+            assertThat(resampler.isBucketComplete(MONDAY.withHour(15).withMinute(30), "30m")).isTrue();
+        }
+
+        @Test
+        @DisplayName("정규장 마지막 1분(15:30)은 60분봉과 일봉도 완성한다")
+        void shouldCompleteHourlyAndDailyAtRegularClose() {
+            assertThat(resampler.isBucketComplete(MONDAY.withHour(15).withMinute(30), "60m")).isTrue();
+            assertThat(resampler.isBucketComplete(MONDAY.withHour(15).withMinute(30), "1h")).isTrue();
+            assertThat(resampler.isBucketComplete(MONDAY.withHour(15).withMinute(30), "1d")).isTrue();
+            assertThat(resampler.isBucketComplete(MONDAY.withHour(15).withMinute(29), "60m")).isFalse();
+            assertThat(resampler.isBucketComplete(MONDAY.withHour(15).withMinute(29), "1d")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("resample() - 컬럼 일괄 처리")
+    class BulkResampleTests {
+
+        @Test
+        @DisplayName("1분봉 10개 → 5분봉 2개 OHLCV 집계")
+        void shouldAggregateOhlcv() {
+            BarColumns minutes = new BarColumns("005930", "1m", 4);
+            for (int i = 0; i < 10; i++) {
+                double price = 100 + i;
+                minutes.add(MONDAY.withHour(9).plusMinutes(i), price, price + 5, price - 5, price + 1, 10);
+            }
+
+            BarColumns fiveMinutes = resampler.resample(minutes, "5m");
+
+            assertThat(fiveMinutes.size()).isEqualTo(2);
+            assertThat(fiveMinutes.getTimestamp(0)).isEqualTo(MONDAY.withHour(9));
+            assertThat(fiveMinutes.getOpen(0)).isEqualTo(100);
+            assertThat(fiveMinutes.getHigh(0)).isEqualTo(109);
+            assertThat(fiveMinutes.getLow(0)).isEqualTo(95);
+            assertThat(fiveMinutes.getClose(0)).isEqualTo(105);
+            assertThat(fiveMinutes.getVolume(0)).isEqualTo(50);
+            assertThat(fiveMinutes.getTimestamp(1)).isEqualTo(MONDAY.withHour(9).withMinute(5));
+            assertThat(fiveMinutes.closes()).containsExactly(105, 110);
+        }
+
+        @Test
+        @DisplayName("결측 구간이 있어도 버킷별로 묶는다")
+        void shouldHandleGaps() {
+            BarColumns minutes = new BarColumns("005930", "1m", 4);
+            minutes.add(MONDAY.withHour(9).withMinute(1), 100, 100, 100, 100, 1);
+            minutes.add(MONDAY.withHour(9).withMinute(17), 101, 101, 101, 101, 1);
+
+            BarColumns fifteen = resampler.resample(minutes, "15m");
+
+            assertThat(fifteen.size()).isEqualTo(2);
+            assertThat(fifteen.getTimestamp(1)).isEqualTo(MONDAY.withHour(9).withMinute(15));
+        }
+    }
+
+    @Nested
+    @DisplayName("IncrementalBarResampler")
+    class IncrementalTests {
+
+        @Test
+        @DisplayName("버킷 마지막 1분봉에서 즉시 상위 봉을 마감한다")
+        void shouldEmitOnLastMinute() {
+            IncrementalBarResampler incremental = new IncrementalBarResampler(resampler, List.of("3m"));
+            List<MarketBar> emitted = new ArrayList<>();
+
+            for (int i = 0; i < 3; i++) {
+                emitted.addAll(incremental.onBar(minuteBar(MONDAY.withHour(9).plusMinutes(i), 100 + i)));
+            }
+
+            assertThat(emitted).hasSize(1);
+            MarketBar bar = emitted.get(0);
+            assertThat(bar.getTimeframe()).isEqualTo("3m");
+            assertThat(bar.isClosed()).isTrue();
+            assertThat(bar.getOpen()).isEqualByComparingTo("100");
+            assertThat(bar.getClose()).isEqualByComparingTo("102");
+            assertThat(bar.getVolume()).isEqualTo(300);
+        }
+
+        @Test
+        @DisplayName("다음 버킷 봉이 오면 미완성 봉을 마감하고 flush로 잔여 봉을 반환한다")
+        void shouldCloseOnGapAndFlush() {
+            IncrementalBarResampler incremental = new IncrementalBarResampler(resampler, List.of("5m"));
+
+            assertThat(incremental.onBar(minuteBar(MONDAY.withHour(9).withMinute(1), 100))).isEmpty();
+            List<MarketBar> closed = incremental.onBar(minuteBar(MONDAY.withHour(9).withMinute(6), 101));
+            List<MarketBar> flushed = incremental.flush("005930");
+
+            assertThat(closed).extracting(MarketBar::getBarTimestamp).containsExactly(MONDAY.withHour(9));
+            assertThat(flushed).extracting(MarketBar::getBarTimestamp)
+                    .containsExactly(MONDAY.withHour(9).withMinute(5));
+        }
+
+        @Test
+        @DisplayName("flush는 지정한 종목의 미완성 봉만 마감한다")
+        void shouldFlushOneSymbol() {
+            IncrementalBarResampler incremental = new IncrementalBarResampler(resampler, List.of("5m"));
+            BigDecimal price = BigDecimal.valueOf(200);
+            incremental.onBar(minuteBar(MONDAY.withHour(9).withMinute(1), 100));
+            incremental.onBar(MarketBar.restore("000660", "1m", MONDAY.withHour(9).withMinute(1),
+                    price, price, price, price, 100L, true));
+
+            assertThat(incremental.getPendingSymbols()).containsExactlyInAnyOrder("005930", "000660");
+            assertThat(incremental.flush("000660")).extracting(MarketBar::getSymbol).containsExactly("000660");
+            assertThat(incremental.getPendingSymbols()).containsExactly("005930");
+        }
+
+        @Test
+        @DisplayName("1분봉에서 파생할 수 없는 타임프레임은 예외")
+        void shouldRejectNonDerivableTimeframe() {
+            assertThatThrownBy(() -> new IncrementalBarResampler(resampler, List.of("1m")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static MarketBar minuteBar(LocalDateTime timestamp, int price) {
+        BigDecimal value = BigDecimal.valueOf(price);
+        return MarketBar.restore("005930", "1m", timestamp, value, value, value, value, 100L, true);
+    }
+}
@@ -499,4 +499,60 @@ class MarketHoursPolicyTest {
         // Then
         assertThat(nextOpening).isEqualTo(LocalDateTime.of(2025, 1, 6, 9, 0)); // Monday
     }
+
+    @Test
+    @DisplayName("getNextOpeningTime - 주말 장 시작 전 (월요일로 이동)")
+    void testGetNextOpeningTime_WeekendMorning() {
+        // Given
+        LocalDateTime time = LocalDateTime.of(2025, 1, 4, 8, 0); // Saturday 08:00
+
+        // When
+        LocalDateTime nextOpening = policy.getNextOpeningTime(time, TradingSession.REGULAR);
+
+        // Then
+        assertThat(nextOpening).isEqualTo(LocalDateTime.of(2025, 1, 6, 9, 0)); // Monday
+    }
+
+    @Test
+    @DisplayName("getNextOpeningTime - 공휴일 건너뛰기")
+    void testGetNextOpeningTime_SkipHoliday() {
+        // Given
+        LocalDateTime time = LocalDateTime.of(2024, 12, 31, 16, 0); // Tuesday, 다음날 신정
+
+        // When
+        LocalDateTime nextOpening = policy.getNextOpeningTime(time, TradingSession.REGULAR, publicHolidays);
+
+        // Then
+        assertThat(nextOpening).isEqualTo(LocalDateTime.of(2025, 1, 2, 9, 0));
+    }
+
+    // ==================== 11. getNextClosingTime Tests ====================
+
+    @Test
+    @DisplayName("getNextClosingTime - 장중 (당일 종료 시각)")
+    void testGetNextClosingTime_DuringSession() {
+        // Given
+        LocalDateTime time = LocalDateTime.of(2025, 1, 2, 10, 0); // Thursday 10:00
+
+        // When
+        LocalDateTime nextClosing = policy.getNextClosingTime(time, TradingSession.REGULAR, publicHolidays);
+
+        // Then
+        assertThat(nextClosing).isEqualTo(LocalDateTime.of(2025, 1, 2, 15, 30));
+    }
+
+    @Test
+    @DisplayName("getNextClosingTime - 종료 시각 이후 (다음 영업일)")
+    void testGetNextClosingTime_AfterClose() {
+        // Given
+        LocalDateTime time = LocalDateTime.of(2025, 1, 3, 15, 30); // Friday 15:30 (종료 시각 자체는 제외)
+
+        // When
+        LocalDateTime nextClosing = policy.getNextClosingTime(time, TradingSession.AFTER_HOURS_CLOSING, publicHolidays);
+
+        // Then
+        assertThat(nextClosing).isEqualTo(LocalDateTime.of(2025, 1, 3, 16, 0));
+        assertThat(policy.getNextClosingTime(nextClosing, TradingSession.AFTER_HOURS_CLOSING, publicHolidays))
+                .isEqualTo(LocalDateTime.of(2025, 1, 6, 16, 0)); // Monday
+    }
 }
@@ -390,4 +390,57 @@ class IndicatorLibraryTest {
                     .hasMessageContaining("positive");
         }
     }
+
+    @Nested
+    @DisplayName("Incremental Indicator Tests")
+    class IncrementalTests {
+
+        private final List<BigDecimal> prices = createPrices(
+                100, 102, 101, 105, 107, 104, 103, 108, 110, 109, 111, 106, 104, 107, 112, 115, 113, 114, 110, 108);
+
+        @Test
+        @DisplayName("RollingMA should equal calculateMA price by price")
+        void rollingMAShouldMatchBatch() {
+            IndicatorLibrary.RollingMA rolling = new IndicatorLibrary.RollingMA(5);
+            List<BigDecimal> batch = IndicatorLibrary.calculateMA(prices, 5);
+
+            for (int i = 0; i < prices.size(); i++) {
+                BigDecimal value = rolling.add(prices.get(i));
+                if (i < 4) {
+                    assertThat(value).isNull();
+                } else {
+                    assertThat(value).isEqualByComparingTo(batch.get(i - 4));
+                }
+            }
+            assertThat(rolling.isReady()).isTrue();
+        }
+
+        @Test
+        @DisplayName("RollingRSI should equal calculateRSI price by price")
+        void rollingRSIShouldMatchBatch() {
+            IndicatorLibrary.RollingRSI rolling = new IndicatorLibrary.RollingRSI(14);
+            List<BigDecimal> batch = IndicatorLibrary.calculateRSI(prices, 14);
+
+            for (int i = 0; i < prices.size(); i++) {
+                BigDecimal value = rolling.add(prices.get(i));
+                if (i < 14) {
+                    assertThat(value).isNull();
+                } else {
+                    assertThat(value).isEqualByComparingTo(batch.get(i - 14));
+                }
+            }
+            assertThat(rolling.getValue()).isEqualByComparingTo(batch.get(batch.size() - 1));
+        }
+
+        @Test
+        @DisplayName("Should throw for invalid period")
+        void shouldThrowForInvalidPeriod() {
+            assertThatThrownBy(() -> new IndicatorLibrary.RollingMA(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("positive");
+            assertThatThrownBy(() -> new IndicatorLibrary.RollingRSI(-1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("positive");
+        }
+    }
 }
@@ -0,0 +1,127 @@
+package maru.trading.domain.strategy;
+
+import maru.trading.domain.market.MarketHoursPolicy;
+import maru.trading.domain.market.TradingSession;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StrategyCadence Test")
+class StrategyCadenceTest {
+
+    private static final MarketHoursPolicy POLICY = new MarketHoursPolicy();
+    private static final Set<TradingSession> REGULAR = Set.of(TradingSession.REGULAR);
+
+    @Nested
+    @DisplayName("Parsing Tests")
+    class ParsingTests {
+
+        @Test
+        @DisplayName("Should default to 1-minute bar close without a cadence parameter")
+        void shouldDefaultToBarClose() {
+            assertThat(StrategyCadence.fromParams(Map.of("shortPeriod", 5))).isEqualTo(StrategyCadence.DEFAULT);
+            assertThat(StrategyCadence.fromParams(null)).isEqualTo(StrategyCadence.barClose("1m"));
+            assertThat(StrategyCadence.DEFAULT.isTimed()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should parse every cadence kind")
+        void shouldParseAllKinds() {
+            assertThat(StrategyCadence.parse("bar:5m")).isEqualTo(StrategyCadence.barClose("5m"));
+            assertThat(StrategyCadence.parse("bar")).isEqualTo(StrategyCadence.DEFAULT);
+            assertThat(StrategyCadence.parse(" EVERY:10s ")).isEqualTo(StrategyCadence.every(10));
+            assertThat(StrategyCadence.parse("every:2h").intervalSeconds()).isEqualTo(7200);
+            assertThat(StrategyCadence.parse("session-open"))
+                    .isEqualTo(StrategyCadence.sessionOpen(TradingSession.REGULAR));
+            assertThat(StrategyCadence.parse("session-close:after_hours_closing"))
+                    .isEqualTo(StrategyCadence.sessionClose(TradingSession.AFTER_HOURS_CLOSING));
+            assertThat(StrategyCadence.parse("every:1m").toString()).isEqualTo("every:60s");
+        }
+
+        @Test
+        @DisplayName("Should normalize timeframe aliases and name the context bar timeframe")
+        void shouldNormalizeTimeframes() {
+            assertThat(StrategyCadence.parse("bar:1h")).isEqualTo(StrategyCadence.barClose("60m"));
+            assertThat(StrategyCadence.parse("bar:1h").timeframe()).isEqualTo("60m");
+            assertThat(StrategyCadence.parse("bar:1d").barTimeframe()).isEqualTo("1d");
+            assertThat(StrategyCadence.every(10).barTimeframe()).isEqualTo("1m");
+            assertThat(StrategyCadence.sessionOpen(TradingSession.REGULAR).barTimeframe()).isEqualTo("1m");
+        }
+
+        @Test
+        @DisplayName("Should reject invalid cadences")
+        void shouldRejectInvalidCadences() {
+            assertThatThrownBy(() -> StrategyCadence.parse("bar:7m"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unsupported cadence timeframe");
+            assertThatThrownBy(() -> StrategyCadence.parse("every:10"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("unit must be s, m or h");
+            assertThatThrownBy(() -> StrategyCadence.parse("every:0s"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("between 1s and 24h");
+            assertThatThrownBy(() -> StrategyCadence.parse("session-open:lunch"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unknown trading session");
+            assertThatThrownBy(() -> StrategyCadence.parse("hourly"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unknown cadence");
+        }
+    }
+
+    @Nested
+    @DisplayName("Next Fire Time Tests")
+    class NextFireTimeTests {
+
+        @Test
+        @DisplayName("Should align intervals to the clock during the session")
+        void shouldAlignIntervals() {
+            StrategyCadence cadence = StrategyCadence.every(10);
+
+            LocalDateTime next = cadence.nextFireTime(LocalDateTime.of(2025, 1, 2, 10, 0, 3, 500_000_000),
+                    POLICY, REGULAR, null);
+
+            assertThat(next).isEqualTo(LocalDateTime.of(2025, 1, 2, 10, 0, 10));
+            assertThat(cadence.nextFireTime(next, POLICY, REGULAR, null))
+                    .isEqualTo(LocalDateTime.of(2025, 1, 2, 10, 0, 20));
+        }
+
+        @Test
+        @DisplayName("Should skip from the session end to the next business day's opening")
+        void shouldSkipClosedMarket() {
+            StrategyCadence cadence = StrategyCadence.every(60);
+            Set<LocalDate> holidays = Set.of(LocalDate.of(2025, 1, 6));
+
+            // Friday 15:30 is the last minute in session; Monday is a holiday
+            LocalDateTime next = cadence.nextFireTime(LocalDateTime.of(2025, 1, 3, 15, 30),
+                    POLICY, REGULAR, holidays);
+
+            assertThat(next).isEqualTo(LocalDateTime.of(2025, 1, 7, 9, 0));
+        }
+
+        @Test
+        @DisplayName("Should fire session cadences at the session start and end")
+        void shouldFollowSessions() {
+            LocalDateTime morning = LocalDateTime.of(2025, 1, 2, 8, 0);
+
+            assertThat(StrategyCadence.sessionOpen(TradingSession.REGULAR).nextFireTime(morning, POLICY, REGULAR, null))
+                    .isEqualTo(LocalDateTime.of(2025, 1, 2, 9, 0));
+            assertThat(StrategyCadence.sessionClose(TradingSession.REGULAR).nextFireTime(morning, POLICY, REGULAR, null))
+                    .isEqualTo(LocalDateTime.of(2025, 1, 2, 15, 30));
+        }
+
+        @Test
+        @DisplayName("Should refuse to time a bar close cadence")
+        void shouldRejectBarClose() {
+            assertThatThrownBy(() -> StrategyCadence.DEFAULT.nextFireTime(LocalDateTime.now(), POLICY, REGULAR, null))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
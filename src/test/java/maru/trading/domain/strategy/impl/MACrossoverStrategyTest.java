@@ -289,6 +289,41 @@ class MACrossoverStrategyTest {
         assertThat(type).isEqualTo("MA_CROSSOVER");
     }
 
+    // ==================== 8. Incremental State Tests ====================
+
+    @Test
+    @DisplayName("증분 평가 - 바를 하나씩 적용해도 전체 재계산과 같은 시그널")
+    void testIncremental_MatchesFullEvaluation() {
+        // Given - 앞 20개 바로 워밍업
+        List<MarketBar> bars = createBarsWithGoldenCross();
+        strategy.warmUp(bars.subList(0, 20), params);
+
+        // When & Then - 이후 바마다 증분 평가 == 전체 재계산
+        for (int i = 20; i < bars.size(); i++) {
+            strategy.onBar(bars.get(i));
+            StrategyContext context = createContext(bars.subList(0, i + 1), params);
+
+            SignalDecision incremental = strategy.evaluateState(context);
+            SignalDecision full = new MACrossoverStrategy().evaluate(context);
+
+            assertThat(incremental.getSignalType()).isEqualTo(full.getSignalType());
+            assertThat(incremental.getReason()).isEqualTo(full.getReason());
+        }
+        assertThat(strategy.getBarCount()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("증분 평가 - 적용된 바 부족 시 예외")
+    void testIncremental_InsufficientBars() {
+        // Given
+        strategy.warmUp(createBarsWithConstantPrice(20, BigDecimal.valueOf(70000)), params);
+
+        // When & Then - longPeriod + 1 = 21개 필요
+        assertThatThrownBy(() -> strategy.evaluateState(createContext(List.of(), params)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Insufficient bars");
+    }
+
     // ==================== Helper Methods ====================
 
     private StrategyContext createContext(List<MarketBar> bars, Map<String, Object> params) {
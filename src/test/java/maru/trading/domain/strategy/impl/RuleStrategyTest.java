@@ -0,0 +1,230 @@
+package maru.trading.domain.strategy.impl;
+
+import maru.trading.domain.market.MarketBar;
+import maru.trading.domain.signal.SignalDecision;
+import maru.trading.domain.signal.SignalType;
+import maru.trading.domain.strategy.StrategyContext;
+import maru.trading.domain.strategy.StrategyFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RuleStrategy 테스트
+ *
+ * 테스트 범위:
+ * 1. 진입 규칙 충족 → BUY 시그널
+ * 2. 청산 규칙 충족 → SELL 시그널
+ * 3. 규칙 불충족 → HOLD 시그널
+ * 4. 파라미터 검증 (규칙 문법 오류)
+ * 5. 최소 바 부족 시 예외
+ * 6. 증분 평가 == 전체 재계산
+ */
+@DisplayName("RuleStrategy 도메인 테스트")
+class RuleStrategyTest {
+
+    private RuleStrategy strategy;
+    private Map<String, Object> params;
+
+    @BeforeEach
+    void setUp() {
+        params = new HashMap<>();
+        params.put("entry", "crossAbove(sma(close, fast), sma(close, slow))");
+        params.put("exit", "crossBelow(sma(close, fast), sma(close, slow))");
+        params.put("fast", 5);
+        params.put("slow", 20);
+        params.put("ttlSeconds", 120);
+
+        strategy = new RuleStrategy();
+    }
+
+    // ==================== 1. Entry Rule Tests ====================
+
+    @Test
+    @DisplayName("진입 규칙 충족 - BUY 시그널 생성")
+    void testEntryRule_BuySignal() {
+        // Given - 단기 이평이 장기 이평을 상향 돌파
+        List<MarketBar> bars = createBars(21, 200, 7, 50, 2, 500);
+
+        // When
+        SignalDecision decision = strategy.evaluate(createContext(bars, params));
+
+        // Then
+        assertThat(decision.getSignalType()).isEqualTo(SignalType.BUY);
+        assertThat(decision.getTargetValue()).isEqualByComparingTo(BigDecimal.ONE);
+        assertThat(decision.getReason()).contains("Entry rule matched").contains("crossAbove");
+        assertThat(decision.getTtlSeconds()).isEqualTo(120);
+    }
+
+    // ==================== 2. Exit Rule Tests ====================
+
+    @Test
+    @DisplayName("청산 규칙 충족 - SELL 시그널 생성")
+    void testExitRule_SellSignal() {
+        // Given - 단기 이평이 장기 이평을 하향 돌파
+        List<MarketBar> bars = createBars(21, 200, 6, 500, 3, 10);
+
+        // When
+        SignalDecision decision = strategy.evaluate(createContext(bars, params));
+
+        // Then
+        assertThat(decision.getSignalType()).isEqualTo(SignalType.SELL);
+        assertThat(decision.getReason()).contains("Exit rule matched").contains("crossBelow");
+    }
+
+    // ==================== 3. Hold Tests ====================
+
+    @Test
+    @DisplayName("규칙 불충족 - HOLD 시그널")
+    void testNoRule_HoldSignal() {
+        // Given - 가격 변동 없음
+        List<MarketBar> bars = createBars(30, 200);
+
+        // When
+        SignalDecision decision = strategy.evaluate(createContext(bars, params));
+
+        // Then
+        assertThat(decision.getSignalType()).isEqualTo(SignalType.HOLD);
+        assertThat(decision.getReason()).isEqualTo("No rule matched");
+    }
+
+    @Test
+    @DisplayName("청산 규칙 없이 진입 규칙만 사용")
+    void testEntryOnly() {
+        // Given
+        Map<String, Object> entryOnly = Map.of("entry", "close > highest(prev(high, 1), 3)");
+        List<MarketBar> bars = createBars(5, 200, 1, 500);
+
+        // When
+        SignalDecision decision = strategy.evaluate(createContext(bars, entryOnly));
+
+        // Then
+        assertThat(decision.getSignalType()).isEqualTo(SignalType.BUY);
+        assertThat(decision.getTtlSeconds()).isEqualTo(300); // 기본 TTL
+    }
+
+    // ==================== 4. Parameter Validation Tests ====================
+
+    @Test
+    @DisplayName("파라미터 검증 - 정상 규칙")
+    void testValidateParams_Valid() {
+        assertThatCode(() -> strategy.validateParams(params)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("파라미터 검증 - 진입 규칙 누락")
+    void testValidateParams_MissingEntry() {
+        params.remove("entry");
+
+        assertThatThrownBy(() -> strategy.validateParams(params))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Missing required parameter: entry");
+    }
+
+    @Test
+    @DisplayName("파라미터 검증 - 규칙 문법 오류 위치 표시")
+    void testValidateParams_SyntaxError() {
+        params.put("exit", "sma(close, fast) >");
+
+        assertThatThrownBy(() -> strategy.validateParams(params))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at position");
+    }
+
+    // ==================== 5. Minimum Bars Tests ====================
+
+    @Test
+    @DisplayName("최소 바 부족 - 예외 발생")
+    void testInsufficientBars() {
+        // Given - 크로스 판정에 slow + 1 = 21개 필요
+        List<MarketBar> bars = createBars(20, 200);
+
+        // When & Then
+        assertThatThrownBy(() -> strategy.evaluate(createContext(bars, params)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Insufficient bars for RULES: need 21, got 20");
+        assertThat(RuleStrategy.requiredBars(params)).isEqualTo(21);
+    }
+
+    @Test
+    @DisplayName("팩토리에서 RULES 타입 생성")
+    void testFactory() {
+        assertThat(StrategyFactory.createStrategy("RULES")).isInstanceOf(RuleStrategy.class);
+        assertThat(strategy.getStrategyType()).isEqualTo("RULES");
+    }
+
+    // ==================== 6. Incremental State Tests ====================
+
+    @Test
+    @DisplayName("증분 평가 - 바를 하나씩 적용해도 전체 재계산과 같은 시그널")
+    void testIncremental_MatchesFullEvaluation() {
+        // Given - 앞 20개 바로 워밍업
+        // 바 21: 하향 돌파, 바 29: 상향 돌파, 바 37: 하향 돌파
+        List<MarketBar> bars = createBars(21, 200, 7, 50, 7, 500, 3, 10);
+        strategy.warmUp(bars.subList(0, 20), params);
+
+        // When & Then - 이후 바마다 증분 평가 == 전체 재계산
+        int signals = 0;
+        for (int i = 20; i < bars.size(); i++) {
+            strategy.onBar(bars.get(i));
+            StrategyContext context = createContext(bars.subList(0, i + 1), params);
+
+            SignalDecision incremental = strategy.evaluateState(context);
+            SignalDecision full = new RuleStrategy().evaluate(context);
+
+            assertThat(incremental.getSignalType()).isEqualTo(full.getSignalType());
+            assertThat(incremental.getReason()).isEqualTo(full.getReason());
+            signals += incremental.getSignalType() != SignalType.HOLD ? 1 : 0;
+        }
+        assertThat(signals).isEqualTo(3);
+        assertThat(strategy.getBarCount()).isEqualTo(bars.size());
+    }
+
+    @Test
+    @DisplayName("증분 평가 - 워밍업 전 호출 시 예외")
+    void testIncremental_NotWarmedUp() {
+        assertThatThrownBy(() -> strategy.evaluateState(createContext(List.of(), params)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not warmed up");
+    }
+
+    // ==================== Helper Methods ====================
+
+    private StrategyContext createContext(List<MarketBar> bars, Map<String, Object> params) {
+        return StrategyContext.builder()
+                .strategyId("STR_001")
+                .symbol("005930")
+                .accountId("ACC_001")
+                .bars(bars)
+                .params(params)
+                .timeframe("1m")
+                .build();
+    }
+
+    /**
+     * 구간별 가격의 바 생성.
+     *
+     * @param segments (바 개수, 가격) 쌍의 나열, 예: 21, 200, 7, 50 → 200원 21개 다음 50원 7개
+     */
+    private List<MarketBar> createBars(int... segments) {
+        List<MarketBar> bars = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 2, 9, 0);
+        for (int s = 0; s < segments.length; s += 2) {
+            BigDecimal price = BigDecimal.valueOf(segments[s + 1]);
+            for (int i = 0; i < segments[s]; i++) {
+                bars.add(MarketBar.restore("005930", "1m", start.plusMinutes(bars.size()),
+                        price, price, price, price, 100L, true));
+            }
+        }
+        return bars;
+    }
+}
@@ -0,0 +1,215 @@
+package maru.trading.domain.strategy.rule;
+
+import maru.trading.domain.market.MarketBar;
+import maru.trading.domain.strategy.IndicatorLibrary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Rule language Test")
+class CompiledRuleTest {
+
+    private static List<MarketBar> randomBars(int count, long seed) {
+        Random random = new Random(seed);
+        List<MarketBar> bars = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 2, 9, 0);
+        double price = 70000;
+        for (int i = 0; i < count; i++) {
+            double open = price;
+            price = Math.max(1000, price + random.nextGaussian() * 300);
+            double high = Math.max(open, price) + random.nextInt(100);
+            double low = Math.min(open, price) - random.nextInt(100);
+            bars.add(MarketBar.restore("005930", "1m", start.plusMinutes(i),
+                    BigDecimal.valueOf(Math.round(open)), BigDecimal.valueOf(Math.round(high)),
+                    BigDecimal.valueOf(Math.round(low)), BigDecimal.valueOf(Math.round(price)),
+                    1000L + random.nextInt(5000), true));
+        }
+        return bars;
+    }
+
+    @Nested
+    @DisplayName("Parser Tests")
+    class ParserTests {
+
+        @Test
+        @DisplayName("Should parse the example rule with precedence")
+        void shouldParseExampleRule() {
+            RuleNode rule = RuleParser.parse("crossAbove(ema(close,12), ema(close,26)) && rsi(close,14) < 70", null);
+
+            assertThat(rule).isInstanceOf(RuleNode.And.class);
+            RuleNode.And and = (RuleNode.And) rule;
+            assertThat(and.left()).isInstanceOf(RuleNode.Cross.class);
+            assertThat(and.right()).isEqualTo(new RuleNode.Comparison(RuleNode.Comparator.LESS,
+                    new RuleNode.IndicatorCall(RuleNode.Indicator.RSI, new RuleNode.BarField(RuleNode.Field.CLOSE), 14),
+                    new RuleNode.Constant(70)));
+            assertThat(rule.firstBar()).isEqualTo(27); // ema(26) + 1 for the crossover
+        }
+
+        @Test
+        @DisplayName("Should substitute numeric parameters by name")
+        void shouldSubstituteParameters() {
+            RuleNode rule = RuleParser.parse("rsi(close, period) < oversold", Map.of("period", 9, "oversold", 30.5));
+
+            assertThat(rule).isEqualTo(new RuleNode.Comparison(RuleNode.Comparator.LESS,
+                    new RuleNode.IndicatorCall(RuleNode.Indicator.RSI, new RuleNode.BarField(RuleNode.Field.CLOSE), 9),
+                    new RuleNode.Constant(30.5)));
+        }
+
+        @Test
+        @DisplayName("Should bind multiplication tighter than addition")
+        void shouldRespectArithmeticPrecedence() {
+            RuleNode rule = RuleParser.parse("close > open + 2 * -3", null);
+
+            assertThat(((RuleNode.Comparison) rule).right()).isEqualTo(new RuleNode.Arithmetic(RuleNode.Operator.ADD,
+                    new RuleNode.BarField(RuleNode.Field.OPEN),
+                    new RuleNode.Arithmetic(RuleNode.Operator.MULTIPLY, new RuleNode.Constant(2), new RuleNode.Constant(-3))));
+        }
+
+        @Test
+        @DisplayName("Should reject rules that are not conditions")
+        void shouldRejectNumericRule() {
+            assertThatThrownBy(() -> RuleParser.parse("sma(close, 5)", null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("must be a condition");
+        }
+
+        @Test
+        @DisplayName("Should report the position of unknown names")
+        void shouldRejectUnknownName() {
+            assertThatThrownBy(() -> RuleParser.parse("close > limit", null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unknown name 'limit' at position 9");
+        }
+
+        @Test
+        @DisplayName("Should reject non-integer or non-constant periods")
+        void shouldRejectInvalidPeriod() {
+            assertThatThrownBy(() -> RuleParser.parse("sma(close, 2.5) > 0", null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("period must be an integer");
+            assertThatThrownBy(() -> RuleParser.parse("sma(close, volume) > 0", null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("period must be an integer");
+        }
+
+        @Test
+        @DisplayName("Should reject mixing conditions and numbers")
+        void shouldRejectTypeMismatch() {
+            assertThatThrownBy(() -> RuleParser.parse("close && open > 1", null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Expected a condition");
+            assertThatThrownBy(() -> RuleParser.parse("(close > 1) + 1 > 0", null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Expected a number");
+        }
+
+        @Test
+        @DisplayName("Should reject unbalanced parentheses and trailing input")
+        void shouldRejectSyntaxErrors() {
+            assertThatThrownBy(() -> RuleParser.parse("(close > 1", null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Expected ')'");
+            assertThatThrownBy(() -> RuleParser.parse("close > 1 )", null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unexpected ')'");
+        }
+    }
+
+    @Nested
+    @DisplayName("Compiled Rule Tests")
+    class CompiledTests {
+
+        @Test
+        @DisplayName("Should match the interpreter on every bar")
+        void shouldMatchInterpreter() {
+            List<MarketBar> bars = randomBars(300, 7);
+            String[] sources = {
+                    "crossAbove(ema(close,12), ema(close,26)) && rsi(close,14) < 70",
+                    "crossBelow(sma(close,5), sma(close,20)) || rsi(close,14) > 65",
+                    "close > highest(prev(high,1), 20) && volume > sma(volume, 10) * 1.2",
+                    "!(abs(close - open) < (high - low) / 3) && min(open, close) > lowest(low, 5)",
+                    "ema(rsi(close, 7), 5) > 50 && close - prev(close, 3) != 0",
+            };
+
+            for (String source : sources) {
+                RuleNode rule = RuleParser.parse(source, null);
+                CompiledRule compiled = CompiledRule.compile(rule);
+                int matches = 0;
+                for (int i = 0; i < bars.size(); i++) {
+                    compiled.onBar(bars.get(i));
+                    boolean expected = RuleInterpreter.test(rule, bars.subList(0, i + 1));
+                    assertThat(compiled.test()).as("%s at bar %d", source, i).isEqualTo(expected);
+                    matches += expected ? 1 : 0;
+                }
+                assertThat(matches).as(source).isPositive();
+            }
+        }
+
+        @Test
+        @DisplayName("Should agree with IndicatorLibrary EMA and RSI")
+        void shouldAgreeWithIndicatorLibrary() {
+            List<MarketBar> bars = randomBars(60, 11);
+            List<BigDecimal> closes = bars.stream().map(MarketBar::getClose).toList();
+            double ema = IndicatorLibrary.calculateEMA(closes, 12).get(60 - 12).doubleValue();
+            double rsi = IndicatorLibrary.calculateRSI(closes, 14).get(60 - 15).doubleValue();
+
+            CompiledRule emaAbove = compileAndFeed("ema(close,12) > " + (ema - 0.01), bars);
+            CompiledRule emaBelow = compileAndFeed("ema(close,12) < " + (ema + 0.01), bars);
+            CompiledRule rsiAbove = compileAndFeed("rsi(close,14) > " + (rsi - 0.01), bars);
+            CompiledRule rsiBelow = compileAndFeed("rsi(close,14) < " + (rsi + 0.01), bars);
+
+            assertThat(emaAbove.test()).isTrue();
+            assertThat(emaBelow.test()).isTrue();
+            assertThat(rsiAbove.test()).isTrue();
+            assertThat(rsiBelow.test()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should stay false until the rule has enough bars")
+        void shouldWaitForRequiredBars() {
+            CompiledRule compiled = CompiledRule.compile(RuleParser.parse("sma(close, 3) > 0", null));
+            List<MarketBar> bars = randomBars(3, 1);
+
+            compiled.onBar(bars.get(0));
+            compiled.onBar(bars.get(1));
+            assertThat(compiled.isReady()).isFalse();
+            assertThat(compiled.test()).isFalse();
+
+            compiled.onBar(bars.get(2));
+            assertThat(compiled.isReady()).isTrue();
+            assertThat(compiled.test()).isTrue();
+            assertThat(compiled.getRequiredBars()).isEqualTo(3);
+            assertThat(compiled.getBarCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should detect a crossover only on the crossing bar")
+        void shouldDetectCrossover() {
+            CompiledRule compiled = CompiledRule.compile(RuleParser.parse("crossAbove(close, 100)", null));
+
+            compiled.onBar(90, 90, 90, 90, 1);
+            assertThat(compiled.test()).isFalse(); // no previous bar yet
+            compiled.onBar(95, 95, 95, 95, 1);
+            assertThat(compiled.test()).isFalse();
+            compiled.onBar(105, 105, 105, 105, 1);
+            assertThat(compiled.test()).isTrue();
+            compiled.onBar(110, 110, 110, 110, 1);
+            assertThat(compiled.test()).isFalse(); // already above
+        }
+
+        private CompiledRule compileAndFeed(String source, List<MarketBar> bars) {
+            CompiledRule compiled = CompiledRule.compile(RuleParser.parse(source, null));
+            bars.forEach(compiled::onBar);
+            return compiled;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package maru.trading.infra.async;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.domain.backtest.BacktestCheckpoint;
+import maru.trading.domain.backtest.BacktestTrade;
+import maru.trading.domain.execution.Fill;
+import maru.trading.domain.order.Order;
+import maru.trading.domain.order.OrderStatus;
+import maru.trading.domain.order.OrderType;
+import maru.trading.domain.order.Side;
+import maru.trading.domain.signal.Signal;
+import maru.trading.domain.signal.SignalType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BacktestCheckpointStore Test")
+class BacktestCheckpointStoreTest {
+
+    @TempDir
+    Path checkpointDir;
+
+    private BacktestCheckpointStore store;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        store = new BacktestCheckpointStore(objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(store, "checkpointDir", checkpointDir.toString());
+        store.init();
+    }
+
+    @Nested
+    @DisplayName("save() / load() Tests")
+    class SaveLoadTests {
+
+        @Test
+        @DisplayName("Should round-trip broker state, positions and accumulated results")
+        void shouldRoundTripCheckpoint() {
+            // Given
+            BacktestCheckpoint checkpoint = createCheckpoint(5_000);
+
+            // When
+            boolean saved = store.save("JOB1", checkpoint);
+            BacktestCheckpoint loaded = store.load("JOB1");
+
+            // Then
+            assertThat(saved).isTrue();
+            assertThat(loaded.getProcessedBars()).isEqualTo(5_000);
+            assertThat(loaded.getTotalBars()).isEqualTo(10_000);
+            assertThat(loaded.getCashBalance()).isEqualByComparingTo("9300000");
+            assertThat(loaded.getPendingOrders()).hasSize(1);
+            assertThat(loaded.getPendingOrders().get(0).getSide()).isEqualTo(Side.SELL);
+            assertThat(loaded.getOpenPositions()).containsKey("005930");
+            assertThat(loaded.getOpenPositions().get("005930").getEntryPrice()).isEqualByComparingTo("70000");
+            assertThat(loaded.getSignals()).hasSize(1);
+            assertThat(loaded.getFills().get(0).getFillQty()).isEqualTo(10);
+            assertThat(loaded.getStartTime()).isEqualTo(checkpoint.getStartTime());
+        }
+
+        @Test
+        @DisplayName("Should keep only the latest checkpoint of a job")
+        void shouldReplaceCheckpoint() {
+            store.save("JOB1", createCheckpoint(1_000));
+            store.save("JOB1", createCheckpoint(2_000));
+
+            assertThat(store.load("JOB1").getProcessedBars()).isEqualTo(2_000);
+            assertThat(checkpointDir.toFile().list()).containsExactly("JOB1.ckpt.gz");
+        }
+
+        @Test
+        @DisplayName("Should return null after delete or for unknown job")
+        void shouldReturnNullWhenMissing() {
+            store.save("JOB1", createCheckpoint(1_000));
+
+            store.delete("JOB1");
+
+            assertThat(store.exists("JOB1")).isFalse();
+            assertThat(store.load("JOB1")).isNull();
+            assertThat(store.load("UNKNOWN")).isNull();
+        }
+    }
+
+    private BacktestCheckpoint createCheckpoint(int processedBars) {
+        LocalDateTime time = LocalDateTime.of(2024, 1, 2, 9, 0);
+        Order buy = Order.builder()
+                .orderId("O1").accountId("BACKTEST_ACCOUNT").symbol("005930")
+                .side(Side.BUY).orderType(OrderType.MARKET)
+                .qty(BigDecimal.TEN).price(BigDecimal.valueOf(70000)).status(OrderStatus.SENT)
+                .build();
+        Order sell = Order.builder()
+                .orderId("O2").accountId("BACKTEST_ACCOUNT").symbol("005930")
+                .side(Side.SELL).orderType(OrderType.MARKET)
+                .qty(BigDecimal.TEN).price(BigDecimal.valueOf(71000)).status(OrderStatus.SENT)
+                .build();
+        BacktestTrade open = BacktestTrade.builder()
+                .tradeId("T1").backtestId("BT1").symbol("005930").side(Side.BUY)
+                .entryTime(time).entryPrice(BigDecimal.valueOf(70000)).entryQty(BigDecimal.TEN)
+                .status("OPEN")
+                .build();
+
+        return BacktestCheckpoint.builder()
+                .backtestId("BT1")
+                .processedBars(processedBars)
+                .totalBars(10_000)
+                .cashBalance(BigDecimal.valueOf(9_300_000))
+                .pendingOrders(List.of(sell))
+                .openPositions(Map.of("005930", open))
+                .signals(List.of(Signal.builder().signalId("S1").symbol("005930").signalType(SignalType.BUY).build()))
+                .orders(List.of(buy, sell))
+                .fills(List.of(new Fill("F1", "O1", "BACKTEST_ACCOUNT", "005930", Side.BUY,
+                        BigDecimal.valueOf(70000), 10, BigDecimal.ZERO, BigDecimal.ZERO, time, null)))
+                .trades(List.of())
+                .startTime(time)
+                .createdAt(time.plusMinutes(5))
+                .build();
+    }
+}
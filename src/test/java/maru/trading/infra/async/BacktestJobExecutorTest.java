@@ -0,0 +1,149 @@
+package maru.trading.infra.async;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.domain.backtest.BacktestConfig;
+import maru.trading.domain.backtest.BacktestResult;
+import maru.trading.infra.persistence.jpa.entity.BacktestJobEntity;
+import maru.trading.infra.persistence.jpa.repository.BacktestJobJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("BacktestJobExecutor Test")
+class BacktestJobExecutorTest {
+
+    private final Map<String, BacktestJobEntity> jobs = new ConcurrentHashMap<>();
+    private final List<BacktestJobExecutor> executors = new ArrayList<>();
+
+    private BacktestJobJpaRepository jobRepository;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(BacktestJobJpaRepository.class);
+        given(jobRepository.save(any(BacktestJobEntity.class))).willAnswer(invocation -> {
+            BacktestJobEntity job = invocation.getArgument(0);
+            jobs.put(job.getJobId(), job);
+            return job;
+        });
+        given(jobRepository.findById(anyString()))
+                .willAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.<String>getArgument(0))));
+        given(jobRepository.findRunningJobs()).willAnswer(invocation -> jobs.values().stream()
+                .filter(job -> "QUEUED".equals(job.getStatus()) || "RUNNING".equals(job.getStatus()))
+                .toList());
+
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executors.forEach(BacktestJobExecutor::shutdown);
+    }
+
+    @Nested
+    @DisplayName("Shutdown Tests")
+    class ShutdownTests {
+
+        @Test
+        @DisplayName("Should leave a job queued when the executor rejects it during shutdown")
+        void shouldLeaveJobQueuedOnShutdownRejection() {
+            // Given
+            BacktestJobExecutor executor = executor();
+            executor.shutdown();
+            AtomicInteger runs = new AtomicInteger();
+
+            // When
+            String jobId = executor.submit(config(), (config, callback) -> {
+                runs.incrementAndGet();
+                return BacktestResult.builder().backtestId(config.getBacktestId()).build();
+            });
+
+            // Then
+            assertThat(jobs.get(jobId).getStatus()).isEqualTo("QUEUED");
+            assertThat(jobs.get(jobId).getCompletedAt()).isNull();
+            assertThat(executor.getQueuedJobCount()).isZero();
+            assertThat(runs).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("Should resume a job left queued by shutdown on the next start")
+        void shouldResumeJobLeftQueuedByShutdown() throws Exception {
+            // Given - rejected during the previous process's shutdown
+            BacktestJobExecutor previous = executor();
+            previous.shutdown();
+            String jobId = previous.submit(config(), (config, callback) -> {
+                throw new AssertionError("Must not run after shutdown");
+            });
+
+            // When
+            BacktestJobExecutor next = executor();
+            CountDownLatch release = new CountDownLatch(1);
+            int resumed = next.resumeInterruptedJobs((config, callback) -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return BacktestResult.builder().backtestId(config.getBacktestId()).build();
+            });
+            CompletableFuture<BacktestResult> completion = next.getCompletion(jobId);
+            release.countDown();
+
+            // Then
+            assertThat(resumed).isEqualTo(1);
+            assertThat(completion.get(5, TimeUnit.SECONDS).getBacktestId()).isEqualTo("BT_TEST");
+            assertThat(jobs.get(jobId).getStatus()).isEqualTo("COMPLETED");
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private BacktestJobExecutor executor() {
+        BacktestJobExecutor executor = new BacktestJobExecutor(jobRepository, objectMapper,
+                new SimpleMeterRegistry(), mock(BacktestResultStore.class), mock(BacktestProgressHub.class),
+                mock(BacktestCheckpointStore.class));
+        ReflectionTestUtils.setField(executor, "poolSize", 2);
+        ReflectionTestUtils.setField(executor, "queueCapacity", 10);
+        ReflectionTestUtils.setField(executor, "maxJobCost", 1_000_000L);
+        ReflectionTestUtils.setField(executor, "maxQueuedCost", 10_000_000L);
+        executor.init();
+        executors.add(executor);
+        return executor;
+    }
+
+    private BacktestConfig config() {
+        return BacktestConfig.builder()
+                .backtestId("BT_TEST")
+                .strategyId("STR_TEST")
+                .startDate(LocalDate.of(2026, 1, 5))
+                .endDate(LocalDate.of(2026, 1, 5))
+                .symbols(List.of("005930"))
+                .timeframe("1d")
+                .build();
+    }
+}
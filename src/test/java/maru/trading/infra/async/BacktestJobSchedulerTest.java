@@ -0,0 +1,183 @@
+package maru.trading.infra.async;
+
+import maru.trading.domain.backtest.BacktestConfig;
+import maru.trading.domain.backtest.BacktestPriority;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BacktestJobScheduler Test")
+class BacktestJobSchedulerTest {
+
+    @Nested
+    @DisplayName("Priority Tests")
+    class PriorityTests {
+
+        @Test
+        @DisplayName("Should start interactive job before earlier optimization trials")
+        void shouldStartInteractiveFirst() {
+            BacktestJobScheduler scheduler = new BacktestJobScheduler(4, 100, 1_000, 10_000);
+            scheduler.enqueue(job("opt-1", BacktestPriority.OPTIMIZATION, "optimizer"));
+            scheduler.enqueue(job("opt-2", BacktestPriority.OPTIMIZATION, "optimizer"));
+            scheduler.enqueue(job("ui-1", BacktestPriority.INTERACTIVE, "alice"));
+
+            assertThat(scheduler.poll().getJobId()).isEqualTo("ui-1");
+            assertThat(scheduler.poll().getJobId()).isEqualTo("opt-1");
+        }
+
+        @Test
+        @DisplayName("Should keep one worker free for interactive jobs")
+        void shouldReserveWorkerForInteractive() {
+            BacktestJobScheduler scheduler = new BacktestJobScheduler(2, 100, 1_000, 10_000);
+            scheduler.enqueue(job("batch-1", BacktestPriority.BATCH, "cron"));
+            scheduler.enqueue(job("batch-2", BacktestPriority.BATCH, "cron"));
+
+            assertThat(scheduler.poll().getJobId()).isEqualTo("batch-1");
+            assertThat(scheduler.poll()).isNull();
+
+            scheduler.enqueue(job("ui-1", BacktestPriority.INTERACTIVE, "alice"));
+            assertThat(scheduler.poll().getJobId()).isEqualTo("ui-1");
+        }
+
+        @Test
+        @DisplayName("Should limit optimization trials to half of the workers")
+        void shouldLimitOptimizationShare() {
+            BacktestJobScheduler scheduler = new BacktestJobScheduler(4, 100, 1_000, 10_000);
+            for (int i = 0; i < 4; i++) {
+                scheduler.enqueue(job("opt-" + i, BacktestPriority.OPTIMIZATION, "optimizer"));
+            }
+
+            assertThat(scheduler.poll()).isNotNull();
+            assertThat(scheduler.poll()).isNotNull();
+            assertThat(scheduler.poll()).isNull();
+            assertThat(scheduler.getRunningCount(BacktestPriority.OPTIMIZATION)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should start next job after release")
+        void shouldStartNextJobAfterRelease() {
+            BacktestJobScheduler scheduler = new BacktestJobScheduler(1, 100, 1_000, 10_000);
+            scheduler.enqueue(job("a", BacktestPriority.INTERACTIVE, "alice"));
+            scheduler.enqueue(job("b", BacktestPriority.INTERACTIVE, "alice"));
+
+            BacktestJobScheduler.QueuedJob first = scheduler.poll();
+            assertThat(scheduler.poll()).isNull();
+
+            scheduler.release(first);
+            assertThat(scheduler.poll().getJobId()).isEqualTo("b");
+        }
+    }
+
+    @Nested
+    @DisplayName("Fair Share Tests")
+    class FairShareTests {
+
+        @Test
+        @DisplayName("Should alternate between owners within a priority class")
+        void shouldAlternateOwners() {
+            BacktestJobScheduler scheduler = new BacktestJobScheduler(8, 100, 1_000, 10_000);
+            scheduler.enqueue(job("a1", BacktestPriority.INTERACTIVE, "alice"));
+            scheduler.enqueue(job("a2", BacktestPriority.INTERACTIVE, "alice"));
+            scheduler.enqueue(job("a3", BacktestPriority.INTERACTIVE, "alice"));
+            scheduler.enqueue(job("b1", BacktestPriority.INTERACTIVE, "bob"));
+
+            assertThat(List.of(
+                    scheduler.poll().getJobId(),
+                    scheduler.poll().getJobId(),
+                    scheduler.poll().getJobId(),
+                    scheduler.poll().getJobId()))
+                    .containsExactly("a1", "b1", "a2", "a3");
+        }
+    }
+
+    @Nested
+    @DisplayName("Admission Control Tests")
+    class AdmissionControlTests {
+
+        @Test
+        @DisplayName("Should reject job exceeding max job cost")
+        void shouldRejectOversizedJob() {
+            BacktestJobScheduler scheduler = new BacktestJobScheduler(4, 100, 1_000, 10_000);
+
+            assertThatThrownBy(() -> scheduler.enqueue(
+                    new BacktestJobScheduler.QueuedJob("big", BacktestPriority.INTERACTIVE, "alice", 5_000, () -> {})))
+                    .isInstanceOf(RejectedExecutionException.class)
+                    .hasMessageContaining("too large");
+        }
+
+        @Test
+        @DisplayName("Should reject job when queued cost is saturated")
+        void shouldRejectWhenSaturated() {
+            BacktestJobScheduler scheduler = new BacktestJobScheduler(4, 100, 1_000, 1_500);
+            scheduler.enqueue(new BacktestJobScheduler.QueuedJob("a", BacktestPriority.BATCH, "x", 1_000, () -> {}));
+
+            assertThatThrownBy(() -> scheduler.enqueue(
+                    new BacktestJobScheduler.QueuedJob("b", BacktestPriority.BATCH, "x", 1_000, () -> {})))
+                    .isInstanceOf(RejectedExecutionException.class)
+                    .hasMessageContaining("saturated");
+        }
+
+        @Test
+        @DisplayName("Should reject job when queue is full")
+        void shouldRejectWhenQueueFull() {
+            BacktestJobScheduler scheduler = new BacktestJobScheduler(4, 1, 1_000, 10_000);
+            scheduler.enqueue(job("a", BacktestPriority.BATCH, "x"));
+
+            assertThatThrownBy(() -> scheduler.enqueue(job("b", BacktestPriority.BATCH, "x")))
+                    .isInstanceOf(RejectedExecutionException.class)
+                    .hasMessageContaining("full");
+        }
+
+        @Test
+        @DisplayName("Should free queued cost when job is removed")
+        void shouldFreeCostOnRemove() {
+            BacktestJobScheduler scheduler = new BacktestJobScheduler(4, 100, 1_000, 10_000);
+            scheduler.enqueue(job("a", BacktestPriority.BATCH, "x"));
+
+            assertThat(scheduler.remove("a")).isNotNull();
+            assertThat(scheduler.getQueuedCount()).isZero();
+            assertThat(scheduler.getQueuedCost()).isZero();
+            assertThat(scheduler.remove("a")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Cost Estimation Tests")
+    class CostEstimationTests {
+
+        @Test
+        @DisplayName("Should estimate bars x symbols from date range and timeframe")
+        void shouldEstimateCost() {
+            BacktestConfig config = BacktestConfig.builder()
+                    .startDate(LocalDate.of(2024, 1, 1))
+                    .endDate(LocalDate.of(2024, 1, 7))
+                    .symbols(List.of("005930", "000660"))
+                    .timeframe("5m")
+                    .build();
+
+            // 7 calendar days -> 5 trading days, 78 five-minute bars per session, 2 symbols
+            assertThat(BacktestJobScheduler.estimateCost(config)).isEqualTo(5L * 78 * 2);
+        }
+
+        @Test
+        @DisplayName("Should map timeframes to bars per session")
+        void shouldMapTimeframes() {
+            assertThat(BacktestJobScheduler.barsPerSession("1m")).isEqualTo(390);
+            assertThat(BacktestJobScheduler.barsPerSession("15m")).isEqualTo(26);
+            assertThat(BacktestJobScheduler.barsPerSession("1h")).isEqualTo(7);
+            assertThat(BacktestJobScheduler.barsPerSession("1d")).isEqualTo(1);
+            assertThat(BacktestJobScheduler.barsPerSession("bogus")).isEqualTo(1);
+        }
+    }
+
+    private BacktestJobScheduler.QueuedJob job(String id, BacktestPriority priority, String owner) {
+        return new BacktestJobScheduler.QueuedJob(id, priority, owner, 10, () -> {});
+    }
+}
@@ -0,0 +1,143 @@
+package maru.trading.infra.async;
+
+import maru.trading.domain.backtest.BacktestProgress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BacktestProgressHub Test")
+class BacktestProgressHubTest {
+
+    private BacktestProgressHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new BacktestProgressHub();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Nested
+    @DisplayName("publish() Tests")
+    class PublishTests {
+
+        @Test
+        @DisplayName("Should fan out each event to all subscribers of the job")
+        void shouldFanOutToAllSubscribers() {
+            List<BacktestProgress> first = new ArrayList<>();
+            List<BacktestProgress> second = new ArrayList<>();
+            List<BacktestProgress> otherJob = new ArrayList<>();
+            hub.subscribe("JOB1", first::add);
+            hub.subscribe("JOB1", second::add);
+            hub.subscribe("JOB2", otherJob::add);
+
+            hub.publish(BacktestProgress.running("JOB1", 50, "Processing bars", 100, 50));
+
+            assertThat(first).hasSize(1);
+            assertThat(second).hasSize(1);
+            assertThat(otherJob).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should drop subscriptions after terminal event")
+        void shouldDropSubscriptionsAfterTerminalEvent() {
+            List<BacktestProgress> received = new ArrayList<>();
+            hub.subscribe("JOB1", received::add);
+
+            hub.publish(BacktestProgress.completed("JOB1"));
+            hub.publish(BacktestProgress.completed("JOB1"));
+
+            assertThat(received).hasSize(1);
+            assertThat(hub.getSubscriberCount("JOB1")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should isolate failing listener from other subscribers")
+        void shouldIsolateFailingListener() {
+            List<BacktestProgress> received = new ArrayList<>();
+            hub.subscribe("JOB1", p -> {
+                throw new IllegalStateException("client gone");
+            });
+            hub.subscribe("JOB1", received::add);
+
+            hub.publish(BacktestProgress.running("JOB1", 10, "Loading data", 0, 0));
+            hub.publish(BacktestProgress.running("JOB1", 20, "Processing bars", 100, 20));
+
+            assertThat(received).hasSize(2);
+            assertThat(hub.getSubscriberCount("JOB1")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("subscribe() Tests")
+    class SubscribeTests {
+
+        @Test
+        @DisplayName("Should remove subscription when handle is run")
+        void shouldRemoveSubscriptionWithHandle() {
+            List<BacktestProgress> received = new ArrayList<>();
+            Runnable unsubscribe = hub.subscribe("JOB1", received::add);
+
+            unsubscribe.run();
+            hub.publish(BacktestProgress.running("JOB1", 10, "Loading data", 0, 0));
+
+            assertThat(received).isEmpty();
+            assertThat(hub.getSubscriberCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("subscribeLatest() Tests")
+    class SubscribeLatestTests {
+
+        @Test
+        @DisplayName("Should not block the publisher on a slow listener and deliver only the latest event")
+        void shouldConflateBehindSlowListener() throws Exception {
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(1);
+            List<Integer> received = new CopyOnWriteArrayList<>();
+            hub.subscribeLatest("JOB1", p -> {
+                received.add(p.getProgressPercent());
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (p.isDone()) {
+                    done.countDown();
+                }
+            });
+
+            // Publisher returns at once even though the first delivery is blocked
+            long start = System.nanoTime();
+            hub.publish(BacktestProgress.running("JOB1", 10, "Processing bars", 100, 10));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int percent = 20; percent <= 90; percent += 10) {
+                hub.publish(BacktestProgress.running("JOB1", percent, "Processing bars", 100, percent));
+            }
+            hub.publish(BacktestProgress.completed("JOB1"));
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+
+            release.countDown();
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // The first event, then the latest one; the ones in between were replaced
+            assertThat(received).containsExactly(10, 100);
+        }
+    }
+}
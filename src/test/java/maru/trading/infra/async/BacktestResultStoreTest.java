@@ -0,0 +1,206 @@
+package maru.trading.infra.async;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.domain.backtest.BacktestConfig;
+import maru.trading.domain.backtest.BacktestResult;
+import maru.trading.domain.backtest.BacktestTrade;
+import maru.trading.domain.backtest.EquityCurve;
+import maru.trading.domain.backtest.PerformanceMetrics;
+import maru.trading.domain.execution.Fill;
+import maru.trading.domain.execution.Position;
+import maru.trading.domain.order.Side;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BacktestResultStore Test")
+class BacktestResultStoreTest {
+
+    @TempDir
+    Path spillDir;
+
+    private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Nested
+    @DisplayName("Eviction Tests")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("Should evict least recently used result when over entry limit")
+        void shouldEvictLeastRecentlyUsed() {
+            BacktestResultStore store = store(2, 1_000, spillDir);
+
+            store.put("JOB1", createResult("BT1", 1));
+            store.put("JOB2", createResult("BT2", 1));
+            store.get("JOB1"); // JOB2 becomes least recently used
+            store.put("JOB3", createResult("BT3", 1));
+
+            assertThat(store.size()).isEqualTo(2);
+            assertThat(store.getEvictionCount()).isEqualTo(1);
+            assertThat(spillDir.resolve("JOB2.json.gz")).exists();
+            assertThat(meterRegistry.get("backtest.results.evicted").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should evict when total weight exceeds limit")
+        void shouldEvictByWeight() {
+            BacktestResultStore store = store(100, 100, spillDir);
+
+            store.put("JOB1", createResult("BT1", 20));
+            store.put("JOB2", createResult("BT2", 20));
+
+            assertThat(store.size()).isEqualTo(1);
+            assertThat(store.getTotalWeight()).isLessThanOrEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("Should keep a result in memory when it cannot be spilled")
+        void shouldKeepResultWhenSpillFails() throws Exception {
+            // Spill "directory" is a regular file, so every write fails
+            Path notADirectory = Files.createFile(spillDir.resolve("blocked"));
+            BacktestResultStore store = store(1, 1_000, notADirectory);
+
+            store.put("JOB1", createResult("BT1", 1));
+            store.put("JOB2", createResult("BT2", 1));
+
+            assertThat(store.get("JOB1")).isNotNull();
+            assertThat(store.get("JOB1").getBacktestId()).isEqualTo("BT1");
+            assertThat(store.size()).isEqualTo(2);
+            assertThat(store.getEvictionCount()).isZero();
+            assertThat(meterRegistry.get("backtest.results.spill.failures").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should spill a job ID with path separators inside the spill directory")
+        void shouldSpillUnsafeJobIdInsideSpillDirectory() throws Exception {
+            BacktestResultStore store = store(1, 1_000, spillDir);
+
+            store.put("../JOB/1", createResult("BT1", 1));
+            store.put("JOB2", createResult("BT2", 1));
+
+            assertThat(store.getEvictionCount()).isEqualTo(1);
+            assertThat(store.getSpillFailureCount()).isZero();
+            try (Stream<Path> files = Files.list(spillDir)) {
+                assertThat(files.map(p -> p.getFileName().toString())).containsExactly("___JOB_1.json.gz");
+            }
+            assertThat(store.get("../JOB/1").getBacktestId()).isEqualTo("BT1");
+        }
+    }
+
+    @Nested
+    @DisplayName("Reload Tests")
+    class ReloadTests {
+
+        @Test
+        @DisplayName("Should reload spilled result transparently")
+        void shouldReloadSpilledResult() {
+            BacktestResultStore store = store(1, 1_000, spillDir);
+
+            BacktestResult original = createResult("BT1", 3);
+            store.put("JOB1", original);
+            store.put("JOB2", createResult("BT2", 1));
+
+            BacktestResult reloaded = store.get("JOB1");
+
+            assertThat(reloaded).isNotNull();
+            assertThat(reloaded.getBacktestId()).isEqualTo("BT1");
+            assertThat(reloaded.getFinalCapital()).isEqualByComparingTo(original.getFinalCapital());
+            assertThat(reloaded.getConfig().getSymbols()).containsExactly("005930");
+            assertThat(reloaded.getTrades()).hasSize(3);
+            assertThat(reloaded.getFills()).hasSize(3);
+            assertThat(reloaded.getFills().get(0).getFillQty()).isEqualTo(10);
+            assertThat(reloaded.getPositions().get(0).getQty()).isEqualTo(10);
+            assertThat(reloaded.getEquityCurve().getPoints()).hasSize(3);
+            assertThat(reloaded.getPerformanceMetrics().getTotalTrades()).isEqualTo(3);
+            assertThat(store.getReloadCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should return null for unknown job")
+        void shouldReturnNullForUnknownJob() {
+            BacktestResultStore store = store(1, 1_000, spillDir);
+
+            assertThat(store.get("UNKNOWN")).isNull();
+            assertThat(store.contains("UNKNOWN")).isFalse();
+        }
+    }
+
+    private BacktestResultStore store(int maxEntries, long maxWeight, Path spillDir) {
+        BacktestResultStore store = new BacktestResultStore(objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(store, "maxEntries", maxEntries);
+        ReflectionTestUtils.setField(store, "maxWeight", maxWeight);
+        ReflectionTestUtils.setField(store, "spillDir", spillDir.toString());
+        store.init();
+        return store;
+    }
+
+    private BacktestResult createResult(String backtestId, int records) {
+        LocalDateTime time = LocalDateTime.of(2024, 1, 2, 9, 0);
+        List<BacktestTrade> trades = new ArrayList<>();
+        List<Fill> fills = new ArrayList<>();
+        List<EquityCurve.EquityPoint> points = new ArrayList<>();
+
+        for (int i = 0; i < records; i++) {
+            trades.add(BacktestTrade.builder()
+                    .tradeId("T" + i)
+                    .backtestId(backtestId)
+                    .symbol("005930")
+                    .side(Side.BUY)
+                    .entryTime(time.plusMinutes(i))
+                    .entryPrice(BigDecimal.valueOf(70000))
+                    .entryQty(BigDecimal.TEN)
+                    .status("CLOSED")
+                    .build());
+            fills.add(new Fill("F" + i, "O" + i, "BACKTEST_ACCOUNT", "005930", Side.BUY,
+                    BigDecimal.valueOf(70000), 10, BigDecimal.ZERO, BigDecimal.ZERO, time.plusMinutes(i), null));
+            points.add(new EquityCurve.EquityPoint(time.plusMinutes(i), BigDecimal.valueOf(10_000_000 + i)));
+        }
+
+        return BacktestResult.builder()
+                .backtestId(backtestId)
+                .config(BacktestConfig.builder()
+                        .backtestId(backtestId)
+                        .strategyId("STR_001")
+                        .symbols(List.of("005930"))
+                        .startDate(LocalDate.of(2024, 1, 1))
+                        .endDate(LocalDate.of(2024, 1, 31))
+                        .build())
+                .startTime(time)
+                .endTime(time.plusHours(1))
+                .trades(trades)
+                .fills(fills)
+                .positions(List.of(new Position("P1", "BACKTEST_ACCOUNT", "005930", 10,
+                        BigDecimal.valueOf(70000), BigDecimal.ZERO)))
+                .equityCurve(EquityCurve.builder().points(points).build())
+                .performanceMetrics(PerformanceMetrics.builder().totalTrades(records).build())
+                .finalCapital(BigDecimal.valueOf(10_500_000))
+                .totalReturn(BigDecimal.valueOf(5))
+                .build();
+    }
+}
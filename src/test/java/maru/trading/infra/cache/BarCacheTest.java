@@ -1,19 +1,24 @@
 package maru.trading.infra.cache;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import maru.trading.domain.market.MarketBar;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import static maru.trading.TestFixtures.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -24,7 +29,7 @@ class BarCacheTest {
 
     @BeforeEach
     void setUp() {
-        cache = new BarCache();
+        cache = createBarCache(new SimpleMeterRegistry());
     }
 
     @Nested
@@ -286,6 +291,159 @@ class BarCacheTest {
         }
     }
 
+    @Nested
+    @DisplayName("Ring Buffer Tests")
+    class RingBufferTests {
+
+        @Test
+        @DisplayName("Should return read-only views")
+        void shouldReturnReadOnlyViews() {
+            // Given
+            cache.put(createBar("005930", "1m", 70000, 70100, 69900, 70050, 1000));
+
+            // When
+            List<MarketBar> bars = cache.getRecentBars("005930", "1m", 1);
+
+            // Then
+            assertThatThrownBy(() -> bars.add(bars.get(0)))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> bars.remove(0))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        @DisplayName("Should keep a view stable while new bars are added")
+        void shouldKeepViewStableWhileBarsAreAdded() {
+            // Given
+            LocalDateTime baseTime = LocalDateTime.now().minusMinutes(500);
+            for (int i = 0; i < 200; i++) {
+                cache.put(createBarWithTime("005930", "1m", baseTime.plusMinutes(i), 70000 + i));
+            }
+            List<MarketBar> view = cache.getAllBars("005930", "1m");
+
+            // When - fewer than capacity further bars
+            for (int i = 200; i < 399; i++) {
+                cache.put(createBarWithTime("005930", "1m", baseTime.plusMinutes(i), 70000 + i));
+            }
+
+            // Then - the view still sees the bars it was taken over
+            assertThat(view).hasSize(200);
+            assertThat(view.get(0).getClose()).isEqualTo(BigDecimal.valueOf(70000));
+            assertThat(view.get(199).getClose()).isEqualTo(BigDecimal.valueOf(70199));
+            assertThat(cache.getLatestBar("005930", "1m").getClose()).isEqualTo(BigDecimal.valueOf(70398));
+        }
+
+        @Test
+        @DisplayName("Should fail a view read once the writer has overwritten it")
+        void shouldFailViewReadOnceOverwritten() {
+            // Given
+            LocalDateTime baseTime = LocalDateTime.now().minusMinutes(500);
+            for (int i = 0; i < 200; i++) {
+                cache.put(createBarWithTime("005930", "1m", baseTime.plusMinutes(i), 70000 + i));
+            }
+            List<MarketBar> view = cache.getAllBars("005930", "1m");
+
+            // When - a full capacity of new bars
+            for (int i = 200; i < 400; i++) {
+                cache.put(createBarWithTime("005930", "1m", baseTime.plusMinutes(i), 70000 + i));
+            }
+
+            // Then
+            assertThatThrownBy(() -> view.get(0))
+                    .isInstanceOf(ConcurrentModificationException.class);
+            assertThat(view.get(199).getClose()).isEqualTo(BigDecimal.valueOf(70199));
+        }
+
+        @Test
+        @DisplayName("Should apply capacity per timeframe and export size and eviction meters")
+        void shouldApplyCapacityPerTimeframe() {
+            // Given
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            BarCache configured = new BarCache(registry);
+            ReflectionTestUtils.setField(configured, "defaultCapacity", 50);
+            ReflectionTestUtils.setField(configured, "capacities", "1m:20, 1d:5");
+            configured.init();
+
+            // When
+            for (int i = 0; i < 30; i++) {
+                configured.put(createBarWithTime("005930", "1m", LocalDateTime.now().minusMinutes(30 - i), 70000 + i));
+                configured.put(createBarWithTime("005930", "1d", LocalDateTime.now().minusDays(30 - i), 70000 + i));
+                configured.put(createBarWithTime("005930", "5m", LocalDateTime.now().minusMinutes(150 - i * 5), 70000 + i));
+            }
+
+            // Then
+            assertThat(configured.capacityFor("1m")).isEqualTo(20);
+            assertThat(configured.capacityFor("5m")).isEqualTo(50);
+            assertThat(configured.getStats())
+                    .containsEntry("005930:1m", 20)
+                    .containsEntry("005930:1d", 5)
+                    .containsEntry("005930:5m", 30);
+            assertThat(configured.getAllBars("005930", "1m").get(0).getClose()).isEqualTo(BigDecimal.valueOf(70010));
+            assertThat(configured.getEvictionCount()).isEqualTo(10 + 25);
+            assertThat(registry.get("bars.cache.size").gauge().value()).isEqualTo(55);
+            assertThat(registry.get("bars.cache.keys").gauge().value()).isEqualTo(3);
+            assertThat(registry.get("bars.cache.evictions").functionCounter().count()).isEqualTo(35);
+        }
+    }
+
+    @Nested
+    @DisplayName("preload() Tests")
+    class PreloadTests {
+
+        @Test
+        @DisplayName("Should fill an empty ring with history up to capacity")
+        void shouldFillEmptyRing() {
+            // Given
+            LocalDateTime baseTime = LocalDateTime.of(2026, 1, 5, 9, 0);
+            List<MarketBar> history = new ArrayList<>();
+            for (int i = 0; i < 250; i++) {
+                history.add(createBarWithTime("005930", "1m", baseTime.plusMinutes(i), 70000 + i));
+            }
+
+            // When
+            int loaded = cache.preload("005930", "1m", history);
+
+            // Then - the newest 200 are kept
+            List<MarketBar> bars = cache.getAllBars("005930", "1m");
+            assertThat(loaded).isEqualTo(200);
+            assertThat(bars).hasSize(200);
+            assertThat(bars.get(0).getClose()).isEqualTo(BigDecimal.valueOf(70050));
+            assertThat(cache.getLatestBar("005930", "1m").getClose()).isEqualTo(BigDecimal.valueOf(70249));
+            assertThat(cache.getEvictionCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should keep bars put since startup ahead of older history")
+        void shouldKeepLiveBarsAheadOfHistory() {
+            // Given - two live bars already cached, history overlapping the first
+            LocalDateTime baseTime = LocalDateTime.of(2026, 1, 5, 9, 0);
+            cache.put(createBarWithTime("005930", "1m", baseTime.plusMinutes(10), 71000));
+            cache.put(createBarWithTime("005930", "1m", baseTime.plusMinutes(11), 71001));
+            List<MarketBar> history = new ArrayList<>();
+            for (int i = 0; i <= 10; i++) {
+                history.add(createBarWithTime("005930", "1m", baseTime.plusMinutes(i), 70000 + i));
+            }
+
+            // When
+            int loaded = cache.preload("005930", "1m", history);
+
+            // Then
+            List<MarketBar> bars = cache.getAllBars("005930", "1m");
+            assertThat(loaded).isEqualTo(10);
+            assertThat(bars).hasSize(12);
+            assertThat(bars.get(0).getClose()).isEqualTo(BigDecimal.valueOf(70000));
+            assertThat(bars.get(10).getClose()).isEqualTo(BigDecimal.valueOf(71000));
+            assertThat(bars.get(11).getClose()).isEqualTo(BigDecimal.valueOf(71001));
+        }
+
+        @Test
+        @DisplayName("Should ignore empty history")
+        void shouldIgnoreEmptyHistory() {
+            assertThat(cache.preload("005930", "1m", List.of())).isZero();
+            assertThat(cache.getStats()).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("Concurrency Tests")
     class ConcurrencyTests {
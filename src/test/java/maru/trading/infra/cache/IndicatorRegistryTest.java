@@ -0,0 +1,207 @@
+package maru.trading.infra.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.domain.market.MarketBar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static maru.trading.TestFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IndicatorRegistry Test")
+class IndicatorRegistryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 5, 9, 0);
+
+    private SimpleMeterRegistry meterRegistry;
+    private IndicatorRegistry registry;
+    private List<MarketBar> bars;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = createIndicatorRegistry(meterRegistry);
+        bars = createBars(40);
+    }
+
+    @Nested
+    @DisplayName("Memoization Tests")
+    class MemoizationTests {
+
+        @Test
+        @DisplayName("Should compute an indicator once per window for all subscribers")
+        void shouldShareAcrossSubscribers() {
+            // Given
+            IndicatorRegistry.Subscription first = registry.subscribe("live", "005930", "1m");
+            IndicatorRegistry.Subscription second = registry.subscribe("live", "005930", "1m");
+            AtomicInteger computations = new AtomicInteger();
+
+            // When
+            Object a = first.get("RSI(14)", bars.subList(0, 30), () -> computations.incrementAndGet());
+            Object b = second.get("RSI(14)", bars.subList(0, 30), () -> computations.incrementAndGet());
+
+            // Then
+            assertThat(a).isEqualTo(b);
+            assertThat(computations.get()).isEqualTo(1);
+            assertThat(registry.getStats().hits()).isEqualTo(1);
+            assertThat(registry.getStats().misses()).isEqualTo(1);
+            assertThat(meterRegistry.get("indicator.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("Should recompute when a new bar closes or the window differs")
+        void shouldRecomputeForNewWindow() {
+            // Given
+            IndicatorRegistry.Subscription subscription = registry.subscribe("live", "005930", "1m");
+            AtomicInteger computations = new AtomicInteger();
+
+            // When
+            subscription.get("MA(20)", bars.subList(0, 30), computations::incrementAndGet);
+            subscription.get("MA(20)", bars.subList(1, 31), computations::incrementAndGet);
+            subscription.get("MA(20)", bars.subList(0, 31), computations::incrementAndGet);
+            subscription.get("MA(5)", bars.subList(1, 31), computations::incrementAndGet);
+
+            // Then
+            assertThat(computations.get()).isEqualTo(4);
+            assertThat(registry.getStats().series()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should keep series of different scopes and symbols apart")
+        void shouldSeparateScopesAndSymbols() {
+            // Given
+            IndicatorRegistry.Subscription live = registry.subscribe("live", "005930", "1m");
+            IndicatorRegistry.Subscription backtest = registry.subscribe("backtest", "005930", "1m");
+            IndicatorRegistry.Subscription other = registry.subscribe("live", "000660", "1m");
+
+            // When
+            Object fromLive = live.get("MA(5)", bars, () -> "live");
+            Object fromBacktest = backtest.get("MA(5)", bars, () -> "backtest");
+            Object fromOther = other.get("MA(5)", bars, () -> "other");
+
+            // Then
+            assertThat(List.of(fromLive, fromBacktest, fromOther)).containsExactly("live", "backtest", "other");
+            assertThat(registry.getStats().hits()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should compute once when strategies request the same indicator concurrently")
+        void shouldComputeOnceConcurrently() throws Exception {
+            // Given
+            int threads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger computations = new AtomicInteger();
+            List<IndicatorRegistry.Subscription> subscriptions = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                subscriptions.add(registry.subscribe("live", "005930", "1m"));
+            }
+
+            // When
+            for (IndicatorRegistry.Subscription subscription : subscriptions) {
+                executor.submit(() -> {
+                    start.await();
+                    return subscription.get("RSI(14)", bars, () -> {
+                        computations.incrementAndGet();
+                        return List.of(BigDecimal.ONE);
+                    });
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+            // Then
+            assertThat(computations.get()).isEqualTo(1);
+            assertThat(registry.getStats().hits()).isEqualTo(threads - 1);
+        }
+
+        @Test
+        @DisplayName("Should keep only the configured number of windows per indicator")
+        void shouldBoundWindows() {
+            // Given
+            ReflectionTestUtils.setField(registry, "windowsPerIndicator", 2);
+            IndicatorRegistry.Subscription subscription = registry.subscribe("live", "005930", "1m");
+            AtomicInteger computations = new AtomicInteger();
+
+            // When - three windows, then the oldest again
+            for (int end = 30; end <= 32; end++) {
+                subscription.get("MA(5)", bars.subList(end - 30, end), computations::incrementAndGet);
+            }
+            subscription.get("MA(5)", bars.subList(0, 30), computations::incrementAndGet);
+            subscription.get("MA(5)", bars.subList(2, 32), computations::incrementAndGet);
+
+            // Then
+            assertThat(computations.get()).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reference Counting Tests")
+    class ReferenceCountingTests {
+
+        @Test
+        @DisplayName("Should release series when the last subscription is closed")
+        void shouldReleaseOnLastClose() {
+            // Given
+            IndicatorRegistry.Subscription first = registry.subscribe("live", "005930", "1m");
+            IndicatorRegistry.Subscription second = registry.subscribe("live", "005930", "1m");
+            first.get("MA(5)", bars, () -> "value");
+
+            // When
+            first.close();
+            first.close();
+
+            // Then - still held by the second subscription
+            assertThat(registry.getStats().subscriptions()).isEqualTo(1);
+            assertThat(second.get("MA(5)", bars, () -> "recomputed")).isEqualTo("value");
+
+            // When
+            second.close();
+
+            // Then
+            assertThat(registry.getStats().subscriptions()).isZero();
+            assertThat(registry.getStats().series()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should compute without caching through a closed subscription")
+        void shouldBypassWhenClosed() {
+            // Given
+            IndicatorRegistry.Subscription subscription = registry.subscribe("live", "005930", "1m");
+            subscription.close();
+
+            // When
+            Object value = subscription.get("MA(5)", bars, () -> "direct");
+
+            // Then
+            assertThat(value).isEqualTo("direct");
+            assertThat(registry.getStats().series()).isZero();
+            assertThat(meterRegistry.get("indicator.cache.requests").tag("result", "bypass").counter().count())
+                    .isEqualTo(1);
+        }
+    }
+
+    private List<MarketBar> createBars(int count) {
+        List<MarketBar> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BigDecimal price = BigDecimal.valueOf(70000 + i * 10L);
+            result.add(MarketBar.restore("005930", "1m", START.plusMinutes(i),
+                    price, price, price, price, 100L, true));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,285 @@
+package maru.trading.infra.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.domain.market.MarketBar;
+import maru.trading.domain.signal.SignalDecision;
+import maru.trading.domain.strategy.IndicatorLibrary;
+import maru.trading.domain.strategy.StrategyContext;
+import maru.trading.domain.strategy.impl.MACDStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static maru.trading.TestFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IndicatorStore Test")
+class IndicatorStoreTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 5, 9, 0);
+    private static final long VERSION = 0x1234L;
+
+    @TempDir
+    Path storePath;
+
+    private IndicatorStore store;
+    private List<MarketBar> bars;
+
+    @BeforeEach
+    void setUp() {
+        store = createIndicatorStore(new SimpleMeterRegistry(), storePath);
+        bars = createBars(80);
+    }
+
+    @Nested
+    @DisplayName("Persistence Tests")
+    class PersistenceTests {
+
+        @Test
+        @DisplayName("Should read series written by an earlier run instead of computing them")
+        void shouldReadStoredSeries() {
+            // Given - first run computes and stores
+            List<BigDecimal> computed;
+            try (IndicatorStore.Session session = store.open("005930", "1m", VERSION, null)) {
+                computed = session.get("RSI(14)", window(0, 40), () -> IndicatorLibrary.calculateRSI(closes(window(0, 40)), 14));
+            }
+            AtomicInteger computations = new AtomicInteger();
+
+            // When - second run over the same data version
+            List<BigDecimal> stored;
+            try (IndicatorStore.Session session = store.open("005930", "1m", VERSION, null)) {
+                stored = session.get("RSI(14)", window(0, 40), () -> {
+                    computations.incrementAndGet();
+                    return IndicatorLibrary.calculateRSI(closes(window(0, 40)), 14);
+                });
+            }
+
+            // Then - newest values, exactly as computed
+            assertThat(computations.get()).isZero();
+            assertThat(stored).containsExactlyElementsOf(computed.subList(computed.size() - 2, computed.size()));
+            assertThat(stored.get(1).scale()).isEqualTo(computed.get(computed.size() - 1).scale());
+        }
+
+        @Test
+        @DisplayName("Should keep every field of structured series")
+        void shouldStoreStructuredSeries() {
+            // Given
+            List<IndicatorLibrary.BollingerBands> computed = IndicatorLibrary.calculateBollingerBands(closes(window(0, 40)), 20, 2.0);
+            try (IndicatorStore.Session session = store.open("005930", "1m", VERSION, null)) {
+                session.get("BB(20,2.0)", window(0, 40), () -> computed);
+            }
+
+            // When
+            List<IndicatorLibrary.BollingerBands> stored;
+            try (IndicatorStore.Session session = store.open("005930", "1m", VERSION, null)) {
+                stored = session.get("BB(20,2.0)", window(0, 40), () -> List.of());
+            }
+
+            // Then
+            IndicatorLibrary.BollingerBands last = computed.get(computed.size() - 1);
+            assertThat(stored).hasSize(2);
+            assertThat(stored.get(1).getUpper()).isEqualTo(last.getUpper());
+            assertThat(stored.get(1).getMiddle()).isEqualTo(last.getMiddle());
+            assertThat(stored.get(1).getLower()).isEqualTo(last.getLower());
+        }
+
+        @Test
+        @DisplayName("Should compute again when the bar data version changes")
+        void shouldRecomputeForNewDataVersion() {
+            // Given
+            try (IndicatorStore.Session session = store.open("005930", "1m", VERSION, null)) {
+                session.get("MA(5)", window(0, 30), () -> List.of(BigDecimal.ONE));
+            }
+            AtomicInteger computations = new AtomicInteger();
+
+            // When
+            try (IndicatorStore.Session session = store.open("005930", "1m", VERSION + 1, null)) {
+                session.get("MA(5)", window(0, 30), () -> {
+                    computations.incrementAndGet();
+                    return List.of(BigDecimal.TEN);
+                });
+            }
+
+            // Then
+            assertThat(computations.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should merge the windows of runs over different ranges of the same data")
+        void shouldMergeRuns() {
+            // Given
+            try (IndicatorStore.Session session = store.open("005930", "1m", VERSION, null)) {
+                session.get("MA(5)", window(10, 40), () -> List.of(BigDecimal.valueOf(2)));
+            }
+            try (IndicatorStore.Session session = store.open("005930", "1m", VERSION, null)) {
+                session.get("MA(5)", window(0, 30), () -> List.of(BigDecimal.valueOf(1)));
+            }
+            AtomicInteger computations = new AtomicInteger();
+
+            // When
+            List<BigDecimal> first;
+            List<BigDecimal> second;
+            try (IndicatorStore.Session session = store.open("005930", "1m", VERSION, null)) {
+                first = session.get("MA(5)", window(0, 30), () -> List.of(BigDecimal.valueOf(computations.incrementAndGet())));
+                second = session.get("MA(5)", window(10, 40), () -> List.of(BigDecimal.valueOf(computations.incrementAndGet())));
+            }
+
+            // Then
+            assertThat(computations.get()).isZero();
+            assertThat(first).containsExactly(BigDecimal.valueOf(1));
+            assertThat(second).containsExactly(BigDecimal.valueOf(2));
+        }
+
+        @Test
+        @DisplayName("Should keep only the configured number of data versions per indicator")
+        void shouldPruneOldVersions() throws IOException {
+            // Given
+            ReflectionTestUtils.setField(store, "maxVersions", 1);
+
+            // When
+            for (long version = 1; version <= 3; version++) {
+                try (IndicatorStore.Session session = store.open("005930", "1m", version, null)) {
+                    session.get("MA(5)", window(0, 30), () -> List.of(BigDecimal.ONE));
+                }
+            }
+
+            // Then
+            assertThat(storeFiles()).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Fallback Tests")
+    class FallbackTests {
+
+        @Test
+        @DisplayName("Should compute through the delegate and record the result")
+        void shouldComputeThroughDelegate() {
+            // Given
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            store = createIndicatorStore(meterRegistry, storePath);
+            IndicatorRegistry registry = createIndicatorRegistry(new SimpleMeterRegistry());
+
+            // When
+            try (IndicatorRegistry.Subscription shared = registry.subscribe("backtest", "005930", "1m");
+                 IndicatorStore.Session session = store.open("005930", "1m", VERSION, shared)) {
+                session.get("MA(5)", window(0, 30), () -> List.of(BigDecimal.ONE));
+                session.get("MA(5)", window(0, 30), () -> List.of(BigDecimal.ONE));
+            }
+
+            // Then
+            assertThat(registry.getStats().misses()).isEqualTo(1);
+            assertThat(meterRegistry.get("indicator.store.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("indicator.store.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("indicator.store.rows.written").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should compute without storing when the data version is unknown")
+        void shouldBypassUnknownVersion() throws IOException {
+            // When
+            Object value;
+            try (IndicatorStore.Session session = store.open("005930", "1m", 0L, null)) {
+                value = session.get("MA(5)", window(0, 30), () -> List.of(BigDecimal.ONE));
+            }
+
+            // Then
+            assertThat(value).isEqualTo(List.of(BigDecimal.ONE));
+            assertThat(storeFiles()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should compute series of unsupported shapes without storing them")
+        void shouldNotStoreUnsupportedShapes() throws IOException {
+            // Given
+            IndicatorLibrary.SpreadResult spread = IndicatorLibrary.calculateSimpleSpread(closes(window(0, 30)), 20);
+
+            // When
+            Object value;
+            try (IndicatorStore.Session session = store.open("005930", "1m", VERSION, null)) {
+                value = session.get("SPREAD(20)", window(0, 30), () -> spread);
+            }
+
+            // Then
+            assertThat(value).isSameAs(spread);
+            assertThat(storeFiles()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should give the same strategy decisions when a rerun reads the stored series")
+    void shouldReproduceStrategyDecisions() {
+        // Given
+        MACDStrategy strategy = new MACDStrategy();
+        Map<String, Object> params = Map.of("fastPeriod", 12, "slowPeriod", 26, "signalPeriod", 9);
+        List<String> computed = replay(strategy, params);
+
+        // When
+        List<String> stored = replay(strategy, params);
+
+        // Then
+        assertThat(stored).isEqualTo(computed);
+    }
+
+    // Helper methods
+    private List<String> replay(MACDStrategy strategy, Map<String, Object> params) {
+        List<String> reasons = new ArrayList<>();
+        try (IndicatorStore.Session session = store.open("005930", "1m", VERSION, null)) {
+            for (int end = 40; end <= bars.size(); end++) {
+                SignalDecision decision = strategy.evaluate(StrategyContext.builder()
+                        .strategyId("STR_001")
+                        .symbol("005930")
+                        .accountId("ACC_001")
+                        .bars(window(Math.max(0, end - 60), end))
+                        .params(params)
+                        .timeframe("1m")
+                        .indicatorCache(session)
+                        .build());
+                reasons.add(decision.getSignalType() + " " + decision.getReason());
+            }
+        }
+        return reasons;
+    }
+
+    private List<Path> storeFiles() throws IOException {
+        if (!Files.exists(storePath)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(storePath)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    private List<MarketBar> window(int from, int to) {
+        return new ArrayList<>(bars.subList(from, to));
+    }
+
+    private List<BigDecimal> closes(List<MarketBar> window) {
+        return window.stream().map(MarketBar::getClose).toList();
+    }
+
+    private List<MarketBar> createBars(int count) {
+        List<MarketBar> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // Oscillating prices so MACD crosses its signal line several times
+            BigDecimal price = BigDecimal.valueOf(70000 + Math.round(Math.sin(i / 5.0) * 1500) + i * 10L);
+            result.add(MarketBar.restore("005930", "1m", START.plusMinutes(i),
+                    price, price, price, price, 100L, true));
+        }
+        return result;
+    }
+}
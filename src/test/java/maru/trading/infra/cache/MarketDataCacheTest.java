@@ -11,6 +11,9 @@ import java.time.LocalDateTime;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -229,6 +232,101 @@ class MarketDataCacheTest {
         }
     }
 
+    @Nested
+    @DisplayName("Quote Table Tests")
+    class QuoteTableTests {
+
+        @Test
+        @DisplayName("Should copy the latest quote into a reusable snapshot")
+        void shouldReadQuoteIntoSnapshot() {
+            // Given
+            LocalDateTime timestamp = LocalDateTime.of(2026, 1, 5, 9, 0, 1, 250_000_000);
+            cache.put(new MarketTick("005930", new BigDecimal("70000.50"), 1200L, timestamp, "NORMAL"));
+            QuoteSnapshot snapshot = new QuoteSnapshot();
+
+            // When
+            boolean found = cache.readQuote("005930", snapshot);
+
+            // Then
+            assertThat(found).isTrue();
+            assertThat(snapshot.getSymbol()).isEqualTo("005930");
+            assertThat(snapshot.getPrice()).isEqualTo(new BigDecimal("70000.50"));
+            assertThat(snapshot.getVolume()).isEqualTo(1200L);
+            assertThat(snapshot.getTimestamp()).isEqualTo(timestamp);
+            assertThat(snapshot.getVersion()).isEqualTo(1);
+            assertThat(cache.readQuote("NONEXISTENT", snapshot)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should snapshot every quote and skip removed symbols")
+        void shouldSnapshotAllQuotes() {
+            // Given
+            cache.put(createTick("005930", 70000, 1000));
+            cache.put(createTick("000660", 100000, 500));
+            cache.put(createTick("035720", 50000, 2000));
+            cache.remove("000660");
+            QuoteBoard board = new QuoteBoard();
+
+            // When
+            cache.snapshotAll(board);
+
+            // Then
+            assertThat(board.size()).isEqualTo(2);
+            assertThat(board.get(0).getSymbol()).isEqualTo("005930");
+            assertThat(board.get(1).getSymbol()).isEqualTo("035720");
+            assertThat(board.find("000660")).isNull();
+
+            // When - the symbol comes back and the board is reused
+            QuoteSnapshot first = board.get(0);
+            cache.put(createTick("000660", 101000, 600));
+            cache.snapshotAll(board);
+
+            // Then
+            assertThat(board.size()).isEqualTo(3);
+            assertThat(board.get(0)).isSameAs(first);
+            assertThat(board.find("000660").getPrice()).isEqualTo(BigDecimal.valueOf(101000));
+        }
+
+        @Test
+        @DisplayName("Should never expose a half-written quote")
+        void shouldNeverExposeHalfWrittenQuote() throws InterruptedException {
+            // Given - the writer always sets price == volume
+            cache.put(createTick("005930", 1, 1));
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicLong torn = new AtomicLong();
+            AtomicLong reads = new AtomicLong();
+            ExecutorService executor = Executors.newFixedThreadPool(3);
+
+            executor.submit(() -> {
+                for (int i = 2; running.get(); i++) {
+                    cache.put(createTick("005930", i, i));
+                }
+            });
+            for (int r = 0; r < 2; r++) {
+                executor.submit(() -> {
+                    QuoteSnapshot snapshot = new QuoteSnapshot();
+                    while (running.get()) {
+                        cache.readQuote("005930", snapshot);
+                        if (snapshot.getPrice().longValue() != snapshot.getVolume()) {
+                            torn.incrementAndGet();
+                        }
+                        reads.incrementAndGet();
+                    }
+                });
+            }
+
+            // When
+            Thread.sleep(300);
+            running.set(false);
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(reads.get()).isPositive();
+            assertThat(torn.get()).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("Concurrency Tests")
     class ConcurrencyTests {
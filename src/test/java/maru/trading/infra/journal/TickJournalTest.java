@@ -0,0 +1,325 @@
+package maru.trading.infra.journal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import maru.trading.application.orchestration.BarAggregator;
+import maru.trading.application.orchestration.BarCloseBus;
+import maru.trading.application.orchestration.BarClosed;
+import maru.trading.application.ports.repo.BarRepository;
+import maru.trading.domain.market.MarketBar;
+import maru.trading.domain.market.MarketTick;
+import maru.trading.infra.cache.BarCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static maru.trading.TestFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TickJournal Test")
+class TickJournalTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 5);
+
+    @TempDir
+    Path journalDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TickJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        journal = journal(1 << 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Nested
+    @DisplayName("append() / read() Tests")
+    class AppendReadTests {
+
+        @Test
+        @DisplayName("Should read back every field, each symbol in write order")
+        void shouldRoundTripTicks() {
+            // Given
+            journal.append(tick("005930", "72000", 150, DAY.atTime(9, 30, 15), "NORMAL"), 111L);
+            journal.append(tick("000660", "130500.25", 7, DAY.atTime(9, 30, 16), null), 222L);
+            journal.append(tick("005930", "72100", 20, DAY.atTime(9, 30, 16, 500_000_000), "VI"), 333L);
+
+            // When
+            List<MarketTick> ticks = new ArrayList<>();
+            List<Long> receiveNanos = new ArrayList<>();
+            long count = new TickJournalReader(journalDir).read(DAY, DAY, (tick, nanos) -> {
+                ticks.add(tick);
+                receiveNanos.add(nanos);
+            });
+
+            // Then - symbols in different lanes are not interleaved
+            assertThat(count).isEqualTo(3);
+            assertThat(receiveNanos).containsExactlyInAnyOrder(111L, 222L, 333L);
+            List<MarketTick> samsung = ticks.stream().filter(tick -> tick.getSymbol().equals("005930")).toList();
+            List<MarketTick> hynix = ticks.stream().filter(tick -> tick.getSymbol().equals("000660")).toList();
+            assertThat(samsung).hasSize(2);
+            assertThat(samsung.get(0).getPrice()).isEqualTo(new BigDecimal("72000"));
+            assertThat(samsung.get(0).getVolume()).isEqualTo(150);
+            assertThat(samsung.get(0).getTimestamp()).isEqualTo(DAY.atTime(9, 30, 15));
+            assertThat(samsung.get(0).getTradingStatus()).isEqualTo("NORMAL");
+            assertThat(samsung.get(1).getTimestamp()).isEqualTo(DAY.atTime(9, 30, 16, 500_000_000));
+            assertThat(samsung.get(1).getTradingStatus()).isEqualTo("VI");
+            assertThat(hynix).singleElement().satisfies(tick -> {
+                assertThat(tick.getPrice()).isEqualByComparingTo("130500.25");
+                assertThat(tick.getTradingStatus()).isNull();
+            });
+            assertThat(meterRegistry.counter("marketdata.journal.appended").count()).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("Should roll segments when full, each segment readable on its own")
+        void shouldRollSegments() {
+            // Given - header + 10 records per segment
+            journal.close();
+            journal = journal(TickJournalFormat.HEADER_SIZE + 10 * TickJournalFormat.RECORD_SIZE);
+
+            // When
+            for (int i = 0; i < 30; i++) {
+                journal.append(tick(i % 2 == 0 ? "005930" : "000660", String.valueOf(70000 + i), 1,
+                        DAY.atTime(9, 0).plusSeconds(i), "NORMAL"), i);
+            }
+
+            // Then
+            TickJournalReader reader = new TickJournalReader(journalDir);
+            List<Path> segments = reader.segments(DAY);
+            assertThat(segments).hasSizeGreaterThan(3);
+
+            List<MarketTick> lastSegment = new ArrayList<>();
+            reader.readSegment(segments.get(segments.size() - 1), (tick, nanos) -> lastSegment.add(tick));
+            assertThat(lastSegment).isNotEmpty().allSatisfy(tick -> assertThat(tick.getSymbol()).isNotNull());
+
+            assertThat(reader.readTicks("005930", DAY, DAY))
+                    .extracting(tick -> tick.getPrice().longValue())
+                    .hasSize(15).isSorted().startsWith(70000L);
+            assertThat(reader.readTicks("000660", DAY, DAY))
+                    .extracting(tick -> tick.getPrice().longValue())
+                    .hasSize(15).isSorted().startsWith(70001L);
+        }
+
+        @Test
+        @DisplayName("Should keep every symbol in order when appended from several threads")
+        void shouldAppendConcurrently() throws Exception {
+            // Given - one writer thread per symbol, like the tick pipeline shards
+            List<String> symbols = List.of("005930", "000660", "035420", "051910", "006400", "035720");
+            ExecutorService executor = Executors.newFixedThreadPool(symbols.size());
+            CountDownLatch start = new CountDownLatch(1);
+
+            // When
+            List<Future<?>> writers = new ArrayList<>();
+            for (String symbol : symbols) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 500; i++) {
+                        journal.append(tick(symbol, String.valueOf(70000 + i), 1,
+                                DAY.atTime(9, 0).plusSeconds(i), null), i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            // Then
+            TickJournalReader reader = new TickJournalReader(journalDir);
+            assertThat(reader.segments(DAY)).hasSizeLessThanOrEqualTo(4);
+            for (String symbol : symbols) {
+                assertThat(reader.readTicks(symbol, DAY, DAY))
+                        .extracting(tick -> tick.getPrice().longValue())
+                        .hasSize(500).isSorted();
+            }
+            assertThat(meterRegistry.counter("marketdata.journal.appended").count()).isEqualTo(3000.0);
+        }
+
+        @Test
+        @DisplayName("Should keep one directory per exchange date")
+        void shouldSplitByDay() {
+            // Given
+            journal.append(tick("005930", "72000", 1, DAY.atTime(15, 20), null), 0);
+            journal.append(tick("005930", "73000", 1, DAY.plusDays(1).atTime(9, 0), null), 0);
+
+            // When
+            TickJournalReader reader = new TickJournalReader(journalDir);
+
+            // Then
+            assertThat(reader.days()).containsExactly(DAY, DAY.plusDays(1));
+            assertThat(reader.readTicks("005930", DAY.plusDays(1), DAY.plusDays(1)))
+                    .singleElement()
+                    .satisfies(tick -> assertThat(tick.getPrice()).isEqualByComparingTo("73000"));
+        }
+
+        @Test
+        @DisplayName("Should continue in a new segment after a restart")
+        void shouldAppendNewSegmentAfterRestart() {
+            // Given
+            journal.append(tick("005930", "72000", 1, DAY.atTime(9, 0), null), 0);
+            journal.close();
+
+            // When
+            journal = journal(1 << 20);
+            journal.append(tick("005930", "72100", 1, DAY.atTime(9, 1), null), 0);
+
+            // Then
+            TickJournalReader reader = new TickJournalReader(journalDir);
+            assertThat(reader.segments(DAY)).hasSize(2);
+            assertThat(reader.readTicks("005930", DAY, DAY))
+                    .extracting(tick -> tick.getPrice().longValue())
+                    .containsExactly(72000L, 72100L);
+        }
+
+        @Test
+        @DisplayName("Should count ticks that cannot be journaled")
+        void shouldCountFailures() {
+            // When - symbol longer than a dictionary entry
+            journal.append(tick("X".repeat(40), "100", 1, DAY.atTime(9, 0), null), 0);
+
+            // Then
+            assertThat(meterRegistry.counter("marketdata.journal.failed").count()).isEqualTo(1.0);
+            assertThat(new TickJournalReader(journalDir).read(DAY, DAY, (tick, nanos) -> { })).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("TickJournalReplayer Tests")
+    class ReplayerTests {
+
+        private BarAggregator barAggregator;
+        private BarRepository barRepository;
+        private TickJournalReplayer replayer;
+
+        @BeforeEach
+        void setUp() {
+            barAggregator = mock(BarAggregator.class);
+            barRepository = mock(BarRepository.class);
+            replayer = new TickJournalReplayer(journal, barAggregator, barRepository);
+        }
+
+        @Test
+        @DisplayName("Should regenerate bars of any timeframe from ticks")
+        void shouldRegenerateBars() {
+            // Given
+            journal.append(tick("005930", "72000", 10, DAY.atTime(9, 0, 5), null), 0);
+            journal.append(tick("005930", "72500", 5, DAY.atTime(9, 3, 0), null), 0);
+            journal.append(tick("005930", "71900", 7, DAY.atTime(9, 4, 59), null), 0);
+            journal.append(tick("005930", "72200", 3, DAY.atTime(9, 5, 0), null), 0);
+
+            // When
+            Map<String, List<MarketBar>> bars = replayer.regenerateBars(DAY, DAY, "5m");
+
+            // Then
+            assertThat(bars.get("005930")).hasSize(2);
+            MarketBar first = bars.get("005930").get(0);
+            assertThat(first.getBarTimestamp()).isEqualTo(DAY.atTime(9, 0));
+            assertThat(first.getOpen()).isEqualByComparingTo("72000");
+            assertThat(first.getHigh()).isEqualByComparingTo("72500");
+            assertThat(first.getLow()).isEqualByComparingTo("71900");
+            assertThat(first.getClose()).isEqualByComparingTo("71900");
+            assertThat(first.getVolume()).isEqualTo(22);
+            assertThat(first.isClosed()).isTrue();
+            assertThat(bars.get("005930").get(1).getBarTimestamp()).isEqualTo(DAY.atTime(9, 5));
+        }
+
+        @Test
+        @DisplayName("Should replay only ticks after the last stored 1m bar")
+        void shouldRecoverUnsavedBars() {
+            // Given - 09:01 bar already stored for 005930, nothing for 000660
+            MarketBar stored = MarketBar.restore("005930", "1m", DAY.atTime(9, 1), BigDecimal.ONE, BigDecimal.ONE,
+                    BigDecimal.ONE, BigDecimal.ONE, 1L, true);
+            when(barRepository.findRecentClosedBars("005930", "1m", 1)).thenReturn(List.of(stored));
+            when(barRepository.findRecentClosedBars("000660", "1m", 1)).thenReturn(List.of());
+
+            journal.append(tick("005930", "72000", 1, DAY.atTime(9, 0, 10), null), 0);
+            journal.append(tick("005930", "72000", 1, DAY.atTime(9, 1, 59), null), 0);
+            journal.append(tick("000660", "130000", 1, DAY.atTime(9, 1, 30), null), 0);
+            journal.append(tick("005930", "72100", 1, DAY.atTime(9, 2, 0), null), 0);
+
+            // When
+            TickJournalReplayer.RecoveryResult result = replayer.recoverBars(DAY);
+
+            // Then
+            assertThat(result.replayed()).isEqualTo(2);
+            assertThat(result.skipped()).isEqualTo(2);
+            verify(barAggregator, times(2)).recoverTick(any());
+            verify(barAggregator, never()).onTick(any());
+            verify(barRepository, times(1)).findRecentClosedBars("005930", "1m", 1);
+        }
+
+        @Test
+        @DisplayName("Should rebuild, cache and store bars without bar close events")
+        void shouldRecoverWithoutBarCloseEvents() {
+            // Given - a real aggregator with a bar close listener
+            BarCache barCache = createBarCache(new SimpleMeterRegistry());
+            BarCloseBus barCloseBus = new BarCloseBus();
+            List<BarClosed> events = new ArrayList<>();
+            barCloseBus.subscribe(events::add);
+            BarAggregator aggregator = new BarAggregator(barRepository, barCache, null, barCloseBus);
+            aggregator.init();
+            replayer = new TickJournalReplayer(journal, aggregator, barRepository);
+            when(barRepository.findRecentClosedBars("005930", "1m", 1)).thenReturn(List.of());
+
+            journal.append(tick("005930", "72000", 1, DAY.atTime(9, 0, 10), null), 0);
+            journal.append(tick("005930", "72100", 1, DAY.atTime(9, 1, 5), null), 0);
+            journal.append(tick("005930", "72200", 1, DAY.atTime(9, 2, 0), null), 0);
+
+            // When
+            replayer.recoverBars(DAY);
+
+            // Then - 09:00 and 09:01 closed, 09:02 still in progress
+            assertThat(events).isEmpty();
+            verify(barRepository, times(2)).save(any(MarketBar.class));
+            assertThat(barCache.getRecentBars("005930", "1m", 10))
+                    .extracting(MarketBar::getBarTimestamp)
+                    .containsExactly(DAY.atTime(9, 0), DAY.atTime(9, 1));
+
+            // Live ticks after recovery publish again
+            aggregator.onTick(tick("005930", "72300", 1, DAY.atTime(9, 3, 0), null));
+            assertThat(events).singleElement()
+                    .satisfies(event -> assertThat(event.bar().getBarTimestamp()).isEqualTo(DAY.atTime(9, 2)));
+        }
+    }
+
+    private TickJournal journal(int segmentSize) {
+        TickJournal journal = new TickJournal(meterRegistry);
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "journalDir", journalDir.toString());
+        ReflectionTestUtils.setField(journal, "segmentSize", segmentSize);
+        ReflectionTestUtils.setField(journal, "laneCount", 4);
+        journal.init();
+        return journal;
+    }
+
+    private static MarketTick tick(String symbol, String price, long volume, LocalDateTime timestamp, String status) {
+        return new MarketTick(symbol, new BigDecimal(price), volume, timestamp, status);
+    }
+}
@@ -0,0 +1,420 @@
+package maru.trading.infra.persistence.adapter;
+
+import jakarta.persistence.EntityManager;
+import maru.trading.domain.market.MarketBar;
+import maru.trading.infra.config.UlidGenerator;
+import maru.trading.infra.persistence.jpa.entity.BarEntity;
+import maru.trading.infra.persistence.jpa.entity.BarRollupEntity;
+import maru.trading.infra.persistence.jpa.entity.HistoricalBarEntity;
+import maru.trading.infra.persistence.jpa.repository.BarJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.BarRollupJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.HistoricalBarJpaRepository;
+import maru.trading.infra.persistence.rollup.BarRollupService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BarRepositoryAdapter Integration Test
+ *
+ * Tests 1-minute bar persistence with incremental rollup maintenance,
+ * rollup backfill and routing of coarse-timeframe reads to rollups.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("BarRepositoryAdapter Test")
+class BarRepositoryAdapterTest {
+
+    // 2026-01-05 is a Monday
+    private static final LocalDateTime OPEN = LocalDateTime.of(2026, 1, 5, 9, 0);
+    private static final String SYMBOL = "RLP001";
+
+    @Autowired
+    private BarRepositoryAdapter barRepositoryAdapter;
+
+    @Autowired
+    private BarRollupJpaRepository rollupRepository;
+
+    @Autowired
+    private BarJpaRepository barJpaRepository;
+
+    @Autowired
+    private BarRollupService barRollupService;
+
+    @Autowired
+    private HistoricalBarJpaRepository historicalBarRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Nested
+    @DisplayName("save - incremental rollups")
+    class IncrementalRollups {
+
+        @Test
+        @DisplayName("Should merge closed 1m bars into 5m/1h/1d rollups")
+        void save_UpdatesRollups() {
+            saveMinuteBars(7);
+
+            BarRollupEntity first5m = rollupRepository.findBySourceAndSymbolAndTimeframeAndBarTimestamp(
+                    BarRollupEntity.SOURCE_MARKET, SYMBOL, "5m", OPEN).orElseThrow();
+            assertThat(first5m.getBarCount()).isEqualTo(5);
+            assertThat(first5m.getClosed()).isTrue();
+            assertThat(first5m.getOpenPrice()).isEqualByComparingTo("100");
+            assertThat(first5m.getHighPrice()).isEqualByComparingTo("105");
+            assertThat(first5m.getClosePrice()).isEqualByComparingTo("104");
+            assertThat(first5m.getVolume()).isEqualTo(50);
+
+            BarRollupEntity hour = rollupRepository.findBySourceAndSymbolAndTimeframeAndBarTimestamp(
+                    BarRollupEntity.SOURCE_MARKET, SYMBOL, "1h", OPEN).orElseThrow();
+            assertThat(hour.getBarCount()).isEqualTo(7);
+            assertThat(hour.getClosed()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should leave rollups unchanged when the same bars are saved again")
+        void save_Idempotent() {
+            saveMinuteBars(3);
+            saveMinuteBars(3);
+            barRepositoryAdapter.saveAll(List.of(MarketBar.restore(SYMBOL, "1m", OPEN.plusMinutes(1),
+                    BigDecimal.valueOf(101), BigDecimal.valueOf(102), BigDecimal.valueOf(101),
+                    BigDecimal.valueOf(101), 10L, true)));
+
+            BarRollupEntity first5m = rollupRepository.findBySourceAndSymbolAndTimeframeAndBarTimestamp(
+                    BarRollupEntity.SOURCE_MARKET, SYMBOL, "5m", OPEN).orElseThrow();
+            assertThat(first5m.getBarCount()).isEqualTo(3);
+            assertThat(first5m.getVolume()).isEqualTo(30);
+            assertThat(first5m.getLastBarTimestamp()).isEqualTo(OPEN.plusMinutes(2));
+            assertThat(barRepositoryAdapter.findBarsInRange(SYMBOL, "1m", OPEN, OPEN.plusMinutes(5))).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("Should close 1h and 1d rollups on the last minute of the regular session")
+        void save_ClosesRollupsAtSessionClose() {
+            LocalDateTime close = OPEN.withHour(15).withMinute(30);
+            BigDecimal price = BigDecimal.valueOf(100);
+            barRepositoryAdapter.save(MarketBar.restore(SYMBOL, "1m", close.minusMinutes(1),
+                    price, price, price, price, 10L, true));
+            barRepositoryAdapter.save(MarketBar.restore(SYMBOL, "1m", close,
+                    price, price, price, price, 10L, true));
+
+            assertThat(rollupRepository.findBySourceAndSymbolAndTimeframeAndBarTimestamp(
+                    BarRollupEntity.SOURCE_MARKET, SYMBOL, "1h", OPEN.withHour(15)).orElseThrow().getClosed()).isTrue();
+            assertThat(rollupRepository.findBySourceAndSymbolAndTimeframeAndBarTimestamp(
+                    BarRollupEntity.SOURCE_MARKET, SYMBOL, "1d", OPEN.toLocalDate().atStartOfDay())
+                    .orElseThrow().getClosed()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should close an open rollup when a bar of a later bucket arrives")
+        void save_ClosesEarlierBucket() {
+            saveMinuteBars(3);
+            BigDecimal price = BigDecimal.valueOf(100);
+            barRepositoryAdapter.save(MarketBar.restore(SYMBOL, "1m", OPEN.plusMinutes(65),
+                    price, price, price, price, 10L, true));
+
+            assertThat(rollupRepository.findBySourceAndSymbolAndTimeframeAndBarTimestamp(
+                    BarRollupEntity.SOURCE_MARKET, SYMBOL, "1h", OPEN).orElseThrow().getClosed()).isTrue();
+            assertThat(rollupRepository.findBySourceAndSymbolAndTimeframeAndBarTimestamp(
+                    BarRollupEntity.SOURCE_MARKET, SYMBOL, "1h", OPEN.plusHours(1)).orElseThrow().getClosed()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should fall back to market_bars when rollups start after the first 1m bar")
+        void findBars_FallBackWhenRollupsDoNotCoverStart() {
+            // Given - 1m bars from before rollups existed, then live bars with rollups
+            for (int i = 0; i < 10; i++) {
+                saveRawBar("1m", OPEN.plusMinutes(i), 10L);
+            }
+            for (int i = 10; i < 20; i++) {
+                BigDecimal price = BigDecimal.valueOf(100 + i);
+                barRepositoryAdapter.save(MarketBar.restore(SYMBOL, "1m", OPEN.plusMinutes(i),
+                        price, price, price, price, 10L, true));
+            }
+            // Stored 5m bars of the whole period
+            for (int i = 0; i < 4; i++) {
+                saveRawBar("5m", OPEN.plusMinutes(i * 5L), 50L);
+            }
+
+            // When
+            List<MarketBar> range = barRepositoryAdapter.findBarsInRange(SYMBOL, "5m", OPEN, OPEN.plusMinutes(30));
+            List<MarketBar> recent = barRepositoryAdapter.findRecentClosedBars(SYMBOL, "5m", 10);
+
+            // Then
+            assertThat(range).extracting(MarketBar::getBarTimestamp)
+                    .containsExactly(OPEN, OPEN.plusMinutes(5), OPEN.plusMinutes(10), OPEN.plusMinutes(15));
+            assertThat(recent).hasSize(4);
+        }
+
+        @Test
+        @DisplayName("Should read rollups when the query starts inside an earlier bucket")
+        void findBarsInRange_UnalignedStart() {
+            saveMinuteBars(12);
+
+            List<MarketBar> bars = barRepositoryAdapter.findBarsInRange(SYMBOL, "5m", OPEN.plusMinutes(2), OPEN.plusHours(1));
+
+            assertThat(bars).extracting(MarketBar::getBarTimestamp).containsExactly(OPEN.plusMinutes(5));
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        @DisplayName("Should read timeframes the aggregator stores from market_bars, not rollups")
+        void findBars_StoredTimeframeFromMarketBars() {
+            saveMinuteBars(12);
+            saveRawBar("5m", OPEN, 999L);
+            Set<String> stored = (Set<String>) ReflectionTestUtils.getField(barRepositoryAdapter, "storedTimeframes");
+            ReflectionTestUtils.setField(barRepositoryAdapter, "storedTimeframes", Set.of("1m", "5m"));
+            try {
+                assertThat(barRepositoryAdapter.findBarsInRange(SYMBOL, "5m", OPEN, OPEN.plusHours(1)))
+                        .singleElement()
+                        .satisfies(bar -> assertThat(bar.getVolume()).isEqualTo(999L));
+                assertThat(barRepositoryAdapter.findRecentClosedBars(SYMBOL, "5m", 5))
+                        .singleElement()
+                        .satisfies(bar -> assertThat(bar.getVolume()).isEqualTo(999L));
+            } finally {
+                ReflectionTestUtils.setField(barRepositoryAdapter, "storedTimeframes", stored);
+            }
+        }
+
+        @Test
+        @DisplayName("Should answer 15m range from 5m rollups")
+        void findBarsInRange_RoutedToRollups() {
+            saveMinuteBars(30);
+
+            List<MarketBar> bars = barRepositoryAdapter.findBarsInRange(SYMBOL, "15m", OPEN, OPEN.plusHours(1));
+
+            assertThat(bars).extracting(MarketBar::getBarTimestamp)
+                    .containsExactly(OPEN, OPEN.plusMinutes(15));
+            assertThat(bars.get(0).getTimeframe()).isEqualTo("15m");
+            assertThat(bars.get(0).getVolume()).isEqualTo(150);
+            assertThat(bars.get(1).getClose()).isEqualByComparingTo("129");
+        }
+
+        @Test
+        @DisplayName("Should answer recent 5m bars from rollups, oldest first")
+        void findRecentClosedBars_RoutedToRollups() {
+            saveMinuteBars(12);
+
+            List<MarketBar> bars = barRepositoryAdapter.findRecentClosedBars(SYMBOL, "5m", 5);
+
+            assertThat(bars).extracting(MarketBar::getBarTimestamp)
+                    .containsExactly(OPEN, OPEN.plusMinutes(5));
+        }
+
+        @Test
+        @DisplayName("Should keep reading 1m bars from market_bars")
+        void findBarsInRange_OneMinuteUnchanged() {
+            saveMinuteBars(3);
+
+            assertThat(barRepositoryAdapter.findBarsInRange(SYMBOL, "1m", OPEN, OPEN.plusMinutes(2))).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("saveAll should write bars in one batch and update rollups")
+        void saveAll_WritesBatch() {
+            saveMinuteBars(2);
+            BigDecimal price = BigDecimal.valueOf(150);
+
+            barRepositoryAdapter.saveAll(List.of(
+                    MarketBar.restore(SYMBOL, "1m", OPEN.plusMinutes(2), price, price, price, price, 20L, true),
+                    MarketBar.restore(SYMBOL, "1m", OPEN.plusMinutes(3), price, price, price, price, 20L, true)));
+
+            assertThat(barRepositoryAdapter.findBarsInRange(SYMBOL, "1m", OPEN, OPEN.plusMinutes(3))).hasSize(4);
+            assertThat(rollupRepository.findBySourceAndSymbolAndTimeframeAndBarTimestamp(
+                    BarRollupEntity.SOURCE_MARKET, SYMBOL, "5m", OPEN).orElseThrow().getBarCount()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("saveAll should overwrite an existing bar")
+        void saveAll_OverwritesExisting() {
+            saveMinuteBars(1);
+            entityManager.flush();
+            BigDecimal price = BigDecimal.valueOf(150);
+
+            barRepositoryAdapter.saveAll(List.of(
+                    MarketBar.restore(SYMBOL, "1m", OPEN, price, price, price, price, 20L, true)));
+            entityManager.clear();
+
+            List<MarketBar> bars = barRepositoryAdapter.findBarsInRange(SYMBOL, "1m", OPEN, OPEN);
+            assertThat(bars).hasSize(1);
+            assertThat(bars.get(0).getClose()).isEqualByComparingTo("150");
+            assertThat(bars.get(0).getVolume()).isEqualTo(20L);
+        }
+    }
+
+    @Nested
+    @DisplayName("backfill")
+    class Backfill {
+
+        @Test
+        @DisplayName("Should build historical rollups and serve routed backtest queries")
+        void backfill_HistoricalRollups() {
+            for (int i = 0; i < 10; i++) {
+                BigDecimal price = BigDecimal.valueOf(200 + i);
+                historicalBarRepository.save(HistoricalBarEntity.builder()
+                        .barId(UlidGenerator.generate())
+                        .symbol(SYMBOL)
+                        .timeframe("1m")
+                        .barTimestamp(OPEN.plusMinutes(i))
+                        .openPrice(price)
+                        .highPrice(price)
+                        .lowPrice(price)
+                        .closePrice(price)
+                        .volume(1L)
+                        .build());
+            }
+
+            int rows = barRollupService.backfill(BarRollupEntity.SOURCE_HISTORICAL, SYMBOL,
+                    OPEN.toLocalDate(), OPEN.toLocalDate());
+            List<HistoricalBarEntity> daily = historicalBarRepository.findBarsRouted(
+                    List.of(SYMBOL), "1d", OPEN.toLocalDate().atStartOfDay(), OPEN.plusHours(12));
+            List<HistoricalBarEntity> halfHour = historicalBarRepository.findBarsRouted(
+                    List.of(SYMBOL), "30m", OPEN.toLocalDate().atStartOfDay(), OPEN.plusHours(12));
+
+            assertThat(rows).isEqualTo(4); // 2 x 5m, 1 x 1h, 1 x 1d
+            assertThat(daily).hasSize(1);
+            assertThat(daily.get(0).getOpenPrice()).isEqualByComparingTo("200");
+            assertThat(daily.get(0).getClosePrice()).isEqualByComparingTo("209");
+            assertThat(daily.get(0).getVolume()).isEqualTo(10L);
+            assertThat(halfHour).hasSize(1);
+            assertThat(halfHour.get(0).getTimeframe()).isEqualTo("30m");
+        }
+
+        @Test
+        @DisplayName("Should read historical_bars when rollups cover only part of the range")
+        void findBarsRouted_PartialRollups() {
+            LocalDate day1 = OPEN.toLocalDate();
+            LocalDate day2 = day1.plusDays(1);
+            for (LocalDate day : List.of(day1, day2)) {
+                saveHistoricalBar("1m", day.atTime(9, 0));
+                saveHistoricalBar("1d", day.atStartOfDay());
+            }
+            // Only the second day was backfilled
+            barRollupService.backfill(BarRollupEntity.SOURCE_HISTORICAL, SYMBOL, day2, day2);
+
+            List<HistoricalBarEntity> daily = historicalBarRepository.findBarsRouted(
+                    List.of(SYMBOL), "1d", day1.atStartOfDay(), day2.atTime(23, 59));
+
+            assertThat(daily).extracting(HistoricalBarEntity::getBarTimestamp)
+                    .containsExactly(day1.atStartOfDay(), day2.atStartOfDay());
+        }
+
+        @Test
+        @DisplayName("Should replace rollups of the range when run again")
+        void backfill_Idempotent() {
+            saveMinuteBars(5);
+            LocalDate day = OPEN.toLocalDate();
+
+            barRollupService.backfill(BarRollupEntity.SOURCE_MARKET, SYMBOL, day, day);
+            barRollupService.backfill(BarRollupEntity.SOURCE_MARKET, SYMBOL, day, day);
+
+            assertThat(rollupRepository.findClosedInRange(BarRollupEntity.SOURCE_MARKET, SYMBOL, "5m",
+                    day.atStartOfDay(), day.plusDays(1).atStartOfDay())).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("findRecentClosedBars - batched")
+    class BatchedRecentBars {
+
+        @Test
+        @DisplayName("Should load the last N closed 1m bars of several symbols in one query, oldest first")
+        void findRecentClosedBars_Batched() {
+            saveMinuteBars(7);
+            BigDecimal price = BigDecimal.valueOf(200);
+            barRepositoryAdapter.saveAll(List.of(
+                    MarketBar.restore("RLP002", "1m", OPEN, price, price, price, price, 10L, true),
+                    MarketBar.restore("RLP002", "1m", OPEN.plusMinutes(1), price, price, price, price, 10L, false)));
+
+            Map<String, List<MarketBar>> bars = barRepositoryAdapter.findRecentClosedBarsBySymbol(
+                    List.of(SYMBOL, "RLP002", "RLP404"), "1m", 3);
+
+            assertThat(bars).containsOnlyKeys(SYMBOL, "RLP002");
+            assertThat(bars.get(SYMBOL)).extracting(MarketBar::getBarTimestamp)
+                    .containsExactly(OPEN.plusMinutes(4), OPEN.plusMinutes(5), OPEN.plusMinutes(6));
+            assertThat(bars.get("RLP002")).singleElement()
+                    .satisfies(bar -> assertThat(bar.getClose()).isEqualByComparingTo("200"));
+        }
+
+        @Test
+        @DisplayName("Should answer coarse timeframes from rollups")
+        void findRecentClosedBars_BatchedRollups() {
+            saveMinuteBars(12);
+
+            Map<String, List<MarketBar>> bars = barRepositoryAdapter.findRecentClosedBarsBySymbol(List.of(SYMBOL), "5m", 5);
+
+            assertThat(bars.get(SYMBOL)).extracting(MarketBar::getBarTimestamp)
+                    .containsExactly(OPEN, OPEN.plusMinutes(5));
+        }
+    }
+
+    @Test
+    @DisplayName("routeTimeframe picks the coarsest rollup dividing the timeframe")
+    void routeTimeframe() {
+        assertThat(BarRollupService.routeTimeframe("15m")).isEqualTo("5m");
+        assertThat(BarRollupService.routeTimeframe("60m")).isEqualTo("1h");
+        assertThat(BarRollupService.routeTimeframe("1d")).isEqualTo("1d");
+        assertThat(BarRollupService.routeTimeframe("3m")).isNull();
+        assertThat(BarRollupService.routeTimeframe("1m")).isNull();
+    }
+
+    /**
+     * Save a closed bar straight to market_bars, without rollups.
+     */
+    private void saveRawBar(String timeframe, LocalDateTime timestamp, long volume) {
+        BigDecimal price = BigDecimal.valueOf(100);
+        barJpaRepository.save(BarEntity.builder()
+                .barId(UlidGenerator.generate())
+                .symbol(SYMBOL)
+                .timeframe(timeframe)
+                .openPrice(price)
+                .highPrice(price)
+                .lowPrice(price)
+                .closePrice(price)
+                .volume(volume)
+                .barTimestamp(timestamp)
+                .closed(true)
+                .build());
+    }
+
+    private void saveHistoricalBar(String timeframe, LocalDateTime timestamp) {
+        BigDecimal price = BigDecimal.valueOf(300);
+        historicalBarRepository.save(HistoricalBarEntity.builder()
+                .barId(UlidGenerator.generate())
+                .symbol(SYMBOL)
+                .timeframe(timeframe)
+                .barTimestamp(timestamp)
+                .openPrice(price)
+                .highPrice(price)
+                .lowPrice(price)
+                .closePrice(price)
+                .volume(1L)
+                .build());
+    }
+
+    /**
+     * Save closed 1m bars from 09:00: price 100 + i, high = price + 1, volume 10.
+     */
+    private void saveMinuteBars(int count) {
+        for (int i = 0; i < count; i++) {
+            BigDecimal price = BigDecimal.valueOf(100 + i);
+            barRepositoryAdapter.save(MarketBar.restore(SYMBOL, "1m", OPEN.plusMinutes(i),
+                    price, price.add(BigDecimal.ONE), price, price, 10L, true));
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package maru.trading.performance;
+
+import maru.trading.TestFixtures;
+import maru.trading.application.orchestration.BarAggregator;
+import maru.trading.application.orchestration.BarCloseBus;
+import maru.trading.application.orchestration.TradingWorkflow;
+import maru.trading.application.ports.broker.BrokerClient;
+import maru.trading.application.replay.HotPathReplayer;
+import maru.trading.application.replay.ReplayOptions;
+import maru.trading.application.replay.ReplayReport;
+import maru.trading.application.replay.StubBrokerClient;
+import maru.trading.application.replay.SyntheticTickStream;
+import maru.trading.application.scheduler.StrategyBarCloseDispatcher;
+import maru.trading.domain.market.MarketBar;
+import maru.trading.application.usecase.strategy.StrategyExecutionPlanner;
+import maru.trading.broker.kis.marketdata.MarketDataCollector;
+import maru.trading.domain.risk.RiskRule;
+import maru.trading.domain.risk.RiskRuleScope;
+import maru.trading.domain.shared.Environment;
+import maru.trading.infra.cache.BarCache;
+import maru.trading.infra.config.UlidGenerator;
+import maru.trading.infra.persistence.jpa.entity.RiskRuleEntity;
+import maru.trading.infra.persistence.jpa.entity.StrategyEntity;
+import maru.trading.infra.persistence.jpa.entity.StrategySymbolEntity;
+import maru.trading.infra.persistence.jpa.entity.StrategyVersionEntity;
+import maru.trading.infra.persistence.jpa.repository.OrderJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.RiskRuleJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.RiskStateJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.SignalJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.StrategyJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.StrategySymbolJpaRepository;
+import maru.trading.infra.persistence.jpa.repository.StrategyVersionJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Hot path replay regression test.
+ *
+ * Replays a generated market-open burst through the live pipeline
+ * (MarketDataCollector → BarAggregator → BarCloseBus →
+ * StrategyBarCloseDispatcher → TradingWorkflow) against a stub broker and
+ * checks that every stage ran and that throughput stays above the floor.
+ * The report (stage percentiles, GC pauses) is logged for comparison
+ * between runs.
+ *
+ * Strategies are compiled into the execution plan inside the test
+ * transaction. Strategies run on the scheduler's evaluation pool as in
+ * production, so bars go through the async writer, the risk rule they read
+ * is committed up front, and the signals and orders they write are removed
+ * afterwards.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "trading.scheduler.strategy.trigger=BAR_CLOSE",
+        "trading.bars.writer.enabled=true"
+})
+@Transactional
+@DisplayName("Hot Path Replay Regression Test")
+class HotPathReplayRegressionTest {
+
+    // End-to-end floor (strategy evaluations included) for a loaded single-core CI machine
+    private static final double MIN_TICKS_PER_SECOND = 500;
+
+    private static final List<String> SYMBOLS = List.of("RPL001", "RPL002", "RPL003");
+    private static final String ACCOUNT_ID = "ACC_REPLAY_001";
+
+    @Autowired
+    private MarketDataCollector marketDataCollector;
+
+    @Autowired
+    private BarAggregator barAggregator;
+
+    @Autowired
+    private BarCloseBus barCloseBus;
+
+    @Autowired
+    private BarCache barCache;
+
+    @Autowired
+    private StrategyBarCloseDispatcher dispatcher;
+
+    @Autowired
+    private StrategyExecutionPlanner executionPlanner;
+
+    @Autowired
+    private TradingWorkflow tradingWorkflow;
+
+    @Autowired
+    private StrategyJpaRepository strategyRepository;
+
+    @Autowired
+    private StrategyVersionJpaRepository strategyVersionRepository;
+
+    @Autowired
+    private StrategySymbolJpaRepository strategySymbolRepository;
+
+    @Autowired
+    private RiskRuleJpaRepository riskRuleRepository;
+
+    @Autowired
+    private RiskStateJpaRepository riskStateRepository;
+
+    @Autowired
+    private SignalJpaRepository signalRepository;
+
+    @Autowired
+    private OrderJpaRepository orderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private BrokerClient brokerClient;
+
+    private final StubBrokerClient stubBroker = new StubBrokerClient();
+
+    private String strategyId;
+    private String riskRuleId;
+
+    @BeforeEach
+    void setUp() {
+        given(brokerClient.placeOrder(any()))
+                .willAnswer(invocation -> stubBroker.placeOrder(invocation.getArgument(0)));
+
+        RiskRule relaxedRule = TestFixtures.createRelaxedRiskRule(UlidGenerator.generate());
+        riskRuleId = relaxedRule.getRiskRuleId();
+        committed().executeWithoutResult(status -> riskRuleRepository.save(RiskRuleEntity.builder()
+                .riskRuleId(relaxedRule.getRiskRuleId())
+                .scope(RiskRuleScope.GLOBAL)
+                .dailyLossLimit(relaxedRule.getDailyLossLimit())
+                .maxOpenOrders(relaxedRule.getMaxOpenOrders())
+                .maxOrdersPerMinute(relaxedRule.getMaxOrdersPerMinute())
+                .maxPositionValuePerSymbol(relaxedRule.getMaxPositionValuePerSymbol())
+                .consecutiveOrderFailuresLimit(relaxedRule.getConsecutiveOrderFailuresLimit())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build()));
+
+        strategyId = "STRATEGY_REPLAY_MA";
+        StrategyVersionEntity version = StrategyVersionEntity.builder()
+                .strategyVersionId(UlidGenerator.generate())
+                .strategyId(strategyId)
+                .versionNo(1)
+                .paramsJson("{\"shortPeriod\":5,\"longPeriod\":20,\"ttlSeconds\":300}")
+                .createdAt(LocalDateTime.now())
+                .build();
+        strategyVersionRepository.save(version);
+        strategyRepository.save(StrategyEntity.builder()
+                .strategyId(strategyId)
+                .name("Replay MA Crossover")
+                .description("Hot path replay regression")
+                .status("ACTIVE")
+                .mode(Environment.PAPER)
+                .activeVersionId(version.getStrategyVersionId())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        for (String symbol : SYMBOLS) {
+            strategySymbolRepository.save(StrategySymbolEntity.builder()
+                    .strategySymbolId(UlidGenerator.generate())
+                    .strategyId(strategyId)
+                    .symbol(symbol)
+                    .accountId(ACCOUNT_ID)
+                    .isActive(true)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        executionPlanner.invalidate("replay fixtures");
+        executionPlanner.current();
+
+        // History from the previous session, as the startup warm-up would have loaded it
+        for (String symbol : SYMBOLS) {
+            barCache.clear(symbol, "1m");
+            barCache.preload(symbol, "1m", history(symbol, LocalDateTime.of(2026, 1, 2, 15, 0), 30));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        committed().executeWithoutResult(status -> {
+            orderRepository.deleteAll();
+            signalRepository.deleteAll();
+            riskStateRepository.deleteAll();
+            riskRuleRepository.deleteById(riskRuleId);
+        });
+        executionPlanner.invalidate("replay fixtures removed");
+    }
+
+    @Test
+    @DisplayName("Market-open burst should flow through every stage above the throughput floor")
+    void replayMarketOpenBurst() {
+        // Given - 30 minutes, 3 symbols, 10x burst over the first minute
+        SyntheticTickStream stream = SyntheticTickStream.builder()
+                .symbols(SYMBOLS)
+                .start(LocalDateTime.of(2026, 1, 5, 9, 0))
+                .durationSeconds(30 * 60)
+                .baseRate(5)
+                .burstMultiplier(10)
+                .burstSeconds(60)
+                .seed(7L)
+                .build();
+
+        long skippedBefore = dispatcher.getStatus().skipped();
+
+        // When
+        ReplayReport report = new HotPathReplayer(marketDataCollector, barAggregator, barCloseBus, dispatcher,
+                tradingWorkflow).run(stream, ReplayOptions.builder().build());
+
+        // Then - 30 bars per symbol, the last ones closed at the end of the stream
+        assertThat(report.getTicks()).isEqualTo(stream.size());
+        assertThat(report.getBarsClosed()).isEqualTo(30L * SYMBOLS.size());
+        // A bar close finding its strategy×symbol still evaluating the previous one is skipped
+        assertThat(report.getEvaluations() + dispatcher.getStatus().skipped() - skippedBefore)
+                .isEqualTo(report.getBarsClosed());
+        assertThat(report.getEvaluations()).isPositive();
+        assertThat(report.getStages().get("collect").getCount()).isEqualTo(stream.size());
+        assertThat(report.getStages().get("strategy").getCount()).isEqualTo(report.getEvaluations());
+        assertThat(report.getOrders()).isPositive().isEqualTo(stubBroker.getOrdersPlaced());
+        assertThat(report.getThroughput()).isGreaterThan(MIN_TICKS_PER_SECOND);
+    }
+
+    private static List<MarketBar> history(String symbol, LocalDateTime start, int count) {
+        List<MarketBar> bars = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BigDecimal price = BigDecimal.valueOf(70000 + (i % 5 - 2) * 100);
+            bars.add(MarketBar.restore(symbol, "1m", start.plusMinutes(i),
+                    price, price.add(BigDecimal.valueOf(100)), price.subtract(BigDecimal.valueOf(100)), price,
+                    1000L, true));
+        }
+        return bars;
+    }
+
+    /**
+     * Transaction independent of the test's, for rows the evaluation pool reads or writes.
+     */
+    private TransactionTemplate committed() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
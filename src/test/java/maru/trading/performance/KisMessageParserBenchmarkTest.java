@@ -0,0 +1,83 @@
+package maru.trading.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import maru.trading.TestFixtures;
+import maru.trading.broker.kis.ws.KisWebSocketMessageParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KIS real-time frame parser throughput.
+ *
+ * Target: at least 100,000 H0STCNT0 frames per second on one thread,
+ * measured after a warm-up so the JIT has compiled the parse loop.
+ * Frames carry 1-3 records, like a busy trading session.
+ *
+ * Time is the benchmark thread's CPU time (best of several rounds), so
+ * other test contexts sharing the CPU do not skew the result.
+ */
+@DisplayName("KIS Message Parser Benchmark")
+class KisMessageParserBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(KisMessageParserBenchmarkTest.class);
+
+    private static final int TARGET_FRAMES_PER_SECOND = 100_000;
+    private static final int WARMUP_FRAMES = 200_000;
+    private static final int ROUNDS = 5;
+    private static final int FRAMES_PER_ROUND = 100_000;
+
+    @Test
+    @DisplayName("Should parse at least 100k frames per second")
+    void parseFrame_Throughput() {
+        // Given
+        KisWebSocketMessageParser parser = new KisWebSocketMessageParser(new ObjectMapper(), Clock.systemDefaultZone());
+        String[] frames = new String[256];
+        for (int i = 0; i < frames.length; i++) {
+            String symbol = String.format("%06d", 5930 + i % 64);
+            String time = String.format("09%02d%02d", i % 60, (i * 7) % 60);
+            String[] records = new String[1 + i % 3];
+            for (int r = 0; r < records.length; r++) {
+                records[r] = TestFixtures.kisTickRecord(symbol, time, 70000 + i + r, '2', 10 + r);
+            }
+            frames[i] = TestFixtures.kisTickFrame(records);
+        }
+        long[] checksum = new long[1];
+        KisWebSocketMessageParser.TickSink sink =
+                (symbol, price, volume, date, secondOfDay, status) -> checksum[0] += price + volume;
+
+        // Warm-up
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            parser.parseFrame(frames[i & 255], sink);
+        }
+
+        // When
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        boolean cpuTime = threads.isCurrentThreadCpuTimeSupported();
+        long ticks = 0;
+        long bestNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = cpuTime ? threads.getCurrentThreadCpuTime() : System.nanoTime();
+            for (int i = 0; i < FRAMES_PER_ROUND; i++) {
+                ticks += parser.parseFrame(frames[i & 255], sink);
+            }
+            long elapsed = (cpuTime ? threads.getCurrentThreadCpuTime() : System.nanoTime()) - start;
+            bestNanos = Math.min(bestNanos, Math.max(elapsed, 1));
+        }
+
+        // Then
+        double framesPerSecond = FRAMES_PER_ROUND * 1_000_000_000.0 / bestNanos;
+        log.info("KIS parser: {} frames/s, {} ns/frame (cpuTime={})",
+                String.format("%.0f", framesPerSecond), bestNanos / FRAMES_PER_ROUND, cpuTime);
+        assertThat(ticks).isGreaterThan((long) ROUNDS * FRAMES_PER_ROUND);
+        assertThat(checksum[0]).isPositive();
+        assertThat(framesPerSecond).isGreaterThanOrEqualTo(TARGET_FRAMES_PER_SECOND);
+    }
+}